@@ -27,9 +27,11 @@ import com.micatechnologies.minecraft.launcher.config.GameModeManager;
 import com.micatechnologies.minecraft.launcher.consts.LauncherConstants;
 import com.micatechnologies.minecraft.launcher.consts.LocalPathConstants;
 import com.micatechnologies.minecraft.launcher.files.LocalPathManager;
+import com.micatechnologies.minecraft.launcher.game.modpack.GameJfrTelemetry;
 import com.micatechnologies.minecraft.launcher.game.modpack.GameModPack;
 import com.micatechnologies.minecraft.launcher.game.modpack.GameModPackManager;
 import com.micatechnologies.minecraft.launcher.game.modpack.GameModPackProgressProvider;
+import com.micatechnologies.minecraft.launcher.game.modpack.GcTelemetry;
 import com.micatechnologies.minecraft.launcher.files.Logger;
 import com.micatechnologies.minecraft.launcher.gui.GUIUtilities;
 import com.micatechnologies.minecraft.launcher.gui.MCLauncherGameConsoleGui;
@@ -338,7 +340,10 @@ public class LauncherCore
      * Per-launch cancellation token. Holds a reference to the worker thread that's
      * running {@link #play(GameModPack, Runnable)} so {@link #cancel()} can interrupt
      * blocking downloads + flips a flag that {@code play()} checks at its exit points
-     * to short-circuit the rest of the launch pipeline.
+     * to short-circuit the rest of the launch pipeline. Also owns the launch's
+     * {@link TaskScope}: every pre-launch branch, download and scan the launch forks
+     * lands in that scope's subtree, so cancelling the launch cancels exactly its own
+     * background work and nothing else the launcher has in flight.
      *
      * @since 3.4
      */
@@ -352,6 +357,12 @@ public class LauncherCore
          */
         private final Thread thread;
 
+        /**
+         * The scope opened around this launch on the worker thread; cancelled by
+         * {@link #cancel()} and closed when {@code play()} exits.
+         */
+        private final TaskScope scope;
+
         /**
          * Cancellation flag for this launch. Flipped to {@code true} (once) by {@link #cancel()};
          * polled by the {@code play()} pipeline at its checkpoints to abort early.
@@ -363,14 +374,17 @@ public class LauncherCore
          *
          * @param thread the thread executing the launch pipeline, captured so {@link #cancel()}
          *               can interrupt it
+         * @param scope  the task scope opened for this launch
          */
-        private LaunchSession( Thread thread )
+        private LaunchSession( Thread thread, TaskScope scope )
         {
             this.thread = thread;
+            this.scope = scope;
         }
 
         /**
-         * Marks this launch as cancelled and interrupts the worker thread. Interrupt
+         * Marks this launch as cancelled, cancels its task scope (interrupting every
+         * branch and download it forked) and interrupts the worker thread. Interrupt
          * is best-effort — some HTTP reads / native calls won't respond to it, but the
          * flag is enough for the play() pipeline to abort at its next checkpoint
          * regardless of whether the in-flight blocking call broke. Idempotent: a
@@ -378,8 +392,11 @@ public class LauncherCore
          */
         public void cancel()
         {
-            if ( cancelled.compareAndSet( false, true ) && thread != null ) {
-                thread.interrupt();
+            if ( cancelled.compareAndSet( false, true ) ) {
+                scope.cancel();
+                if ( thread != null ) {
+                    thread.interrupt();
+                }
             }
         }
 
@@ -605,6 +622,11 @@ public class LauncherCore
      * @since 2.0
      */
     public static void play( GameModPack gameModPack, Runnable after ) {
+        // A background warm-up may be preparing this (or another) pack. Stop it and
+        // wait for it to unwind before this launch installs its own verify mode and
+        // touches the pack folders; whatever it already verified stays verified.
+        com.micatechnologies.minecraft.launcher.game.modpack.PrelaunchWarmup.yieldToUserWork();
+
         // Cold-start deferred the auth refresh; if the user clicked Play before
         // it landed, await it here. We're on a background thread (callers spawn
         // play() off the FX thread via SystemUtilities.spawnNewTask) so the
@@ -639,10 +661,12 @@ public class LauncherCore
         }
 
         // Register this launch as the cancellable one. Captures the calling thread so
-        // cancel() can interrupt blocking downloads. The session is cleared in the
-        // finally below — even if play() throws, currentLaunch never leaks past the
-        // pipeline boundary.
-        final LaunchSession session = new LaunchSession( Thread.currentThread() );
+        // cancel() can interrupt blocking downloads, and opens the launch's task scope
+        // so everything the pipeline forks is cancelled with it. The session is cleared
+        // and the scope closed in the finally below — even if play() throws,
+        // currentLaunch never leaks past the pipeline boundary.
+        final TaskScope launchScope = TaskScope.open( "launch " + gameModPack.getPackName() );
+        final LaunchSession session = new LaunchSession( Thread.currentThread(), launchScope );
         currentLaunch = session;
         try {
         if ( gameModPack.getPackMinRAMGB() <= ConfigManager.getMaxRamInGb() ) {
@@ -847,6 +871,8 @@ public class LauncherCore
                     // in-game-console path clears currentLaunch (it hands the process off to
                     // the console and returns, but the game is still up).
                     trackGameProcess( gameProcess );
+                    // Opt-in live JFR telemetry; null when off. Stops itself when the game exits.
+                    GameJfrTelemetry telemetry = GameJfrTelemetry.attach( gameModPack, gameProcess );
                     // RGB: now that the JVM is spawned and we know which pack is
                     // running, swap the keyboard to the in-game effect (pack-color
                     // gradient + Minecraft-key highlights). Safe to call
@@ -867,6 +893,9 @@ public class LauncherCore
                         try {
                             MCLauncherGameConsoleGui consoleGui = MCLauncherGuiController.goToGameConsoleGui();
                             if ( consoleGui != null ) {
+                                if ( telemetry != null ) {
+                                    consoleGui.attachTelemetry( telemetry );
+                                }
                                 consoleGui.attachToProcess( gameProcess, gameModPack.getPackName(),
                                                              exitCode -> {
                                     // Record session duration
@@ -994,7 +1023,9 @@ public class LauncherCore
             // a later spawnNewTask() would cause that next task to misbehave (e.g. throw
             // InterruptedException out of an innocuous sleep call). currentLaunch is
             // cleared too so the progress GUI's Cancel button no-ops once the launch
-            // exits, no matter how it exited.
+            // exits, no matter how it exited. Closing the scope cancels any branch
+            // still running and unbinds it from this thread.
+            launchScope.close();
             Thread.interrupted();
             currentLaunch = null;
         }
@@ -1079,6 +1110,9 @@ public class LauncherCore
 
                     Process proc = finalGameModPack.getLastLaunchedProcess();
                     if ( proc != null ) {
+                        // Live JFR telemetry, when enabled, reports lag alerts on the
+                        // operator's terminal; it stops itself when the server exits.
+                        GameJfrTelemetry.attach( finalGameModPack, proc );
                         try {
                             // No userspace stream draining needed here — GameModPackLauncher
                             // picks ChildIoMode.INHERIT in server mode, which hands the child
@@ -1088,6 +1122,7 @@ public class LauncherCore
                             // surface the exit code + restart decision.
                             int exitCode = proc.waitFor();
                             Logger.logStd( LocalizationManager.format( "log.launcherCore.serverExited", exitCode ) );
+                            GcTelemetry.recordSession( finalGameModPack.getPackRootFolder() );
 
                             if ( exitCode == 0 ) {
                                 // Clean shutdown — don't restart
@@ -1459,6 +1494,10 @@ public class LauncherCore
             // with backend cleanup and leave the user's keyboard stuck
             // on whatever the last effect was.
             com.micatechnologies.minecraft.launcher.rgb.RgbIntegration.shutdown();
+            // Flush server-mode change journals so an orderly shutdown leaves
+            // them clean and the next start can take the journaled verify.
+            com.micatechnologies.minecraft.launcher.game.modpack.ChangeJournal.shutdown();
+            com.micatechnologies.minecraft.launcher.game.modpack.PrelaunchWarmup.shutdown();
             DiscordRpcUtility.exit();
             // Release the shared taskbar wrapper before tearing down the GUI controller —
             // closing it after the stage is gone occasionally leaves the COM thread blocked
@@ -1478,8 +1517,8 @@ public class LauncherCore
             // initOwner; tearing it down last keeps the close order stable.
             com.micatechnologies.minecraft.launcher.gui.MCLauncherHelpWindow.cleanup();
             SingleInstanceLock.release();
-            // Drain in-flight background tasks (manifest cache writes, log flushes
-            // queued by spawnNewTask, etc.) before tearing down the logger so any
+            // Drain in-flight background tasks (manifest cache writes, work queued
+            // by spawnNewTask, etc.) before tearing down the logger so any
             // last-second I/O actually lands. Bounded wait — daemon-thread semantics
             // clean up whatever is still running past the timeout.
             SystemUtilities.shutdownBackgroundExecutor( 2_000 );
@@ -1766,9 +1805,12 @@ public class LauncherCore
                 new java.util.concurrent.ConcurrentHashMap<>();
         tracker.addListener( step -> {
             // State transitions always log — they're the launch's structural milestones.
-            var prev = lastState.put( step.id(), step.state() );
-            if ( prev != step.state() ) {
-                if ( step.state() == com.micatechnologies.minecraft.launcher.game.modpack
+            // Read before writing: most events are same-state progress ticks from
+            // download workers, and a put per tick would serialize them on the bin.
+            var state = step.state();
+            if ( lastState.get( step.id() ) != state ) {
+                lastState.put( step.id(), state );
+                if ( state == com.micatechnologies.minecraft.launcher.game.modpack
                         .LaunchProgressTracker.State.FAILED ) {
                     Logger.logErrorSilent( LocalizationManager.format( "log.launch.headless.stepFailed",
                                                                        step.displayLabel(),
@@ -1777,21 +1819,26 @@ public class LauncherCore
                 }
                 else {
                     Logger.logStd( LocalizationManager.format( "log.launch.headless.stepState",
-                                                               step.displayLabel(), step.state() ) );
+                                                               step.displayLabel(), state ) );
                 }
                 return;
             }
             // Same state — this is a progress/sub-text tick. Throttle per step so the
-            // byte-level download feed becomes a readable heartbeat, not a flood.
-            String sub = step.subText();
-            if ( sub == null || sub.isEmpty() ) {
-                return;
-            }
+            // byte-level download feed becomes a readable heartbeat, not a flood. The
+            // sub-text may be formatted on read (ProgressCounter), so only read it once
+            // the throttle is open.
             long now = System.currentTimeMillis();
             java.util.concurrent.atomic.AtomicLong last = lastDetailLogMs.computeIfAbsent(
                     step.id(), k -> new java.util.concurrent.atomic.AtomicLong( 0 ) );
             long prevMs = last.get();
-            if ( now - prevMs >= detailIntervalMs && last.compareAndSet( prevMs, now ) ) {
+            if ( now - prevMs < detailIntervalMs ) {
+                return;
+            }
+            String sub = step.subText();
+            if ( sub == null || sub.isEmpty() ) {
+                return;
+            }
+            if ( last.compareAndSet( prevMs, now ) ) {
                 Logger.logStd( LocalizationManager.format( "log.launch.headless.stepDetail",
                                                            step.displayLabel(), sub ) );
             }
@@ -274,7 +274,8 @@ class LauncherSession
         // is populated for anything that actually needs to read it; the
         // OfflineIndicator label updates reactively when downstream
         // operations hit the network.
-        java.util.concurrent.CompletableFuture.runAsync(
+        com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors.execute(
+                com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors.Workload.IO,
                 () -> com.micatechnologies.minecraft.launcher.utilities.NetworkUtilities.checkNetworkAvailability() );
 
         // Announcements + opportunistic preemptive token renewal: both
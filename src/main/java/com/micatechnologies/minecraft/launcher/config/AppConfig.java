@@ -339,6 +339,159 @@ public final class AppConfig
         ConfigStore.scheduleWrite();
     }
 
+    // ====================================================================
+    // Server change journal
+    // ====================================================================
+
+    /** Whether server mode keeps a change journal of its pack folders so a
+     *  restart re-hashes only files that changed since the last verify. */
+    public static synchronized boolean getServerChangeJournalEnable() {
+        return ConfigStore.getOrInitBoolean( ConfigConstants.SERVER_CHANGE_JOURNAL_ENABLE_KEY,
+                                             ConfigConstants.SERVER_CHANGE_JOURNAL_ENABLE_DEFAULT );
+    }
+
+    /**
+     * Sets whether server mode keeps a change journal of its pack folders and schedules a debounced disk flush. When
+     * on, server restarts hash only the files the journal saw change instead of re-verifying every file.
+     *
+     * @param enable {@code true} to enable the server change journal, {@code false} to disable it
+     */
+    public static synchronized void setServerChangeJournalEnable( boolean enable ) {
+        ConfigStore.ensureLoaded().addProperty( ConfigConstants.SERVER_CHANGE_JOURNAL_ENABLE_KEY, enable );
+        ConfigStore.scheduleWrite();
+    }
+
+    // ====================================================================
+    // Pre-launch warm-up
+    // ====================================================================
+
+    /** Whether idle main-menu time is used to prepare the most likely next
+     *  pack's launch in the background. */
+    public static synchronized boolean getPrelaunchWarmupEnable() {
+        return ConfigStore.getOrInitBoolean( ConfigConstants.PRELAUNCH_WARMUP_ENABLE_KEY,
+                                             ConfigConstants.PRELAUNCH_WARMUP_ENABLE_DEFAULT );
+    }
+
+    /**
+     * Sets whether idle main-menu time is used to prepare the most likely next pack's launch and schedules a
+     * debounced disk flush.
+     *
+     * @param enable {@code true} to enable the pre-launch warm-up, {@code false} to disable it
+     */
+    public static synchronized void setPrelaunchWarmupEnable( boolean enable ) {
+        ConfigStore.ensureLoaded().addProperty( ConfigConstants.PRELAUNCH_WARMUP_ENABLE_KEY, enable );
+        ConfigStore.scheduleWrite();
+    }
+
+    // ====================================================================
+    // Game class-data-sharing archive
+    // ====================================================================
+
+    /** Whether the game JVM uses a per-pack class-data-sharing archive. */
+    public static synchronized boolean getGameCdsEnable() {
+        return ConfigStore.getOrInitBoolean( ConfigConstants.GAME_CDS_ENABLE_KEY,
+                                             ConfigConstants.GAME_CDS_ENABLE_DEFAULT );
+    }
+
+    /**
+     * Sets whether the game JVM uses a per-pack class-data-sharing archive and schedules a debounced disk flush.
+     *
+     * @param enable {@code true} to enable the game CDS archive, {@code false} to disable it
+     */
+    public static synchronized void setGameCdsEnable( boolean enable ) {
+        ConfigStore.ensureLoaded().addProperty( ConfigConstants.GAME_CDS_ENABLE_KEY, enable );
+        ConfigStore.scheduleWrite();
+    }
+
+    // ====================================================================
+    // Game GC telemetry
+    // ====================================================================
+
+    /** Whether game launches log GC activity for per-pack GC recommendations. */
+    public static synchronized boolean getGcTelemetryEnable() {
+        return ConfigStore.getOrInitBoolean( ConfigConstants.GC_TELEMETRY_ENABLE_KEY,
+                                             ConfigConstants.GC_TELEMETRY_ENABLE_DEFAULT );
+    }
+
+    /**
+     * Sets whether game launches log GC activity and schedules a debounced disk flush.
+     *
+     * @param enable {@code true} to enable GC telemetry, {@code false} to disable it
+     */
+    public static synchronized void setGcTelemetryEnable( boolean enable ) {
+        ConfigStore.ensureLoaded().addProperty( ConfigConstants.GC_TELEMETRY_ENABLE_KEY, enable );
+        ConfigStore.scheduleWrite();
+    }
+
+    /** Whether launches apply the per-pack GC tuning derived from telemetry. */
+    public static synchronized boolean getGcAutoTuneEnable() {
+        return ConfigStore.getOrInitBoolean( ConfigConstants.GC_AUTO_TUNE_ENABLE_KEY,
+                                             ConfigConstants.GC_AUTO_TUNE_ENABLE_DEFAULT );
+    }
+
+    /**
+     * Sets whether launches apply the per-pack GC tuning and schedules a debounced disk flush.
+     *
+     * @param enable {@code true} to enable GC auto-tune, {@code false} to disable it
+     */
+    public static synchronized void setGcAutoTuneEnable( boolean enable ) {
+        ConfigStore.ensureLoaded().addProperty( ConfigConstants.GC_AUTO_TUNE_ENABLE_KEY, enable );
+        ConfigStore.scheduleWrite();
+    }
+
+    // ====================================================================
+    // Live game telemetry (JFR)
+    // ====================================================================
+
+    /** Whether game launches stream JFR telemetry back to the launcher. */
+    public static synchronized boolean getGameJfrTelemetryEnable() {
+        return ConfigStore.getOrInitBoolean( ConfigConstants.GAME_JFR_TELEMETRY_ENABLE_KEY,
+                                             ConfigConstants.GAME_JFR_TELEMETRY_ENABLE_DEFAULT );
+    }
+
+    /**
+     * Sets whether game launches stream JFR telemetry and schedules a debounced disk flush.
+     *
+     * @param enable {@code true} to enable live telemetry, {@code false} to disable it
+     */
+    public static synchronized void setGameJfrTelemetryEnable( boolean enable ) {
+        ConfigStore.ensureLoaded().addProperty( ConfigConstants.GAME_JFR_TELEMETRY_ENABLE_KEY, enable );
+        ConfigStore.scheduleWrite();
+    }
+
+    /** The GC pause, in milliseconds, at or above which live telemetry raises a lag alert. */
+    public static synchronized int getGameJfrLagAlertMs() {
+        return ConfigStore.getOrInitInt( ConfigConstants.GAME_JFR_LAG_ALERT_MS_KEY,
+                                         ConfigConstants.GAME_JFR_LAG_ALERT_MS_DEFAULT );
+    }
+
+    /**
+     * Sets the lag alert threshold and schedules a debounced disk flush.
+     *
+     * @param ms the pause length, in milliseconds, that raises a lag alert
+     */
+    public static synchronized void setGameJfrLagAlertMs( int ms ) {
+        ConfigStore.ensureLoaded().addProperty( ConfigConstants.GAME_JFR_LAG_ALERT_MS_KEY, ms );
+        ConfigStore.scheduleWrite();
+    }
+
+    /** Whether TUI game sessions spool their console output to disk. */
+    public static synchronized boolean getGameLogSpoolEnable() {
+        return ConfigStore.getOrInitBoolean( ConfigConstants.GAME_LOG_SPOOL_ENABLE_KEY,
+                                             ConfigConstants.GAME_LOG_SPOOL_ENABLE_DEFAULT );
+    }
+
+    /**
+     * Sets whether TUI game sessions spool their console output to disk and schedules a debounced
+     * disk flush.
+     *
+     * @param enable {@code true} to spool console output, {@code false} to keep only the in-memory tail
+     */
+    public static synchronized void setGameLogSpoolEnable( boolean enable ) {
+        ConfigStore.ensureLoaded().addProperty( ConfigConstants.GAME_LOG_SPOOL_ENABLE_KEY, enable );
+        ConfigStore.scheduleWrite();
+    }
+
     // ====================================================================
     // Window bounds
     //
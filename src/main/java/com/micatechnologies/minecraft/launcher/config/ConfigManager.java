@@ -675,6 +675,38 @@ public class ConfigManager
     public synchronized static boolean getLwjglArmPatchEnable()         { return AppConfig.getLwjglArmPatchEnable(); }
     /** Sets whether LWJGL ARM64 native patching is enabled. @param v the new flag. @see AppConfig#setLwjglArmPatchEnable(boolean) @since 1.0 */
     public synchronized static void    setLwjglArmPatchEnable( boolean v ) { AppConfig.setLwjglArmPatchEnable( v ); }
+    /** @return whether server mode keeps a pack-folder change journal. @see AppConfig#getServerChangeJournalEnable() @since 2026.7 */
+    public synchronized static boolean getServerChangeJournalEnable()   { return AppConfig.getServerChangeJournalEnable(); }
+    /** Sets whether server mode keeps a pack-folder change journal. @param v the new flag. @see AppConfig#setServerChangeJournalEnable(boolean) @since 2026.7 */
+    public synchronized static void    setServerChangeJournalEnable( boolean v ) { AppConfig.setServerChangeJournalEnable( v ); }
+    /** @return whether idle main-menu time prepares the likely next launch. @see AppConfig#getPrelaunchWarmupEnable() @since 2026.7 */
+    public synchronized static boolean getPrelaunchWarmupEnable()       { return AppConfig.getPrelaunchWarmupEnable(); }
+    /** Sets whether idle main-menu time prepares the likely next launch. @param v the new flag. @see AppConfig#setPrelaunchWarmupEnable(boolean) @since 2026.7 */
+    public synchronized static void    setPrelaunchWarmupEnable( boolean v ) { AppConfig.setPrelaunchWarmupEnable( v ); }
+    /** @return whether the game JVM uses a per-pack class-data-sharing archive. @see AppConfig#getGameCdsEnable() @since 2026.7 */
+    public synchronized static boolean getGameCdsEnable()               { return AppConfig.getGameCdsEnable(); }
+    /** Sets whether the game JVM uses a per-pack class-data-sharing archive. @param v the new flag. @see AppConfig#setGameCdsEnable(boolean) @since 2026.7 */
+    public synchronized static void    setGameCdsEnable( boolean v )    { AppConfig.setGameCdsEnable( v ); }
+    /** @return whether game launches log GC activity. @see AppConfig#getGcTelemetryEnable() @since 2026.7 */
+    public synchronized static boolean getGcTelemetryEnable()           { return AppConfig.getGcTelemetryEnable(); }
+    /** Sets whether game launches log GC activity. @param v the new flag. @see AppConfig#setGcTelemetryEnable(boolean) @since 2026.7 */
+    public synchronized static void    setGcTelemetryEnable( boolean v ) { AppConfig.setGcTelemetryEnable( v ); }
+    /** @return whether launches apply per-pack GC tuning. @see AppConfig#getGcAutoTuneEnable() @since 2026.7 */
+    public synchronized static boolean getGcAutoTuneEnable()            { return AppConfig.getGcAutoTuneEnable(); }
+    /** Sets whether launches apply per-pack GC tuning. @param v the new flag. @see AppConfig#setGcAutoTuneEnable(boolean) @since 2026.7 */
+    public synchronized static void    setGcAutoTuneEnable( boolean v )  { AppConfig.setGcAutoTuneEnable( v ); }
+    /** @return whether game launches stream live JFR telemetry. @see AppConfig#getGameJfrTelemetryEnable() @since 2026.7 */
+    public synchronized static boolean getGameJfrTelemetryEnable()      { return AppConfig.getGameJfrTelemetryEnable(); }
+    /** Sets whether game launches stream live JFR telemetry. @param v the new flag. @see AppConfig#setGameJfrTelemetryEnable(boolean) @since 2026.7 */
+    public synchronized static void    setGameJfrTelemetryEnable( boolean v ) { AppConfig.setGameJfrTelemetryEnable( v ); }
+    /** @return the GC pause in ms that raises a lag alert. @see AppConfig#getGameJfrLagAlertMs() @since 2026.7 */
+    public synchronized static int     getGameJfrLagAlertMs()           { return AppConfig.getGameJfrLagAlertMs(); }
+    /** Sets the GC pause in ms that raises a lag alert. @param v the new threshold. @see AppConfig#setGameJfrLagAlertMs(int) @since 2026.7 */
+    public synchronized static void    setGameJfrLagAlertMs( int v )    { AppConfig.setGameJfrLagAlertMs( v ); }
+    /** @return whether TUI game sessions spool console output to disk. @see AppConfig#getGameLogSpoolEnable() @since 2026.7 */
+    public synchronized static boolean getGameLogSpoolEnable()          { return AppConfig.getGameLogSpoolEnable(); }
+    /** Sets whether TUI game sessions spool console output to disk. @param v the new flag. @see AppConfig#setGameLogSpoolEnable(boolean) @since 2026.7 */
+    public synchronized static void    setGameLogSpoolEnable( boolean v ) { AppConfig.setGameLogSpoolEnable( v ); }
 
     /** @return the last-persisted window X position, or {@link Double#NaN} when unset. @see AppConfig#getWindowX() @since 1.0 */
     public synchronized static double  getWindowX()                     { return AppConfig.getWindowX(); }
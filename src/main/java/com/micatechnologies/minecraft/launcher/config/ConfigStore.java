@@ -24,10 +24,9 @@ import com.micatechnologies.minecraft.launcher.files.LocalPathManager;
 import com.micatechnologies.minecraft.launcher.files.Logger;
 import com.micatechnologies.minecraft.launcher.files.SynchronizedFileManager;
 import com.micatechnologies.minecraft.launcher.utilities.FileUtilities;
+import com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors;
 
 import java.io.File;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -69,16 +68,6 @@ public final class ConfigStore
      *  typical Settings-save flurry into a single write. */
     private static final long WRITE_DEBOUNCE_MS = 500L;
 
-    /**
-     * Scheduled executor service used for scheduling writes.
-     */
-    private static final ScheduledExecutorService WRITE_SCHEDULER =
-            Executors.newSingleThreadScheduledExecutor( r -> {
-                Thread t = new Thread( r, "mica-config-write" );
-                t.setDaemon( true );
-                return t;
-            } );
-
     /**
      * The JSON object representing the configuration.
      */
@@ -495,7 +484,7 @@ public final class ConfigStore
         if ( pendingWrite != null && !pendingWrite.isDone() ) {
             pendingWrite.cancel( false );
         }
-        pendingWrite = WRITE_SCHEDULER.schedule(
+        pendingWrite = LauncherExecutors.schedule(
                 ConfigStore::writeNow, WRITE_DEBOUNCE_MS, TimeUnit.MILLISECONDS );
     }
 
@@ -515,8 +504,8 @@ public final class ConfigStore
     }
 
     /**
-     * Actual disk-write implementation — runs on the scheduled-writer
-     * thread under normal operation, or on the shutdown-hook /
+     * Actual disk-write implementation — runs on the launcher's UI lane
+     * ({@link LauncherExecutors#schedule}) under normal operation, or on the shutdown-hook /
      * flushNow callers' threads when they bypass the schedule.
      *
      * <p><b>Atomic write contract.</b> Writes go to a sibling temp file
@@ -917,6 +917,140 @@ public class ConfigConstants
      */
     public static final boolean ALWAYS_VERIFY_ON_LAUNCH_DEFAULT = false;
 
+    /**
+     * Key for the server-mode change-journal flag. When enabled, a headless server keeps a
+     * filesystem watch on its pack folders while the game runs and, on the next restart, hashes
+     * only the files that changed (or whose size / mtime drifted) instead of every file.
+     *
+     * @since 2026.7
+     */
+    public static final String SERVER_CHANGE_JOURNAL_ENABLE_KEY = "serverChangeJournal";
+
+    /**
+     * Default value for {@link #SERVER_CHANGE_JOURNAL_ENABLE_KEY}. Off by default so servers keep
+     * the historical always-FULL verify unless the operator opts into journaled restarts.
+     *
+     * @since 2026.7
+     */
+    public static final boolean SERVER_CHANGE_JOURNAL_ENABLE_DEFAULT = false;
+
+    /**
+     * Key for the pre-launch warm-up flag. When enabled, the launcher uses idle main-menu time on
+     * AC power to verify, update, and scan the pack the user is most likely to play next, so the
+     * Play click finds everything already in place.
+     *
+     * @since 2026.7
+     */
+    public static final String PRELAUNCH_WARMUP_ENABLE_KEY = "prelaunchWarmup";
+
+    /**
+     * Default value for {@link #PRELAUNCH_WARMUP_ENABLE_KEY}. On by default: the warm-up only runs
+     * while the launcher is idle and yields to any user-initiated launch or verify.
+     *
+     * @since 2026.7
+     */
+    public static final boolean PRELAUNCH_WARMUP_ENABLE_DEFAULT = true;
+
+    /**
+     * Key for the per-pack game class-data-sharing archive flag. When enabled, the game JVM dumps
+     * the classes it loaded into a per-pack CDS archive on its first run after a classpath or
+     * runtime change and maps that archive on later launches, cutting JVM startup time.
+     *
+     * @since 2026.7
+     */
+    public static final String GAME_CDS_ENABLE_KEY = "gameCds";
+
+    /**
+     * Default value for {@link #GAME_CDS_ENABLE_KEY}. Off by default: the archive costs a few
+     * hundred MB of disk per pack and a slower exit on the run that creates it.
+     *
+     * @since 2026.7
+     */
+    public static final boolean GAME_CDS_ENABLE_DEFAULT = false;
+
+    /**
+     * Key for the game GC telemetry flag. When enabled, game launches write a rotating unified GC
+     * log into the pack's {@code logs/gc} folder and the launcher distils it into per-session
+     * statistics after exit, which drive the GC recommendations shown in Settings.
+     *
+     * @since 2026.7
+     */
+    public static final String GC_TELEMETRY_ENABLE_KEY = "gcTelemetry";
+
+    /**
+     * Default value for {@link #GC_TELEMETRY_ENABLE_KEY}. On by default: unified GC logging is
+     * asynchronous in the JVM and capped at a few rotating files per pack.
+     *
+     * @since 2026.7
+     */
+    public static final boolean GC_TELEMETRY_ENABLE_DEFAULT = true;
+
+    /**
+     * Key for the GC auto-tune flag. When enabled, launches of a pack with enough recorded GC
+     * sessions use the tuned heap size and GC flags instead of the configured ones.
+     *
+     * @since 2026.7
+     */
+    public static final String GC_AUTO_TUNE_ENABLE_KEY = "gcAutoTune";
+
+    /**
+     * Default value for {@link #GC_AUTO_TUNE_ENABLE_KEY}. Off by default so the user's heap and
+     * JVM args are used as entered unless they opt in.
+     *
+     * @since 2026.7
+     */
+    public static final boolean GC_AUTO_TUNE_ENABLE_DEFAULT = false;
+
+    /**
+     * Key for the live game telemetry flag. When enabled, game launches on Java 14+ record a
+     * lightweight JFR stream into the pack's {@code logs/jfr} folder, which the launcher reads
+     * while the game runs to chart GC pauses, heap, CPU and safepoints and to raise lag alerts.
+     *
+     * @since 2026.7
+     */
+    public static final String GAME_JFR_TELEMETRY_ENABLE_KEY = "gameJfrTelemetry";
+
+    /**
+     * Default value for {@link #GAME_JFR_TELEMETRY_ENABLE_KEY}. Off by default: the recording is
+     * cheap but not free, and most players never look at the charts.
+     *
+     * @since 2026.7
+     */
+    public static final boolean GAME_JFR_TELEMETRY_ENABLE_DEFAULT = false;
+
+    /**
+     * Key for the lag alert threshold, in milliseconds. A GC pause at least this long during a
+     * telemetry-enabled session raises a lag alert.
+     *
+     * @since 2026.7
+     */
+    public static final String GAME_JFR_LAG_ALERT_MS_KEY = "gameJfrLagAlertMs";
+
+    /**
+     * Default value for {@link #GAME_JFR_LAG_ALERT_MS_KEY}: five ticks at 20 TPS, roughly where a
+     * pause turns into visible rubber-banding.
+     *
+     * @since 2026.7
+     */
+    public static final int GAME_JFR_LAG_ALERT_MS_DEFAULT = 250;
+
+    /**
+     * Key for the game console spool flag. When enabled, games launched from the TUI also copy
+     * their console output to the pack's {@code logs/console.log}, so a long headless session keeps
+     * its full history on disk (searchable from the Logs view) rather than only the in-memory tail.
+     *
+     * @since 2026.7
+     */
+    public static final String GAME_LOG_SPOOL_ENABLE_KEY = "gameLogSpool";
+
+    /**
+     * Default value for {@link #GAME_LOG_SPOOL_ENABLE_KEY}. Off by default: a chatty pack can write
+     * gigabytes over a long session.
+     *
+     * @since 2026.7
+     */
+    public static final boolean GAME_LOG_SPOOL_ENABLE_DEFAULT = false;
+
     // endregion
 
     // region Scan frequency controls (3.4 user-tunable security-scan cadence)
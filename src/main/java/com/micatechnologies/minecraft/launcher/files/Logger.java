@@ -22,13 +22,13 @@ import com.micatechnologies.minecraft.launcher.consts.LauncherConstants;
 import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
 import com.micatechnologies.minecraft.launcher.gui.MCLauncherGuiController;
 import com.micatechnologies.minecraft.launcher.gui.GUIUtilities;
+import com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors;
 import com.micatechnologies.minecraft.launcher.utilities.SensitiveDataRedactor;
 import javafx.stage.Stage;
 import org.apache.commons.io.output.TeeOutputStream;
 
 import java.io.*;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -72,11 +72,11 @@ public class Logger
     private static volatile BufferedOutputStream fileBufferedOutputStream = null;
 
     /**
-     * Scheduled executor for periodic log flushing. Stored so it can be shut down cleanly.
+     * Periodic log flush, scheduled on the launcher's UI lane. Stored so it can be cancelled cleanly.
      *
      * @since 2.0
      */
-    private static ScheduledExecutorService logFlushScheduler = null;
+    private static ScheduledFuture< ? > logFlushTask = null;
 
     /**
      * Shuts down the logging system by flushing and closing any open {@link OutputStream}s.
@@ -85,9 +85,9 @@ public class Logger
      * @since 1.1
      */
     public static void shutdownLogSys() throws IOException {
-        if ( logFlushScheduler != null ) {
-            logFlushScheduler.shutdownNow();
-            logFlushScheduler = null;
+        if ( logFlushTask != null ) {
+            logFlushTask.cancel( false );
+            logFlushTask = null;
         }
         if ( fileBufferedOutputStream != null ) {
             fileBufferedOutputStream.flush();
@@ -198,12 +198,7 @@ public class Logger
         FileOutputStream fileOutputStream = new FileOutputStream( logFile );
         fileBufferedOutputStream = new BufferedOutputStream( fileOutputStream );
         try {
-            logFlushScheduler = Executors.newScheduledThreadPool( 1, r -> {
-                Thread t = new Thread( r, "log-flush" );
-                t.setDaemon( true );
-                return t;
-            } );
-            logFlushScheduler.scheduleAtFixedRate( () -> {
+            logFlushTask = LauncherExecutors.scheduleAtFixedRate( () -> {
                 try {
                     fileBufferedOutputStream.flush();
                 }
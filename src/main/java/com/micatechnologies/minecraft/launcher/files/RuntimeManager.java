@@ -25,6 +25,7 @@ import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationM
 import com.micatechnologies.minecraft.launcher.gui.MCLauncherGuiController;
 import com.micatechnologies.minecraft.launcher.gui.MCLauncherProgressGui;
 import com.micatechnologies.minecraft.launcher.utilities.ArchiveExtractor;
+import com.micatechnologies.minecraft.launcher.utilities.DownloadExecutor;
 import com.micatechnologies.minecraft.launcher.utilities.FileUtilities;
 import com.micatechnologies.minecraft.launcher.utilities.HashUtilities;
 import com.micatechnologies.minecraft.launcher.utilities.JsonHelper;
@@ -382,38 +383,33 @@ public class RuntimeManager
 
             // Second pass (parallel): a runtime is ~500-700 small files; downloading
             // them one at a time made first install take minutes. Latency-bound, so
-            // allow more concurrency than core count.
+            // the files go through the shared download cap rather than a per-install
+            // pool, and join the launch's TaskScope when installed as part of a launch.
             if ( !fileTasks.isEmpty() ) {
-                int poolSize = Math.max( 1, Math.min( fileTasks.size(),
-                        Math.max( 12, Runtime.getRuntime().availableProcessors() ) ) );
-                java.util.concurrent.ExecutorService filePool =
-                        java.util.concurrent.Executors.newFixedThreadPool( poolSize );
-                List< java.util.concurrent.Future< Void > > futures;
+                List< java.util.concurrent.Future< Void > > futures = new ArrayList<>( fileTasks.size() );
                 try {
-                    futures = filePool.invokeAll( fileTasks );
+                    for ( java.util.concurrent.Callable< Void > task : fileTasks ) {
+                        futures.add( DownloadExecutor.submit( task ) );
+                    }
+                    // Surface the first per-file failure.
+                    for ( java.util.concurrent.Future< Void > f : futures ) {
+                        f.get();
+                    }
                 }
                 catch ( InterruptedException ie ) {
-                    filePool.shutdownNow();
+                    cancelAll( futures );
                     Thread.currentThread().interrupt();
                     throw new IOException( "Interrupted while installing the Java runtime.", ie );
                 }
-                finally {
-                    filePool.shutdown();
+                catch ( java.util.concurrent.CancellationException ce ) {
+                    cancelAll( futures );
+                    throw new IOException( "Java runtime install was cancelled.", ce );
                 }
-                // Surface the first per-file failure.
-                for ( java.util.concurrent.Future< Void > f : futures ) {
-                    try {
-                        f.get();
-                    }
-                    catch ( InterruptedException ie ) {
-                        Thread.currentThread().interrupt();
-                        throw new IOException( "Interrupted while installing the Java runtime.", ie );
-                    }
-                    catch ( java.util.concurrent.ExecutionException ee ) {
-                        Throwable cause = ee.getCause();
-                        throw new IOException( "Failed to install a Java runtime file: "
-                                + ( cause == null ? ee.getMessage() : cause.getMessage() ), cause );
-                    }
+                catch ( java.util.concurrent.ExecutionException ee ) {
+                    cancelAll( futures );
+                    Throwable cause = ee.getCause();
+                    throw new IOException( "Failed to install a Java runtime file: "
+                            + ( cause == null ? ee.getMessage() : cause.getMessage() ), cause );
                 }
             }
 
@@ -1089,6 +1085,19 @@ public class RuntimeManager
         return null;
     }
 
+    /**
+     * Cancels, with interruption, every runtime file task that hasn't finished,
+     * so a failed or interrupted install doesn't leave siblings holding
+     * download permits.
+     *
+     * @param futures the submitted file tasks
+     */
+    private static void cancelAll( List< java.util.concurrent.Future< Void > > futures ) {
+        for ( java.util.concurrent.Future< Void > f : futures ) {
+            f.cancel( true );
+        }
+    }
+
     /**
      * Reports progress to whichever sinks are present: the standalone progress window
      * (if non-{@code null}), the inline callback (if non-{@code null}), and always the
@@ -25,6 +25,7 @@ import net.hycrafthd.minecraft_authenticator.login.Authenticator;
 import net.hycrafthd.minecraft_authenticator.login.User;
 
 import com.micatechnologies.minecraft.launcher.utilities.JSONUtilities;
+import com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors;
 import com.google.gson.JsonObject;
 
 import java.io.FileOutputStream;
@@ -539,15 +540,6 @@ public class MCLauncherAuthManager
      */
     private static volatile CompletableFuture< MCLauncherAuthResult > pendingRefresh = null;
 
-    /** Background executor for the async refresh. Single-thread, daemon — we
-     *  only ever want one auth refresh in flight at a time, and we don't want
-     *  to keep the JVM alive if the user quits before it completes. */
-    private static final ExecutorService REFRESH_EXECUTOR = Executors.newSingleThreadExecutor( r -> {
-        Thread t = new Thread( r, "mmcl-auth-refresh" );
-        t.setDaemon( true );
-        return t;
-    } );
-
     /**
      * Returns the currently in-flight async refresh, or {@code null} when no
      * refresh is pending. Used by UI surfaces that want to wait for the
@@ -621,7 +613,11 @@ public class MCLauncherAuthManager
         }
         CompletableFuture< MCLauncherAuthResult > fresh = new CompletableFuture<>();
         pendingRefresh = fresh;
-        REFRESH_EXECUTOR.submit( () -> {
+        // Runs on the shared IO workload (daemon virtual threads, so it can't keep
+        // the JVM alive if the user quits first). Only one refresh is ever in flight:
+        // the pendingRefresh check above, under this method's lock, is the single-flight
+        // guard, not the executor.
+        LauncherExecutors.execute( LauncherExecutors.Workload.IO, () -> {
             try {
                 fresh.complete( renewExistingLogin() );
             }
@@ -774,8 +770,8 @@ public class MCLauncherAuthManager
                 return;
             }
             Logger.logStd( LocalizationManager.get( "log.authManager.softRefreshKickoff" ) );
-            // Route through the single-flight async path (dedicated REFRESH_EXECUTOR +
-            // pendingRefresh dedup) rather than the common ForkJoinPool, so this
+            // Route through the single-flight async path (pendingRefresh dedup)
+            // rather than the common ForkJoinPool, so this
             // preemptive renewal can't run concurrently with a GUI/TUI-triggered one —
             // which would double-fire network calls and race the shared auth state and
             // token files (player.mica / cached_user.json / renewal.timestamp).
@@ -872,8 +868,7 @@ public class MCLauncherAuthManager
             reportStatus( LocalizationManager.get( "authManager.status.signingIn" ),
                           LocalizationManager.get( "authManager.status.contactingServers" ) );
             Logger.logStd( LocalizationManager.format( "log.authManager.renewingToken", AUTH_TIMEOUT_SECONDS ) );
-            ExecutorService authExecutor = Executors.newSingleThreadExecutor();
-            Future< Void > authFuture = authExecutor.submit( () -> {
+            Future< Void > authFuture = LauncherExecutors.submit( LauncherExecutors.Workload.IO, () -> {
                 authenticator.run();
                 return null;
             } );
@@ -899,7 +894,8 @@ public class MCLauncherAuthManager
                 return MCLauncherAuthResult.ERROR_OTHER;
             }
             finally {
-                authExecutor.shutdownNow();
+                // No-op once finished; interrupts the sign-in if we're leaving early.
+                authFuture.cancel( true );
             }
 
             Logger.logStd( LocalizationManager.get( "log.authManager.tokenRenewedSuccess" ) );
@@ -972,8 +968,7 @@ public class MCLauncherAuthManager
                     Authenticator.ofMicrosoft( authCode ).serviceConnectTimeout( 5000 ).serviceReadTimeout( 10000 ).shouldAuthenticate().shouldRetrieveXBoxProfile().build();
 
             Logger.logStd( LocalizationManager.format( "log.authManager.authenticatingMicrosoft", AUTH_TIMEOUT_SECONDS ) );
-            ExecutorService authExecutor = Executors.newSingleThreadExecutor();
-            Future< Void > authFuture = authExecutor.submit( () -> {
+            Future< Void > authFuture = LauncherExecutors.submit( LauncherExecutors.Workload.IO, () -> {
                 authenticator.run();
                 return null;
             } );
@@ -993,7 +988,8 @@ public class MCLauncherAuthManager
                 return processAuthException( cause instanceof Exception ? ( Exception ) cause : new Exception( cause ) );
             }
             finally {
-                authExecutor.shutdownNow();
+                // No-op once finished; interrupts the sign-in if we're leaving early.
+                authFuture.cancel( true );
             }
 
             Logger.logStd( LocalizationManager.get( "log.authManager.microsoftAuthResponse" ) );
@@ -22,6 +22,7 @@ import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationM
 import com.micatechnologies.minecraft.launcher.files.Logger;
 import com.micatechnologies.minecraft.launcher.game.modpack.GameModPack;
 import com.micatechnologies.minecraft.launcher.game.modpack.GameModPackManager;
+import com.micatechnologies.minecraft.launcher.game.modpack.ModMetadataIndex;
 import com.micatechnologies.minecraft.launcher.gui.MCLauncherGuiController;
 import com.micatechnologies.minecraft.launcher.utilities.SystemUtilities;
 import oshi.SystemInfo;
@@ -840,10 +841,14 @@ public final class CrashReportAnalyzer
         } ) );
     }
 
-    /** Walks the pack's {@code mods/} directory and returns a "Disable {name}" suggestion for
-     *  the first jar whose lowercased filename contains {@code substring}. Returns
-     *  {@code null} when the mods folder doesn't exist, can't be listed, or no jar matches —
-     *  callers (OptiFine/Sodium detector, JEI/REI detector) gracefully degrade to a manual
+    /** Returns a "Disable {name}" suggestion for the enabled jar in the pack's {@code mods/}
+     *  folder that best matches {@code substring}: a jar whose declared mod id equals it, then
+     *  one whose mod id or display name contains it, then one whose lowercased filename contains
+     *  it. Mod ids and names come from {@link ModMetadataIndex}, so a jar renamed to something
+     *  unrecognisable is still found, and "rei" doesn't land on a jar that merely has those
+     *  letters in its filename when the real REI jar is present. Returns {@code null} when the
+     *  mods folder doesn't exist, can't be listed, or no jar matches — callers
+     *  (OptiFine/Sodium detector, JEI/REI detector) gracefully degrade to a manual
      *  "Open Mods Folder" prompt in that case.
      *
      *  <p>Renaming to {@code .jar.disabled} is the universal "skip this mod" convention
@@ -851,22 +856,35 @@ public final class CrashReportAnalyzer
      *  so the user can re-enable it later by stripping the suffix.</p> */
     private static Suggestion maybeDisableModSuggestion( GameModPack pack, String substring )
     {
-        if ( pack == null || pack.getPackRootFolder() == null ) {
-            return null;
-        }
-        File modsDir = new File( pack.getPackRootFolder(), "mods" );
-        if ( !modsDir.isDirectory() ) {
-            return null;
+        List< ModMetadataIndex.ModJar > jars = ModMetadataIndex.forPack( pack, false );
+        ModMetadataIndex.ModJar best = null;
+        int bestRank = Integer.MAX_VALUE;
+        // Take the first jar of the best rank. There's rarely more than one optifine/sodium/jei/rei
+        // jar in a single pack — and if there is, disabling the first is still progress.
+        for ( ModMetadataIndex.ModJar jar : jars ) {
+            ModMetadataIndex.ModInfo info = jar.info();
+            int rank;
+            if ( info != null && substring.equals( info.modId() ) ) {
+                rank = 0;
+            }
+            else if ( info != null && info.matches( substring ) ) {
+                rank = 1;
+            }
+            else if ( jar.fileName().toLowerCase( java.util.Locale.ROOT ).contains( substring ) ) {
+                rank = 2;
+            }
+            else {
+                continue;
+            }
+            if ( rank < bestRank ) {
+                best = jar;
+                bestRank = rank;
+            }
         }
-        File[] jars = modsDir.listFiles( ( dir, name ) ->
-                name.toLowerCase( java.util.Locale.ROOT ).endsWith( ".jar" )
-                        && name.toLowerCase( java.util.Locale.ROOT ).contains( substring ) );
-        if ( jars == null || jars.length == 0 ) {
+        if ( best == null ) {
             return null;
         }
-        // Pick the first match. There's rarely more than one optifine/sodium/jei/rei jar in
-        // a single pack — and if there is, disabling the first is still progress.
-        File target = jars[ 0 ];
+        File target = best.path().toFile();
         return Suggestion.of( LocalizationManager.format( "crash.action.disableMod", target.getName() ), () -> SystemUtilities.spawnNewTask( () -> {
             try {
                 Path src = target.toPath();
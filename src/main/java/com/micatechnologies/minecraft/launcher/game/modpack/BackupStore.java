@@ -0,0 +1,671 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import com.micatechnologies.minecraft.launcher.files.Logger;
+import com.micatechnologies.minecraft.launcher.utilities.HashUtilities;
+import com.micatechnologies.minecraft.launcher.utilities.JSONUtilities;
+import com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Content-addressed chunk store + snapshot manifests backing
+ * {@link ModpackBackupManager}. Everything here is {@link Path}-based and
+ * config-free so it can be exercised directly from tests; the manager supplies
+ * the pack root, the folders to capture and the retention caps.
+ *
+ * <h3>On-disk layout</h3>
+ *
+ * <pre>
+ * &lt;packRoot&gt;/.backups/
+ *   chunks/&lt;first two hex&gt;/&lt;sha256 of chunk&gt;   one byte codec flag, then the payload
+ *   snapshots/&lt;timestamp&gt;.json                   {@link Snapshot} manifest
+ * </pre>
+ *
+ * <p>Files are cut into fixed {@value #CHUNK_SIZE}-byte chunks. Minecraft
+ * rewrites region files in place at 4 KiB sector granularity, so an edited
+ * world keeps its unmodified chunks at the same offsets and fixed-size
+ * chunking dedupes them without the cost of a rolling hash. Each chunk is
+ * stored once under its SHA-256, deflated when that actually shrinks it and
+ * stored raw otherwise (region payloads are already zlib-compressed).</p>
+ *
+ * <p>Writes are ordered so a crash never leaves a snapshot pointing at a
+ * missing chunk: chunks land via temp-file + rename first, and the manifest
+ * is renamed into place last. Chunks orphaned by an interrupted backup are
+ * unreferenced and disappear on the next {@link #collectGarbage(Path)}.</p>
+ *
+ * @since 2026.7
+ */
+final class BackupStore
+{
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private BackupStore() { /* static-only */ }
+
+    /** Chunk size in bytes. Large enough that a multi-GB world is a few thousand
+     *  manifest entries, small enough that one edited region re-stores ~1 MiB. */
+    static final int CHUNK_SIZE = 1024 * 1024;
+
+    /** Folder (under the backups dir) holding the content-addressed chunks. */
+    static final String CHUNKS_DIR = "chunks";
+
+    /** Folder (under the backups dir) holding one JSON manifest per snapshot. */
+    static final String SNAPSHOTS_DIR = "snapshots";
+
+    /** Extension of snapshot manifest files. */
+    static final String SNAPSHOT_EXT = ".json";
+
+    /** Codec flag: payload is the chunk bytes verbatim. */
+    private static final byte CODEC_RAW = 0;
+
+    /** Codec flag: payload is a zlib stream of the chunk bytes. */
+    private static final byte CODEC_DEFLATE = 1;
+
+    /**
+     * Serializes every mutation of a store. Backup, prune/GC and restore all run
+     * from the update path or Settings, never hot, and GC must not observe the
+     * half-written chunk set of an in-flight backup.
+     */
+    static final Object LOCK = new Object();
+
+    /**
+     * One backup: the files captured and, per file, the ordered chunk hashes
+     * that reassemble it. Serialized with Gson; field names are the wire format.
+     */
+    static final class Snapshot
+    {
+        /** Epoch-ms the snapshot was taken. Drives ordering and age pruning. */
+        long createdAt;
+
+        /** Top-level folders (relative to the pack root) the snapshot covers. */
+        List< String > roots = new ArrayList<>();
+
+        /** Captured files, pack-root-relative with {@code /} separators. */
+        List< FileEntry > files = new ArrayList<>();
+
+        /** Snapshot id (file name minus extension); not serialized. */
+        transient String id;
+
+        /**
+         * Sums the logical size of all captured files.
+         *
+         * @return total bytes the snapshot restores
+         */
+        long totalBytes()
+        {
+            long total = 0;
+            for ( FileEntry f : files ) {
+                total += f.size;
+            }
+            return total;
+        }
+    }
+
+    /**
+     * A captured file. {@code size} + {@code mtime} double as the change
+     * detector for the next backup: an identical pair reuses {@code chunks}
+     * without reading the file.
+     */
+    static final class FileEntry
+    {
+        String path;
+        long size;
+        long mtime;
+        List< String > chunks = new ArrayList<>();
+    }
+
+    /**
+     * Outcome counters for one {@link #createSnapshot} call, used for logging
+     * and by tests to assert incrementality.
+     */
+    static final class Stats
+    {
+        int filesReused;
+        int filesRead;
+        final AtomicLong chunksWritten = new AtomicLong();
+        final AtomicLong bytesWritten = new AtomicLong();
+    }
+
+    /** A single chunk-sized slice of a changed file, hashed and stored in parallel. */
+    private record ChunkJob( int fileIndex, int chunkIndex, Path source, long offset, int length ) {}
+
+    // -----------------------------------------------------------------------
+    //  Snapshot creation
+    // -----------------------------------------------------------------------
+
+    /**
+     * Captures {@code roots} (folder names under {@code packRoot}) into a new
+     * snapshot. Files whose size and mtime match the newest existing snapshot
+     * are carried over by reference; only the rest are read, and their chunks
+     * are hashed, compressed and written in parallel — so time and disk use
+     * scale with what changed since the last backup.
+     *
+     * @param backupsDir the store root ({@code <packRoot>/.backups})
+     * @param packRoot   the pack root the {@code roots} are resolved against
+     * @param roots      top-level folder names to capture; missing ones are skipped
+     * @param id         snapshot id (file name without extension); a numeric
+     *                   suffix is appended if it is already taken
+     * @param stats      receives reuse/write counters; may be {@code null}
+     *
+     * @return the written snapshot, or {@code null} if there was nothing to capture
+     *
+     * @throws IOException if a file can't be read or the store can't be written
+     */
+    static Snapshot createSnapshot( Path backupsDir, Path packRoot, List< String > roots, String id,
+                                    Stats stats ) throws IOException
+    {
+        Stats s = stats != null ? stats : new Stats();
+        synchronized ( LOCK ) {
+            List< Path > sources = new ArrayList<>();
+            Snapshot snap = new Snapshot();
+            snap.createdAt = System.currentTimeMillis();
+            for ( String root : roots ) {
+                Path dir = packRoot.resolve( root );
+                if ( !Files.isDirectory( dir, LinkOption.NOFOLLOW_LINKS ) ) continue;
+                snap.roots.add( root );
+                collectFiles( packRoot, dir, snap.files, sources );
+            }
+            if ( snap.roots.isEmpty() ) return null;
+
+            // Reuse chunk lists for files that haven't moved since the newest snapshot.
+            Map< String, FileEntry > previous = new HashMap<>();
+            List< Snapshot > existing = listSnapshots( backupsDir );
+            if ( !existing.isEmpty() ) {
+                for ( FileEntry f : existing.get( 0 ).files ) {
+                    previous.put( f.path, f );
+                }
+            }
+            Path chunksDir = backupsDir.resolve( CHUNKS_DIR );
+            List< ChunkJob > jobs = new ArrayList<>();
+            String[][] hashes = new String[ snap.files.size() ][];
+            for ( int i = 0; i < snap.files.size(); i++ ) {
+                FileEntry f = snap.files.get( i );
+                FileEntry prev = previous.get( f.path );
+                if ( prev != null && prev.size == f.size && prev.mtime == f.mtime
+                        && chunksPresent( chunksDir, prev.chunks ) ) {
+                    f.chunks = new ArrayList<>( prev.chunks );
+                    s.filesReused++;
+                    continue;
+                }
+                s.filesRead++;
+                int count = (int) ( ( f.size + CHUNK_SIZE - 1 ) / CHUNK_SIZE );
+                hashes[ i ] = new String[ count ];
+                for ( int c = 0; c < count; c++ ) {
+                    long offset = (long) c * CHUNK_SIZE;
+                    jobs.add( new ChunkJob( i, c, sources.get( i ), offset,
+                                            (int) Math.min( CHUNK_SIZE, f.size - offset ) ) );
+                }
+            }
+
+            // Hashing + deflate is CPU-bound, so it runs on the CPU workload at
+            // core-count width; each job holds at most one chunk.
+            try {
+                LauncherExecutors.forEach( LauncherExecutors.Workload.CPU, jobs,
+                                           Runtime.getRuntime().availableProcessors(),
+                                           job -> hashes[ job.fileIndex() ][ job.chunkIndex() ] =
+                                                   storeChunk( chunksDir, job, s ) );
+            }
+            catch ( UncheckedIOException e ) {
+                throw e.getCause();
+            }
+            catch ( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException( "Backup interrupted" );
+            }
+            for ( int i = 0; i < hashes.length; i++ ) {
+                if ( hashes[ i ] != null ) {
+                    snap.files.get( i ).chunks = new ArrayList<>( List.of( hashes[ i ] ) );
+                }
+            }
+
+            Path snapshotsDir = backupsDir.resolve( SNAPSHOTS_DIR );
+            Files.createDirectories( snapshotsDir );
+            String uniqueId = id;
+            for ( int n = 2; Files.exists( snapshotsDir.resolve( uniqueId + SNAPSHOT_EXT ) ); n++ ) {
+                uniqueId = id + "-" + n;
+            }
+            snap.id = uniqueId;
+            writeAtomically( snapshotsDir.resolve( uniqueId + SNAPSHOT_EXT ),
+                             JSONUtilities.getGson().toJson( snap ).getBytes( StandardCharsets.UTF_8 ) );
+            return snap;
+        }
+    }
+
+    /**
+     * Walks {@code dir} depth-first, appending one {@link FileEntry} (and its
+     * source path, index-aligned) per regular file. Symlinks aren't followed.
+     */
+    private static void collectFiles( Path packRoot, Path dir, List< FileEntry > out, List< Path > sources )
+            throws IOException
+    {
+        Files.walkFileTree( dir, new SimpleFileVisitor<>()
+        {
+            @Override
+            public FileVisitResult visitFile( Path file, BasicFileAttributes attrs )
+            {
+                if ( attrs.isRegularFile() ) {
+                    FileEntry e = new FileEntry();
+                    e.path = packRoot.relativize( file ).toString().replace( '\\', '/' );
+                    e.size = attrs.size();
+                    e.mtime = attrs.lastModifiedTime().toMillis();
+                    out.add( e );
+                    sources.add( file );
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed( Path file, IOException exc )
+            {
+                // A file vanishing mid-walk (the game rotating a log, say) shouldn't sink the backup.
+                Logger.logWarningSilent( "Skipping unreadable file during backup: " + file + " (" + exc.getMessage() + ")" );
+                return FileVisitResult.CONTINUE;
+            }
+        } );
+    }
+
+    /**
+     * Reads one chunk of a source file, hashes it and — if the store doesn't
+     * already hold that hash — compresses and writes it.
+     *
+     * @return the chunk's SHA-256 hex
+     */
+    private static String storeChunk( Path chunksDir, ChunkJob job, Stats stats )
+    {
+        try {
+            byte[] data = new byte[ job.length() ];
+            int read = 0;
+            try ( FileChannel ch = FileChannel.open( job.source(), StandardOpenOption.READ ) ) {
+                ByteBuffer buf = ByteBuffer.wrap( data );
+                while ( buf.hasRemaining() ) {
+                    int n = ch.read( buf, job.offset() + buf.position() );
+                    if ( n < 0 ) break;
+                    read += n;
+                }
+            }
+            // A file that shrank since it was stat'd is captured as it is now.
+            String hash = sha256Hex( data, read );
+            Path target = chunkPath( chunksDir, hash );
+            if ( Files.exists( target ) ) return hash;
+
+            byte[] encoded = encode( data, read );
+            Files.createDirectories( target.getParent() );
+            try {
+                writeAtomically( target, encoded );
+            }
+            catch ( IOException e ) {
+                // Lost a rename race on the same hash: the winner wrote identical bytes.
+                if ( Files.exists( target ) ) return hash;
+                throw e;
+            }
+            stats.chunksWritten.incrementAndGet();
+            stats.bytesWritten.addAndGet( encoded.length );
+            return hash;
+        }
+        catch ( IOException e ) {
+            throw new UncheckedIOException( e );
+        }
+    }
+
+    /**
+     * Deflates {@code data[0, len)} and returns the codec byte + payload,
+     * falling back to raw storage when deflate doesn't pay for itself.
+     */
+    private static byte[] encode( byte[] data, int len )
+    {
+        Deflater deflater = new Deflater( Deflater.BEST_SPEED );
+        try {
+            deflater.setInput( data, 0, len );
+            deflater.finish();
+            byte[] out = new byte[ len + 1 ];
+            out[ 0 ] = CODEC_DEFLATE;
+            int pos = 1;
+            while ( !deflater.finished() && pos < out.length ) {
+                pos += deflater.deflate( out, pos, out.length - pos );
+            }
+            if ( deflater.finished() && pos < out.length ) {
+                return Arrays.copyOf( out, pos );
+            }
+        }
+        finally {
+            deflater.end();
+        }
+        byte[] raw = new byte[ len + 1 ];
+        raw[ 0 ] = CODEC_RAW;
+        System.arraycopy( data, 0, raw, 1, len );
+        return raw;
+    }
+
+    // -----------------------------------------------------------------------
+    //  Restore
+    // -----------------------------------------------------------------------
+
+    /**
+     * Rewrites every file recorded in {@code snapshot} under {@code packRoot},
+     * verifying each chunk's hash as it is decoded. Files are written to a
+     * sibling temp file and renamed over the original, and get their recorded
+     * mtime back so the next backup recognizes them as unchanged. Files that
+     * exist on disk but aren't in the snapshot are left alone — restore never
+     * deletes user data.
+     *
+     * @param backupsDir the store root
+     * @param packRoot   the pack root to restore into
+     * @param snapshot   the snapshot to restore
+     *
+     * @return the number of files restored
+     *
+     * @throws IOException if a chunk is missing or corrupt, or a file can't be written;
+     *                     files restored before the failure stay restored
+     */
+    static int restoreSnapshot( Path backupsDir, Path packRoot, Snapshot snapshot ) throws IOException
+    {
+        synchronized ( LOCK ) {
+            Path chunksDir = backupsDir.resolve( CHUNKS_DIR );
+            Path normalizedRoot = packRoot.toAbsolutePath().normalize();
+            int restored = 0;
+            for ( FileEntry f : snapshot.files ) {
+                Path target = normalizedRoot.resolve( f.path ).normalize();
+                if ( !target.startsWith( normalizedRoot ) || target.equals( normalizedRoot ) ) {
+                    throw new IOException( "Snapshot " + snapshot.id + " has an out-of-pack path: " + f.path );
+                }
+                Files.createDirectories( target.getParent() );
+                Path tmp = target.resolveSibling( target.getFileName() + ".restore.tmp" );
+                try ( OutputStream out = Files.newOutputStream( tmp ) ) {
+                    for ( String hash : f.chunks ) {
+                        out.write( readChunk( chunksDir, hash ) );
+                    }
+                }
+                catch ( IOException e ) {
+                    Files.deleteIfExists( tmp );
+                    throw e;
+                }
+                moveIntoPlace( tmp, target );
+                Files.setLastModifiedTime( target, FileTime.fromMillis( f.mtime ) );
+                restored++;
+            }
+            return restored;
+        }
+    }
+
+    /**
+     * Loads and decodes one chunk, checking it against its content hash.
+     *
+     * @throws IOException if the chunk is missing, undecodable or doesn't match its hash
+     */
+    static byte[] readChunk( Path chunksDir, String hash ) throws IOException
+    {
+        byte[] stored = Files.readAllBytes( chunkPath( chunksDir, hash ) );
+        if ( stored.length == 0 ) throw new IOException( "Empty backup chunk " + hash );
+        byte[] data;
+        if ( stored[ 0 ] == CODEC_RAW ) {
+            data = Arrays.copyOfRange( stored, 1, stored.length );
+        }
+        else if ( stored[ 0 ] == CODEC_DEFLATE ) {
+            Inflater inflater = new Inflater();
+            try ( ByteArrayOutputStream out = new ByteArrayOutputStream( CHUNK_SIZE ) ) {
+                inflater.setInput( stored, 1, stored.length - 1 );
+                byte[] buf = new byte[ 64 * 1024 ];
+                while ( !inflater.finished() ) {
+                    int n = inflater.inflate( buf );
+                    if ( n == 0 && ( inflater.needsInput() || inflater.needsDictionary() ) ) {
+                        throw new IOException( "Truncated backup chunk " + hash );
+                    }
+                    out.write( buf, 0, n );
+                }
+                data = out.toByteArray();
+            }
+            catch ( DataFormatException e ) {
+                throw new IOException( "Corrupt backup chunk " + hash, e );
+            }
+            finally {
+                inflater.end();
+            }
+        }
+        else {
+            throw new IOException( "Unknown codec " + stored[ 0 ] + " in backup chunk " + hash );
+        }
+        if ( !HashUtilities.constantTimeHexEquals( hash, sha256Hex( data, data.length ) ) ) {
+            throw new IOException( "Backup chunk " + hash + " failed hash verification" );
+        }
+        return data;
+    }
+
+    // -----------------------------------------------------------------------
+    //  Listing, deletion and garbage collection
+    // -----------------------------------------------------------------------
+
+    /**
+     * Loads every readable snapshot manifest, newest first. Unparseable
+     * manifests are logged and skipped (and so stop pinning their chunks).
+     *
+     * @param backupsDir the store root
+     *
+     * @return snapshots ordered by {@link Snapshot#createdAt} descending
+     */
+    static List< Snapshot > listSnapshots( Path backupsDir )
+    {
+        List< Snapshot > out = new ArrayList<>();
+        Path dir = backupsDir.resolve( SNAPSHOTS_DIR );
+        if ( !Files.isDirectory( dir ) ) return out;
+        try ( DirectoryStream< Path > ds = Files.newDirectoryStream( dir, "*" + SNAPSHOT_EXT ) ) {
+            for ( Path p : ds ) {
+                try {
+                    Snapshot s = JSONUtilities.getGson().fromJson(
+                            Files.readString( p, StandardCharsets.UTF_8 ), Snapshot.class );
+                    if ( s == null || s.files == null ) continue;
+                    String name = p.getFileName().toString();
+                    s.id = name.substring( 0, name.length() - SNAPSHOT_EXT.length() );
+                    out.add( s );
+                }
+                catch ( Exception e ) {
+                    Logger.logWarningSilent( "Ignoring unreadable backup snapshot " + p.getFileName()
+                                                     + ": " + e.getMessage() );
+                }
+            }
+        }
+        catch ( IOException e ) {
+            Logger.logWarningSilent( "Couldn't list backup snapshots in " + dir + ": " + e.getMessage() );
+        }
+        out.sort( Comparator.comparingLong( ( Snapshot s ) -> s.createdAt ).reversed()
+                            .thenComparing( s -> s.id, Comparator.reverseOrder() ) );
+        return out;
+    }
+
+    /**
+     * Deletes a snapshot manifest. Its chunks stay until the next
+     * {@link #collectGarbage(Path)}.
+     *
+     * @return {@code true} if the manifest was deleted
+     */
+    static boolean deleteSnapshot( Path backupsDir, String id )
+    {
+        synchronized ( LOCK ) {
+            try {
+                return Files.deleteIfExists( backupsDir.resolve( SNAPSHOTS_DIR ).resolve( id + SNAPSHOT_EXT ) );
+            }
+            catch ( IOException e ) {
+                Logger.logWarningSilent( "Couldn't delete backup snapshot " + id + ": " + e.getMessage() );
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Reference-counts chunks across the surviving snapshots and deletes every
+     * stored chunk whose count is zero, plus temp files left by an interrupted
+     * write. The counts are rebuilt from the manifests on each pass rather than
+     * kept in a side file, so they can never drift from what the snapshots
+     * actually reference.
+     *
+     * @param backupsDir the store root
+     *
+     * @return the number of chunk files removed
+     */
+    static int collectGarbage( Path backupsDir )
+    {
+        synchronized ( LOCK ) {
+            Path chunksDir = backupsDir.resolve( CHUNKS_DIR );
+            if ( !Files.isDirectory( chunksDir ) ) return 0;
+            Map< String, Integer > refCounts = new HashMap<>();
+            for ( Snapshot s : listSnapshots( backupsDir ) ) {
+                for ( FileEntry f : s.files ) {
+                    for ( String hash : f.chunks ) {
+                        refCounts.merge( hash, 1, Integer::sum );
+                    }
+                }
+            }
+            int removed = 0;
+            try ( Stream< Path > walk = Files.walk( chunksDir, 2 ) ) {
+                for ( Path p : (Iterable< Path >) walk::iterator ) {
+                    if ( !Files.isRegularFile( p ) ) continue;
+                    if ( refCounts.getOrDefault( p.getFileName().toString(), 0 ) > 0 ) continue;
+                    try {
+                        Files.deleteIfExists( p );
+                        removed++;
+                    }
+                    catch ( IOException e ) {
+                        Logger.logWarningSilent( "Couldn't delete unreferenced backup chunk " + p.getFileName()
+                                                         + ": " + e.getMessage() );
+                    }
+                }
+            }
+            catch ( IOException e ) {
+                Logger.logWarningSilent( "Backup chunk GC failed: " + e.getMessage() );
+            }
+            try ( DirectoryStream< Path > ds = Files.newDirectoryStream( backupsDir.resolve( SNAPSHOTS_DIR ), "*.tmp" ) ) {
+                for ( Path p : ds ) {
+                    Files.deleteIfExists( p );
+                }
+            }
+            catch ( IOException ignored ) {
+                // Missing snapshots dir or a locked temp file; the next pass retries.
+            }
+            return removed;
+        }
+    }
+
+    /**
+     * Sums the on-disk size of the chunk store.
+     *
+     * @param backupsDir the store root
+     *
+     * @return stored bytes across all chunks (shared chunks counted once)
+     */
+    static long storedBytes( Path backupsDir )
+    {
+        Path chunksDir = backupsDir.resolve( CHUNKS_DIR );
+        if ( !Files.isDirectory( chunksDir ) ) return 0L;
+        try ( Stream< Path > walk = Files.walk( chunksDir, 2 ) ) {
+            return walk.filter( Files::isRegularFile ).mapToLong( p -> p.toFile().length() ).sum();
+        }
+        catch ( IOException e ) {
+            return 0L;
+        }
+    }
+
+    // -----------------------------------------------------------------------
+    //  Internal helpers
+    // -----------------------------------------------------------------------
+
+    private static Path chunkPath( Path chunksDir, String hash )
+    {
+        return chunksDir.resolve( hash.substring( 0, 2 ) ).resolve( hash );
+    }
+
+    private static boolean chunksPresent( Path chunksDir, List< String > hashes )
+    {
+        if ( hashes == null ) return false;
+        for ( String h : hashes ) {
+            if ( !Files.exists( chunkPath( chunksDir, h ) ) ) return false;
+        }
+        return true;
+    }
+
+    private static String sha256Hex( byte[] data, int len )
+    {
+        try {
+            MessageDigest md = MessageDigest.getInstance( "SHA-256" );
+            md.update( data, 0, len );
+            return HashUtilities.bytesToHex( md.digest() );
+        }
+        catch ( NoSuchAlgorithmException e ) {
+            // Every JRE is required to ship SHA-256.
+            throw new IllegalStateException( e );
+        }
+    }
+
+    /**
+     * Writes {@code bytes} to a unique sibling temp file and renames it onto
+     * {@code target}, so readers only ever see a complete file.
+     */
+    private static void writeAtomically( Path target, byte[] bytes ) throws IOException
+    {
+        Path tmp = Files.createTempFile( target.getParent(), target.getFileName().toString(), ".tmp" );
+        try {
+            Files.write( tmp, bytes );
+            moveIntoPlace( tmp, target );
+        }
+        catch ( IOException e ) {
+            Files.deleteIfExists( tmp );
+            throw e;
+        }
+    }
+
+    private static void moveIntoPlace( Path tmp, Path target ) throws IOException
+    {
+        try {
+            Files.move( tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+        }
+        catch ( AtomicMoveNotSupportedException e ) {
+            Files.move( tmp, target, StandardCopyOption.REPLACE_EXISTING );
+        }
+    }
+}
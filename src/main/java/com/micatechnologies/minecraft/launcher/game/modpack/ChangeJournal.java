@@ -0,0 +1,560 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import com.micatechnologies.minecraft.launcher.config.ConfigManager;
+import com.micatechnologies.minecraft.launcher.config.GameModeManager;
+import com.micatechnologies.minecraft.launcher.consts.LauncherConstants;
+import com.micatechnologies.minecraft.launcher.files.Logger;
+import com.micatechnologies.minecraft.launcher.utilities.JSONUtilities;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Change journal for a server pack's folders, letting a restart re-hash only
+ * the files that changed since the last verify instead of every file.
+ *
+ * <p>Server mode never uses {@link LaunchVerifyMode#FAST_PATH}: a headless
+ * server silently running a stale or tampered mod set is worse than a slow
+ * start. But a crash-looping or nightly-restarted server re-hashes thousands
+ * of unchanged library, asset, and mod files on every restart. The journal
+ * closes that gap without trusting existence alone:</p>
+ *
+ * <ul>
+ *   <li>Every successful hash verify (or verified download) records a
+ *       fingerprint — declared hash, size, mtime — for the file's
+ *       pack-relative path.</li>
+ *   <li>While the game runs, a {@link WatchService} watches the top-level
+ *       folders those files live in. Every create / modify / delete adds the
+ *       path to {@link #touched}. An {@code OVERFLOW} event, a registration
+ *       failure, or the watcher dying marks the journal as having a gap.</li>
+ *   <li>The sidecar is written with {@link #clean} {@code = false} when the
+ *       watch starts and only flipped to {@code true} by an orderly stop with
+ *       no gap. A launcher crash, kill, or power loss therefore leaves it
+ *       unclean, and the next start falls back to {@link LaunchVerifyMode#FULL}.</li>
+ * </ul>
+ *
+ * <p>Under {@link LaunchVerifyMode#JOURNALED} a file is accepted without
+ * hashing only when its declared hash equals the recorded one (manifest entry
+ * unchanged), neither it nor any parent folder is in {@link #touched}, and
+ * its size and mtime still match the fingerprint. The last check also covers
+ * the window between an orderly stop and the next start, when nothing is
+ * watching. Anything else falls through to the normal hash path. A journaled
+ * run never refreshes {@link VerifyState#verifiedAt}, so
+ * {@link #MAX_JOURNALED_AGE_MS} still forces a full sweep periodically.</p>
+ *
+ * <p>Stored as JSON at {@code <packRoot>/.change_journal.json}, next to
+ * {@code .verify_state.json}. Opt-in via
+ * {@link ConfigManager#getServerChangeJournalEnable()}.</p>
+ *
+ * @since 2026.7
+ */
+public final class ChangeJournal
+{
+    /** Sidecar filename in the pack root. Hidden by leading dot like the
+     *  other pack sidecars. */
+    public static final String JOURNAL_FILE = ".change_journal.json";
+
+    /** Longest a single full verify can back journaled restarts. After a week
+     *  the next restart re-hashes everything regardless of the journal, which
+     *  bounds how long silent bit rot (no mtime / size change) can survive. */
+    public static final long MAX_JOURNALED_AGE_MS = 7L * 24L * 60L * 60L * 1000L;
+
+    /** Thread name for the per-pack watcher. */
+    private static final String WATCHER_THREAD_NAME = "mica-change-journal";
+
+    /** Journals armed by a successful verify and waiting for the game process
+     *  to start, keyed by absolute pack root. */
+    private static final Map< String, ChangeJournal > ARMED = new ConcurrentHashMap<>();
+
+    /** Journals with a live watcher, keyed by absolute pack root. */
+    private static final Map< String, ChangeJournal > WATCHING = new ConcurrentHashMap<>();
+
+    /** Fingerprint of a file as of its last successful verify. */
+    static final class Fingerprint
+    {
+        /** Declared expected hash the file was verified against, or empty
+         *  when the manifest declared none. */
+        String hash;
+
+        /** File length in bytes at verify time. */
+        long size;
+
+        /** File mtime in epoch millis at verify time. */
+        long mtime;
+    }
+
+    /** {@code true} only when the watcher that last covered this pack stopped
+     *  in an orderly way with no gap. */
+    boolean clean;
+
+    /** Epoch millis the current (or last) watch session started. */
+    long openedAt;
+
+    /** Epoch millis the last watch session stopped cleanly, or zero. */
+    long closedAt;
+
+    /** Launcher version that wrote this journal. A different launcher
+     *  version may record fingerprints differently, so it forces FULL. */
+    String launcherVersion;
+
+    /** Pack-relative, {@code /}-separated path → fingerprint at last verify. */
+    ConcurrentHashMap< String, Fingerprint > files = new ConcurrentHashMap<>();
+
+    /** Pack-relative paths (files or folders) seen changing since the
+     *  fingerprints were recorded, mapped to the epoch millis of the event. */
+    ConcurrentHashMap< String, Long > touched = new ConcurrentHashMap<>();
+
+    /** Absolute pack root; not persisted. */
+    private transient Path root;
+
+    /** Set by the watcher on OVERFLOW / registration failure / unexpected
+     *  exit; not persisted (it's folded into {@link #clean} on stop). */
+    private transient volatile boolean gap;
+
+    private transient WatchService watchService;
+
+    private transient Thread watcherThread;
+
+    private transient final Map< WatchKey, Path > watchedDirs = new ConcurrentHashMap<>();
+
+    // ===== load / save =====
+
+    /**
+     * Whether the journal applies to this launcher session: server mode with
+     * the opt-in flag set.
+     *
+     * @return {@code true} when journaled restarts are enabled
+     */
+    public static boolean isEnabled()
+    {
+        return GameModeManager.isServer() && ConfigManager.getServerChangeJournalEnable();
+    }
+
+    /**
+     * Stops any watcher still running for {@code pack} (flushing it to the
+     * sidecar), then reads the sidecar. Returns an empty, unclean journal
+     * when the sidecar is absent or unreadable, which decides to FULL.
+     *
+     * @param pack the pack about to be verified
+     *
+     * @return the pack's journal, never {@code null}
+     */
+    static ChangeJournal openForLaunch( GameModPack pack )
+    {
+        stopWatching( pack );
+        return loadFromRoot( Path.of( pack.getPackRootFolder() ) );
+    }
+
+    /** Reads {@code <root>/.change_journal.json}, or an empty unclean journal
+     *  on any failure. */
+    static ChangeJournal loadFromRoot( Path root )
+    {
+        ChangeJournal journal = null;
+        Path p = root.resolve( JOURNAL_FILE );
+        try {
+            if ( Files.isRegularFile( p ) ) {
+                journal = JSONUtilities.getGson()
+                                       .fromJson( Files.readString( p, StandardCharsets.UTF_8 ),
+                                                  ChangeJournal.class );
+            }
+        }
+        catch ( Exception e ) {
+            Logger.logWarningSilent( "Could not read change journal at " + p + ": "
+                                             + e.getClass().getSimpleName() );
+        }
+        if ( journal == null ) {
+            journal = new ChangeJournal();
+        }
+        if ( journal.files == null ) journal.files = new ConcurrentHashMap<>();
+        if ( journal.touched == null ) journal.touched = new ConcurrentHashMap<>();
+        journal.root = root.toAbsolutePath().normalize();
+        return journal;
+    }
+
+    /** Writes the sidecar via a temp file + atomic move so a crash mid-write
+     *  can't leave a half-written journal that parses as clean. I/O failures
+     *  are logged and swallowed; the worst outcome is a FULL next restart. */
+    synchronized void save()
+    {
+        Path p = root.resolve( JOURNAL_FILE );
+        Path tmp = root.resolve( JOURNAL_FILE + ".tmp" );
+        try {
+            Files.createDirectories( root );
+            Files.writeString( tmp, JSONUtilities.getGson().toJson( this ), StandardCharsets.UTF_8 );
+            Files.move( tmp, p, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+        }
+        catch ( IOException e ) {
+            Logger.logWarningSilent( "Could not write change journal at " + p + ": "
+                                             + e.getClass().getSimpleName() );
+        }
+    }
+
+    // ===== decision =====
+
+    /**
+     * Decides the server-mode verify mode. JOURNALED only fires when every
+     * condition holds:
+     *
+     * <ol>
+     *   <li>The journal was closed cleanly — no crash, no overflow, no
+     *       registration failure since its fingerprints were recorded.</li>
+     *   <li>It was written by this launcher version.</li>
+     *   <li>A verify-state sidecar exists from the same launcher version and
+     *       its last full verify is within {@code maxAgeMs}.</li>
+     * </ol>
+     *
+     * <p>Manifest changes don't need their own check: a changed entry carries
+     * a different declared hash and misses its fingerprint, and a new entry
+     * has no fingerprint at all.</p>
+     *
+     * @param journal  the pack's journal, or {@code null} when disabled
+     * @param state    the pack's verify state, or {@code null} if absent
+     * @param maxAgeMs longest a full verify can back journaled restarts
+     * @param now      current epoch millis
+     *
+     * @return {@link LaunchVerifyMode#JOURNALED} when eligible, otherwise
+     *         {@link LaunchVerifyMode#FULL}
+     */
+    static LaunchVerifyMode decideMode( ChangeJournal journal, VerifyState state, long maxAgeMs, long now )
+    {
+        if ( journal == null || !journal.clean ) return LaunchVerifyMode.FULL;
+        if ( !LauncherConstants.LAUNCHER_APPLICATION_VERSION.equals( journal.launcherVersion ) ) {
+            return LaunchVerifyMode.FULL;
+        }
+        if ( state == null
+                || !LauncherConstants.LAUNCHER_APPLICATION_VERSION.equals( state.launcherVersion ) ) {
+            return LaunchVerifyMode.FULL;
+        }
+        long ageMs = now - state.verifiedAt;
+        if ( ageMs < 0 || ageMs > maxAgeMs ) return LaunchVerifyMode.FULL;
+        return LaunchVerifyMode.JOURNALED;
+    }
+
+    /** Drops every fingerprint ahead of a FULL run, so the journal only ever
+     *  describes files the current run actually verified. */
+    void reset()
+    {
+        files.clear();
+        touched.clear();
+        clean = false;
+    }
+
+    // ===== fingerprints =====
+
+    /**
+     * Whether {@code file} can be accepted without hashing: it was verified
+     * against {@code expectedHash} before and nothing about it has changed.
+     *
+     * @param file         the local file
+     * @param expectedHash the strongest declared hash, or {@code null} for none
+     *
+     * @return {@code true} to skip hashing, {@code false} to hash as normal
+     */
+    boolean isUnchanged( File file, String expectedHash )
+    {
+        String rel = relativize( file );
+        if ( rel == null ) return false;
+        Fingerprint fp = files.get( rel );
+        if ( fp == null || !normalizeHash( expectedHash ).equalsIgnoreCase( fp.hash ) ) return false;
+        // A touched parent covers a folder deleted or renamed wholesale, where
+        // the watcher only reports the folder itself.
+        for ( String p = rel; p != null; p = parentOf( p ) ) {
+            if ( touched.containsKey( p ) ) return false;
+        }
+        return file.isFile() && file.length() == fp.size && file.lastModified() == fp.mtime;
+    }
+
+    /**
+     * Records that {@code file} just verified (or downloaded) against
+     * {@code expectedHash}. Safe to call from the parallel download branches.
+     *
+     * @param file         the local file
+     * @param expectedHash the strongest declared hash, or {@code null} for none
+     */
+    void recordVerified( File file, String expectedHash )
+    {
+        String rel = relativize( file );
+        if ( rel == null ) return;
+        Fingerprint fp = new Fingerprint();
+        fp.hash = normalizeHash( expectedHash );
+        fp.size = file.length();
+        fp.mtime = file.lastModified();
+        files.put( rel, fp );
+        touched.remove( rel );
+    }
+
+    /** Marks a pack-relative path as changed. */
+    void markTouched( String rel )
+    {
+        touched.put( rel, System.currentTimeMillis() );
+    }
+
+    /** Whether a gap was recorded by the watcher this session. */
+    boolean hasGap()
+    {
+        return gap;
+    }
+
+    private static String normalizeHash( String hash )
+    {
+        return hash == null ? "" : hash.toLowerCase( Locale.ROOT );
+    }
+
+    private static String parentOf( String rel )
+    {
+        int slash = rel.lastIndexOf( '/' );
+        return slash > 0 ? rel.substring( 0, slash ) : null;
+    }
+
+    /** Pack-relative {@code /}-separated path, or {@code null} when the file
+     *  lies outside the pack root (loader libraries / JREs shared across
+     *  packs aren't covered by this pack's watcher). */
+    private String relativize( File file )
+    {
+        return relativize( file.toPath() );
+    }
+
+    private String relativize( Path path )
+    {
+        Path abs = path.toAbsolutePath().normalize();
+        if ( !abs.startsWith( root ) || abs.equals( root ) ) return null;
+        return root.relativize( abs ).toString().replace( File.separatorChar, '/' );
+    }
+
+    // ===== lifecycle =====
+
+    /**
+     * Persists the journal after a successful verify and arms it for
+     * {@link #startWatching}. Touched entries are cleared: every managed file
+     * was just verified or re-recorded, and unmanaged paths don't matter.
+     * Written unclean so a crash before the watcher's orderly stop forces FULL.
+     *
+     * @param journal the journal populated by this verify
+     */
+    static void commitVerify( ChangeJournal journal )
+    {
+        journal.touched.clear();
+        journal.clean = false;
+        journal.openedAt = System.currentTimeMillis();
+        journal.launcherVersion = LauncherConstants.LAUNCHER_APPLICATION_VERSION;
+        journal.save();
+        ARMED.put( journal.root.toString(), journal );
+    }
+
+    /**
+     * Starts watching the pack folders covered by the journal armed for
+     * {@code pack}. No-op when nothing is armed (journal disabled, or verify
+     * failed). Registration failures are recorded as a gap, not thrown; the
+     * next restart simply does a FULL verify.
+     *
+     * @param pack the pack whose game process just started
+     */
+    static void startWatching( GameModPack pack )
+    {
+        String key = Path.of( pack.getPackRootFolder() ).toAbsolutePath().normalize().toString();
+        ChangeJournal journal = ARMED.remove( key );
+        if ( journal == null ) return;
+        try {
+            journal.watchService = FileSystems.getDefault().newWatchService();
+            for ( Path top : journal.watchRoots() ) {
+                if ( top.equals( journal.root ) ) {
+                    journal.register( top );
+                }
+                else {
+                    journal.registerTree( top );
+                }
+            }
+        }
+        catch ( IOException | RuntimeException e ) {
+            // inotify watch limits are the usual culprit on big installs.
+            Logger.logWarningSilent( "Change journal could not watch " + key + ": " + e.getMessage() );
+            journal.gap = true;
+        }
+        // Tracked even after a failure so the orderly stop still rewrites the
+        // sidecar (unclean) rather than leaving it looking armed.
+        WATCHING.put( key, journal );
+        if ( journal.gap ) return;
+        Thread t = new Thread( journal::watchLoop, WATCHER_THREAD_NAME );
+        t.setDaemon( true );
+        journal.watcherThread = t;
+        t.start();
+        Logger.logDebug( "Change journal watching " + journal.watchedDirs.size() + " folders for "
+                                 + pack.getPackName() );
+    }
+
+    /**
+     * Stops the watcher for {@code pack}, if any, and writes the sidecar —
+     * clean only if no gap was seen. Called before the next verify decision
+     * and on launcher shutdown.
+     *
+     * @param pack the pack to stop watching
+     */
+    static void stopWatching( GameModPack pack )
+    {
+        String key = Path.of( pack.getPackRootFolder() ).toAbsolutePath().normalize().toString();
+        ARMED.remove( key );
+        ChangeJournal journal = WATCHING.remove( key );
+        if ( journal != null ) journal.close();
+    }
+
+    /**
+     * Stops every watcher and flushes its journal. Called from launcher
+     * cleanup so an orderly server shutdown leaves clean journals behind.
+     */
+    public static void shutdown()
+    {
+        ARMED.clear();
+        for ( String key : Set.copyOf( WATCHING.keySet() ) ) {
+            ChangeJournal journal = WATCHING.remove( key );
+            if ( journal != null ) journal.close();
+        }
+    }
+
+    /** Top-level folders (plus the root itself, non-recursively, when it
+     *  directly holds fingerprinted files) that need watching. Only folders
+     *  holding managed files are watched, so world saves and logs churning
+     *  next to them can't overflow the event queue. */
+    Set< Path > watchRoots()
+    {
+        Set< Path > roots = new TreeSet<>();
+        for ( String rel : files.keySet() ) {
+            int slash = rel.indexOf( '/' );
+            roots.add( slash < 0 ? root : root.resolve( rel.substring( 0, slash ) ) );
+        }
+        return roots;
+    }
+
+    private void register( Path dir ) throws IOException
+    {
+        WatchKey k = dir.register( watchService,
+                                   StandardWatchEventKinds.ENTRY_CREATE,
+                                   StandardWatchEventKinds.ENTRY_DELETE,
+                                   StandardWatchEventKinds.ENTRY_MODIFY );
+        watchedDirs.put( k, dir );
+    }
+
+    private void registerTree( Path top ) throws IOException
+    {
+        if ( !Files.isDirectory( top ) ) return;
+        Files.walkFileTree( top, new SimpleFileVisitor<>()
+        {
+            @Override
+            public FileVisitResult preVisitDirectory( Path dir, BasicFileAttributes attrs ) throws IOException
+            {
+                register( dir );
+                return FileVisitResult.CONTINUE;
+            }
+        } );
+    }
+
+    /** Drains watch events until the service is closed. Any unexpected exit
+     *  is a gap: events after it would be missed. */
+    private void watchLoop()
+    {
+        try {
+            while ( true ) {
+                WatchKey k = watchService.take();
+                Path dir = watchedDirs.get( k );
+                for ( WatchEvent< ? > ev : k.pollEvents() ) {
+                    if ( ev.kind() == StandardWatchEventKinds.OVERFLOW || dir == null ) {
+                        gap = true;
+                        continue;
+                    }
+                    Path child = dir.resolve( ( Path ) ev.context() );
+                    String rel = relativize( child );
+                    if ( rel == null ) continue;
+                    markTouched( rel );
+                    if ( ev.kind() == StandardWatchEventKinds.ENTRY_CREATE
+                            && !dir.equals( root ) && Files.isDirectory( child ) ) {
+                        try {
+                            registerTree( child );
+                        }
+                        catch ( IOException e ) {
+                            gap = true;
+                        }
+                    }
+                }
+                if ( !k.reset() ) {
+                    // Watched folder deleted or renamed away. Marking it
+                    // covers every file beneath it via the parent check.
+                    watchedDirs.remove( k );
+                    String rel = dir != null ? relativize( dir ) : null;
+                    if ( rel != null ) {
+                        markTouched( rel );
+                    }
+                    else {
+                        gap = true;
+                    }
+                }
+            }
+        }
+        catch ( ClosedWatchServiceException | InterruptedException e ) {
+            // Orderly stop via close().
+        }
+        catch ( RuntimeException e ) {
+            Logger.logWarningSilent( "Change journal watcher stopped unexpectedly: " + e.getMessage() );
+            gap = true;
+        }
+    }
+
+    /** Closes the watcher, waits for it to drain, and writes the sidecar. */
+    private void close()
+    {
+        try {
+            if ( watchService != null ) watchService.close();
+        }
+        catch ( IOException e ) {
+            gap = true;
+        }
+        if ( watcherThread != null ) {
+            try {
+                watcherThread.join( 2000 );
+            }
+            catch ( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+                gap = true;
+            }
+            if ( watcherThread.isAlive() ) gap = true;
+        }
+        clean = !gap;
+        closedAt = System.currentTimeMillis();
+        save();
+        Logger.logDebug( "Change journal closed for " + root + " (clean=" + clean + ", touched="
+                                 + touched.size() + ")" );
+    }
+}
@@ -0,0 +1,573 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
+import com.micatechnologies.minecraft.launcher.files.Logger;
+import com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Finds classes and packages that more than one jar on a launch provides —
+ * the usual fallout of two mods shading the same library, or of a mod
+ * shipping classes into another mod's package. Either one can crash the
+ * game outright (a module layer refuses split packages) or, worse, load
+ * whichever copy happens to win and fail much later.
+ *
+ * <p>Only each jar's central directory is read — entry names, nothing
+ * inflated. Every class name and package name is reduced to a 64-bit hash
+ * and merged through primitive open-addressing tables, so a pack of a few
+ * hundred jars is indexed in well under a second; names are only
+ * recovered for the jars that actually overlap. Per-jar hashes are cached
+ * for the session keyed by path, size and modified time, so repeat runs only
+ * re-read jars that changed.</p>
+ *
+ * <p>Findings are warnings, not launch blockers: some overlaps are
+ * deliberate (a library and its own compatibility shim) and the
+ * classloader tolerates them.</p>
+ *
+ * @since 2026.7
+ */
+public final class ClassOverlapDetector
+{
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ClassOverlapDetector() { /* static-only */ }
+
+    /**
+     * Classes two jars both provide.
+     *
+     * @param firstJar  filename of the jar seen first (classpath order, then {@code mods/})
+     * @param secondJar filename of the other jar
+     * @param count     how many classes the two share
+     * @param examples  a few of the shared class names, dotted
+     *
+     * @since 2026.7
+     */
+    public record DuplicateClasses( String firstJar, String secondJar, int count, List< String > examples ) { }
+
+    /**
+     * A package whose (distinct) classes come from more than one jar.
+     *
+     * @param packageName the package, dotted
+     * @param jars        filenames of the jars contributing classes to it
+     *
+     * @since 2026.7
+     */
+    public record SplitPackage( String packageName, List< String > jars ) { }
+
+    /**
+     * The result of a scan.
+     *
+     * @param jarCount         how many jars were indexed
+     * @param duplicateClasses shared classes, grouped by jar pair, largest first
+     * @param splitPackages    split packages not already explained by a duplicate class
+     *
+     * @since 2026.7
+     */
+    public record Report( int jarCount, List< DuplicateClasses > duplicateClasses,
+                          List< SplitPackage > splitPackages )
+    {
+        /**
+         * Returns whether nothing overlaps.
+         *
+         * @return {@code true} when there are no findings
+         *
+         * @since 2026.7
+         */
+        public boolean isClean()
+        {
+            return duplicateClasses.isEmpty() && splitPackages.isEmpty();
+        }
+    }
+
+    /**
+     * One jar's class and package name hashes, each array sorted and distinct.
+     *
+     * @param size       the jar's size when read
+     * @param modifiedMs the jar's modified time when read
+     * @param classes    hashes of the jar's class names
+     * @param packages   hashes of the packages those classes are in
+     */
+    record JarClasses( long size, long modifiedMs, long[] classes, long[] packages ) { }
+
+    /**
+     * Examples kept per duplicate-class group.
+     */
+    private static final int MAX_EXAMPLES = 3;
+
+    /**
+     * Findings of each kind written to the log; the rest are counted.
+     */
+    private static final int MAX_LOGGED = 15;
+
+    /**
+     * Jars whose central directories are read at once.
+     */
+    private static final int PARALLELISM = 8;
+
+    /**
+     * Session cache of per-jar hashes, keyed by absolute path.
+     */
+    private static final Map< String, JarClasses > cache = new ConcurrentHashMap<>();
+
+    /**
+     * Scans a launch — the classpath the game JVM gets plus the pack's
+     * enabled {@code mods/} jars — and logs what overlaps. Called after a
+     * FULL verify, when every jar on the launch has just been checked.
+     *
+     * @param pack      the pack being verified
+     * @param classpath the merged classpath, entries joined by {@link File#pathSeparator}
+     *
+     * @return the report
+     *
+     * @since 2026.7
+     */
+    public static Report scanLaunch( GameModPack pack, String classpath )
+    {
+        Set< Path > jars = new LinkedHashSet<>();
+        if ( classpath != null && !classpath.isEmpty() ) {
+            for ( String entry : classpath.split( File.pathSeparator ) ) {
+                if ( entry.toLowerCase( Locale.ROOT ).endsWith( ".jar" ) ) {
+                    jars.add( Path.of( entry ).toAbsolutePath().normalize() );
+                }
+            }
+        }
+        if ( pack.getPackRootFolder() != null ) {
+            Path mods = Path.of( pack.getPackRootFolder(), "mods" );
+            if ( Files.isDirectory( mods ) ) {
+                try ( DirectoryStream< Path > dir = Files.newDirectoryStream( mods, "*.{jar,JAR}" ) ) {
+                    List< Path > modJars = new ArrayList<>();
+                    for ( Path p : dir ) {
+                        modJars.add( p.toAbsolutePath().normalize() );
+                    }
+                    modJars.sort( null );
+                    jars.addAll( modJars );
+                }
+                catch ( IOException e ) {
+                    Logger.logWarningSilent( LocalizationManager.format( "log.classOverlap.readFailed", mods,
+                                                                         e.getMessage() ) );
+                }
+            }
+        }
+
+        long start = System.nanoTime();
+        Report report = scan( new ArrayList<>( jars ) );
+        Logger.logDebug( LocalizationManager.format( "log.classOverlap.scanned", pack.getPackName(),
+                                                     report.jarCount(),
+                                                     ( System.nanoTime() - start ) / 1_000_000L ) );
+        log( pack, report );
+        return report;
+    }
+
+    /**
+     * Indexes the given jars and reports their overlaps. Jars that don't
+     * exist or can't be read are skipped (and logged).
+     *
+     * @param jars the jars, in classpath order; the first jar to provide a
+     *             class is reported as {@link DuplicateClasses#firstJar()}
+     *
+     * @return the report
+     *
+     * @since 2026.7
+     */
+    static Report scan( List< Path > jars )
+    {
+        JarClasses[] indexed = new JarClasses[ jars.size() ];
+        List< Integer > slots = new ArrayList<>( jars.size() );
+        for ( int i = 0; i < jars.size(); i++ ) {
+            slots.add( i );
+        }
+        try {
+            LauncherExecutors.forEach( LauncherExecutors.Workload.IO, slots, PARALLELISM,
+                                       i -> indexed[ i ] = classesOf( jars.get( i ) ) );
+        }
+        catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            return new Report( 0, List.of(), List.of() );
+        }
+
+        // Merge: class hash -> first owner, package hash -> first owner. A hit
+        // with a different owner is recorded as (hash, first owner, this jar).
+        int totalClasses = 0;
+        int totalPackages = 0;
+        int jarCount = 0;
+        for ( JarClasses jc : indexed ) {
+            if ( jc != null ) {
+                totalClasses += jc.classes().length;
+                totalPackages += jc.packages().length;
+                jarCount++;
+            }
+        }
+        LongIntTable classOwners = new LongIntTable( totalClasses );
+        LongIntTable packageOwners = new LongIntTable( totalPackages );
+        Hits dupHits = new Hits();
+        Hits splitHits = new Hits();
+        for ( int j = 0; j < indexed.length; j++ ) {
+            if ( indexed[ j ] == null ) {
+                continue;
+            }
+            for ( long h : indexed[ j ].classes() ) {
+                int owner = classOwners.putIfAbsent( h, j );
+                if ( owner >= 0 && owner != j ) {
+                    dupHits.add( h, owner, j );
+                }
+            }
+            for ( long h : indexed[ j ].packages() ) {
+                int owner = packageOwners.putIfAbsent( h, j );
+                if ( owner >= 0 && owner != j ) {
+                    splitHits.add( h, owner, j );
+                }
+            }
+        }
+        if ( dupHits.size == 0 && splitHits.size == 0 ) {
+            return new Report( jarCount, List.of(), List.of() );
+        }
+
+        // Recover names, reading only the jars involved and keeping only the hashes hit.
+        Map< Integer, Set< Long > > wanted = new HashMap<>();
+        for ( Hits hits : List.of( dupHits, splitHits ) ) {
+            for ( int k = 0; k < hits.size; k++ ) {
+                wanted.computeIfAbsent( hits.first[ k ], x -> new HashSet<>() ).add( hits.hash[ k ] );
+            }
+        }
+        Map< Long, String > names = new HashMap<>();
+        for ( Map.Entry< Integer, Set< Long > > e : wanted.entrySet() ) {
+            resolveNames( jars.get( e.getKey() ), e.getValue(), names );
+        }
+
+        Map< String, DuplicateBuilder > dupGroups = new LinkedHashMap<>();
+        Set< String > explained = new HashSet<>();
+        for ( int k = 0; k < dupHits.size; k++ ) {
+            String name = names.get( dupHits.hash[ k ] );
+            if ( name == null ) {
+                continue; // hash collision with a name the first jar doesn't have — vanishingly rare
+            }
+            String a = fileName( jars.get( dupHits.first[ k ] ) );
+            String b = fileName( jars.get( dupHits.second[ k ] ) );
+            dupGroups.computeIfAbsent( a + '\n' + b, x -> new DuplicateBuilder( a, b ) ).add( name );
+            int dot = name.lastIndexOf( '.' );
+            if ( dot > 0 ) {
+                explained.add( name.substring( 0, dot ) + '\n' + a + '\n' + b );
+            }
+        }
+        List< DuplicateClasses > duplicates = new ArrayList<>();
+        for ( DuplicateBuilder d : dupGroups.values() ) {
+            duplicates.add( new DuplicateClasses( d.first, d.second, d.count, List.copyOf( d.examples ) ) );
+        }
+        duplicates.sort( ( x, y ) -> Integer.compare( y.count(), x.count() ) );
+
+        Map< String, LinkedHashSet< String > > splitGroups = new LinkedHashMap<>();
+        for ( int k = 0; k < splitHits.size; k++ ) {
+            String pkg = names.get( splitHits.hash[ k ] );
+            String a = fileName( jars.get( splitHits.first[ k ] ) );
+            String b = fileName( jars.get( splitHits.second[ k ] ) );
+            if ( pkg == null || explained.contains( pkg + '\n' + a + '\n' + b ) ) {
+                continue;
+            }
+            LinkedHashSet< String > owners = splitGroups.computeIfAbsent( pkg, x -> new LinkedHashSet<>() );
+            owners.add( a );
+            owners.add( b );
+        }
+        List< SplitPackage > splits = new ArrayList<>();
+        for ( Map.Entry< String, LinkedHashSet< String > > e : splitGroups.entrySet() ) {
+            splits.add( new SplitPackage( e.getKey(), List.copyOf( e.getValue() ) ) );
+        }
+        return new Report( jarCount, List.copyOf( duplicates ), List.copyOf( splits ) );
+    }
+
+    private static void log( GameModPack pack, Report report )
+    {
+        if ( report.isClean() ) {
+            return;
+        }
+        Logger.logWarning( LocalizationManager.format( "log.classOverlap.summary", pack.getPackName(),
+                                                       report.duplicateClasses().size(),
+                                                       report.splitPackages().size() ) );
+        int logged = 0;
+        for ( DuplicateClasses d : report.duplicateClasses() ) {
+            if ( logged++ == MAX_LOGGED ) {
+                break;
+            }
+            Logger.logWarning( LocalizationManager.format( "log.classOverlap.duplicate", d.count(), d.firstJar(),
+                                                           d.secondJar(), String.join( ", ", d.examples() ) ) );
+        }
+        logged = 0;
+        for ( SplitPackage s : report.splitPackages() ) {
+            if ( logged++ == MAX_LOGGED ) {
+                break;
+            }
+            Logger.logWarning( LocalizationManager.format( "log.classOverlap.splitPackage", s.packageName(),
+                                                           String.join( ", ", s.jars() ) ) );
+        }
+        int more = Math.max( 0, report.duplicateClasses().size() - MAX_LOGGED )
+                + Math.max( 0, report.splitPackages().size() - MAX_LOGGED );
+        if ( more > 0 ) {
+            Logger.logWarning( LocalizationManager.format( "log.classOverlap.more", more ) );
+        }
+    }
+
+    // ====================================================================
+    // Per-jar index
+    // ====================================================================
+
+    /**
+     * Returns a jar's class and package hashes, from the session cache when
+     * the jar is unchanged.
+     */
+    private static JarClasses classesOf( Path jar )
+    {
+        long size;
+        long modified;
+        try {
+            size = Files.size( jar );
+            modified = Files.getLastModifiedTime( jar ).toMillis();
+        }
+        catch ( IOException e ) {
+            return null;
+        }
+        String key = jar.toString();
+        JarClasses cached = cache.get( key );
+        if ( cached != null && cached.size() == size && cached.modifiedMs() == modified ) {
+            return cached;
+        }
+        long[] classes;
+        long[] packages;
+        try ( ZipFile zip = new ZipFile( jar.toFile() ) ) {
+            classes = new long[ zip.size() ];
+            packages = new long[ zip.size() ];
+            int n = 0;
+            int p = 0;
+            for ( Enumeration< ? extends ZipEntry > e = zip.entries(); e.hasMoreElements(); ) {
+                String name = e.nextElement().getName();
+                if ( !isIndexedClass( name ) ) {
+                    continue;
+                }
+                classes[ n++ ] = hash( name, 0, name.length() - ".class".length() );
+                int slash = name.lastIndexOf( '/' );
+                if ( slash > 0 ) {
+                    packages[ p++ ] = hash( name, 0, slash );
+                }
+            }
+            classes = distinct( classes, n );
+            packages = distinct( packages, p );
+        }
+        catch ( IOException e ) {
+            Logger.logWarningSilent( LocalizationManager.format( "log.classOverlap.readFailed", jar.getFileName(),
+                                                                 e.getMessage() ) );
+            return null;
+        }
+        JarClasses fresh = new JarClasses( size, modified, classes, packages );
+        cache.put( key, fresh );
+        return fresh;
+    }
+
+    /**
+     * Reads a jar's entry names again and records the class or package name
+     * behind each wanted hash.
+     */
+    private static void resolveNames( Path jar, Set< Long > wanted, Map< Long, String > names )
+    {
+        try ( ZipFile zip = new ZipFile( jar.toFile() ) ) {
+            for ( Enumeration< ? extends ZipEntry > e = zip.entries(); e.hasMoreElements(); ) {
+                String name = e.nextElement().getName();
+                if ( !isIndexedClass( name ) ) {
+                    continue;
+                }
+                int end = name.length() - ".class".length();
+                long h = hash( name, 0, end );
+                if ( wanted.contains( h ) ) {
+                    names.putIfAbsent( h, name.substring( 0, end ).replace( '/', '.' ) );
+                }
+                int slash = name.lastIndexOf( '/' );
+                if ( slash > 0 ) {
+                    long ph = hash( name, 0, slash );
+                    if ( wanted.contains( ph ) ) {
+                        names.putIfAbsent( ph, name.substring( 0, slash ).replace( '/', '.' ) );
+                    }
+                }
+            }
+        }
+        catch ( IOException e ) {
+            Logger.logWarningSilent( LocalizationManager.format( "log.classOverlap.readFailed", jar.getFileName(),
+                                                                 e.getMessage() ) );
+        }
+    }
+
+    /**
+     * Class entries that take part: not multi-release copies or other
+     * {@code META-INF} content, and not {@code module-info}, which every
+     * modular jar has.
+     */
+    private static boolean isIndexedClass( String name )
+    {
+        return name.endsWith( ".class" ) && !name.startsWith( "META-INF/" )
+                && !name.endsWith( "module-info.class" );
+    }
+
+    /**
+     * 64-bit FNV-1a over {@code s[from, to)}, finished with a murmur3 mix so
+     * similar names spread across the table. Never returns 0 (the table's
+     * empty marker).
+     */
+    static long hash( String s, int from, int to )
+    {
+        long h = 0xcbf29ce484222325L;
+        for ( int i = from; i < to; i++ ) {
+            h ^= s.charAt( i );
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h == 0 ? 1 : h;
+    }
+
+    private static long[] distinct( long[] values, int n )
+    {
+        Arrays.sort( values, 0, n );
+        int out = 0;
+        for ( int i = 0; i < n; i++ ) {
+            if ( out == 0 || values[ out - 1 ] != values[ i ] ) {
+                values[ out++ ] = values[ i ];
+            }
+        }
+        return Arrays.copyOf( values, out );
+    }
+
+    private static String fileName( Path jar )
+    {
+        return jar.getFileName().toString();
+    }
+
+    // ====================================================================
+    // Primitive tables
+    // ====================================================================
+
+    /**
+     * Open-addressing {@code long -> int} map with linear probing, sized up
+     * front so it never rehashes. Keys are non-zero hashes; 0 marks an empty
+     * slot.
+     */
+    static final class LongIntTable
+    {
+        private final long[] keys;
+        private final int[] values;
+        private final int mask;
+
+        /**
+         * Creates a table for up to {@code expected} keys at a load factor of
+         * at most one half.
+         */
+        LongIntTable( int expected )
+        {
+            int capacity = Integer.highestOneBit( Math.max( 4, expected ) * 2 - 1 ) << 1;
+            keys = new long[ capacity ];
+            values = new int[ capacity ];
+            mask = capacity - 1;
+        }
+
+        /**
+         * Maps {@code key} to {@code value} unless it's already mapped.
+         *
+         * @return the existing value, or {@code -1} if {@code key} was added
+         */
+        int putIfAbsent( long key, int value )
+        {
+            int i = (int) key & mask;
+            while ( keys[ i ] != 0 ) {
+                if ( keys[ i ] == key ) {
+                    return values[ i ];
+                }
+                i = ( i + 1 ) & mask;
+            }
+            keys[ i ] = key;
+            values[ i ] = value;
+            return -1;
+        }
+    }
+
+    /**
+     * Growable parallel arrays of {@code (hash, first owner, second owner)}.
+     */
+    private static final class Hits
+    {
+        long[] hash = new long[ 16 ];
+        int[] first = new int[ 16 ];
+        int[] second = new int[ 16 ];
+        int size;
+
+        void add( long h, int a, int b )
+        {
+            if ( size == hash.length ) {
+                hash = Arrays.copyOf( hash, size * 2 );
+                first = Arrays.copyOf( first, size * 2 );
+                second = Arrays.copyOf( second, size * 2 );
+            }
+            hash[ size ] = h;
+            first[ size ] = a;
+            second[ size ] = b;
+            size++;
+        }
+    }
+
+    /**
+     * Accumulates one jar pair's duplicate classes.
+     */
+    private static final class DuplicateBuilder
+    {
+        final String first;
+        final String second;
+        final List< String > examples = new ArrayList<>( MAX_EXAMPLES );
+        int count;
+
+        DuplicateBuilder( String first, String second )
+        {
+            this.first = first;
+            this.second = second;
+        }
+
+        void add( String className )
+        {
+            count++;
+            if ( examples.size() < MAX_EXAMPLES ) {
+                examples.add( className );
+            }
+        }
+    }
+}
@@ -0,0 +1,497 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
+import com.micatechnologies.minecraft.launcher.files.Logger;
+import com.micatechnologies.minecraft.launcher.utilities.JSONUtilities;
+import com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persisted tree of directory sizes for a pack folder, so the detail modal,
+ * uninstall prompt and export dialog can show how much space a pack (and each
+ * world, mods folder, backup store, …) takes without re-walking multi-GB saves
+ * on every open.
+ *
+ * <p>Each node records its directory's mtime, the bytes and count of the
+ * files directly inside it, and its subtree totals. A refresh revisits the
+ * tree one directory at a time:</p>
+ *
+ * <ul>
+ *   <li>A directory whose mtime is unchanged has the same entries as last
+ *       time, so its file totals are reused and only its subfolders are
+ *       stat-ed — one stat per directory instead of one per file.</li>
+ *   <li>A directory whose mtime moved (a world created or deleted, a mod
+ *       toggled, a backup written) has its entries re-read.</li>
+ *   <li>Files rewritten in place — region files, logs — don't touch their
+ *       folder's mtime. The game is what writes those, so every session end
+ *       ({@link #markPlayed}) makes the next refresh re-stat every file, as
+ *       does an index older than {@link #MAX_SHALLOW_AGE_MS}.</li>
+ * </ul>
+ *
+ * <p>Top-level folders are refreshed in parallel. Symlinks aren't followed
+ * and unreadable entries are skipped: sizes are informational, not
+ * load-bearing. Stored as JSON at {@code <packRoot>/.disk_usage.json} next to
+ * the other pack sidecars.</p>
+ *
+ * @since 2026.7
+ */
+public final class DiskUsageIndex
+{
+    /**
+     * Private constructor to prevent instantiation of this static-only utility class.
+     */
+    private DiskUsageIndex() { /* static-only */ }
+
+    /** Sidecar filename in the pack root. Hidden by leading dot like the
+     *  other pack sidecars. */
+    public static final String INDEX_FILE = ".disk_usage.json";
+
+    /** Longest a refresh may trust unchanged folders' file totals before
+     *  re-stat-ing every file anyway, which bounds how long an in-place edit
+     *  made outside the game can go unnoticed. */
+    public static final long MAX_SHALLOW_AGE_MS = 24L * 60L * 60L * 1000L;
+
+    /** Refreshes closer together than this return the current snapshot, so a
+     *  section rendering several rows triggers one pass, not one per row. */
+    static final long REFRESH_DEBOUNCE_MS = 2000L;
+
+    /** On-disk format version; a mismatch discards the stored tree. */
+    static final int FORMAT = 1;
+
+    /** Concurrent top-level folder walks. */
+    private static final int PARALLELISM = 8;
+
+    /** One directory's totals. */
+    static final class Dir
+    {
+        /** Directory mtime, epoch millis, read before its entries were listed. */
+        long mtime;
+
+        /** Bytes of the regular files directly inside. */
+        long bytes;
+
+        /** Count of the regular files directly inside. */
+        long files;
+
+        /** {@link #bytes} plus every subfolder's {@link #totalBytes}. */
+        long totalBytes;
+
+        /** {@link #files} plus every subfolder's {@link #totalFiles}. */
+        long totalFiles;
+
+        /** Subfolders by name; {@code null} when there are none. */
+        Map< String, Dir > dirs;
+    }
+
+    /** On-disk shape of {@code .disk_usage.json}. */
+    static final class Store
+    {
+        int format = FORMAT;
+
+        /** Epoch millis the last refresh finished. */
+        long scannedAt;
+
+        /** Set when a game session ended after {@link #scannedAt}. */
+        boolean playedSince;
+
+        /** The pack root's node; {@code null} until the first refresh. */
+        Dir root;
+    }
+
+    /**
+     * Size of one folder — or, with a {@code null} name, of the files
+     * directly inside the folder being broken down.
+     *
+     * @param name  subfolder name, or {@code null} for the loose files
+     * @param bytes total bytes
+     * @param files total file count
+     */
+    public record Usage( String name, long bytes, long files ) {}
+
+    /**
+     * Read-only view of one refresh's results.
+     */
+    public static final class Snapshot
+    {
+        private final Dir  root;
+        private final long scannedAt;
+
+        private Snapshot( Dir root, long scannedAt )
+        {
+            this.root = root;
+            this.scannedAt = scannedAt;
+        }
+
+        /**
+         * @return epoch millis the refresh behind this snapshot finished
+         */
+        public long scannedAt()
+        {
+            return scannedAt;
+        }
+
+        /**
+         * @return bytes under the pack root
+         */
+        public long totalBytes()
+        {
+            return root.totalBytes;
+        }
+
+        /**
+         * @return regular files under the pack root
+         */
+        public long totalFiles()
+        {
+            return root.totalFiles;
+        }
+
+        /**
+         * Looks up a folder's total size.
+         *
+         * @param relPath pack-relative folder path, {@code /}-separated; empty for the root
+         *
+         * @return total bytes, or {@code -1} when the folder wasn't indexed
+         */
+        public long bytes( String relPath )
+        {
+            Dir d = find( relPath );
+            return d == null ? -1 : d.totalBytes;
+        }
+
+        /**
+         * Breaks a folder down into its subfolders plus one {@code null}-named
+         * entry for the files directly inside it, largest first. Empty entries
+         * are left out.
+         *
+         * @param relPath pack-relative folder path, {@code /}-separated; empty for the root
+         *
+         * @return the breakdown, or an empty list when the folder wasn't indexed
+         */
+        public List< Usage > breakdown( String relPath )
+        {
+            Dir d = find( relPath );
+            if ( d == null ) return List.of();
+            List< Usage > out = new ArrayList<>();
+            if ( d.dirs != null ) {
+                d.dirs.forEach( ( name, child ) -> {
+                    if ( child.totalBytes > 0 ) out.add( new Usage( name, child.totalBytes, child.totalFiles ) );
+                } );
+            }
+            if ( d.bytes > 0 ) out.add( new Usage( null, d.bytes, d.files ) );
+            out.sort( Comparator.comparingLong( Usage::bytes ).reversed() );
+            return out;
+        }
+
+        private Dir find( String relPath )
+        {
+            Dir d = root;
+            if ( relPath == null || relPath.isEmpty() ) return d;
+            for ( String segment : relPath.split( "/" ) ) {
+                if ( segment.isEmpty() ) continue;
+                d = d.dirs == null ? null : d.dirs.get( segment );
+                if ( d == null ) return null;
+            }
+            return d;
+        }
+    }
+
+    /** Loaded stores keyed by absolute, normalized pack root. Each is also the
+     *  monitor serializing refreshes of its pack. */
+    private static final Map< Path, Store > STORES = new ConcurrentHashMap<>();
+
+    // ===== public API =====
+
+    /**
+     * Returns the pack's last indexed sizes without walking anything. Loads
+     * the sidecar on first use.
+     *
+     * @param pack the installed pack
+     *
+     * @return the snapshot, or {@code null} when the pack has never been indexed
+     */
+    public static Snapshot peek( GameModPack pack )
+    {
+        String root = pack == null ? null : pack.getPackRootFolder();
+        return root == null ? null : peek( Path.of( root ) );
+    }
+
+    /**
+     * Brings the pack's index up to date and returns it. Blocking — seconds
+     * for a first index of a large pack, usually milliseconds after that.
+     *
+     * @param pack the installed pack
+     *
+     * @return the refreshed snapshot, or {@code null} when the pack has no install folder
+     */
+    public static Snapshot refresh( GameModPack pack )
+    {
+        String root = pack == null ? null : pack.getPackRootFolder();
+        return root == null ? null : refresh( Path.of( root ), System.currentTimeMillis() );
+    }
+
+    /**
+     * Records that the game just ran in {@code packRoot}, so the next refresh
+     * re-stats files the game may have rewritten in place. Cheap; persists the
+     * flag only when an index exists.
+     *
+     * @param packRoot the pack root folder path
+     */
+    public static void markPlayed( String packRoot )
+    {
+        if ( packRoot == null ) return;
+        Path root = normalize( Path.of( packRoot ) );
+        Store store = load( root );
+        synchronized ( store ) {
+            if ( store.root == null || store.playedSince ) return;
+            store.playedSince = true;
+            save( root, store );
+        }
+    }
+
+    // ===== package-private core =====
+
+    static Snapshot peek( Path packRoot )
+    {
+        Store store = load( normalize( packRoot ) );
+        synchronized ( store ) {
+            return store.root == null ? null : new Snapshot( store.root, store.scannedAt );
+        }
+    }
+
+    static Snapshot refresh( Path packRoot, long now )
+    {
+        Path root = normalize( packRoot );
+        Store store = load( root );
+        synchronized ( store ) {
+            if ( store.root != null && !store.playedSince && now - store.scannedAt < REFRESH_DEBOUNCE_MS
+                    && now >= store.scannedAt ) {
+                return new Snapshot( store.root, store.scannedAt );
+            }
+            boolean deep = store.root == null || store.playedSince || now - store.scannedAt > MAX_SHALLOW_AGE_MS;
+            long started = System.nanoTime();
+            Dir fresh = refreshRoot( root, store.root, deep );
+            if ( fresh == null ) return null;
+            store.root = fresh;
+            store.scannedAt = now;
+            store.playedSince = false;
+            save( root, store );
+            Logger.logDebug( LocalizationManager.format( deep ? "log.diskUsage.rewalked" : "log.diskUsage.revalidated",
+                                                         root.getFileName(),
+                                                         ( System.nanoTime() - started ) / 1_000_000L,
+                                                         fresh.totalFiles, fresh.totalBytes ) );
+            return new Snapshot( fresh, now );
+        }
+    }
+
+    /**
+     * Refreshes the root like {@link #refreshDir}, but with its subfolders
+     * fanned out across {@link #PARALLELISM} workers.
+     */
+    private static Dir refreshRoot( Path root, Dir old, boolean deep )
+    {
+        Dir node = new Dir();
+        List< Path > subdirs = new ArrayList<>();
+        try {
+            node.mtime = Files.readAttributes( root, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS )
+                              .lastModifiedTime().toMillis();
+            listInto( root, node, subdirs );
+        }
+        catch ( IOException e ) {
+            Logger.logWarningSilent( LocalizationManager.format( "log.diskUsage.indexFailed", root,
+                                                                 e.getClass().getSimpleName() ) );
+            return null;
+        }
+        Map< String, Dir > children = new ConcurrentHashMap<>();
+        try {
+            LauncherExecutors.forEach( LauncherExecutors.Workload.IO, subdirs, PARALLELISM, dir -> {
+                String name = dir.getFileName().toString();
+                Dir child = refreshDir( dir, childOf( old, name ), deep );
+                if ( child != null ) children.put( name, child );
+            } );
+        }
+        catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        attach( node, new HashMap<>( children ) );
+        return node;
+    }
+
+    /**
+     * Returns the up-to-date node for {@code dir}, reusing {@code old}'s file
+     * totals when {@code deep} is off and the directory's mtime hasn't moved.
+     *
+     * @return the node, or {@code null} when the directory is gone or unreadable
+     */
+    static Dir refreshDir( Path dir, Dir old, boolean deep )
+    {
+        Dir node = new Dir();
+        List< Path > subdirs = new ArrayList<>();
+        try {
+            BasicFileAttributes attrs = Files.readAttributes( dir, BasicFileAttributes.class,
+                                                              LinkOption.NOFOLLOW_LINKS );
+            if ( !attrs.isDirectory() ) return null;
+            node.mtime = attrs.lastModifiedTime().toMillis();
+            if ( !deep && old != null && old.mtime == node.mtime ) {
+                // Same entries as last time: keep the file totals, recheck only the subfolders.
+                node.bytes = old.bytes;
+                node.files = old.files;
+                if ( old.dirs != null ) {
+                    old.dirs.keySet().forEach( name -> subdirs.add( dir.resolve( name ) ) );
+                }
+            }
+            else {
+                listInto( dir, node, subdirs );
+            }
+        }
+        catch ( IOException e ) {
+            // Deleted mid-walk or unreadable: leave it out rather than fail the pass.
+            return null;
+        }
+        Map< String, Dir > children = new HashMap<>();
+        for ( Path sub : subdirs ) {
+            String name = sub.getFileName().toString();
+            Dir child = refreshDir( sub, childOf( old, name ), deep );
+            if ( child != null ) children.put( name, child );
+        }
+        attach( node, children );
+        return node;
+    }
+
+    /** Sums the regular files directly inside {@code dir} into {@code node}
+     *  and collects its subfolders. Unreadable entries are skipped. */
+    private static void listInto( Path dir, Dir node, List< Path > subdirs ) throws IOException
+    {
+        try ( DirectoryStream< Path > entries = Files.newDirectoryStream( dir ) ) {
+            for ( Path entry : entries ) {
+                // Our own sidecar (and its temp files) would move the total on every save.
+                if ( entry.getFileName().toString().startsWith( INDEX_FILE ) ) continue;
+                BasicFileAttributes attrs;
+                try {
+                    attrs = Files.readAttributes( entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS );
+                }
+                catch ( IOException e ) {
+                    continue;
+                }
+                if ( attrs.isDirectory() ) {
+                    subdirs.add( entry );
+                }
+                else if ( attrs.isRegularFile() ) {
+                    node.bytes += attrs.size();
+                    node.files++;
+                }
+            }
+        }
+    }
+
+    private static Dir childOf( Dir parent, String name )
+    {
+        return parent == null || parent.dirs == null ? null : parent.dirs.get( name );
+    }
+
+    private static void attach( Dir node, Map< String, Dir > children )
+    {
+        node.totalBytes = node.bytes;
+        node.totalFiles = node.files;
+        for ( Dir child : children.values() ) {
+            node.totalBytes += child.totalBytes;
+            node.totalFiles += child.totalFiles;
+        }
+        node.dirs = children.isEmpty() ? null : children;
+    }
+
+    // ===== persistence =====
+
+    private static Path normalize( Path root )
+    {
+        return root.toAbsolutePath().normalize();
+    }
+
+    private static Store load( Path root )
+    {
+        return STORES.computeIfAbsent( root, DiskUsageIndex::read );
+    }
+
+    /** Reads {@code <root>/.disk_usage.json}, or an empty store on any failure. */
+    private static Store read( Path root )
+    {
+        Path p = root.resolve( INDEX_FILE );
+        try {
+            if ( Files.isRegularFile( p ) ) {
+                Store store = JSONUtilities.getGson().fromJson( Files.readString( p, StandardCharsets.UTF_8 ),
+                                                                Store.class );
+                if ( store != null && store.format == FORMAT ) return store;
+            }
+        }
+        catch ( Exception e ) {
+            Logger.logWarningSilent( LocalizationManager.format( "log.diskUsage.loadFailed", p,
+                                                                 e.getClass().getSimpleName() ) );
+        }
+        return new Store();
+    }
+
+    /** Writes the sidecar via a temp file + atomic move. I/O failures are
+     *  logged and swallowed; the worst outcome is a full walk next time. */
+    private static void save( Path root, Store store )
+    {
+        Path p = root.resolve( INDEX_FILE );
+        try {
+            Path tmp = Files.createTempFile( root, INDEX_FILE, ".tmp" );
+            try {
+                Files.writeString( tmp, JSONUtilities.getGson().toJson( store ), StandardCharsets.UTF_8 );
+                try {
+                    Files.move( tmp, p, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+                }
+                catch ( AtomicMoveNotSupportedException e ) {
+                    Files.move( tmp, p, StandardCopyOption.REPLACE_EXISTING );
+                }
+            }
+            finally {
+                Files.deleteIfExists( tmp );
+            }
+        }
+        catch ( IOException e ) {
+            Logger.logWarningSilent( LocalizationManager.format( "log.diskUsage.saveFailed", p,
+                                                                 e.getClass().getSimpleName() ) );
+        }
+    }
+
+    /** Test seam: forgets loaded stores so the next lookup reloads from disk. */
+    static void dropCachedState()
+    {
+        STORES.clear();
+    }
+}
@@ -31,12 +31,12 @@ class GameAsset extends ManagedGameFile
     /**
      * Flag for client required
      */
-    private final boolean clientReq;
+    final boolean clientReq;
 
     /**
      * Flag for server required
      */
-    private final boolean serverReq;
+    final boolean serverReq;
 
     /**
      * Create an MCForgeAsset object using the specified remote URL and local file path.
@@ -86,6 +86,21 @@ class GameAsset extends ManagedGameFile
      *
      * @throws ModpackException if update fails
      */
+    /**
+     * Restores an asset read back from a {@link ManifestSnapshot}.
+     *
+     * @param raw       the manifest file fields, verbatim
+     * @param clientReq whether the asset is required in client mode
+     * @param serverReq whether the asset is required in server mode
+     *
+     * @since 2026.7
+     */
+    GameAsset( ManifestSnapshot.FileFields raw, boolean clientReq, boolean serverReq ) {
+        super( raw );
+        this.clientReq = clientReq;
+        this.serverReq = serverReq;
+    }
+
     void updateLocalFile( GameMode gameAppMode ) throws ModpackException {
         if ( isRequiredFor( gameAppMode ) ) {
             super.updateLocalFile();
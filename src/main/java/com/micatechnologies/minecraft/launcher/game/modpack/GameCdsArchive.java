@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
+import com.micatechnologies.minecraft.launcher.files.LocalPathManager;
+import com.micatechnologies.minecraft.launcher.files.Logger;
+import com.micatechnologies.minecraft.launcher.utilities.HashUtilities;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-pack dynamic class-data-sharing archive for the game JVM.
+ * <p>
+ * Every launch of a pack loads the same tens of thousands of classes from the
+ * same classpath. With the archive enabled, the first launch after the
+ * classpath, runtime or JVM flags change dumps the loaded classes at exit, and
+ * later launches map them straight from the archive instead of parsing and
+ * verifying them again.
+ * <p>
+ * The archive is keyed by a hash of the Java executable, its version, the
+ * classpath with each entry's size and modification time, and the JVM options
+ * ahead of the main class, so any change to those — including a mod jar
+ * replaced in place under the same name — starts a fresh archive and drops
+ * the stale one. On Java 19+ the JVM
+ * validates the archive itself and silently regenerates a rejected one
+ * ({@code -XX:+AutoCreateSharedArchive}); on 13–18 an unusable archive is
+ * ignored under the default {@code -Xshare:auto} and the game starts normally.
+ * Older runtimes (Java 8 packs) are left alone.
+ *
+ * @since 2026.7
+ */
+final class GameCdsArchive
+{
+    /**
+     * Folder under the launcher metadata folder holding the archives, so they
+     * never show up as pack content.
+     */
+    private static final String ARCHIVE_FOLDER = "game_cds";
+
+    /**
+     * Archive file extension.
+     */
+    private static final String ARCHIVE_EXTENSION = ".jsa";
+
+    /**
+     * First Java release supporting dynamic archives ({@code ArchiveClassesAtExit}).
+     */
+    static final int MIN_DYNAMIC_ARCHIVE_VERSION = 13;
+
+    /**
+     * First Java release supporting {@code -XX:+AutoCreateSharedArchive}.
+     */
+    static final int MIN_AUTO_CREATE_VERSION = 19;
+
+    private GameCdsArchive() { /* static-only */ }
+
+    /**
+     * Returns the JVM flags that use (or create) the pack's archive, or an empty
+     * list when the runtime can't use one or the user already manages sharing
+     * through their own JVM arguments.
+     *
+     * @param pack         the pack being launched
+     * @param javaPath     the Java executable that will run the game
+     * @param javaVersion  that executable's version string, may be {@code null}
+     * @param javaMajor    that executable's major version
+     * @param classpath    the final game classpath
+     * @param jvmArgs      the JVM options so far, ahead of the main class
+     *
+     * @return the flags to insert ahead of the main class
+     */
+    static List< String > flags( GameModPack pack, String javaPath, String javaVersion, int javaMajor,
+                                 String classpath, List< String > jvmArgs )
+    {
+        if ( javaMajor < MIN_DYNAMIC_ARCHIVE_VERSION || managesSharing( jvmArgs ) ) {
+            return List.of();
+        }
+        Path folder = Path.of( LocalPathManager.getLauncherMetadataFolderPath(), ARCHIVE_FOLDER );
+        String prefix = packPrefix( pack.getPackRootFolder() );
+        String name = prefix + "-" + key( javaPath, javaVersion, classpath, jvmArgs ) + ARCHIVE_EXTENSION;
+        Path archive = folder.resolve( name );
+        try {
+            Files.createDirectories( folder );
+            dropStale( folder, prefix, name );
+        }
+        catch ( IOException e ) {
+            Logger.logWarningSilent( LocalizationManager.format( "log.gameCdsArchive.unavailable", e.getMessage() ) );
+            return List.of();
+        }
+        boolean exists = Files.isRegularFile( archive );
+        Logger.logDebug( LocalizationManager.format( exists ? "log.gameCdsArchive.using" : "log.gameCdsArchive.creating",
+                                                     archive ) );
+        return flagsFor( javaMajor, archive.toString(), exists );
+    }
+
+    /**
+     * Picks the archive flags for a runtime. Java 19+ hands the whole
+     * create/validate/regenerate cycle to the JVM; 13–18 maps an existing
+     * archive or dumps a new one at exit.
+     */
+    static List< String > flagsFor( int javaMajor, String archive, boolean exists )
+    {
+        if ( javaMajor >= MIN_AUTO_CREATE_VERSION ) {
+            return List.of( "-XX:+AutoCreateSharedArchive", "-XX:SharedArchiveFile=" + archive );
+        }
+        return exists
+               ? List.of( "-XX:SharedArchiveFile=" + archive )
+               : List.of( "-XX:ArchiveClassesAtExit=" + archive );
+    }
+
+    /**
+     * Hashes everything the JVM checks an archive against. Classpath entries
+     * contribute their size and modification time as well as their path: the
+     * JVM rejects an archive whose jars changed, and on 13–18 nothing would
+     * ever regenerate it. System properties ({@code -D…}) don't affect class
+     * loading and are skipped so a changed property doesn't throw the archive
+     * away.
+     */
+    static String key( String javaPath, String javaVersion, String classpath, List< String > jvmArgs )
+    {
+        StringBuilder material = new StringBuilder();
+        material.append( javaPath ).append( '\n' )
+                .append( javaVersion ).append( '\n' );
+        for ( String entry : classpath.split( File.pathSeparator ) ) {
+            File file = new File( entry );
+            material.append( entry ).append( '|' )
+                    .append( file.length() ).append( '|' )
+                    .append( file.lastModified() ).append( '\n' );
+        }
+        for ( String arg : jvmArgs ) {
+            if ( !arg.startsWith( "-D" ) ) {
+                material.append( arg ).append( '\n' );
+            }
+        }
+        return HashUtilities.sha256Hex( material.toString() ).substring( 0, 32 );
+    }
+
+    /**
+     * Whether the user's own JVM arguments already configure class-data
+     * sharing, in which case the launcher stays out of the way.
+     */
+    static boolean managesSharing( List< String > jvmArgs )
+    {
+        for ( String arg : jvmArgs ) {
+            if ( arg.startsWith( "-Xshare" )
+                    || arg.contains( "SharedArchiveFile" )
+                    || arg.contains( "ArchiveClassesAtExit" )
+                    || arg.startsWith( "-XX:AOTCache" )
+                    || arg.startsWith( "-XX:AOTMode" ) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String packPrefix( String packRoot )
+    {
+        return HashUtilities.sha256Hex( packRoot ).substring( 0, 12 );
+    }
+
+    /**
+     * Deletes this pack's archives other than the current one; they belong to
+     * an older classpath or runtime and would never be used again.
+     */
+    private static void dropStale( Path folder, String prefix, String keep ) throws IOException
+    {
+        List< Path > stale = new ArrayList<>();
+        try ( DirectoryStream< Path > files = Files.newDirectoryStream( folder, prefix + "-*" ) ) {
+            for ( Path file : files ) {
+                if ( !file.getFileName().toString().equals( keep ) ) {
+                    stale.add( file );
+                }
+            }
+        }
+        for ( Path file : stale ) {
+            try {
+                Files.deleteIfExists( file );
+            }
+            catch ( IOException e ) {
+                // Still mapped by a running instance on Windows; next launch retries.
+                Logger.logDebug( LocalizationManager.format( "log.gameCdsArchive.staleDeleteFailed", file,
+                                                             e.getMessage() ) );
+            }
+        }
+    }
+}
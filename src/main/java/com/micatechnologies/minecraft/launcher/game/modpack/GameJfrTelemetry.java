@@ -0,0 +1,583 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import com.micatechnologies.minecraft.launcher.config.ConfigManager;
+import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
+import com.micatechnologies.minecraft.launcher.files.Logger;
+import jdk.jfr.consumer.EventStream;
+import jdk.jfr.consumer.RecordedEvent;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+/**
+ * Live view of a running game JVM through JDK Flight Recorder. With the
+ * option enabled, launches start the game with a small continuous recording
+ * whose disk repository lives under the pack's {@code logs/jfr} folder; the
+ * launcher opens that repository with {@link EventStream#openRepository(Path)}
+ * while the game runs and folds the events into one {@link Sample} per flush
+ * (about a second). The console window and the TUI chart the samples, and a
+ * GC pause over the configured threshold raises a rate-limited lag alert.
+ * <p>
+ * Retention is bounded on both sides: the recording keeps at most
+ * {@link #RECORDING_MAX_AGE} / {@link #RECORDING_MAX_SIZE} on disk (JFR
+ * deletes the repository on a clean exit; leftovers from a crash are cleared
+ * by the next launch), and each session keeps the last {@link #MAX_SAMPLES}
+ * samples in memory.
+ *
+ * @since 2026.7
+ */
+public final class GameJfrTelemetry
+{
+    /**
+     * Telemetry folder, relative to the pack root.
+     */
+    private static final String FOLDER = "logs/jfr";
+
+    /**
+     * Recording settings written next to the repository on each launch.
+     */
+    private static final String SETTINGS_FILE = "launcher.jfc";
+
+    /**
+     * Repository base; the game JVM creates a {@code <timestamp>_<pid>} folder in it.
+     */
+    private static final String REPOSITORY_FOLDER = "repository";
+
+    /**
+     * Disk retention of the continuous recording.
+     */
+    private static final String RECORDING_MAX_AGE  = "5m";
+    private static final String RECORDING_MAX_SIZE = "64m";
+
+    /**
+     * First Java release with JFR event streaming.
+     */
+    static final int MIN_JAVA_VERSION = 14;
+
+    /**
+     * Samples kept per session: fifteen minutes at one per second.
+     */
+    static final int MAX_SAMPLES = 900;
+
+    /**
+     * Shortest spacing between samples.
+     */
+    private static final long MIN_SAMPLE_INTERVAL_MS = 900;
+
+    /**
+     * How long to wait for the game JVM to create its repository folder.
+     */
+    private static final long REPOSITORY_WAIT_MS = 30_000;
+
+    /**
+     * Minimum spacing between lag alerts, so a stuttering session raises one
+     * alert rather than one per second.
+     */
+    static final long ALERT_COOLDOWN_MS = 60_000;
+
+    /**
+     * Only the events the charts need, so the recording stays far below the
+     * overhead of the JDK's {@code default} profile.
+     */
+    private static final String SETTINGS = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <configuration version="2.0" label="Launcher telemetry" provider="Mica Technologies">
+              <event name="jdk.GarbageCollection">
+                <setting name="enabled">true</setting>
+                <setting name="threshold">0 ms</setting>
+              </event>
+              <event name="jdk.GCHeapSummary">
+                <setting name="enabled">true</setting>
+              </event>
+              <event name="jdk.SafepointBegin">
+                <setting name="enabled">true</setting>
+                <setting name="threshold">0 ms</setting>
+              </event>
+              <event name="jdk.CPULoad">
+                <setting name="enabled">true</setting>
+                <setting name="period">1 s</setting>
+              </event>
+              <event name="jdk.JavaThreadStatistics">
+                <setting name="enabled">true</setting>
+                <setting name="period">1 s</setting>
+              </event>
+            </configuration>
+            """;
+
+    /**
+     * One flush interval of telemetry.
+     *
+     * @param timeMs             when the sample was taken (epoch millis)
+     * @param pauseMaxMs         longest GC pause in the interval
+     * @param pauseTotalMs       total GC pause time in the interval
+     * @param heapAfterGcMb      heap occupancy after the most recent collection
+     * @param cpuJvmPercent      CPU used by the game JVM, as a share of the whole machine
+     * @param cpuMachinePercent  CPU used by the whole machine
+     * @param allocationMbPerSec allocation rate between the two most recent collections
+     * @param safepointMs        total time spent in safepoints in the interval
+     * @param threads            live Java threads
+     */
+    public record Sample( long timeMs, double pauseMaxMs, double pauseTotalMs, long heapAfterGcMb,
+                          double cpuJvmPercent, double cpuMachinePercent, double allocationMbPerSec,
+                          double safepointMs, long threads )
+    {
+    }
+
+    /**
+     * The charted series, in display order.
+     */
+    public enum Series
+    {
+        GC_PAUSE( "console.telemetry.series.gcPause", Sample::pauseMaxMs ),
+        HEAP_AFTER_GC( "console.telemetry.series.heapAfterGc", Sample::heapAfterGcMb ),
+        CPU( "console.telemetry.series.cpu", Sample::cpuJvmPercent ),
+        ALLOCATION( "console.telemetry.series.allocation", Sample::allocationMbPerSec ),
+        SAFEPOINT( "console.telemetry.series.safepoint", Sample::safepointMs ),
+        THREADS( "console.telemetry.series.threads", Sample::threads );
+
+        private final String                      labelKey;
+        private final ToDoubleFunction< Sample > value;
+
+        Series( String labelKey, ToDoubleFunction< Sample > value )
+        {
+            this.labelKey = labelKey;
+            this.value = value;
+        }
+
+        /**
+         * Formats a value of this series with its unit, e.g. {@code 12 ms}.
+         *
+         * @param sample the sample to read
+         *
+         * @return the localized label and value
+         */
+        public String format( Sample sample )
+        {
+            return LocalizationManager.format( labelKey, Math.round( value( sample ) ) );
+        }
+
+        /**
+         * Reads this series from a sample.
+         *
+         * @param sample the sample to read
+         *
+         * @return the value
+         */
+        public double value( Sample sample )
+        {
+            return value.applyAsDouble( sample );
+        }
+    }
+
+    /**
+     * Receives telemetry for one session. Called on the telemetry thread;
+     * UI listeners marshal onto their own thread.
+     */
+    public interface Listener
+    {
+        /**
+         * A new sample was added to the history.
+         *
+         * @param sample the sample
+         */
+        void onSample( Sample sample );
+
+        /**
+         * A pause crossed the lag alert threshold. Rate-limited to one per
+         * {@link #ALERT_COOLDOWN_MS}.
+         *
+         * @param sample the sample holding the pause
+         */
+        default void onLagAlert( Sample sample ) { }
+    }
+
+    private final String                     packName;
+    private final Process                    process;
+    private final int                        lagAlertMs;
+    private final SampleWindow               window    = new SampleWindow();
+    private final ArrayDeque< Sample >       history   = new ArrayDeque<>();
+    private final List< Listener >           listeners = new CopyOnWriteArrayList<>();
+    private volatile EventStream             stream;
+    private volatile boolean                 closed;
+    private long                             lastSampleMs;
+    private long                             lastAlertMs;
+
+    private GameJfrTelemetry( String packName, Process process, int lagAlertMs )
+    {
+        this.packName = packName;
+        this.process = process;
+        this.lagAlertMs = lagAlertMs;
+    }
+
+    /**
+     * Returns the JVM options that start the telemetry recording, after
+     * writing the recording settings and clearing repositories left behind by
+     * game processes that no longer exist. Empty when the option is off or the
+     * runtime can't stream (Java 8 and 11 packs).
+     *
+     * @param packRoot  the pack root folder
+     * @param javaMajor the Java major version the game runs on
+     *
+     * @return the options to add ahead of the main class
+     */
+    static List< String > launchArgs( String packRoot, int javaMajor )
+    {
+        if ( !ConfigManager.getGameJfrTelemetryEnable() || javaMajor < MIN_JAVA_VERSION ) {
+            return List.of();
+        }
+        Path folder = Path.of( packRoot, FOLDER );
+        Path settings = folder.resolve( SETTINGS_FILE );
+        Path repository = folder.resolve( REPOSITORY_FOLDER );
+        // The -XX option parsers split on commas with no escaping.
+        if ( folder.toString().indexOf( ',' ) >= 0 ) {
+            Logger.logWarningSilent( LocalizationManager.format( "log.gameJfrTelemetry.unsupportedPath", folder ) );
+            return List.of();
+        }
+        try {
+            Files.createDirectories( repository );
+            Files.writeString( settings, SETTINGS, StandardCharsets.UTF_8 );
+            clearStaleRepositories( repository );
+        }
+        catch ( IOException e ) {
+            Logger.logWarningSilent( LocalizationManager.format( "log.gameJfrTelemetry.unavailable", e.getMessage() ) );
+            return List.of();
+        }
+        return List.of( "-XX:FlightRecorderOptions=repository=" + repository,
+                        "-XX:StartFlightRecording=settings=" + settings + ",disk=true,maxage=" + RECORDING_MAX_AGE
+                                + ",maxsize=" + RECORDING_MAX_SIZE );
+    }
+
+    /**
+     * Starts streaming telemetry from a game launched with {@link #launchArgs}.
+     * Streaming runs on its own daemon thread and stops when the process exits.
+     *
+     * @param pack    the pack the process belongs to
+     * @param process the game process
+     *
+     * @return the session's telemetry, or {@code null} when the option is off
+     */
+    public static GameJfrTelemetry attach( GameModPack pack, Process process )
+    {
+        if ( process == null || !ConfigManager.getGameJfrTelemetryEnable() ) {
+            return null;
+        }
+        Path repository = Path.of( pack.getPackRootFolder(), FOLDER, REPOSITORY_FOLDER );
+        if ( !Files.isDirectory( repository ) ) {
+            return null;
+        }
+        GameJfrTelemetry telemetry = new GameJfrTelemetry( pack.getPackName(), process,
+                                                           ConfigManager.getGameJfrLagAlertMs() );
+        Thread thread = new Thread( () -> telemetry.run( repository ),
+                                    "game-jfr-telemetry-" + pack.getPackSanitizedName() );
+        thread.setDaemon( true );
+        thread.start();
+        process.onExit().thenRun( telemetry::close );
+        return telemetry;
+    }
+
+    /**
+     * Registers a listener for this session's samples and alerts.
+     *
+     * @param listener the listener
+     */
+    public void addListener( Listener listener )
+    {
+        listeners.add( listener );
+    }
+
+    /**
+     * Removes a listener registered with {@link #addListener}.
+     *
+     * @param listener the listener
+     */
+    public void removeListener( Listener listener )
+    {
+        listeners.remove( listener );
+    }
+
+    /**
+     * Returns this session's retained samples, oldest first.
+     *
+     * @return a copy of the history
+     */
+    public List< Sample > history()
+    {
+        synchronized ( history ) {
+            return new ArrayList<>( history );
+        }
+    }
+
+    /**
+     * Stops streaming. Called automatically when the game exits.
+     */
+    public void close()
+    {
+        closed = true;
+        EventStream current = stream;
+        if ( current != null ) {
+            current.close();
+        }
+    }
+
+    private void run( Path repositoryBase )
+    {
+        Path repository = awaitRepository( repositoryBase );
+        if ( repository == null ) {
+            if ( !closed ) {
+                Logger.logDebug( LocalizationManager.format( "log.gameJfrTelemetry.noRepository", process.pid() ) );
+            }
+            return;
+        }
+        try ( EventStream events = EventStream.openRepository( repository ) ) {
+            stream = events;
+            // From the start of the recording, so the loading-screen collections are charted too.
+            events.setStartTime( Instant.EPOCH );
+            events.onEvent( "jdk.GarbageCollection",
+                            e -> window.pause( millis( e.getDuration( "longestPause" ) ),
+                                               millis( e.getDuration( "sumOfPauses" ) ) ) );
+            events.onEvent( "jdk.GCHeapSummary",
+                            e -> window.heap( "Before GC".equals( e.getString( "when" ) ), e.getLong( "heapUsed" ),
+                                              e.getStartTime().toEpochMilli() ) );
+            events.onEvent( "jdk.SafepointBegin", e -> window.safepoint( millis( e.getDuration() ) ) );
+            events.onEvent( "jdk.CPULoad", this::cpu );
+            events.onEvent( "jdk.JavaThreadStatistics", e -> window.threads( e.getLong( "activeCount" ) ) );
+            events.onFlush( this::flushed );
+            if ( !closed ) {
+                Logger.logDebug( LocalizationManager.format( "log.gameJfrTelemetry.streaming", repository ) );
+                events.start();
+            }
+        }
+        catch ( IOException | RuntimeException e ) {
+            // The JVM deletes its repository on exit, which can surface here
+            // mid-read; only a failure while the game still runs is news.
+            if ( !closed && process.isAlive() ) {
+                Logger.logWarningSilent( LocalizationManager.format( "log.gameJfrTelemetry.streamFailed",
+                                                                     e.getMessage() ) );
+            }
+        }
+    }
+
+    /**
+     * The stream can flush several times a second (one per chunk segment);
+     * closely spaced flushes are folded into the next sample so the charts
+     * keep a steady one-second step.
+     */
+    private void flushed()
+    {
+        long now = System.currentTimeMillis();
+        if ( now - lastSampleMs >= MIN_SAMPLE_INTERVAL_MS ) {
+            lastSampleMs = now;
+            publish( window.drain( now ) );
+        }
+    }
+
+    private void cpu( RecordedEvent event )
+    {
+        window.cpu( event.getFloat( "jvmUser" ) + event.getFloat( "jvmSystem" ),
+                    event.getFloat( "machineTotal" ) );
+    }
+
+    /**
+     * Adds a sample to the history, notifies listeners and raises a lag alert
+     * when the interval's longest pause crossed the threshold.
+     */
+    private void publish( Sample sample )
+    {
+        synchronized ( history ) {
+            history.addLast( sample );
+            while ( history.size() > MAX_SAMPLES ) {
+                history.pollFirst();
+            }
+        }
+        for ( Listener listener : listeners ) {
+            listener.onSample( sample );
+        }
+        if ( lagAlertMs > 0 && sample.pauseMaxMs() >= lagAlertMs
+                && sample.timeMs() - lastAlertMs >= ALERT_COOLDOWN_MS ) {
+            lastAlertMs = sample.timeMs();
+            // Toasts when a launcher window is up; stderr only for the TUI and server mode.
+            Logger.logWarning( LocalizationManager.format( "log.gameJfrTelemetry.lagAlert", packName,
+                                                           Math.round( sample.pauseMaxMs() ) ) );
+            for ( Listener listener : listeners ) {
+                listener.onLagAlert( sample );
+            }
+        }
+    }
+
+    /**
+     * Waits for the game JVM to create its {@code <timestamp>_<pid>}
+     * repository folder; the recording starts a moment after the process.
+     */
+    private Path awaitRepository( Path base )
+    {
+        String suffix = "_" + process.pid();
+        long deadline = System.currentTimeMillis() + REPOSITORY_WAIT_MS;
+        while ( !closed && process.isAlive() && System.currentTimeMillis() < deadline ) {
+            try ( Stream< Path > folders = Files.list( base ) ) {
+                Path found = folders.filter( p -> p.getFileName().toString().endsWith( suffix ) )
+                                    .max( Comparator.naturalOrder() )
+                                    .orElse( null );
+                if ( found != null ) {
+                    return found;
+                }
+            }
+            catch ( IOException e ) {
+                return null;
+            }
+            try {
+                Thread.sleep( 250 );
+            }
+            catch ( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Deletes repository folders whose game process is gone. A crashed or
+     * killed JVM doesn't clean up after itself; a still-running one (the same
+     * pack launched twice) is left alone.
+     */
+    private static void clearStaleRepositories( Path base ) throws IOException
+    {
+        List< Path > stale = new ArrayList<>();
+        try ( DirectoryStream< Path > folders = Files.newDirectoryStream( base ) ) {
+            for ( Path folder : folders ) {
+                long pid = repositoryPid( folder.getFileName().toString() );
+                if ( pid < 0 || ProcessHandle.of( pid ).map( ProcessHandle::isAlive ).orElse( false ) ) {
+                    continue;
+                }
+                stale.add( folder );
+            }
+        }
+        for ( Path folder : stale ) {
+            try ( Stream< Path > files = Files.walk( folder ) ) {
+                for ( Path file : files.sorted( Comparator.reverseOrder() ).toList() ) {
+                    Files.deleteIfExists( file );
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the pid a repository folder name ends in, or -1.
+     */
+    static long repositoryPid( String folderName )
+    {
+        int underscore = folderName.lastIndexOf( '_' );
+        if ( underscore < 0 ) {
+            return -1;
+        }
+        try {
+            return Long.parseLong( folderName.substring( underscore + 1 ) );
+        }
+        catch ( NumberFormatException e ) {
+            return -1;
+        }
+    }
+
+    private static double millis( Duration duration )
+    {
+        return duration.toNanos() / 1_000_000.0;
+    }
+
+    /**
+     * Folds events into per-interval samples. Pause and safepoint figures
+     * cover the interval since the last {@link #drain}; heap, allocation rate,
+     * CPU and threads carry over until the next event updates them.
+     */
+    static final class SampleWindow
+    {
+        private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+
+        private double pauseMaxMs;
+        private double pauseTotalMs;
+        private double safepointMs;
+        private long   heapAfterBytes;
+        private long   heapAfterTimeMs;
+        private double allocationMbPerSec;
+        private double cpuJvm;
+        private double cpuMachine;
+        private long   threads;
+
+        synchronized void pause( double longestMs, double sumMs )
+        {
+            pauseMaxMs = Math.max( pauseMaxMs, longestMs );
+            pauseTotalMs += sumMs;
+        }
+
+        /**
+         * Everything the heap grew by between one collection's end and the
+         * next one's start was allocated in that time.
+         */
+        synchronized void heap( boolean beforeGc, long usedBytes, long timeMs )
+        {
+            if ( !beforeGc ) {
+                heapAfterBytes = usedBytes;
+                heapAfterTimeMs = timeMs;
+                return;
+            }
+            if ( heapAfterTimeMs > 0 && timeMs > heapAfterTimeMs ) {
+                double allocatedMb = Math.max( 0, usedBytes - heapAfterBytes ) / BYTES_PER_MB;
+                allocationMbPerSec = allocatedMb / ( ( timeMs - heapAfterTimeMs ) / 1000.0 );
+            }
+        }
+
+        synchronized void safepoint( double ms )
+        {
+            safepointMs += ms;
+        }
+
+        synchronized void cpu( double jvm, double machine )
+        {
+            cpuJvm = jvm;
+            cpuMachine = machine;
+        }
+
+        synchronized void threads( long count )
+        {
+            threads = count;
+        }
+
+        synchronized Sample drain( long nowMs )
+        {
+            Sample sample = new Sample( nowMs, pauseMaxMs, pauseTotalMs, Math.round( heapAfterBytes / BYTES_PER_MB ),
+                                        cpuJvm * 100, cpuMachine * 100, allocationMbPerSec, safepointMs, threads );
+            pauseMaxMs = 0;
+            pauseTotalMs = 0;
+            safepointMs = 0;
+            return sample;
+        }
+    }
+}
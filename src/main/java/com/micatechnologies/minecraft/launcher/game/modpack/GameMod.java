@@ -97,6 +97,24 @@ public class GameMod extends ManagedGameFile
      *
      * @since 1.0
      */
+    /**
+     * Restores a mod read back from a {@link ManifestSnapshot}.
+     *
+     * @param name      display name of the mod
+     * @param raw       the manifest file fields, verbatim
+     * @param clientReq whether the mod is required in client mode
+     * @param serverReq whether the mod is required in server mode
+     *
+     * @since 2026.7
+     */
+    GameMod( String name, ManifestSnapshot.FileFields raw, boolean clientReq, boolean serverReq )
+    {
+        super( raw );
+        this.name = name;
+        this.clientReq = clientReq;
+        this.serverReq = serverReq;
+    }
+
     boolean updateLocalFile( GameMode gameAppMode ) throws ModpackException
     {
         if ( ( gameAppMode == GameMode.CLIENT && clientReq ) || ( gameAppMode == GameMode.SERVER && serverReq ) ) {
@@ -779,18 +779,18 @@ class GameModLoaderForge extends ManagedGameFile implements GameModLoader
         // warm-launch SHA-1 hashing onto one core. ManagedGameFile's per-path
         // locks + verify cache are concurrent and each asset writes a distinct
         // path, so this is safe. Mirrors GameLibraryManifest.downloadVerifyLibraries.
+        final ProgressCounter< GameAsset > verified = progressProvider == null ? null
+                : progressProvider.startCounter( forgeAssetsList.size(), 60.0, ( done, total, last ) -> last == null
+                        ? "" : LocalizationManager.format( "forgeLoader.verifiedAsset", SynchronizedFileManager
+                                .getSynchronizedFile( last.getFullLocalFilePath() ).getName() ) );
         List< java.util.concurrent.Future< ? > > futures = new ArrayList<>();
         for ( GameAsset forgeAsset : forgeAssetsList ) {
             futures.add( com.micatechnologies.minecraft.launcher.utilities.DownloadExecutor.submit(
                     ( java.util.concurrent.Callable< Void > ) () -> {
                 forgeAsset.setLocalPathPrefix( localPathPrefix );
                 forgeAsset.updateLocalFile( gameAppMode );
-                if ( progressProvider != null ) {
-                    progressProvider.submitProgress( LocalizationManager.format(
-                            "forgeLoader.verifiedAsset",
-                            SynchronizedFileManager.getSynchronizedFile(
-                                    forgeAsset.getFullLocalFilePath() ).getName() ),
-                                                     ( 60.0 / ( double ) forgeAssetsList.size() ) );
+                if ( verified != null ) {
+                    verified.advance( forgeAsset );
                 }
                 return null;
             } ) );
@@ -25,7 +25,6 @@ import com.micatechnologies.minecraft.launcher.utilities.NetworkUtilities;
 
 import java.io.File;
 import java.io.IOException;
-import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -49,7 +48,7 @@ public class GameModPackFetcher
      *  even for thousand-mod packs, top out in the few-hundred-KB range — 50 MB is
      *  overhead headroom. Bounded download throws if the body would exceed this,
      *  which stops a compromised manifest host from OOMing the launcher. */
-    private static final long MANIFEST_MAX_BYTES = 50L * 1024 * 1024;
+    static final long MANIFEST_MAX_BYTES = 50L * 1024 * 1024;
 
     /** Threshold for warning the user that an offline-loaded cached manifest is
      *  stale. We don't refuse to launch (offline play would become unusable for
@@ -92,15 +91,14 @@ public class GameModPackFetcher
             if ( body == null ) {
                 return null;
             }
-            GameModPack pack = JSONUtilities.getGson().fromJson( body, GameModPack.class );
+            // parseManifest also captures the content hash so VerifyState.decideMode can
+            // compare against the last-verified hash on the next launch — same body bytes
+            // → fast-path eligible (subject to TTL etc.), different bytes → full verify.
+            GameModPack pack = parseManifest( body );
             if ( pack == null ) {
                 return null;
             }
             pack.manifestUrl = manifestUrl;
-            // Capture the content hash so VerifyState.decideMode can compare against
-            // the last-verified hash on the next launch — same body bytes → fast-path
-            // eligible (subject to TTL etc.), different bytes → full verify.
-            pack.setManifestContentSha256( VerifyState.computeManifestSha256( body ) );
             if ( createEnvironment ) {
                 pack.prepareEnvironment();
             }
@@ -180,54 +178,15 @@ public class GameModPackFetcher
                 Logger.logStd( LocalizationManager.format( "log.gameModPackFetcher.loadedCachedManifestOffline", manifestUrl ) );
             }
             else {
-                // Online: HTTPS-only bounded fetch with conditional-GET support. The 50 MB
-                // size cap stops a compromised manifest host from OOMing the launcher.
-                // The conditional request — If-None-Match / If-Modified-Since — lets the
-                // server reply with a 304 + no body when nothing has changed since the
-                // last fetch, cutting the response to a few hundred bytes and skipping
-                // the Gson parse entirely. The Mica blob backs all our manifests and does
-                // honor both validators, so the steady-state warm path is one-RTT 304s.
-                ManifestCacheMeta prev = loadCacheMeta( manifestUrl );
-                NetworkUtilities.BoundedFetchResult result =
-                        NetworkUtilities.downloadFileFromURLBoundedConditional(
-                                new URL( manifestUrl ),
-                                MANIFEST_MAX_BYTES,
-                                prev != null ? prev.etag : null,
-                                prev != null ? prev.lastModified : null );
-                if ( result.isNotModified() ) {
-                    manifestBody = loadCachedManifest( manifestUrl, false );
-                    if ( manifestBody == null ) {
-                        // 304 but local cache is gone — degenerate case (cache cleared
-                        // out-of-band between launches). Re-request unconditionally to
-                        // rebuild the cache. We could be smarter here, but a one-shot
-                        // re-fetch is the simplest correct fallback.
-                        manifestBody = NetworkUtilities.downloadFileFromURLBounded(
-                                manifestUrl, MANIFEST_MAX_BYTES );
-                        cacheManifest( manifestUrl, manifestBody );
-                    }
-                    else {
-                        // A 304 proves the cached body is byte-identical to what the server
-                        // would send right now — it IS fresh, even though the file on disk
-                        // hasn't been rewritten since the manifest last actually changed.
-                        // Touch the cache file's mtime so the staleness check measures "time
-                        // since last successful revalidation", not "time since the manifest
-                        // author last edited it". Without this, users whose manifests simply
-                        // hadn't changed in a week+ got scolded with "stale cache — reconnect"
-                        // warnings on every fully-online launch.
-                        touchCacheFreshness( manifestUrl );
-                    }
-                    // Refresh the validators in case the server updated them on the 304.
-                    saveCacheMeta( manifestUrl, result.etag(), result.lastModified() );
-                }
-                else {
-                    manifestBody = result.body();
-                    cacheManifest( manifestUrl, manifestBody );
-                    saveCacheMeta( manifestUrl, result.etag(), result.lastModified() );
-                }
+                // Online: conditional fetch through ManifestSync, which shares one request
+                // among concurrent loads of the same URL (startup load, revalidation,
+                // warm-up) and keeps the ETag / Last-Modified validators. The Mica blob
+                // backs all our manifests and honors both validators, so the steady-state
+                // warm path is one-RTT 304s over a reused keep-alive connection.
+                manifestBody = ManifestSync.fetch( manifestUrl ).body();
             }
-            gameModPack = JSONUtilities.getGson().fromJson( manifestBody, GameModPack.class );
-            // Capture manifest body hash for fast-path verify decisions (see VerifyState).
-            gameModPack.setManifestContentSha256( VerifyState.computeManifestSha256( manifestBody ) );
+            // Also captures the manifest body hash for fast-path verify decisions (see VerifyState).
+            gameModPack = parseManifest( manifestBody );
             if ( createEnvironment ) {
                 gameModPack.prepareEnvironment();
                 if ( !NetworkUtilities.isOffline() ) {
@@ -265,6 +224,34 @@ public class GameModPackFetcher
         return gameModPack;
     }
 
+    /**
+     * Turns a manifest body into a pack: decoded from the {@link ManifestSnapshot}
+     * of the same bytes when there is one, otherwise parsed with Gson and then
+     * snapshotted, so an unchanged manifest (cache load, 304 revalidation) is
+     * parsed at most once per launcher version. Either way the pack carries the
+     * body's SHA-256 as its manifest content hash.
+     *
+     * @param manifestBody the manifest JSON
+     *
+     * @return the pack, or {@code null} if the body is empty JSON
+     *
+     * @since 2026.7
+     */
+    private static GameModPack parseManifest( String manifestBody )
+    {
+        String sha256 = VerifyState.computeManifestSha256( manifestBody );
+        GameModPack pack = ManifestSnapshot.load( sha256 );
+        if ( pack == null ) {
+            pack = JSONUtilities.getGson().fromJson( manifestBody, GameModPack.class );
+            if ( pack == null ) {
+                return null;
+            }
+            ManifestSnapshot.save( sha256, pack );
+        }
+        pack.setManifestContentSha256( sha256 );
+        return pack;
+    }
+
     /** Reads a manifest file from a local {@code file://} URL — used for
      *  imported modpacks whose translated Mica manifest was written by
      *  {@link com.micatechnologies.minecraft.launcher.game.modpack.import_.MrpackImporter}.
@@ -346,12 +333,12 @@ public class GameModPackFetcher
     }
 
     /**
-     * Returns the directory holding all cached manifest bodies and their metadata
-     * sidecars ({@code <launcher-modpack-folder>/manifest_cache}).
+     * Returns the directory holding all cached manifest bodies and the
+     * {@link ManifestSync} validator table ({@code <launcher-modpack-folder>/manifest_cache}).
      *
      * @return the manifest cache directory path
      */
-    private static Path cacheDir()
+    static Path cacheDir()
     {
         return Path.of( LocalPathManager.getLauncherModpackFolderPath(), MANIFEST_CACHE_DIR );
     }
@@ -367,7 +354,7 @@ public class GameModPackFetcher
      * @return the SHA-256 hex digest, or the legacy {@code hashCode} hex form if
      *         SHA-256 is somehow unavailable
      */
-    private static String sha256Hex( String input )
+    static String sha256Hex( String input )
     {
         // SHA-256 is mandatory in every JRE we support, so the null branch is
         // unreachable in practice; fall back to the legacy hashCode form to keep
@@ -379,7 +366,7 @@ public class GameModPackFetcher
     /**
      * Caches the manifest body to disk for offline use.
      */
-    private static void cacheManifest( String manifestUrl, String manifestBody )
+    static void cacheManifest( String manifestUrl, String manifestBody )
     {
         try {
             Path cacheFile = getCacheFilePath( manifestUrl );
@@ -453,7 +440,7 @@ public class GameModPackFetcher
      * @param manifestUrl mod pack manifest URL
      * @param warnStale   whether to surface a staleness warning for an old cache file
      */
-    private static String loadCachedManifest( String manifestUrl, boolean warnStale )
+    static String loadCachedManifest( String manifestUrl, boolean warnStale )
     {
         try {
             Path cacheFile = getCacheFilePath( manifestUrl );
@@ -487,7 +474,7 @@ public class GameModPackFetcher
      *
      * @param manifestUrl mod pack manifest URL whose cache file should be touched
      */
-    private static void touchCacheFreshness( String manifestUrl )
+    static void touchCacheFreshness( String manifestUrl )
     {
         try {
             Path cacheFile = getCacheFilePath( manifestUrl );
@@ -505,90 +492,6 @@ public class GameModPackFetcher
         }
     }
 
-    /**
-     * Sidecar holding the ETag + Last-Modified validators captured from the last
-     * successful network fetch of a manifest. Lives at {@code manifest_cache/<sha256>.meta.json}
-     * next to the cached manifest body itself.
-     */
-    private static class ManifestCacheMeta
-    {
-        /** The {@code ETag} validator from the manifest's last successful fetch, or {@code null}. */
-        String etag;
-
-        /** The {@code Last-Modified} validator from the manifest's last successful fetch, or {@code null}. */
-        String lastModified;
-    }
-
-    /**
-     * Returns the sidecar metadata file path ({@code manifest_cache/<sha256>.meta.json})
-     * holding the conditional-GET validators for the given manifest URL.
-     *
-     * @param manifestUrl mod pack manifest URL
-     *
-     * @return the {@code .meta.json} sidecar path next to the cached manifest body
-     */
-    private static Path getCacheMetaPath( String manifestUrl )
-    {
-        return cacheDir().resolve( sha256Hex( manifestUrl ) + ".meta.json" );
-    }
-
-    /**
-     * Loads the cached ETag / Last-Modified validators for the given manifest URL.
-     * Returns {@code null} when no sidecar exists or it cannot be parsed; a
-     * {@code null} result forces the next fetch to issue an unconditional GET,
-     * which is the safe behaviour when the stored validators cannot be trusted.
-     *
-     * @param manifestUrl mod pack manifest URL
-     *
-     * @return the parsed cache metadata, or {@code null} if absent or unreadable
-     */
-    private static ManifestCacheMeta loadCacheMeta( String manifestUrl )
-    {
-        try {
-            Path file = getCacheMetaPath( manifestUrl );
-            if ( !Files.exists( file ) ) {
-                return null;
-            }
-            String json = Files.readString( file, StandardCharsets.UTF_8 );
-            return JSONUtilities.getGson().fromJson( json, ManifestCacheMeta.class );
-        }
-        catch ( Exception e ) {
-            // Treat unreadable meta as no-meta — the next response writes a fresh
-            // one. Returning null forces an unconditional GET on this fetch, which
-            // is the right behaviour when we can't trust the stored validators.
-            return null;
-        }
-    }
-
-    /**
-     * Persists the ETag / Last-Modified validators returned by a successful
-     * network fetch so the next fetch of this manifest can be conditional.
-     * Best-effort: a write failure is logged but never propagated — it just
-     * means the following fetch falls back to an unconditional GET.
-     *
-     * @param manifestUrl  mod pack manifest URL
-     * @param etag         the ETag validator from the response, or {@code null}
-     * @param lastModified the Last-Modified validator from the response, or {@code null}
-     */
-    private static void saveCacheMeta( String manifestUrl, String etag, String lastModified )
-    {
-        try {
-            Path file = getCacheMetaPath( manifestUrl );
-            //noinspection ResultOfMethodCallIgnored
-            file.getParent().toFile().mkdirs();
-            ManifestCacheMeta meta = new ManifestCacheMeta();
-            meta.etag = etag;
-            meta.lastModified = lastModified;
-            Files.writeString( file, JSONUtilities.getGson().toJson( meta ),
-                                StandardCharsets.UTF_8 );
-        }
-        catch ( IOException e ) {
-            // Non-fatal: failing to persist meta just means the next fetch can't go
-            // conditional — it'll still get the right body, just less efficiently.
-            Logger.logWarningSilent( LocalizationManager.format( "log.gameModPackFetcher.unableToSaveCacheMeta", manifestUrl ) );
-        }
-    }
-
     /** Manifest URLs that already produced a stale-cache log line this session, so
      *  repeated cache loads (cold-start paint + revalidate + Play) don't spam the
      *  log with duplicates for the same URL. */
@@ -136,11 +136,16 @@ class GameModPackFileSync
             // matches the file actually transferring (the "wrong mod name" bug, and the
             // frozen name that makes a slow sibling look stuck). Report an aggregate
             // completed-count instead, which is correct no matter which pool thread writes
-            // it; the live speed/ETA still comes from the shared DownloadTracker.
-            final java.util.concurrent.atomic.AtomicInteger modsProcessed =
-                    new java.util.concurrent.atomic.AtomicInteger( 0 );
+            // it; the live speed/ETA still comes from the shared DownloadTracker. The
+            // count is a lock-free counter formatted only when the UI samples it.
+            final ProgressCounter< GameMod > modsProcessed;
             if ( progressProvider != null ) {
                 progressProvider.setCurrText( "Downloading mods (0/" + modCount + ")..." );
+                modsProcessed = progressProvider.startCounter(
+                        modCount, 70.0, ( done, total, last ) -> "Downloading mods (" + done + "/" + total + ")..." );
+            }
+            else {
+                modsProcessed = null;
             }
             List< Future< Boolean > > threadPoolFutures = new ArrayList<>();
             for ( GameMod mod : metadata.packMods ) {
@@ -152,10 +157,8 @@ class GameModPackFileSync
 
                     boolean ret = mod.updateLocalFile( GameModeManager.getCurrentGameMode() );
 
-                    int done = modsProcessed.incrementAndGet();
-                    if ( progressProvider != null ) {
-                        progressProvider.submitProgress( "Downloading mods (" + done + "/" + modCount + ")...",
-                                                         ( 70.0 / ( double ) modCount ) );
+                    if ( modsProcessed != null ) {
+                        modsProcessed.advance( mod );
                     }
                     if ( downloadTracker != null ) {
                         downloadTracker.completeFile();
@@ -35,7 +35,10 @@ import com.micatechnologies.minecraft.launcher.game.auth.MCLauncherAuthManager;
 import com.micatechnologies.minecraft.launcher.game.modpack.manifests.GameAssetManifest;
 import com.micatechnologies.minecraft.launcher.game.modpack.manifests.GameLibraryManifest;
 import com.micatechnologies.minecraft.launcher.game.modpack.manifests.GameVersionManifest;
+import com.micatechnologies.minecraft.launcher.utilities.HardwareTunedJvmArgs;
+import com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors;
 import com.micatechnologies.minecraft.launcher.utilities.ProcessUtilities;
+import com.micatechnologies.minecraft.launcher.utilities.TaskScope;
 
 /**
  * Encapsulates the game launching logic for a {@link GameModPack}, including classpath assembly, JVM argument
@@ -90,22 +93,6 @@ class GameModPackLauncher
      */
     private Process lastLaunchedProcess = null;
 
-    /**
-     * Dedicated daemon pool for the parallel pre-launch I/O branches (modpack
-     * content / Forge libs / MC libs + JRE). Those branches block for
-     * seconds-to-minutes on HTTP and {@code awaitTermination}; running them on
-     * the default {@code ForkJoinPool.commonPool()} (sized
-     * {@code availableProcessors - 1}, meant for CPU-bound work) pins its workers
-     * and, on low-core machines, effectively serializes the "parallel" branches
-     * and starves any other {@code parallelStream} user during a launch.
-     */
-    private static final java.util.concurrent.ExecutorService LAUNCH_IO_POOL =
-            java.util.concurrent.Executors.newCachedThreadPool( r -> {
-                Thread t = new Thread( r, "mica-launch-io" );
-                t.setDaemon( true );
-                return t;
-            } );
-
     // region Log4j security config constants
 
     /**
@@ -195,10 +182,20 @@ class GameModPackLauncher
         // The user-facing controls (per-pack toggle + global force flag) land
         // in step 4; for now both inputs are hardcoded false so the decision
         // is driven entirely by manifest-hash + TTL + sidecar presence.
-        final LaunchVerifyMode chosenMode = decideLaunchVerifyMode();
+        //
+        // Server mode with the change journal enabled stops the previous run's
+        // watcher first (flushing what it saw), so a clean journal can drive a
+        // JOURNALED restart that only hashes files that changed.
+        final ChangeJournal journal = ChangeJournal.isEnabled() ? ChangeJournal.openForLaunch( pack ) : null;
+        final LaunchVerifyMode chosenMode = decideLaunchVerifyMode( journal );
+        if ( journal != null && chosenMode != LaunchVerifyMode.JOURNALED ) {
+            journal.reset();
+        }
         Logger.logDebug( LocalizationManager.format( "log.gameModPackLauncher.verifyMode", pack.getPackName(), chosenMode ) );
         LaunchVerifyMode prevMode = ManagedGameFile.getCurrentVerifyMode();
+        ChangeJournal prevJournal = ManagedGameFile.getCurrentJournal();
         ManagedGameFile.setCurrentVerifyMode( chosenMode );
+        ManagedGameFile.setCurrentJournal( journal );
         // Open the audit-log context for this launch's download phase. getLaunchCount() + 1 is
         // the launch number recordLaunchStart will commit once this launch succeeds, so audit
         // entries line up with the official launch count the detail modal reads back.
@@ -223,12 +220,29 @@ class GameModPackLauncher
                 Logger.logDebug( LocalizationManager.format( "log.gameModPackLauncher.wroteVerifyState",
                                          pack.getPackName(), fresh.verifiedAt ) );
             }
+            if ( chosenMode == LaunchVerifyMode.FULL ) {
+                scanClassOverlaps( classpath );
+            }
+            // Same reasoning for JOURNALED: verifiedAt stays on the last full
+            // sweep so ChangeJournal.MAX_JOURNALED_AGE_MS still bites. The
+            // journal itself is persisted and armed for the game process.
+            if ( journal != null ) {
+                ChangeJournal.commitVerify( journal );
+            }
+            // The sync may have added or removed mods: index the new jars for the
+            // next Play's conflict scan, which only reads cached metadata, and
+            // keep search current.
+            LauncherExecutors.execute( LauncherExecutors.Workload.IO, () -> {
+                ModMetadataIndex.forPack( pack, true );
+                PackSearchIndex.putMods( pack );
+            } );
             return classpath;
         }
         finally {
             // Always restore so a subsequent launch starts from a known state
             // regardless of how this one ended.
             ManagedGameFile.setCurrentVerifyMode( prevMode );
+            ManagedGameFile.setCurrentJournal( prevJournal );
             ModPackAuditLog.endLaunch();
         }
     }
@@ -237,20 +251,29 @@ class GameModPackLauncher
      * Rolls up every fast-path eligibility check into a single decision for
      * this launch. See {@link VerifyState#decideMode} for the conditions.
      *
+     * @param journal the server-mode change journal, or {@code null} when
+     *                journaling is disabled
+     *
      * @return the {@link LaunchVerifyMode} to install for this launch —
      *         {@link LaunchVerifyMode#FULL} when the cached verify state is
      *         missing, stale, manifest-mismatched, or the per-pack opt-out is
-     *         set; otherwise {@link LaunchVerifyMode#FAST_PATH}
+     *         set; {@link LaunchVerifyMode#JOURNALED} for a server restart
+     *         backed by a clean change journal; otherwise
+     *         {@link LaunchVerifyMode#FAST_PATH}
      */
-    private LaunchVerifyMode decideLaunchVerifyMode()
+    private LaunchVerifyMode decideLaunchVerifyMode( ChangeJournal journal )
     {
         // Servers launch infrequently (on service start / crash-restart) and are highly
         // update-sensitive: a headless server silently running a stale mod set is worse than
         // paying a full hash verify each launch. Never fast-path in server mode — always
         // FULL-verify so every file is re-checked against the current manifest and any stale
-        // mod re-downloads. (Clients keep fast-path for snappy repeat launches.)
+        // mod re-downloads. (Clients keep fast-path for snappy repeat launches.) The opt-in
+        // change journal is the one exception: it still hashes anything it can't prove
+        // untouched since the last verify, so it keeps that guarantee.
         if ( com.micatechnologies.minecraft.launcher.config.GameModeManager.isServer() ) {
-            return LaunchVerifyMode.FULL;
+            return ChangeJournal.decideMode( journal, VerifyState.loadForPack( pack ),
+                                             ChangeJournal.MAX_JOURNALED_AGE_MS,
+                                             System.currentTimeMillis() );
         }
 
         // Honor the per-pack "always verify" opt-out. The launcher-wide
@@ -305,19 +328,38 @@ class GameModPackLauncher
         LaunchVerifyMode prevMode = ManagedGameFile.getCurrentVerifyMode();
         ManagedGameFile.setCurrentVerifyMode( LaunchVerifyMode.FULL );
         try {
-            buildClasspathInner();
+            String classpath = buildClasspathInner();
             if ( pack.getManifestContentSha256() != null ) {
                 VerifyState existing = VerifyState.loadForPack( pack );
                 VerifyState fresh = VerifyState.successfulVerify(
                         existing, pack.getManifestContentSha256() );
                 VerifyState.saveForPack( pack, fresh );
             }
+            scanClassOverlaps( classpath );
         }
         finally {
             ManagedGameFile.setCurrentVerifyMode( prevMode );
         }
     }
 
+    /**
+     * Runs the duplicate-class / split-package check over a freshly
+     * FULL-verified launch. Findings are logged as warnings; a failure of
+     * the check itself never fails the verify.
+     *
+     * @param classpath the merged classpath the verify produced
+     */
+    private void scanClassOverlaps( String classpath )
+    {
+        try {
+            ClassOverlapDetector.scanLaunch( pack, classpath );
+        }
+        catch ( RuntimeException e ) {
+            Logger.logWarningSilent( LocalizationManager.format( "log.classOverlap.failed",
+                                                                 pack.getPackName(), e.getMessage() ) );
+        }
+    }
+
     /**
      * The actual buildClasspath body. Extracted so {@link #buildClasspath()}
      * can wrap it in the verify-mode install / restore lifecycle without
@@ -325,7 +367,8 @@ class GameModPackLauncher
      *
      * <p>Runs the four pre-launch download stages (modpack content, loader
      * libraries, Minecraft libraries + assets, and JRE install) — in parallel
-     * on {@link #LAUNCH_IO_POOL} for modded packs, sequentially for vanilla —
+     * as forks of a {@code "pre-launch"} {@link TaskScope} on the IO workload for
+     * modded packs, sequentially for vanilla —
      * then the post-install processors step (Forge / NeoForge only) and the
      * security scan, before merging the loader and Minecraft classpaths with
      * Maven-coordinate-aware, loader-priority dedup.</p>
@@ -345,8 +388,11 @@ class GameModPackLauncher
         //   - MC libraries + assets writes under <packRoot>/libraries + the shared
         //     assets folder
         //   - JRE install writes under the launcher-wide runtime folder
-        // None of these touch the same file paths. Run them as parallel CompletableFutures
-        // when a tracker bridge is wired up (the Play path always provides one).
+        // None of these touch the same file paths. Run them as parallel forks of one
+        // TaskScope. The branches block for seconds-to-minutes on HTTP, so they run on
+        // the IO workload's virtual threads; their downloads fork into the same scope
+        // (DownloadExecutor.submit picks up the current scope), so cancelling the scope
+        // — or the launch scope above it — stops the whole pre-launch subtree.
         //
         // The Forge processors step (step 5) genuinely depends on having both Forge libs
         // AND MC libs AND the JRE in place — it's an external java -jar invocation against
@@ -357,8 +403,7 @@ class GameModPackLauncher
         // For headless callers without a bridge (no GUI), the parallel orchestration still
         // works — the handles just don't drive any UI. Per-step error handling is wired
         // through each branch's try/catch so a failure in one branch marks its row failed
-        // and surfaces the exception; sibling branches finish naturally for now (step 4
-        // will add cancellation propagation).
+        // and surfaces the exception; the first failure cancels the sibling branches.
 
         final LaunchTrackerProgressBridge bridge =
                 ( progressProvider instanceof LaunchTrackerProgressBridge )
@@ -383,66 +428,50 @@ class GameModPackLauncher
             final StepProgressHandle jreH = handleFor( bridge,
                     LaunchProgressTracker.StepId.JRE_INSTALL );
 
-            java.util.concurrent.CompletableFuture< Void > branchModpackContent =
-                    java.util.concurrent.CompletableFuture.runAsync( () -> {
-                        try {
-                            doModpackContent( modpackContentH );
-                        }
-                        catch ( Throwable t ) {
-                            throw rethrowAsCompletion( t );
-                        }
-                    }, LAUNCH_IO_POOL );
-
-            java.util.concurrent.CompletableFuture< String > branchForgeLibs =
-                    java.util.concurrent.CompletableFuture.supplyAsync( () -> {
-                        try {
-                            return doForgeLibs( forgeLibsH );
-                        }
-                        catch ( Throwable t ) {
-                            throw rethrowAsCompletion( t );
-                        }
-                    }, LAUNCH_IO_POOL );
-
-            java.util.concurrent.CompletableFuture< McLibsAndJreResult > branchMcLibsJre =
-                    java.util.concurrent.CompletableFuture.supplyAsync( () -> {
-                        try {
-                            return doMcLibsThenJre( mcLibsH, jreH );
-                        }
-                        catch ( Throwable t ) {
-                            throw rethrowAsCompletion( t );
-                        }
-                    }, LAUNCH_IO_POOL );
-
-            try {
-                java.util.concurrent.CompletableFuture.allOf( branchModpackContent,
-                                                               branchForgeLibs,
-                                                               branchMcLibsJre ).get();
-                forgeAssetClasspath = branchForgeLibs.get();
-                McLibsAndJreResult mcResult = branchMcLibsJre.get();
-                libraryManifest = mcResult.manifest;
-                minecraftAssetClasspath = mcResult.classpath;
-            }
-            catch ( InterruptedException ie ) {
-                // The launch was interrupted (cancel button, parent thread interrupted,
-                // etc.). Cancel siblings best-effort, restore the interrupt flag, and
-                // surface the cancellation as a ModpackException so the caller can
-                // navigate back. CompletableFuture.cancel(true) is best-effort — most
-                // blocking HTTP reads don't respond to Thread.interrupt, so siblings
-                // may finish in the background, but the user has already moved on.
-                Thread.currentThread().interrupt();
-                cancelSiblings( branchModpackContent, branchForgeLibs, branchMcLibsJre );
-                throw new ModpackException( "Pre-launch cancelled", ie );
-            }
-            catch ( java.util.concurrent.ExecutionException ee ) {
-                // One branch failed. Cancel the rest so the user isn't watching a
-                // half-cancelled progress card finish three more steps after the X
-                // already appeared on the failed row.
-                cancelSiblings( branchModpackContent, branchForgeLibs, branchMcLibsJre );
-                throw unwrapModpackException( ee );
-            }
-            catch ( java.util.concurrent.CompletionException ce ) {
-                cancelSiblings( branchModpackContent, branchForgeLibs, branchMcLibsJre );
-                throw unwrapModpackException( ce );
+            final java.util.concurrent.atomic.AtomicReference< Throwable > firstFailure =
+                    new java.util.concurrent.atomic.AtomicReference<>();
+            try ( TaskScope branches = TaskScope.open( "pre-launch" ) ) {
+                try {
+                    branches.fork( LauncherExecutors.Workload.IO, failFast( branches, firstFailure, () -> {
+                        doModpackContent( modpackContentH );
+                        return null;
+                    } ) );
+                    java.util.concurrent.Future< String > branchForgeLibs =
+                            branches.fork( LauncherExecutors.Workload.IO,
+                                           failFast( branches, firstFailure, () -> doForgeLibs( forgeLibsH ) ) );
+                    java.util.concurrent.Future< McLibsAndJreResult > branchMcLibsJre =
+                            branches.fork( LauncherExecutors.Workload.IO,
+                                           failFast( branches, firstFailure,
+                                                     () -> doMcLibsThenJre( mcLibsH, jreH ) ) );
+
+                    branches.join();
+                    if ( firstFailure.get() != null ) {
+                        throw unwrapModpackException( firstFailure.get() );
+                    }
+                    forgeAssetClasspath = branchForgeLibs.get();
+                    McLibsAndJreResult mcResult = branchMcLibsJre.get();
+                    libraryManifest = mcResult.manifest;
+                    minecraftAssetClasspath = mcResult.classpath;
+                }
+                catch ( InterruptedException ie ) {
+                    // The launch was interrupted (cancel button, parent thread interrupted,
+                    // etc.). Cancel the branches and their downloads, restore the interrupt
+                    // flag, and surface the cancellation as a ModpackException so the caller
+                    // can navigate back. Cancellation interrupts the branch threads; blocking
+                    // HTTP reads that ignore interrupts finish in the background, but the
+                    // user has already moved on.
+                    Thread.currentThread().interrupt();
+                    branches.cancel();
+                    throw new ModpackException( "Pre-launch cancelled", ie );
+                }
+                catch ( java.util.concurrent.CancellationException ce ) {
+                    // The enclosing launch scope was cancelled before or while the
+                    // branches ran.
+                    throw new ModpackException( "Pre-launch cancelled", ce );
+                }
+                catch ( java.util.concurrent.ExecutionException ee ) {
+                    throw unwrapModpackException( ee );
+                }
             }
 
             // --- Step 5: post-install patching (Forge / NeoForge processors) ---
@@ -460,7 +489,7 @@ class GameModPackLauncher
         else {
             // Vanilla packs have no modpack content or Forge stages. Just MC libs + JRE
             // sequentially, then scan. The "parallel" orchestration would be just one branch
-            // — keep it serial to avoid the CompletableFuture overhead on the simpler path.
+            // — keep it serial on the launch thread for the simpler path.
             final StepProgressHandle mcLibsH = handleFor( bridge,
                     LaunchProgressTracker.StepId.MC_LIBS_ASSETS );
             final StepProgressHandle jreH = handleFor( bridge,
@@ -666,40 +695,39 @@ class GameModPackLauncher
         return bridge != null ? bridge.handleFor( stepId ) : null;
     }
 
-    /** Best-effort cancellation of every in-flight sibling future when one
-     *  fails or the launch is cancelled. {@link java.util.concurrent.CompletableFuture#cancel(boolean)}
-     *  doesn't actually interrupt the underlying worker thread on modern JDKs —
-     *  it just marks the future cancelled — but the failed-launch unwind path
-     *  has already navigated away, so siblings finishing in the background
-     *  isn't user-visible.
-     *
-     * @param futures the in-flight branch futures to cancel; each is cancelled
-     *                best-effort and any thrown error is swallowed
-     */
-    private static void cancelSiblings( java.util.concurrent.CompletableFuture< ? >... futures )
-    {
-        for ( java.util.concurrent.CompletableFuture< ? > f : futures ) {
-            try { f.cancel( true ); }
-            catch ( Throwable ignored ) { /* best-effort */ }
-        }
-    }
-
     /**
-     * Wraps a non-{@link java.util.concurrent.CompletionException CompletionException}
-     * throwable so it can propagate out of a CompletableFuture without being
-     * mangled. Pure unwrapping helper.
+     * Wraps a pre-launch branch so its failure cancels the sibling branches.
+     * The first failure is recorded before cancelling, because cancelling the
+     * scope also cancels the failing branch's own future and would otherwise
+     * replace its exception with a {@link java.util.concurrent.CancellationException}.
+     * Failures that follow a cancellation (the interrupted siblings) aren't
+     * recorded.
      *
-     * @param t the throwable raised inside a branch task
+     * @param branches     the pre-launch scope
+     * @param firstFailure holder for the first branch failure
+     * @param branch       the branch body
+     * @param <T>          the branch result type
      *
-     * @return {@code t} itself when it is already a {@code CompletionException};
-     *         otherwise a new {@code CompletionException} wrapping {@code t}
+     * @return the wrapped branch
      */
-    private static java.util.concurrent.CompletionException rethrowAsCompletion( Throwable t )
+    private static < T > java.util.concurrent.Callable< T > failFast( TaskScope branches,
+                                                                     java.util.concurrent.atomic.AtomicReference< Throwable > firstFailure,
+                                                                     java.util.concurrent.Callable< T > branch )
     {
-        if ( t instanceof java.util.concurrent.CompletionException ce ) {
-            return ce;
-        }
-        return new java.util.concurrent.CompletionException( t );
+        return () -> {
+            try {
+                return branch.call();
+            }
+            catch ( Throwable t ) {
+                if ( !branches.isCancelled() && firstFailure.compareAndSet( null, t ) ) {
+                    // One branch failed. Cancel the rest so the user isn't watching a
+                    // half-cancelled progress card finish three more steps after the X
+                    // already appeared on the failed row.
+                    branches.cancel();
+                }
+                throw t;
+            }
+        };
     }
 
     /**
@@ -1283,8 +1311,20 @@ class GameModPackLauncher
         // (quote-aware) so a user-set "-Xss1m -Dfoo=bar baz" becomes three
         // separate argv entries.
         String customJvmArgs = ConfigManager.getCustomJvmArgs();
-        if ( customJvmArgs != null && !customJvmArgs.isBlank() ) {
-            List< String > customTokens = ProcessUtilities.splitCommandLine( customJvmArgs );
+        // Opt-in per-pack GC tuning learned from this pack's recorded GC
+        // sessions (GcTelemetry). Client only: a server's heap comes from the
+        // launcher's own inherited -Xms/-Xmx below.
+        HardwareTunedJvmArgs.Tuning gcTuning = GameModeManager.isClient()
+                ? GcTelemetry.autoTuning( pack.getPackRootFolder(),
+                                          (int) Math.max( 1, Math.round( ConfigManager.getMaxRamInGb() ) ),
+                                          requiredJavaMajorVersion )
+                : null;
+        if ( ( customJvmArgs != null && !customJvmArgs.isBlank() ) || gcTuning != null ) {
+            List< String > customTokens = ProcessUtilities.splitCommandLine(
+                    customJvmArgs != null ? customJvmArgs : "" );
+            if ( gcTuning != null ) {
+                customTokens = GcTelemetry.withTuning( customTokens, gcTuning.jvmArgs() );
+            }
             // Defense-in-depth against a tampered config: drop any token still
             // carrying ${...} placeholder syntax so a value like
             // ${auth_access_token} can't be smuggled into argv and expanded by the
@@ -1327,6 +1367,10 @@ class GameModPackLauncher
                 }
             }
         }
+        if ( gcTuning != null ) {
+            maxRAMMB = gcTuning.maxRamGB() * 1024L;
+            minRAMMB = Math.min( minRAMMB, maxRAMMB );
+        }
         argv.add( "-Xms" + minRAMMB + "m" );
         argv.add( "-Xmx" + maxRAMMB + "m" );
 
@@ -1395,6 +1439,23 @@ class GameModPackLauncher
             argv.add( cp );
         }
 
+        // GC telemetry: a rotating unified GC log in the pack folder, distilled
+        // into per-session stats when the game exits (GcTelemetry.recordSession).
+        argv.addAll( GcTelemetry.loggingArgs( pack.getPackRootFolder(), requiredJavaMajorVersion ) );
+
+        // Opt-in live telemetry: a lightweight JFR recording the launcher
+        // streams from while the game runs (GameJfrTelemetry.attach).
+        argv.addAll( GameJfrTelemetry.launchArgs( pack.getPackRootFolder(), requiredJavaMajorVersion ) );
+
+        // Opt-in per-pack class-data-sharing archive. Keyed on everything
+        // ahead of the main class, so it must be added after the JVM options
+        // are final; a classpath or runtime change starts a fresh archive.
+        if ( ConfigManager.getGameCdsEnable() ) {
+            argv.addAll( GameCdsArchive.flags( pack, RuntimeManager.getJavaPath( runtimeComponent ),
+                                               RuntimeManager.getJavaVersion( runtimeComponent ),
+                                               requiredJavaMajorVersion, cp, argv ) );
+        }
+
         // Add main class
         argv.add( minecraftMainClass );
 
@@ -1559,6 +1620,8 @@ class GameModPackLauncher
                                      com.micatechnologies.minecraft.launcher.utilities.SensitiveDataRedactor
                                                 .redact( String.join( " ", argv ) ) ) );
             lastLaunchedProcess = ProcessUtilities.launchCommand( argv, pack.getPackRootFolder(), ioMode );
+            // No-op unless buildClasspath armed a server-mode change journal.
+            ChangeJournal.startWatching( pack );
         }
         catch ( IOException e ) {
             throw new ModpackException( "Unable to execute mod pack game.", e );
@@ -25,6 +25,7 @@ import com.micatechnologies.minecraft.launcher.consts.ModPackConstants;
 import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
 import com.micatechnologies.minecraft.launcher.gui.MCLauncherProgressGui;
 import com.micatechnologies.minecraft.launcher.files.Logger;
+import com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors;
 import com.micatechnologies.minecraft.launcher.utilities.NetworkUtilities;
 import org.apache.commons.io.IOUtils;
 
@@ -142,53 +143,24 @@ public class GameModPackManager
     private static volatile CompletableFuture< Void > availableFetchFuture = null;
 
     /**
-     * Dedicated pool for the manager's network-bound parallel manifest fetches,
-     * so they don't run on (and block) the shared {@code ForkJoinPool.commonPool}
-     * — which is sized {@code availableProcessors-1} for CPU-bound work and, on
-     * a low-core machine, would serialize these I/O-bound fetches. Sized above
-     * core count since the work is latency-bound, not CPU-bound.
-     *
-     * @since 2.0
-     */
-    private static final java.util.concurrent.ForkJoinPool MANIFEST_FETCH_POOL =
-            new java.util.concurrent.ForkJoinPool(
-                    Math.max( 4, Runtime.getRuntime().availableProcessors() * 2 ) );
-
-    /**
-     * Runs a parallel-stream block on {@link #MANIFEST_FETCH_POOL} instead of the
-     * common pool (a parallel stream uses the pool of the ForkJoinWorkerThread
-     * that drives it). Unwraps and rethrows any unchecked failure from the block
-     * so callers see the same exception they would from a bare parallelStream.
+     * Runs a network-bound manifest fetch for every URL in {@code manifestUrls}
+     * as one {@link ManifestSync#wave revalidation wave} — per-host lanes on the
+     * shared IO workload, each reusing one keep-alive connection — and returns
+     * once all have finished. Rethrows any unchecked failure from {@code fetch},
+     * as a bare {@code parallelStream} would.
      *
      * <p>If the submitting thread is interrupted while awaiting completion, the
-     * interrupt status is restored and the method returns without rethrowing.</p>
-     *
-     * @param parallelWork the work (typically a {@code parallelStream().forEach(...)})
-     *                     to execute on the dedicated manifest-fetch pool
+     * in-flight fetches are cancelled, the interrupt status is restored and the
+     * method returns without rethrowing.</p>
      *
-     * @throws RuntimeException wrapping (or directly rethrowing) any unchecked
-     *                         exception thrown by {@code parallelWork}
-     * @throws Error           if {@code parallelWork} fails with an {@link Error}
+     * @param manifestUrls the manifest URLs to fetch
+     * @param fetch        the per-URL fetch
      *
      * @since 2.0
      */
-    private static void runOnManifestFetchPool( Runnable parallelWork ) {
-        try {
-            MANIFEST_FETCH_POOL.submit( parallelWork ).get();
-        }
-        catch ( InterruptedException e ) {
-            Thread.currentThread().interrupt();
-        }
-        catch ( java.util.concurrent.ExecutionException e ) {
-            Throwable cause = e.getCause();
-            if ( cause instanceof RuntimeException runtimeException ) {
-                throw runtimeException;
-            }
-            if ( cause instanceof Error error ) {
-                throw error;
-            }
-            throw new RuntimeException( cause );
-        }
+    private static void fetchInParallel( java.util.Collection< String > manifestUrls,
+                                         java.util.function.Consumer< String > fetch ) {
+        ManifestSync.await( ManifestSync.wave( manifestUrls, fetch ) );
     }
 
     /**
@@ -238,19 +210,20 @@ public class GameModPackManager
         List< String > installedModPackManifestUrls = getInstalledModPackURLs();
 
         // Parse available mod pack manifest contents. Per-pack manifest fetches are
-        // network-bound and independent — parallelStream cuts wall time roughly N-fold
+        // network-bound and independent — fetching in parallel cuts wall time roughly N-fold
         // for N available packs, the single biggest hit to launcher startup latency
         // when there's a meaningful number of available packs in the manifest.
         JsonObject installableManifestUrls = JSONUtilities.getGson().fromJson( availableModPackManifestBody, JsonObject.class );
         final MCLauncherProgressGui finalProgressWindow = progressWindow;
-        runOnManifestFetchPool( () ->
+        List< String > availableManifestUrls = new ArrayList<>();
         installableManifestUrls.getAsJsonArray( ModPackConstants.AVAILABLE_PACKS_MANIFEST_LIST_KEY )
-                .asList().parallelStream().forEach( manifestUrl -> {
-            final String manifestUrlVal = manifestUrl.getAsString();
+                .forEach( element -> availableManifestUrls.add( element.getAsString() ) );
+        fetchInParallel( availableManifestUrls, manifestUrlVal -> {
             if ( !installedModPackManifestUrls.contains( manifestUrlVal ) ) {
                 GameModPack gameModPack = GameModPackFetcher.get( manifestUrlVal, false );
                 if ( gameModPack.getFriendlyName() != null ) {
                     availableGameModPacks.add( gameModPack );
+                    PackSearchIndex.put( gameModPack );
 
                     // Update progress window
                     if ( finalProgressWindow != null ) {
@@ -292,7 +265,7 @@ public class GameModPackManager
                                            manifestUrlVal );
                 }
             }
-        } ) );
+        } );
         // Update progress window
         if ( progressWindow != null ) {
             progressWindow.setDetailText( LocalizationManager.COMPLETED_TEXT );
@@ -335,7 +308,7 @@ public class GameModPackManager
         }
 
         // Phase 1a — index-first ultra-fast path. The unified install index
-        // (manifests/install_index.json) holds the card-rendering subset of
+        // (modpacks/install_index.bin) holds the card-rendering subset of
         // every previously-fetched pack in a single file, so this loop opens
         // ONE file regardless of how many packs the user has installed —
         // critical once CurseForge / Modrinth imports push installed counts
@@ -348,7 +321,9 @@ public class GameModPackManager
         for ( String manifestUrl : installedModPackManifestUrls ) {
             InstallIndex.Entry entry = index.get( manifestUrl );
             if ( entry != null ) {
-                installedGameModPacks.add( GameModPack.createStubFromIndex( manifestUrl, entry ) );
+                GameModPack stub = GameModPack.createStubFromIndex( manifestUrl, entry );
+                installedGameModPacks.add( stub );
+                PackSearchIndex.put( stub );
             }
             // Even when the stub is in hand we still need to load the full
             // manifest into a real pack object before Play can fire — that's
@@ -375,6 +350,7 @@ public class GameModPackManager
             GameModPack cached = GameModPackFetcher.getFromCache( manifestUrl, true );
             if ( cached != null ) {
                 replaceOrAppendByUrl( installedGameModPacks, manifestUrl, cached );
+                PackSearchIndex.put( cached );
             }
             else if ( installedGameModPacks.stream().noneMatch( p ->
                     manifestUrl.equals( p.getManifestUrl() ) ) ) {
@@ -390,14 +366,15 @@ public class GameModPackManager
         } );
 
         // Phase 1b — synchronous network for any pack we couldn't load from cache.
-        // Same parallelStream as before; the loop only fires when the cache misses,
+        // Same parallel fetch as the available list; the loop only fires when the cache misses,
         // which on a warm launcher is empty.
         final MCLauncherProgressGui finalProgressWindow = progressWindow;
         if ( !needsNetwork.isEmpty() ) {
-            runOnManifestFetchPool( () -> needsNetwork.parallelStream().forEach( manifestUrl -> {
+            fetchInParallel( needsNetwork, manifestUrl -> {
                 try {
                     GameModPack gameModPack = GameModPackFetcher.get( manifestUrl, true );
                     installedGameModPacks.add( gameModPack );
+                    PackSearchIndex.put( gameModPack );
                     try {
                         ModPackUpdateLog.recordRemoteVersionSeen( gameModPack );
                     }
@@ -416,7 +393,7 @@ public class GameModPackManager
                                              + " " + manifestUrl );
                     Logger.logThrowable( e );
                 }
-            } ) );
+            } );
         }
 
         // Phase 2 — background revalidate. Kick off network fetches for every pack
@@ -429,6 +406,13 @@ public class GameModPackManager
             startInstalledRevalidateAsync( installedModPackManifestUrls );
         }
 
+        // Search terms for each pack's mods/. One stat per pack whose folder
+        // hasn't changed since the last pass, so re-running this on every
+        // install / uninstall only re-reads the packs that moved.
+        final List< GameModPack > modsToIndex = new ArrayList<>( installedGameModPacks );
+        LauncherExecutors.execute( LauncherExecutors.Workload.IO,
+                                   () -> modsToIndex.forEach( PackSearchIndex::putMods ) );
+
         // Update progress window
         if ( progressWindow != null ) {
             progressWindow.setDetailText( LocalizationManager.COMPLETED_TEXT );
@@ -516,43 +500,44 @@ public class GameModPackManager
      * @since 3.5
      */
     private static void startInstalledRevalidateAsync( List< String > manifestUrls ) {
-        installedRevalidateFuture = CompletableFuture.runAsync( () -> {
+        installedRevalidateFuture = ManifestSync.wave( manifestUrls, manifestUrl -> {
             try {
-                manifestUrls.parallelStream().forEach( manifestUrl -> {
-                    try {
-                        GameModPack fresh = GameModPackFetcher.get( manifestUrl, true );
-                        if ( fresh == null ) return;
-                        // Walk the live list and replace the matching entry. CopyOnWriteArrayList
-                        // semantics: set() is atomic per index. Match by manifest URL since
-                        // pack names can change across versions.
-                        for ( int i = 0; i < installedGameModPacks.size(); i++ ) {
-                            GameModPack current = installedGameModPacks.get( i );
-                            if ( current != null && manifestUrl.equals( current.getManifestUrl() ) ) {
-                                installedGameModPacks.set( i, fresh );
-                                break;
-                            }
-                        }
-                        try {
-                            ModPackUpdateLog.recordRemoteVersionSeen( fresh );
-                        }
-                        catch ( Throwable t ) {
-                            Logger.logWarningSilent( LocalizationManager.format( "log.gameModPackManager.updateLogRecordFailed",
-                                                             fresh.getPackName(), t.getMessage() ) );
-                        }
+                GameModPack fresh = GameModPackFetcher.get( manifestUrl, true );
+                if ( fresh == null ) return;
+                // Walk the live list and replace the matching entry. CopyOnWriteArrayList
+                // semantics: set() is atomic per index. Match by manifest URL since
+                // pack names can change across versions.
+                for ( int i = 0; i < installedGameModPacks.size(); i++ ) {
+                    GameModPack current = installedGameModPacks.get( i );
+                    if ( current != null && manifestUrl.equals( current.getManifestUrl() ) ) {
+                        installedGameModPacks.set( i, fresh );
+                        PackSearchIndex.put( fresh );
+                        break;
                     }
-                    catch ( Throwable t ) {
-                        // Per-pack failure is non-fatal — the cached version stays in the list.
-                        Logger.logWarningSilent( LocalizationManager.format( "log.gameModPackManager.backgroundRevalidateFailed",
-                                                         manifestUrl, t.getMessage() ) );
-                    }
-                } );
+                }
+                try {
+                    ModPackUpdateLog.recordRemoteVersionSeen( fresh );
+                }
+                catch ( Throwable t ) {
+                    Logger.logWarningSilent( LocalizationManager.format( "log.gameModPackManager.updateLogRecordFailed",
+                                                     fresh.getPackName(), t.getMessage() ) );
+                }
             }
             catch ( Throwable t ) {
+                // Per-pack failure is non-fatal — the cached version stays in the list.
+                Logger.logWarningSilent( LocalizationManager.format( "log.gameModPackManager.backgroundRevalidateFailed",
+                                                 manifestUrl, t.getMessage() ) );
+            }
+        } ).handle( ( ignored, t ) -> {
+            if ( t != null && !( t instanceof java.util.concurrent.CancellationException ) ) {
+                Throwable cause = t instanceof java.util.concurrent.CompletionException && t.getCause() != null
+                                  ? t.getCause() : t;
                 Logger.logErrorSilent( LocalizationManager.get( "log.gameModPackManager.installedRevalidateFailed" ) );
-                Logger.logThrowable( t );
+                Logger.logThrowable( cause );
                 fireBackgroundError(
-                        LocalizationManager.get( "gameModPackManager.installedRevalidateFailed" ), t );
+                        LocalizationManager.get( "gameModPackManager.installedRevalidateFailed" ), cause );
             }
+            return null;
         } );
     }
 
@@ -625,7 +610,7 @@ public class GameModPackManager
                     fireBackgroundError(
                             LocalizationManager.get( "gameModPackManager.availableFetchFailed" ), t );
                 }
-            } );
+            }, LauncherExecutors.asExecutor( LauncherExecutors.Workload.IO ) );
             return availableFetchFuture;
         }
     }
@@ -919,6 +904,9 @@ public class GameModPackManager
         // Remove specified pack from installed list
         if ( installedGameModPacks != null ) {
             installedGameModPacks.remove( gameModPack );
+            // Drops its mod terms too; the available-packs refresh below
+            // re-adds its metadata if the pack is still in the public list.
+            PackSearchIndex.remove( gameModPack );
             // Drop the matching install-index entry so the next cold start
             // doesn't paint a ghost card for an uninstalled pack.
             try {
@@ -797,6 +797,12 @@ public abstract class GameModPackMetadata
         catch ( IOException e ) {
             Logger.logWarningSilent( LocalizationManager.format( "log.gameModPackMetadata.unableToSaveLaunchHistory", getPackName() ) );
         }
+        // Every client exit path lands here, so the session's GC log is
+        // distilled here too (asynchronously, on the IO workload).
+        GcTelemetry.recordSession( getPackRootFolder() );
+        // The session may have grown region files and logs in place, which
+        // folder mtimes don't reveal; have the next size refresh re-stat them.
+        DiskUsageIndex.markPlayed( getPackRootFolder() );
     }
 
     /**
@@ -19,6 +19,8 @@ package com.micatechnologies.minecraft.launcher.game.modpack;
 
 import com.micatechnologies.minecraft.launcher.utilities.DownloadTracker;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Abstract progress sink for long-running mod pack operations (download, verification, Forge processing, launch).
  * <p>
@@ -33,6 +35,10 @@ import com.micatechnologies.minecraft.launcher.utilities.DownloadTracker;
  * In addition to the percentage-based section model, the provider exposes step-aware lifecycle hooks
  * ({@link #enterStep}, {@link #completeStep}, {@link #failStep}, {@link #onError}) used by the multi-row launch progress
  * UI. These default to no-ops so legacy single-bar progress GUIs continue to work unchanged.
+ * <p>
+ * Parallel per-file loops report through a {@link ProgressCounter} from {@link #startCounter} rather than
+ * {@link #submitProgress(String, double)}: workers bump a striped counter without locking or building a detail
+ * string, and the counter's contribution and status line are folded in whenever an update is rendered.
  *
  * @author Mica Technologies
  */
@@ -76,6 +82,17 @@ public abstract class GameModPackProgressProvider
      */
     private              double currSectionProgress   = 0.0;
 
+    /**
+     * The in-flight parallel batch from {@link #startCounter}, if any. Its contribution is added on top of
+     * {@link #currSectionProgress} until the next structural call folds it in.
+     */
+    private volatile     ProgressCounter< ? > liveCounter;
+
+    /**
+     * Set by counter advances, cleared by explicit detail text: whichever wrote last supplies the detail line.
+     */
+    private volatile     boolean detailFromCounter;
+
     /**
      * Shared download tracker for byte-level progress across all download sections.
      */
@@ -98,7 +115,9 @@ public abstract class GameModPackProgressProvider
      * notification reaches the UI.
      */
     void triggerUpdateHandler() {
-        updateProgressHandler( getActualProgress(), currSectionTitle, currDetailText,
+        ProgressCounter< ? > counter = liveCounter;
+        String detail = ( counter != null && detailFromCounter ) ? counter.status() : currDetailText;
+        updateProgressHandler( getActualProgress(), currSectionTitle, detail,
                                downloadTracker.getFormattedStatus() );
     }
 
@@ -109,7 +128,72 @@ public abstract class GameModPackProgressProvider
      * @return the overall progress on a 0&ndash;{@link #PROGRESS_PERCENT_BASE} scale
      */
     private double getActualProgress() {
-        return currPercent + ( currSectionProgress * ( currSectionSize / PROGRESS_PERCENT_BASE ) );
+        ProgressCounter< ? > counter = liveCounter;
+        double section = counter == null ? currSectionProgress
+                                         : Math.min( PROGRESS_PERCENT_BASE,
+                                                     currSectionProgress + counter.contribution() );
+        return currPercent + ( section * ( currSectionSize / PROGRESS_PERCENT_BASE ) );
+    }
+
+    /**
+     * Opens a lock-free counter for a batch of {@code total} parallel work items that together advance the current
+     * section by {@code share}. Replaces a per-item {@link #submitProgress(String, double)} in worker loops: each
+     * {@link ProgressCounter#advance} is a striped increment, and the detail line is formatted by {@code formatter}
+     * only when an update actually fires (at most every {@code SUBMIT_PROGRESS_THROTTLE_MS}, plus once when the
+     * batch completes). Any previous counter is folded into the section first.
+     *
+     * @param total     number of items the batch will {@link ProgressCounter#advance advance}
+     * @param share     section progress (on a 0&ndash;{@link #PROGRESS_PERCENT_BASE} scale) the whole batch is worth
+     * @param formatter builds the detail line from the counter state, on the sampling thread
+     * @param <T>       type of the work item
+     *
+     * @return the counter to advance from workers
+     *
+     * @since 2026.7
+     */
+    public synchronized < T > ProgressCounter< T > startCounter( long total, double share,
+                                                                 ProgressCounter.Formatter< ? super T > formatter )
+    {
+        foldCounter();
+        ProgressCounter< T > counter = new ProgressCounter<>( total, share, formatter, this::counterAdvanced );
+        liveCounter = counter;
+        return counter;
+    }
+
+    /**
+     * Rolls the live counter's contribution into {@link #currSectionProgress} and detaches it, keeping its last
+     * status as the detail text. Called before any explicit progress change so the two never double-count.
+     */
+    private void foldCounter() {
+        ProgressCounter< ? > counter = liveCounter;
+        if ( counter == null ) {
+            return;
+        }
+        liveCounter = null;
+        currSectionProgress = Math.min( PROGRESS_PERCENT_BASE, currSectionProgress + counter.contribution() );
+        if ( detailFromCounter ) {
+            currDetailText = counter.status();
+            detailFromCounter = false;
+        }
+    }
+
+    /**
+     * Worker-side advance hook: the same ~20&nbsp;fps throttle as {@link #submitProgress(String, double)}, but
+     * claimed with a CAS instead of the provider monitor, so only the winning worker formats and fires.
+     */
+    private void counterAdvanced( ProgressCounter< ? > counter ) {
+        if ( counter != liveCounter ) {
+            return;
+        }
+        if ( !detailFromCounter ) {
+            detailFromCounter = true;
+        }
+        long now = System.currentTimeMillis();
+        long last = lastSubmitFireMs.get();
+        if ( ( now - last >= SUBMIT_PROGRESS_THROTTLE_MS && lastSubmitFireMs.compareAndSet( last, now ) )
+                || counter.isComplete() ) {
+            triggerUpdateHandler();
+        }
     }
 
     /**
@@ -125,7 +209,9 @@ public abstract class GameModPackProgressProvider
      *                        scale)
      */
     public synchronized void submitProgress( String detailText, double sectionProgress ) {
+        foldCounter();
         this.currDetailText = detailText;
+        this.detailFromCounter = false;
 
         if ( sectionProgress + currSectionProgress > PROGRESS_PERCENT_BASE ) {
             currSectionProgress = PROGRESS_PERCENT_BASE;
@@ -146,16 +232,16 @@ public abstract class GameModPackProgressProvider
         // transitions (start/end/section change) and signalComplete still
         // fire immediately so structural events are never coalesced away.
         long now = System.currentTimeMillis();
-        if ( now - lastSubmitFireMs >= SUBMIT_PROGRESS_THROTTLE_MS
+        if ( now - lastSubmitFireMs.get() >= SUBMIT_PROGRESS_THROTTLE_MS
                 || currSectionProgress >= PROGRESS_PERCENT_BASE ) {
-            lastSubmitFireMs = now;
+            lastSubmitFireMs.set( now );
             triggerUpdateHandler();
         }
     }
 
-    /** Wall-clock of the last submitProgress-triggered handler fire. Used to
+    /** Wall-clock of the last submitProgress- or counter-triggered handler fire. Used to
      *  throttle high-frequency per-file progress notifications down to ~20 fps. */
-    private volatile long lastSubmitFireMs = 0;
+    private final AtomicLong lastSubmitFireMs = new AtomicLong( 0 );
     private static final long SUBMIT_PROGRESS_THROTTLE_MS = 50;
 
     /**
@@ -166,6 +252,7 @@ public abstract class GameModPackProgressProvider
      */
     void setCurrText( String detailText ) {
         this.currDetailText = detailText;
+        this.detailFromCounter = false;
         triggerUpdateHandler();
     }
 
@@ -177,6 +264,8 @@ public abstract class GameModPackProgressProvider
      * @param text the detail text to display as the section closes
      */
     void endProgressSection( String text ) {
+        this.liveCounter = null;
+        this.detailFromCounter = false;
         this.currPercent += currSectionSize;
         this.currSectionProgress = 0;
         this.currDetailText = text;
@@ -195,6 +284,7 @@ public abstract class GameModPackProgressProvider
      */
     void startProgressSection( String sectionTitle, double size ) {
         // End open progress session (if exists)
+        foldCounter();
         this.currPercent += this.currSectionProgress;
 
         // Store progress section information
@@ -214,6 +304,8 @@ public abstract class GameModPackProgressProvider
      * @param sectionTitle the heading to display alongside the completed state (e.g. "Done")
      */
     public void signalComplete( String sectionTitle ) {
+        this.liveCounter = null;
+        this.detailFromCounter = false;
         this.currPercent = PROGRESS_PERCENT_BASE;
         this.currSectionProgress = 0;
         this.currSectionSize = 0;
@@ -0,0 +1,385 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import com.micatechnologies.minecraft.launcher.config.ConfigManager;
+import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
+import com.micatechnologies.minecraft.launcher.files.Logger;
+import com.micatechnologies.minecraft.launcher.utilities.GcSessionStats;
+import com.micatechnologies.minecraft.launcher.utilities.HardwareTunedJvmArgs;
+import com.micatechnologies.minecraft.launcher.utilities.JSONUtilities;
+import com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors;
+import com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors.Workload;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+/**
+ * Closes the loop between {@link HardwareTunedJvmArgs} and what the game's
+ * garbage collector actually did. Game launches log GC activity to a rotating
+ * file under the pack's {@code logs/gc} folder; when the game exits the log is
+ * distilled into a {@link GcSessionStats} and appended to the pack's
+ * {@code .gc_sessions} sidecar. Settings shows the resulting recommendation and
+ * its reasons, and with auto-tune enabled launches apply it per pack.
+ *
+ * @since 2026.7
+ */
+public final class GcTelemetry
+{
+    /**
+     * GC log folder, relative to the pack root.
+     */
+    private static final String LOG_FOLDER = "logs/gc";
+
+    /**
+     * Active GC log name; rotated files get {@code .0}, {@code .1}, … suffixes.
+     */
+    private static final String LOG_FILE = "gc.log";
+
+    /**
+     * Unified-logging rotation: at most this many files of {@link #LOG_FILE_SIZE} each.
+     */
+    private static final int    LOG_FILE_COUNT = 4;
+    private static final String LOG_FILE_SIZE  = "16m";
+
+    /**
+     * Per-pack sidecar holding recent sessions as a JSON array.
+     */
+    private static final String SESSIONS_FILE = ".gc_sessions";
+
+    /**
+     * Sessions kept per pack.
+     */
+    static final int MAX_SESSIONS = 10;
+
+    /**
+     * Sessions needed before auto-tune changes anything; one odd session
+     * shouldn't reshape the heap.
+     */
+    static final int AUTO_TUNE_MIN_SESSIONS = 3;
+
+    /**
+     * Sessions shorter than this (a crash at startup, a quick settings check)
+     * only show loading behaviour and are not recorded.
+     */
+    static final double MIN_SESSION_UPTIME_SECONDS = 60;
+
+    /**
+     * GC selection and tuning options a tuning replaces in the user's args.
+     * Anything starting with {@code G1} is replaced as well.
+     */
+    private static final Set< String > GC_OPTIONS = Set.of( "UseG1GC", "UseZGC", "ZGenerational", "UseParallelGC",
+                                                            "UseSerialGC", "UseShenandoahGC", "MaxGCPauseMillis",
+                                                            "ParallelRefProcEnabled", "UseStringDeduplication",
+                                                            "AlwaysPreTouch", "DisableExplicitGC",
+                                                            "InitiatingHeapOccupancyPercent" );
+
+    /**
+     * How long a launch waits for the previous session's log to finish parsing
+     * before it gives up on telemetry for that launch (a dedicated server's
+     * restart loop relaunches the moment the game exits).
+     */
+    private static final long PARSE_WAIT_SECONDS = 30;
+
+    /**
+     * Parses still reading a pack's log folder, by pack root.
+     */
+    private static final Map< String, Future< ? > > PARSING = new ConcurrentHashMap<>();
+
+    private static final Type SESSIONS_TYPE = new TypeToken< List< GcSessionStats > >()
+    {
+    }.getType();
+
+    private GcTelemetry() { /* static-only */ }
+
+    /**
+     * Returns the {@code -Xlog} argument that logs this launch's GC activity
+     * into the pack, after clearing the previous session's log so the parse on
+     * exit only sees this session. Waits for a still-running parse of that
+     * log first. Empty when telemetry is off, the runtime predates unified
+     * logging (Java 8 packs) or the previous parse didn't finish in time.
+     *
+     * @param packRoot  the pack root folder
+     * @param javaMajor the Java major version the game runs on
+     *
+     * @return the logging argument, or an empty list
+     */
+    static List< String > loggingArgs( String packRoot, int javaMajor )
+    {
+        if ( !ConfigManager.getGcTelemetryEnable() || javaMajor < 9 ) {
+            return List.of();
+        }
+        if ( !awaitParse( packRoot ) ) {
+            Logger.logWarningSilent( LocalizationManager.get( "log.gcTelemetry.parsePending" ) );
+            return List.of();
+        }
+        Path folder = Path.of( packRoot, LOG_FOLDER );
+        try {
+            Files.createDirectories( folder );
+            for ( Path log : logFiles( folder ) ) {
+                Files.deleteIfExists( log );
+            }
+        }
+        catch ( IOException e ) {
+            Logger.logWarningSilent( LocalizationManager.format( "log.gcTelemetry.logUnavailable", e.getMessage() ) );
+            return List.of();
+        }
+        // Quoted so a colon in the path (every Windows drive letter) isn't
+        // read as the next -Xlog field separator.
+        return List.of( "-Xlog:gc*:file=\"" + folder.resolve( LOG_FILE ) + "\":uptime,level,tags:filecount="
+                                + LOG_FILE_COUNT + ",filesize=" + LOG_FILE_SIZE );
+    }
+
+    /**
+     * Parses the session that just ended and appends it to the pack's history
+     * on the IO workload. Safe to call for every exit; does nothing when the
+     * launch wasn't logged.
+     *
+     * @param packRoot the pack root folder
+     */
+    public static void recordSession( String packRoot )
+    {
+        if ( !ConfigManager.getGcTelemetryEnable() ) {
+            return;
+        }
+        long endedAt = System.currentTimeMillis();
+        CompletableFuture< Void > parse = CompletableFuture.runAsync( () -> storeSession( packRoot, endedAt ),
+                                                                     LauncherExecutors.asExecutor( Workload.IO ) );
+        PARSING.put( packRoot, parse );
+        parse.whenComplete( ( ignored, e ) -> PARSING.remove( packRoot, parse ) );
+    }
+
+    /**
+     * Waits for a running {@link #recordSession} parse of the pack's log.
+     *
+     * @return {@code true} once no parse is reading the log, {@code false} if
+     *         one is still running after {@link #PARSE_WAIT_SECONDS}
+     */
+    static boolean awaitParse( String packRoot )
+    {
+        Future< ? > parse = PARSING.get( packRoot );
+        if ( parse == null ) {
+            return true;
+        }
+        try {
+            parse.get( PARSE_WAIT_SECONDS, TimeUnit.SECONDS );
+            return true;
+        }
+        catch ( ExecutionException e ) {
+            return true;
+        }
+        catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        catch ( TimeoutException e ) {
+            return false;
+        }
+    }
+
+    private static void storeSession( String packRoot, long endedAt )
+    {
+        GcSessionStats stats;
+        try {
+            stats = parseLogs( Path.of( packRoot, LOG_FOLDER ), endedAt );
+        }
+        catch ( IOException | UncheckedIOException e ) {
+            Logger.logWarningSilent( LocalizationManager.format( "log.gcTelemetry.parseFailed", e.getMessage() ) );
+            return;
+        }
+        if ( stats == null || stats.uptimeSeconds() < MIN_SESSION_UPTIME_SECONDS ) {
+            return;
+        }
+        try {
+            PackDotFile.modify( packRoot, SESSIONS_FILE, existing -> {
+                List< GcSessionStats > sessions = new ArrayList<>( decode( existing ) );
+                sessions.add( stats );
+                if ( sessions.size() > MAX_SESSIONS ) {
+                    sessions = sessions.subList( sessions.size() - MAX_SESSIONS, sessions.size() );
+                }
+                return JSONUtilities.getGson().toJson( sessions, SESSIONS_TYPE );
+            } );
+            Logger.logDebug( LocalizationManager.format( "log.gcTelemetry.sessionRecorded", stats.pauses(),
+                                                         Math.round( stats.pauseP99Ms() ), stats.peakLiveMb() ) );
+        }
+        catch ( IOException e ) {
+            Logger.logWarningSilent( LocalizationManager.format( "log.gcTelemetry.saveFailed", e.getMessage() ) );
+        }
+    }
+
+    /**
+     * Returns the pack's recorded sessions, oldest first.
+     *
+     * @param packRoot the pack root folder
+     *
+     * @return the sessions; empty when none were recorded
+     */
+    public static List< GcSessionStats > sessions( String packRoot )
+    {
+        return decode( PackDotFile.read( packRoot, SESSIONS_FILE ) );
+    }
+
+    /**
+     * Returns the tuning auto-tune applies to this launch, or {@code null}
+     * when auto-tune is off or the pack hasn't enough history yet.
+     *
+     * @param packRoot  the pack root folder
+     * @param maxRamGB  the configured max heap in GB
+     * @param javaMajor the Java major version the game runs on
+     *
+     * @return the tuning, or {@code null}
+     */
+    static HardwareTunedJvmArgs.Tuning autoTuning( String packRoot, int maxRamGB, int javaMajor )
+    {
+        if ( !ConfigManager.getGcAutoTuneEnable() ) {
+            return null;
+        }
+        List< GcSessionStats > sessions = sessions( packRoot );
+        if ( sessions.size() < AUTO_TUNE_MIN_SESSIONS ) {
+            return null;
+        }
+        HardwareTunedJvmArgs.Tuning tuning = HardwareTunedJvmArgs.tune( maxRamGB, javaMajor, sessions );
+        for ( String reason : tuning.reasons() ) {
+            Logger.logStd( LocalizationManager.format( "log.gcTelemetry.autoTuneReason", reason ) );
+        }
+        return tuning;
+    }
+
+    /**
+     * Replaces the GC selection and tuning options in {@code jvmArgs} with the
+     * tuned ones, keeping everything else (and the order of what's kept).
+     * Leaving the user's collector flag in place next to a different tuned one
+     * would stop the JVM with "multiple garbage collectors selected".
+     *
+     * @param jvmArgs   the user's JVM args
+     * @param tunedArgs the tuned args to apply
+     *
+     * @return the merged args
+     */
+    static List< String > withTuning( List< String > jvmArgs, String tunedArgs )
+    {
+        List< String > merged = new ArrayList<>();
+        for ( String arg : jvmArgs ) {
+            if ( !isGcOption( arg ) ) {
+                merged.add( arg );
+            }
+        }
+        for ( String arg : tunedArgs.split( " " ) ) {
+            if ( !arg.isEmpty() && !merged.contains( arg ) ) {
+                merged.add( arg );
+            }
+        }
+        return merged;
+    }
+
+    private static boolean isGcOption( String arg )
+    {
+        if ( !arg.startsWith( "-XX:" ) ) {
+            return false;
+        }
+        String name = arg.substring( 4 );
+        if ( name.startsWith( "+" ) || name.startsWith( "-" ) ) {
+            name = name.substring( 1 );
+        }
+        int eq = name.indexOf( '=' );
+        if ( eq >= 0 ) {
+            name = name.substring( 0, eq );
+        }
+        return name.startsWith( "G1" ) || GC_OPTIONS.contains( name );
+    }
+
+    /**
+     * Parses every (rotated) log file in {@code folder}, oldest first.
+     */
+    static GcSessionStats parseLogs( Path folder, long endedAt ) throws IOException
+    {
+        if ( !Files.isDirectory( folder ) ) {
+            return null;
+        }
+        List< Path > files = logFiles( folder );
+        files.sort( Comparator.comparing( GcTelemetry::modifiedTime ) );
+        // Streamed file by file: a long session's rotated logs run to tens of
+        // megabytes. ISO-8859-1 never rejects a byte, so odd path characters
+        // echoed into the log can't abort the parse.
+        try ( Stream< String > lines = files.stream().flatMap( GcTelemetry::lines ) ) {
+            return GcSessionStats.parse( lines::iterator, endedAt );
+        }
+    }
+
+    private static List< Path > logFiles( Path folder ) throws IOException
+    {
+        List< Path > files = new ArrayList<>();
+        try ( DirectoryStream< Path > stream = Files.newDirectoryStream( folder, LOG_FILE + "*" ) ) {
+            stream.forEach( files::add );
+        }
+        return files;
+    }
+
+    private static Stream< String > lines( Path file )
+    {
+        try {
+            return Files.lines( file, StandardCharsets.ISO_8859_1 );
+        }
+        catch ( IOException e ) {
+            throw new UncheckedIOException( e );
+        }
+    }
+
+    private static long modifiedTime( Path file )
+    {
+        try {
+            return Files.getLastModifiedTime( file ).toMillis();
+        }
+        catch ( IOException e ) {
+            return 0;
+        }
+    }
+
+    private static List< GcSessionStats > decode( String json )
+    {
+        if ( json == null || json.isBlank() ) {
+            return List.of();
+        }
+        try {
+            List< GcSessionStats > sessions = JSONUtilities.getGson().fromJson( json, SESSIONS_TYPE );
+            return sessions != null ? sessions : List.of();
+        }
+        catch ( JsonParseException e ) {
+            return List.of();
+        }
+    }
+}
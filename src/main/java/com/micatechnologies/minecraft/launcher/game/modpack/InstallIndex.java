@@ -20,13 +20,25 @@ package com.micatechnologies.minecraft.launcher.game.modpack;
 import com.micatechnologies.minecraft.launcher.files.LocalPathManager;
 import com.micatechnologies.minecraft.launcher.files.Logger;
 import com.micatechnologies.minecraft.launcher.utilities.JSONUtilities;
+import com.micatechnologies.minecraft.launcher.utilities.StringOrArray;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.CRC32;
 
 /**
  * Single-file persistent summary of every installed modpack — name, version,
@@ -34,13 +46,33 @@ import java.util.Map;
  * manifest URL. Lets the launcher paint the main menu's card grid from a single
  * file read at cold start instead of opening N per-manifest cache files.
  *
- * <p>On disk at {@code <launcher>/modpacks/install_index.json}, alongside the
+ * <p>On disk at {@code <launcher>/modpacks/install_index.bin}, alongside the
  * existing per-manifest {@code manifest_cache/} folder. The two stores cohabit:
  * the per-manifest cache holds the full GSON-deserializable body (needed for
  * game launch and the detail modal), while this index holds only the subset
  * needed to render a card. After a successful manifest fetch the index entry
  * is upserted from the freshly-parsed pack so the two stay in sync.</p>
  *
+ * <p><b>File format.</b> A fixed 16-byte header followed by an append-only log
+ * of length-prefixed, CRC-checked records, each keyed by a 64-bit hash of the
+ * manifest URL. An upsert or removal appends one record — O(entry) instead of
+ * the old "re-serialize the whole JSON document" rewrite — and concurrent
+ * writers are group-committed: whichever thread wins the lock writes every
+ * record queued so far in one channel write, so the {@code parallelStream}
+ * fan-out in {@link GameModPackManager} costs one write per batch rather than
+ * one full-file rewrite per pack. Superseded records are dropped by
+ * {@link #load()} once they outweigh the live ones (compaction copies the live
+ * records verbatim; nothing is re-encoded). A torn tail from a crash mid-append
+ * fails its CRC and is truncated on the next open.</p>
+ *
+ * <p><b>Reads.</b> The log is scanned once per process to locate live records;
+ * after that {@link #load()} only memory-maps the file and hands out the known
+ * offsets, and an {@link Entry} is decoded the first time {@link #get} asks for
+ * it. Cold start therefore pays
+ * for the entries the visible card page touches, not for every pack the user
+ * has ever imported. The legacy {@code install_index.json} written by earlier
+ * launchers is migrated into the log on first open and then deleted.</p>
+ *
  * <p><b>Scale rationale.</b> At today's 5–20 packs the win over per-manifest
  * file reads is modest (~100ms saved). The motivation is the CurseForge /
  * Modrinth import flow on the roadmap — a launcher with a few hundred or
@@ -57,20 +89,45 @@ public final class InstallIndex
      *  changes how readers interpret existing entries. A reader seeing a higher
      *  version treats the file as untrusted (returns empty) and lets the
      *  per-manifest fetch path rebuild the index from scratch. */
-    public static final int CURRENT_SCHEMA_VERSION = 1;
+    public static final int CURRENT_SCHEMA_VERSION = 2;
+
+    /** Filename of the binary index log inside {@code modpacks/}. */
+    private static final String INDEX_FILENAME = "install_index.bin";
+
+    /** Filename of the pre-log JSON index, migrated into the log on first open. */
+    private static final String LEGACY_INDEX_FILENAME = "install_index.json";
+
+    /** Header magic ({@code "MIDX"}), so a truncated or foreign file is never
+     *  mistaken for an index. */
+    private static final int MAGIC = 0x4D494458;
+
+    /** Header size: magic, schema version, two reserved ints. */
+    private static final int HEADER_BYTES = 16;
 
-    /** Filename of the index sidecar inside {@code modpacks/}. */
-    private static final String INDEX_FILENAME = "install_index.json";
+    /** Fixed per-record prefix: body length, CRC-32 of the body, kind, URL hash,
+     *  content CRC, refresh stamp. Enough for the writer to track live records
+     *  without decoding any payload. */
+    private static final int RECORD_HEADER_BYTES = 4 + 4 + 1 + 8 + 4 + 8;
 
-    /** Schema version of this in-memory / on-disk index, defaulting to
-     *  {@link #CURRENT_SCHEMA_VERSION} for a freshly-constructed instance.
-     *  Persisted so {@link #load()} can reject a file written by a newer
-     *  launcher (see the future-version guard there). */
-    public int version = CURRENT_SCHEMA_VERSION;
+    /** Record kind: the payload carries a full {@link Entry}. */
+    private static final byte KIND_UPSERT = 1;
 
-    /** Manifest URL → summary. LinkedHashMap preserves insertion / refresh order
-     *  so the on-disk file lists packs in a stable order across launches. */
-    public Map< String, Entry > packs = new LinkedHashMap<>();
+    /** Record kind: tombstone for a removed manifest URL. */
+    private static final byte KIND_REMOVE = 2;
+
+    /** Sanity cap on a single record's body. Entries are a few hundred bytes; a
+     *  larger length can only come from a torn or corrupted header. */
+    private static final int MAX_RECORD_BYTES = 1024 * 1024;
+
+    /** The log is compacted on {@link #load()} once it is at least this large and
+     *  superseded records outweigh live ones. Below this the garbage costs less
+     *  than the rewrite. */
+    private static final long COMPACT_MIN_BYTES = 64L * 1024;
+
+    /** An unchanged pack is re-stamped at most this often. Every manifest load
+     *  upserts, so without this a cold start with N packs would append N
+     *  identical records just to move {@link Entry#updatedAt} forward. */
+    private static final long RESTAMP_INTERVAL_MS = 24L * 60L * 60L * 1000L;
 
     /**
      * Card-rendering subset of a {@link GameModPack}. Only fields the main-menu
@@ -89,12 +146,12 @@ public final class InstallIndex
         public String packVersion;
         /** Website URL ({@code packURL} in the manifest), not the manifest URL. */
         public String packURL;
-        /** Logo URL(s) — string or array, mirroring the manifest. See {@link com.micatechnologies.minecraft.launcher.utilities.StringOrArray}. */
-        public com.micatechnologies.minecraft.launcher.utilities.StringOrArray packLogoURL;
+        /** Logo URL(s) — string or array, mirroring the manifest. See {@link StringOrArray}. */
+        public StringOrArray packLogoURL;
         /** Expected SHA-1 of the logo image, used to validate / key the image cache. */
         public String packLogoSha1;
         /** Background URL(s) — string or array, mirroring the manifest. */
-        public com.micatechnologies.minecraft.launcher.utilities.StringOrArray packBackgroundURL;
+        public StringOrArray packBackgroundURL;
         /** Expected SHA-1 of the background image, used to validate / key the image cache. */
         public String packBackgroundSha1;
         /** Minimum RAM in GB, kept as the manifest's raw {@code String} (not a parsed
@@ -104,22 +161,151 @@ public final class InstallIndex
         public boolean packUnstable;
         /** Whether the pack supplies its own custom Discord Rich Presence configuration. */
         public boolean packCustomDiscordRpc;
-        /** Epoch millis of the last successful refresh. Surfaces as a "refreshed
-         *  X minutes ago" hint and lets us age out entries whose URL has long
-         *  since been removed from the installed list. */
+        /** Epoch millis of the last successful refresh, at a resolution of
+         *  {@link #RESTAMP_INTERVAL_MS} for packs whose card fields haven't changed.
+         *  Surfaces as a "refreshed X ago" hint and lets us age out entries whose
+         *  URL has long since been removed from the installed list. */
         public long updatedAt;
     }
 
-    // ===== load / save =====
+    // ===== snapshot (what load() hands out) =====
+
+    /** Read-only view of the log as of {@link #load()}, or {@code null} for an
+     *  empty index. Only absolute reads are used, so concurrent {@link #get}
+     *  calls can share it. */
+    private final ByteBuffer log;
+
+    /** URL hash → record offset in {@link #log}, in first-upsert order so the
+     *  card grid lists packs in a stable order across launches. */
+    private final Map< Long, Integer > offsets;
+
+    /** Entries decoded so far, keyed by URL hash. */
+    private final Map< Long, Decoded > decoded = new ConcurrentHashMap<>();
+
+    /** A decoded record: the full manifest URL (to rule out hash collisions) and its entry. */
+    private record Decoded( String manifestUrl, Entry entry ) {}
+
+    /**
+     * Constructs a snapshot over the given log view.
+     *
+     * @param log     read-only log bytes, or {@code null} for an empty index
+     * @param offsets URL hash → record offset
+     */
+    private InstallIndex( ByteBuffer log, Map< Long, Integer > offsets )
+    {
+        this.log = log;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Returns the number of packs in this snapshot.
+     *
+     * @return the live entry count
+     */
+    public int size()
+    {
+        return offsets.size();
+    }
+
+    /**
+     * Returns the manifest URLs in this snapshot, in index order. Decodes only the
+     * URL of each record, not its entry.
+     *
+     * @return an unmodifiable list of manifest URLs
+     */
+    public List< String > manifestUrls()
+    {
+        List< String > urls = new ArrayList<>( offsets.size() );
+        for ( int off : offsets.values() ) {
+            urls.add( readString( log, off + RECORD_HEADER_BYTES ).value );
+        }
+        return Collections.unmodifiableList( urls );
+    }
+
+    /**
+     * Returns the entry for the given URL, or {@code null} if absent. Decodes the
+     * record on first access and caches it for the lifetime of the snapshot.
+     *
+     * @param manifestUrl the URL of the manifest
+     * @return the entry for the given URL, or {@code null} if absent
+     */
+    public Entry get( String manifestUrl )
+    {
+        if ( manifestUrl == null || log == null ) return null;
+        long hash = urlHash( manifestUrl );
+        Decoded d = decoded.get( hash );
+        if ( d == null ) {
+            Integer off = offsets.get( hash );
+            if ( off == null ) return null;
+            try {
+                d = decodeRecord( log, off );
+            }
+            catch ( RuntimeException e ) {
+                // CRC passed at scan time, so this is a reader/writer schema bug —
+                // treat as absent so the per-manifest path repopulates the entry.
+                Logger.logWarningSilent( "Could not decode install index entry: " + e.getClass().getSimpleName() );
+                return null;
+            }
+            decoded.put( hash, d );
+        }
+        // A 64-bit hash collision between two live URLs is astronomically unlikely,
+        // but answering with another pack's card would be worse than a miss.
+        return manifestUrl.equals( d.manifestUrl ) ? d.entry : null;
+    }
+
+    // ===== writer state (guarded by InstallIndex.class) =====
 
     /** Test seam: when non-null, overrides the on-disk index location so concurrency /
      *  round-trip tests can target a temp file instead of the real launcher folder. */
     static volatile Path testPathOverride;
 
-    /** Monotonic counter giving each write a unique temp filename — see {@link #save()}. */
+    /** Monotonic counter giving each compaction a unique temp filename. */
     private static final java.util.concurrent.atomic.AtomicLong TMP_SEQ =
             new java.util.concurrent.atomic.AtomicLong();
 
+    /** Records encoded by {@link #upsertAndSave} / {@link #removeAndSave} callers and
+     *  not yet written. Drained in batches by whichever caller next holds the lock. */
+    private static final ConcurrentLinkedQueue< PendingRecord > PENDING = new ConcurrentLinkedQueue<>();
+
+    /** An encoded record awaiting the next group commit. */
+    private record PendingRecord( byte kind, long urlHash, int contentCrc, long updatedAt, byte[] bytes ) {}
+
+    /** What the writer knows about one live record, taken from its header. */
+    private record Slot( int offset, int length, int contentCrc, long updatedAt ) {}
+
+    /** Scanned view of the on-disk log for the current path, or {@code null} until
+     *  first use. Kept for the life of the process — this process is the only
+     *  writer (see {@code SingleInstanceLock}) — so repeat {@link #load()} calls
+     *  never rescan. */
+    private static LogState state;
+
+    /** Writer-side view of the log: where it ends and where each live record lives. */
+    private static final class LogState
+    {
+        /** The log file this state describes. */
+        final Path path;
+        /** Live records by URL hash, in first-upsert order. */
+        final LinkedHashMap< Long, Slot > slots = new LinkedHashMap<>();
+        /** Offset one past the last valid record. */
+        long end = HEADER_BYTES;
+        /** Total bytes of the records in {@link #slots}. */
+        long liveBytes;
+
+        LogState( Path path )
+        {
+            this.path = path;
+        }
+    }
+
+    /**
+     * Test seam: forgets the scanned writer state so the next call rescans the log
+     * from disk, as a fresh launcher process would.
+     */
+    static synchronized void dropCachedState()
+    {
+        state = null;
+    }
+
     /**
      * Returns the path to the index file.
      *
@@ -134,24 +320,26 @@ public final class InstallIndex
     }
 
     /**
-     * Best-effort reap of leftover {@code install_index.json.tmp.N} staging files
-     * from a crash between write and rename — otherwise they accumulate forever
-     * (the in-process cleanup only fires on an in-flight IOException). Only files
-     * older than a few minutes are removed, so a concurrent in-flight write's temp
-     * is never deleted out from under it.
+     * Best-effort reap of leftover {@code *.tmp.N} staging files next to the index —
+     * compaction temps from a crash between write and rename, and the legacy JSON
+     * index's save temps. Only files older than a few minutes are removed, so an
+     * in-flight compaction's temp is never deleted out from under it.
+     *
+     * @param p the index path whose siblings are reaped
      */
-    private static void reapStaleTempFiles()
+    private static void reapStaleTempFiles( Path p )
     {
         try {
-            Path p = indexPath();
             Path dir = p.getParent();
             if ( dir == null || !Files.isDirectory( dir ) ) {
                 return;
             }
             String prefix = p.getFileName().toString() + ".tmp.";
+            String legacyPrefix = LEGACY_INDEX_FILENAME + ".tmp.";
             long cutoff = System.currentTimeMillis() - 5 * 60 * 1000L;
             try ( java.util.stream.Stream< Path > entries = Files.list( dir ) ) {
-                entries.filter( f -> f.getFileName().toString().startsWith( prefix ) )
+                entries.filter( f -> f.getFileName().toString().startsWith( prefix )
+                                || f.getFileName().toString().startsWith( legacyPrefix ) )
                        .forEach( f -> {
                            try {
                                if ( Files.getLastModifiedTime( f ).toMillis() < cutoff ) {
@@ -165,159 +353,348 @@ public final class InstallIndex
         catch ( Exception ignored ) { /* best-effort cleanup; never block load */ }
     }
 
+    // ===== load =====
+
     /**
-     * Reads the index from disk, or returns an empty instance if the file is
-     * missing / unreadable / from a future schema version. Treating any read
-     * failure as empty forces the per-manifest fallback path on this launch,
-     * which transparently rebuilds the index as packs refresh.
+     * Returns a snapshot of the index, or an empty one if the file is missing /
+     * unreadable / from a future schema version. Treating any read failure as
+     * empty forces the per-manifest fallback path on this launch, which
+     * transparently rebuilds the index as packs refresh.
      *
-     * @return the loaded {@link InstallIndex} instance or an empty one if the file is missing, unreadable, or from a future schema version
+     * <p>The first call per process scans record headers (and compacts the log
+     * if it has accumulated enough superseded records); later calls reuse the
+     * scanned offsets and only re-map the file. Upserts made after this call
+     * are not visible through the returned snapshot.</p>
+     *
+     * @return the loaded {@link InstallIndex} snapshot or an empty one if the file is missing, unreadable, or from a future schema version
      */
     public static synchronized InstallIndex load()
     {
-        reapStaleTempFiles();
         try {
-            Path p = indexPath();
-            if ( !Files.isRegularFile( p ) ) return new InstallIndex();
-            String json = Files.readString( p, StandardCharsets.UTF_8 );
-            InstallIndex parsed = JSONUtilities.getGson().fromJson( json, InstallIndex.class );
-            if ( parsed == null ) return new InstallIndex();
-            if ( parsed.version > CURRENT_SCHEMA_VERSION ) {
-                Logger.logWarningSilent( "Install index version " + parsed.version
-                                                 + " is newer than this launcher supports ("
-                                                 + CURRENT_SCHEMA_VERSION + "). Treating as empty." );
-                return new InstallIndex();
+            LogState s = state();
+            if ( s.slots.isEmpty() ) {
+                return new InstallIndex( null, Map.of() );
             }
-            if ( parsed.packs == null ) parsed.packs = new LinkedHashMap<>();
-            return parsed;
+            long garbage = s.end - HEADER_BYTES - s.liveBytes;
+            if ( s.end >= COMPACT_MIN_BYTES && garbage > s.liveBytes ) {
+                compact( s );
+            }
+            ByteBuffer mapped;
+            try ( FileChannel ch = FileChannel.open( s.path, StandardOpenOption.READ ) ) {
+                mapped = ch.map( FileChannel.MapMode.READ_ONLY, 0, s.end );
+            }
+            Map< Long, Integer > offsets = new LinkedHashMap<>( s.slots.size() * 2 );
+            for ( Map.Entry< Long, Slot > e : s.slots.entrySet() ) {
+                offsets.put( e.getKey(), e.getValue().offset );
+            }
+            return new InstallIndex( mapped, offsets );
         }
         catch ( Exception e ) {
             Logger.logWarningSilent( "Could not read install index: " + e.getClass().getSimpleName() );
-            return new InstallIndex();
+            state = null;
+            return new InstallIndex( null, Map.of() );
         }
     }
 
     /**
-     * Best-effort atomic-ish write. Atomic rename is used where supported so a
-     * partial write doesn't leave behind a corrupted JSON the next load has to
-     * discard. Falls back to a direct write if either the parent-directory
-     * create or the atomic move fails — the file's still useful even without
-     * the atomicity guarantee, and we'd rather end up with a written index
-     * than an empty one.
+     * Returns the writer state for the current index path, scanning (and if
+     * necessary creating or migrating) the log on first use.
+     *
+     * @return the current log state
+     *
+     * @throws IOException if the log can neither be read nor created
      */
-    public synchronized void save()
+    private static LogState state() throws IOException
     {
         Path p = indexPath();
+        if ( state != null && state.path.equals( p ) ) {
+            return state;
+        }
+        reapStaleTempFiles( p );
         Path parent = p.getParent();
+        if ( parent != null ) Files.createDirectories( parent );
 
-        // Ensure the parent directory exists before any write attempt. Use
-        // Files.createDirectories instead of File.mkdirs so a permission or
-        // path-resolution failure surfaces as a real exception we can log,
-        // rather than silently returning false and tripping the writeString
-        // below with NoSuchFileException.
-        try {
-            if ( parent != null ) Files.createDirectories( parent );
+        LogState s = new LogState( p );
+        boolean fresh = !Files.isRegularFile( p ) || !scan( s );
+        if ( fresh ) {
+            // Missing, foreign or newer-schema file: start a new log. Same outcome as the
+            // JSON index's "treat as empty, next save overwrites" behaviour.
+            s.slots.clear();
+            s.liveBytes = 0;
+            s.end = HEADER_BYTES;
+            ByteBuffer header = ByteBuffer.allocate( HEADER_BYTES );
+            header.putInt( MAGIC ).putInt( CURRENT_SCHEMA_VERSION ).putInt( 0 ).putInt( 0 ).flip();
+            try ( FileChannel ch = FileChannel.open( p, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                     StandardOpenOption.TRUNCATE_EXISTING ) ) {
+                ch.write( header );
+            }
         }
-        catch ( IOException e ) {
-            Logger.logWarningSilent( "Could not create install-index parent dir "
-                                             + parent + ": " + e.getClass().getSimpleName() );
-            return;
+        state = s;
+        if ( fresh ) {
+            migrateLegacyJson( p.resolveSibling( LEGACY_INDEX_FILENAME ) );
         }
+        return s;
+    }
 
-        String json = JSONUtilities.getGson().toJson( this );
+    /**
+     * Scans the log's record headers into {@code s}, verifying each record's CRC.
+     * Stops at the first record that is truncated or fails its CRC — a torn
+     * append from a crash — and truncates the file there so the next append
+     * lands on a clean boundary.
+     *
+     * @param s the state to fill; its path must exist
+     *
+     * @return {@code false} if the header is missing, foreign, or from a newer schema
+     *
+     * @throws IOException if the file cannot be read
+     */
+    private static boolean scan( LogState s ) throws IOException
+    {
+        try ( FileChannel ch = FileChannel.open( s.path, StandardOpenOption.READ, StandardOpenOption.WRITE ) ) {
+            long size = ch.size();
+            if ( size < HEADER_BYTES || size > Integer.MAX_VALUE ) return false;
+            // Heap read rather than a mapping: Windows refuses to truncate a file
+            // with a live mapping, and the scan runs once per process anyway.
+            ByteBuffer buf = ByteBuffer.allocate( ( int ) size );
+            while ( buf.hasRemaining() && ch.read( buf ) >= 0 ) { /* fill */ }
+            if ( buf.getInt( 0 ) != MAGIC ) return false;
+            int schema = buf.getInt( 4 );
+            if ( schema > CURRENT_SCHEMA_VERSION ) {
+                Logger.logWarningSilent( "Install index version " + schema
+                                                 + " is newer than this launcher supports ("
+                                                 + CURRENT_SCHEMA_VERSION + "). Treating as empty." );
+                return false;
+            }
+            int pos = HEADER_BYTES;
+            CRC32 crc = new CRC32();
+            while ( pos + RECORD_HEADER_BYTES <= size ) {
+                int bodyLen = buf.getInt( pos );
+                if ( bodyLen < RECORD_HEADER_BYTES - 4 || bodyLen > MAX_RECORD_BYTES || pos + 4L + bodyLen > size ) {
+                    break;
+                }
+                crc.reset();
+                crc.update( buf.slice( pos + 8, bodyLen - 4 ) );
+                if ( ( int ) crc.getValue() != buf.getInt( pos + 4 ) ) {
+                    break;
+                }
+                int length = 4 + bodyLen;
+                applyRecord( s, buf.get( pos + 8 ), buf.getLong( pos + 9 ), pos, length,
+                             buf.getInt( pos + 17 ), buf.getLong( pos + 21 ) );
+                pos += length;
+            }
+            s.end = pos;
+            if ( pos < size ) {
+                Logger.logWarningSilent( "Install index had a torn tail (" + ( size - pos ) + " bytes); truncating." );
+                ch.truncate( pos );
+            }
+            return true;
+        }
+    }
 
-        // Primary path: write to a sibling .tmp file and atomically rename
-        // into place so a partial write can't corrupt the live index. The temp
-        // name is unique per write so two concurrent writes can never clobber
-        // each other's staging file (the exact corruption a shared ".tmp" caused),
-        // and a leftover temp from a crashed write can't collide with a live one.
-        Path tmp = p.resolveSibling( p.getFileName() + ".tmp." + TMP_SEQ.incrementAndGet() );
+    /**
+     * Folds one record into the writer state.
+     *
+     * @param s          the state to update
+     * @param kind       {@link #KIND_UPSERT} or {@link #KIND_REMOVE}
+     * @param hash       the record's URL hash
+     * @param offset     the record's offset in the log
+     * @param length     the record's total length
+     * @param contentCrc CRC of the record's card fields (upserts only)
+     * @param updatedAt  the record's refresh stamp
+     */
+    private static void applyRecord( LogState s, byte kind, long hash, int offset, int length,
+                                     int contentCrc, long updatedAt )
+    {
+        Slot prev = kind == KIND_UPSERT
+                    ? s.slots.put( hash, new Slot( offset, length, contentCrc, updatedAt ) )
+                    : s.slots.remove( hash );
+        if ( prev != null ) s.liveBytes -= prev.length;
+        if ( kind == KIND_UPSERT ) s.liveBytes += length;
+    }
+
+    /**
+     * Rewrites the log with only its live records, copied verbatim, and atomically
+     * swaps it into place. Runs before {@link #load()} maps the file. If the swap
+     * fails (e.g. Windows refusing to replace a file an older snapshot still has
+     * mapped), the existing log is left alone and compaction retries next launch.
+     *
+     * @param s the state to compact; updated in place on success
+     */
+    private static void compact( LogState s )
+    {
+        Path tmp = s.path.resolveSibling( s.path.getFileName() + ".tmp." + TMP_SEQ.incrementAndGet() );
         try {
-            Files.writeString( tmp, json, StandardCharsets.UTF_8 );
-            try {
-                Files.move( tmp, p, java.nio.file.StandardCopyOption.REPLACE_EXISTING,
-                                     java.nio.file.StandardCopyOption.ATOMIC_MOVE );
-                return;
+            ByteBuffer src = ByteBuffer.allocate( ( int ) s.end );
+            try ( FileChannel ch = FileChannel.open( s.path, StandardOpenOption.READ ) ) {
+                while ( src.hasRemaining() && ch.read( src ) >= 0 ) { /* fill */ }
             }
-            catch ( Exception atomicFail ) {
-                // Filesystem doesn't support atomic move (some network mounts,
-                // older Windows configs); fall back to plain replace.
-                Files.move( tmp, p, java.nio.file.StandardCopyOption.REPLACE_EXISTING );
-                return;
+            ByteBuffer out = ByteBuffer.allocate( HEADER_BYTES + ( int ) s.liveBytes );
+            out.put( src.slice( 0, HEADER_BYTES ) );
+            out.putInt( 4, CURRENT_SCHEMA_VERSION );
+            LinkedHashMap< Long, Slot > moved = new LinkedHashMap<>();
+            for ( Map.Entry< Long, Slot > e : s.slots.entrySet() ) {
+                Slot slot = e.getValue();
+                moved.put( e.getKey(), new Slot( out.position(), slot.length, slot.contentCrc, slot.updatedAt ) );
+                out.put( src.slice( slot.offset, slot.length ) );
             }
+            out.flip();
+            try ( FileChannel ch = FileChannel.open( tmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE ) ) {
+                while ( out.hasRemaining() ) ch.write( out );
+            }
+            Files.move( tmp, s.path, java.nio.file.StandardCopyOption.REPLACE_EXISTING,
+                        java.nio.file.StandardCopyOption.ATOMIC_MOVE );
+            long before = s.end;
+            s.slots.clear();
+            s.slots.putAll( moved );
+            s.end = HEADER_BYTES + s.liveBytes;
+            Logger.logDebug( "Compacted install index from " + before + " to " + s.end + " bytes" );
         }
-        catch ( IOException tmpFail ) {
-            // Tmp-file path failed. Best-effort cleanup, then try a direct
-            // write — losing atomicity is OK, losing the whole index isn't.
+        catch ( Exception e ) {
             try { Files.deleteIfExists( tmp ); } catch ( IOException ignored ) {}
-            try {
-                Files.writeString( p, json, StandardCharsets.UTF_8 );
-            }
-            catch ( IOException directFail ) {
-                Logger.logWarningSilent( "Could not write install index: "
-                                                 + directFail.getClass().getSimpleName()
-                                                 + " — " + directFail.getMessage() );
+            Logger.logWarningSilent( "Could not compact install index: " + e.getClass().getSimpleName() );
+        }
+    }
+
+    /**
+     * Appends every entry of a pre-log {@code install_index.json} to the freshly
+     * created log, then deletes the JSON file. Best-effort: an unreadable legacy
+     * file is simply dropped and the per-manifest fetch path rebuilds the entries.
+     *
+     * @param legacy path of the legacy JSON index
+     */
+    private static void migrateLegacyJson( Path legacy )
+    {
+        if ( !Files.isRegularFile( legacy ) ) return;
+        try {
+            LegacyJsonIndex parsed = JSONUtilities.getGson().fromJson(
+                    Files.readString( legacy, StandardCharsets.UTF_8 ), LegacyJsonIndex.class );
+            if ( parsed != null && parsed.packs != null ) {
+                for ( Map.Entry< String, Entry > e : parsed.packs.entrySet() ) {
+                    if ( e.getKey() != null && e.getValue() != null ) {
+                        PENDING.add( encodeUpsert( e.getKey(), e.getValue() ) );
+                    }
+                }
+                commitPending();
             }
+            Files.deleteIfExists( legacy );
+        }
+        catch ( Exception e ) {
+            Logger.logWarningSilent( "Could not migrate legacy install index: " + e.getClass().getSimpleName() );
         }
     }
 
-    // ===== atomic disk mutations (serialized + crash-safe) =====
+    /** GSON shape of the pre-log {@code install_index.json}, read only by {@link #migrateLegacyJson}. */
+    private static final class LegacyJsonIndex
+    {
+        /** Manifest URL → summary. */
+        Map< String, Entry > packs;
+    }
+
+    // ===== atomic disk mutations (group-committed appends) =====
 
     /**
-     * Atomically loads the on-disk index, upserts {@code pack} under {@code manifestUrl},
-     * and writes it back — the whole read-modify-write under one lock (the same
-     * {@code InstallIndex.class} monitor {@link #load()} uses), so concurrent writers can
-     * neither lose each other's updates nor corrupt the file.
+     * Upserts {@code pack} under {@code manifestUrl} by appending one record to the
+     * log. Safe to call from the parallel manifest-load paths
+     * ({@code fetchInstalledModPacks} fans out over a {@code parallelStream}): the
+     * record is encoded on the calling thread, queued, and written by whichever
+     * caller next holds the index lock together with everything else queued by
+     * then. When this returns the record is on disk.
      *
-     * <p>This is the ONLY safe way to mutate the persisted index from the parallel
-     * manifest-load paths ({@code fetchInstalledModPacks} fans out over a
-     * {@code parallelStream}). A bare {@code load() / upsert() / save()} sequence on
-     * separate instances races two ways: two loaders read the same snapshot so the later
-     * save drops the earlier's entry, and two {@code save()} calls — instance-synchronized
-     * on <em>different</em> instances, hence not mutually excluded — used to interleave
-     * their writes to a single shared temp file and publish a garbled JSON that the next
-     * {@code load()} rejected with a {@code JsonSyntaxException}.</p>
+     * <p>An upsert whose card fields match the live entry is skipped unless the
+     * live entry's stamp is older than {@link #RESTAMP_INTERVAL_MS}, so repeated
+     * revalidations of an unchanged pack don't grow the log.</p>
      *
      * @param manifestUrl the URL of the manifest
      * @param pack the game mod pack to upsert
      */
-    public static synchronized void upsertAndSave( String manifestUrl, GameModPack pack )
+    public static void upsertAndSave( String manifestUrl, GameModPack pack )
     {
         if ( manifestUrl == null || manifestUrl.isBlank() || pack == null ) return;
-        InstallIndex idx = load();
-        idx.upsert( manifestUrl, pack );
-        idx.save();
+        PENDING.add( encodeUpsert( manifestUrl, entryFrom( pack ) ) );
+        commitPending();
     }
 
     /**
-     * Atomic load-remove-save counterpart of {@link #upsertAndSave}. Use on uninstall so
-     * dropping an entry can't race a concurrent upsert into a lost update or a corrupt file.
+     * Removal counterpart of {@link #upsertAndSave}: appends a tombstone for
+     * {@code manifestUrl}. Use on uninstall so the index doesn't accumulate ghost
+     * entries that age never reaps.
      *
      * @param manifestUrl the URL of the manifest to remove
      */
-    public static synchronized void removeAndSave( String manifestUrl )
+    public static void removeAndSave( String manifestUrl )
     {
         if ( manifestUrl == null || manifestUrl.isBlank() ) return;
-        InstallIndex idx = load();
-        idx.remove( manifestUrl );
-        idx.save();
+        byte[] url = manifestUrl.getBytes( StandardCharsets.UTF_8 );
+        ByteBuffer body = ByteBuffer.allocate( 4 + url.length );
+        body.putInt( url.length ).put( url );
+        PENDING.add( frame( KIND_REMOVE, urlHash( manifestUrl ), 0, System.currentTimeMillis(), body.array() ) );
+        commitPending();
     }
 
-    // ===== mutation =====
+    /**
+     * Group commit: drains every queued record and writes the ones that change the
+     * index in a single channel write. A caller that finds the queue already empty
+     * returns immediately — its record went out in an earlier caller's batch, which
+     * completed before this caller could take the lock.
+     */
+    private static synchronized void commitPending()
+    {
+        if ( PENDING.isEmpty() ) return;
+        List< PendingRecord > batch = new ArrayList<>();
+        for ( PendingRecord r; ( r = PENDING.poll() ) != null; ) {
+            batch.add( r );
+        }
+        try {
+            LogState s = state();
+            int total = 0;
+            List< PendingRecord > toWrite = new ArrayList<>( batch.size() );
+            Map< Long, Slot > batchView = new java.util.HashMap<>();
+            for ( PendingRecord r : batch ) {
+                Slot live = batchView.containsKey( r.urlHash ) ? batchView.get( r.urlHash ) : s.slots.get( r.urlHash );
+                if ( r.kind == KIND_REMOVE && live == null ) continue;
+                if ( r.kind == KIND_UPSERT && live != null && live.contentCrc == r.contentCrc
+                        && r.updatedAt - live.updatedAt < RESTAMP_INTERVAL_MS ) {
+                    continue;
+                }
+                batchView.put( r.urlHash, r.kind == KIND_UPSERT
+                                          ? new Slot( -1, r.bytes.length, r.contentCrc, r.updatedAt ) : null );
+                toWrite.add( r );
+                total += r.bytes.length;
+            }
+            if ( toWrite.isEmpty() ) return;
+            ByteBuffer out = ByteBuffer.allocate( total );
+            for ( PendingRecord r : toWrite ) {
+                out.put( r.bytes );
+            }
+            out.flip();
+            try ( FileChannel ch = FileChannel.open( s.path, StandardOpenOption.WRITE ) ) {
+                ch.position( s.end );
+                while ( out.hasRemaining() ) ch.write( out );
+            }
+            for ( PendingRecord r : toWrite ) {
+                applyRecord( s, r.kind, r.urlHash, ( int ) s.end, r.bytes.length, r.contentCrc, r.updatedAt );
+                s.end += r.bytes.length;
+            }
+        }
+        catch ( IOException e ) {
+            // Drop the writer state so the next call rescans from disk rather than
+            // trusting an end offset a partial write may have invalidated.
+            state = null;
+            Logger.logWarningSilent( "Could not write install index: "
+                                             + e.getClass().getSimpleName() + " — " + e.getMessage() );
+        }
+    }
+
+    // ===== encoding =====
 
     /**
-     * Adds-or-replaces the entry for {@code manifestUrl} with the card-rendering
-     * subset of {@code pack}. NOT safe to pair with a separate {@link #save()} from
-     * concurrent threads — use {@link #upsertAndSave} for any disk-backed mutation
-     * that can run in parallel.
+     * Builds the card-rendering subset of {@code pack}.
      *
-     * @param manifestUrl the URL of the manifest
-     * @param pack the game mod pack to upsert
+     * @param pack the parsed pack
+     * @return a new entry stamped with the current time
      */
-    public synchronized void upsert( String manifestUrl, GameModPack pack )
+    private static Entry entryFrom( GameModPack pack )
     {
-        if ( manifestUrl == null || manifestUrl.isBlank() || pack == null ) return;
-        if ( packs == null ) packs = new LinkedHashMap<>();
         Entry e = new Entry();
         // Same-package access of the GSON-deserialized fields directly — saves us
         // from threading a parallel set of getters through GameModPackMetadata
@@ -334,30 +711,189 @@ public final class InstallIndex
         e.packUnstable         = pack.packUnstable;
         e.packCustomDiscordRpc = pack.packCustomDiscordRpc;
         e.updatedAt            = System.currentTimeMillis();
-        packs.put( manifestUrl, e );
+        return e;
     }
 
     /**
-     * Removes a single entry — used when the user uninstalls a pack so the
-     * index doesn't accumulate ghost entries that age never reaps.
+     * Encodes an upsert record for {@code entry}.
      *
-     * @param manifestUrl the URL of the manifest to remove
+     * @param manifestUrl the manifest URL keying the record
+     * @param entry       the entry to encode
+     * @return the framed record
      */
-    public synchronized void remove( String manifestUrl )
+    private static PendingRecord encodeUpsert( String manifestUrl, Entry entry )
     {
-        if ( manifestUrl == null || manifestUrl.isBlank() || packs == null ) return;
-        packs.remove( manifestUrl );
+        try {
+            ByteArrayOutputStream fields = new ByteArrayOutputStream( 256 );
+            DataOutputStream out = new DataOutputStream( fields );
+            writeString( out, entry.packName );
+            writeString( out, entry.packVersion );
+            writeString( out, entry.packURL );
+            writeStrings( out, entry.packLogoURL );
+            writeString( out, entry.packLogoSha1 );
+            writeStrings( out, entry.packBackgroundURL );
+            writeString( out, entry.packBackgroundSha1 );
+            writeString( out, entry.packMinRAMGB );
+            out.writeBoolean( entry.packUnstable );
+            out.writeBoolean( entry.packCustomDiscordRpc );
+            byte[] fieldBytes = fields.toByteArray();
+            CRC32 contentCrc = new CRC32();
+            contentCrc.update( fieldBytes );
+
+            ByteArrayOutputStream payload = new ByteArrayOutputStream( fieldBytes.length + 128 );
+            DataOutputStream pout = new DataOutputStream( payload );
+            writeString( pout, manifestUrl );
+            pout.write( fieldBytes );
+            return frame( KIND_UPSERT, urlHash( manifestUrl ), ( int ) contentCrc.getValue(),
+                          entry.updatedAt, payload.toByteArray() );
+        }
+        catch ( IOException e ) {
+            throw new IllegalStateException( "In-memory encode failed", e );
+        }
     }
 
     /**
-     * Returns the entry for the given URL, or {@code null} if absent.
+     * Prefixes a payload with the fixed record header and CRC.
      *
-     * @param manifestUrl the URL of the manifest
-     * @return the entry for the given URL, or {@code null} if absent
+     * @param kind       record kind
+     * @param hash       URL hash
+     * @param contentCrc CRC of the card fields (0 for tombstones)
+     * @param updatedAt  refresh stamp
+     * @param payload    URL string followed by the kind-specific fields
+     * @return the framed record
+     */
+    private static PendingRecord frame( byte kind, long hash, int contentCrc, long updatedAt, byte[] payload )
+    {
+        ByteBuffer rec = ByteBuffer.allocate( RECORD_HEADER_BYTES + payload.length );
+        rec.putInt( rec.capacity() - 4 ).putInt( 0 )
+           .put( kind ).putLong( hash ).putInt( contentCrc ).putLong( updatedAt ).put( payload );
+        CRC32 crc = new CRC32();
+        crc.update( rec.array(), 8, rec.capacity() - 8 );
+        rec.putInt( 4, ( int ) crc.getValue() );
+        return new PendingRecord( kind, hash, contentCrc, updatedAt, rec.array() );
+    }
+
+    /**
+     * Decodes the upsert record at {@code off}.
+     *
+     * @param buf the log
+     * @param off the record offset
+     * @return the decoded URL and entry
      */
-    public synchronized Entry get( String manifestUrl )
+    private static Decoded decodeRecord( ByteBuffer buf, int off )
     {
-        if ( manifestUrl == null || packs == null ) return null;
-        return packs.get( manifestUrl );
+        Entry e = new Entry();
+        e.updatedAt = buf.getLong( off + 21 );
+        StringAt s = readString( buf, off + RECORD_HEADER_BYTES );
+        String url = s.value;
+        s = readString( buf, s.next );
+        e.packName = s.value;
+        s = readString( buf, s.next );
+        e.packVersion = s.value;
+        s = readString( buf, s.next );
+        e.packURL = s.value;
+        int pos = s.next;
+        int count = buf.getInt( pos );
+        pos += 4;
+        List< String > logos = count < 0 ? null : new ArrayList<>( count );
+        for ( int i = 0; i < count; i++ ) {
+            s = readString( buf, pos );
+            logos.add( s.value );
+            pos = s.next;
+        }
+        e.packLogoURL = logos == null ? null : StringOrArray.of( logos );
+        s = readString( buf, pos );
+        e.packLogoSha1 = s.value;
+        pos = s.next;
+        count = buf.getInt( pos );
+        pos += 4;
+        List< String > backgrounds = count < 0 ? null : new ArrayList<>( count );
+        for ( int i = 0; i < count; i++ ) {
+            s = readString( buf, pos );
+            backgrounds.add( s.value );
+            pos = s.next;
+        }
+        e.packBackgroundURL = backgrounds == null ? null : StringOrArray.of( backgrounds );
+        s = readString( buf, pos );
+        e.packBackgroundSha1 = s.value;
+        s = readString( buf, s.next );
+        e.packMinRAMGB = s.value;
+        e.packUnstable = buf.get( s.next ) != 0;
+        e.packCustomDiscordRpc = buf.get( s.next + 1 ) != 0;
+        return new Decoded( url, e );
+    }
+
+    /** A string read from the log and the offset just past it. */
+    private record StringAt( String value, int next ) {}
+
+    /**
+     * Reads a length-prefixed UTF-8 string (length {@code -1} = {@code null}).
+     *
+     * @param buf the log
+     * @param pos offset of the length prefix
+     * @return the string and the offset just past it
+     */
+    private static StringAt readString( ByteBuffer buf, int pos )
+    {
+        int len = buf.getInt( pos );
+        if ( len < 0 ) return new StringAt( null, pos + 4 );
+        byte[] bytes = new byte[ len ];
+        buf.get( pos + 4, bytes );
+        return new StringAt( new String( bytes, StandardCharsets.UTF_8 ), pos + 4 + len );
+    }
+
+    /**
+     * Writes a length-prefixed UTF-8 string (length {@code -1} = {@code null}).
+     *
+     * @param out   destination
+     * @param value the string, may be {@code null}
+     * @throws IOException never for in-memory streams
+     */
+    private static void writeString( DataOutputStream out, String value ) throws IOException
+    {
+        if ( value == null ) {
+            out.writeInt( -1 );
+            return;
+        }
+        byte[] bytes = value.getBytes( StandardCharsets.UTF_8 );
+        out.writeInt( bytes.length );
+        out.write( bytes );
+    }
+
+    /**
+     * Writes a count-prefixed list of strings (count {@code -1} = {@code null}).
+     *
+     * @param out    destination
+     * @param values the values, may be {@code null}
+     * @throws IOException never for in-memory streams
+     */
+    private static void writeStrings( DataOutputStream out, StringOrArray values ) throws IOException
+    {
+        if ( values == null ) {
+            out.writeInt( -1 );
+            return;
+        }
+        out.writeInt( values.all().size() );
+        for ( String v : values.all() ) {
+            writeString( out, v );
+        }
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the URL's UTF-8 bytes — the record key. Wide enough
+     * that collisions among one user's packs are not a practical concern;
+     * {@link #get} still verifies the full URL.
+     *
+     * @param manifestUrl the manifest URL
+     * @return the 64-bit hash
+     */
+    static long urlHash( String manifestUrl )
+    {
+        long h = 0xcbf29ce484222325L;
+        for ( byte b : manifestUrl.getBytes( StandardCharsets.UTF_8 ) ) {
+            h ^= b & 0xFF;
+            h *= 0x100000001b3L;
+        }
+        return h;
     }
 }
@@ -44,6 +44,12 @@ import java.util.concurrent.CopyOnWriteArrayList;
  * deadlock. Listeners are expected to marshal to the FX thread themselves —
  * the tracker has no GUI dependency.</p>
  *
+ * <p>Parallel per-file loops bypass the lock entirely: {@link #startCounter}
+ * attaches a {@link ProgressCounter} to a row, workers advance it without
+ * synchronizing, and the row's {@link Step#progress()} / {@link Step#subText()}
+ * fold in the counter when read — so the status string is only built when the
+ * GUI's coalesced flush samples it, not once per file.</p>
+ *
  * @since 2026.3
  */
 public final class LaunchProgressTracker
@@ -126,8 +132,11 @@ public final class LaunchProgressTracker
         private final StepId id;
         private volatile State state = State.PENDING;
         private volatile double progress = 0.0;
+        /** Explicit sub-text; {@code null} while an attached counter's status is newer. */
         private volatile String subText = "";
         private volatile String errorMessage = null;
+        /** Parallel batch whose contribution is added on top of {@link #progress}, if any. */
+        private volatile ProgressCounter< ? > counter;
 
         /**
          * @param id the stage this row represents
@@ -144,12 +153,26 @@ public final class LaunchProgressTracker
         public State state() { return state; }
 
         /** Progress within the row's RUNNING state, in [0, 1]. Meaningless
-         *  outside RUNNING; the GUI hides the bar in those states. */
-        public double progress() { return progress; }
+         *  outside RUNNING; the GUI hides the bar in those states. Includes
+         *  the live contribution of an attached {@link ProgressCounter}. */
+        public double progress()
+        {
+            ProgressCounter< ? > c = counter;
+            return c == null ? progress : Math.min( 1.0, progress + c.contribution() / 100.0 );
+        }
 
         /** Optional one-line activity detail under the progress bar (e.g.
-         *  "Verified jna-4.4.0.jar"). Empty string when nothing to show. */
-        public String subText() { return subText; }
+         *  "Verified jna-4.4.0.jar"). Empty string when nothing to show.
+         *  Formatted from an attached {@link ProgressCounter} on each call
+         *  when the counter advanced after the last explicit sub-text, so
+         *  callers sampling at frame rate pay for one string per frame. */
+        public String subText()
+        {
+            String t = subText;
+            if ( t != null ) return t;
+            ProgressCounter< ? > c = counter;
+            return c != null ? c.status() : "";
+        }
 
         /** Populated when {@link #state()} is {@link State#FAILED}; null
          *  otherwise. */
@@ -268,6 +291,7 @@ public final class LaunchProgressTracker
         Step s;
         synchronized ( this ) {
             s = require( id );
+            detachCounter( s );
             s.state = State.RUNNING;
             s.errorMessage = null;
         }
@@ -284,6 +308,7 @@ public final class LaunchProgressTracker
         Step s;
         synchronized ( this ) {
             s = require( id );
+            detachCounter( s );
             s.state = State.DONE;
             s.progress = 1.0;
         }
@@ -301,6 +326,7 @@ public final class LaunchProgressTracker
         Step s;
         synchronized ( this ) {
             s = require( id );
+            detachCounter( s );
             s.state = State.FAILED;
             s.errorMessage = errorMessage;
         }
@@ -319,6 +345,7 @@ public final class LaunchProgressTracker
         Step s;
         synchronized ( this ) {
             s = require( id );
+            detachCounter( s );
             s.state = State.SKIPPED;
         }
         notifyChanged( s );
@@ -334,6 +361,7 @@ public final class LaunchProgressTracker
         Step s;
         synchronized ( this ) {
             s = require( id );
+            detachCounter( s );
             s.progress = Math.max( 0.0, Math.min( 1.0, progress ) );
         }
         notifyChanged( s );
@@ -369,12 +397,72 @@ public final class LaunchProgressTracker
         Step s;
         synchronized ( this ) {
             s = require( id );
+            detachCounter( s );
             s.progress = Math.max( 0.0, Math.min( 1.0, progress ) );
             s.subText = subText == null ? "" : subText;
         }
         notifyChanged( s );
     }
 
+    /** Attaches a lock-free {@link ProgressCounter} to a row: the row's
+     *  progress becomes {@code baseProgress} plus the counter's contribution
+     *  ({@code share} of 100 units = the whole bar), and each
+     *  {@link ProgressCounter#advance} hands the sub-text to the counter and
+     *  notifies listeners without taking the tracker lock. The next
+     *  {@link #setProgress} / {@link #submitProgress} / state change detaches
+     *  it, so callers fold its contribution into their own value first.
+     *
+     *  @param id           the step to update
+     *  @param baseProgress the row's progress before the batch, in [0, 1]
+     *  @param total        number of items in the batch
+     *  @param share        row progress the whole batch is worth, in 0..100 units
+     *  @param formatter    builds the sub-text on demand
+     *  @param <T>          type of the work item
+     *  @return the counter for workers to advance
+     *  @throws IllegalArgumentException if the step isn't part of this tracker
+     *  @since 2026.7 */
+    public < T > ProgressCounter< T > startCounter( StepId id, double baseProgress, long total, double share,
+                                                    ProgressCounter.Formatter< ? super T > formatter )
+    {
+        Step s;
+        ProgressCounter< T > c;
+        synchronized ( this ) {
+            s = require( id );
+            detachCounter( s );
+            final Step row = s;
+            c = new ProgressCounter<>( total, share, formatter, advanced -> counterAdvanced( row, advanced ) );
+            s.progress = Math.max( 0.0, Math.min( 1.0, baseProgress ) );
+            s.counter = c;
+        }
+        notifyChanged( s );
+        return c;
+    }
+
+    /** Worker-side advance hook: lock-free. Hands the sub-text over to the
+     *  counter (a plain volatile write, skipped when already handed over) and
+     *  notifies listeners, which coalesce to frame rate themselves.
+     *
+     *  @param s       the row the counter was attached to
+     *  @param counter the counter that advanced */
+    private void counterAdvanced( Step s, ProgressCounter< ? > counter )
+    {
+        if ( s.counter != counter ) return;
+        if ( s.subText != null ) s.subText = null;
+        notifyChanged( s );
+    }
+
+    /** Detaches a row's counter, freezing its last status as explicit
+     *  sub-text. Caller holds the tracker lock.
+     *
+     *  @param s the row to detach */
+    private static void detachCounter( Step s )
+    {
+        ProgressCounter< ? > c = s.counter;
+        if ( c == null ) return;
+        s.counter = null;
+        if ( s.subText == null ) s.subText = c.status();
+    }
+
     /** Looks up a row, throwing if this tracker doesn't include it.
      *
      *  @param id the step to resolve
@@ -76,7 +76,10 @@ import com.micatechnologies.minecraft.launcher.game.modpack.LaunchProgressTracke
  * <p>Threading: all state-changing methods synchronize on the bridge so
  * concurrent updates from parallel branches in step 3+ of the 3.2 refactor
  * serialize cleanly. The active-step pointer is volatile so the locked
- * methods see the freshest value without re-reading through a field.</p>
+ * methods see the freshest value without re-reading through a field.
+ * Per-file progress from parallel workers goes through
+ * {@link #startCounter} instead, whose counter advances without taking
+ * this monitor.</p>
  *
  * @since 2026.3
  */
@@ -96,6 +99,11 @@ public final class LaunchTrackerProgressBridge extends GameModPackProgressProvid
      *  every {@link #startProgressSection(String, double)} call. */
     private double currentSectionProgress = 0.0;
 
+    /** The parallel batch attached to the active step's row, if any. Folded
+     *  into {@link #currentSectionProgress} before the next explicit progress
+     *  change. */
+    private ProgressCounter< ? > liveCounter;
+
     /**
      * Constructs a new LaunchTrackerProgressBridge with the specified tracker.
      *
@@ -144,6 +152,7 @@ public final class LaunchTrackerProgressBridge extends GameModPackProgressProvid
     {
         this.activeStep = id;
         this.currentSectionProgress = 0.0;
+        this.liveCounter = null;
         tracker.markRunning( id );
     }
 
@@ -159,6 +168,7 @@ public final class LaunchTrackerProgressBridge extends GameModPackProgressProvid
         if ( activeStep == id ) {
             activeStep = null;
             currentSectionProgress = 0.0;
+            liveCounter = null;
         }
         tracker.markDone( id );
     }
@@ -176,6 +186,7 @@ public final class LaunchTrackerProgressBridge extends GameModPackProgressProvid
         if ( activeStep == id ) {
             activeStep = null;
             currentSectionProgress = 0.0;
+            liveCounter = null;
         }
         tracker.markFailed( id, errorMessage );
     }
@@ -199,10 +210,51 @@ public final class LaunchTrackerProgressBridge extends GameModPackProgressProvid
         if ( step == null ) {
             return;
         }
+        foldCounter();
         currentSectionProgress = Math.min( 100.0, currentSectionProgress + sectionProgress );
         tracker.submitProgress( step, currentSectionProgress / 100.0, detailText );
     }
 
+    /**
+     * Attaches a lock-free counter to the active step's row, on top of the
+     * sub-section progress accumulated so far. With no active step the
+     * counter still works but reports nowhere.
+     *
+     * @param total     number of items in the batch
+     * @param share     sub-section progress (0..100) the whole batch is worth
+     * @param formatter builds the row sub-text on demand
+     * @param <T>       type of the work item
+     *
+     * @return the counter to advance from workers
+     */
+    @Override
+    public synchronized < T > ProgressCounter< T > startCounter( long total, double share,
+                                                                 ProgressCounter.Formatter< ? super T > formatter )
+    {
+        foldCounter();
+        StepId step = activeStep;
+        if ( step == null ) {
+            return new ProgressCounter<>( total, share, formatter, null );
+        }
+        ProgressCounter< T > counter = tracker.startCounter( step, currentSectionProgress / 100.0, total, share,
+                                                             formatter );
+        liveCounter = counter;
+        return counter;
+    }
+
+    /**
+     * Rolls the live counter's contribution into {@link #currentSectionProgress}
+     * and forgets it. Called before any explicit progress change; the tracker
+     * detaches the counter from the row on that same change.
+     */
+    private void foldCounter()
+    {
+        if ( liveCounter != null ) {
+            currentSectionProgress = Math.min( 100.0, currentSectionProgress + liveCounter.contribution() );
+            liveCounter = null;
+        }
+    }
+
     /**
      * Sets the active step's sub-text. A no-op when no step is active.
      *
@@ -232,6 +284,7 @@ public final class LaunchTrackerProgressBridge extends GameModPackProgressProvid
         // and surface the section title as the row sub-text. The parent step
         // stays RUNNING — only the row's display refreshes for the new sub-task.
         currentSectionProgress = 0.0;
+        liveCounter = null;
         StepId step = activeStep;
         if ( step != null ) {
             tracker.setProgress( step, 0.0 );
@@ -254,6 +307,7 @@ public final class LaunchTrackerProgressBridge extends GameModPackProgressProvid
     {
         // Sub-section complete. The parent step is closed by completeStep, not
         // by this — multiple sub-sections may run sequentially within one step.
+        foldCounter();
         StepId step = activeStep;
         if ( step != null && text != null && !text.isEmpty() ) {
             tracker.setSubText( step, text );
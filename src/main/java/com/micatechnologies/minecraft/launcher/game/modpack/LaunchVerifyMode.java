@@ -35,6 +35,8 @@ package com.micatechnologies.minecraft.launcher.game.modpack;
  *       on disk. A missing file still falls through to the download path
  *       (so a pack staying playable through a manual mod delete still works),
  *       but unchanged content is accepted on existence alone.</li>
+ *   <li>{@link #JOURNALED} — server mode only. Hash every file except those
+ *       a {@link ChangeJournal} proves untouched since their last verify.</li>
  * </ul>
  *
  * <p>The mode is chosen per-launch by {@link VerifyState#decideMode} based on
@@ -53,5 +55,12 @@ public enum LaunchVerifyMode
 
     /** Existence + size sanity check only. Used when the manifest hasn't
      *  changed and a recent full verify succeeded. */
-    FAST_PATH
+    FAST_PATH,
+
+    /** Server-mode restart: files whose {@link ChangeJournal} fingerprint
+     *  still matches and that the watcher never saw change skip hashing;
+     *  everything else is hashed as in {@link #FULL}.
+     *
+     *  @since 2026.7 */
+    JOURNALED
 }
@@ -18,15 +18,12 @@
 package com.micatechnologies.minecraft.launcher.game.modpack;
 
 import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.micatechnologies.minecraft.launcher.consts.ModPackConstants;
 import com.micatechnologies.minecraft.launcher.files.LocalPathManager;
 import com.micatechnologies.minecraft.launcher.files.Logger;
 import com.micatechnologies.minecraft.launcher.game.modpack.import_.MrpackImporter;
 import com.micatechnologies.minecraft.launcher.utilities.JSONUtilities;
-import com.micatechnologies.minecraft.launcher.utilities.NetworkUtilities;
-import com.micatechnologies.minecraft.launcher.utilities.VersionUtilities;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -34,14 +31,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Catalog of installable Forge / NeoForge / Fabric loader versions
  * sourced from the three loaders' canonical version services
  * (Forge promotions JSON, NeoForge Maven metadata, Fabric meta
- * service). Drives the "Browse" GUI's loader-version filters and the
+ * service) by way of the persistent {@link VersionCatalog}. Drives the "Browse" GUI's loader-version filters and the
  * Modpack Editor's per-loader version pickers.
  *
  * <h3>How installation works</h3>
@@ -138,266 +133,80 @@ public final class LoaderVersionManager
         }
     }
 
-    /** Lazily-populated cache of fetched Forge versions; {@code null}
-     *  until {@link #getForgeVersions()} runs its first network fetch. */
-    private static List< LoaderVersion > forgeCache;
-
-    /** Lazily-populated cache of fetched NeoForge versions; {@code null}
-     *  until {@link #getNeoForgeVersions()} runs its first network fetch. */
-    private static List< LoaderVersion > neoForgeCache;
-
-    /** Lazily-populated cache of fetched Fabric versions; {@code null}
-     *  until {@link #getFabricVersions()} runs its first network fetch. */
-    private static List< LoaderVersion > fabricCache;
-
     // ====================================================================
-    // Forge
+    // Version lists — served from the persistent VersionCatalog
     // ====================================================================
 
     /**
-     * Fetch + cache the Forge versions advertised by Forge's
-     * promotions API. Returns recommended + latest per MC version
-     * (newest MC first). Calls after the first warm-cached. Network or
-     * parse failures are logged silently and yield whatever was
-     * accumulated before the failure (possibly an empty list) rather
-     * than throwing.
+     * Returns the Forge versions advertised by Forge's promotions API:
+     * recommended + latest per MC version (newest MC first). Served
+     * from the saved {@link VersionCatalog} snapshot, so only the very
+     * first call on a machine waits on the network; fetch failures are
+     * logged by the catalog and yield an empty list rather than
+     * throwing.
      *
-     * @return the cached, newest-MC-first list of installable Forge
-     *         loader versions; never {@code null}
+     * @return the newest-MC-first list of installable Forge loader
+     *         versions; never {@code null}
      *
      * @since 2026.5
      */
-    public static synchronized List< LoaderVersion > getForgeVersions()
+    public static List< LoaderVersion > getForgeVersions()
     {
-        if ( forgeCache != null ) return forgeCache;
-        forgeCache = new ArrayList<>();
-        try {
-            String json = NetworkUtilities.downloadFileFromURL(
-                    "https://files.minecraftforge.net/net/minecraftforge/forge/promotions_slim.json" );
-            JsonObject promos = JSONUtilities.getGson().fromJson( json, JsonObject.class )
-                                              .getAsJsonObject( "promos" );
-            java.util.Map< String, String > recommended = new java.util.HashMap<>();
-            java.util.Map< String, String > latest = new java.util.HashMap<>();
-            for ( java.util.Map.Entry< String, JsonElement > e : promos.entrySet() ) {
-                String key = e.getKey();
-                String forgeVer = e.getValue().getAsString();
-                if ( key.endsWith( "-recommended" ) ) {
-                    recommended.put( key.substring( 0, key.length() - "-recommended".length() ), forgeVer );
-                }
-                else if ( key.endsWith( "-latest" ) ) {
-                    latest.put( key.substring( 0, key.length() - "-latest".length() ), forgeVer );
-                }
-            }
-            List< String > mcVersions = new ArrayList<>( latest.keySet() );
-            mcVersions.sort( ( a, b ) -> VersionUtilities.compareVersionNumbers( b, a ) );
-            for ( String mcVer : mcVersions ) {
-                // Recommended first, then latest (when distinct), so
-                // the Browse-GUI list reads "stable, then bleeding-edge"
-                // per MC version.
-                if ( recommended.containsKey( mcVer ) ) {
-                    String forgeVer = recommended.get( mcVer );
-                    forgeCache.add( new LoaderVersion( ModPackConstants.MOD_LOADER_FORGE,
-                                                       mcVer, forgeVer,
-                                                       forgeInstallerUrl( mcVer, forgeVer ) ) );
-                }
-                if ( latest.containsKey( mcVer ) ) {
-                    String forgeVer = latest.get( mcVer );
-                    if ( recommended.containsKey( mcVer ) && recommended.get( mcVer ).equals( forgeVer ) ) {
-                        continue; // already added above
-                    }
-                    forgeCache.add( new LoaderVersion( ModPackConstants.MOD_LOADER_FORGE,
-                                                       mcVer, forgeVer,
-                                                       forgeInstallerUrl( mcVer, forgeVer ) ) );
-                }
-            }
-        }
-        catch ( Exception e ) {
-            Logger.logWarningSilent( "LoaderVersionManager: failed to fetch Forge promotions", e );
-        }
-        return forgeCache;
-    }
-
-    /**
-     * Builds the canonical Forge installer JAR URL on Forge's Maven for
-     * the given Minecraft + Forge version pair.
-     *
-     * @param mcVer    the Minecraft version (e.g. {@code 1.20.1})
-     * @param forgeVer the Forge version (e.g. {@code 47.4.1})
-     *
-     * @return the {@code forge-<mc>-<forge>-installer.jar} download URL
-     *
-     * @since 2026.5
-     */
-    private static String forgeInstallerUrl( String mcVer, String forgeVer ) {
-        return "https://maven.minecraftforge.net/net/minecraftforge/forge/"
-                + mcVer + "-" + forgeVer + "/forge-" + mcVer + "-" + forgeVer + "-installer.jar";
+        return fromCatalog( ModPackConstants.MOD_LOADER_FORGE, null );
     }
 
-    // ====================================================================
-    // NeoForge
-    // ====================================================================
-
     /**
-     * Fetch + cache the NeoForge versions advertised by the
-     * project's Maven metadata. MC version is derived from the
-     * NeoForge version prefix ({@code 21.1.x} → MC {@code 1.21.1}).
-     * Entries whose version string doesn't parse to an MC version are
-     * skipped. Network or parse failures are logged silently and yield
-     * whatever was accumulated before the failure rather than throwing.
+     * Returns the NeoForge versions advertised by the project's Maven
+     * metadata, newest first. MC version is derived from the NeoForge
+     * version prefix ({@code 21.1.x} → MC {@code 1.21.1}); entries
+     * whose version string doesn't parse to an MC version are skipped.
+     * Served from the saved {@link VersionCatalog} snapshot.
      *
-     * @return the cached, newest-first list of installable NeoForge
-     *         loader versions; never {@code null}
+     * @return the newest-first list of installable NeoForge loader
+     *         versions; never {@code null}
      *
      * @since 2026.5
      */
-    public static synchronized List< LoaderVersion > getNeoForgeVersions()
+    public static List< LoaderVersion > getNeoForgeVersions()
     {
-        if ( neoForgeCache != null ) return neoForgeCache;
-        neoForgeCache = new ArrayList<>();
-        try {
-            String xml = NetworkUtilities.downloadFileFromURL(
-                    "https://maven.neoforged.net/releases/net/neoforged/neoforge/maven-metadata.xml" );
-            Pattern versionTag = Pattern.compile( "<version>([^<]+)</version>" );
-            Matcher matcher = versionTag.matcher( xml );
-            List< String > versions = new ArrayList<>();
-            while ( matcher.find() ) versions.add( matcher.group( 1 ) );
-            // Newest first.
-            versions.sort( ( a, b ) -> VersionUtilities.compareVersionNumbers( b, a ) );
-            for ( String version : versions ) {
-                String mcVersion = neoForgeMcVersionFor( version );
-                if ( mcVersion == null ) continue;
-                neoForgeCache.add( new LoaderVersion( ModPackConstants.MOD_LOADER_NEOFORGE,
-                                                       mcVersion, version,
-                                                       neoForgeInstallerUrl( version ) ) );
-            }
-        }
-        catch ( Exception e ) {
-            Logger.logWarningSilent( "LoaderVersionManager: failed to fetch NeoForge versions", e );
-        }
-        return neoForgeCache;
+        return fromCatalog( ModPackConstants.MOD_LOADER_NEOFORGE, null );
     }
 
     /**
-     * Builds the canonical NeoForge installer JAR URL on NeoForge's
-     * Maven for the given NeoForge version.
-     *
-     * @param version the NeoForge version (e.g. {@code 21.1.0})
+     * Returns the Fabric versions: each stable Minecraft release paired
+     * with the latest stable Fabric loader (the official "if it builds
+     * for this MC, this is the recommended loader" shape — see
+     * meta.fabricmc.net's profile endpoints). Snapshot MC releases are
+     * filtered out — they're too noisy for a Browse listing. Served
+     * from the saved {@link VersionCatalog} snapshot.
      *
-     * @return the {@code neoforge-<version>-installer.jar} download URL
+     * @return the list of installable Fabric loader versions (one entry
+     *         per stable MC release); never {@code null}
      *
      * @since 2026.5
      */
-    private static String neoForgeInstallerUrl( String version ) {
-        return "https://maven.neoforged.net/releases/net/neoforged/neoforge/"
-                + version + "/neoforge-" + version + "-installer.jar";
+    public static List< LoaderVersion > getFabricVersions()
+    {
+        return fromCatalog( ModPackConstants.MOD_LOADER_FABRIC, VersionCatalog.CHANNEL_RELEASE );
     }
 
     /**
-     * Maps a NeoForge {@code MAJOR.MINOR.PATCH} version to its target
-     * Minecraft version {@code 1.MAJOR.MINOR} (or {@code 1.MAJOR} when
-     * the minor component is {@code 0}). Mirrors the helper in
-     * {@code MCLauncherModPackEditorGui} — copied here so the manager
-     * has no dependency on a GUI class.
-     *
-     * @param neoForgeVersion the NeoForge version string to translate
-     *
-     * @return the derived Minecraft version, or {@code null} when the
-     *         input is {@code null} or doesn't parse
+     * Maps a loader's catalog rows to {@link LoaderVersion} entries.
      *
-     * @since 2026.5
-     */
-    private static String neoForgeMcVersionFor( String neoForgeVersion ) {
-        if ( neoForgeVersion == null ) return null;
-        String[] parts = neoForgeVersion.split( "\\." );
-        if ( parts.length < 2 ) return null;
-        try {
-            int major = Integer.parseInt( parts[ 0 ] );
-            int minor = Integer.parseInt( parts[ 1 ] );
-            return minor == 0 ? "1." + major : "1." + major + "." + minor;
-        }
-        catch ( NumberFormatException e ) {
-            return null;
-        }
-    }
-
-    // ====================================================================
-    // Fabric
-    // ====================================================================
-
-    /**
-     * Fetch + cache Fabric versions. Pairs each stable Minecraft
-     * release with the latest stable Fabric loader (the official
-     * "if it builds for this MC, this is the recommended loader"
-     * shape — see meta.fabricmc.net's profile endpoints). Snapshot MC
-     * releases are filtered out. Network or parse failures are logged
-     * silently and yield whatever was accumulated before the failure
-     * rather than throwing.
+     * @param loaderType the loader family identifier
+     * @param channel    the catalog channel to narrow to, or {@code null} for all
      *
-     * @return the cached list of installable Fabric loader versions
-     *         (one entry per stable MC release); never {@code null}
+     * @return the loader versions in catalog order
      *
-     * @since 2026.5
+     * @since 2026.7
      */
-    public static synchronized List< LoaderVersion > getFabricVersions()
+    private static List< LoaderVersion > fromCatalog( String loaderType, String channel )
     {
-        if ( fabricCache != null ) return fabricCache;
-        fabricCache = new ArrayList<>();
-        try {
-            String gameJson = NetworkUtilities.downloadFileFromURL(
-                    "https://meta.fabricmc.net/v2/versions/game" );
-            String loaderJson = NetworkUtilities.downloadFileFromURL(
-                    "https://meta.fabricmc.net/v2/versions/loader" );
-            JsonArray games = JSONUtilities.getGson().fromJson( gameJson, JsonArray.class );
-            JsonArray loaders = JSONUtilities.getGson().fromJson( loaderJson, JsonArray.class );
-
-            // Latest stable loader — meta service returns loaders
-            // newest-first, take the first stable hit.
-            String latestLoader = null;
-            for ( JsonElement el : loaders ) {
-                JsonObject obj = el.getAsJsonObject();
-                if ( obj.has( "stable" ) && obj.get( "stable" ).getAsBoolean() ) {
-                    latestLoader = obj.get( "version" ).getAsString();
-                    break;
-                }
-            }
-            if ( latestLoader == null && loaders.size() > 0 ) {
-                latestLoader = loaders.get( 0 ).getAsJsonObject().get( "version" ).getAsString();
-            }
-            if ( latestLoader == null ) return fabricCache;
-
-            for ( JsonElement el : games ) {
-                JsonObject obj = el.getAsJsonObject();
-                // Only stable MC releases — snapshots are too noisy
-                // for a Browse listing and Fabric supports far more
-                // snapshots than the launcher would meaningfully run.
-                if ( obj.has( "stable" ) && !obj.get( "stable" ).getAsBoolean() ) continue;
-                String mcVersion = obj.get( "version" ).getAsString();
-                fabricCache.add( new LoaderVersion( ModPackConstants.MOD_LOADER_FABRIC,
-                                                    mcVersion, latestLoader,
-                                                    fabricProfileUrl( mcVersion, latestLoader ) ) );
-            }
-        }
-        catch ( Exception e ) {
-            Logger.logWarningSilent( "LoaderVersionManager: failed to fetch Fabric versions", e );
+        List< LoaderVersion > versions = new ArrayList<>();
+        for ( VersionCatalog.Entry entry : VersionCatalog.query( loaderType, null, channel ) ) {
+            versions.add( new LoaderVersion( loaderType, entry.mcVersion(), entry.version(), entry.url() ) );
         }
-        return fabricCache;
-    }
-
-    /**
-     * Builds the Fabric meta service profile-JSON URL for the given
-     * Minecraft + Fabric loader version pair. This URL stands in for an
-     * installer JAR in a Fabric {@link LoaderVersion}.
-     *
-     * @param mcVersion     the Minecraft version (e.g. {@code 1.20.1})
-     * @param loaderVersion the Fabric loader version (e.g. {@code 0.16.0})
-     *
-     * @return the {@code .../loader/<mc>/<loader>/profile/json} URL
-     *
-     * @since 2026.5
-     */
-    private static String fabricProfileUrl( String mcVersion, String loaderVersion ) {
-        return "https://meta.fabricmc.net/v2/versions/loader/" + mcVersion
-                + "/" + loaderVersion + "/profile/json";
+        return versions;
     }
 
     // ====================================================================
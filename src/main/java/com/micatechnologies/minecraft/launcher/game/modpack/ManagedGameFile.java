@@ -91,6 +91,37 @@ public class ManagedGameFile
         currentVerifyMode = ( mode != null ) ? mode : LaunchVerifyMode.FULL;
     }
 
+    /**
+     * Change journal for the current server-mode launch, or {@code null} when
+     * journaling is off. Installed alongside {@link #currentVerifyMode} by
+     * {@code GameModPackLauncher.buildClasspath}: under
+     * {@link LaunchVerifyMode#JOURNALED} it lets unchanged files skip hashing,
+     * and in every mode it records a fingerprint for each file that verifies
+     * or downloads so the next restart can skip it.
+     *
+     * @since 2026.7
+     */
+    private static volatile ChangeJournal currentJournal;
+
+    /**
+     * Reads the change journal installed for the current launch.
+     *
+     * @return the current journal, or {@code null} when none is installed
+     *
+     * @since 2026.7
+     */
+    static ChangeJournal getCurrentJournal() { return currentJournal; }
+
+    /**
+     * Installs (or clears, with {@code null}) the change journal consulted and
+     * updated by subsequent {@code verifyLocalFile} calls.
+     *
+     * @param journal the journal for this launch, or {@code null}
+     *
+     * @since 2026.7
+     */
+    static void setCurrentJournal( ChangeJournal journal ) { currentJournal = journal; }
+
     /** Cross-instance hash-verify cache shared across every {@link ManagedGameFile}.
      *  Pack-list reloads (and the per-pack carousel rebuild on the home screen)
      *  construct fresh loader-instance objects every time, so each one's
@@ -146,6 +177,27 @@ public class ManagedGameFile
         return result;
     }
 
+    /**
+     * Records that {@code localFile} was already hash-verified against
+     * {@code expectedHash} by another component — the {@code .mrpack}
+     * importer's prefetch, which checks each file against the index's hashes
+     * as it downloads. The first launch after the import then hits
+     * {@link #verifyCache} instead of re-hashing. The entry is keyed on the
+     * file's current mtime and size like any other, so a later edit still
+     * invalidates it.
+     *
+     * @param localFile    the verified file, at its final managed path
+     * @param expectedHash the manifest-declared hash it matched
+     * @param algo         {@code sha256}, {@code sha1}, or {@code md5}
+     *
+     * @since 2026.7
+     */
+    public static void primeVerifyCache( File localFile, String expectedHash, String algo )
+    {
+        verifyCache.put( new VerifyCacheKey( localFile.getAbsolutePath(), localFile.lastModified(),
+                                             localFile.length(), expectedHash, algo ), Boolean.TRUE );
+    }
+
     /**
      * The URL of the remote file
      *
@@ -274,6 +326,36 @@ public class ManagedGameFile
         this.sha256  = ( sha256 == null || sha256.isBlank() ) ? "-1" : sha256;
     }
 
+    /**
+     * Restores a file entry exactly as a manifest parse left it: no path
+     * separator rewrite and no {@code "-1"} hash-slot normalization, so a pack
+     * read back from a {@link ManifestSnapshot} is field-for-field the pack Gson
+     * produced.
+     *
+     * @param raw the manifest fields
+     *
+     * @since 2026.7
+     */
+    ManagedGameFile( ManifestSnapshot.FileFields raw ) {
+        this.remote = raw.remote();
+        this.local  = raw.local();
+        this.sha1   = raw.sha1();
+        this.md5    = raw.md5();
+        this.sha256 = raw.sha256();
+    }
+
+    /**
+     * Returns the manifest-declared fields of this entry, verbatim, for
+     * {@link ManifestSnapshot}.
+     *
+     * @return the manifest fields
+     *
+     * @since 2026.7
+     */
+    ManifestSnapshot.FileFields rawFields() {
+        return new ManifestSnapshot.FileFields( remote, local, sha1, md5, sha256 );
+    }
+
     /**
      * Set the local file path prefix of this remote file
      *
@@ -340,6 +422,25 @@ public class ManagedGameFile
             return localFile.exists() && localFile.isFile() && localFile.length() > 0;
         }
 
+        // JOURNALED bypass (server restarts): the change journal proves this
+        // exact file verified against this exact declared hash before and
+        // hasn't been touched since. Anything it can't vouch for is hashed.
+        final ChangeJournal journal = currentJournal;
+        if ( currentVerifyMode == LaunchVerifyMode.JOURNALED && journal != null
+                && journal.isUnchanged( localFile, declaredExpectedHash() ) ) {
+            return true;
+        }
+        boolean verified = verifyByDeclaredHash( localFile );
+        if ( verified && journal != null ) {
+            journal.recordVerified( localFile, declaredExpectedHash() );
+        }
+        return verified;
+    }
+
+    /** FULL-mode body of {@link #verifyLocalFile}: hash {@code localFile}
+     *  against the strongest declared hash, or check existence when none is
+     *  declared. */
+    private boolean verifyByDeclaredHash( File localFile ) {
         // FULL path: strongest-first hash ordering. The constructor stores
         // exactly one hash today (so only one branch matches per file), but
         // should the launcher ever evolve to carry multiple hashes per file
@@ -511,6 +612,10 @@ public class ManagedGameFile
                 if ( !hasAnyUsableHash() || matchesDeclaredHash( localFile ) ) {
                     // Invalidate the parse cache — the file just changed on disk.
                     cachedJson = null;
+                    final ChangeJournal journal = currentJournal;
+                    if ( journal != null ) {
+                        journal.recordVerified( localFile, declaredExpectedHash() );
+                    }
                     return;
                 }
                 //noinspection ResultOfMethodCallIgnored
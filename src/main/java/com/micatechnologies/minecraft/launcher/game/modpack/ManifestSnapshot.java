@@ -0,0 +1,576 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import com.micatechnologies.minecraft.launcher.consts.LauncherConstants;
+import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
+import com.micatechnologies.minecraft.launcher.files.Logger;
+import com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors;
+import com.micatechnologies.minecraft.launcher.utilities.StringOrArray;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Binary snapshot of a parsed manifest, keyed by the SHA-256 of the manifest
+ * body it was parsed from. Turning a cached manifest into a {@link GameModPack}
+ * used to mean a full Gson parse — reflection over hundreds of
+ * {@link GameMod} / {@link GameAsset} entries and their
+ * {@link StringOrArray} fields — on every cold-start stub upgrade and again
+ * after every revalidation that came back unchanged. With a snapshot on disk
+ * the same bytes decode straight from a memory-mapped file.
+ *
+ * <p>On disk at {@code manifest_cache/snapshots/<sha256>.snap}: a 24-byte
+ * header (magic, format version, body length, body CRC-32, reserved) followed
+ * by the launcher version that wrote it and then every manifest field in
+ * declaration order. Lists are written as count-prefixed sections so a reader
+ * can tell an absent list ({@code -1}) from an empty one, exactly as Gson
+ * would have left them. A snapshot from another launcher version, a bad CRC
+ * or a short file reads as a miss and the caller falls back to Gson — the
+ * launcher-version check is what keeps a newly added manifest field from being
+ * silently dropped by an older snapshot.</p>
+ *
+ * <p>The pack is materialized in one pass rather than per section on demand:
+ * the launch, sync and editor paths read the manifest lists as fields, not
+ * through accessors, so there is no seam at which a lazy section could load
+ * itself.</p>
+ *
+ * @since 2026.7
+ */
+final class ManifestSnapshot
+{
+    /** Subdirectory of the manifest cache holding the snapshots. */
+    private static final String SNAPSHOT_DIR = "snapshots";
+
+    /** Snapshot file extension. */
+    private static final String SNAPSHOT_EXT = ".snap";
+
+    /** Header magic ({@code "MSNP"}). */
+    private static final int MAGIC = 0x4D534E50;
+
+    /** Format version. Bump when the field layout below changes. */
+    private static final int FORMAT_VERSION = 1;
+
+    /** Header size: magic, format version, body length, body CRC-32, two reserved ints. */
+    private static final int HEADER_BYTES = 24;
+
+    /** Snapshots kept on disk; the least recently written beyond this are pruned. */
+    private static final int MAX_SNAPSHOTS = 64;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ManifestSnapshot() { /* static-only */ }
+
+    /**
+     * The manifest-declared fields of a {@link ManagedGameFile}, verbatim.
+     *
+     * @param remote the remote URL
+     * @param local  the local path
+     * @param sha1   the SHA-1 slot
+     * @param md5    the MD5 slot
+     * @param sha256 the SHA-256 slot
+     */
+    record FileFields( String remote, String local, String sha1, String md5, String sha256 ) {}
+
+    /**
+     * Loads the snapshot of the manifest body with the given SHA-256.
+     *
+     * @param manifestSha256 hex SHA-256 of the manifest body, may be {@code null}
+     *
+     * @return a freshly materialized pack, or {@code null} when there is no
+     *         usable snapshot
+     */
+    static GameModPack load( String manifestSha256 )
+    {
+        if ( manifestSha256 == null ) {
+            return null;
+        }
+        return load( snapshotDir(), manifestSha256 );
+    }
+
+    /**
+     * Snapshots a freshly parsed pack under the SHA-256 of the body it was
+     * parsed from. The pack is encoded on the calling thread — before anyone
+     * can mutate it — and written in the background. Best-effort.
+     *
+     * @param manifestSha256 hex SHA-256 of the manifest body, may be {@code null}
+     * @param pack           the pack Gson just parsed from that body
+     */
+    static void save( String manifestSha256, GameModPack pack )
+    {
+        if ( manifestSha256 == null || pack == null ) {
+            return;
+        }
+        byte[] bytes = encode( pack );
+        Path dir = snapshotDir();
+        try {
+            LauncherExecutors.execute( LauncherExecutors.Workload.IO, () -> write( dir, manifestSha256, bytes ) );
+        }
+        catch ( RuntimeException e ) {
+            // Executors shutting down; the next parse writes it.
+        }
+    }
+
+    /**
+     * Loads a snapshot from {@code dir}.
+     *
+     * @param dir            the snapshot directory
+     * @param manifestSha256 hex SHA-256 of the manifest body
+     *
+     * @return the pack, or {@code null} when there is no usable snapshot
+     */
+    static GameModPack load( Path dir, String manifestSha256 )
+    {
+        Path file = dir.resolve( manifestSha256 + SNAPSHOT_EXT );
+        ByteBuffer mapped;
+        try ( FileChannel ch = FileChannel.open( file, StandardOpenOption.READ ) ) {
+            long size = ch.size();
+            if ( size < HEADER_BYTES || size > Integer.MAX_VALUE ) {
+                return null;
+            }
+            mapped = ch.map( FileChannel.MapMode.READ_ONLY, 0, size );
+        }
+        catch ( NoSuchFileException e ) {
+            return null;
+        }
+        catch ( IOException e ) {
+            Logger.logDebug( LocalizationManager.format( "log.manifestSnapshot.unreadable", manifestSha256,
+                                                         e.getClass().getSimpleName() ) );
+            return null;
+        }
+        try {
+            return decode( mapped );
+        }
+        catch ( RuntimeException e ) {
+            Logger.logDebug( LocalizationManager.format( "log.manifestSnapshot.unreadable", manifestSha256,
+                                                         e.getClass().getSimpleName() ) );
+            return null;
+        }
+    }
+
+    /**
+     * Writes a snapshot into {@code dir} atomically (temp file + rename) and
+     * prunes the oldest snapshots beyond {@link #MAX_SNAPSHOTS}.
+     *
+     * @param dir            the snapshot directory
+     * @param manifestSha256 hex SHA-256 of the manifest body
+     * @param bytes          the encoded snapshot
+     */
+    static void write( Path dir, String manifestSha256, byte[] bytes )
+    {
+        try {
+            Files.createDirectories( dir );
+            Path file = dir.resolve( manifestSha256 + SNAPSHOT_EXT );
+            Path tmp = Files.createTempFile( dir, manifestSha256, ".tmp" );
+            try {
+                Files.write( tmp, bytes );
+                try {
+                    Files.move( tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+                }
+                catch ( AtomicMoveNotSupportedException e ) {
+                    Files.move( tmp, file, StandardCopyOption.REPLACE_EXISTING );
+                }
+            }
+            finally {
+                Files.deleteIfExists( tmp );
+            }
+            prune( dir );
+        }
+        catch ( IOException e ) {
+            Logger.logWarningSilent( LocalizationManager.format( "log.manifestSnapshot.writeFailed", manifestSha256,
+                                                                 e.getClass().getSimpleName() ) );
+        }
+    }
+
+    /**
+     * Deletes the least recently written snapshots beyond {@link #MAX_SNAPSHOTS}.
+     * Each manifest revision gets its own file, so without this every pack
+     * update would leave its previous snapshot behind forever.
+     *
+     * @param dir the snapshot directory
+     *
+     * @throws IOException if the directory can't be listed
+     */
+    private static void prune( Path dir ) throws IOException
+    {
+        List< Path > snapshots;
+        try ( Stream< Path > files = Files.list( dir ) ) {
+            snapshots = files.filter( p -> p.getFileName().toString().endsWith( SNAPSHOT_EXT ) ).toList();
+        }
+        if ( snapshots.size() <= MAX_SNAPSHOTS ) {
+            return;
+        }
+        List< Path > oldestFirst = new ArrayList<>( snapshots );
+        oldestFirst.sort( Comparator.comparingLong( p -> p.toFile().lastModified() ) );
+        for ( Path p : oldestFirst.subList( 0, oldestFirst.size() - MAX_SNAPSHOTS ) ) {
+            Files.deleteIfExists( p );
+        }
+    }
+
+    /**
+     * Returns {@code manifest_cache/snapshots}.
+     *
+     * @return the snapshot directory
+     */
+    private static Path snapshotDir()
+    {
+        return GameModPackFetcher.cacheDir().resolve( SNAPSHOT_DIR );
+    }
+
+    // ===== encoding =====
+
+    /**
+     * Encodes every manifest field of {@code pack}.
+     *
+     * @param pack the pack
+     *
+     * @return the snapshot bytes, header included
+     */
+    static byte[] encode( GameModPack pack )
+    {
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream( 16 * 1024 );
+            DataOutputStream out = new DataOutputStream( body );
+            writeString( out, LauncherConstants.LAUNCHER_APPLICATION_VERSION );
+
+            writeString( out, pack.manifestUrl );
+            writeString( out, pack.packName );
+            writeString( out, pack.packVersion );
+            writeString( out, pack.packURL );
+            out.writeBoolean( pack.packUnstable );
+            out.writeBoolean( pack.packCustomDiscordRpc );
+            writeStrings( out, pack.packLogoURL == null ? null : pack.packLogoURL.all() );
+            writeString( out, pack.packLogoSha1 );
+            writeStrings( out, pack.packBackgroundURL == null ? null : pack.packBackgroundURL.all() );
+            writeString( out, pack.packBackgroundSha1 );
+            writeString( out, pack.packMinRAMGB );
+            writeString( out, pack.packForgeURL );
+            writeString( out, pack.packForgeHash );
+            writeString( out, pack.packModLoader );
+            writeString( out, pack.packModLoaderURL );
+            writeString( out, pack.packModLoaderHash );
+            writeString( out, pack.packDefaultServerHost );
+            out.writeBoolean( pack.packDefaultServerPort != null );
+            out.writeInt( pack.packDefaultServerPort != null ? pack.packDefaultServerPort : 0 );
+            writeString( out, pack.packDefaultServerName );
+            out.writeBoolean( pack.packImportedSkipSync );
+
+            writeStrings( out, pack.packScanExclusions );
+            writeList( out, pack.packScanAcknowledgements, ( o, a ) -> {
+                writeString( o, a.fileSha256 );
+                writeString( o, a.innerSha256 );
+                writeString( o, a.kind );
+                writeString( o, a.locator );
+                writeString( o, a.reason );
+            } );
+            writeList( out, pack.packNews, ( o, n ) -> {
+                writeString( o, n.id );
+                writeString( o, n.title );
+                writeString( o, n.body );
+                writeString( o, n.date );
+                writeString( o, n.type );
+                writeString( o, n.url );
+                o.writeBoolean( n.pinned );
+                writeString( o, n.expires );
+            } );
+            writeList( out, pack.packLinks, ( o, l ) -> {
+                writeString( o, l.title );
+                writeString( o, l.url );
+                writeString( o, l.description );
+            } );
+            writeList( out, pack.packMods, ( o, m ) -> {
+                writeString( o, m.name );
+                writeFile( o, m );
+                o.writeBoolean( m.clientReq );
+                o.writeBoolean( m.serverReq );
+            } );
+            writeList( out, pack.packConfigs, ManifestSnapshot::writeAsset );
+            writeList( out, pack.packResourcePacks, ManifestSnapshot::writeFile );
+            writeList( out, pack.packShaderPacks, ManifestSnapshot::writeFile );
+            writeList( out, pack.packInitialFiles, ManifestSnapshot::writeAsset );
+            out.flush();
+
+            byte[] bodyBytes = body.toByteArray();
+            CRC32 crc = new CRC32();
+            crc.update( bodyBytes );
+            ByteBuffer snapshot = ByteBuffer.allocate( HEADER_BYTES + bodyBytes.length );
+            snapshot.putInt( MAGIC ).putInt( FORMAT_VERSION ).putInt( bodyBytes.length )
+                    .putInt( ( int ) crc.getValue() ).putInt( 0 ).putInt( 0 ).put( bodyBytes );
+            return snapshot.array();
+        }
+        catch ( IOException e ) {
+            throw new IllegalStateException( "In-memory encode failed", e );
+        }
+    }
+
+    /** Writes one list element. */
+    @FunctionalInterface
+    private interface ElementWriter< T >
+    {
+        void write( DataOutputStream out, T element ) throws IOException;
+    }
+
+    /**
+     * Writes a count-prefixed list (count {@code -1} = {@code null}), each
+     * element preceded by a presence flag.
+     *
+     * @param out    destination
+     * @param list   the list, may be {@code null}
+     * @param writer writes one non-null element
+     * @param <T>    the element type
+     *
+     * @throws IOException never for in-memory streams
+     */
+    private static < T > void writeList( DataOutputStream out, List< T > list, ElementWriter< ? super T > writer )
+            throws IOException
+    {
+        if ( list == null ) {
+            out.writeInt( -1 );
+            return;
+        }
+        out.writeInt( list.size() );
+        for ( T element : list ) {
+            // Gson leaves a JSON null array element as a null entry; keep it.
+            out.writeBoolean( element != null );
+            if ( element != null ) {
+                writer.write( out, element );
+            }
+        }
+    }
+
+    /** Writes a {@link GameAsset}: its file fields, then the client / server flags. */
+    private static void writeAsset( DataOutputStream out, GameAsset asset ) throws IOException
+    {
+        writeFile( out, asset );
+        out.writeBoolean( asset.clientReq );
+        out.writeBoolean( asset.serverReq );
+    }
+
+    /** Writes the verbatim {@link FileFields} of a managed file. */
+    private static void writeFile( DataOutputStream out, ManagedGameFile file ) throws IOException
+    {
+        FileFields f = file.rawFields();
+        writeString( out, f.remote() );
+        writeString( out, f.local() );
+        writeString( out, f.sha1() );
+        writeString( out, f.md5() );
+        writeString( out, f.sha256() );
+    }
+
+    /** Writes a list of strings in the {@link #writeList} layout. */
+    private static void writeStrings( DataOutputStream out, List< String > values ) throws IOException
+    {
+        writeList( out, values, ManifestSnapshot::writeString );
+    }
+
+    /**
+     * Writes a length-prefixed UTF-8 string (length {@code -1} = {@code null}).
+     *
+     * @param out   destination
+     * @param value the string, may be {@code null}
+     *
+     * @throws IOException never for in-memory streams
+     */
+    private static void writeString( DataOutputStream out, String value ) throws IOException
+    {
+        if ( value == null ) {
+            out.writeInt( -1 );
+            return;
+        }
+        byte[] bytes = value.getBytes( StandardCharsets.UTF_8 );
+        out.writeInt( bytes.length );
+        out.write( bytes );
+    }
+
+    // ===== decoding =====
+
+    /**
+     * Decodes a snapshot.
+     *
+     * @param buf the snapshot bytes, header included
+     *
+     * @return the pack, or {@code null} if the snapshot is foreign, corrupt or
+     *         from another launcher version
+     */
+    static GameModPack decode( ByteBuffer buf )
+    {
+        if ( buf.remaining() < HEADER_BYTES || buf.getInt( 0 ) != MAGIC || buf.getInt( 4 ) != FORMAT_VERSION ) {
+            return null;
+        }
+        int length = buf.getInt( 8 );
+        if ( length < 0 || length > buf.limit() - HEADER_BYTES ) {
+            return null;
+        }
+        ByteBuffer body = buf.slice( HEADER_BYTES, length );
+        CRC32 crc = new CRC32();
+        crc.update( body.duplicate() );
+        if ( ( int ) crc.getValue() != buf.getInt( 12 ) ) {
+            return null;
+        }
+
+        Reader in = new Reader( body );
+        if ( !LauncherConstants.LAUNCHER_APPLICATION_VERSION.equals( in.string() ) ) {
+            return null;
+        }
+        GameModPack pack = new GameModPack();
+        pack.manifestUrl = in.string();
+        pack.packName = in.string();
+        pack.packVersion = in.string();
+        pack.packURL = in.string();
+        pack.packUnstable = in.bool();
+        pack.packCustomDiscordRpc = in.bool();
+        List< String > logos = in.strings();
+        pack.packLogoURL = logos == null ? null : StringOrArray.of( logos );
+        pack.packLogoSha1 = in.string();
+        List< String > backgrounds = in.strings();
+        pack.packBackgroundURL = backgrounds == null ? null : StringOrArray.of( backgrounds );
+        pack.packBackgroundSha1 = in.string();
+        pack.packMinRAMGB = in.string();
+        pack.packForgeURL = in.string();
+        pack.packForgeHash = in.string();
+        pack.packModLoader = in.string();
+        pack.packModLoaderURL = in.string();
+        pack.packModLoaderHash = in.string();
+        pack.packDefaultServerHost = in.string();
+        boolean hasPort = in.bool();
+        int port = in.integer();
+        pack.packDefaultServerPort = hasPort ? port : null;
+        pack.packDefaultServerName = in.string();
+        pack.packImportedSkipSync = in.bool();
+
+        pack.packScanExclusions = in.strings();
+        pack.packScanAcknowledgements = in.list( r -> {
+            ScanAcknowledgement a = new ScanAcknowledgement();
+            a.fileSha256 = r.string();
+            a.innerSha256 = r.string();
+            a.kind = r.string();
+            a.locator = r.string();
+            a.reason = r.string();
+            return a;
+        } );
+        pack.packNews = in.list( r -> {
+            NewsItem n = new NewsItem();
+            n.id = r.string();
+            n.title = r.string();
+            n.body = r.string();
+            n.date = r.string();
+            n.type = r.string();
+            n.url = r.string();
+            n.pinned = r.bool();
+            n.expires = r.string();
+            return n;
+        } );
+        pack.packLinks = in.list( r -> {
+            LinkItem l = new LinkItem();
+            l.title = r.string();
+            l.url = r.string();
+            l.description = r.string();
+            return l;
+        } );
+        pack.packMods = in.list( r -> {
+            String name = r.string();
+            return new GameMod( name, r.file(), r.bool(), r.bool() );
+        } );
+        pack.packConfigs = in.list( Reader::asset );
+        pack.packResourcePacks = in.list( r -> new ManagedGameFile( r.file() ) );
+        pack.packShaderPacks = in.list( r -> new ManagedGameFile( r.file() ) );
+        pack.packInitialFiles = in.list( Reader::asset );
+        return pack;
+    }
+
+    /**
+     * Sequential reader over a snapshot body; strings use the same
+     * length-prefixed layout as {@link InstallIndex}.
+     */
+    private static final class Reader
+    {
+        private final ByteBuffer buf;
+
+        Reader( ByteBuffer buf )
+        {
+            this.buf = buf;
+        }
+
+        String string()
+        {
+            int len = buf.getInt();
+            if ( len < 0 ) {
+                return null;
+            }
+            byte[] bytes = new byte[ len ];
+            buf.get( bytes );
+            return new String( bytes, StandardCharsets.UTF_8 );
+        }
+
+        boolean bool()
+        {
+            return buf.get() != 0;
+        }
+
+        int integer()
+        {
+            return buf.getInt();
+        }
+
+        List< String > strings()
+        {
+            return list( Reader::string );
+        }
+
+        < T > List< T > list( Function< Reader, T > element )
+        {
+            int count = buf.getInt();
+            if ( count < 0 ) {
+                return null;
+            }
+            // Bounded by what's left so a corrupt count can't allocate gigabytes.
+            List< T > list = new ArrayList<>( Math.min( count, buf.remaining() ) );
+            for ( int i = 0; i < count; i++ ) {
+                list.add( bool() ? element.apply( this ) : null );
+            }
+            return list;
+        }
+
+        FileFields file()
+        {
+            return new FileFields( string(), string(), string(), string(), string() );
+        }
+
+        GameAsset asset()
+        {
+            return new GameAsset( file(), bool(), bool() );
+        }
+    }
+}
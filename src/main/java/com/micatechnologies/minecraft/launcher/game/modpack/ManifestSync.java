@@ -0,0 +1,613 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
+import com.micatechnologies.minecraft.launcher.files.Logger;
+import com.micatechnologies.minecraft.launcher.utilities.JSONUtilities;
+import com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors;
+import com.micatechnologies.minecraft.launcher.utilities.NetworkUtilities;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Network side of manifest loading: the conditional GET, the on-disk cache
+ * refresh, and the validator bookkeeping behind {@link GameModPackFetcher#get},
+ * shared by every caller so a URL is fetched and written at most once per
+ * revalidation wave.
+ *
+ * <ul>
+ *   <li><b>Coalescing.</b> Concurrent {@link #fetch} calls for one URL share a
+ *       single request, and a result stays reusable for
+ *       {@link #REUSE_WINDOW_MS} — the startup installed-pack load and the
+ *       revalidation that follows it no longer fetch the same manifest
+ *       twice.</li>
+ *   <li><b>Per-host lanes.</b> A {@link #wave} splits its URLs by host into at
+ *       most {@link #LANES_PER_HOST} sequential lanes, so each lane reuses one
+ *       keep-alive connection (the JDK keeps up to five idle per host) instead
+ *       of every manifest paying its own TLS handshake.</li>
+ *   <li><b>One validator table.</b> ETag / Last-Modified validators live in one
+ *       in-memory table, persisted to {@code manifest_cache/validators.json}
+ *       once per wave rather than as a {@code <sha256>.meta.json} sidecar
+ *       rewritten per manifest. Legacy sidecars are still read on a table
+ *       miss.</li>
+ * </ul>
+ *
+ * @since 2026.7
+ */
+final class ManifestSync
+{
+    /** How long a completed fetch is reused before the URL is revalidated again. */
+    static final long REUSE_WINDOW_MS = 60_000L;
+
+    /** Maximum concurrent lanes (and so keep-alive connections) per host in a wave. */
+    static final int LANES_PER_HOST = 4;
+
+    /**
+     * Maximum lanes a wave runs at once, across all hosts. Sized above core
+     * count since the work is latency-bound, not CPU-bound.
+     */
+    private static final int WAVE_PARALLELISM = Math.max( 4, Runtime.getRuntime().availableProcessors() * 2 );
+
+    /** File name of the persisted validator table inside the manifest cache folder. */
+    private static final String VALIDATORS_FILE = "validators.json";
+
+    /** In-flight and recently completed fetches, keyed by manifest URL. */
+    private static final ConcurrentHashMap< String, CompletableFuture< Fetched > > FLIGHTS =
+            new ConcurrentHashMap<>();
+
+    /** Validators by manifest URL, loaded from disk on first use. */
+    private static volatile Map< String, Validators > validators;
+
+    /** Set when {@link #validators} has changes not yet written to disk. */
+    private static final AtomicBoolean validatorsDirty = new AtomicBoolean();
+
+    /** Number of waves running; validator writes are deferred to the last one's end. */
+    private static final AtomicInteger openWaves = new AtomicInteger();
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ManifestSync() { /* static-only */ }
+
+    /**
+     * A manifest body as served (or confirmed) by the network.
+     *
+     * @param body        the manifest body; on a 304 the cached body
+     * @param notModified whether the server confirmed the cached body with a 304
+     */
+    record Fetched( String body, boolean notModified ) {}
+
+    /**
+     * Conditional validators captured from a manifest's last successful fetch.
+     * Field names match the legacy {@code .meta.json} sidecar.
+     *
+     * @param etag         the {@code ETag}, or {@code null}
+     * @param lastModified the {@code Last-Modified}, or {@code null}
+     */
+    record Validators( String etag, String lastModified ) {}
+
+    /**
+     * A network fetch, for {@link #coalesce}.
+     */
+    @FunctionalInterface
+    interface Fetch
+    {
+        /**
+         * Runs the fetch.
+         *
+         * @return the fetched manifest
+         *
+         * @throws IOException if the fetch fails
+         */
+        Fetched run() throws IOException;
+    }
+
+    /**
+     * Fetches {@code manifestUrl} with a conditional GET, refreshing the
+     * on-disk cache, unless an identical fetch is in flight or finished within
+     * {@link #REUSE_WINDOW_MS}, in which case its result is shared.
+     *
+     * @param manifestUrl the HTTPS manifest URL
+     *
+     * @return the current manifest body
+     *
+     * @throws IOException if the fetch fails
+     */
+    static Fetched fetch( String manifestUrl ) throws IOException
+    {
+        Fetched fetched = coalesce( manifestUrl, () -> fetchNow( manifestUrl ) );
+        if ( openWaves.get() == 0 ) {
+            flushValidators();
+        }
+        return fetched;
+    }
+
+    /**
+     * Runs {@code perUrl} for every URL as one revalidation wave: URLs are
+     * grouped into per-host lanes that run in parallel on the IO workload, and
+     * the validator table is written once when the wave ends. Cancelling the
+     * returned future interrupts the wave.
+     *
+     * @param manifestUrls the URLs to process
+     * @param perUrl       the per-URL work, typically a {@link GameModPackFetcher#get}
+     *
+     * @return a future completing when every URL was processed, exceptionally
+     *         with the first unchecked failure from {@code perUrl}
+     */
+    static CompletableFuture< Void > wave( Collection< String > manifestUrls, Consumer< String > perUrl )
+    {
+        List< List< String > > lanes = lanes( manifestUrls );
+        CompletableFuture< Void > done = new CompletableFuture<>();
+        // Ends the wave exactly once, whether its task finishes or is cancelled before starting.
+        AtomicBoolean ended = new AtomicBoolean();
+        Runnable end = () -> {
+            if ( ended.compareAndSet( false, true ) ) {
+                endWave();
+            }
+        };
+        openWaves.incrementAndGet();
+        Future< ? > task;
+        try {
+            task = LauncherExecutors.submit( LauncherExecutors.Workload.IO, () -> {
+                try {
+                    LauncherExecutors.forEach( LauncherExecutors.Workload.IO, lanes, WAVE_PARALLELISM,
+                                               lane -> lane.forEach( perUrl ) );
+                    done.complete( null );
+                }
+                catch ( Throwable t ) {
+                    done.completeExceptionally( t );
+                }
+                finally {
+                    end.run();
+                }
+                return null;
+            } );
+        }
+        catch ( RuntimeException e ) {
+            end.run();
+            done.completeExceptionally( e );
+            return done;
+        }
+        done.whenComplete( ( v, t ) -> {
+            if ( done.isCancelled() ) {
+                task.cancel( true );
+                end.run();
+            }
+        } );
+        return done;
+    }
+
+    /**
+     * Waits for a {@link #wave}, rethrowing its unchecked failure. If the
+     * waiting thread is interrupted the wave is cancelled and the interrupt
+     * status restored.
+     *
+     * @param wave the wave to await
+     */
+    static void await( CompletableFuture< Void > wave )
+    {
+        try {
+            wave.get();
+        }
+        catch ( InterruptedException e ) {
+            wave.cancel( true );
+            Thread.currentThread().interrupt();
+        }
+        catch ( CancellationException ignored ) {
+            // Cancelled by its owner; nothing to report.
+        }
+        catch ( ExecutionException e ) {
+            if ( e.getCause() instanceof RuntimeException re ) {
+                throw re;
+            }
+            if ( e.getCause() instanceof Error err ) {
+                throw err;
+            }
+            throw new CompletionException( e.getCause() );
+        }
+    }
+
+    /**
+     * Splits URLs into per-host lanes: each host's URLs, in order, dealt
+     * round-robin into at most {@link #LANES_PER_HOST} lanes. URLs without a
+     * host ({@code file:} imports, malformed entries) share one lane group.
+     *
+     * @param manifestUrls the URLs to split; duplicates are dropped
+     *
+     * @return the lanes, grouped by host in first-seen order
+     */
+    static List< List< String > > lanes( Collection< String > manifestUrls )
+    {
+        Map< String, List< String > > byHost = new LinkedHashMap<>();
+        for ( String url : manifestUrls ) {
+            if ( url == null ) {
+                continue;
+            }
+            List< String > hostUrls = byHost.computeIfAbsent( hostOf( url ), h -> new ArrayList<>() );
+            if ( !hostUrls.contains( url ) ) {
+                hostUrls.add( url );
+            }
+        }
+        List< List< String > > lanes = new ArrayList<>();
+        for ( List< String > hostUrls : byHost.values() ) {
+            int laneCount = Math.min( LANES_PER_HOST, hostUrls.size() );
+            List< List< String > > hostLanes = new ArrayList<>( laneCount );
+            for ( int i = 0; i < laneCount; i++ ) {
+                hostLanes.add( new ArrayList<>() );
+            }
+            for ( int i = 0; i < hostUrls.size(); i++ ) {
+                hostLanes.get( i % laneCount ).add( hostUrls.get( i ) );
+            }
+            lanes.addAll( hostLanes );
+        }
+        return lanes;
+    }
+
+    /**
+     * Runs {@code fetch} for {@code key} unless a fetch for the same key is in
+     * flight or completed within {@link #REUSE_WINDOW_MS}, in which case its
+     * outcome is shared. A failed fetch is forgotten at once so the next
+     * caller retries.
+     *
+     * @param key   the coalescing key (the manifest URL)
+     * @param fetch the fetch to run if none can be shared
+     *
+     * @return the shared or fresh result
+     *
+     * @throws IOException if the fetch (whichever caller ran it) failed
+     */
+    static Fetched coalesce( String key, Fetch fetch ) throws IOException
+    {
+        CompletableFuture< Fetched > mine = new CompletableFuture<>();
+        CompletableFuture< Fetched > existing = FLIGHTS.putIfAbsent( key, mine );
+        if ( existing != null ) {
+            return join( existing );
+        }
+        try {
+            Fetched result = fetch.run();
+            mine.complete( result );
+            try {
+                LauncherExecutors.schedule( () -> FLIGHTS.remove( key, mine ), REUSE_WINDOW_MS,
+                                            TimeUnit.MILLISECONDS );
+            }
+            catch ( RuntimeException e ) {
+                FLIGHTS.remove( key, mine );
+            }
+            return result;
+        }
+        catch ( IOException | RuntimeException | Error e ) {
+            FLIGHTS.remove( key, mine );
+            mine.completeExceptionally( e );
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for a shared fetch and rethrows its failure as the caller would
+     * have seen it.
+     *
+     * @param shared the shared fetch
+     *
+     * @return its result
+     *
+     * @throws IOException if the shared fetch failed with one
+     */
+    private static Fetched join( CompletableFuture< Fetched > shared ) throws IOException
+    {
+        try {
+            return shared.get();
+        }
+        catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new IOException( "Interrupted waiting for a shared manifest fetch", e );
+        }
+        catch ( ExecutionException e ) {
+            Throwable cause = e.getCause();
+            if ( cause instanceof IOException io ) {
+                throw new IOException( io.getMessage(), io );
+            }
+            if ( cause instanceof RuntimeException re ) {
+                throw re;
+            }
+            if ( cause instanceof Error err ) {
+                throw err;
+            }
+            throw new IOException( cause );
+        }
+    }
+
+    /**
+     * The uncoalesced fetch: a conditional GET with the stored validators,
+     * then the matching cache update — body rewrite on a 200, freshness touch
+     * on a 304.
+     *
+     * @param manifestUrl the HTTPS manifest URL
+     *
+     * @return the current manifest body
+     *
+     * @throws IOException if the fetch fails
+     */
+    private static Fetched fetchNow( String manifestUrl ) throws IOException
+    {
+        // HTTPS-only bounded fetch with conditional-GET support. The 50 MB size cap stops a
+        // compromised manifest host from OOMing the launcher. The conditional request —
+        // If-None-Match / If-Modified-Since — lets the server reply with a 304 + no body when
+        // nothing has changed since the last fetch, cutting the response to a few hundred bytes
+        // and skipping the Gson parse entirely.
+        Validators prev = validatorsFor( manifestUrl );
+        NetworkUtilities.BoundedFetchResult result = NetworkUtilities.downloadFileFromURLBoundedConditional(
+                new URL( manifestUrl ), GameModPackFetcher.MANIFEST_MAX_BYTES,
+                prev != null ? prev.etag() : null,
+                prev != null ? prev.lastModified() : null );
+        if ( result.isNotModified() ) {
+            String body = GameModPackFetcher.loadCachedManifest( manifestUrl, false );
+            if ( body == null ) {
+                // 304 but local cache is gone — degenerate case (cache cleared out-of-band
+                // between launches). Re-request unconditionally to rebuild the cache.
+                body = NetworkUtilities.downloadFileFromURLBounded( manifestUrl,
+                                                                    GameModPackFetcher.MANIFEST_MAX_BYTES );
+                GameModPackFetcher.cacheManifest( manifestUrl, body );
+            }
+            else {
+                // A 304 proves the cached body is current; touch its mtime so the staleness
+                // check measures time since the last successful revalidation.
+                GameModPackFetcher.touchCacheFreshness( manifestUrl );
+            }
+            // Refresh the validators in case the server updated them on the 304.
+            recordValidators( manifestUrl, result.etag(), result.lastModified() );
+            return new Fetched( body, true );
+        }
+        GameModPackFetcher.cacheManifest( manifestUrl, result.body() );
+        recordValidators( manifestUrl, result.etag(), result.lastModified() );
+        return new Fetched( result.body(), false );
+    }
+
+    /**
+     * Returns the stored validators for {@code manifestUrl}, falling back to a
+     * legacy per-manifest sidecar (which is then folded into the table).
+     *
+     * @param manifestUrl the manifest URL
+     *
+     * @return the validators, or {@code null} if none are stored
+     */
+    private static Validators validatorsFor( String manifestUrl )
+    {
+        Map< String, Validators > table = table();
+        Validators v = table.get( manifestUrl );
+        if ( v != null ) {
+            return v;
+        }
+        v = readLegacySidecar( GameModPackFetcher.cacheDir().resolve(
+                GameModPackFetcher.sha256Hex( manifestUrl ) + ".meta.json" ) );
+        if ( v != null ) {
+            table.put( manifestUrl, v );
+            validatorsDirty.set( true );
+        }
+        return v;
+    }
+
+    /**
+     * Records the validators from a successful fetch.
+     *
+     * @param manifestUrl  the manifest URL
+     * @param etag         the {@code ETag}, or {@code null}
+     * @param lastModified the {@code Last-Modified}, or {@code null}
+     */
+    private static void recordValidators( String manifestUrl, String etag, String lastModified )
+    {
+        Validators v = new Validators( etag, lastModified );
+        if ( !v.equals( table().put( manifestUrl, v ) ) ) {
+            validatorsDirty.set( true );
+        }
+    }
+
+    /**
+     * Returns the validator table, loading it on first use.
+     *
+     * @return the live table
+     */
+    private static Map< String, Validators > table()
+    {
+        Map< String, Validators > t = validators;
+        if ( t == null ) {
+            synchronized ( ManifestSync.class ) {
+                t = validators;
+                if ( t == null ) {
+                    t = new ConcurrentHashMap<>( readTable(
+                            GameModPackFetcher.cacheDir().resolve( VALIDATORS_FILE ) ) );
+                    validators = t;
+                }
+            }
+        }
+        return t;
+    }
+
+    /**
+     * Ends a wave, writing the validator table if it was the last one open.
+     */
+    private static void endWave()
+    {
+        if ( openWaves.decrementAndGet() == 0 ) {
+            flushValidators();
+        }
+    }
+
+    /**
+     * Writes the validator table if it changed. Best-effort: a failed write
+     * only means the next session's fetches go unconditional.
+     */
+    private static void flushValidators()
+    {
+        if ( !validatorsDirty.getAndSet( false ) ) {
+            return;
+        }
+        try {
+            writeTable( GameModPackFetcher.cacheDir().resolve( VALIDATORS_FILE ), table() );
+        }
+        catch ( IOException e ) {
+            validatorsDirty.set( true );
+            Logger.logWarningSilent( LocalizationManager.format( "log.manifestSync.validatorsWriteFailed",
+                                                                 e.getClass().getSimpleName() ) );
+        }
+    }
+
+    /**
+     * Reads a validator table file.
+     *
+     * @param file the table file
+     *
+     * @return the table; empty when the file is missing or unreadable, which
+     *         only costs unconditional fetches
+     */
+    static Map< String, Validators > readTable( Path file )
+    {
+        Map< String, Validators > table = new LinkedHashMap<>();
+        try {
+            if ( !Files.isRegularFile( file ) ) {
+                return table;
+            }
+            JsonObject root = JSONUtilities.getGson().fromJson(
+                    Files.readString( file, StandardCharsets.UTF_8 ), JsonObject.class );
+            if ( root == null ) {
+                return table;
+            }
+            for ( Map.Entry< String, JsonElement > e : root.entrySet() ) {
+                if ( e.getValue().isJsonObject() ) {
+                    JsonObject o = e.getValue().getAsJsonObject();
+                    table.put( e.getKey(), new Validators( stringOrNull( o, "etag" ),
+                                                           stringOrNull( o, "lastModified" ) ) );
+                }
+            }
+        }
+        catch ( Exception e ) {
+            Logger.logWarningSilent( LocalizationManager.format( "log.manifestSync.validatorsUnreadable",
+                                                                 e.getClass().getSimpleName() ) );
+            table.clear();
+        }
+        return table;
+    }
+
+    /**
+     * Writes a validator table file atomically (temp file + rename).
+     *
+     * @param file  the table file
+     * @param table the validators to write
+     *
+     * @throws IOException if the write fails
+     */
+    static void writeTable( Path file, Map< String, Validators > table ) throws IOException
+    {
+        JsonObject root = new JsonObject();
+        for ( Map.Entry< String, Validators > e : table.entrySet() ) {
+            JsonObject o = new JsonObject();
+            o.addProperty( "etag", e.getValue().etag() );
+            o.addProperty( "lastModified", e.getValue().lastModified() );
+            root.add( e.getKey(), o );
+        }
+        Files.createDirectories( file.getParent() );
+        Path tmp = file.resolveSibling( file.getFileName() + ".tmp" );
+        Files.writeString( tmp, JSONUtilities.getGson().toJson( root ), StandardCharsets.UTF_8 );
+        try {
+            Files.move( tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+        }
+        catch ( AtomicMoveNotSupportedException e ) {
+            Files.move( tmp, file, StandardCopyOption.REPLACE_EXISTING );
+        }
+    }
+
+    /**
+     * Reads a legacy {@code <sha256>.meta.json} validator sidecar.
+     *
+     * @param sidecar the sidecar path
+     *
+     * @return its validators, or {@code null} if absent or unreadable
+     */
+    private static Validators readLegacySidecar( Path sidecar )
+    {
+        try {
+            if ( !Files.isRegularFile( sidecar ) ) {
+                return null;
+            }
+            JsonObject o = JSONUtilities.getGson().fromJson(
+                    Files.readString( sidecar, StandardCharsets.UTF_8 ), JsonObject.class );
+            return o == null ? null : new Validators( stringOrNull( o, "etag" ), stringOrNull( o, "lastModified" ) );
+        }
+        catch ( Exception e ) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads a string member, treating absent and JSON-null members alike.
+     *
+     * @param o    the object
+     * @param name the member name
+     *
+     * @return the member's string value, or {@code null}
+     */
+    private static String stringOrNull( JsonObject o, String name )
+    {
+        JsonElement e = o.get( name );
+        return ( e == null || e.isJsonNull() ) ? null : e.getAsString();
+    }
+
+    /**
+     * Returns the lower-cased host of a URL, or an empty string for URLs
+     * without one.
+     *
+     * @param url the URL
+     *
+     * @return the host key
+     */
+    private static String hostOf( String url )
+    {
+        try {
+            String host = URI.create( url ).getHost();
+            return host == null ? "" : host.toLowerCase( Locale.ROOT );
+        }
+        catch ( IllegalArgumentException e ) {
+            return "";
+        }
+    }
+}
@@ -20,7 +20,6 @@ package com.micatechnologies.minecraft.launcher.game.modpack;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 import java.util.regex.Pattern;
 
 /**
@@ -31,11 +30,12 @@ import java.util.regex.Pattern;
  * {@link com.micatechnologies.minecraft.launcher.game.crash.CrashReportAnalyzer}
  * after the fact.
  *
- * <p>Filename-based heuristics only — no jar-opening — so the scan is cheap
- * enough to run on the play-button click path. Each rule encodes a known
- * incompatibility between two mod families (e.g. OptiFine + Sodium). The
- * matcher looks for paired filename patterns; both halves must be present
- * for a conflict to fire.</p>
+ * <p>Each rule encodes a known incompatibility between two mod families
+ * (e.g. OptiFine + Sodium). The matcher looks for paired patterns in each
+ * jar's filename, mod id, display name and root packages — the latter three
+ * from {@link ModMetadataIndex}, so a renamed jar is still recognised and
+ * the scan stays cheap enough for the play-button click path (warm lookups
+ * don't open jars). Both halves must be present for a conflict to fire.</p>
  *
  * <p>Detected conflicts are intentionally NON-FATAL. The user sees a
  * confirmation prompt with one-click "Disable X" actions but can also opt
@@ -68,7 +68,7 @@ public final class ModConflictDetector
 
     /**
      * A rule representing a known incompatibility between two mod families.
-     * The matcher looks for paired filename patterns; both halves must be present
+     * The matcher looks for paired patterns; both halves must be present
      * for a conflict to fire.
      */
     private record Rule( String title, String description,
@@ -78,7 +78,7 @@ public final class ModConflictDetector
      * Rule set, evaluated in order. New rules add here; one rule per known
      * incompatibility. The same patterns mirror what
      * {@link com.micatechnologies.minecraft.launcher.game.crash.CrashReportAnalyzer}
-     * looks for in crash text — just applied to filenames instead.
+     * looks for in crash text — just applied to jar identities instead.
      */
     private static final List< Rule > RULES = List.of(
             // OptiFine + Sodium — patch the same render internals incompatibly.
@@ -108,7 +108,11 @@ public final class ModConflictDetector
      * Empty list = no known incompatibilities; the launch can proceed.
      *
      * <p>Disabled jars ({@code .jar.disabled}) are ignored — they're already
-     * out of the loader's path. Only files ending in {@code .jar} count.</p>
+     * out of the loader's path. Only files ending in {@code .jar} count. This
+     * runs on the Play click, so it only reads jars already in
+     * {@link ModMetadataIndex}; a jar not indexed yet is matched by filename
+     * alone. Every launch's file sync indexes the folder in the background,
+     * so a renamed jar is recognised from the next Play on.</p>
      *
      * @param pack the modpack to scan; safe to pass a vanilla pack (returns empty)
      * @return non-null list, may be empty
@@ -117,15 +121,34 @@ public final class ModConflictDetector
      */
     public static List< Conflict > scan( GameModPack pack )
     {
-        if ( pack == null || pack.getPackRootFolder() == null ) return List.of();
-        File modsDir = new File( pack.getPackRootFolder(), "mods" );
-        if ( !modsDir.isDirectory() ) return List.of();
-        File[] jars = modsDir.listFiles( f -> f.isFile()
-                && f.getName().toLowerCase( Locale.ROOT ).endsWith( ".jar" ) );
-        if ( jars == null || jars.length == 0 ) return List.of();
-        List< String > names = new ArrayList<>( jars.length );
-        for ( File j : jars ) names.add( j.getName() );
-        return detectFromNames( names );
+        List< ModMetadataIndex.ModJar > jars = ModMetadataIndex.cachedForPack( pack, false );
+        if ( jars.isEmpty() ) return List.of();
+        List< String > names = new ArrayList<>( jars.size() );
+        List< String > subjects = new ArrayList<>( jars.size() );
+        for ( ModMetadataIndex.ModJar j : jars ) {
+            names.add( j.fileName() );
+            subjects.add( subject( j.fileName(), j.info() ) );
+        }
+        return detect( names, subjects );
+    }
+
+    /**
+     * Joins everything a jar is known by into the one string the rule
+     * patterns run against: filename, then (when indexed) mod id, display
+     * name and root packages.
+     *
+     * @param jarFileName the jar filename
+     * @param info        the jar's indexed metadata, or {@code null}
+     * @return the match subject
+     */
+    static String subject( String jarFileName, ModMetadataIndex.ModInfo info )
+    {
+        if ( info == null ) return jarFileName;
+        StringBuilder sb = new StringBuilder( jarFileName );
+        if ( info.modId() != null ) sb.append( ' ' ).append( info.modId() );
+        if ( info.name() != null ) sb.append( ' ' ).append( info.name() );
+        for ( String p : info.packages() ) sb.append( ' ' ).append( p );
+        return sb.toString();
     }
 
     /**
@@ -144,32 +167,46 @@ public final class ModConflictDetector
     static List< Conflict > detectFromNames( List< String > jarFileNames )
     {
         if ( jarFileNames == null || jarFileNames.isEmpty() ) return List.of();
+        return detect( jarFileNames, jarFileNames );
+    }
+
+    /**
+     * Runs the rules against each jar's match subject and reports conflicts
+     * by jar filename.
+     *
+     * @param jarFileNames jar filenames, parallel to {@code subjects}
+     * @param subjects     the text each jar is matched by (see {@link #subject})
+     * @return non-null list of detected conflicts, may be empty
+     */
+    static List< Conflict > detect( List< String > jarFileNames, List< String > subjects )
+    {
         List< Conflict > hits = new ArrayList<>();
         for ( Rule rule : RULES ) {
-            String first = firstMatch( jarFileNames, rule.firstPattern );
-            String second = firstMatch( jarFileNames, rule.secondPattern );
-            if ( first != null && second != null && !first.equals( second ) ) {
-                hits.add( new Conflict( rule.title, rule.description, first, second ) );
+            int first = firstMatch( subjects, rule.firstPattern );
+            int second = firstMatch( subjects, rule.secondPattern );
+            if ( first >= 0 && second >= 0 && first != second ) {
+                hits.add( new Conflict( rule.title, rule.description,
+                                        jarFileNames.get( first ), jarFileNames.get( second ) ) );
             }
         }
         return hits;
     }
 
     /**
-     * Returns the first jar filename whose name matches the pattern, or {@code null}.
+     * Returns the index of the first subject matching the pattern, or {@code -1}.
      *
-     * @param names   list of jar filenames to search
-     * @param pattern pattern to match against each filename
-     * @return the first matching filename, or {@code null} if no match is found
+     * @param subjects list of match subjects to search
+     * @param pattern  pattern to match against each subject
+     * @return the first matching index, or {@code -1} if no match is found
      */
-    private static String firstMatch( List< String > names, Pattern pattern )
+    private static int firstMatch( List< String > subjects, Pattern pattern )
     {
-        for ( String name : names ) {
-            if ( pattern.matcher( name ).find() ) {
-                return name;
+        for ( int i = 0; i < subjects.size(); i++ ) {
+            if ( pattern.matcher( subjects.get( i ) ).find() ) {
+                return i;
             }
         }
-        return null;
+        return -1;
     }
 
     /**
@@ -0,0 +1,921 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
+import com.micatechnologies.minecraft.launcher.files.LocalPathManager;
+import com.micatechnologies.minecraft.launcher.files.Logger;
+import com.micatechnologies.minecraft.launcher.utilities.HashUtilities;
+import com.micatechnologies.minecraft.launcher.utilities.JSONUtilities;
+import com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Launcher-wide index of what each mod jar actually is — mod id, display
+ * name, version, declared dependencies, icon path and root packages — read
+ * from the jar's own loader metadata ({@code META-INF/mods.toml},
+ * {@code META-INF/neoforge.mods.toml}, {@code fabric.mod.json},
+ * {@code quilt.mod.json} or {@code mcmod.info}) instead of guessed from
+ * its filename.
+ *
+ * <p>Each jar is opened and parsed once per SHA-1 digest; the result is
+ * saved to {@code <metadata>/mod_index.json} and shared by every pack that
+ * ships the same jar. A per-path stamp (size + modified time) maps a jar
+ * on disk to its digest, so a warm lookup is one {@code stat} — no
+ * hashing, no zip reads. Stamps are keyed by the {@code .jar} path with any
+ * {@code .disabled} suffix removed, so toggling a mod off and on doesn't
+ * invalidate its entry.</p>
+ *
+ * <p>A jar with no recognised metadata (a plain library, or a corrupt
+ * download) still gets an entry with a {@code null} mod id and its root
+ * packages, so it isn't re-opened on every lookup either.</p>
+ *
+ * @since 2026.7
+ */
+public final class ModMetadataIndex
+{
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ModMetadataIndex() { /* static-only */ }
+
+    /**
+     * What a mod jar declares about itself. For a jar declaring several mods
+     * (a Forge jar with more than one {@code [[mods]]} table, say), the first
+     * is described.
+     *
+     * @param modId        the mod id, lowercase; {@code null} when the jar has no loader metadata
+     * @param name         the display name, or {@code null}
+     * @param version      the declared version with build placeholders resolved, or {@code null}
+     * @param dependencies the mod ids the jar requires, loader and game ids excluded
+     * @param icon         path of the icon inside the jar, or {@code null}
+     * @param packages     the jar's root packages, e.g. {@code mezz.jei}
+     *
+     * @since 2026.7
+     */
+    public record ModInfo( String modId, String name, String version, List< String > dependencies,
+                           String icon, List< String > packages )
+    {
+        /**
+         * Returns whether the mod id or display name contains {@code lowerNeedle}.
+         *
+         * @param lowerNeedle the lowercased text to look for
+         *
+         * @return {@code true} on a match
+         *
+         * @since 2026.7
+         */
+        public boolean matches( String lowerNeedle )
+        {
+            return ( modId != null && modId.contains( lowerNeedle ) )
+                    || ( name != null && name.toLowerCase( Locale.ROOT ).contains( lowerNeedle ) );
+        }
+    }
+
+    /**
+     * A jar in a pack's {@code mods/} folder and its metadata.
+     *
+     * @param path     the jar (or {@code .jar.disabled}) file
+     * @param disabled whether the jar is renamed out of the loader's path
+     * @param info     the jar's metadata, or {@code null} if it couldn't be read
+     *
+     * @since 2026.7
+     */
+    public record ModJar( Path path, boolean disabled, ModInfo info )
+    {
+        /**
+         * Returns the jar's filename, no path.
+         *
+         * @return the filename
+         *
+         * @since 2026.7
+         */
+        public String fileName()
+        {
+            return path.getFileName().toString();
+        }
+    }
+
+    /**
+     * Maps a jar on disk to its digest.
+     *
+     * @param size       the file size when hashed
+     * @param modifiedMs the modified time when hashed
+     * @param sha1       the file's SHA-1
+     */
+    record Stamp( long size, long modifiedMs, String sha1 )
+    {
+    }
+
+    /**
+     * The persisted form.
+     *
+     * @param format {@link #FORMAT} when written
+     * @param stamps path stamps, keyed by {@code .jar} path
+     * @param mods   metadata, keyed by SHA-1
+     */
+    record Store( int format, Map< String, Stamp > stamps, Map< String, ModInfo > mods )
+    {
+    }
+
+    /**
+     * Store format; bump when {@link ModInfo} or the parsers change so stale
+     * entries are re-read rather than trusted.
+     */
+    private static final int FORMAT = 1;
+
+    /**
+     * Store filename, relative to the launcher metadata folder.
+     */
+    private static final String FILE = "mod_index.json";
+
+    /**
+     * Suffix of a jar renamed out of the loader's path.
+     */
+    private static final String DISABLED_SUFFIX = ".disabled";
+
+    /**
+     * Jars hashed and parsed at once when a pack has cold entries.
+     */
+    private static final int PARALLELISM = 8;
+
+    /**
+     * Most root packages kept per jar; a fat jar shading dozens of libraries
+     * is described by its first few.
+     */
+    private static final int MAX_PACKAGES = 16;
+
+    /**
+     * Package segments kept per root package.
+     */
+    private static final int PACKAGE_DEPTH = 3;
+
+    /**
+     * Dependency ids that name the loader or the game, not a mod.
+     */
+    private static final Set< String > PLATFORM_IDS = Set.of( "minecraft", "forge", "neoforge", "fabricloader",
+                                                              "fabric-loader", "quilt_loader", "java", "mcp",
+                                                              "fml" );
+
+    /**
+     * Path stamps, keyed by {@code .jar} path.
+     */
+    private static final Map< String, Stamp > stamps = new ConcurrentHashMap<>();
+
+    /**
+     * Metadata, keyed by SHA-1.
+     */
+    private static final Map< String, ModInfo > mods = new ConcurrentHashMap<>();
+
+    /**
+     * Whether the store has been read; guarded by the class lock.
+     */
+    private static boolean loaded;
+
+    /**
+     * Whether the in-memory index has changes not yet saved.
+     */
+    private static volatile boolean dirty;
+
+    /**
+     * Held while the store is written, so two saves can't land out of order.
+     */
+    private static final Object SAVE_LOCK = new Object();
+
+    /**
+     * Returns the metadata of every mod jar in a pack's {@code mods/} folder,
+     * sorted by filename. Jars not yet indexed are hashed and parsed (in
+     * parallel) and the store is saved; call off the FX thread.
+     *
+     * @param pack            the pack; safe to pass a vanilla pack or one with no mods folder
+     * @param includeDisabled whether {@code .jar.disabled} files are included
+     *
+     * @return non-null list, may be empty
+     *
+     * @since 2026.7
+     */
+    public static List< ModJar > forPack( GameModPack pack, boolean includeDisabled )
+    {
+        if ( pack == null || pack.getPackRootFolder() == null ) {
+            return List.of();
+        }
+        return forModsFolder( Path.of( pack.getPackRootFolder(), "mods" ), includeDisabled );
+    }
+
+    /**
+     * Returns the metadata of every mod jar in a folder, sorted by filename.
+     * See {@link #forPack}.
+     *
+     * @param modsDir         the folder to list
+     * @param includeDisabled whether {@code .jar.disabled} files are included
+     *
+     * @return non-null list, may be empty
+     *
+     * @since 2026.7
+     */
+    public static List< ModJar > forModsFolder( Path modsDir, boolean includeDisabled )
+    {
+        return list( modsDir, includeDisabled, true );
+    }
+
+    /**
+     * Returns every mod jar in a pack's {@code mods/} folder, sorted by
+     * filename, with metadata only for jars already indexed at their current
+     * size and modified time; the rest carry {@code null} info. Never hashes
+     * or opens a jar, so it suits latency-sensitive paths like the Play click.
+     *
+     * @param pack            the pack; safe to pass a vanilla pack or one with no mods folder
+     * @param includeDisabled whether {@code .jar.disabled} files are included
+     *
+     * @return non-null list, may be empty
+     *
+     * @since 2026.7
+     */
+    public static List< ModJar > cachedForPack( GameModPack pack, boolean includeDisabled )
+    {
+        if ( pack == null || pack.getPackRootFolder() == null ) {
+            return List.of();
+        }
+        return list( Path.of( pack.getPackRootFolder(), "mods" ), includeDisabled, false );
+    }
+
+    /**
+     * Lists a mods folder, optionally hashing and parsing the jars not yet
+     * indexed.
+     *
+     * @param modsDir         the folder to list
+     * @param includeDisabled whether {@code .jar.disabled} files are included
+     * @param indexCold       whether unindexed jars are indexed, or left without metadata
+     *
+     * @return non-null list, may be empty
+     */
+    private static List< ModJar > list( Path modsDir, boolean includeDisabled, boolean indexCold )
+    {
+        if ( !Files.isDirectory( modsDir ) ) {
+            return List.of();
+        }
+        ensureLoaded();
+        List< Path > present = new ArrayList<>();
+        List< Path > jars = new ArrayList<>();
+        try ( DirectoryStream< Path > dir = Files.newDirectoryStream( modsDir ) ) {
+            for ( Path p : dir ) {
+                String n = p.getFileName().toString().toLowerCase( Locale.ROOT );
+                boolean disabled = n.endsWith( ".jar" + DISABLED_SUFFIX );
+                if ( ( n.endsWith( ".jar" ) || disabled ) && Files.isRegularFile( p ) ) {
+                    present.add( p );
+                    if ( includeDisabled || !disabled ) {
+                        jars.add( p );
+                    }
+                }
+            }
+        }
+        catch ( IOException e ) {
+            Logger.logWarningSilent( LocalizationManager.format( "log.modIndex.listFailed", modsDir, e.getMessage() ) );
+            return List.of();
+        }
+        jars.sort( ( a, b ) -> a.getFileName().toString().compareToIgnoreCase( b.getFileName().toString() ) );
+
+        Map< Path, ModInfo > found = new ConcurrentHashMap<>();
+        List< Path > cold = new ArrayList<>();
+        for ( Path jar : jars ) {
+            ModInfo info = peek( jar );
+            if ( info != null ) {
+                found.put( jar, info );
+            }
+            else if ( indexCold ) {
+                cold.add( jar );
+            }
+        }
+        if ( !cold.isEmpty() ) {
+            try {
+                LauncherExecutors.forEach( LauncherExecutors.Workload.IO, cold, PARALLELISM, jar -> {
+                    ModInfo info = index( jar );
+                    if ( info != null ) {
+                        found.put( jar, info );
+                    }
+                } );
+            }
+            catch ( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if ( indexCold ) {
+            forgetMissing( modsDir, present );
+            saveIfDirty();
+        }
+
+        List< ModJar > out = new ArrayList<>( jars.size() );
+        for ( Path jar : jars ) {
+            out.add( new ModJar( jar, isDisabled( jar ), found.get( jar ) ) );
+        }
+        return out;
+    }
+
+    /**
+     * Returns one jar's metadata, hashing and parsing it if it isn't indexed
+     * yet. Call off the FX thread.
+     *
+     * @param jar the jar (or {@code .jar.disabled}) file
+     *
+     * @return the metadata, or {@code null} if the jar can't be read
+     *
+     * @since 2026.7
+     */
+    public static ModInfo forJar( Path jar )
+    {
+        ensureLoaded();
+        ModInfo info = peek( jar );
+        if ( info == null ) {
+            info = index( jar );
+            saveIfDirty();
+        }
+        return info;
+    }
+
+    /**
+     * Returns one jar's metadata only if it's already indexed for the jar's
+     * current size and modified time. Never hashes or opens the jar, so it's
+     * safe on the FX thread once the store has been loaded by an earlier
+     * {@link #forPack} or {@link #forJar}.
+     *
+     * @param jar the jar (or {@code .jar.disabled}) file
+     *
+     * @return the metadata, or {@code null} when not indexed
+     *
+     * @since 2026.7
+     */
+    public static ModInfo peek( Path jar )
+    {
+        Stamp stamp = stamps.get( stampKey( jar ) );
+        if ( stamp == null ) {
+            return null;
+        }
+        try {
+            if ( Files.size( jar ) != stamp.size()
+                    || Files.getLastModifiedTime( jar ).toMillis() != stamp.modifiedMs() ) {
+                return null;
+            }
+        }
+        catch ( IOException e ) {
+            return null;
+        }
+        return mods.get( stamp.sha1() );
+    }
+
+    // ====================================================================
+    // Indexing
+    // ====================================================================
+
+    private static ModInfo index( Path jar )
+    {
+        long size;
+        long modified;
+        try {
+            size = Files.size( jar );
+            modified = Files.getLastModifiedTime( jar ).toMillis();
+        }
+        catch ( IOException e ) {
+            return null;
+        }
+        String sha1 = HashUtilities.getFileSHA1( jar.toFile() );
+        if ( sha1 == null ) {
+            return null;
+        }
+        ModInfo info = mods.get( sha1 );
+        if ( info == null ) {
+            try {
+                info = read( jar );
+            }
+            catch ( IOException | RuntimeException e ) {
+                Logger.logWarningSilent( LocalizationManager.format( "log.modIndex.readFailed",
+                                                                     jar.getFileName(), e.getMessage() ) );
+                info = new ModInfo( null, null, null, List.of(), null, List.of() );
+            }
+        }
+        synchronized ( ModMetadataIndex.class ) {
+            mods.putIfAbsent( sha1, info );
+            stamps.put( stampKey( jar ), new Stamp( size, modified, sha1 ) );
+            dirty = true;
+        }
+        return info;
+    }
+
+    /**
+     * Opens a jar and reads whichever loader metadata it carries, in
+     * NeoForge, Forge, Fabric, Quilt, legacy-Forge order.
+     */
+    private static ModInfo read( Path jar ) throws IOException
+    {
+        try ( ZipFile zip = new ZipFile( jar.toFile() ) ) {
+            List< String > names = new ArrayList<>();
+            for ( Enumeration< ? extends ZipEntry > e = zip.entries(); e.hasMoreElements(); ) {
+                names.add( e.nextElement().getName() );
+            }
+            List< String > packages = rootPackages( names );
+
+            ModInfo info = null;
+            String toml = text( zip, "META-INF/neoforge.mods.toml" );
+            if ( toml == null ) {
+                toml = text( zip, "META-INF/mods.toml" );
+            }
+            if ( toml != null ) {
+                info = parseModsToml( toml, manifestVersion( zip ) );
+            }
+            if ( info == null ) {
+                String json = text( zip, "fabric.mod.json" );
+                if ( json != null ) {
+                    info = parseFabric( json );
+                }
+            }
+            if ( info == null ) {
+                String json = text( zip, "quilt.mod.json" );
+                if ( json != null ) {
+                    info = parseQuilt( json );
+                }
+            }
+            if ( info == null ) {
+                String json = text( zip, "mcmod.info" );
+                if ( json != null ) {
+                    info = parseMcmodInfo( json );
+                }
+            }
+            if ( info == null ) {
+                return new ModInfo( null, null, null, List.of(), null, packages );
+            }
+            return new ModInfo( info.modId(), info.name(), info.version(), info.dependencies(), info.icon(),
+                                packages );
+        }
+    }
+
+    private static String text( ZipFile zip, String name ) throws IOException
+    {
+        ZipEntry entry = zip.getEntry( name );
+        if ( entry == null ) {
+            return null;
+        }
+        try ( InputStream in = zip.getInputStream( entry ) ) {
+            return new String( in.readAllBytes(), StandardCharsets.UTF_8 );
+        }
+    }
+
+    private static String manifestVersion( ZipFile zip ) throws IOException
+    {
+        ZipEntry entry = zip.getEntry( "META-INF/MANIFEST.MF" );
+        if ( entry == null ) {
+            return null;
+        }
+        try ( InputStream in = zip.getInputStream( entry ) ) {
+            return new Manifest( in ).getMainAttributes().getValue( "Implementation-Version" );
+        }
+    }
+
+    // ====================================================================
+    // Metadata formats
+    // ====================================================================
+
+    /**
+     * Forge / NeoForge {@code mods.toml}. Read line by line rather than with
+     * a TOML library: only top-level {@code key = value} pairs inside the
+     * first {@code [[mods]]} table and each {@code [[dependencies.*]]} table
+     * matter, and multi-line strings (descriptions) are skipped.
+     *
+     * @param toml            the file text
+     * @param manifestVersion the jar manifest's {@code Implementation-Version}, substituted for
+     *                        {@code ${file.jarVersion}}; may be {@code null}
+     *
+     * @return the metadata, or {@code null} if no mod id is declared
+     */
+    static ModInfo parseModsToml( String toml, String manifestVersion )
+    {
+        String table = "";
+        int modsTables = 0;
+        Map< String, String > mod = new HashMap<>();
+        Map< String, String > dep = null;
+        Set< String > deps = new LinkedHashSet<>();
+        String[] lines = toml.split( "\\R" );
+        for ( int i = 0; i < lines.length; i++ ) {
+            String line = lines[ i ].strip();
+            if ( line.isEmpty() || line.startsWith( "#" ) ) {
+                continue;
+            }
+            if ( line.startsWith( "[" ) ) {
+                addDependency( dep, deps );
+                dep = null;
+                table = line.replaceAll( "[\\[\\]\\s]", "" );
+                if ( table.equals( "mods" ) ) {
+                    modsTables++;
+                }
+                else if ( table.startsWith( "dependencies." ) ) {
+                    dep = new HashMap<>();
+                }
+                continue;
+            }
+            int eq = line.indexOf( '=' );
+            if ( eq <= 0 ) {
+                continue;
+            }
+            String key = line.substring( 0, eq ).strip();
+            String raw = line.substring( eq + 1 ).strip();
+            if ( raw.startsWith( "\"\"\"" ) || raw.startsWith( "'''" ) ) {
+                String fence = raw.substring( 0, 3 );
+                if ( raw.length() < 6 || !raw.endsWith( fence ) ) {
+                    while ( i + 1 < lines.length && !lines[ ++i ].contains( fence ) ) {
+                        // skip the multi-line string's body
+                    }
+                }
+                continue;
+            }
+            String value = tomlValue( raw );
+            if ( table.equals( "mods" ) && modsTables == 1 ) {
+                mod.putIfAbsent( key, value );
+            }
+            else if ( dep != null ) {
+                dep.put( key, value );
+            }
+            else if ( table.isEmpty() && key.equals( "logoFile" ) ) {
+                mod.putIfAbsent( "rootLogoFile", value );
+            }
+        }
+        addDependency( dep, deps );
+
+        String modId = mod.get( "modId" );
+        if ( modId == null || modId.isBlank() ) {
+            return null;
+        }
+        String version = mod.get( "version" );
+        if ( version != null && version.contains( "${" ) ) {
+            version = manifestVersion;
+        }
+        String icon = mod.getOrDefault( "logoFile", mod.get( "rootLogoFile" ) );
+        return new ModInfo( modId.toLowerCase( Locale.ROOT ), blankToNull( mod.get( "displayName" ) ),
+                            blankToNull( version ), List.copyOf( deps ), blankToNull( icon ), List.of() );
+    }
+
+    /**
+     * Records a {@code [[dependencies.*]]} table's mod id unless it's the
+     * game, the loader, or an optional / incompatible entry.
+     */
+    private static void addDependency( Map< String, String > dep, Set< String > deps )
+    {
+        if ( dep == null ) {
+            return;
+        }
+        String id = dep.get( "modId" );
+        String type = dep.getOrDefault( "type", "required" ).toLowerCase( Locale.ROOT );
+        boolean required = !"false".equals( dep.get( "mandatory" ) ) && type.equals( "required" );
+        if ( id != null && required ) {
+            addDependencyId( id, deps );
+        }
+    }
+
+    private static String tomlValue( String raw )
+    {
+        if ( raw.startsWith( "\"" ) || raw.startsWith( "'" ) ) {
+            char quote = raw.charAt( 0 );
+            int end = raw.indexOf( quote, 1 );
+            return end > 0 ? raw.substring( 1, end ) : raw.substring( 1 );
+        }
+        int hash = raw.indexOf( '#' );
+        return ( hash >= 0 ? raw.substring( 0, hash ) : raw ).strip();
+    }
+
+    /**
+     * Fabric {@code fabric.mod.json}.
+     *
+     * @param json the file text
+     *
+     * @return the metadata, or {@code null} if no mod id is declared
+     */
+    static ModInfo parseFabric( String json )
+    {
+        JsonObject root = JSONUtilities.getGson().fromJson( json, JsonObject.class );
+        String id = string( root, "id" );
+        if ( id == null ) {
+            return null;
+        }
+        Set< String > deps = new LinkedHashSet<>();
+        if ( root.get( "depends" ) instanceof JsonObject depends ) {
+            for ( String key : depends.keySet() ) {
+                addDependencyId( key, deps );
+            }
+        }
+        return new ModInfo( id.toLowerCase( Locale.ROOT ), string( root, "name" ), string( root, "version" ),
+                            List.copyOf( deps ), icon( root.get( "icon" ) ), List.of() );
+    }
+
+    /**
+     * Quilt {@code quilt.mod.json}.
+     *
+     * @param json the file text
+     *
+     * @return the metadata, or {@code null} if no mod id is declared
+     */
+    static ModInfo parseQuilt( String json )
+    {
+        JsonObject root = JSONUtilities.getGson().fromJson( json, JsonObject.class );
+        if ( !( root.get( "quilt_loader" ) instanceof JsonObject loader ) ) {
+            return null;
+        }
+        String id = string( loader, "id" );
+        if ( id == null ) {
+            return null;
+        }
+        JsonObject metadata = loader.get( "metadata" ) instanceof JsonObject m ? m : new JsonObject();
+        Set< String > deps = new LinkedHashSet<>();
+        if ( loader.get( "depends" ) instanceof JsonArray depends ) {
+            for ( JsonElement d : depends ) {
+                if ( d.isJsonPrimitive() ) {
+                    addDependencyId( d.getAsString(), deps );
+                }
+                else if ( d instanceof JsonObject o && !isTrue( o, "optional" ) && string( o, "id" ) != null ) {
+                    addDependencyId( string( o, "id" ), deps );
+                }
+            }
+        }
+        return new ModInfo( id.toLowerCase( Locale.ROOT ), string( metadata, "name" ), string( loader, "version" ),
+                            List.copyOf( deps ), icon( metadata.get( "icon" ) ), List.of() );
+    }
+
+    /**
+     * Legacy Forge {@code mcmod.info}: either a bare array of mod objects or
+     * the version-2 {@code {"modList": [...]}} wrapper. Dependency entries may
+     * carry a version range ({@code "Forge@[10.13,)"}), which is dropped.
+     *
+     * @param json the file text
+     *
+     * @return the metadata, or {@code null} if no mod id is declared
+     */
+    static ModInfo parseMcmodInfo( String json )
+    {
+        JsonElement root = JSONUtilities.getGson().fromJson( json, JsonElement.class );
+        JsonArray list = root instanceof JsonArray a ? a
+                : root instanceof JsonObject o && o.get( "modList" ) instanceof JsonArray modList ? modList : null;
+        if ( list == null || list.isEmpty() || !( list.get( 0 ) instanceof JsonObject mod ) ) {
+            return null;
+        }
+        String id = string( mod, "modid" );
+        if ( id == null ) {
+            return null;
+        }
+        Set< String > deps = new LinkedHashSet<>();
+        for ( String key : List.of( "requiredMods", "dependencies" ) ) {
+            if ( mod.get( key ) instanceof JsonArray a ) {
+                for ( JsonElement d : a ) {
+                    if ( d.isJsonPrimitive() ) {
+                        addDependencyId( d.getAsString().split( "@", 2 )[ 0 ], deps );
+                    }
+                }
+            }
+        }
+        String version = string( mod, "version" );
+        if ( version != null && version.contains( "${" ) ) {
+            version = null;
+        }
+        return new ModInfo( id.toLowerCase( Locale.ROOT ), string( mod, "name" ), version, List.copyOf( deps ),
+                            string( mod, "logoFile" ), List.of() );
+    }
+
+    private static void addDependencyId( String id, Set< String > deps )
+    {
+        String lower = id.strip().toLowerCase( Locale.ROOT );
+        if ( !lower.isEmpty() && !PLATFORM_IDS.contains( lower ) ) {
+            deps.add( lower );
+        }
+    }
+
+    /**
+     * An icon is either a path, or a size-to-path map whose largest size wins.
+     */
+    private static String icon( JsonElement icon )
+    {
+        if ( icon == null || icon.isJsonNull() ) {
+            return null;
+        }
+        if ( icon.isJsonPrimitive() ) {
+            return blankToNull( icon.getAsString() );
+        }
+        if ( icon instanceof JsonObject sizes ) {
+            String best = null;
+            int bestSize = -1;
+            for ( Map.Entry< String, JsonElement > e : sizes.entrySet() ) {
+                int size;
+                try {
+                    size = Integer.parseInt( e.getKey() );
+                }
+                catch ( NumberFormatException ex ) {
+                    size = 0;
+                }
+                if ( size > bestSize && e.getValue().isJsonPrimitive() ) {
+                    bestSize = size;
+                    best = e.getValue().getAsString();
+                }
+            }
+            return blankToNull( best );
+        }
+        return null;
+    }
+
+    private static String string( JsonObject o, String key )
+    {
+        JsonElement e = o.get( key );
+        return e != null && e.isJsonPrimitive() ? blankToNull( e.getAsString() ) : null;
+    }
+
+    private static boolean isTrue( JsonObject o, String key )
+    {
+        JsonElement e = o.get( key );
+        return e != null && e.isJsonPrimitive() && e.getAsJsonPrimitive().isBoolean() && e.getAsBoolean();
+    }
+
+    private static String blankToNull( String s )
+    {
+        return s == null || s.isBlank() ? null : s.strip();
+    }
+
+    /**
+     * Collapses a jar's {@code .class} entries to root packages: each class's
+     * package cut to {@link #PACKAGE_DEPTH} segments, then any package under
+     * another one dropped. Multi-release copies under
+     * {@code META-INF/versions/} and the default package are ignored.
+     *
+     * @param entryNames the jar's entry names
+     *
+     * @return sorted root packages, at most {@link #MAX_PACKAGES}
+     */
+    static List< String > rootPackages( Iterable< String > entryNames )
+    {
+        TreeSet< String > cut = new TreeSet<>();
+        for ( String name : entryNames ) {
+            if ( !name.endsWith( ".class" ) || name.startsWith( "META-INF/" ) ) {
+                continue;
+            }
+            int slash = name.lastIndexOf( '/' );
+            if ( slash <= 0 ) {
+                continue;
+            }
+            String[] parts = name.substring( 0, slash ).split( "/" );
+            cut.add( String.join( ".", List.of( parts ).subList( 0, Math.min( PACKAGE_DEPTH, parts.length ) ) ) );
+        }
+        List< String > roots = new ArrayList<>();
+        String last = null;
+        for ( String p : cut ) {
+            if ( last != null && p.startsWith( last + "." ) ) {
+                continue;
+            }
+            roots.add( p );
+            last = p;
+            if ( roots.size() == MAX_PACKAGES ) {
+                break;
+            }
+        }
+        return List.copyOf( roots );
+    }
+
+    // ====================================================================
+    // Store
+    // ====================================================================
+
+    private static boolean isDisabled( Path jar )
+    {
+        return jar.getFileName().toString().toLowerCase( Locale.ROOT ).endsWith( DISABLED_SUFFIX );
+    }
+
+    private static String stampKey( Path jar )
+    {
+        String path = jar.toAbsolutePath().normalize().toString();
+        return isDisabled( jar ) ? path.substring( 0, path.length() - DISABLED_SUFFIX.length() ) : path;
+    }
+
+    /**
+     * Drops stamps for jars that were in {@code modsDir} but no longer are,
+     * so removed mods don't accumulate in the store.
+     */
+    private static void forgetMissing( Path modsDir, List< Path > present )
+    {
+        Set< String > keep = new HashSet<>();
+        for ( Path jar : present ) {
+            keep.add( stampKey( jar ) );
+        }
+        Path dir = modsDir.toAbsolutePath().normalize();
+        if ( stamps.keySet().removeIf( k -> !keep.contains( k ) && dir.equals( Path.of( k ).getParent() ) ) ) {
+            dirty = true;
+        }
+    }
+
+    private static synchronized void ensureLoaded()
+    {
+        if ( loaded ) {
+            return;
+        }
+        loaded = true;
+        Path path = storePath();
+        if ( !Files.isRegularFile( path ) ) {
+            return;
+        }
+        try {
+            Store store = JSONUtilities.getGson().fromJson( Files.readString( path, StandardCharsets.UTF_8 ),
+                                                            Store.class );
+            if ( store == null || store.format() != FORMAT || store.stamps() == null || store.mods() == null ) {
+                return;
+            }
+            stamps.putAll( store.stamps() );
+            mods.putAll( store.mods() );
+        }
+        catch ( IOException | JsonParseException e ) {
+            Logger.logWarningSilent( LocalizationManager.format( "log.modIndex.loadFailed", e.getMessage() ) );
+        }
+    }
+
+    /**
+     * Saves the store when something changed, dropping metadata no stamp
+     * references any more. The prune and snapshot run under the class lock,
+     * which {@link #index} also holds while adding an entry, so a jar indexed
+     * mid-save can't lose its metadata.
+     */
+    private static void saveIfDirty()
+    {
+        synchronized ( SAVE_LOCK ) {
+            Store store;
+            synchronized ( ModMetadataIndex.class ) {
+                if ( !dirty ) {
+                    return;
+                }
+                dirty = false;
+                Set< String > referenced = new HashSet<>();
+                for ( Stamp s : stamps.values() ) {
+                    referenced.add( s.sha1() );
+                }
+                mods.keySet().retainAll( referenced );
+                store = new Store( FORMAT, new HashMap<>( stamps ), new HashMap<>( mods ) );
+            }
+
+            Path target = storePath();
+            try {
+                Files.createDirectories( target.getParent() );
+                Path tmp = Files.createTempFile( target.getParent(), FILE, ".tmp" );
+                try {
+                    Files.writeString( tmp, JSONUtilities.getGson().toJson( store ), StandardCharsets.UTF_8 );
+                    try {
+                        Files.move( tmp, target, StandardCopyOption.REPLACE_EXISTING,
+                                    StandardCopyOption.ATOMIC_MOVE );
+                    }
+                    catch ( AtomicMoveNotSupportedException e ) {
+                        Files.move( tmp, target, StandardCopyOption.REPLACE_EXISTING );
+                    }
+                }
+                finally {
+                    Files.deleteIfExists( tmp );
+                }
+            }
+            catch ( IOException e ) {
+                Logger.logWarningSilent( LocalizationManager.format( "log.modIndex.saveFailed", e.getMessage() ) );
+            }
+        }
+    }
+
+    private static Path storePath()
+    {
+        return Path.of( LocalPathManager.getLauncherMetadataFolderPath(), FILE );
+    }
+}
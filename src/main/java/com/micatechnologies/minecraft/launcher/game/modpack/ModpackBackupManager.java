@@ -20,33 +20,37 @@ package com.micatechnologies.minecraft.launcher.game.modpack;
 import com.micatechnologies.minecraft.launcher.config.ConfigManager;
 import com.micatechnologies.minecraft.launcher.files.Logger;
 
-import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Date;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.util.List;
 
 /**
- * Creates and prunes per-pack backups of user-editable state ({@code config/}
- * by default, optionally {@code saves/}) before a modpack update is applied.
- * The backup lives at {@code <packRoot>/.backups/<timestamp>.zip}; the
- * {@code .backups} folder is launcher-managed and visible to the user from
- * the OS file explorer if they ever need to recover by hand.
+ * Creates, restores and prunes per-pack backups of user-editable state
+ * ({@code config/} by default, optionally {@code saves/}) before a modpack
+ * update is applied. Backups live under {@code <packRoot>/.backups/}; the
+ * folder is launcher-managed and visible to the user from the OS file
+ * explorer.
  *
- * <h3>Why ZIP, not a directory copy</h3>
+ * <h3>Why a chunk store, not a ZIP per backup</h3>
  *
  * Save folders are easily several hundred MB to multiple GB once a player
- * has explored a world. A directory copy doubles the storage cost; ZIP
- * compresses the world's metadata + region files reasonably (~30-50% on
- * typical worlds) and bundles the backup into a single artifact that's
- * trivial to copy off-device.
+ * has explored a world, and between two updates only a handful of region
+ * files usually change. A ZIP per backup re-reads and re-compresses the
+ * whole world every time and stores it N times over. {@link BackupStore}
+ * instead keeps each distinct 1 MiB chunk once, keyed by its SHA-256, and
+ * each backup is a small JSON snapshot listing the chunks of every file.
+ * Files whose size and mtime haven't changed since the previous snapshot are
+ * not even read, so both backup time and added disk use scale with what
+ * changed. Chunks of changed files are hashed and compressed in parallel.
+ *
+ * <p>Backups written as {@code .backups/<timestamp>.zip} by older launcher
+ * versions are still counted and pruned alongside snapshots.</p>
  *
  * <h3>Pruning policy</h3>
  *
@@ -58,10 +62,9 @@ import java.util.zip.ZipOutputStream;
  *       backups older than this many days regardless of count.</li>
  * </ul>
  *
- * <p>The defaults aim to keep backup disk use bounded: for a typical pack
- * with a 500 MB save + ~5 MB config, three backups is ~1.5 GB worst-case,
- * which most users have to spare. Users who update aggressively can tighten
- * either knob in Settings.</p>
+ * <p>Deleting a snapshot only drops its manifest; chunks are then
+ * garbage-collected by reference count, so a chunk shared by a surviving
+ * snapshot is never removed.</p>
  *
  * @since 2026.5
  */
@@ -76,7 +79,7 @@ public final class ModpackBackupManager
     public static final String BACKUPS_DIR = ".backups";
 
     /**
-     * SimpleDateFormat instance used for timestamping backup files.
+     * SimpleDateFormat instance used for timestamping backup snapshots.
      */
     private static final SimpleDateFormat TS_FORMAT =
             new SimpleDateFormat( "yyyy-MM-dd--HH-mm-ss" );
@@ -86,6 +89,9 @@ public final class ModpackBackupManager
     private static final String[] ALWAYS_BACKUP = { "config" };
     private static final String[] OPTIONAL_BACKUP = { "saves" };
 
+    /** Extension of backups written by launchers before the chunk store. */
+    private static final String LEGACY_ZIP_EXT = ".zip";
+
     /**
      * Creates a backup of the pack's user-editable state. No-op when:
      * <ul>
@@ -102,8 +108,8 @@ public final class ModpackBackupManager
      *
      * @param pack the pack whose user-editable state should be archived; a
      *             {@code null} pack or one without an install folder is a no-op
-     * @return the path to the created backup zip, or {@code null} when no
-     *         backup was created
+     * @return the snapshot manifest of the created backup, or {@code null}
+     *         when no backup was created
      */
     public static File backupBeforeUpdate( GameModPack pack )
     {
@@ -113,52 +119,99 @@ public final class ModpackBackupManager
         if ( packRoot == null || packRoot.isBlank() ) return null;
         File rootDir = new File( packRoot );
         if ( !rootDir.isDirectory() ) return null;
+        PrelaunchWarmup.yieldToUserWork();
 
-        // Collect subdirs that actually exist + match the include policy.
-        java.util.List< File > subdirs = new java.util.ArrayList<>();
-        for ( String name : ALWAYS_BACKUP ) {
-            File d = new File( rootDir, name );
-            if ( d.isDirectory() ) subdirs.add( d );
-        }
+        // Collect subdirs that match the include policy; missing ones are skipped by the store.
+        List< String > subdirs = new ArrayList<>( Arrays.asList( ALWAYS_BACKUP ) );
         if ( ConfigManager.getBackupIncludeSaves() ) {
-            for ( String name : OPTIONAL_BACKUP ) {
-                File d = new File( rootDir, name );
-                if ( d.isDirectory() ) subdirs.add( d );
-            }
+            subdirs.addAll( Arrays.asList( OPTIONAL_BACKUP ) );
         }
-        if ( subdirs.isEmpty() ) return null;
 
-        File backupsDir = new File( rootDir, BACKUPS_DIR );
-        if ( !backupsDir.exists() && !backupsDir.mkdirs() ) {
-            Logger.logWarningSilent( "Couldn't create backups dir at " + backupsDir.getAbsolutePath() );
-            return null;
-        }
-        File zipFile = new File( backupsDir, TS_FORMAT.format( new Date() ) + ".zip" );
-
-        try ( ZipOutputStream zip = new ZipOutputStream(
-                new BufferedOutputStream( new FileOutputStream( zipFile ) ) ) ) {
-            for ( File subdir : subdirs ) {
-                addDirectoryToZip( zip, subdir, subdir.getName() + "/" );
+        Path backupsDir = rootDir.toPath().resolve( BACKUPS_DIR );
+        BackupStore.Stats stats = new BackupStore.Stats();
+        BackupStore.Snapshot snapshot;
+        try {
+            String id;
+            synchronized ( TS_FORMAT ) {
+                id = TS_FORMAT.format( new Date() );
             }
+            snapshot = BackupStore.createSnapshot( backupsDir, rootDir.toPath(), subdirs, id, stats );
         }
         catch ( IOException ex ) {
+            // Chunks already written are unreferenced and get collected by the next prune.
             Logger.logWarningSilent( "Pack backup failed: " + ex.getMessage() );
-            // Best-effort cleanup of the partial zip; if delete fails the
-            // next backup attempt will overwrite it.
-            //noinspection ResultOfMethodCallIgnored
-            zipFile.delete();
             return null;
         }
+        if ( snapshot == null ) return null;
 
-        Logger.logStd( "Created backup before update: " + zipFile.getName()
-                               + " (" + humanSize( zipFile.length() ) + ")" );
+        Logger.logStd( "Created backup before update: " + snapshot.id
+                               + " (" + snapshot.files.size() + " files, " + humanSize( snapshot.totalBytes() )
+                               + "; " + stats.filesRead + " changed, " + stats.chunksWritten.get()
+                               + " new chunk(s), " + humanSize( stats.bytesWritten.get() ) + " written)" );
         pruneOldBackups( pack );
-        return zipFile;
+        return backupsDir.resolve( BackupStore.SNAPSHOTS_DIR )
+                         .resolve( snapshot.id + BackupStore.SNAPSHOT_EXT ).toFile();
+    }
+
+    /**
+     * Lists the pack's backup snapshots, newest first. Legacy ZIP backups are
+     * not included — they can be opened directly from the {@code .backups}
+     * folder.
+     *
+     * @param pack the pack whose snapshots to list
+     *
+     * @return snapshot ids (usable with {@link #restoreSnapshot}), newest first;
+     *         empty when the pack has none
+     * @since 2026.7
+     */
+    public static List< String > listSnapshots( GameModPack pack )
+    {
+        List< String > ids = new ArrayList<>();
+        if ( pack == null || pack.getPackRootFolder() == null ) return ids;
+        Path backupsDir = Path.of( pack.getPackRootFolder(), BACKUPS_DIR );
+        for ( BackupStore.Snapshot s : BackupStore.listSnapshots( backupsDir ) ) {
+            ids.add( s.id );
+        }
+        return ids;
     }
 
     /**
-     * Removes backups beyond the configured count/age caps. Called automatically
-     * after every successful backup; also safe to call standalone if a user
+     * Restores every file captured in the given snapshot back into the pack,
+     * verifying each chunk against its hash. Files created since the snapshot
+     * are left in place; the pack should not be running.
+     *
+     * @param pack       the pack to restore into
+     * @param snapshotId a snapshot id from {@link #listSnapshots(GameModPack)}
+     *
+     * @return the number of files restored
+     *
+     * @throws IOException if the snapshot doesn't exist, a chunk is missing or
+     *                     corrupt, or a file can't be written
+     * @since 2026.7
+     */
+    public static int restoreSnapshot( GameModPack pack, String snapshotId ) throws IOException
+    {
+        if ( pack == null || pack.getPackRootFolder() == null ) {
+            throw new IOException( "Pack has no install folder to restore into" );
+        }
+        PrelaunchWarmup.yieldToUserWork();
+        Path packRoot = Path.of( pack.getPackRootFolder() );
+        Path backupsDir = packRoot.resolve( BACKUPS_DIR );
+        for ( BackupStore.Snapshot s : BackupStore.listSnapshots( backupsDir ) ) {
+            if ( s.id.equals( snapshotId ) ) {
+                int restored = BackupStore.restoreSnapshot( backupsDir, packRoot, s );
+                Logger.logStd( "Restored " + restored + " file(s) from backup " + snapshotId
+                                       + " for " + pack.getPackName() );
+                return restored;
+            }
+        }
+        throw new IOException( "No backup snapshot named " + snapshotId );
+    }
+
+    /**
+     * Removes backups beyond the configured count/age caps, then deletes any
+     * chunk no remaining snapshot references. Called automatically after
+     * every successful backup; also safe to call standalone if a user
      * tightens the cap in Settings and wants old backups cleaned up immediately.
      *
      * @param pack the pack whose {@code .backups} folder should be pruned; a
@@ -169,30 +222,8 @@ public final class ModpackBackupManager
         if ( pack == null || pack.getPackRootFolder() == null ) return;
         File backupsDir = new File( pack.getPackRootFolder(), BACKUPS_DIR );
         if ( !backupsDir.isDirectory() ) return;
-        File[] backups = backupsDir.listFiles( f -> f.isFile() && f.getName().endsWith( ".zip" ) );
-        if ( backups == null || backups.length == 0 ) return;
-
-        Arrays.sort( backups, Comparator.comparingLong( File::lastModified ).reversed() );
-        int maxCount = Math.max( 0, ConfigManager.getMaxBackupsPerPack() );
-        int maxAgeDays = Math.max( 0, ConfigManager.getMaxBackupAgeDays() );
-        long ageCutoffMs = maxAgeDays > 0
-                ? System.currentTimeMillis() - ( maxAgeDays * 24L * 60 * 60 * 1000 )
-                : 0L;
-
-        int deleted = 0;
-        for ( int i = 0; i < backups.length; i++ ) {
-            File backup = backups[ i ];
-            boolean overCount = ( maxCount > 0 && i >= maxCount );
-            boolean tooOld = ( maxAgeDays > 0 && backup.lastModified() < ageCutoffMs );
-            if ( overCount || tooOld ) {
-                if ( backup.delete() ) {
-                    deleted++;
-                }
-                else {
-                    Logger.logWarningSilent( "Couldn't delete old backup: " + backup.getName() );
-                }
-            }
-        }
+        int deleted = pruneBackups( backupsDir.toPath(), Math.max( 0, ConfigManager.getMaxBackupsPerPack() ),
+                                    Math.max( 0, ConfigManager.getMaxBackupAgeDays() ), System.currentTimeMillis() );
         if ( deleted > 0 ) {
             Logger.logStd( "Pruned " + deleted + " old pack backup(s) for "
                                    + pack.getPackName() );
@@ -204,38 +235,57 @@ public final class ModpackBackupManager
     // -----------------------------------------------------------------------
 
     /**
-     * Recursively adds the contents of {@code dir} to {@code zip} under the
-     * given relative path prefix. Symlinks aren't followed (best-effort —
-     * Files.isSymbolicLink check filters them).
+     * Applies the count/age caps across snapshots and legacy ZIPs together
+     * (newest first), then garbage-collects unreferenced chunks.
+     *
+     * @param backupsDir the pack's {@code .backups} folder
+     * @param maxCount   keep at most this many backups; {@code 0} disables the cap
+     * @param maxAgeDays delete backups older than this; {@code 0} disables the cap
+     * @param now        current epoch-ms
      *
-     * @param zip   the ZipOutputStream to add files to
-     * @param dir   the directory whose contents are added to the zip
-     * @param prefix the relative path prefix for entries in the zip
-     * @throws IOException if an I/O error occurs while adding files to the zip
+     * @return the number of backups deleted
      */
-    private static void addDirectoryToZip( ZipOutputStream zip, File dir, String prefix )
-            throws IOException
+    static int pruneBackups( Path backupsDir, int maxCount, int maxAgeDays, long now )
     {
-        File[] entries = dir.listFiles();
-        if ( entries == null ) return;
-        for ( File entry : entries ) {
-            Path p = entry.toPath();
-            if ( Files.isSymbolicLink( p ) ) continue;
-            String entryName = prefix + entry.getName();
-            if ( entry.isDirectory() ) {
-                ZipEntry zEntry = new ZipEntry( entryName + "/" );
-                zip.putNextEntry( zEntry );
-                zip.closeEntry();
-                addDirectoryToZip( zip, entry, entryName + "/" );
+        record Backup( long createdAt, String name, Runnable delete ) {}
+        List< Backup > backups = new ArrayList<>();
+        int[] deleted = { 0 };
+        for ( BackupStore.Snapshot s : BackupStore.listSnapshots( backupsDir ) ) {
+            backups.add( new Backup( s.createdAt, s.id, () -> {
+                if ( BackupStore.deleteSnapshot( backupsDir, s.id ) ) deleted[ 0 ]++;
+            } ) );
+        }
+        File[] zips = backupsDir.toFile().listFiles( f -> f.isFile() && f.getName().endsWith( LEGACY_ZIP_EXT ) );
+        if ( zips != null ) {
+            for ( File zip : zips ) {
+                backups.add( new Backup( zip.lastModified(), zip.getName(), () -> {
+                    if ( zip.delete() ) {
+                        deleted[ 0 ]++;
+                    }
+                    else {
+                        Logger.logWarningSilent( "Couldn't delete old backup: " + zip.getName() );
+                    }
+                } ) );
             }
-            else {
-                ZipEntry zEntry = new ZipEntry( entryName );
-                zEntry.setTime( entry.lastModified() );
-                zip.putNextEntry( zEntry );
-                Files.copy( p, zip );
-                zip.closeEntry();
+        }
+        backups.sort( Comparator.comparingLong( Backup::createdAt ).reversed() );
+
+        long ageCutoffMs = maxAgeDays > 0
+                ? now - ( maxAgeDays * 24L * 60 * 60 * 1000 )
+                : 0L;
+        for ( int i = 0; i < backups.size(); i++ ) {
+            Backup backup = backups.get( i );
+            boolean overCount = ( maxCount > 0 && i >= maxCount );
+            boolean tooOld = ( maxAgeDays > 0 && backup.createdAt() < ageCutoffMs );
+            if ( overCount || tooOld ) {
+                backup.delete().run();
             }
         }
+        int chunks = BackupStore.collectGarbage( backupsDir );
+        if ( chunks > 0 ) {
+            Logger.logDebug( "Collected " + chunks + " unreferenced backup chunk(s) in " + backupsDir );
+        }
+        return deleted[ 0 ];
     }
 
     /**
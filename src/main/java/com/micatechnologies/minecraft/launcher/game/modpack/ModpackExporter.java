@@ -19,21 +19,15 @@ package com.micatechnologies.minecraft.launcher.game.modpack;
 
 import com.micatechnologies.minecraft.launcher.files.Logger;
 
-import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.SimpleFileVisitor;
-import java.nio.file.StandardOpenOption;
-import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.LongConsumer;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
 /**
  * Packs an installed modpack into a portable ZIP for sharing /
@@ -233,9 +227,10 @@ public final class ModpackExporter
      * @param destinationZip  output file; overwritten if it exists
      * @param includeWorlds   when true, also includes the pack's
      *                        {@code saves/} folder
-     * @param progress        optional callback receiving bytes-written
-     *                        running total; useful for UI progress
-     *                        indicators
+     * @param progress        optional callback receiving a running total
+     *                        of pack bytes archived; useful for UI
+     *                        progress indicators. Called from export
+     *                        worker threads.
      * @throws IllegalArgumentException if {@code pack} is {@code null}
      * @throws IOException              if the pack has no install folder, its
      *                                 folder is missing, or writing the archive fails
@@ -246,6 +241,8 @@ public final class ModpackExporter
         if ( pack == null ) throw new IllegalArgumentException( "pack is null" );
         String rootStr = pack.getPackRootFolder();
         if ( rootStr == null ) throw new IOException( "Pack has no install folder." );
+        // A warm-up rewriting files mid-walk would tear the archive.
+        PrelaunchWarmup.yieldToUserWork();
         Path root = Paths.get( rootStr );
         if ( !Files.isDirectory( root ) ) {
             throw new IOException( "Pack install folder is missing: " + rootStr );
@@ -254,68 +251,26 @@ public final class ModpackExporter
                 ? DEFAULT_EXCLUSIONS
                 : union( DEFAULT_EXCLUSIONS, WORLDS_FOLDER );
 
-        // Ensure parent dir exists.
-        File parent = destinationZip.getParentFile();
-        if ( parent != null && !parent.exists() ) {
-            //noinspection ResultOfMethodCallIgnored
-            parent.mkdirs();
-        }
-
-        final long[] bytesWritten = { 0L };
-        try ( ZipOutputStream zip = new ZipOutputStream(
-                new BufferedOutputStream( new FileOutputStream( destinationZip ) ) ) )
-        {
-            // Write the marker file (mica-export.json) + the full pack
-            // manifest body (manifest.json) at the ZIP root. The marker
-            // is what import uses to validate the ZIP actually came from
-            // this launcher; the manifest is what gets registered with
-            // GameModPackManager on the recipient's side.
-            writeExportMetadata( zip, pack, includeWorlds );
-            writeManifestBody( zip, pack );
-
-            Files.walkFileTree( root, new SimpleFileVisitor<>() {
-                @Override
-                public FileVisitResult preVisitDirectory( Path dir, BasicFileAttributes attrs ) {
-                    if ( dir.equals( root ) ) return FileVisitResult.CONTINUE;
-                    Path rel = root.relativize( dir );
-                    String topLevel = rel.getName( 0 ).toString();
-                    return excludes.contains( topLevel )
-                            ? FileVisitResult.SKIP_SUBTREE
-                            : FileVisitResult.CONTINUE;
-                }
-
-                @Override
-                public FileVisitResult visitFile( Path file, BasicFileAttributes attrs ) throws IOException {
-                    Path rel = root.relativize( file );
-                    // Use forward slashes inside the ZIP regardless of OS
-                    // so the archive is portable.
-                    String entryName = rel.toString().replace( File.separatorChar, '/' );
-                    ZipEntry entry = new ZipEntry( entryName );
-                    entry.setTime( attrs.lastModifiedTime().toMillis() );
-                    zip.putNextEntry( entry );
-                    Files.copy( file, zip );
-                    zip.closeEntry();
-                    bytesWritten[ 0 ] += attrs.size();
-                    if ( progress != null ) progress.accept( bytesWritten[ 0 ] );
-                    return FileVisitResult.CONTINUE;
-                }
+        // Write the marker file (mica-export.json) + the full pack
+        // manifest body (manifest.json) at the ZIP root. The marker
+        // is what import uses to validate the ZIP actually came from
+        // this launcher; the manifest is what gets registered with
+        // GameModPackManager on the recipient's side.
+        Map< String, byte[] > leading = new LinkedHashMap<>();
+        leading.put( MARKER_FILENAME, exportMetadata( pack, includeWorlds ) );
+        byte[] manifest = manifestBody( pack );
+        if ( manifest != null ) leading.put( MANIFEST_FILENAME, manifest );
 
-                @Override
-                public FileVisitResult visitFileFailed( Path file, IOException exc ) {
-                    Logger.logWarningSilent( "Skipping unreadable file in export: " + file
-                                                     + " (" + exc.getMessage() + ")" );
-                    return FileVisitResult.CONTINUE;
-                }
-            } );
-        }
+        // Pack contents are deflated across all cores, with already-compressed
+        // entries (jars, PNGs, region files) stored as-is — see PackExportEngine.
+        PackExportEngine.writeZip( root, excludes, leading, destinationZip, progress );
     }
 
     /** Inline metadata blob at the root of the ZIP. Plain JSON so
      *  it's easy to inspect with any text editor; matches roughly
      *  the shape of an mrpack manifest minus the URL-list bits since
      *  this export already includes the binaries. */
-    private static void writeExportMetadata( ZipOutputStream zip, GameModPack pack,
-                                              boolean worldsIncluded ) throws IOException
+    private static byte[] exportMetadata( GameModPack pack, boolean worldsIncluded )
     {
         StringBuilder sb = new StringBuilder( "{\n" );
         sb.append( "  \"format\": \"" ).append( EXPORT_FORMAT_V2 ).append( "\",\n" );
@@ -335,11 +290,7 @@ public final class ModpackExporter
         sb.append( "  \"worldsIncluded\": " ).append( worldsIncluded ).append( ",\n" );
         sb.append( "  \"exportedAtMs\": " ).append( System.currentTimeMillis() ).append( "\n" );
         sb.append( "}\n" );
-
-        ZipEntry entry = new ZipEntry( MARKER_FILENAME );
-        zip.putNextEntry( entry );
-        zip.write( sb.toString().getBytes( java.nio.charset.StandardCharsets.UTF_8 ) );
-        zip.closeEntry();
+        return sb.toString().getBytes( java.nio.charset.StandardCharsets.UTF_8 );
     }
 
     /** Embeds the pack's manifest JSON at the ZIP root. The import path
@@ -352,20 +303,19 @@ public final class ModpackExporter
      *  (vanilla packs, failed-load placeholders): the ZIP still gets
      *  the marker file + pack contents, but import will reject it as
      *  "no manifest in archive" instead of completing into an unusable
-     *  state.</p> */
-    private static void writeManifestBody( ZipOutputStream zip, GameModPack pack ) throws IOException
+     *  state.</p>
+     *
+     *  @return the UTF-8 manifest body, or {@code null} when none is available */
+    private static byte[] manifestBody( GameModPack pack )
     {
         String body = GameModPackFetcher.loadManifestText( pack.getManifestUrl() );
         if ( body == null || body.isBlank() ) {
             Logger.logWarningSilent( "ModpackExporter: no manifest body available for "
                                               + pack.getPackName() + " — ZIP will lack "
                                               + MANIFEST_FILENAME + " entry." );
-            return;
+            return null;
         }
-        ZipEntry entry = new ZipEntry( MANIFEST_FILENAME );
-        zip.putNextEntry( entry );
-        zip.write( body.getBytes( java.nio.charset.StandardCharsets.UTF_8 ) );
-        zip.closeEntry();
+        return body.getBytes( java.nio.charset.StandardCharsets.UTF_8 );
     }
 
     /**
@@ -215,6 +215,7 @@ public final class OfficialLauncherExporter
         if ( pack == null ) {
             return Result.failure( LocalizationManager.get( "import.export.noPack" ) );
         }
+        PrelaunchWarmup.yieldToUserWork();
         Path dotMc = resolveDotMinecraft();
         Path profilesFile = dotMc.resolve( "launcher_profiles.json" );
         if ( !Files.isRegularFile( profilesFile ) ) {
@@ -612,8 +613,11 @@ public final class OfficialLauncherExporter
 
     /**
      * Recursively copies a directory tree from {@code src} to {@code dst},
-     * creating directories and replacing existing files. Unwraps per-entry
-     * {@link IOException}s thrown from the walk into the caller.
+     * creating directories and replacing existing files. Mod and pack
+     * archives are hardlinked when the export folder shares a volume with the
+     * pack (they're never edited in place, so sharing is safe and a multi-GB
+     * mods folder "copies" instantly); everything else is a real copy. See
+     * {@link PackExportEngine#linkOrCopyTree(Path, Path)}.
      *
      * @param src source directory root
      * @param dst destination directory root
@@ -622,26 +626,7 @@ public final class OfficialLauncherExporter
      */
     private static void copyRecursively( Path src, Path dst ) throws IOException
     {
-        try ( var stream = Files.walk( src ) ) {
-            stream.forEach( path -> {
-                try {
-                    Path target = dst.resolve( src.relativize( path ).toString() );
-                    if ( Files.isDirectory( path ) ) {
-                        Files.createDirectories( target );
-                    }
-                    else {
-                        Files.copy( path, target, StandardCopyOption.REPLACE_EXISTING );
-                    }
-                }
-                catch ( IOException e ) {
-                    throw new RuntimeException( e );
-                }
-            } );
-        }
-        catch ( RuntimeException re ) {
-            if ( re.getCause() instanceof IOException ioe ) throw ioe;
-            throw re;
-        }
+        PackExportEngine.linkOrCopyTree( src, dst );
     }
 
     /**
@@ -0,0 +1,395 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import com.micatechnologies.minecraft.launcher.files.Logger;
+import org.apache.commons.compress.archivers.zip.DefaultBackingStoreSupplier;
+import org.apache.commons.compress.archivers.zip.ParallelScatterZipCreator;
+import org.apache.commons.compress.archivers.zip.Zip64Mode;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+
+/**
+ * Shared file-shipping engine for {@link ModpackExporter} (ZIP) and
+ * {@link OfficialLauncherExporter} (folder copy into the Mojang side).
+ *
+ * <h3>ZIP export</h3>
+ *
+ * {@link #writeZip} deflates entries across every core with commons-compress's
+ * {@link ParallelScatterZipCreator}: each worker compresses into its own
+ * scatter file, and the scatter files are concatenated into the final archive
+ * once the walk is done. Entries that are already compressed — mod JARs,
+ * PNG/OGG assets, {@code .mca} region files, anything whose first block looks
+ * like noise — are STOREd instead of deflated, which on a typical pack skips
+ * deflate for the vast majority of bytes. Together that makes a multi-GB
+ * export disk-bound rather than bound by one core running zlib.
+ *
+ * <h3>Folder export</h3>
+ *
+ * {@link #linkOrCopyTree} hardlinks immutable archives (mod / resource-pack
+ * JARs and ZIPs — the launcher only ever replaces those with a rename, never
+ * rewrites them in place, so sharing the inode is safe) and copies everything
+ * else with {@link Files#copy}, which lets the JDK use the kernel's
+ * copy-offload path (and so copy-on-write clones on filesystems that support
+ * them). Editable files like configs are always real copies so the game on
+ * one side can't silently edit the other side's copy.
+ *
+ * @since 2026.7
+ */
+final class PackExportEngine
+{
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private PackExportEngine() { /* static-only */ }
+
+    /** Extensions whose contents are already compressed; deflating them again
+     *  burns CPU for a percent or two at best. Lower-case, no dot. */
+    private static final Set< String > COMPRESSED_EXTENSIONS = Set.of(
+            "jar", "zip", "litemod", "mrpack", "gz", "xz", "bz2", "7z", "rar", "zst",
+            "png", "jpg", "jpeg", "gif", "webp", "ogg", "mp3", "flac", "mp4",
+            "mca", "mcr", "mcc", "nbt", "schem", "schematic", "litematic" );
+
+    /** Extensions that are always text-ish and compress well; never probed. */
+    private static final Set< String > TEXT_EXTENSIONS = Set.of(
+            "txt", "json", "json5", "cfg", "conf", "toml", "properties", "yml", "yaml",
+            "xml", "js", "zs", "lang", "mcmeta", "log", "csv", "snbt", "md", "ini" );
+
+    /** Extensions hardlinked by {@link #linkOrCopyTree}: downloaded archives
+     *  that are replaced atomically, never edited in place. */
+    private static final Set< String > LINKABLE_EXTENSIONS = Set.of( "jar", "zip", "litemod" );
+
+    /** Files below this size aren't probed — a few KB more or less of deflate
+     *  doesn't matter and the probe would cost an extra open. */
+    private static final long PROBE_MIN_SIZE = 64 * 1024;
+
+    /** Bytes sampled from the start of a file for the entropy probe. */
+    private static final int PROBE_BYTES = 16 * 1024;
+
+    /** Shannon entropy (bits/byte) at or above which a sample is treated as
+     *  already compressed. Deflate output sits at ~7.9-8.0; text is ~4-5. */
+    private static final double STORE_ENTROPY_THRESHOLD = 7.5;
+
+    /** Worker-thread sequence so names stay unique across exports. */
+    private static final AtomicInteger THREAD_SEQ = new AtomicInteger( 0 );
+
+    /**
+     * Zips the pack folder {@code root} into {@code destination}, compressing
+     * entries in parallel.
+     *
+     * @param root             pack root to archive
+     * @param excludedTopLevel first path segments (under {@code root}) to skip
+     * @param leadingEntries   in-memory entries (name to UTF-8 body) written
+     *                         before the walked files, e.g. the export marker
+     * @param destination      output ZIP; overwritten if it exists
+     * @param progress         optional running total of source bytes consumed;
+     *                         called from worker threads
+     *
+     * @throws IOException if walking, reading or writing fails; a partial
+     *                     destination is left for the caller to overwrite
+     */
+    static void writeZip( Path root, Set< String > excludedTopLevel, Map< String, byte[] > leadingEntries,
+                          File destination, LongConsumer progress ) throws IOException
+    {
+        Path dest = destination.toPath().toAbsolutePath().normalize();
+        Path parent = dest.getParent();
+        Files.createDirectories( parent );
+        // Scatter files live beside the destination so they land on the same disk
+        // (not a possibly-tmpfs /tmp) and are cleaned up with the export.
+        Path scatterDir = Files.createTempDirectory( parent, ".mica-export-" );
+        int threads = Math.max( 1, Runtime.getRuntime().availableProcessors() );
+        ExecutorService pool = Executors.newFixedThreadPool( threads, r -> {
+            Thread t = new Thread( r, "mica-export-zip-" + THREAD_SEQ.incrementAndGet() );
+            t.setDaemon( true );
+            return t;
+        } );
+        AtomicLong bytesRead = new AtomicLong();
+        try {
+            ParallelScatterZipCreator creator = new ParallelScatterZipCreator(
+                    pool, new DefaultBackingStoreSupplier( scatterDir ), Deflater.DEFAULT_COMPRESSION );
+            Files.walkFileTree( root, new SimpleFileVisitor<>()
+            {
+                @Override
+                public FileVisitResult preVisitDirectory( Path dir, BasicFileAttributes attrs )
+                {
+                    if ( dir.equals( root ) ) return FileVisitResult.CONTINUE;
+                    if ( dir.toAbsolutePath().normalize().equals( scatterDir ) ) return FileVisitResult.SKIP_SUBTREE;
+                    String topLevel = root.relativize( dir ).getName( 0 ).toString();
+                    return excludedTopLevel.contains( topLevel )
+                            ? FileVisitResult.SKIP_SUBTREE
+                            : FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile( Path file, BasicFileAttributes attrs )
+                {
+                    if ( !attrs.isRegularFile() || file.toAbsolutePath().normalize().equals( dest ) ) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    // Forward slashes inside the ZIP regardless of OS so the archive is portable.
+                    ZipArchiveEntry entry = new ZipArchiveEntry(
+                            root.relativize( file ).toString().replace( File.separatorChar, '/' ) );
+                    entry.setTime( attrs.lastModifiedTime().toMillis() );
+                    entry.setMethod( shouldStore( file, attrs.size() ) ? ZipEntry.STORED : ZipEntry.DEFLATED );
+                    creator.addArchiveEntry( entry, () -> openCounting( file, bytesRead, progress ) );
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed( Path file, IOException exc )
+                {
+                    Logger.logWarningSilent( "Skipping unreadable file in export: " + file
+                                                     + " (" + exc.getMessage() + ")" );
+                    return FileVisitResult.CONTINUE;
+                }
+            } );
+
+            try ( ZipArchiveOutputStream zip = new ZipArchiveOutputStream( destination ) ) {
+                zip.setUseZip64( Zip64Mode.AsNeeded );
+                for ( Map.Entry< String, byte[] > e : leadingEntries.entrySet() ) {
+                    ZipArchiveEntry entry = new ZipArchiveEntry( e.getKey() );
+                    zip.putArchiveEntry( entry );
+                    zip.write( e.getValue() );
+                    zip.closeArchiveEntry();
+                }
+                creator.writeTo( zip );
+            }
+            catch ( ExecutionException e ) {
+                Throwable cause = e.getCause();
+                if ( cause instanceof UncheckedIOException uio ) throw uio.getCause();
+                if ( cause instanceof IOException ioe ) throw ioe;
+                throw new IOException( "Export worker failed: " + cause, cause );
+            }
+            catch ( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+                throw new IOException( "Export interrupted", e );
+            }
+            Logger.logDebug( "Exported " + bytesRead.get() + " bytes to " + destination.getName()
+                                     + " on " + threads + " thread(s) ("
+                                     + creator.getStatisticsMessage() + ")" );
+        }
+        finally {
+            pool.shutdownNow();
+            deleteQuietly( scatterDir );
+        }
+    }
+
+    /**
+     * Decides whether a file should be STOREd rather than deflated: known
+     * compressed formats by extension, known text by extension, and anything
+     * else of meaningful size by a byte-entropy probe of its first block.
+     *
+     * @param file the file to classify
+     * @param size its size in bytes
+     *
+     * @return {@code true} to store the entry uncompressed
+     */
+    static boolean shouldStore( Path file, long size )
+    {
+        String ext = extensionOf( file );
+        if ( COMPRESSED_EXTENSIONS.contains( ext ) ) return true;
+        if ( TEXT_EXTENSIONS.contains( ext ) || size < PROBE_MIN_SIZE ) return false;
+        byte[] sample = new byte[ PROBE_BYTES ];
+        int n = 0;
+        try ( InputStream in = Files.newInputStream( file ) ) {
+            n = in.readNBytes( sample, 0, sample.length );
+        }
+        catch ( IOException e ) {
+            // Unreadable now means the real read fails too and surfaces the error there.
+            return false;
+        }
+        return entropyBitsPerByte( sample, n ) >= STORE_ENTROPY_THRESHOLD;
+    }
+
+    /**
+     * Shannon entropy of {@code data[0, len)} in bits per byte (0-8).
+     *
+     * @param data sample buffer
+     * @param len  number of valid bytes
+     *
+     * @return entropy, or {@code 0} for an empty sample
+     */
+    static double entropyBitsPerByte( byte[] data, int len )
+    {
+        if ( len <= 0 ) return 0;
+        int[] counts = new int[ 256 ];
+        for ( int i = 0; i < len; i++ ) {
+            counts[ data[ i ] & 0xFF ]++;
+        }
+        double entropy = 0;
+        for ( int c : counts ) {
+            if ( c == 0 ) continue;
+            double p = (double) c / len;
+            entropy -= p * ( Math.log( p ) / Math.log( 2 ) );
+        }
+        return entropy;
+    }
+
+    /**
+     * Mirrors the directory tree {@code src} into {@code dst}: directories are
+     * created first, then files are shipped in parallel — immutable archives
+     * as hardlinks where the filesystem allows, everything else as copies.
+     * Existing target files are replaced.
+     *
+     * @param src source directory root
+     * @param dst destination directory root
+     *
+     * @throws IOException if any entry fails to link or copy
+     */
+    static void linkOrCopyTree( Path src, Path dst ) throws IOException
+    {
+        List< Path > files = new ArrayList<>();
+        try ( Stream< Path > walk = Files.walk( src ) ) {
+            for ( Path path : (Iterable< Path >) walk::iterator ) {
+                Path target = dst.resolve( src.relativize( path ).toString() );
+                if ( Files.isDirectory( path ) ) {
+                    Files.createDirectories( target );
+                }
+                else {
+                    files.add( path );
+                }
+            }
+        }
+        // Once one link fails (cross-volume export dir, FAT32, no permission)
+        // the rest will too; stop paying for the exception per file.
+        AtomicBoolean linksSupported = new AtomicBoolean( true );
+        try {
+            files.parallelStream().forEach( path -> {
+                try {
+                    linkOrCopyFile( path, dst.resolve( src.relativize( path ).toString() ), linksSupported );
+                }
+                catch ( IOException e ) {
+                    throw new UncheckedIOException( e );
+                }
+            } );
+        }
+        catch ( UncheckedIOException e ) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Ships one file per the {@link #linkOrCopyTree} policy.
+     */
+    private static void linkOrCopyFile( Path source, Path target, AtomicBoolean linksSupported ) throws IOException
+    {
+        if ( linksSupported.get() && LINKABLE_EXTENSIONS.contains( extensionOf( source ) ) ) {
+            try {
+                Files.deleteIfExists( target );
+                Files.createLink( target, source );
+                return;
+            }
+            catch ( IOException | UnsupportedOperationException | SecurityException e ) {
+                if ( linksSupported.compareAndSet( true, false ) ) {
+                    Logger.logDebug( "Hardlinks unavailable for export to " + target.getParent()
+                                             + ", falling back to copies: " + e.getMessage() );
+                }
+            }
+        }
+        Files.copy( source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES );
+    }
+
+    // -----------------------------------------------------------------------
+    //  Internal helpers
+    // -----------------------------------------------------------------------
+
+    private static String extensionOf( Path file )
+    {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf( '.' );
+        return dot < 0 ? "" : name.substring( dot + 1 ).toLowerCase( Locale.ROOT );
+    }
+
+    /** Opens {@code file} for a scatter worker, feeding bytes read into the shared progress total. */
+    private static InputStream openCounting( Path file, AtomicLong total, LongConsumer progress )
+    {
+        try {
+            return new FilterInputStream( Files.newInputStream( file ) )
+            {
+                @Override
+                public int read() throws IOException
+                {
+                    int b = super.read();
+                    if ( b >= 0 ) report( 1 );
+                    return b;
+                }
+
+                @Override
+                public int read( byte[] buf, int off, int len ) throws IOException
+                {
+                    int n = super.read( buf, off, len );
+                    if ( n > 0 ) report( n );
+                    return n;
+                }
+
+                private void report( int n )
+                {
+                    long sum = total.addAndGet( n );
+                    if ( progress != null ) progress.accept( sum );
+                }
+            };
+        }
+        catch ( IOException e ) {
+            throw new UncheckedIOException( e );
+        }
+    }
+
+    private static void deleteQuietly( Path dir )
+    {
+        try ( Stream< Path > walk = Files.walk( dir ) ) {
+            walk.sorted( ( a, b ) -> b.getNameCount() - a.getNameCount() ).forEach( p -> {
+                try {
+                    Files.deleteIfExists( p );
+                }
+                catch ( IOException ignored ) {
+                    // Best-effort; a leftover scatter file only costs disk until the next export.
+                }
+            } );
+        }
+        catch ( IOException ignored ) {
+            // Already gone.
+        }
+    }
+}
@@ -0,0 +1,556 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
+import com.micatechnologies.minecraft.launcher.files.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongConsumer;
+
+/**
+ * In-memory n-gram index over installed and available packs, so the main
+ * menu and Library search answer a keystroke without re-reading every pack's
+ * metadata and mod list.
+ *
+ * <p>Each pack is one document keyed by {@link #keyOf}: its names, versions,
+ * Minecraft version and loader, plus — for installed packs — the filename,
+ * mod id and display name of every jar in {@code mods/} (from
+ * {@link ModMetadataIndex}). Every 1-, 2- and 3-character run of a document
+ * that doesn't cross a field boundary has a posting set of the documents
+ * containing it. A query is split on whitespace and every term must match:</p>
+ *
+ * <ul>
+ *   <li>A term of up to three characters is its own posting set.</li>
+ *   <li>A longer term intersects the postings of its trigrams, then confirms
+ *       each candidate with a substring check, since shared trigrams don't
+ *       guarantee they're adjacent.</li>
+ *   <li>A term of {@link #FUZZY_MIN_LENGTH} or more characters with no exact
+ *       hit falls back to packs containing it within one edit (two for nine
+ *       characters or more), counting a swap of adjacent letters as one edit —
+ *       {@code "biomse"} still finds Biomes O' Plenty.</li>
+ * </ul>
+ *
+ * <p>Metadata is re-indexed whenever {@link GameModPackManager} loads,
+ * revalidates or drops a pack; mod terms are re-read by {@link #putMods} only
+ * when the {@code mods/} folder's mtime moved. Nothing is persisted — a cold
+ * start rebuilds it from the install index and the already-warm
+ * {@link ModMetadataIndex}.</p>
+ *
+ * @since 2026.7
+ */
+public final class PackSearchIndex
+{
+    /**
+     * Private constructor to prevent instantiation of this static-only utility class.
+     */
+    private PackSearchIndex() { /* static-only */ }
+
+    /** Shortest term that may match approximately. Below this one edit
+     *  matches too much to be useful. */
+    static final int FUZZY_MIN_LENGTH = 5;
+
+    /** Term length from which two edits are allowed instead of one. */
+    private static final int FUZZY_TWO_EDIT_LENGTH = 9;
+
+    /** Longest indexed character run. */
+    private static final int MAX_GRAM = 3;
+
+    /** Separates fields in a document so no gram spans two of them. */
+    private static final char FIELD_SEPARATOR = '\n';
+
+    /** Key prefix for vanilla versions, which have no manifest URL. */
+    private static final String VANILLA_KEY_PREFIX = "vanilla:";
+
+    /** One indexed pack. */
+    private static final class Doc
+    {
+        final String key;
+        final int    id;
+
+        /** Lowercased metadata fields. */
+        String meta = "";
+
+        /** Lowercased mod terms; empty until {@link #putMods}. */
+        String mods = "";
+
+        /** {@code mods/} mtime when {@link #mods} was read; {@link Long#MIN_VALUE} never. */
+        long modsStamp = Long.MIN_VALUE;
+
+        /** {@link #meta} and {@link #mods} as indexed. */
+        String text = "";
+
+        Doc( String key, int id )
+        {
+            this.key = key;
+            this.id = id;
+        }
+    }
+
+    /** Documents by key. Guarded, like every structure below, by the class monitor. */
+    private static final Map< String, Doc > DOCS = new HashMap<>();
+
+    /** Documents by id; {@code null} slots are free. */
+    private static final List< Doc > BY_ID = new ArrayList<>();
+
+    /** Free ids, reused so posting sets stay as short as the live document count. */
+    private static final ArrayDeque< Integer > FREE_IDS = new ArrayDeque<>();
+
+    /** Document ids by packed gram; see {@link #gram}. */
+    private static final Map< Long, BitSet > POSTINGS = new HashMap<>();
+
+    /** Document ids by whitespace-separated word, for approximate matching. */
+    private static final Map< String, BitSet > WORDS = new HashMap<>();
+
+    // ===== public API =====
+
+    /**
+     * Returns the key a pack is indexed and returned under: its manifest URL,
+     * which stays the same across installs, uninstalls and revalidations.
+     *
+     * @param pack the pack
+     *
+     * @return the key, or {@code null} for a pack with neither a manifest URL
+     *         nor a vanilla version id
+     */
+    public static String keyOf( GameModPack pack )
+    {
+        if ( pack == null ) return null;
+        if ( pack.isVanillaVersion() ) {
+            return pack.getPackVersion() == null ? null : VANILLA_KEY_PREFIX + pack.getPackVersion();
+        }
+        return pack.getManifestUrl();
+    }
+
+    /**
+     * Indexes or re-indexes a pack's metadata, keeping any mod terms already
+     * indexed for it. A no-op when nothing searchable changed.
+     *
+     * @param pack the pack
+     */
+    public static void put( GameModPack pack )
+    {
+        String key = keyOf( pack );
+        if ( key == null ) return;
+        putMeta( key, metaText( pack ) );
+    }
+
+    /**
+     * Indexes every pack not already in the index. Cheap for packs that are —
+     * a map lookup each — so search paths call it before {@link #search} to
+     * pick up packs no manager hook has seen yet.
+     *
+     * @param packs the packs about to be filtered
+     */
+    public static void ensure( Collection< GameModPack > packs )
+    {
+        for ( GameModPack pack : packs ) {
+            String key = keyOf( pack );
+            if ( key != null && !contains( key ) ) {
+                putMeta( key, metaText( pack ) );
+            }
+        }
+    }
+
+    /**
+     * Re-reads the mod terms of an installed pack when its {@code mods/}
+     * folder changed since the last call. Blocking: one stat when unchanged,
+     * otherwise a folder listing plus a metadata-index lookup per jar. Call
+     * off the FX thread.
+     *
+     * @param pack the pack
+     */
+    public static void putMods( GameModPack pack )
+    {
+        String key = keyOf( pack );
+        String root = pack == null ? null : pack.getPackRootFolder();
+        if ( key == null || root == null || pack.isVanillaVersion() ) return;
+        Path modsDir = Path.of( root, "mods" );
+        long stamp;
+        try {
+            stamp = Files.getLastModifiedTime( modsDir ).toMillis();
+        }
+        catch ( NoSuchFileException e ) {
+            stamp = -1;
+        }
+        catch ( IOException e ) {
+            Logger.logWarningSilent( LocalizationManager.format( "log.packSearch.statFailed", modsDir,
+                                                                 e.getMessage() ) );
+            return;
+        }
+        if ( !contains( key ) ) {
+            put( pack );
+        }
+        if ( modsStamp( key ) == stamp ) return;
+        StringBuilder sb = new StringBuilder();
+        if ( stamp != -1 ) {
+            for ( ModMetadataIndex.ModJar j : ModMetadataIndex.forModsFolder( modsDir, true ) ) {
+                append( sb, j.fileName() );
+                if ( j.info() == null ) continue;
+                append( sb, j.info().modId() );
+                append( sb, j.info().name() );
+            }
+        }
+        putModText( key, sb.toString(), stamp );
+    }
+
+    /**
+     * Drops a pack from the index.
+     *
+     * @param pack the pack
+     */
+    public static void remove( GameModPack pack )
+    {
+        String key = keyOf( pack );
+        if ( key != null ) remove( key );
+    }
+
+    /**
+     * Finds the packs matching every whitespace-separated term of
+     * {@code query}; see the class notes for how a term matches.
+     *
+     * @param query the raw search text; case doesn't matter
+     *
+     * @return keys of the matching packs; every indexed key for a blank query
+     */
+    public static synchronized Set< String > search( String query )
+    {
+        String[] terms = query == null ? new String[ 0 ]
+                                       : query.trim().toLowerCase( Locale.ROOT ).split( "\\s+" );
+        BitSet result = null;
+        for ( String term : terms ) {
+            if ( term.isEmpty() ) continue;
+            BitSet hits = exact( term );
+            if ( hits.isEmpty() ) {
+                hits = fuzzy( term );
+            }
+            if ( result == null ) {
+                result = hits;
+            }
+            else {
+                result.and( hits );
+            }
+            if ( result.isEmpty() ) return Set.of();
+        }
+        if ( result == null ) {
+            return new HashSet<>( DOCS.keySet() );
+        }
+        Set< String > keys = new HashSet<>( result.cardinality() * 2 );
+        for ( int id = result.nextSetBit( 0 ); id >= 0; id = result.nextSetBit( id + 1 ) ) {
+            keys.add( BY_ID.get( id ).key );
+        }
+        return keys;
+    }
+
+    // ===== indexing =====
+
+    /**
+     * Builds a pack's lowercased metadata document. Version and loader
+     * lookups that fail on a stub are left out until it's re-put.
+     *
+     * @param pack the pack
+     *
+     * @return the fields, separated by {@link #FIELD_SEPARATOR}
+     */
+    private static String metaText( GameModPack pack )
+    {
+        StringBuilder sb = new StringBuilder( 128 );
+        append( sb, pack.getFriendlyName() );
+        append( sb, pack.getPackName() );
+        append( sb, pack.getPackVersion() );
+        try {
+            append( sb, pack.getMinecraftVersion() );
+        }
+        catch ( Exception ignored ) { /* stub or half-loaded pack */ }
+        try {
+            append( sb, pack.getLoaderName() );
+            append( sb, pack.getLoaderVersion() );
+        }
+        catch ( Exception ignored ) { /* stub or half-loaded pack */ }
+        append( sb, pack.isVanillaVersion() ? "vanilla" : "modpack" );
+        return sb.toString();
+    }
+
+    private static void append( StringBuilder sb, String field )
+    {
+        if ( field == null || field.isBlank() ) return;
+        if ( !sb.isEmpty() ) sb.append( FIELD_SEPARATOR );
+        sb.append( field.toLowerCase( Locale.ROOT ) );
+    }
+
+    static synchronized boolean contains( String key )
+    {
+        return DOCS.containsKey( key );
+    }
+
+    static synchronized long modsStamp( String key )
+    {
+        Doc doc = DOCS.get( key );
+        return doc == null ? Long.MIN_VALUE : doc.modsStamp;
+    }
+
+    /**
+     * Sets a document's metadata, creating the document if needed.
+     *
+     * @param key  the document key
+     * @param meta lowercased fields separated by newlines
+     */
+    static synchronized void putMeta( String key, String meta )
+    {
+        Doc doc = DOCS.get( key );
+        if ( doc == null ) {
+            Integer free = FREE_IDS.poll();
+            doc = new Doc( key, free != null ? free : BY_ID.size() );
+            if ( free != null ) {
+                BY_ID.set( free, doc );
+            }
+            else {
+                BY_ID.add( doc );
+            }
+            DOCS.put( key, doc );
+        }
+        else if ( doc.meta.equals( meta ) ) {
+            return;
+        }
+        doc.meta = meta;
+        reindex( doc );
+    }
+
+    /**
+     * Sets a document's mod terms. Ignored for a key that was removed
+     * while its mods were being read.
+     *
+     * @param key   the document key
+     * @param mods  lowercased mod terms separated by newlines
+     * @param stamp the {@code mods/} mtime the terms were read at
+     */
+    static synchronized void putModText( String key, String mods, long stamp )
+    {
+        Doc doc = DOCS.get( key );
+        if ( doc == null ) return;
+        doc.modsStamp = stamp;
+        if ( doc.mods.equals( mods ) ) return;
+        doc.mods = mods;
+        reindex( doc );
+    }
+
+    static synchronized void remove( String key )
+    {
+        Doc doc = DOCS.remove( key );
+        if ( doc == null ) return;
+        forEachGram( doc.text, g -> unpost( POSTINGS, g, doc.id ) );
+        for ( String w : words( doc.text ) ) {
+            unpost( WORDS, w, doc.id );
+        }
+        BY_ID.set( doc.id, null );
+        FREE_IDS.push( doc.id );
+    }
+
+    /** Forgets every document. For tests. */
+    static synchronized void dropCachedState()
+    {
+        DOCS.clear();
+        BY_ID.clear();
+        FREE_IDS.clear();
+        POSTINGS.clear();
+        WORDS.clear();
+    }
+
+    private static void reindex( Doc doc )
+    {
+        String text = doc.mods.isEmpty() ? doc.meta
+                                         : doc.meta.isEmpty() ? doc.mods
+                                                              : doc.meta + FIELD_SEPARATOR + doc.mods;
+        // Diff the gram and word sets rather than clearing and re-posting: a revalidation
+        // that bumps one version string touches a handful of postings, not all
+        // of a modded pack's thousands.
+        repost( POSTINGS, grams( doc.text ), grams( text ), doc.id );
+        repost( WORDS, words( doc.text ), words( text ), doc.id );
+        doc.text = text;
+    }
+
+    private static < K > void repost( Map< K, BitSet > postings, Set< K > before, Set< K > after, int id )
+    {
+        for ( K k : before ) {
+            if ( !after.contains( k ) ) unpost( postings, k, id );
+        }
+        for ( K k : after ) {
+            if ( !before.contains( k ) ) postings.computeIfAbsent( k, x -> new BitSet() ).set( id );
+        }
+    }
+
+    private static < K > void unpost( Map< K, BitSet > postings, K key, int id )
+    {
+        BitSet p = postings.get( key );
+        if ( p == null ) return;
+        p.clear( id );
+        if ( p.isEmpty() ) postings.remove( key );
+    }
+
+    private static Set< String > words( String text )
+    {
+        Set< String > out = new HashSet<>();
+        for ( String w : text.split( "\\s+" ) ) {
+            if ( !w.isEmpty() ) out.add( w );
+        }
+        return out;
+    }
+
+    private static Set< Long > grams( String text )
+    {
+        Set< Long > out = new HashSet<>();
+        forEachGram( text, out::add );
+        return out;
+    }
+
+    private static void forEachGram( String text, LongConsumer sink )
+    {
+        int n = text.length();
+        for ( int i = 0; i < n; i++ ) {
+            for ( int len = 1; len <= MAX_GRAM && i + len <= n; len++ ) {
+                // Query terms are split on whitespace, so no gram containing
+                // one (including the field separator) can ever be looked up.
+                if ( Character.isWhitespace( text.charAt( i + len - 1 ) ) ) break;
+                sink.accept( gram( text, i, len ) );
+            }
+        }
+    }
+
+    /**
+     * Packs a run of up to three characters into one key. The length sits
+     * above the characters so runs of different lengths never collide.
+     *
+     * @param s    the text
+     * @param from index of the run's first character
+     * @param len  run length, 1 to 3
+     *
+     * @return the packed gram
+     */
+    static long gram( CharSequence s, int from, int len )
+    {
+        long g = len;
+        for ( int i = from; i < from + len; i++ ) {
+            g = ( g << 16 ) | s.charAt( i );
+        }
+        return g;
+    }
+
+    // ===== matching =====
+
+    private static BitSet exact( String term )
+    {
+        if ( term.length() <= MAX_GRAM ) {
+            BitSet p = POSTINGS.get( gram( term, 0, term.length() ) );
+            return p == null ? new BitSet() : (BitSet) p.clone();
+        }
+        BitSet hits = null;
+        for ( int i = 0; i + MAX_GRAM <= term.length(); i++ ) {
+            BitSet p = POSTINGS.get( gram( term, i, MAX_GRAM ) );
+            if ( p == null ) return new BitSet();
+            if ( hits == null ) {
+                hits = (BitSet) p.clone();
+            }
+            else {
+                hits.and( p );
+            }
+            if ( hits.isEmpty() ) return hits;
+        }
+        for ( int id = hits.nextSetBit( 0 ); id >= 0; id = hits.nextSetBit( id + 1 ) ) {
+            if ( !BY_ID.get( id ).text.contains( term ) ) hits.clear( id );
+        }
+        return hits;
+    }
+
+    private static BitSet fuzzy( String term )
+    {
+        BitSet hits = new BitSet();
+        if ( term.length() < FUZZY_MIN_LENGTH ) return hits;
+        int maxEdits = term.length() < FUZZY_TWO_EDIT_LENGTH ? 1 : 2;
+        // Checked per distinct word rather than per pack: mod names repeat
+        // across packs far more than they differ, and a term can't match
+        // across whitespace anyway.
+        for ( Map.Entry< String, BitSet > e : WORDS.entrySet() ) {
+            String word = e.getKey();
+            if ( word.length() >= term.length() - maxEdits && containsApproximately( word, term, maxEdits ) ) {
+                hits.or( e.getValue() );
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Returns whether some substring of {@code text} is within
+     * {@code maxEdits} insertions, deletions, substitutions or adjacent
+     * swaps of {@code term}. The alignment may start and end anywhere in
+     * {@code text}, but doesn't run across a field boundary.
+     *
+     * @param text     the text to search
+     * @param term     the term to find
+     * @param maxEdits the edit budget
+     *
+     * @return {@code true} on a match
+     */
+    static boolean containsApproximately( String text, String term, int maxEdits )
+    {
+        int m = term.length();
+        // Columns over the term for the previous two text positions and the
+        // current one; row 0 is always 0 so an alignment may start anywhere.
+        int[] prev2 = new int[ m + 1 ];
+        int[] prev = new int[ m + 1 ];
+        int[] cur = new int[ m + 1 ];
+        for ( int i = 0; i <= m; i++ ) prev[ i ] = i;
+        char last = 0;
+        for ( int j = 0; j < text.length(); j++ ) {
+            char c = text.charAt( j );
+            if ( c == FIELD_SEPARATOR ) {
+                for ( int i = 0; i <= m; i++ ) prev[ i ] = i;
+                last = 0;
+                continue;
+            }
+            cur[ 0 ] = 0;
+            for ( int i = 1; i <= m; i++ ) {
+                char t = term.charAt( i - 1 );
+                int best = Math.min( prev[ i - 1 ] + ( t == c ? 0 : 1 ), Math.min( prev[ i ] + 1, cur[ i - 1 ] + 1 ) );
+                if ( i > 1 && last != 0 && t == last && term.charAt( i - 2 ) == c ) {
+                    best = Math.min( best, prev2[ i - 2 ] + 1 );
+                }
+                cur[ i ] = best;
+            }
+            if ( cur[ m ] <= maxEdits ) return true;
+            int[] recycled = prev2;
+            prev2 = prev;
+            prev = cur;
+            cur = recycled;
+            last = c;
+        }
+        return false;
+    }
+}
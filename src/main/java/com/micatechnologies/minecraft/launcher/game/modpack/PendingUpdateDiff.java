@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Computes a human-readable "what will this update change?" summary for a modpack with a pending
@@ -50,6 +51,21 @@ import java.util.Set;
  */
 public final class PendingUpdateDiff
 {
+    /**
+     * Diffs captured by {@link #snapshot} before {@link PrelaunchWarmup} put a pending update's files
+     * in place, keyed by manifest URL. Once the warm-up has run, the installed bytes already match the
+     * new manifest and a live diff would come back empty.
+     */
+    private static final Map< String, Snapshot > SNAPSHOTS = new ConcurrentHashMap<>();
+
+    /**
+     * A diff captured against one manifest revision.
+     *
+     * @param manifestSha256 content hash of the manifest the diff was computed against
+     * @param result         the diff
+     */
+    private record Snapshot( String manifestSha256, Result result ) {}
+
     /**
      * Private constructor to prevent instantiation of this utility class.
      */
@@ -96,7 +112,9 @@ public final class PendingUpdateDiff
      * when the manifest declares it but no installed jar matches its key, <i>removed</i> when an
      * installed jar's key is absent from the manifest, and <i>updated</i> when both sides share a
      * key but the installed bytes don't match the manifest's declared hash. Returns an empty result
-     * if the pack is vanilla, has no manifest mods, or the diff is empty.
+     * if the pack is vanilla, has no manifest mods, or the diff is empty. If a background warm-up has
+     * already downloaded this manifest revision's files, returns the diff {@link #snapshot recorded}
+     * before it did.
      *
      * @param pack the modpack to diff; may be {@code null} (yields an empty result)
      * @return the manifest-vs-installed change summary, never {@code null}
@@ -108,6 +126,45 @@ public final class PendingUpdateDiff
         if ( pack == null || pack.isVanillaVersion() || pack.packMods == null ) {
             return empty();
         }
+        Snapshot snapshot = pack.getManifestUrl() != null ? SNAPSHOTS.get( pack.getManifestUrl() ) : null;
+        if ( snapshot != null && snapshot.manifestSha256().equals( pack.getManifestContentSha256() ) ) {
+            return snapshot.result();
+        }
+        return computeLive( pack );
+    }
+
+    /**
+     * Records {@code pack}'s pending-update diff before a background warm-up downloads the update,
+     * so {@link #compute} keeps returning it for the same manifest revision. No-op unless an update
+     * is pending.
+     *
+     * @param pack the modpack about to be warmed
+     *
+     * @since 2026.7
+     */
+    static void snapshot( GameModPack pack )
+    {
+        String manifestUrl = pack.getManifestUrl();
+        String manifestSha256 = pack.getManifestContentSha256();
+        if ( pack.isVanillaVersion() || pack.packMods == null || manifestUrl == null || manifestSha256 == null
+                || !pack.isUpdateAvailable() ) {
+            return;
+        }
+        Snapshot existing = SNAPSHOTS.get( manifestUrl );
+        if ( existing != null && existing.manifestSha256().equals( manifestSha256 ) ) {
+            return;
+        }
+        SNAPSHOTS.put( manifestUrl, new Snapshot( manifestSha256, computeLive( pack ) ) );
+    }
+
+    /**
+     * Diffs the manifest against the jars currently on disk; see {@link #compute}.
+     *
+     * @param pack the modpack to diff, already checked to be a modded pack with a mod list
+     * @return the manifest-vs-installed change summary
+     */
+    private static Result computeLive( GameModPack pack )
+    {
 
         // Installed jars on disk, grouped by a stable, version-stripped key so a version bump of the
         // same mod groups with its manifest entry instead of reading as a remove + add pair.
@@ -0,0 +1,397 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import com.micatechnologies.minecraft.launcher.LauncherCore;
+import com.micatechnologies.minecraft.launcher.config.ConfigManager;
+import com.micatechnologies.minecraft.launcher.config.GameModeManager;
+import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
+import com.micatechnologies.minecraft.launcher.files.Logger;
+import com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors;
+import com.micatechnologies.minecraft.launcher.utilities.NetworkUtilities;
+import com.micatechnologies.minecraft.launcher.utilities.PowerStateManager;
+import com.micatechnologies.minecraft.launcher.utilities.RecentPacks;
+import com.micatechnologies.minecraft.launcher.utilities.TaskScope;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uses idle main-menu time to prepare the launch of the pack the user is most
+ * likely to play next, so the eventual Play click finds every file verified,
+ * every update downloaded, the runtime installed, and the security scan
+ * recorded — and {@link GameModPackLauncher} takes its fast path.
+ *
+ * <p>The warm-up is the FULL-verify half of the pre-launch pipeline
+ * ({@link GameModPack#verifyAllFilesNow()}) run headless on the IO workload
+ * inside its own {@link TaskScope#openBackground background task scope}, which
+ * holds its downloads to a quarter of the shared download permits. It only
+ * starts when all of these hold:</p>
+ * <ul>
+ *   <li>the main menu is showing and has seen no input for
+ *       {@link #IDLE_BEFORE_WARMUP_MS} (each idle spell gets one attempt);</li>
+ *   <li>the machine is on AC power and online, no launch or game is running,
+ *       and the startup manifest revalidation has settled;</li>
+ *   <li>the likely pack — the last-selected pack, else the most recently
+ *       played one — would not already take the fast path: its verify state is
+ *       stale or belongs to an older manifest, or its scan is due.</li>
+ * </ul>
+ *
+ * <p>User-initiated work always wins. {@link #yieldToUserWork()} cancels a
+ * running warm-up and waits for it to unwind before the caller touches the
+ * same pack folders (or the launcher-wide verify mode the pipeline installs) —
+ * every launch, verify, uninstall, backup or restore, mod change and export;
+ * leaving the main menu cancels it without waiting. A cancelled warm-up loses
+ * nothing: every file it finished stays verified for the launch that follows.</p>
+ *
+ * <p>Because an update's files are in place once a warm-up has run,
+ * {@link PendingUpdateDiff#snapshot} records the "what's new" summary first so
+ * the detail modal can still show it.</p>
+ *
+ * @since 2026.7
+ */
+public final class PrelaunchWarmup
+{
+    /** How long the main menu must go without input before a warm-up may start. */
+    static final long IDLE_BEFORE_WARMUP_MS = 30_000L;
+
+    /** Interval of the cheap idle check on the UI lane. */
+    private static final long CHECK_INTERVAL_MS = 15_000L;
+
+    /** Upper bound on how long {@link #yieldToUserWork()} waits for a cancelled warm-up to unwind. */
+    private static final long YIELD_TIMEOUT_MS = 10_000L;
+
+    /** Guards {@link #idleCheck} and {@link #running}. */
+    private static final Object LOCK = new Object();
+
+    /** Repeating idle check while the main menu is showing, or {@code null}. Guarded by {@link #LOCK}. */
+    private static ScheduledFuture< ? > idleCheck;
+
+    /** The warm-up in flight, or {@code null}. Guarded by {@link #LOCK}. */
+    private static Run running;
+
+    /** {@link System#nanoTime()} of the last main-menu input. */
+    private static volatile long lastUserActivityNanos = System.nanoTime();
+
+    /**
+     * {@link #lastUserActivityNanos} as of the last warm-up attempt. A warm-up
+     * is considered once per idle spell; the next input starts a new one.
+     * Guarded by {@link #LOCK}.
+     */
+    private static long consideredActivityNanos = -1L;
+
+    /**
+     * Manifest content hash each pack was warmed against this session, keyed by
+     * manifest URL. Keeps a pack whose launch always re-verifies (the per-pack
+     * opt-out) from being warmed again on every idle spell.
+     */
+    private static final Map< String, String > WARMED = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private PrelaunchWarmup() { /* static-only */ }
+
+    /**
+     * Arms the idle check. Called by the main menu each time it is shown; the
+     * idle clock restarts from now.
+     */
+    public static void onMainMenuShown()
+    {
+        noteUserActivity();
+        synchronized ( LOCK ) {
+            if ( idleCheck == null ) {
+                idleCheck = LauncherExecutors.scheduleAtFixedRate( PrelaunchWarmup::checkIdle, CHECK_INTERVAL_MS,
+                                                                   CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS );
+            }
+        }
+    }
+
+    /**
+     * Disarms the idle check and cancels any running warm-up without waiting
+     * for it. Called by the main menu when it is torn down; safe on the FX
+     * thread.
+     */
+    public static void onMainMenuHidden()
+    {
+        Run run;
+        synchronized ( LOCK ) {
+            if ( idleCheck != null ) {
+                idleCheck.cancel( false );
+                idleCheck = null;
+            }
+            run = running;
+        }
+        if ( run != null ) {
+            run.cancel();
+        }
+    }
+
+    /**
+     * Restarts the idle clock. Wired to every input event on the main menu, so
+     * it only writes a volatile.
+     */
+    public static void noteUserActivity()
+    {
+        lastUserActivityNanos = System.nanoTime();
+    }
+
+    /**
+     * Cancels a running warm-up and waits (bounded) for it to unwind. Call at
+     * the start of user-initiated work on pack files — a launch, a verify, an
+     * uninstall, a backup or restore, a mod toggle or update, an export — from
+     * a background thread.
+     */
+    public static void yieldToUserWork()
+    {
+        Run run;
+        synchronized ( LOCK ) {
+            run = running;
+        }
+        if ( run == null ) {
+            return;
+        }
+        run.cancel();
+        try {
+            if ( !run.stopped.await( YIELD_TIMEOUT_MS, TimeUnit.MILLISECONDS ) ) {
+                Logger.logWarningSilent( LocalizationManager.format( "log.prelaunchWarmup.yieldTimedOut",
+                                                                     run.packName, YIELD_TIMEOUT_MS ) );
+            }
+        }
+        catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Disarms the idle check and stops any running warm-up. Called on launcher
+     * exit.
+     */
+    public static void shutdown()
+    {
+        onMainMenuHidden();
+        yieldToUserWork();
+    }
+
+    /**
+     * Idle-check tick on the UI lane. Only does the cheap checks; everything
+     * that may block (power probe, config, verify-state reads) runs in the
+     * warm-up task itself.
+     */
+    private static void checkIdle()
+    {
+        long activity = lastUserActivityNanos;
+        if ( System.nanoTime() - activity < TimeUnit.MILLISECONDS.toNanos( IDLE_BEFORE_WARMUP_MS ) ) {
+            return;
+        }
+        synchronized ( LOCK ) {
+            if ( running != null || idleCheck == null || activity == consideredActivityNanos ) {
+                return;
+            }
+            consideredActivityNanos = activity;
+            Run run = new Run();
+            running = run;
+            Runnable task = () -> {
+                run.thread = Thread.currentThread();
+                try {
+                    warmUp( run );
+                }
+                finally {
+                    synchronized ( LOCK ) {
+                        if ( running == run ) {
+                            running = null;
+                        }
+                    }
+                    run.thread = null;
+                    run.stopped.countDown();
+                }
+            };
+            try {
+                LauncherExecutors.execute( LauncherExecutors.Workload.IO, task );
+            }
+            catch ( RuntimeException e ) {
+                // Rejected during shutdown; nothing started.
+                running = null;
+                run.stopped.countDown();
+            }
+        }
+    }
+
+    /**
+     * Picks the likely next pack and, when it would not already launch on the
+     * fast path, runs the headless verify inside a task scope that
+     * {@link Run#cancel()} can tear down.
+     *
+     * @param run the warm-up's bookkeeping
+     */
+    private static void warmUp( Run run )
+    {
+        if ( run.cancelled || !shouldRunNow() ) {
+            return;
+        }
+        GameModPack pack = likelyNextPack();
+        if ( pack == null || !needsWarmup( pack ) ) {
+            return;
+        }
+        run.packName = pack.getPackName();
+        String manifestSha256 = pack.getManifestContentSha256();
+        long startNanos = System.nanoTime();
+        Logger.logDebug( LocalizationManager.format( "log.prelaunchWarmup.started", run.packName ) );
+        try ( TaskScope scope = TaskScope.openBackground( "warm-up " + run.packName ) ) {
+            run.scope = scope;
+            if ( run.cancelled ) {
+                return;
+            }
+            PendingUpdateDiff.snapshot( pack );
+            // Headless: detach whatever tracker bridge a previous launch left on the pack so
+            // no stale progress GUI is driven. The next Play attaches its own.
+            pack.setProgressProvider( null );
+            pack.verifyAllFilesNow();
+            WARMED.put( pack.getManifestUrl(), manifestSha256 );
+            Logger.logDebug( LocalizationManager.format( "log.prelaunchWarmup.finished", run.packName,
+                                                         TimeUnit.NANOSECONDS.toMillis(
+                                                                 System.nanoTime() - startNanos ) ) );
+        }
+        catch ( Throwable t ) {
+            if ( run.cancelled ) {
+                Logger.logDebug( LocalizationManager.format( "log.prelaunchWarmup.yielded", run.packName ) );
+            }
+            else {
+                // Never surfaced: the Play click runs the same stages in the foreground and
+                // reports the failure properly there.
+                Logger.logWarningSilent( LocalizationManager.format( "log.prelaunchWarmup.failed", run.packName,
+                                                                     t.getClass().getSimpleName() ) );
+            }
+        }
+        finally {
+            run.scope = null;
+        }
+    }
+
+    /**
+     * Checks the launcher-wide conditions for starting a warm-up.
+     *
+     * @return {@code true} when a warm-up may start now
+     */
+    private static boolean shouldRunNow()
+    {
+        return GameModeManager.isClient()
+                && ConfigManager.getPrelaunchWarmupEnable()
+                && !LauncherCore.isGameRunning()
+                && !GameModPackManager.isInstalledRevalidatePending()
+                && !NetworkUtilities.isOffline()
+                && !PowerStateManager.isOnBattery();
+    }
+
+    /**
+     * Returns the pack the user is most likely to play next: the last-selected
+     * pack (what Enter on the main menu plays), else the most recently played
+     * installed pack. Re-read from {@link GameModPackManager} so a pack the
+     * startup revalidation swapped in is the one warmed.
+     *
+     * @return the likely next pack, or {@code null} if there is none
+     */
+    static GameModPack likelyNextPack()
+    {
+        GameModPack pack = null;
+        String lastSelected = ConfigManager.getLastModPackSelected();
+        if ( lastSelected != null && !lastSelected.isBlank() ) {
+            pack = GameModPackManager.getInstalledModPackByName( lastSelected );
+            if ( pack == null ) {
+                pack = GameModPackManager.getInstalledModPackByFriendlyName( lastSelected );
+            }
+        }
+        if ( pack == null ) {
+            List< GameModPack > recent = RecentPacks.getRecent( 1 );
+            pack = recent.isEmpty() ? null : recent.get( 0 );
+        }
+        return pack;
+    }
+
+    /**
+     * Decides whether warming {@code pack} would save its next launch any
+     * work: true when the launch would not take the fast path, or its scan is
+     * due, and the pack hasn't already been warmed against this manifest.
+     *
+     * @param pack the candidate pack
+     *
+     * @return {@code true} if a warm-up is worthwhile
+     */
+    static boolean needsWarmup( GameModPack pack )
+    {
+        String manifestUrl = pack.getManifestUrl();
+        String manifestSha256 = pack.getManifestContentSha256();
+        if ( pack.isFailedLoad() || manifestUrl == null || manifestUrl.isBlank() || manifestSha256 == null ) {
+            return false;
+        }
+        if ( manifestSha256.equals( WARMED.get( manifestUrl ) ) ) {
+            return false;
+        }
+        VerifyState state = VerifyState.loadForPack( pack );
+        boolean alwaysVerify = ConfigManager.getAlwaysVerifyOnLaunch( manifestUrl );
+        boolean verifyDue = VerifyState.decideMode( state, manifestSha256, VerifyState.DEFAULT_TTL_MS,
+                                                    alwaysVerify, false ) != LaunchVerifyMode.FAST_PATH;
+        boolean scanDue = ScanFrequency.shouldScan( ConfigManager.effectiveScanFrequencyForPack( manifestUrl ),
+                                                    state, manifestSha256 );
+        return verifyDue || scanDue;
+    }
+
+    /**
+     * Bookkeeping for one warm-up.
+     */
+    private static final class Run
+    {
+        /** Counted down once the warm-up task has fully unwound. */
+        final CountDownLatch stopped = new CountDownLatch( 1 );
+
+        /** The thread running the warm-up once it has started, interrupted on cancel. */
+        volatile Thread thread;
+
+        /** The warm-up's task scope once opened, cancelled with it. */
+        volatile TaskScope scope;
+
+        /** Set by {@link #cancel()}. */
+        volatile boolean cancelled;
+
+        /** Name of the pack being warmed, for logging. */
+        volatile String packName = "?";
+
+        /**
+         * Cancels the warm-up: the scope (and with it every download, branch
+         * and scan forked under it) and the owning thread. A warm-up that
+         * hasn't started yet sees {@link #cancelled} and returns at once, so
+         * {@link #stopped} is always counted down.
+         */
+        void cancel()
+        {
+            cancelled = true;
+            TaskScope s = scope;
+            if ( s != null ) {
+                s.cancel();
+            }
+            Thread t = thread;
+            if ( t != null ) {
+                t.interrupt();
+            }
+        }
+    }
+}
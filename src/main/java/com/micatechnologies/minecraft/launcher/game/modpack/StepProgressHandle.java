@@ -61,6 +61,13 @@ public final class StepProgressHandle extends GameModPackProgressProvider
      */
     private double currentSectionProgress = 0.0;
 
+    /**
+     * The parallel batch currently attached to this handle's row, if any.
+     * Folded into {@link #currentSectionProgress} before the next explicit
+     * progress change.
+     */
+    private ProgressCounter< ? > liveCounter;
+
     /**
      * Wall-clock of the last tracker.submitProgress fire. Used to throttle
      * per-file updates down to ~20 fps so the bar render can actually catch
@@ -108,6 +115,7 @@ public final class StepProgressHandle extends GameModPackProgressProvider
     public synchronized void markRunning()
     {
         currentSectionProgress = 0.0;
+        liveCounter = null;
         tracker.markRunning( stepId );
     }
 
@@ -168,6 +176,7 @@ public final class StepProgressHandle extends GameModPackProgressProvider
     @Override
     public synchronized void submitProgress( String detailText, double sectionProgress )
     {
+        foldCounter();
         currentSectionProgress = Math.min( 100.0, currentSectionProgress + sectionProgress );
         // Coalesce per-file updates so the bar render keeps up. Bypass the throttle
         // when we've hit 100% so the final "section complete" frame always lands —
@@ -180,6 +189,44 @@ public final class StepProgressHandle extends GameModPackProgressProvider
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>This implementation attaches the counter to this handle's bound
+     * step, on top of the section progress accumulated so far. Workers
+     * advance it without touching this handle's monitor.</p>
+     *
+     * @param total     number of items in the batch
+     * @param share     section progress (0..100) the whole batch is worth
+     * @param formatter builds the row sub-text on demand
+     * @param <T>       type of the work item
+     *
+     * @return the counter to advance from workers
+     */
+    @Override
+    public synchronized < T > ProgressCounter< T > startCounter( long total, double share,
+                                                                 ProgressCounter.Formatter< ? super T > formatter )
+    {
+        foldCounter();
+        ProgressCounter< T > counter = tracker.startCounter( stepId, currentSectionProgress / 100.0, total, share,
+                                                             formatter );
+        liveCounter = counter;
+        return counter;
+    }
+
+    /**
+     * Rolls the live counter's contribution into {@link #currentSectionProgress}
+     * and forgets it. Called before any explicit progress change; the tracker
+     * detaches the counter from the row on that same change.
+     */
+    private void foldCounter()
+    {
+        if ( liveCounter != null ) {
+            currentSectionProgress = Math.min( 100.0, currentSectionProgress + liveCounter.contribution() );
+            liveCounter = null;
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -209,6 +256,7 @@ public final class StepProgressHandle extends GameModPackProgressProvider
     synchronized void startProgressSection( String title, double size )
     {
         currentSectionProgress = 0.0;
+        liveCounter = null;
         tracker.setProgress( stepId, 0.0 );
         if ( title != null && !title.isEmpty() ) {
             tracker.setSubText( stepId, title );
@@ -227,6 +275,7 @@ public final class StepProgressHandle extends GameModPackProgressProvider
     @Override
     synchronized void endProgressSection( String text )
     {
+        foldCounter();
         if ( text != null && !text.isEmpty() ) {
             tracker.setSubText( stepId, text );
         }
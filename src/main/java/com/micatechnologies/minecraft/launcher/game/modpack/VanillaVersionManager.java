@@ -9,22 +9,15 @@
 
 package com.micatechnologies.minecraft.launcher.game.modpack;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.micatechnologies.minecraft.launcher.config.ConfigManager;
 import com.micatechnologies.minecraft.launcher.config.GameModeManager;
 import com.micatechnologies.minecraft.launcher.consts.ModPackConstants;
 import com.micatechnologies.minecraft.launcher.consts.RuntimeConstants;
-import com.micatechnologies.minecraft.launcher.exceptions.ModpackException;
-import com.micatechnologies.minecraft.launcher.files.Logger;
 import com.micatechnologies.minecraft.launcher.files.RuntimeManager;
-import com.micatechnologies.minecraft.launcher.files.SynchronizedFileManager;
 import com.micatechnologies.minecraft.launcher.game.modpack.manifests.GameLibraryManifest;
-import com.micatechnologies.minecraft.launcher.game.modpack.manifests.GameVersionManifest;
 import com.micatechnologies.minecraft.launcher.utilities.SystemUtilities;
 
-import java.io.File;
 import java.io.IOException;
 import java.util.*;
 
@@ -38,52 +31,17 @@ import java.util.*;
 public class VanillaVersionManager
 {
     /**
-     * Cached list of all versions from the Mojang version manifest.
-     */
-    private static List< JsonObject > allVersions = null;
-
-    /**
-     * Fetches and caches all versions from the Mojang version manifest.
+     * Returns all versions from the Mojang version manifest, newest first.
+     * Served from the persistent {@link VersionCatalog}, which keeps the
+     * last manifest on disk and revalidates it in the background.
      *
      * @return list of version objects with fields: id, type, url, releaseTime;
-     *         empty when the manifest cannot be downloaded or parsed
+     *         empty when the manifest was never downloaded
      *
      * @since 3.0
      */
-    public static synchronized List< JsonObject > getAllVersions() {
-        if ( allVersions != null ) {
-            return allVersions;
-        }
-
-        allVersions = new ArrayList<>();
-
-        // Ensure the Mojang version manifest is downloaded and cached
-        try {
-            GameVersionManifest.ensureManifestDownloaded();
-        }
-        catch ( ModpackException e ) {
-            Logger.logError( "Failed to download Minecraft version manifest." );
-            Logger.logThrowable( e );
-            return allVersions;
-        }
-
-        // Read the cached manifest to get the versions array
-        try {
-            File manifestFile = SynchronizedFileManager.getSynchronizedFile(
-                    com.micatechnologies.minecraft.launcher.files.LocalPathManager.getMinecraftVersionManifestFilePath() );
-            JsonObject manifest = com.micatechnologies.minecraft.launcher.utilities.FileUtilities.readAsJsonObject(
-                    manifestFile );
-            JsonArray versions = manifest.getAsJsonArray( "versions" );
-            for ( JsonElement el : versions ) {
-                allVersions.add( el.getAsJsonObject() );
-            }
-        }
-        catch ( Exception e ) {
-            Logger.logError( "Failed to load Minecraft version manifest for vanilla versions." );
-            Logger.logThrowable( e );
-        }
-
-        return allVersions;
+    public static List< JsonObject > getAllVersions() {
+        return toJson( VersionCatalog.query( VersionCatalog.LOADER_VANILLA, null, null ) );
     }
 
     /**
@@ -97,17 +55,34 @@ public class VanillaVersionManager
      * @since 3.0
      */
     public static List< JsonObject > getVersionsByType( String type ) {
-        List< JsonObject > all = getAllVersions();
         if ( "all".equals( type ) ) {
-            return all;
+            return getAllVersions();
         }
-        List< JsonObject > filtered = new ArrayList<>();
-        for ( JsonObject v : all ) {
-            if ( v.get( "type" ).getAsString().equals( type ) ) {
-                filtered.add( v );
+        return toJson( VersionCatalog.query( VersionCatalog.LOADER_VANILLA, null, type ) );
+    }
+
+    /**
+     * Converts catalog rows back to the manifest's version-object shape.
+     *
+     * @param entries the vanilla catalog rows
+     *
+     * @return one version object per row
+     *
+     * @since 2026.7
+     */
+    private static List< JsonObject > toJson( List< VersionCatalog.Entry > entries ) {
+        List< JsonObject > versions = new ArrayList<>( entries.size() );
+        for ( VersionCatalog.Entry entry : entries ) {
+            JsonObject v = new JsonObject();
+            v.addProperty( "id", entry.version() );
+            v.addProperty( "type", entry.channel() );
+            v.addProperty( "url", entry.url() );
+            if ( entry.released() != null ) {
+                v.addProperty( "releaseTime", entry.released() );
             }
+            versions.add( v );
         }
-        return filtered;
+        return versions;
     }
 
     /**
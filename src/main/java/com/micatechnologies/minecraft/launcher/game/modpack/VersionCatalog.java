@@ -0,0 +1,746 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.micatechnologies.minecraft.launcher.consts.ModPackConstants;
+import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
+import com.micatechnologies.minecraft.launcher.files.LocalPathManager;
+import com.micatechnologies.minecraft.launcher.files.Logger;
+import com.micatechnologies.minecraft.launcher.utilities.JSONUtilities;
+import com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors;
+import com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors.Workload;
+import com.micatechnologies.minecraft.launcher.utilities.NetworkUtilities;
+import com.micatechnologies.minecraft.launcher.utilities.VersionUtilities;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Persistent catalog of vanilla Minecraft and Forge / NeoForge / Fabric
+ * loader versions. Each upstream list (Mojang's version manifest, Forge
+ * promotions, NeoForge Maven metadata, Fabric meta) is normalized into
+ * {@link Entry} rows and saved under {@code <metadata>/version_catalog/}
+ * together with its {@code ETag} / {@code Last-Modified} validators.
+ *
+ * <p>Queries are served from an immutable in-memory {@link Index} keyed by
+ * loader, Minecraft version and channel, so filtering a picker is a map
+ * lookup rather than a scan of the raw upstream JSON. The index is built
+ * from the on-disk snapshots on first use; a source is only fetched in the
+ * foreground when it has never been saved. Otherwise a conditional request
+ * revalidates it in the background (at most once per
+ * {@link #REVALIDATE_AFTER_MS}) and the index is swapped when the list
+ * changed. Offline, or when the upstream service is down, the last
+ * snapshot keeps answering.</p>
+ *
+ * @since 2026.7
+ */
+public final class VersionCatalog
+{
+    /**
+     * Loader identifier for vanilla Minecraft entries. The mod loaders use
+     * the {@code ModPackConstants.MOD_LOADER_*} values.
+     *
+     * @since 2026.7
+     */
+    public static final String LOADER_VANILLA = "vanilla";
+
+    /**
+     * Forge's promoted stable build for a Minecraft version.
+     *
+     * @since 2026.7
+     */
+    public static final String CHANNEL_RECOMMENDED = "recommended";
+
+    /**
+     * Forge's newest build for a Minecraft version, when distinct from the
+     * recommended one.
+     *
+     * @since 2026.7
+     */
+    public static final String CHANNEL_LATEST = "latest";
+
+    /**
+     * A stable release: vanilla releases, stable NeoForge builds, Fabric on a
+     * stable Minecraft release.
+     *
+     * @since 2026.7
+     */
+    public static final String CHANNEL_RELEASE = "release";
+
+    /**
+     * A pre-release: vanilla snapshots, NeoForge beta builds, Fabric on a
+     * Minecraft snapshot. Vanilla's {@code old_beta} / {@code old_alpha}
+     * types are kept as their own channels.
+     *
+     * @since 2026.7
+     */
+    public static final String CHANNEL_SNAPSHOT = "snapshot";
+
+    /**
+     * Snapshot folder, relative to the launcher metadata folder.
+     */
+    private static final String FOLDER = "version_catalog";
+
+    /**
+     * How long a snapshot is trusted before a background revalidation.
+     */
+    static final long REVALIDATE_AFTER_MS = 60 * 60 * 1000L;
+
+    /**
+     * Body-size cap per upstream list. The Mojang manifest is the largest at
+     * well under a megabyte.
+     */
+    private static final long MAX_BYTES = 16L * 1024 * 1024;
+
+    /**
+     * {@code <version>…</version>} rows of a Maven metadata file.
+     */
+    private static final Pattern MAVEN_VERSION = Pattern.compile( "<version>([^<]+)</version>" );
+
+    /**
+     * Internal loader ids for the two Fabric lists, which are only
+     * meaningful once {@link #fabricEntries combined}.
+     */
+    private static final String FABRIC_GAME   = "fabric-game";
+    private static final String FABRIC_LOADER = "fabric-loader";
+
+    /**
+     * One upstream list and how to normalize it.
+     */
+    enum Source
+    {
+        VANILLA( ModPackConstants.MINECRAFT_VERSION_MANIFEST_URL, false, VersionCatalog::parseVanilla ),
+        FORGE( "https://files.minecraftforge.net/net/minecraftforge/forge/promotions_slim.json", false,
+               VersionCatalog::parseForge ),
+        NEOFORGE( "https://maven.neoforged.net/releases/net/neoforged/neoforge/maven-metadata.xml", true,
+                  VersionCatalog::parseNeoForge ),
+        FABRIC_GAME( "https://meta.fabricmc.net/v2/versions/game", false, VersionCatalog::parseFabricGames ),
+        FABRIC_LOADER( "https://meta.fabricmc.net/v2/versions/loader", false, VersionCatalog::parseFabricLoaders );
+
+        final String                              url;
+        final boolean                             xml;
+        final Function< String, List< Entry > > parser;
+
+        Source( String url, boolean xml, Function< String, List< Entry > > parser )
+        {
+            this.url = url;
+            this.xml = xml;
+            this.parser = parser;
+        }
+    }
+
+    /**
+     * One catalog row.
+     *
+     * @param loader    {@link #LOADER_VANILLA} or a {@code ModPackConstants.MOD_LOADER_*} value
+     * @param mcVersion the Minecraft version the row targets
+     * @param version   the loader's own version, or the Minecraft version for vanilla rows
+     * @param channel   one of the {@code CHANNEL_*} values, or vanilla's raw version type
+     * @param url       the vanilla version JSON, Forge / NeoForge installer or Fabric profile URL
+     * @param released  the vanilla release time (ISO-8601), {@code null} for loader rows
+     *
+     * @since 2026.7
+     */
+    public record Entry( String loader, String mcVersion, String version, String channel, String url,
+                         String released )
+    {
+    }
+
+    /**
+     * A saved upstream list with the validators of the response it came from.
+     *
+     * @param etag         the {@code ETag} header, or {@code null}
+     * @param lastModified the {@code Last-Modified} header, or {@code null}
+     * @param fetchedAtMs  when the list was last confirmed fresh (epoch millis)
+     * @param entries      the normalized rows, in upstream order
+     */
+    record Snapshot( String etag, String lastModified, long fetchedAtMs, List< Entry > entries )
+    {
+        static final Snapshot EMPTY = new Snapshot( null, null, 0, List.of() );
+    }
+
+    /**
+     * Immutable lookup tables over every loaded row. Lists keep the order
+     * the rows were added in, so queries return newest first.
+     */
+    static final class Index
+    {
+        static final Index EMPTY = new Index( List.of() );
+
+        private final Map< String, List< Entry > > byLoader        = new HashMap<>();
+        private final Map< String, List< Entry > > byLoaderMc      = new HashMap<>();
+        private final Map< String, List< Entry > > byLoaderChannel = new HashMap<>();
+        private final Map< String, List< String > > mcVersions     = new HashMap<>();
+
+        Index( List< Entry > entries )
+        {
+            Map< String, Set< String > > seenMc = new HashMap<>();
+            for ( Entry entry : entries ) {
+                add( byLoader, entry.loader(), entry );
+                add( byLoaderMc, key( entry.loader(), entry.mcVersion() ), entry );
+                add( byLoaderChannel, key( entry.loader(), entry.channel() ), entry );
+                if ( seenMc.computeIfAbsent( entry.loader(), k -> new LinkedHashSet<>() )
+                           .add( entry.mcVersion() ) ) {
+                    mcVersions.computeIfAbsent( entry.loader(), k -> new ArrayList<>() ).add( entry.mcVersion() );
+                }
+            }
+            freeze( byLoader );
+            freeze( byLoaderMc );
+            freeze( byLoaderChannel );
+            mcVersions.replaceAll( ( k, v ) -> List.copyOf( v ) );
+        }
+
+        List< Entry > query( String loader, String mcVersion, String channel )
+        {
+            if ( mcVersion == null && channel == null ) {
+                return byLoader.getOrDefault( loader, List.of() );
+            }
+            if ( mcVersion == null ) {
+                return byLoaderChannel.getOrDefault( key( loader, channel ), List.of() );
+            }
+            List< Entry > forMc = byLoaderMc.getOrDefault( key( loader, mcVersion ), List.of() );
+            if ( channel == null ) {
+                return forMc;
+            }
+            // A single Minecraft version has a handful of rows at most.
+            return forMc.stream().filter( e -> channel.equals( e.channel() ) ).toList();
+        }
+
+        List< String > mcVersions( String loader )
+        {
+            return mcVersions.getOrDefault( loader, List.of() );
+        }
+
+        private static String key( String a, String b )
+        {
+            return a + '\n' + b;
+        }
+
+        private static void add( Map< String, List< Entry > > map, String key, Entry entry )
+        {
+            map.computeIfAbsent( key, k -> new ArrayList<>() ).add( entry );
+        }
+
+        private static void freeze( Map< String, List< Entry > > map )
+        {
+            map.replaceAll( ( k, v ) -> Collections.unmodifiableList( v ) );
+        }
+    }
+
+    /**
+     * Loaded snapshots; guarded by the class lock.
+     */
+    private static final Map< Source, Snapshot > snapshots = new EnumMap<>( Source.class );
+
+    /**
+     * Sources with a background revalidation queued or running; guarded by the
+     * class lock.
+     */
+    private static final Set< Source > revalidating = EnumSet.noneOf( Source.class );
+
+    /**
+     * One lock per source, held while it is first read from disk or fetched,
+     * so a slow upstream only blocks callers that need that same list.
+     */
+    private static final Map< Source, Object > loadLocks = new EnumMap<>( Source.class );
+
+    static {
+        for ( Source source : Source.values() ) {
+            loadLocks.put( source, new Object() );
+        }
+    }
+
+    /**
+     * Current lookup tables, swapped whole whenever a snapshot changes.
+     */
+    private static volatile Index index = Index.EMPTY;
+
+    private VersionCatalog() { /* static-only */ }
+
+    /**
+     * Returns the catalog rows for a loader, optionally narrowed to one
+     * Minecraft version and / or channel, newest first. Served from the
+     * saved snapshot; the first call for a loader that was never saved
+     * fetches its list and blocks until done.
+     *
+     * @param loader    {@link #LOADER_VANILLA} or a {@code ModPackConstants.MOD_LOADER_*} value
+     * @param mcVersion the Minecraft version to narrow to, or {@code null} for all
+     * @param channel   the channel to narrow to, or {@code null} for all
+     *
+     * @return the matching rows; empty when none match or the list was never fetched
+     *
+     * @since 2026.7
+     */
+    public static List< Entry > query( String loader, String mcVersion, String channel )
+    {
+        ensureLoaded( sourcesFor( loader ) );
+        return index.query( loader, mcVersion, channel );
+    }
+
+    /**
+     * Returns the distinct Minecraft versions a loader has rows for, in
+     * catalog (newest first) order.
+     *
+     * @param loader {@link #LOADER_VANILLA} or a {@code ModPackConstants.MOD_LOADER_*} value
+     *
+     * @return the Minecraft versions; empty when the list was never fetched
+     *
+     * @since 2026.7
+     */
+    public static List< String > mcVersions( String loader )
+    {
+        ensureLoaded( sourcesFor( loader ) );
+        return index.mcVersions( loader );
+    }
+
+    private static List< Source > sourcesFor( String loader )
+    {
+        return switch ( loader ) {
+            case LOADER_VANILLA -> List.of( Source.VANILLA );
+            case ModPackConstants.MOD_LOADER_FORGE -> List.of( Source.FORGE );
+            case ModPackConstants.MOD_LOADER_NEOFORGE -> List.of( Source.NEOFORGE );
+            case ModPackConstants.MOD_LOADER_FABRIC -> List.of( Source.FABRIC_GAME, Source.FABRIC_LOADER );
+            default -> List.of();
+        };
+    }
+
+    /**
+     * Loads the given sources from disk on first use (fetching any that were
+     * never saved) and queues a background revalidation of stale ones.
+     */
+    private static void ensureLoaded( List< Source > sources )
+    {
+        for ( Source source : sources ) {
+            Snapshot current = load( source );
+            if ( System.currentTimeMillis() - current.fetchedAtMs() < REVALIDATE_AFTER_MS
+                    || NetworkUtilities.isOffline() ) {
+                continue;
+            }
+            boolean queue;
+            synchronized ( VersionCatalog.class ) {
+                queue = revalidating.add( source );
+            }
+            if ( queue ) {
+                LauncherExecutors.execute( Workload.IO, () -> {
+                    try {
+                        revalidate( source );
+                    }
+                    finally {
+                        synchronized ( VersionCatalog.class ) {
+                            revalidating.remove( source );
+                        }
+                    }
+                } );
+            }
+        }
+    }
+
+    /**
+     * Returns the source's loaded snapshot, reading it from disk (or fetching
+     * it if it was never saved) on first use under the source's own lock.
+     */
+    private static Snapshot load( Source source )
+    {
+        synchronized ( VersionCatalog.class ) {
+            Snapshot loaded = snapshots.get( source );
+            if ( loaded != null ) {
+                return loaded;
+            }
+        }
+        synchronized ( loadLocks.get( source ) ) {
+            synchronized ( VersionCatalog.class ) {
+                Snapshot loaded = snapshots.get( source );
+                if ( loaded != null ) {
+                    return loaded;
+                }
+            }
+            Snapshot snapshot = readSnapshot( source );
+            if ( snapshot == null ) {
+                snapshot = fetchAndSave( source, Snapshot.EMPTY );
+            }
+            if ( snapshot == null ) {
+                snapshot = Snapshot.EMPTY;
+            }
+            synchronized ( VersionCatalog.class ) {
+                snapshots.put( source, snapshot );
+                rebuildIndex();
+            }
+            return snapshot;
+        }
+    }
+
+    private static void revalidate( Source source )
+    {
+        Snapshot previous;
+        synchronized ( VersionCatalog.class ) {
+            previous = snapshots.getOrDefault( source, Snapshot.EMPTY );
+        }
+        Snapshot next = fetchAndSave( source, previous );
+        if ( next == null ) {
+            return;
+        }
+        synchronized ( VersionCatalog.class ) {
+            snapshots.put( source, next );
+            if ( next.entries() != previous.entries() ) {
+                rebuildIndex();
+            }
+        }
+    }
+
+    /**
+     * Conditionally fetches a source against {@code previous}'s validators
+     * and saves the result.
+     *
+     * @return the fresh snapshot (sharing {@code previous}'s entries on a 304),
+     *         or {@code null} if offline or the fetch failed
+     */
+    private static Snapshot fetchAndSave( Source source, Snapshot previous )
+    {
+        if ( NetworkUtilities.isOffline() ) {
+            return null;
+        }
+        try {
+            boolean haveEntries = !previous.entries().isEmpty();
+            NetworkUtilities.BoundedFetchResult result = NetworkUtilities.downloadFileFromURLBoundedConditional(
+                    new URL( source.url ), MAX_BYTES, haveEntries ? previous.etag() : null,
+                    haveEntries ? previous.lastModified() : null, source.xml );
+            long now = System.currentTimeMillis();
+            Snapshot next;
+            if ( result.isNotModified() ) {
+                next = new Snapshot( result.etag(), result.lastModified(), now, previous.entries() );
+            }
+            else {
+                next = new Snapshot( result.etag(), result.lastModified(), now,
+                                     List.copyOf( source.parser.apply( result.body() ) ) );
+            }
+            try {
+                writeSnapshot( source, next );
+            }
+            catch ( IOException e ) {
+                // Still serves this session; the next start refetches.
+                Logger.logWarningSilent( LocalizationManager.format( "log.versionCatalog.saveFailed", source.name(),
+                                                                     e.getMessage() ) );
+            }
+            Logger.logDebug( LocalizationManager.format( "log.versionCatalog.refreshed", source.name(),
+                                                         next.entries().size(), result.isNotModified() ) );
+            return next;
+        }
+        catch ( IOException | RuntimeException e ) {
+            Logger.logWarningSilent(
+                    LocalizationManager.format( "log.versionCatalog.fetchFailed", source.name(), e.getMessage() ) );
+            return null;
+        }
+    }
+
+    /**
+     * Rebuilds the index from every loaded snapshot; caller holds the class lock.
+     */
+    private static void rebuildIndex()
+    {
+        List< Entry > all = new ArrayList<>();
+        for ( Source source : List.of( Source.VANILLA, Source.FORGE, Source.NEOFORGE ) ) {
+            all.addAll( snapshots.getOrDefault( source, Snapshot.EMPTY ).entries() );
+        }
+        all.addAll( fabricEntries( snapshots.getOrDefault( Source.FABRIC_GAME, Snapshot.EMPTY ).entries(),
+                                   snapshots.getOrDefault( Source.FABRIC_LOADER, Snapshot.EMPTY ).entries() ) );
+        index = new Index( all );
+    }
+
+    // ====================================================================
+    // Persistence
+    // ====================================================================
+
+    private static Path snapshotPath( Source source )
+    {
+        return Path.of( LocalPathManager.getLauncherMetadataFolderPath(), FOLDER,
+                        source.name().toLowerCase( Locale.ROOT ) + ".json" );
+    }
+
+    private static Snapshot readSnapshot( Source source )
+    {
+        Path path = snapshotPath( source );
+        if ( !Files.isRegularFile( path ) ) {
+            return null;
+        }
+        try {
+            Snapshot snapshot = JSONUtilities.getGson()
+                                             .fromJson( Files.readString( path, StandardCharsets.UTF_8 ),
+                                                        Snapshot.class );
+            if ( snapshot == null || snapshot.entries() == null ) {
+                return null;
+            }
+            return new Snapshot( snapshot.etag(), snapshot.lastModified(), snapshot.fetchedAtMs(),
+                                 List.copyOf( snapshot.entries() ) );
+        }
+        catch ( IOException | JsonParseException e ) {
+            Logger.logWarningSilent(
+                    LocalizationManager.format( "log.versionCatalog.loadFailed", source.name(), e.getMessage() ) );
+            return null;
+        }
+    }
+
+    private static void writeSnapshot( Source source, Snapshot snapshot ) throws IOException
+    {
+        Path target = snapshotPath( source );
+        Files.createDirectories( target.getParent() );
+        Path tmp = Files.createTempFile( target.getParent(), target.getFileName().toString(), ".tmp" );
+        try {
+            Files.writeString( tmp, JSONUtilities.getGson().toJson( snapshot ), StandardCharsets.UTF_8 );
+            try {
+                Files.move( tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+            }
+            catch ( AtomicMoveNotSupportedException e ) {
+                Files.move( tmp, target, StandardCopyOption.REPLACE_EXISTING );
+            }
+        }
+        finally {
+            Files.deleteIfExists( tmp );
+        }
+    }
+
+    // ====================================================================
+    // Upstream formats
+    // ====================================================================
+
+    /**
+     * Mojang's version manifest: one row per version, manifest (newest
+     * first) order, the version type as channel.
+     */
+    static List< Entry > parseVanilla( String json )
+    {
+        List< Entry > entries = new ArrayList<>();
+        JsonArray versions = JSONUtilities.getGson().fromJson( json, JsonObject.class ).getAsJsonArray( "versions" );
+        for ( JsonElement el : versions ) {
+            JsonObject v = el.getAsJsonObject();
+            String id = v.get( "id" ).getAsString();
+            entries.add( new Entry( LOADER_VANILLA, id, id, v.get( "type" ).getAsString(), v.get( "url" ).getAsString(),
+                                    v.has( "releaseTime" ) ? v.get( "releaseTime" ).getAsString() : null ) );
+        }
+        return entries;
+    }
+
+    /**
+     * Forge promotions: recommended then latest (when distinct) per
+     * Minecraft version, newest Minecraft first.
+     */
+    static List< Entry > parseForge( String json )
+    {
+        JsonObject promos = JSONUtilities.getGson().fromJson( json, JsonObject.class ).getAsJsonObject( "promos" );
+        Map< String, String > recommended = new HashMap<>();
+        Map< String, String > latest = new LinkedHashMap<>();
+        for ( Map.Entry< String, JsonElement > e : promos.entrySet() ) {
+            String key = e.getKey();
+            if ( key.endsWith( "-recommended" ) ) {
+                recommended.put( key.substring( 0, key.length() - "-recommended".length() ),
+                                 e.getValue().getAsString() );
+            }
+            else if ( key.endsWith( "-latest" ) ) {
+                latest.put( key.substring( 0, key.length() - "-latest".length() ), e.getValue().getAsString() );
+            }
+        }
+        List< String > mcVersions = new ArrayList<>( latest.keySet() );
+        mcVersions.sort( ( a, b ) -> VersionUtilities.compareVersionNumbers( b, a ) );
+        List< Entry > entries = new ArrayList<>();
+        for ( String mc : mcVersions ) {
+            String rec = recommended.get( mc );
+            if ( rec != null ) {
+                entries.add( new Entry( ModPackConstants.MOD_LOADER_FORGE, mc, rec, CHANNEL_RECOMMENDED,
+                                        forgeInstallerUrl( mc, rec ), null ) );
+            }
+            String last = latest.get( mc );
+            if ( !last.equals( rec ) ) {
+                entries.add( new Entry( ModPackConstants.MOD_LOADER_FORGE, mc, last, CHANNEL_LATEST,
+                                        forgeInstallerUrl( mc, last ), null ) );
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * NeoForge Maven metadata: every build whose version maps to a
+     * Minecraft version, newest first; {@code -beta} builds are snapshots.
+     */
+    static List< Entry > parseNeoForge( String xml )
+    {
+        List< String > versions = new ArrayList<>();
+        Matcher matcher = MAVEN_VERSION.matcher( xml );
+        while ( matcher.find() ) {
+            versions.add( matcher.group( 1 ) );
+        }
+        versions.sort( ( a, b ) -> VersionUtilities.compareVersionNumbers( b, a ) );
+        List< Entry > entries = new ArrayList<>();
+        for ( String version : versions ) {
+            String mc = neoForgeMcVersionFor( version );
+            if ( mc == null ) {
+                continue;
+            }
+            String channel = version.contains( "-beta" ) || version.contains( "-alpha" ) ? CHANNEL_SNAPSHOT
+                                                                                        : CHANNEL_RELEASE;
+            entries.add( new Entry( ModPackConstants.MOD_LOADER_NEOFORGE, mc, version, channel,
+                                    neoForgeInstallerUrl( version ), null ) );
+        }
+        return entries;
+    }
+
+    static List< Entry > parseFabricGames( String json )
+    {
+        return parseFabricList( json, FABRIC_GAME );
+    }
+
+    static List< Entry > parseFabricLoaders( String json )
+    {
+        return parseFabricList( json, FABRIC_LOADER );
+    }
+
+    private static List< Entry > parseFabricList( String json, String kind )
+    {
+        List< Entry > entries = new ArrayList<>();
+        for ( JsonElement el : JSONUtilities.getGson().fromJson( json, JsonArray.class ) ) {
+            JsonObject obj = el.getAsJsonObject();
+            boolean stable = !obj.has( "stable" ) || obj.get( "stable" ).getAsBoolean();
+            String version = obj.get( "version" ).getAsString();
+            entries.add( new Entry( kind, kind.equals( FABRIC_GAME ) ? version : null, version,
+                                    stable ? CHANNEL_RELEASE : CHANNEL_SNAPSHOT, null, null ) );
+        }
+        return entries;
+    }
+
+    /**
+     * Pairs every Minecraft version Fabric supports with the newest stable
+     * loader (the newest loader of any kind if none is stable) — the
+     * meta service's "recommended loader" shape.
+     */
+    static List< Entry > fabricEntries( List< Entry > games, List< Entry > loaders )
+    {
+        String loader = null;
+        for ( Entry candidate : loaders ) {
+            if ( CHANNEL_RELEASE.equals( candidate.channel() ) ) {
+                loader = candidate.version();
+                break;
+            }
+        }
+        if ( loader == null && !loaders.isEmpty() ) {
+            loader = loaders.getFirst().version();
+        }
+        if ( loader == null ) {
+            return List.of();
+        }
+        List< Entry > entries = new ArrayList<>( games.size() );
+        for ( Entry game : games ) {
+            entries.add( new Entry( ModPackConstants.MOD_LOADER_FABRIC, game.version(), loader, game.channel(),
+                                    fabricProfileUrl( game.version(), loader ), null ) );
+        }
+        return entries;
+    }
+
+    /**
+     * Builds the canonical Forge installer JAR URL on Forge's Maven for
+     * the given Minecraft + Forge version pair.
+     *
+     * @param mcVer    the Minecraft version (e.g. {@code 1.20.1})
+     * @param forgeVer the Forge version (e.g. {@code 47.4.1})
+     *
+     * @return the {@code forge-<mc>-<forge>-installer.jar} download URL
+     */
+    static String forgeInstallerUrl( String mcVer, String forgeVer )
+    {
+        return "https://maven.minecraftforge.net/net/minecraftforge/forge/"
+                + mcVer + "-" + forgeVer + "/forge-" + mcVer + "-" + forgeVer + "-installer.jar";
+    }
+
+    /**
+     * Builds the canonical NeoForge installer JAR URL on NeoForge's
+     * Maven for the given NeoForge version.
+     *
+     * @param version the NeoForge version (e.g. {@code 21.1.0})
+     *
+     * @return the {@code neoforge-<version>-installer.jar} download URL
+     */
+    static String neoForgeInstallerUrl( String version )
+    {
+        return "https://maven.neoforged.net/releases/net/neoforged/neoforge/"
+                + version + "/neoforge-" + version + "-installer.jar";
+    }
+
+    /**
+     * Builds the Fabric meta service profile-JSON URL for the given
+     * Minecraft + Fabric loader version pair.
+     *
+     * @param mcVersion     the Minecraft version (e.g. {@code 1.20.1})
+     * @param loaderVersion the Fabric loader version (e.g. {@code 0.16.0})
+     *
+     * @return the {@code .../loader/<mc>/<loader>/profile/json} URL
+     */
+    static String fabricProfileUrl( String mcVersion, String loaderVersion )
+    {
+        return "https://meta.fabricmc.net/v2/versions/loader/" + mcVersion
+                + "/" + loaderVersion + "/profile/json";
+    }
+
+    /**
+     * Maps a NeoForge {@code MAJOR.MINOR.PATCH} version to its target
+     * Minecraft version {@code 1.MAJOR.MINOR} (or {@code 1.MAJOR} when
+     * the minor component is {@code 0}).
+     *
+     * @param neoForgeVersion the NeoForge version string to translate
+     *
+     * @return the derived Minecraft version, or {@code null} when the
+     *         input is {@code null} or doesn't parse
+     */
+    static String neoForgeMcVersionFor( String neoForgeVersion )
+    {
+        if ( neoForgeVersion == null ) {
+            return null;
+        }
+        String[] parts = neoForgeVersion.split( "\\." );
+        if ( parts.length < 2 ) {
+            return null;
+        }
+        try {
+            int major = Integer.parseInt( parts[ 0 ] );
+            int minor = Integer.parseInt( parts[ 1 ] );
+            return minor == 0 ? "1." + major : "1." + major + "." + minor;
+        }
+        catch ( NumberFormatException e ) {
+            return null;
+        }
+    }
+}
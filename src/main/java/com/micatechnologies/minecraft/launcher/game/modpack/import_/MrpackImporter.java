@@ -19,16 +19,20 @@ package com.micatechnologies.minecraft.launcher.game.modpack.import_;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.micatechnologies.minecraft.launcher.consts.ModPackConstants;
 import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
 import com.micatechnologies.minecraft.launcher.files.LocalPathManager;
 import com.micatechnologies.minecraft.launcher.files.Logger;
+import com.micatechnologies.minecraft.launcher.utilities.DownloadExecutor;
 import com.micatechnologies.minecraft.launcher.utilities.HashUtilities;
 import com.micatechnologies.minecraft.launcher.utilities.JSONUtilities;
 import com.micatechnologies.minecraft.launcher.utilities.NetworkUtilities;
 
 import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -38,6 +42,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
 
 /**
  * End-to-end Modrinth {@code .mrpack} → Mica-format manifest pipeline.
@@ -45,30 +50,36 @@ import java.util.zip.ZipFile;
  * <p>The import preview path hands this class the URL of the primary
  * {@code .mrpack} file. From there:</p>
  * <ol>
- *   <li>Download the {@code .mrpack} to a temp file (bounded fetch).</li>
- *   <li>Open as a ZIP archive and extract {@code modrinth.index.json}.</li>
- *   <li>Parse it into a {@link ModrinthIndex}.</li>
- *   <li>Verify the mod loader is supported (Forge only for v1 — Fabric /
- *       NeoForge / Quilt return a clear failure that the GUI surfaces).</li>
+ *   <li>Stream the {@code .mrpack} (bounded fetch), reading ZIP entries as
+ *       the bytes arrive while teeing them to a temp file.</li>
+ *   <li>As soon as {@code modrinth.index.json} streams past, parse it into a
+ *       {@link ModrinthIndex} — without waiting for the rest of the
+ *       archive.</li>
+ *   <li>Verify the mod loader is supported (Forge / NeoForge / Fabric —
+ *       anything else fails fast, before the rest of the archive
+ *       downloads).</li>
+ *   <li>Kick off, in parallel on the shared download pool: the loader
+ *       installer fetch (hashed as it streams, so the manifest carries
+ *       {@code packModLoaderHash}), the logo staging, and a verified
+ *       {@link MrpackPrefetch prefetch} of every {@code files[]} entry.</li>
+ *   <li>Keep streaming, extracting {@code overrides/} and
+ *       {@code client-overrides/} into the prefetch staging area.</li>
  *   <li>Translate every file entry into a Mica-format manifest section
  *       (packMods / packConfigs / packResourcePacks / packShaderPacks
- *       depending on the {@code path} prefix).</li>
- *   <li>Derive the Forge installer URL from the dependencies block and
- *       fetch + hash it so the manifest carries both
- *       {@code packForgeURL} and {@code packForgeHash}.</li>
- *   <li>Write the resulting Mica manifest to
+ *       depending on the {@code path} prefix) and write it to
  *       {@code <launcher>/imported-manifests/<slug>-<versionId>.json}.</li>
- *   <li>Return the local {@code file://} URL so the caller can hand it
- *       to {@code GameModPackManager.installModPackByURL} and reuse the
- *       launcher's normal install pipeline.</li>
+ *   <li>Return the local {@code file://} URL plus the still-running
+ *       prefetch. The caller hands the URL to
+ *       {@code GameModPackManager.installModPackByURL} and then calls
+ *       {@link MrpackPrefetch#commitInto} (or {@link MrpackPrefetch#discard}
+ *       on cancel), so mod downloads overlap the confirmation dialog and the
+ *       first launch finds them already in place and verified.</li>
  * </ol>
  *
- * <p>Note: the {@code overrides/} folder inside the {@code .mrpack} — used
- * for config files, resource packs, etc. that aren't fetched from CDN URLs
- * — is currently NOT extracted to the pack root. v1 ships with mod-list
- * translation only; the overrides handoff to the launcher's pack-folder
- * lifecycle is a follow-up. Most packs work without overrides on first
- * launch; users may need to manually copy any config tweaks they want.</p>
+ * <p>If the archive can't be read as a stream (e.g. STORED entries with
+ * data descriptors), the importer falls back to the central directory of
+ * the completed temp copy. Overrides never overwrite files that already
+ * exist in the pack, so re-importing keeps the user's config edits.</p>
  *
  * @since 2026.3
  */
@@ -87,6 +98,23 @@ public final class MrpackImporter
      *  remote URL to revalidate against. */
     public static final String IMPORTED_MANIFESTS_DIR = "imported-manifests";
 
+    /** Subdirectory of {@link #IMPORTED_MANIFESTS_DIR} holding per-import
+     *  {@link MrpackPrefetch} staging trees. Kept next to the manifests (not
+     *  in the system temp dir) so commit is a same-volume rename into the
+     *  modpacks folder rather than a copy. */
+    private static final String PREFETCH_STAGING_DIR = ".staging";
+
+    /** Overrides trees inside an {@code .mrpack}. Client overrides layer on
+     *  top of the common ones; server overrides have no place in a client
+     *  install. */
+    private static final String OVERRIDES_PREFIX = "overrides/";
+
+    private static final String CLIENT_OVERRIDES_PREFIX = "client-overrides/";
+
+    /** Prefix of the failure shown when {@code modrinth.index.json} can't be
+     *  read or parses to nothing; the reason is appended. */
+    private static final String INVALID_INDEX_MESSAGE = "Couldn't read modrinth.index.json from the archive: ";
+
     /** Mod loaders the launcher's existing pack pipeline understands. v1
      *  imports Forge only; the others surface as an explicit failure so
      *  users don't get a confusing partial install. */
@@ -113,12 +141,37 @@ public final class MrpackImporter
      *                         display
      * @param modCount         the number of files translated into the
      *                         {@code mods/} section
+     * @param prefetch         the in-flight file prefetch; the caller must
+     *                         {@link MrpackPrefetch#commitInto commit} it
+     *                         after install or {@link MrpackPrefetch#discard
+     *                         discard} it on cancel
      * @since 2026.3
      */
-    public record Result( String localManifestUrl, ModrinthIndex index, int modCount )
+    public record Result( String localManifestUrl, ModrinthIndex index, int modCount, MrpackPrefetch prefetch )
     {
     }
 
+    /** Everything decided the moment the index is parsed: loader choice plus
+     *  the installer-hash and logo-staging tasks already running. */
+    record Plan( ModrinthIndex index, String loaderType, String installerUrl,
+                 java.util.concurrent.Future< String > installerHash,
+                 java.util.concurrent.Future< String > logoSha1 )
+    {
+    }
+
+    /** Result of streaming the archive: the plan, if the index was seen, and
+     *  whether every entry could be read from the stream. */
+    record StreamOutcome( Plan plan, boolean complete )
+    {
+    }
+
+    /** Callback run on the streaming thread as soon as the index parses. */
+    @FunctionalInterface
+    interface IndexHandler
+    {
+        Plan onIndex( ModrinthIndex index ) throws ImportException;
+    }
+
     /**
      * Thrown when the import can't proceed for a user-meaningful reason
      * (unsupported loader, bad file, network failure during download).
@@ -178,53 +231,54 @@ public final class MrpackImporter
         }
 
         Path tempMrpack = null;
+        MrpackPrefetch prefetch = null;
+        boolean handedOff = false;
         try {
             Logger.logStd( LocalizationManager.format( "log.mrpackImporter.starting", projectSlug, mrpackDownloadUrl ) );
+            prefetch = MrpackPrefetch.create( Path.of( LocalPathManager.getLauncherConfigFolderPath(),
+                                                       IMPORTED_MANIFESTS_DIR, PREFETCH_STAGING_DIR ) );
+            final MrpackPrefetch staging = prefetch;
 
-            // (1) Download the .mrpack to a temp file.
+            // (1)-(5) Stream the archive; the index callback validates the
+            // loader and starts the installer / logo / file prefetch tasks
+            // while the rest of the archive (overrides) is still arriving.
             Logger.logStd( LocalizationManager.get( "log.mrpackImporter.downloading" ) );
-            tempMrpack = downloadMrpack( mrpackDownloadUrl );
+            tempMrpack = Files.createTempFile( "mica-mrpack-", ".mrpack" );
+            IndexHandler onIndex = index -> startPlan( index, staging, iconUrl );
+            StreamOutcome outcome = streamArchive( mrpackDownloadUrl, tempMrpack, staging, onIndex );
             Logger.logStd( LocalizationManager.format( "log.mrpackImporter.downloaded", tempMrpack.toString(), tempMrpack.toFile().length() ) );
 
-            // (2) Open as ZIP + (3) parse modrinth.index.json.
-            Logger.logStd( LocalizationManager.get( "log.mrpackImporter.parsing" ) );
-            ModrinthIndex index = parseIndex( tempMrpack );
-            if ( index == null ) {
+            Plan plan = outcome.complete() ? outcome.plan()
+                                           : finishFromZipFile( tempMrpack, prefetch, outcome.plan(), onIndex );
+            if ( plan == null ) {
                 throw new ImportException( "The downloaded archive doesn't look like a Modrinth modpack "
                                                    + "(no modrinth.index.json inside)." );
             }
-            Logger.logStd( LocalizationManager.format( "log.mrpackImporter.parsed", index.name, index.versionId,
-                                   ( index.files == null ? 0 : index.files.size() ) ) );
-
-            // (4) Loader check — refuse anything other than Forge for v1.
-            String loader = pickLoader( index );
-            if ( loader == null ) {
-                Logger.logStd( LocalizationManager.format( "log.mrpackImporter.unsupportedLoader",
-                                       String.valueOf( index.dependencies ) ) );
-                throw new ImportException( "This pack uses a mod loader the launcher can't import yet. "
-                                                   + "Supported in this version: Forge." );
-            }
-            String loaderVersion = index.dependencies.get( loader );
-            String mcVersion = index.dependencies.get( "minecraft" );
-            if ( mcVersion == null || mcVersion.isBlank() ) {
-                throw new ImportException( "Pack manifest is missing a Minecraft version." );
-            }
-            Logger.logStd( LocalizationManager.format( "log.mrpackImporter.target", mcVersion, loader, loaderVersion ) );
+            ModrinthIndex index = plan.index();
 
-            // (5) + (6) Build Mica manifest JSON.
+            // (6) Build the Mica manifest once the installer hash is in.
             Logger.logStd( LocalizationManager.get( "log.mrpackImporter.buildingManifest" ) );
-            JsonObject manifest = buildMicaManifest( index, mcVersion, loaderVersion, loader, iconUrl );
+            String installerHash = plan.installerHash().get();
+            if ( installerHash == null ) {
+                throw new ImportException( "Couldn't fetch the " + plan.loaderType() + " installer at "
+                                                   + plan.installerUrl() + " to compute its hash. Check the "
+                                                   + "Minecraft / " + plan.loaderType() + " versions in the "
+                                                   + "pack." );
+            }
+            JsonObject manifest = buildMicaManifest( index, plan.loaderType(), plan.installerUrl(), installerHash,
+                                                     iconUrl, plan.logoSha1().get() );
             Logger.logStd( LocalizationManager.get( "log.mrpackImporter.manifestBuilt" ) );
 
             // (7) Write the manifest to disk.
             Path manifestPath = writeManifestToDisk( manifest, projectSlug, index.versionId );
             Logger.logStd( LocalizationManager.format( "log.mrpackImporter.wroteManifest", manifestPath.toString() ) );
 
-            // (8) Return the file URL.
+            // (8) Return the file URL; the prefetch keeps running for the caller.
             String fileUrl = manifestPath.toUri().toString();
             int modCount = countMods( index );
             Logger.logStd( LocalizationManager.format( "log.mrpackImporter.success", modCount, fileUrl ) );
-            return new Result( fileUrl, index, modCount );
+            handedOff = true;
+            return new Result( fileUrl, index, modCount, prefetch );
         }
         catch ( ImportException e ) {
             throw e;
@@ -237,40 +291,308 @@ public final class MrpackImporter
             if ( tempMrpack != null ) {
                 try { Files.deleteIfExists( tempMrpack ); } catch ( IOException ignored ) {}
             }
+            if ( !handedOff && prefetch != null ) {
+                prefetch.discard();
+            }
+        }
+    }
+
+    /** Validates the parsed index and starts the work that only needs the
+     *  index: the loader installer fetch + hash, the logo staging, and the
+     *  verified prefetch of every translated file. The installer and logo
+     *  are submitted first so they aren't queued behind hundreds of mods.
+     *
+     *  @param index    the freshly parsed Modrinth index
+     *  @param prefetch staging area for prefetched files
+     *  @param iconUrl  optional Modrinth project icon URL, or {@code null}
+     *  @return the plan carrying the in-flight installer / logo tasks
+     *  @throws ImportException if the loader is unsupported or the Minecraft
+     *                         version is missing */
+    private static Plan startPlan( ModrinthIndex index, MrpackPrefetch prefetch, String iconUrl ) throws ImportException
+    {
+        if ( index.files == null ) index.files = new ArrayList<>();
+        Logger.logStd( LocalizationManager.format( "log.mrpackImporter.parsed", index.name, index.versionId,
+                               index.files.size() ) );
+
+        // Loader check — refuse anything the launcher can't install.
+        String loader = pickLoader( index );
+        if ( loader == null ) {
+            Logger.logStd( LocalizationManager.format( "log.mrpackImporter.unsupportedLoader",
+                                   String.valueOf( index.dependencies ) ) );
+            throw new ImportException( "This pack uses a mod loader the launcher can't import yet. "
+                                               + "Supported in this version: Forge." );
+        }
+        String loaderVersion = index.dependencies.get( loader );
+        String mcVersion = index.dependencies.get( "minecraft" );
+        if ( mcVersion == null || mcVersion.isBlank() ) {
+            throw new ImportException( "Pack manifest is missing a Minecraft version." );
+        }
+        Logger.logStd( LocalizationManager.format( "log.mrpackImporter.target", mcVersion, loader, loaderVersion ) );
+
+        String loaderType = loaderKeyToType( loader );
+        String installerUrl = buildLoaderInstallerUrl( loaderType, mcVersion, loaderVersion );
+        java.util.concurrent.Future< String > installerHash = "fabric".equals( loaderType )
+                // Fabric's meta service serves a dynamically-generated
+                // profile JSON; no stable SHA-1 to pin.
+                ? java.util.concurrent.CompletableFuture.completedFuture( "" )
+                : DownloadExecutor.submit( () -> computeForgeInstallerSha1( installerUrl, prefetch ) );
+        java.util.concurrent.Future< String > logoSha1 = DownloadExecutor.submit( () -> stageImportedLogo( iconUrl ) );
+
+        for ( ModrinthIndex.File f : index.files ) {
+            String rel = installedPathOf( f );
+            if ( rel != null ) {
+                prefetch.submitFile( rel, f.downloads.get( 0 ), f.hashes.sha1, f.hashes.sha512 );
+            }
         }
+        return new Plan( index, loaderType, installerUrl, installerHash, logoSha1 );
     }
 
     // ===== stages =====
 
-    /** Streams the {@code .mrpack} into a temp file alongside the launcher
-     *  config dir. Bounded to {@link #MAX_MRPACK_BYTES} so a hostile or
-     *  malformed CDN response can't OOM the launcher.
+    /** Streams the {@code .mrpack}, teeing every byte into {@code tempMrpack}
+     *  while a {@link ZipInputStream} reads entries off the same bytes. The
+     *  index is handed to {@code onIndex} the moment its entry has been read,
+     *  and override entries are staged as they pass. Bounded to
+     *  {@link #MAX_MRPACK_BYTES} so a hostile or malformed CDN response can't
+     *  fill the disk.
      *
-     *  @param url the CDN URL of the {@code .mrpack} archive
-     *  @return the temp file the archive was streamed into
-     *  @throws ImportException if the download fails or exceeds the byte cap */
-    private static Path downloadMrpack( String url ) throws ImportException
+     *  <p>A ZIP the stream reader can't handle doesn't fail the import: the
+     *  outcome is marked incomplete, the rest of the download is drained into
+     *  the temp copy, and the caller falls back to {@link ZipFile}.</p>
+     *
+     *  @param url        the CDN URL of the {@code .mrpack} archive
+     *  @param tempMrpack temp file receiving the full archive
+     *  @param prefetch   staging area for override entries
+     *  @param onIndex    callback run once the index has been parsed
+     *  @return the plan (if the index was seen) and whether streaming finished
+     *  @throws ImportException if the download fails, exceeds the byte cap,
+     *                         the index is empty, or {@code onIndex} rejects
+     *                         the pack */
+    static StreamOutcome streamArchive( String url, Path tempMrpack, MrpackPrefetch prefetch,
+                                         IndexHandler onIndex ) throws ImportException
     {
-        try {
-            Path dest = Files.createTempFile( "mica-mrpack-", ".mrpack" );
-            try ( InputStream is = new URL( url ).openStream() ) {
-                long copied = Files.copy( is, dest, StandardCopyOption.REPLACE_EXISTING );
-                if ( copied > MAX_MRPACK_BYTES ) {
-                    Files.deleteIfExists( dest );
-                    throw new ImportException( "Pack archive exceeded the " + MAX_MRPACK_BYTES
-                                                       + "-byte cap; aborting." );
+        try ( InputStream raw = new URL( url ).openStream();
+              OutputStream copy = Files.newOutputStream( tempMrpack );
+              TeeInputStream tee = new TeeInputStream( raw, copy ) ) {
+            Plan plan = null;
+            boolean complete = true;
+            boolean overridesOk = true;
+            try {
+                // Not closed on its own: closing would close the tee before
+                // the drain below.
+                ZipInputStream zis = new ZipInputStream( tee );
+                ZipEntry entry;
+                while ( ( entry = zis.getNextEntry() ) != null ) {
+                    if ( entry.isDirectory() ) continue;
+                    String name = entry.getName().replace( '\\', '/' );
+                    if ( plan == null && "modrinth.index.json".equals( name ) ) {
+                        Logger.logStd( LocalizationManager.get( "log.mrpackImporter.parsing" ) );
+                        plan = onIndex.onIndex( readIndex( zis ) );
+                    }
+                    else if ( overridesOk ) {
+                        overridesOk = stageOverrideEntry( prefetch, name, zis );
+                    }
                 }
             }
-            return dest;
+            catch ( ArchiveTooLargeException e ) {
+                throw e;
+            }
+            catch ( IOException e ) {
+                Logger.logDebug( "Modrinth import: streaming read stopped (" + e.getMessage()
+                                         + "); falling back to the archive's central directory." );
+                complete = false;
+            }
+            tee.drain();
+            return new StreamOutcome( plan, complete );
         }
-        catch ( ImportException e ) {
-            throw e;
+        catch ( ArchiveTooLargeException e ) {
+            throw new ImportException( "Pack archive exceeded the " + MAX_MRPACK_BYTES
+                                               + "-byte cap; aborting." );
         }
         catch ( IOException e ) {
             throw new ImportException( "Could not download the pack archive: " + e.getMessage(), e );
         }
     }
 
+    /** Stages one archive entry if it belongs to an overrides tree. Returns
+     *  {@code false} once override extraction has failed (cap breach, hostile
+     *  path), after which the remaining overrides are skipped — overrides are
+     *  a convenience, not worth failing the import over.
+     *
+     *  @param prefetch staging area
+     *  @param name     the entry's forward-slash name
+     *  @param in       the entry's stream
+     *  @return whether override extraction should continue */
+    private static boolean stageOverrideEntry( MrpackPrefetch prefetch, String name, InputStream in )
+    {
+        String tree;
+        String rel;
+        if ( name.startsWith( OVERRIDES_PREFIX ) ) {
+            tree = "overrides";
+            rel = name.substring( OVERRIDES_PREFIX.length() );
+        }
+        else if ( name.startsWith( CLIENT_OVERRIDES_PREFIX ) ) {
+            tree = "client-overrides";
+            rel = name.substring( CLIENT_OVERRIDES_PREFIX.length() );
+        }
+        else {
+            return true;
+        }
+        try {
+            prefetch.stageOverride( tree, rel, in );
+            return true;
+        }
+        catch ( IOException e ) {
+            Logger.logWarningSilent( "Modrinth import: skipping remaining overrides — " + e.getMessage() );
+            return false;
+        }
+    }
+
+    /** Finishes an import whose streaming pass gave up part-way, reading
+     *  the complete temp copy through its central directory. Overrides the
+     *  streaming pass already staged are dropped first — the entry it failed
+     *  on may be half-written, and re-staging on top would count every
+     *  earlier override twice against the extraction caps.
+     *
+     *  @param mrpack   the downloaded archive
+     *  @param prefetch staging area
+     *  @param plan     the plan, if the streaming pass got as far as the index
+     *  @param onIndex  callback run if the index still has to be parsed
+     *  @return the plan, or {@code null} when the archive has no index
+     *  @throws ImportException if the archive can't be read or {@code onIndex}
+     *                         rejects the pack */
+    static Plan finishFromZipFile( Path mrpack, MrpackPrefetch prefetch, Plan plan, IndexHandler onIndex )
+            throws ImportException
+    {
+        if ( plan == null ) {
+            Logger.logStd( LocalizationManager.get( "log.mrpackImporter.parsing" ) );
+            ModrinthIndex index = parseIndex( mrpack );
+            if ( index != null ) plan = onIndex.onIndex( index );
+        }
+        prefetch.clearOverrides();
+        extractOverrides( mrpack, prefetch );
+        return plan;
+    }
+
+    /** Fallback override extraction from the completed temp copy, used when
+     *  the streaming reader couldn't get through the whole archive.
+     *
+     *  @param mrpack   the downloaded archive
+     *  @param prefetch staging area */
+    private static void extractOverrides( Path mrpack, MrpackPrefetch prefetch )
+    {
+        try ( ZipFile zip = new ZipFile( mrpack.toFile() ) ) {
+            java.util.Enumeration< ? extends ZipEntry > entries = zip.entries();
+            while ( entries.hasMoreElements() ) {
+                ZipEntry entry = entries.nextElement();
+                if ( entry.isDirectory() ) continue;
+                try ( InputStream is = zip.getInputStream( entry ) ) {
+                    if ( !stageOverrideEntry( prefetch, entry.getName().replace( '\\', '/' ), is ) ) return;
+                }
+            }
+        }
+        catch ( IOException e ) {
+            Logger.logWarningSilent( "Modrinth import: couldn't extract overrides — " + e.getMessage() );
+        }
+    }
+
+    /** Parses {@code modrinth.index.json} from {@code is}, normalizing a
+     *  missing {@code files} list to empty.
+     *
+     *  @param is stream positioned at the index entry's bytes
+     *  @return the parsed index, never {@code null}
+     *  @throws IOException     if the entry can't be read
+     *  @throws ImportException if the entry is empty or a JSON {@code null} */
+    private static ModrinthIndex readIndex( InputStream is ) throws IOException, ImportException
+    {
+        String body = new String( is.readAllBytes(), StandardCharsets.UTF_8 );
+        ModrinthIndex parsed = JSONUtilities.getGson().fromJson( body, ModrinthIndex.class );
+        if ( parsed == null ) {
+            throw new ImportException( INVALID_INDEX_MESSAGE + "the index is empty." );
+        }
+        if ( parsed.files == null ) parsed.files = new ArrayList<>();
+        return parsed;
+    }
+
+    /** Thrown by {@link TeeInputStream} when the archive passes
+     *  {@link #MAX_MRPACK_BYTES}; distinct from other I/O failures so the
+     *  stream reader's format fallback doesn't swallow it. */
+    private static final class ArchiveTooLargeException extends IOException
+    {
+        ArchiveTooLargeException() { super( "archive exceeds " + MAX_MRPACK_BYTES + " bytes" ); }
+    }
+
+    /** Copies every byte read through it into {@code copy}, enforcing the
+     *  archive byte cap. {@code skip} is implemented as read-and-discard so
+     *  skipped bytes still reach the temp copy. */
+    private static final class TeeInputStream extends FilterInputStream
+    {
+        private final OutputStream copy;
+
+        private long total;
+
+        TeeInputStream( InputStream in, OutputStream copy )
+        {
+            super( in );
+            this.copy = copy;
+        }
+
+        @Override
+        public int read() throws IOException
+        {
+            int b = in.read();
+            if ( b >= 0 ) {
+                count( 1 );
+                copy.write( b );
+            }
+            return b;
+        }
+
+        @Override
+        public int read( byte[] b, int off, int len ) throws IOException
+        {
+            int n = in.read( b, off, len );
+            if ( n > 0 ) {
+                count( n );
+                copy.write( b, off, n );
+            }
+            return n;
+        }
+
+        @Override
+        public long skip( long n ) throws IOException
+        {
+            byte[] buf = new byte[ ( int ) Math.min( 8192, Math.max( n, 1 ) ) ];
+            long skipped = 0;
+            while ( skipped < n ) {
+                int r = read( buf, 0, ( int ) Math.min( buf.length, n - skipped ) );
+                if ( r < 0 ) break;
+                skipped += r;
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported()
+        {
+            return false;
+        }
+
+        /** Reads (and so copies) whatever the ZIP reader left unread. */
+        void drain() throws IOException
+        {
+            byte[] buf = new byte[ 64 * 1024 ];
+            //noinspection StatementWithEmptyBody
+            while ( read( buf, 0, buf.length ) != -1 ) { }
+        }
+
+        private void count( int n ) throws ArchiveTooLargeException
+        {
+            total += n;
+            if ( total > MAX_MRPACK_BYTES ) throw new ArchiveTooLargeException();
+        }
+    }
+
     /** Opens the {@code .mrpack} as a ZIP, locates
      *  {@code modrinth.index.json}, parses it with Gson.
      *
@@ -278,22 +600,19 @@ public final class MrpackImporter
      *  @return the parsed index (with a non-null {@code files} list), or
      *          {@code null} when the archive contains no
      *          {@code modrinth.index.json}
-     *  @throws ImportException if the archive can't be read */
+     *  @throws ImportException if the archive can't be read or the index is
+     *                         empty */
     private static ModrinthIndex parseIndex( Path mrpack ) throws ImportException
     {
         try ( ZipFile zip = new ZipFile( mrpack.toFile() ) ) {
             ZipEntry entry = zip.getEntry( "modrinth.index.json" );
             if ( entry == null ) return null;
             try ( InputStream is = zip.getInputStream( entry ) ) {
-                String body = new String( is.readAllBytes(), StandardCharsets.UTF_8 );
-                ModrinthIndex parsed = JSONUtilities.getGson().fromJson( body, ModrinthIndex.class );
-                if ( parsed != null && parsed.files == null ) parsed.files = new ArrayList<>();
-                return parsed;
+                return readIndex( is );
             }
         }
         catch ( IOException e ) {
-            throw new ImportException( "Couldn't read modrinth.index.json from the archive: "
-                                               + e.getMessage(), e );
+            throw new ImportException( INVALID_INDEX_MESSAGE + e.getMessage(), e );
         }
     }
 
@@ -315,24 +634,25 @@ public final class MrpackImporter
     /** Translates the parsed Modrinth index into a Mica-format manifest
      *  JsonObject. Files under {@code mods/} become packMods; everything
      *  else (config, resourcepacks, shaderpacks) goes into the matching
-     *  Mica section. The Forge installer URL is derived from the loader
-     *  version + Minecraft version; its SHA-1 is computed by downloading
-     *  the installer here so the manifest the launcher consumes is
-     *  fully self-contained.
+     *  Mica section. The loader installer hash and staged logo hash come in
+     *  precomputed from the tasks {@link #startPlan} started at index time,
+     *  so the manifest the launcher consumes is fully self-contained.
      *
-     *  @param index          the parsed Modrinth index to translate
-     *  @param mcVersion      the target Minecraft version
-     *  @param forgeVersion   the loader version (Forge / NeoForge / Fabric)
-     *  @param forgeLoaderKey the Modrinth dependency key identifying the loader
-     *  @param iconUrl        optional Modrinth project icon URL, or {@code null}
-     *  @return the assembled Mica-format manifest as a {@link JsonObject}
-     *  @throws ImportException if the loader installer can't be fetched to
-     *                         compute its hash */
+     *  @param index         the parsed Modrinth index to translate
+     *  @param loaderType    the Mica loader type ({@code forge} /
+     *                       {@code neoforge} / {@code fabric})
+     *  @param installerUrl  the loader installer / profile URL
+     *  @param installerHash the installer's SHA-1, or empty for Fabric
+     *  @param iconUrl       optional Modrinth project icon URL, or {@code null}
+     *  @param logoSha1      SHA-1 of the staged icon, or {@code null} when
+     *                       staging failed / there was no icon
+     *  @return the assembled Mica-format manifest as a {@link JsonObject} */
     private static JsonObject buildMicaManifest( ModrinthIndex index,
-                                                  String mcVersion,
-                                                  String forgeVersion,
-                                                  String forgeLoaderKey,
-                                                  String iconUrl ) throws ImportException
+                                                  String loaderType,
+                                                  String installerUrl,
+                                                  String installerHash,
+                                                  String iconUrl,
+                                                  String logoSha1 )
     {
         JsonObject manifest = new JsonObject();
         // Pack-level metadata. Names match the Mica manifest schema 1:1 so
@@ -349,10 +669,10 @@ public final class MrpackImporter
         manifest.addProperty( "packVersion", normalizeImportedVersion( index.versionId ) );
         manifest.addProperty( "packURL", "https://modrinth.com/" );
         manifest.addProperty( "packMinRAMGB", "4" );
-        // Eagerly stage the Modrinth-hosted project icon into the launcher's
-        // shared metadata folder under its content-addressed <sha1>.png slot.
-        // Doing the download here — synchronously, while the import flow is
-        // already running with user-visible progress — guarantees the icon
+        // The Modrinth-hosted project icon was staged into the launcher's
+        // shared metadata folder under its content-addressed <sha1>.png slot
+        // by startPlan, concurrently with the installer fetch. Waiting on it
+        // before the manifest is written guarantees the icon
         // file exists on disk by the time the imported manifest is written,
         // and emitting packLogoSha1 alongside packLogoURL means the
         // launcher's cacheImages() lands on the SHA-1 fast path on every
@@ -361,19 +681,18 @@ public final class MrpackImporter
         // manifest falls back to the bundled default URL with no SHA-1, and
         // the card renders the launcher logo from the classpath resource.
         String logoUrl;
-        String logoSha1 = stageImportedLogo( iconUrl );
         if ( logoSha1 != null ) {
             logoUrl = iconUrl;
             manifest.addProperty( "packLogoSha1", logoSha1 );
             Logger.logStd( LocalizationManager.format( "log.mrpackImporter.stagedIcon", logoSha1 ) );
         }
         else {
-            logoUrl = com.micatechnologies.minecraft.launcher.consts.ModPackConstants.MODPACK_DEFAULT_LOGO_URL;
+            logoUrl = ModPackConstants.MODPACK_DEFAULT_LOGO_URL;
             Logger.logStd( LocalizationManager.format( "log.mrpackImporter.noIconStaged", String.valueOf( iconUrl ) ) );
         }
         manifest.addProperty( "packLogoURL", logoUrl );
         manifest.addProperty( "packBackgroundURL",
-                              com.micatechnologies.minecraft.launcher.consts.ModPackConstants.MODPACK_DEFAULT_BG_URL );
+                              ModPackConstants.MODPACK_DEFAULT_BG_URL );
 
         // Modloader installer / profile. URL construction is loader-
         // specific (Forge / NeoForge / Fabric each have their own maven
@@ -382,23 +701,6 @@ public final class MrpackImporter
         // packForge{URL,Hash} fields are no longer the source of truth
         // and are written empty for forward compatibility with pack
         // authors who hand-edit the imported manifest.
-        String loaderType = loaderKeyToType( forgeLoaderKey );
-        String installerUrl = buildLoaderInstallerUrl( loaderType, mcVersion, forgeVersion );
-        String installerHash;
-        if ( "fabric".equals( loaderType ) ) {
-            // Fabric's meta service serves a dynamically-generated
-            // profile JSON; no stable SHA-1 to pin.
-            installerHash = "";
-        }
-        else {
-            installerHash = computeForgeInstallerSha1( installerUrl );
-            if ( installerHash == null ) {
-                throw new ImportException( "Couldn't fetch the " + loaderType + " installer at "
-                                                   + installerUrl + " to compute its hash. Check the "
-                                                   + "Minecraft / " + loaderType + " versions in the "
-                                                   + "pack." );
-            }
-        }
         manifest.addProperty( "packModLoader", loaderType );
         manifest.addProperty( "packModLoaderURL", installerUrl );
         manifest.addProperty( "packModLoaderHash", installerHash );
@@ -426,23 +728,20 @@ public final class MrpackImporter
         JsonArray packShaderPacks  = new JsonArray();
 
         for ( ModrinthIndex.File f : index.files ) {
-            if ( f == null || f.path == null || f.downloads == null || f.downloads.isEmpty() ) continue;
-            // Drop files whose env is "unsupported" on the client. The
-            // launcher is a client-side tool; server-only files have no
-            // home on disk under our install layout.
-            if ( f.env != null && "unsupported".equalsIgnoreCase( f.env.client ) ) continue;
-
-            String entryPath = f.path.replace( '\\', '/' );
-            String filename = filenameOf( entryPath );
-            String url = f.downloads.get( 0 );
-            String sha1 = ( f.hashes != null ) ? f.hashes.sha1 : null;
-            if ( sha1 == null || sha1.isBlank() ) {
-                // Mica's pack pipeline requires SHA-1 for verification. Skip
-                // any file Modrinth didn't ship a sha1 for — exceedingly rare
-                // (their CDN always exposes both sha1 + sha512).
-                Logger.logWarningSilent( LocalizationManager.format( "log.mrpackImporter.skipNoSha1", entryPath ) );
+            String installedPath = installedPathOf( f );
+            if ( installedPath == null ) {
+                if ( f != null && f.path != null && isClientFile( f ) && f.downloads != null
+                        && !f.downloads.isEmpty() ) {
+                    // Mica's pack pipeline requires SHA-1 for verification. Skip
+                    // any file Modrinth didn't ship a sha1 for — exceedingly rare
+                    // (their CDN always exposes both sha1 + sha512).
+                    Logger.logWarningSilent( LocalizationManager.format( "log.mrpackImporter.skipNoSha1", f.path ) );
+                }
                 continue;
             }
+            String filename = filenameOf( installedPath );
+            String url = f.downloads.get( 0 );
+            String sha1 = f.hashes.sha1;
             boolean clientReq = f.env == null || !"unsupported".equalsIgnoreCase( f.env.client );
             boolean serverReq = f.env != null && "required".equalsIgnoreCase( f.env.server );
 
@@ -454,16 +753,11 @@ public final class MrpackImporter
             node.addProperty( "clientReq", clientReq );
             node.addProperty( "serverReq", serverReq );
 
-            String lowerPath = entryPath.toLowerCase( java.util.Locale.ROOT );
-            if ( lowerPath.startsWith( "mods/" ) ) packMods.add( node );
-            else if ( lowerPath.startsWith( "config/" ) ) packConfigs.add( node );
-            else if ( lowerPath.startsWith( "resourcepacks/" ) ) packResourcePacks.add( node );
-            else if ( lowerPath.startsWith( "shaderpacks/" ) ) packShaderPacks.add( node );
-            else {
-                // Unknown path prefix — treat as a mod by default. Most
-                // alternative layouts mean it, and at worst Mica's installer
-                // will refuse to drop it somewhere broken.
-                packMods.add( node );
+            switch ( installedPath.substring( 0, installedPath.indexOf( '/' ) ) ) {
+                case ModPackConstants.MODPACK_FORGE_CONFIGS_LOCAL_FOLDER -> packConfigs.add( node );
+                case ModPackConstants.MODPACK_FORGE_RESOURCEPACKS_LOCAL_FOLDER -> packResourcePacks.add( node );
+                case ModPackConstants.MODPACK_FORGE_SHADERPACKS_LOCAL_FOLDER -> packShaderPacks.add( node );
+                default -> packMods.add( node );
             }
         }
 
@@ -476,27 +770,64 @@ public final class MrpackImporter
         return manifest;
     }
 
-    /** Pings the Forge Maven coordinate that the version implies, then
-     *  computes a SHA-1 of the downloaded installer. Returns the hex hash
-     *  on success, or {@code null} on any error (which the caller surfaces
-     *  as a user-readable import failure).
+    /** Whether an index file belongs in a client install. Files whose env is
+     *  "unsupported" on the client are dropped: the launcher is a client-side
+     *  tool and server-only files have no home under our install layout.
+     *
+     *  @param f an index file entry
+     *  @return {@code false} only for client-unsupported files */
+    private static boolean isClientFile( ModrinthIndex.File f )
+    {
+        return f.env == null || !"unsupported".equalsIgnoreCase( f.env.client );
+    }
+
+    /** Pack-root-relative path the launcher installs an index file at —
+     *  {@code <section folder>/<filename>}, matching the manifest section
+     *  and {@code local} name {@link #buildMicaManifest} emits — or
+     *  {@code null} when the file isn't imported at all (no path or URL,
+     *  client-unsupported, or no SHA-1). Shared by the manifest translation
+     *  and the prefetch so prefetched files land exactly where the first
+     *  launch looks for them.
+     *
+     *  @param f an index file entry (may be {@code null})
+     *  @return the forward-slash pack-relative path, or {@code null} */
+    static String installedPathOf( ModrinthIndex.File f )
+    {
+        if ( f == null || f.path == null || f.downloads == null || f.downloads.isEmpty() ) return null;
+        if ( !isClientFile( f ) ) return null;
+        if ( f.hashes == null || f.hashes.sha1 == null || f.hashes.sha1.isBlank() ) return null;
+        String entryPath = f.path.replace( '\\', '/' );
+        String filename = filenameOf( entryPath );
+        if ( filename == null || filename.isBlank() ) return null;
+        String lowerPath = entryPath.toLowerCase( java.util.Locale.ROOT );
+        String folder;
+        if ( lowerPath.startsWith( "config/" ) ) folder = ModPackConstants.MODPACK_FORGE_CONFIGS_LOCAL_FOLDER;
+        else if ( lowerPath.startsWith( "resourcepacks/" ) ) folder = ModPackConstants.MODPACK_FORGE_RESOURCEPACKS_LOCAL_FOLDER;
+        else if ( lowerPath.startsWith( "shaderpacks/" ) ) folder = ModPackConstants.MODPACK_FORGE_SHADERPACKS_LOCAL_FOLDER;
+        else {
+            // mods/ or an unknown path prefix — treat as a mod by default. Most
+            // alternative layouts mean it, and at worst Mica's installer
+            // will refuse to drop it somewhere broken.
+            folder = ModPackConstants.MODPACK_FORGE_MODS_LOCAL_FOLDER;
+        }
+        return folder + "/" + filename;
+    }
+
+    /** Streams the loader installer straight into the prefetch staging area
+     *  at the loader's managed path ({@code bin/modpack.jar}), computing its
+     *  SHA-1 in the same pass. The hash goes into the manifest and the file
+     *  itself is placed on commit, so the first launch doesn't download the
+     *  installer a second time. Returns {@code null} on any error (which the
+     *  caller surfaces as a user-readable import failure).
      *
      *  @param installerUrl the loader installer JAR URL to fetch and hash
+     *  @param prefetch     staging area the installer is written into
      *  @return the hex-encoded SHA-1 of the installer, or {@code null} on any
      *          download / hash failure */
-    private static String computeForgeInstallerSha1( String installerUrl )
+    private static String computeForgeInstallerSha1( String installerUrl, MrpackPrefetch prefetch )
     {
         try {
-            Path tempInstaller = Files.createTempFile( "mica-forge-installer-", ".jar" );
-            try {
-                try ( InputStream is = new URL( installerUrl ).openStream() ) {
-                    Files.copy( is, tempInstaller, StandardCopyOption.REPLACE_EXISTING );
-                }
-                return HashUtilities.getFileSHA1( tempInstaller.toFile() );
-            }
-            finally {
-                Files.deleteIfExists( tempInstaller );
-            }
+            return prefetch.stageInstaller( ModPackConstants.MODPACK_FORGE_JAR_LOCAL_PATH, installerUrl );
         }
         catch ( Throwable t ) {
             Logger.logWarningSilent( LocalizationManager.format( "log.mrpackImporter.forgeHashFailed",
@@ -0,0 +1,380 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack.import_;
+
+import com.micatechnologies.minecraft.launcher.files.Logger;
+import com.micatechnologies.minecraft.launcher.game.modpack.ManagedGameFile;
+import com.micatechnologies.minecraft.launcher.utilities.DownloadExecutor;
+import com.micatechnologies.minecraft.launcher.utilities.HashUtilities;
+import com.micatechnologies.minecraft.launcher.utilities.NetworkUtilities;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Staging area for the files an {@code .mrpack} import fetches ahead of the
+ * pack's first launch.
+ *
+ * <p>{@link MrpackImporter} hands this every translated {@code files[]}
+ * entry as soon as {@code modrinth.index.json} is parsed. The downloads run
+ * on the shared {@link DownloadExecutor} pool while the rest of the archive
+ * streams in, the loader installer is hashed, and the user reads the
+ * confirmation dialog. Overrides are extracted here as their entries stream
+ * past. Nothing touches the pack folder until {@link #commitInto} runs after
+ * the user confirms, and {@link #discard} drops everything on cancel.</p>
+ *
+ * <p>Layout under the staging directory:</p>
+ * <pre>
+ * files/&lt;pack-relative path&gt;            verified CDN downloads + loader installer
+ * overrides/&lt;pack-relative path&gt;        the archive's overrides/ tree
+ * client-overrides/&lt;pack-relative path&gt; the archive's client-overrides/ tree
+ * </pre>
+ *
+ * <p>Prefetch is strictly best-effort. A failed or mismatched download is
+ * logged and dropped; the launch pipeline fetches it as it always has.</p>
+ *
+ * @since 2026.7
+ */
+public final class MrpackPrefetch
+{
+    /** Staging directories older than this are leftovers from a crashed or
+     *  abandoned import and are reaped when the next import starts. */
+    private static final long STALE_STAGING_MS = 24L * 60L * 60L * 1000L;
+
+    /** Upper bound on how long {@link #commitInto} waits for in-flight
+     *  downloads. Matches the mod-sync bound in {@code GameModPackFileSync}. */
+    private static final long COMMIT_WAIT_MS = 30L * 60L * 1000L;
+
+    /** Root of this import's staging tree. */
+    private final Path stagingDir;
+
+    /** In-flight and finished download tasks. */
+    private final List< Future< ? > > tasks = new ArrayList<>();
+
+    /** Pack-relative path → declared SHA-1 for every file that landed
+     *  verified under {@code files/}. Used to prime the launcher's verify
+     *  cache on commit. */
+    private final Map< String, String > staged = new ConcurrentHashMap<>();
+
+    /** Running total of decompressed override bytes, for the shared cap. */
+    private long overrideBytes;
+
+    /** Number of override entries extracted, for the shared entry cap. */
+    private int overrideEntries;
+
+    private volatile boolean closed;
+
+    private MrpackPrefetch( Path stagingDir )
+    {
+        this.stagingDir = stagingDir;
+    }
+
+    /**
+     * Creates a fresh staging directory under {@code stagingRoot}, reaping any
+     * stale siblings left by earlier imports.
+     *
+     * @param stagingRoot parent directory for per-import staging trees
+     *
+     * @return the new prefetch session
+     *
+     * @throws IOException if the staging directory can't be created
+     */
+    static MrpackPrefetch create( Path stagingRoot ) throws IOException
+    {
+        Files.createDirectories( stagingRoot );
+        reapStale( stagingRoot );
+        return new MrpackPrefetch( Files.createTempDirectory( stagingRoot, "mrpack-" ) );
+    }
+
+    // ===== staging =====
+
+    /**
+     * Queues a verified download of one index file on the shared download
+     * pool. The bytes are checked against {@code sha512} when present, else
+     * {@code sha1}; a mismatch drops the file.
+     *
+     * @param rel    pack-relative destination path
+     * @param url    CDN URL from the index
+     * @param sha1   declared SHA-1 (the hash the Mica manifest carries)
+     * @param sha512 declared SHA-512, or {@code null}
+     */
+    synchronized void submitFile( String rel, String url, String sha1, String sha512 )
+    {
+        if ( closed ) return;
+        tasks.add( DownloadExecutor.submit( () -> {
+            prefetchOne( rel, url, sha1, sha512 );
+            return null;
+        } ) );
+    }
+
+    /** Body of one {@link #submitFile} task. Never throws: a failure here
+     *  must not make {@link DownloadExecutor#awaitAll} cancel the siblings. */
+    private void prefetchOne( String rel, String url, String sha1, String sha512 )
+    {
+        Path part = null;
+        try {
+            Path dest = resolveInside( "files", rel );
+            part = dest.resolveSibling( dest.getFileName() + ".part" );
+            Files.createDirectories( dest.getParent() );
+            NetworkUtilities.downloadFileFromURL( new URL( url ), part.toFile() );
+            boolean ok = ( sha512 != null && !sha512.isBlank() )
+                    ? sha512.equalsIgnoreCase( digestHex( part, "SHA-512" ) )
+                    : HashUtilities.verifySHA1( part.toFile(), sha1 );
+            if ( !ok ) {
+                Logger.logWarningSilent( "Prefetched " + rel + " failed hash verification; "
+                                                 + "it will be fetched at launch instead." );
+                return;
+            }
+            Files.move( part, dest, StandardCopyOption.REPLACE_EXISTING );
+            staged.put( rel, sha1 );
+        }
+        catch ( Exception e ) {
+            Logger.logDebug( "Prefetch of " + rel + " failed: " + e.getMessage() );
+        }
+        finally {
+            if ( part != null ) {
+                try { Files.deleteIfExists( part ); } catch ( IOException ignored ) {}
+            }
+        }
+    }
+
+    /**
+     * Streams a loader installer into {@code files/<rel>} while computing its
+     * SHA-1 in the same pass, so the manifest's hash and the launch-time
+     * installer come from one download.
+     *
+     * @param rel pack-relative destination (the loader's managed path)
+     * @param url installer URL
+     *
+     * @return the installer's lowercase-hex SHA-1
+     *
+     * @throws Exception on any download or digest failure
+     */
+    String stageInstaller( String rel, String url ) throws Exception
+    {
+        Path dest = resolveInside( "files", rel );
+        Files.createDirectories( dest.getParent() );
+        MessageDigest sha1 = MessageDigest.getInstance( "SHA-1" );
+        try ( InputStream is = new DigestInputStream( new URL( url ).openStream(), sha1 ) ) {
+            Files.copy( is, dest, StandardCopyOption.REPLACE_EXISTING );
+        }
+        String hex = HashUtilities.bytesToHex( sha1.digest() );
+        staged.put( rel, hex );
+        return hex;
+    }
+
+    /**
+     * Extracts one override entry as it streams past. {@code tree} is
+     * {@code overrides} or {@code client-overrides}; {@code rel} is the path
+     * beneath it. Zip-Slip and decompression-bomb limits match the other ZIP
+     * importers.
+     *
+     * @param tree override tree name
+     * @param rel  path within the tree
+     * @param in   the entry's stream
+     *
+     * @throws IOException on a cap breach, an escaping path, or I/O failure
+     */
+    void stageOverride( String tree, String rel, InputStream in ) throws IOException
+    {
+        if ( ++overrideEntries > BoundedZipExtraction.MAX_ENTRIES ) {
+            throw new IOException( "Pack archive has too many override entries — refusing to extract." );
+        }
+        Path dest = resolveInside( tree, rel );
+        Files.createDirectories( dest.getParent() );
+        overrideBytes += BoundedZipExtraction.copyCapped( in, dest,
+                                                          BoundedZipExtraction.MAX_TOTAL_BYTES - overrideBytes );
+    }
+
+    /**
+     * Drops every staged override and resets the override caps. Called before
+     * re-extracting overrides from the archive's central directory, so a
+     * streaming pass that gave up part-way neither leaves a truncated entry
+     * behind nor counts its entries twice.
+     */
+    void clearOverrides()
+    {
+        deleteTree( stagingDir.resolve( "overrides" ) );
+        deleteTree( stagingDir.resolve( "client-overrides" ) );
+        overrideBytes = 0;
+        overrideEntries = 0;
+    }
+
+    /** @return override entries counted against the cap so far; for tests */
+    int overrideEntries()
+    {
+        return overrideEntries;
+    }
+
+    /** @return this import's staging root; for tests */
+    Path stagingDir()
+    {
+        return stagingDir;
+    }
+
+    // ===== commit / discard =====
+
+    /**
+     * Waits for outstanding downloads, then moves everything staged into
+     * {@code packRootFolder}. Downloaded files replace what's there (they
+     * match the new manifest). Overrides only fill in files that don't
+     * exist yet, so re-importing over an existing pack never clobbers the
+     * user's config edits; {@code client-overrides} win over
+     * {@code overrides}. Every moved download primes the launcher's verify
+     * cache so the first launch this session skips re-hashing it.
+     *
+     * @param packRootFolder the installed pack's root folder
+     *
+     * @return the number of files placed into the pack
+     */
+    public int commitInto( String packRootFolder )
+    {
+        awaitTasks();
+        int placed = 0;
+        Path root = Path.of( packRootFolder ).toAbsolutePath().normalize();
+        for ( Map.Entry< String, String > e : staged.entrySet() ) {
+            try {
+                Path target = root.resolve( e.getKey() ).normalize();
+                if ( !target.startsWith( root ) ) continue;
+                Files.createDirectories( target.getParent() );
+                Files.move( resolveInside( "files", e.getKey() ), target, StandardCopyOption.REPLACE_EXISTING );
+                ManagedGameFile.primeVerifyCache( target.toFile(), e.getValue(), "sha1" );
+                placed++;
+            }
+            catch ( IOException ex ) {
+                Logger.logDebug( "Could not place prefetched " + e.getKey() + ": " + ex.getMessage() );
+            }
+        }
+        placed += placeOverrides( stagingDir.resolve( "client-overrides" ), root );
+        placed += placeOverrides( stagingDir.resolve( "overrides" ), root );
+        discard();
+        Logger.logStd( "Placed " + placed + " prefetched files into " + root );
+        return placed;
+    }
+
+    /**
+     * Cancels outstanding downloads and deletes the staging tree. Safe to call
+     * more than once.
+     */
+    public void discard()
+    {
+        synchronized ( this ) {
+            closed = true;
+            for ( Future< ? > f : tasks ) {
+                f.cancel( true );
+            }
+        }
+        deleteTree( stagingDir );
+    }
+
+    private void awaitTasks()
+    {
+        List< Future< ? > > snapshot;
+        synchronized ( this ) {
+            closed = true;
+            snapshot = List.copyOf( tasks );
+        }
+        try {
+            // Tasks swallow their own failures, so this only throws on
+            // timeout / interrupt — both of which cancel the stragglers.
+            DownloadExecutor.awaitAll( snapshot, COMMIT_WAIT_MS );
+        }
+        catch ( Exception e ) {
+            Logger.logWarningSilent( "Gave up waiting on mrpack prefetch: " + e.getClass().getSimpleName() );
+        }
+    }
+
+    private static int placeOverrides( Path tree, Path root )
+    {
+        if ( !Files.isDirectory( tree ) ) return 0;
+        int placed = 0;
+        try ( Stream< Path > walk = Files.walk( tree ) ) {
+            for ( Path src : ( Iterable< Path > ) walk.filter( Files::isRegularFile )::iterator ) {
+                Path target = root.resolve( tree.relativize( src ).toString() ).normalize();
+                if ( !target.startsWith( root ) || Files.exists( target ) ) continue;
+                Files.createDirectories( target.getParent() );
+                Files.move( src, target );
+                placed++;
+            }
+        }
+        catch ( IOException e ) {
+            Logger.logWarningSilent( "Could not place mrpack overrides: " + e.getMessage() );
+        }
+        return placed;
+    }
+
+    /** Resolves {@code rel} under {@code stagingDir/tree}, refusing any path
+     *  that escapes it (Zip-Slip / hostile index paths). */
+    private Path resolveInside( String tree, String rel ) throws IOException
+    {
+        Path base = stagingDir.resolve( tree ).toAbsolutePath().normalize();
+        Path p = base.resolve( rel ).normalize();
+        if ( !p.startsWith( base ) || p.equals( base ) ) {
+            throw new IOException( "Refusing path outside the pack: " + rel );
+        }
+        return p;
+    }
+
+    private static String digestHex( Path file, String algorithm ) throws Exception
+    {
+        MessageDigest md = MessageDigest.getInstance( algorithm );
+        try ( InputStream is = new DigestInputStream( Files.newInputStream( file ), md ) ) {
+            is.transferTo( java.io.OutputStream.nullOutputStream() );
+        }
+        return HashUtilities.bytesToHex( md.digest() );
+    }
+
+    private static void reapStale( Path stagingRoot )
+    {
+        long cutoff = System.currentTimeMillis() - STALE_STAGING_MS;
+        try ( DirectoryStream< Path > ds = Files.newDirectoryStream( stagingRoot ) ) {
+            for ( Path p : ds ) {
+                if ( Files.getLastModifiedTime( p ).toMillis() < cutoff ) deleteTree( p );
+            }
+        }
+        catch ( IOException e ) {
+            Logger.logDebug( "Could not reap stale mrpack staging: " + e.getMessage() );
+        }
+    }
+
+    private static void deleteTree( Path dir )
+    {
+        if ( !Files.exists( dir ) ) return;
+        try ( Stream< Path > walk = Files.walk( dir ) ) {
+            walk.sorted( Comparator.reverseOrder() ).map( Path::toFile ).forEach( File::delete );
+        }
+        catch ( IOException e ) {
+            Logger.logDebug( "Could not delete mrpack staging " + dir + ": " + e.getMessage() );
+        }
+    }
+}
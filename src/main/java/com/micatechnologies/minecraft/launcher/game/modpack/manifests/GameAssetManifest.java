@@ -27,6 +27,7 @@ import com.micatechnologies.minecraft.launcher.files.Logger;
 import com.micatechnologies.minecraft.launcher.game.modpack.GameModPack;
 import com.micatechnologies.minecraft.launcher.game.modpack.GameModPackProgressProvider;
 import com.micatechnologies.minecraft.launcher.game.modpack.ManagedGameFile;
+import com.micatechnologies.minecraft.launcher.game.modpack.ProgressCounter;
 import com.micatechnologies.minecraft.launcher.utilities.DownloadExecutor;
 import com.micatechnologies.minecraft.launcher.utilities.JsonHelper;
 import com.micatechnologies.minecraft.launcher.utilities.SystemUtilities;
@@ -357,16 +358,20 @@ public class GameAssetManifest extends ManagedGameFile
         // round-trip latency, not CPU or bandwidth. The shared pool (sized
         // max(16, cores*2)) keeps that latency-hiding concurrency while capping total
         // download threads when this stage runs alongside the Forge/MC-libs stages.
+        // Progress goes through a lock-free counter: with thousands of workers a
+        // synchronized per-asset submitProgress (plus its label concatenation) was a
+        // convoy point, and the label is only needed when the UI samples it.
+        final ProgressCounter< ManagedGameFile > verified = progressProvider == null ? null
+                : progressProvider.startCounter( assets.size(), 50.0, ( done, total, last ) -> last == null ? ""
+                        : LocalizationManager.VERIFIED_ASSET_PROGRESS_TEXT + " " + last.getFileName() );
         List< Future< Boolean > > threadPoolFutures = new ArrayList<>();
         for ( ManagedGameFile asset : assets ) {
             Callable< Boolean > updateFileCallable = () -> {
                 boolean ret = asset.updateLocalFile();
 
                 // Update progress provider if present
-                if ( progressProvider != null ) {
-                    progressProvider.submitProgress(
-                            LocalizationManager.VERIFIED_ASSET_PROGRESS_TEXT + " " + asset.getFileName(),
-                            ( 50.0 / ( double ) assets.size() ) );
+                if ( verified != null ) {
+                    verified.advance( asset );
                 }
                 return ret;
             };
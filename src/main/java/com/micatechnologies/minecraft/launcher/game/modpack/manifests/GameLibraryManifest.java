@@ -32,6 +32,7 @@ import com.micatechnologies.minecraft.launcher.game.modpack.GameModPack;
 import com.micatechnologies.minecraft.launcher.game.modpack.GameModPackProgressProvider;
 import com.micatechnologies.minecraft.launcher.game.modpack.Lwjgl2ArmPatcher;
 import com.micatechnologies.minecraft.launcher.game.modpack.ManagedGameFile;
+import com.micatechnologies.minecraft.launcher.game.modpack.ProgressCounter;
 import com.micatechnologies.minecraft.launcher.utilities.DownloadExecutor;
 import com.micatechnologies.minecraft.launcher.utilities.JsonHelper;
 import com.micatechnologies.minecraft.launcher.utilities.objects.GameMode;
@@ -299,6 +300,10 @@ public class GameLibraryManifest extends ManagedGameFile
         }
 
         // Build list of library download tasks on the shared bounded download pool.
+        // Per-library progress is a lock-free counter; the label is built on sample.
+        final ProgressCounter< GameLibrary > verified = progressProvider == null ? null
+                : progressProvider.startCounter( libraries.size(), 25.0, ( done, total, last ) -> last == null ? ""
+                        : LocalizationManager.format( "libraryManifest.verifiedLibrary", last.getFileName() ) );
         List< Future< Boolean > > threadPoolFutures = new ArrayList<>();
         for ( GameLibrary library : libraries ) {
             Callable< Boolean > updateFileCallable = () -> {
@@ -320,10 +325,8 @@ public class GameLibraryManifest extends ManagedGameFile
                 }
 
                 // Update progress provider if present
-                if ( progressProvider != null ) {
-                    progressProvider.submitProgress( LocalizationManager.format( "libraryManifest.verifiedLibrary",
-                                                                                 library.getFileName() ),
-                                                     ( 25.0 / ( double ) libraries.size() ) );
+                if ( verified != null ) {
+                    verified.advance( library );
                 }
                 return didChange;
             };
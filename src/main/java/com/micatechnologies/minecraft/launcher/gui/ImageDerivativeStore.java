@@ -0,0 +1,576 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.gui;
+
+import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
+import com.micatechnologies.minecraft.launcher.files.LocalPathManager;
+import com.micatechnologies.minecraft.launcher.files.Logger;
+import com.micatechnologies.minecraft.launcher.utilities.JSONUtilities;
+import com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors;
+import com.micatechnologies.minecraft.launcher.utilities.SystemUtilities;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntBinaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Persistent store of everything the card screens derive from a pack logo:
+ * pre-scaled thumbnails, the dominant-color palette behind the hero-card
+ * gradient, and the {@link LogoTransparencyDetector} verdict. Without it each
+ * session full-size-decoded every available pack's logo just to histogram it,
+ * then decoded the same file again per view.
+ *
+ * <p>Entries are keyed by the image's SHA-1 — the content-addressed
+ * {@code <sha1>.png} name the pack environment already caches logos under
+ * (see {@code GameModPackEnvironment}'s {@code .image_cache}) — so a logo
+ * shared by several packs is derived once, and a changed logo gets a new key
+ * rather than a stale entry. Files that aren't content-addressed aren't
+ * persisted.</p>
+ *
+ * <p>Layout under {@code <metadata>/image-derivatives/}: one
+ * {@code <sha1>-<box>.png} per {@link #THUMBNAIL_BOXES} size and a single
+ * {@code index.json} holding palettes and transparency verdicts. The index is
+ * loaded once and rewritten off-thread, coalesced, whenever it changes.</p>
+ *
+ * <p>{@link #warm} (called from a worker) and {@link #request} (cheap enough
+ * for a card bind) fill missing entries in parallel; everything else is a non-blocking lookup that returns {@code null}
+ * on a miss. Pure AWT / ARGB — no JavaFX types — so it runs on any thread.</p>
+ *
+ * @since 2026.7
+ */
+public final class ImageDerivativeStore
+{
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ImageDerivativeStore() { /* static-only */ }
+
+    /** Bounding box the card screens decode pack logos into (home hero cards,
+     *  library cards). Matches {@code ModpackImageResolver}'s decode hint. */
+    public static final int CARD_LOGO_BOX = 256;
+
+    /** Thumbnail sizes persisted per image. One today — every pack-art view
+     *  shares the card box — but kept a list so a new view size is one entry. */
+    static final int[] THUMBNAIL_BOXES = { CARD_LOGO_BOX };
+
+    /** Palette size stored per image; callers asking for fewer slice it. */
+    public static final int PALETTE_SIZE = 4;
+
+    /** Folder name under the launcher metadata folder. */
+    private static final String STORE_DIR = "image-derivatives";
+
+    /** Index file name inside {@link #STORE_DIR}. */
+    private static final String INDEX_FILE = "index.json";
+
+    /** {@code <sha1>.png} (cache file) or {@code <sha1>-<box>.png} (thumbnail). */
+    private static final Pattern KEY_PATTERN = Pattern.compile( "^([0-9a-fA-F]{40})(?:-\\d+)?\\.png$" );
+
+    /** Test seam: when non-null, replaces the metadata-folder location. */
+    static Path testDirOverride;
+
+    /** One image's derived values. Either field may be absent until computed. */
+    static final class Entry
+    {
+        /** Up to {@link #PALETTE_SIZE} opaque RGB colors, dominant first; empty when none found. */
+        int[] palette;
+
+        /** Logo has transparent edges; {@code null} until sampled. */
+        Boolean transparentEdges;
+    }
+
+    /** On-disk shape of {@code index.json}. */
+    private static final class Index
+    {
+        int version = 1;
+        Map< String, Entry > entries = new ConcurrentHashMap<>();
+    }
+
+    /** Lazily-loaded index; {@code null} until first access. */
+    private static volatile Index index;
+
+    /** Set while a save is queued, so a burst of records writes the index once. */
+    private static final AtomicBoolean SAVE_PENDING = new AtomicBoolean( false );
+
+    /** Single misses queued by {@link #request(File)}, keyed by SHA-1. */
+    private static final Map< String, File > REQUESTED = new ConcurrentHashMap<>();
+
+    /** Set while a drain of {@link #REQUESTED} is scheduled or running. */
+    private static final AtomicBoolean DRAIN_SCHEDULED = new AtomicBoolean( false );
+
+    // -----------------------------------------------------------------------
+    //  Lookups
+    // -----------------------------------------------------------------------
+
+    /**
+     * Derives the store key for a cached image file.
+     *
+     * @param file a {@code <sha1>.png} cache file or a thumbnail from this store
+     *
+     * @return the lower-case SHA-1, or {@code null} when the name isn't content-addressed
+     */
+    public static String keyOf( File file )
+    {
+        return file == null ? null : keyOfName( file.getName() );
+    }
+
+    /**
+     * {@link #keyOf(File)} for a {@code file:} URL, as returned by
+     * {@link javafx.scene.image.Image#getUrl()}.
+     *
+     * @param url the image URL; may be {@code null}
+     *
+     * @return the lower-case SHA-1, or {@code null} when not content-addressed
+     */
+    public static String keyOfUrl( String url )
+    {
+        if ( url == null ) return null;
+        int slash = url.lastIndexOf( '/' );
+        return keyOfName( slash >= 0 ? url.substring( slash + 1 ) : url );
+    }
+
+    /**
+     * Returns the persisted thumbnail for {@code key} at {@code box}, if derived.
+     *
+     * @param key SHA-1 key from {@link #keyOf}
+     * @param box one of {@link #THUMBNAIL_BOXES}
+     *
+     * @return the thumbnail file, or {@code null} when it hasn't been written yet
+     */
+    public static File thumbnail( String key, int box )
+    {
+        if ( key == null ) return null;
+        File f = storeDir().resolve( key + "-" + box + ".png" ).toFile();
+        return f.isFile() ? f : null;
+    }
+
+    /**
+     * Returns the persisted dominant palette for {@code key}.
+     *
+     * @param key SHA-1 key from {@link #keyOf}
+     *
+     * @return RGB ints ({@code 0xRRGGBB}), dominant first; an empty array when the
+     *         logo has no usable colors; {@code null} when not yet derived
+     */
+    public static int[] palette( String key )
+    {
+        Entry e = key == null ? null : loadIndex().entries.get( key );
+        return e == null || e.palette == null ? null : e.palette.clone();
+    }
+
+    /**
+     * Returns the persisted transparent-edges verdict for {@code key}.
+     *
+     * @param key SHA-1 key from {@link #keyOf}
+     *
+     * @return the verdict, or {@code null} when not yet sampled
+     */
+    public static Boolean transparentEdges( String key )
+    {
+        Entry e = key == null ? null : loadIndex().entries.get( key );
+        return e == null ? null : e.transparentEdges;
+    }
+
+    /**
+     * Persists a palette computed elsewhere (e.g. on the FX thread from an
+     * already-loaded image) so the next session doesn't recompute it.
+     *
+     * @param key     SHA-1 key; {@code null} is ignored
+     * @param palette RGB ints, dominant first
+     */
+    public static void recordPalette( String key, int[] palette )
+    {
+        if ( key == null || palette == null ) return;
+        loadIndex().entries.computeIfAbsent( key, k -> new Entry() ).palette = palette.clone();
+        scheduleSave();
+    }
+
+    /**
+     * Persists a transparent-edges verdict computed elsewhere.
+     *
+     * @param key         SHA-1 key; {@code null} is ignored
+     * @param transparent the verdict
+     */
+    public static void recordTransparency( String key, boolean transparent )
+    {
+        if ( key == null ) return;
+        loadIndex().entries.computeIfAbsent( key, k -> new Entry() ).transparentEdges = transparent;
+        scheduleSave();
+    }
+
+    // -----------------------------------------------------------------------
+    //  Background derivation
+    // -----------------------------------------------------------------------
+
+    /**
+     * Queues one cache miss for background derivation. Cheap enough to call
+     * from a card bind: misses from a whole screen are batched into one
+     * parallel {@link #warm} pass rather than a task each.
+     *
+     * @param source a cached logo file; non-content-addressed files are ignored
+     */
+    public static void request( File source )
+    {
+        String key = keyOf( source );
+        if ( key == null || REQUESTED.putIfAbsent( key, source ) != null ) return;
+        if ( DRAIN_SCHEDULED.compareAndSet( false, true ) ) {
+            SystemUtilities.spawnNewTask( ImageDerivativeStore::drainRequested );
+        }
+    }
+
+    /** Runs {@link #warm} over queued requests until the queue stays empty. */
+    private static void drainRequested()
+    {
+        do {
+            List< File > batch = new ArrayList<>();
+            for ( String key : new ArrayList<>( REQUESTED.keySet() ) ) {
+                File f = REQUESTED.remove( key );
+                if ( f != null ) batch.add( f );
+            }
+            if ( !batch.isEmpty() ) warm( batch );
+            DRAIN_SCHEDULED.set( false );
+        }
+        while ( !REQUESTED.isEmpty() && DRAIN_SCHEDULED.compareAndSet( false, true ) );
+    }
+
+    /**
+     * Derives thumbnails, palette and transparency for every content-addressed
+     * file in {@code sources} that is missing any of them, in parallel, then
+     * writes the index once. Each image is fully decoded at most once, ever.
+     * Blocks; call from a background worker.
+     *
+     * @param sources cached logo files; non-content-addressed or missing files are skipped
+     *
+     * @return the number of images derived
+     */
+    public static int warm( Collection< File > sources )
+    {
+        Map< String, File > missing = new ConcurrentHashMap<>();
+        for ( File f : sources ) {
+            String key = keyOf( f );
+            if ( key != null && f.isFile() && !isComplete( key ) ) missing.putIfAbsent( key, f );
+        }
+        if ( missing.isEmpty() ) return 0;
+        // Decode + scale is CPU-bound and ImageIO readers are per-call, so it
+        // runs on the CPU workload at core-count width.
+        AtomicInteger derived = new AtomicInteger();
+        try {
+            LauncherExecutors.forEach( LauncherExecutors.Workload.CPU, missing.entrySet(),
+                                       Runtime.getRuntime().availableProcessors(),
+                                       e -> {
+                                           if ( derive( e.getKey(), e.getValue() ) ) derived.incrementAndGet();
+                                       } );
+        }
+        catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+        }
+        saveIndex();
+        Logger.logDebug( LocalizationManager.format( "log.imageDerivative.warmed", derived.get(), missing.size() ) );
+        return derived.get();
+    }
+
+    /**
+     * Decodes {@code source} once and writes every thumbnail plus the palette
+     * and transparency verdict (sampled from the card-size thumbnail, which is
+     * what the UI would have sampled). Never throws.
+     *
+     * @return {@code true} if the entry is now complete
+     */
+    private static boolean derive( String key, File source )
+    {
+        try {
+            BufferedImage full = ImageIO.read( source );
+            if ( full == null ) return false;
+            Files.createDirectories( storeDir() );
+            BufferedImage card = null;
+            for ( int box : THUMBNAIL_BOXES ) {
+                BufferedImage scaled = scaleToFit( full, box );
+                Path target = storeDir().resolve( key + "-" + box + ".png" );
+                Path tmp = Files.createTempFile( storeDir(), key, ".tmp" );
+                try {
+                    if ( !ImageIO.write( scaled, "png", tmp.toFile() ) ) return false;
+                    moveIntoPlace( tmp, target );
+                }
+                finally {
+                    Files.deleteIfExists( tmp );
+                }
+                if ( box == CARD_LOGO_BOX ) card = scaled;
+            }
+            BufferedImage sampled = card != null ? card : full;
+            int w = sampled.getWidth();
+            int h = sampled.getHeight();
+            IntBinaryOperator argbAt = sampled::getRGB;
+            Entry e = loadIndex().entries.computeIfAbsent( key, k -> new Entry() );
+            int[] palette = dominantPalette( w, h, argbAt, PALETTE_SIZE );
+            e.palette = palette != null ? palette : new int[ 0 ];
+            e.transparentEdges = LogoTransparencyDetector.hasTransparentEdges( w, h, argbAt );
+            return true;
+        }
+        catch ( Exception e ) {
+            Logger.logWarningSilent( LocalizationManager.format( "log.imageDerivative.deriveFailed",
+                                                                 source.getName(), e ) );
+            return false;
+        }
+    }
+
+    /**
+     * Scales {@code src} to fit a {@code box x box} square, preserving aspect
+     * ratio; images already inside the box are returned unchanged.
+     */
+    static BufferedImage scaleToFit( BufferedImage src, int box )
+    {
+        int w = src.getWidth();
+        int h = src.getHeight();
+        if ( w <= box && h <= box ) return src;
+        double scale = Math.min( (double) box / w, (double) box / h );
+        int tw = Math.max( 1, (int) Math.round( w * scale ) );
+        int th = Math.max( 1, (int) Math.round( h * scale ) );
+        BufferedImage out = new BufferedImage( tw, th, BufferedImage.TYPE_INT_ARGB );
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint( RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC );
+            g.setRenderingHint( RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY );
+            g.drawImage( src, 0, 0, tw, th, null );
+        }
+        finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    // -----------------------------------------------------------------------
+    //  Palette extraction
+    // -----------------------------------------------------------------------
+
+    /**
+     * Saturation-weighted dominant-color palette. Bins a ~32x32 grid of opaque
+     * pixels into a 16-per-channel RGB histogram (4096 buckets), weighting each
+     * by saturation so vivid accents dominate, then greedily picks the heaviest
+     * bucket whose average is at least 0.25 (normalized RGB distance) from
+     * every color already picked. Shared by the background pass and the
+     * hero-card's on-the-FX-thread fallback so both produce the same colors.
+     *
+     * @param w      image width
+     * @param h      image height
+     * @param argbAt pixel accessor returning {@code 0xAARRGGBB}
+     * @param count  maximum colors to return
+     *
+     * @return up to {@code count} RGB ints, dominant first, or {@code null}
+     *         when no opaque pixels exist
+     */
+    public static int[] dominantPalette( int w, int h, IntBinaryOperator argbAt, int count )
+    {
+        if ( w <= 0 || h <= 0 || count < 1 ) return null;
+        final int LEVELS  = 16;
+        final int BUCKETS = LEVELS * LEVELS * LEVELS;
+        int[]    counts = new int[ BUCKETS ];
+        double[] rSum   = new double[ BUCKETS ];
+        double[] gSum   = new double[ BUCKETS ];
+        double[] bSum   = new double[ BUCKETS ];
+
+        int step = Math.max( 1, Math.min( w, h ) / 32 );
+        for ( int y = 0; y < h; y += step ) {
+            for ( int x = 0; x < w; x += step ) {
+                int argb = argbAt.applyAsInt( x, y );
+                if ( ( ( argb >>> 24 ) / 255.0 ) < 0.5 ) continue;
+                double r = ( ( argb >> 16 ) & 0xFF ) / 255.0;
+                double g = ( ( argb >> 8 ) & 0xFF ) / 255.0;
+                double b = ( argb & 0xFF ) / 255.0;
+                double sat = Math.max( r, Math.max( g, b ) ) - Math.min( r, Math.min( g, b ) );
+                int weight = 1 + (int) ( sat * 20 );
+                int rIdx = Math.min( LEVELS - 1, (int) ( r * LEVELS ) );
+                int gIdx = Math.min( LEVELS - 1, (int) ( g * LEVELS ) );
+                int bIdx = Math.min( LEVELS - 1, (int) ( b * LEVELS ) );
+                int idx  = ( rIdx * LEVELS + gIdx ) * LEVELS + bIdx;
+                counts[ idx ] += weight;
+                rSum  [ idx ] += r * weight;
+                gSum  [ idx ] += g * weight;
+                bSum  [ idx ] += b * weight;
+            }
+        }
+
+        final double DIST_THRESHOLD = 0.25;
+        List< double[] > picked = new ArrayList<>( count );
+        for ( int slot = 0; slot < count; slot++ ) {
+            int bestIdx = -1;
+            int bestCount = 0;
+            outer:
+            for ( int i = 0; i < BUCKETS; i++ ) {
+                if ( counts[ i ] == 0 || counts[ i ] <= bestCount ) continue;
+                double[] candidate = { rSum[ i ] / counts[ i ], gSum[ i ] / counts[ i ], bSum[ i ] / counts[ i ] };
+                for ( double[] already : picked ) {
+                    double dr = candidate[ 0 ] - already[ 0 ];
+                    double dg = candidate[ 1 ] - already[ 1 ];
+                    double db = candidate[ 2 ] - already[ 2 ];
+                    if ( Math.sqrt( dr * dr + dg * dg + db * db ) <= DIST_THRESHOLD ) continue outer;
+                }
+                bestCount = counts[ i ];
+                bestIdx = i;
+            }
+            if ( bestIdx < 0 ) break;
+            picked.add( new double[]{ rSum[ bestIdx ] / counts[ bestIdx ], gSum[ bestIdx ] / counts[ bestIdx ],
+                                      bSum[ bestIdx ] / counts[ bestIdx ] } );
+        }
+        if ( picked.isEmpty() ) return null;
+        int[] out = new int[ picked.size() ];
+        for ( int i = 0; i < out.length; i++ ) {
+            double[] c = picked.get( i );
+            out[ i ] = ( (int) Math.round( c[ 0 ] * 255 ) << 16 )
+                    | ( (int) Math.round( c[ 1 ] * 255 ) << 8 )
+                    | (int) Math.round( c[ 2 ] * 255 );
+        }
+        return out;
+    }
+
+    // -----------------------------------------------------------------------
+    //  Internal helpers
+    // -----------------------------------------------------------------------
+
+    private static String keyOfName( String name )
+    {
+        Matcher m = KEY_PATTERN.matcher( name );
+        return m.matches() ? m.group( 1 ).toLowerCase( Locale.ROOT ) : null;
+    }
+
+    private static boolean isComplete( String key )
+    {
+        Entry e = loadIndex().entries.get( key );
+        if ( e == null || e.palette == null || e.transparentEdges == null ) return false;
+        for ( int box : THUMBNAIL_BOXES ) {
+            if ( thumbnail( key, box ) == null ) return false;
+        }
+        return true;
+    }
+
+    private static Path storeDir()
+    {
+        Path base = testDirOverride != null
+                ? testDirOverride
+                : Path.of( LocalPathManager.getLauncherMetadataFolderPath() );
+        return base.resolve( STORE_DIR );
+    }
+
+    private static Index loadIndex()
+    {
+        Index idx = index;
+        if ( idx != null ) return idx;
+        synchronized ( ImageDerivativeStore.class ) {
+            if ( index != null ) return index;
+            Index loaded = null;
+            Path file = storeDir().resolve( INDEX_FILE );
+            if ( Files.isRegularFile( file ) ) {
+                try {
+                    loaded = JSONUtilities.getGson().fromJson( Files.readString( file, StandardCharsets.UTF_8 ),
+                                                               Index.class );
+                }
+                catch ( Exception e ) {
+                    Logger.logWarningSilent( LocalizationManager.format( "log.imageDerivative.loadFailed",
+                                                                         e.getMessage() ) );
+                }
+            }
+            if ( loaded == null || loaded.entries == null ) {
+                loaded = new Index();
+            }
+            else {
+                // Gson materializes a plain map; lookups race with the background pass.
+                loaded.entries = new ConcurrentHashMap<>( loaded.entries );
+            }
+            index = loaded;
+            return loaded;
+        }
+    }
+
+    private static void scheduleSave()
+    {
+        if ( SAVE_PENDING.compareAndSet( false, true ) ) {
+            // Bind the target now: a late-running save must not write one
+            // folder's index into another if the location changes meanwhile.
+            Path dir = storeDir();
+            Index idx = loadIndex();
+            SystemUtilities.spawnNewTask( () -> {
+                SAVE_PENDING.set( false );
+                writeIndex( dir, idx );
+            } );
+        }
+    }
+
+    /** Writes the index via temp file + rename. Never throws. */
+    static void saveIndex()
+    {
+        SAVE_PENDING.set( false );
+        writeIndex( storeDir(), loadIndex() );
+    }
+
+    private static void writeIndex( Path dir, Index idx )
+    {
+        try {
+            Files.createDirectories( dir );
+            Path tmp = Files.createTempFile( dir, INDEX_FILE, ".tmp" );
+            try {
+                String json;
+                synchronized ( ImageDerivativeStore.class ) {
+                    json = JSONUtilities.getGson().toJson( idx );
+                }
+                Files.writeString( tmp, json, StandardCharsets.UTF_8 );
+                moveIntoPlace( tmp, dir.resolve( INDEX_FILE ) );
+            }
+            finally {
+                Files.deleteIfExists( tmp );
+            }
+        }
+        catch ( IOException e ) {
+            Logger.logWarningSilent( LocalizationManager.format( "log.imageDerivative.saveFailed", e.getMessage() ) );
+        }
+    }
+
+    private static void moveIntoPlace( Path tmp, Path target ) throws IOException
+    {
+        try {
+            Files.move( tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+        }
+        catch ( AtomicMoveNotSupportedException e ) {
+            Files.move( tmp, target, StandardCopyOption.REPLACE_EXISTING );
+        }
+    }
+
+    /** Test seam: forgets the in-memory index so the next lookup reloads from disk. */
+    static void dropCachedState()
+    {
+        synchronized ( ImageDerivativeStore.class ) {
+            index = null;
+        }
+    }
+}
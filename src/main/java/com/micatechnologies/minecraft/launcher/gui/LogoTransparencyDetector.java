@@ -22,6 +22,7 @@ import javafx.scene.image.PixelReader;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.IntBinaryOperator;
 
 /**
  * Detects whether a modpack logo has transparent edges (i.e. it's a logo whose
@@ -40,6 +41,8 @@ import java.util.function.Consumer;
  * <p>Results are cached process-wide keyed by image URL so the FX thread
  * doesn't repeatedly sample pixels for the same logo across navigation.
  * Cache is unbounded but the entry size is one boolean per pack — trivial.
+ * Verdicts for content-addressed logos are also read from and written to
+ * {@link ImageDerivativeStore}, so they survive restarts.
  *
  * <p>Async-safe: if the image hasn't finished loading yet, the detector
  * attaches a one-shot listener to {@code progressProperty()} and fires the
@@ -98,9 +101,12 @@ public final class LogoTransparencyDetector
         // Cache hit — fastest path. Skips the pixel sampling entirely on
         // subsequent navigations to a screen showing the same pack.
         String url = image.getUrl();
+        String storeKey = ImageDerivativeStore.keyOfUrl( url );
         if ( url != null ) {
             Boolean cached = CACHE.get( url );
+            if ( cached == null ) cached = ImageDerivativeStore.transparentEdges( storeKey );
             if ( cached != null ) {
+                CACHE.put( url, cached );
                 callback.accept( cached );
                 return;
             }
@@ -113,7 +119,7 @@ public final class LogoTransparencyDetector
 
         if ( image.getProgress() >= 1.0 ) {
             boolean result = sample( image );
-            if ( url != null ) CACHE.put( url, result );
+            remember( url, storeKey, result );
             callback.accept( result );
             return;
         }
@@ -132,11 +138,25 @@ public final class LogoTransparencyDetector
                 return;
             }
             boolean result = sample( image );
-            if ( url != null ) CACHE.put( url, result );
+            remember( url, storeKey, result );
             callback.accept( result );
         } );
     }
 
+    /**
+     * Caches a freshly-sampled verdict in memory and, for content-addressed
+     * logos, in the persistent derivative store.
+     *
+     * @param url      the image URL, or {@code null}
+     * @param storeKey the derivative-store key, or {@code null}
+     * @param result   the verdict
+     */
+    private static void remember( String url, String storeKey, boolean result )
+    {
+        if ( url != null ) CACHE.put( url, result );
+        ImageDerivativeStore.recordTransparency( storeKey, result );
+    }
+
     /**
      * Performs the actual corner-and-edge alpha sample. Reads 12 perimeter
      * points: 4 corners + 8 edge midpoints (top/bottom × 3 each, left/right
@@ -153,10 +173,22 @@ public final class LogoTransparencyDetector
     {
         PixelReader reader = image.getPixelReader();
         if ( reader == null ) return false;
-        int w = ( int ) image.getWidth();
-        int h = ( int ) image.getHeight();
-        if ( w <= 0 || h <= 0 ) return false;
+        return hasTransparentEdges( ( int ) image.getWidth(), ( int ) image.getHeight(), reader::getArgb );
+    }
 
+    /**
+     * Pixel-source-agnostic form of {@link #sample(Image)}, shared with the
+     * background pass in {@link ImageDerivativeStore} so a persisted verdict
+     * matches what the FX-thread path would have computed.
+     *
+     * @param w      image width
+     * @param h      image height
+     * @param argbAt pixel accessor returning {@code 0xAARRGGBB}
+     * @return true if the majority of perimeter samples are transparent, false otherwise
+     */
+    static boolean hasTransparentEdges( int w, int h, IntBinaryOperator argbAt )
+    {
+        if ( w <= 0 || h <= 0 ) return false;
         // Inset 5% from each edge so smooth anti-aliasing doesn't get
         // sampled as "transparent." For a 256px logo that's ~13 px in;
         // for a 64px logo ~3 px in.
@@ -185,7 +217,7 @@ public final class LogoTransparencyDetector
 
         int transparent = 0;
         for ( int[] xy : samples ) {
-            double alpha = reader.getColor( xy[ 0 ], xy[ 1 ] ).getOpacity();
+            double alpha = ( argbAt.applyAsInt( xy[ 0 ], xy[ 1 ] ) >>> 24 ) / 255.0;
             if ( alpha < ALPHA_THRESHOLD ) transparent++;
         }
         return ( ( double ) transparent / samples.length ) >= TRANSPARENT_RATIO;
@@ -18,6 +18,7 @@ import com.micatechnologies.minecraft.launcher.game.crash.CrashDiagnosis;
 import com.micatechnologies.minecraft.launcher.game.crash.CrashReportAnalyzer;
 import com.micatechnologies.minecraft.launcher.game.crash.Suggestion;
 import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
+import com.micatechnologies.minecraft.launcher.game.modpack.GameJfrTelemetry;
 import com.micatechnologies.minecraft.launcher.game.modpack.GameModPack;
 import com.micatechnologies.minecraft.launcher.utilities.SystemUtilities;
 import io.github.palexdev.materialfx.controls.MFXButton;
@@ -35,7 +36,9 @@ import javafx.scene.input.ClipboardContent;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.input.ScrollEvent;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
+import javafx.scene.shape.Polyline;
 import javafx.stage.Stage;
 
 import java.awt.Desktop;
@@ -44,6 +47,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Controller for the in-game console GUI. Shows game log output in real time, provides a kill button, and
@@ -136,6 +140,8 @@ public class MCLauncherGameConsoleGui extends MCLauncherAbstractGui
     @SuppressWarnings( "unused" ) @FXML MFXButton searchPrevBtn;
     @SuppressWarnings( "unused" ) @FXML MFXButton searchNextBtn;
     @SuppressWarnings( "unused" ) @FXML CheckBox autoPinCheckBox;
+    /** Row of live telemetry sparklines above the log; shown only while a session streams JFR telemetry. */
+    @SuppressWarnings( "unused" ) @FXML HBox telemetryStrip;
     private Process gameProcess;
     /** Wall-clock start time of the session, in milliseconds, used to compute the live uptime/duration. */
     private long startTimeMs;
@@ -195,6 +201,20 @@ public class MCLauncherGameConsoleGui extends MCLauncherAbstractGui
     /** Optional callback invoked (on the process-monitor thread) when the attached game process exits. */
     private GameExitCallback exitCallback;
 
+    /** Width and height, in pixels, of each telemetry sparkline; one pixel per sample. */
+    private static final double TELEMETRY_CHART_WIDTH  = 130;
+    private static final double TELEMETRY_CHART_HEIGHT = 26;
+
+    /** Live telemetry of the attached session, or {@code null} when the session doesn't stream any. */
+    private GameJfrTelemetry telemetry;
+    /** Listener feeding {@link #telemetry} samples into the sparklines; removed on cleanup. */
+    private GameJfrTelemetry.Listener telemetryListener;
+    /** Per-series value label and sparkline, indexed by {@link GameJfrTelemetry.Series#ordinal()}. */
+    private final Label[]    telemetryLabels = new Label[ GameJfrTelemetry.Series.values().length ];
+    private final Polyline[] telemetryLines  = new Polyline[ GameJfrTelemetry.Series.values().length ];
+    /** Coalesces sample bursts (the stream catching up at startup) into one redraw per FX pulse. */
+    private final AtomicBoolean telemetryRedrawPending = new AtomicBoolean();
+
     /**
      * Constructs the game-console controller and loads its FXML scene onto the given stage.
      *
@@ -458,11 +478,15 @@ public class MCLauncherGameConsoleGui extends MCLauncherAbstractGui
      * {@inheritDoc}
      *
      * <p>This implementation marks the process as no longer running and closes the on-disk log writer,
-     * flushing any buffered tail.</p>
+     * flushing any buffered tail, and stops feeding the telemetry sparklines.</p>
      */
     @Override
     void cleanup() {
         processRunning = false;
+        if ( telemetry != null ) {
+            telemetry.removeListener( telemetryListener );
+            telemetry = null;
+        }
         closeLogFileWriter();
     }
 
@@ -615,6 +639,92 @@ public class MCLauncherGameConsoleGui extends MCLauncherAbstractGui
         attachToProcess( process, packName, null );
     }
 
+    /**
+     * Shows live telemetry sparklines for the session above the log: GC pause, heap after GC, CPU,
+     * allocation rate, safepoint time and thread count, each over the retained history. Call before
+     * or after {@link #attachToProcess}; the strip stays up with the final values once the game exits.
+     *
+     * @param telemetry the session's telemetry
+     *
+     * @since 2026.7
+     */
+    public void attachTelemetry( GameJfrTelemetry telemetry ) {
+        this.telemetry = telemetry;
+        GUIUtilities.JFXPlatformRun( () -> {
+            telemetryStrip.getChildren().clear();
+            for ( GameJfrTelemetry.Series series : GameJfrTelemetry.Series.values() ) {
+                Label label = new Label();
+                label.getStyleClass().add( "telemetryLabel" );
+                Polyline line = new Polyline();
+                line.getStyleClass().add( "telemetrySparkline" );
+                // Fixed-size holder so the chart keeps its footprint while the line is still flat.
+                Pane chart = new Pane( line );
+                chart.setMinSize( TELEMETRY_CHART_WIDTH, TELEMETRY_CHART_HEIGHT );
+                chart.setPrefSize( TELEMETRY_CHART_WIDTH, TELEMETRY_CHART_HEIGHT );
+                chart.setMaxSize( TELEMETRY_CHART_WIDTH, TELEMETRY_CHART_HEIGHT );
+                VBox cell = new VBox( 2.0, label, chart );
+                cell.getStyleClass().add( "telemetryCell" );
+                telemetryLabels[ series.ordinal() ] = label;
+                telemetryLines[ series.ordinal() ] = line;
+                telemetryStrip.getChildren().add( cell );
+            }
+            telemetryStrip.setVisible( true );
+            telemetryStrip.setManaged( true );
+            redrawTelemetry();
+        } );
+        telemetryListener = sample -> {
+            if ( !telemetryRedrawPending.getAndSet( true ) ) {
+                Platform.runLater( this::redrawTelemetry );
+            }
+        };
+        telemetry.addListener( telemetryListener );
+    }
+
+    /**
+     * Redraws every sparkline from the telemetry history, scaled to the largest value in view.
+     * Must run on the FX thread.
+     */
+    private void redrawTelemetry() {
+        telemetryRedrawPending.set( false );
+        if ( telemetry == null || telemetryLabels[ 0 ] == null ) {
+            return;
+        }
+        List< GameJfrTelemetry.Sample > history = telemetry.history();
+        if ( history.isEmpty() ) {
+            for ( GameJfrTelemetry.Series series : GameJfrTelemetry.Series.values() ) {
+                telemetryLabels[ series.ordinal() ].setText( LocalizationManager.get( "console.telemetry.waiting" ) );
+            }
+            return;
+        }
+        int visible = (int) Math.min( history.size(), TELEMETRY_CHART_WIDTH );
+        List< GameJfrTelemetry.Sample > window = history.subList( history.size() - visible, history.size() );
+        GameJfrTelemetry.Sample latest = window.get( window.size() - 1 );
+        int lagAlertMs = ConfigManager.getGameJfrLagAlertMs();
+        for ( GameJfrTelemetry.Series series : GameJfrTelemetry.Series.values() ) {
+            double max = 0;
+            for ( GameJfrTelemetry.Sample sample : window ) {
+                max = Math.max( max, series.value( sample ) );
+            }
+            Double[] points = new Double[ window.size() * 2 ];
+            double x = TELEMETRY_CHART_WIDTH - window.size();
+            for ( int i = 0; i < window.size(); i++ ) {
+                double value = series.value( window.get( i ) );
+                points[ i * 2 ] = x + i;
+                points[ i * 2 + 1 ] = TELEMETRY_CHART_HEIGHT - ( max > 0 ? value / max * TELEMETRY_CHART_HEIGHT : 0 );
+            }
+            Polyline line = telemetryLines[ series.ordinal() ];
+            line.getPoints().setAll( points );
+            telemetryLabels[ series.ordinal() ].setText( series.format( latest ) );
+            if ( series == GameJfrTelemetry.Series.GC_PAUSE ) {
+                boolean lagging = lagAlertMs > 0 && latest.pauseMaxMs() >= lagAlertMs;
+                line.getStyleClass().remove( "telemetryLag" );
+                if ( lagging ) {
+                    line.getStyleClass().add( "telemetryLag" );
+                }
+            }
+        }
+    }
+
     /**
      * Shows a crash report in the console. Can be called after the game has exited. The crash text
      * is also run through {@link CrashReportAnalyzer} and any non-UNKNOWN diagnosis is surfaced
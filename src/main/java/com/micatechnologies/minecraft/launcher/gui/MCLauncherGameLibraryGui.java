@@ -23,8 +23,11 @@ import com.micatechnologies.minecraft.launcher.LauncherCore;
 import com.micatechnologies.minecraft.launcher.consts.ModPackConstants;
 import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
 import com.micatechnologies.minecraft.launcher.files.Logger;
+import com.micatechnologies.minecraft.launcher.game.modpack.DiskUsageIndex;
 import com.micatechnologies.minecraft.launcher.game.modpack.GameModPack;
 import com.micatechnologies.minecraft.launcher.game.modpack.GameModPackManager;
+import com.micatechnologies.minecraft.launcher.game.modpack.PackSearchIndex;
+import com.micatechnologies.minecraft.launcher.game.modpack.PrelaunchWarmup;
 import com.micatechnologies.minecraft.launcher.game.modpack.VanillaVersionManager;
 import com.micatechnologies.minecraft.launcher.utilities.AnnouncementManager;
 import com.micatechnologies.minecraft.launcher.utilities.NotificationManager;
@@ -64,6 +67,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Unified "Game Library" screen — combines what used to be the separate Edit Modpacks and
@@ -254,7 +258,7 @@ public class MCLauncherGameLibraryGui extends MCLauncherAbstractGui
      * <p>Wires up every interactive control on the Browse screen: the type / status / sort
      * filters and the free-text search field (all feeding {@link #vm}), the pagination controls,
      * the add-by-URL / import / editor / hosting-manifest / return buttons, the announcement
-     * banner, and the help button. Also pre-warms the per-pack mod-filename cache on a worker so
+     * banner, and the help button. Also pre-warms the per-pack mod search-term cache on a worker so
      * the first search keystroke stays responsive. The view-model's rebuild callback is wired
      * last so the initial filter / sort seeding doesn't trigger a premature rebuild — the first
      * paint is driven by {@link #afterShow()}.</p>
@@ -355,18 +359,12 @@ public class MCLauncherGameLibraryGui extends MCLauncherAbstractGui
         // explicit rebuildCards() done at the end of setup() does the first paint.
         vm.setOnStateChanged( this::rebuildCards );
 
-        // Pre-warm the mod-filename cache on a worker so the first
-        // "search-by-mod" keystroke doesn't hit cold packModsMatch
-        // for every installed pack on the FX thread. Each cold lookup
-        // is a listFiles + lowercase loop — fast individually but
-        // adds up across 20+ packs into a perceptible hitch on first
-        // type. Backgrounded here so setup() returns immediately.
+        // Bring the search index's mod terms up to date on a worker, so a
+        // mod toggled or added from the detail modal since the last pack
+        // load is findable. One stat per pack whose mods/ hasn't changed.
         SystemUtilities.spawnNewTask( () -> {
             for ( GameModPack p : GameModPackManager.getInstalledModPacks() ) {
-                if ( p == null ) continue;
-                String root = p.getPackRootFolder();
-                if ( root == null ) continue;
-                prewarmModFilenameCache( root );
+                if ( p != null ) PackSearchIndex.putMods( p );
             }
         } );
 
@@ -837,6 +835,7 @@ public class MCLauncherGameLibraryGui extends MCLauncherAbstractGui
         }
         catch ( Exception ex ) {
             Logger.logWarningSilent( LocalizationManager.format( "log.gameLibrary.importConfirmFailed", ex.getMessage() ) );
+            finalResult.prefetch().discard();
             return;
         }
         if ( !confirmed ) {
@@ -844,7 +843,9 @@ public class MCLauncherGameLibraryGui extends MCLauncherAbstractGui
             // retry is fast, but we don't add the pack to the installed
             // list. The cached file is small (a few KB JSON) and a future
             // cleanup pass can reap untouched imported-manifests if the
-            // directory ever gets noisy.
+            // directory ever gets noisy. The prefetched mods, though, are
+            // dropped: they can be tens of MB and a retry re-fetches them.
+            finalResult.prefetch().discard();
             return;
         }
 
@@ -860,6 +861,18 @@ public class MCLauncherGameLibraryGui extends MCLauncherAbstractGui
                     .installModPackByURL( finalResult.localManifestUrl() );
             Logger.logStd( LocalizationManager.format( "log.gameLibrary.modrinthInstallReturned",
                                                        finalResult.localManifestUrl() ) );
+            // Move the mods / installer / overrides the importer prefetched
+            // while the confirmation dialog was up into the pack folder. Runs
+            // after install so an update's pre-update backup sees the old files.
+            com.micatechnologies.minecraft.launcher.game.modpack.GameModPack installed =
+                    com.micatechnologies.minecraft.launcher.game.modpack.GameModPackManager
+                            .getInstalledModPackByURL( finalResult.localManifestUrl() );
+            if ( installed != null ) {
+                finalResult.prefetch().commitInto( installed.getPackRootFolder() );
+            }
+            else {
+                finalResult.prefetch().discard();
+            }
             GUIUtilities.JFXPlatformRun( () -> {
                 // rebuildCards happens automatically in endImport() — no need
                 // to call it here, since endImport will also clear the
@@ -871,6 +884,7 @@ public class MCLauncherGameLibraryGui extends MCLauncherAbstractGui
             } );
         }
         catch ( Throwable t ) {
+            finalResult.prefetch().discard();
             Logger.logErrorSilent( LocalizationManager.format( "log.gameLibrary.modrinthInstallFailed", t.getMessage() ) );
             Logger.logThrowable( t );
             NotificationManager.error(
@@ -1135,16 +1149,19 @@ public class MCLauncherGameLibraryGui extends MCLauncherAbstractGui
             // ---- Worker thread: gather + filter + sort. No scene-graph access here. ----
             List< LibraryEntry > entries = collectEntries( type, status );
             if ( !search.isEmpty() ) {
-                // Match displayName OR any mod filename inside the pack's mods/ folder. Lets the
-                // user find "the pack with the Create mod" by typing "create". The mod-filename
-                // cache (a ConcurrentHashMap) is populated lazily per pack — safe to read here.
-                entries.removeIf( e -> {
-                    if ( e.displayName.toLowerCase( Locale.ROOT ).contains( search ) ) return false;
-                    if ( e.pack != null ) {
-                        return !packModsMatch( e.pack, search );
-                    }
-                    return true;
-                } );
+                // Packs, installed or available, go through the search index: names, versions,
+                // loader and every mod's filename / id / name, so "create" finds the pack with
+                // the Create mod, with a typo fallback. Vanilla and loader rows aren't indexed
+                // and keep the plain display-name match.
+                List< GameModPack > packs = new ArrayList<>();
+                for ( LibraryEntry e : entries ) {
+                    if ( e.pack != null ) packs.add( e.pack );
+                }
+                PackSearchIndex.ensure( packs );
+                Set< String > hits = PackSearchIndex.search( search );
+                entries.removeIf( e -> e.pack != null
+                                       ? !hits.contains( PackSearchIndex.keyOf( e.pack ) )
+                                       : !e.displayName.toLowerCase( Locale.ROOT ).contains( search ) );
             }
             sortEntries( entries, sortSel );
 
@@ -1610,66 +1627,6 @@ public class MCLauncherGameLibraryGui extends MCLauncherAbstractGui
         }
     }
 
-    /** Sort key for {@code SORT_RELEASE_DATE}. Uses the eagerly-populated
-     *  {@code releaseTimeMs} when available (vanilla + loader entries); for
-     *  modpacks the field is {@link Long#MIN_VALUE}, so we fall back to the
-     *  installed pack's newest update-log timestamp as the user's release-date
-     *  proxy ("if the pack doesn't have a real release date, treat last-updated
-     *  as the release date"). Available manifest modpacks fall through both
-     *  paths and sink to the bottom. */
-    /** Session cache of lowercased mod filenames per pack-root path,
-     *  for {@link #packModsMatch}. Populated lazily on first lookup
-     *  per pack so a Browse view that never gets searched doesn't pay
-     *  the filesystem read; never invalidated mid-session since the
-     *  cache is bounded by the user's modpack count (typically dozens
-     *  at most) and re-populates on the next launcher start. */
-    private static final java.util.Map< String, java.util.List< String > > MOD_FILENAME_CACHE =
-            new java.util.concurrent.ConcurrentHashMap<>();
-
-    /** Populates {@link #MOD_FILENAME_CACHE} for the given pack root —
-     *  the same {@code listFiles + lowercase} work {@link #packModsMatch}
-     *  does on first lookup. Extracted so it can run on a worker thread
-     *  during library setup, ahead of the first search keystroke; the
-     *  FX-thread search-filter path becomes a cache hit and avoids the
-     *  hitch a 100+ jar listFiles + iteration causes inline.
-     *
-     *  @param root the pack root folder path to scan; {@code null} is a no-op */
-    private static void prewarmModFilenameCache( String root )
-    {
-        if ( root == null ) return;
-        MOD_FILENAME_CACHE.computeIfAbsent( root, key -> {
-            File mods = new File( key, "mods" );
-            if ( !mods.isDirectory() ) return java.util.List.of();
-            File[] children = mods.listFiles( ( dir, name ) -> name.endsWith( ".jar" )
-                                                                || name.endsWith( ".disabled" ) );
-            if ( children == null ) return java.util.List.of();
-            java.util.List< String > out = new java.util.ArrayList<>( children.length );
-            for ( File c : children ) out.add( c.getName().toLowerCase( Locale.ROOT ) );
-            return out;
-        } );
-    }
-
-    /** True iff the pack's {@code mods/} folder contains any file
-     *  whose lowercased name contains the lowercased search needle.
-     *
-     *  @param pack        the pack whose {@code mods/} folder to scan; {@code false} when
-     *                     {@code null} or its root folder is unknown
-     *  @param lowerNeedle the lowercased search needle to look for in mod filenames
-     *  @return {@code true} if any cached mod filename contains the needle */
-    private static boolean packModsMatch( GameModPack pack, String lowerNeedle )
-    {
-        if ( pack == null ) return false;
-        String root = pack.getPackRootFolder();
-        if ( root == null ) return false;
-        prewarmModFilenameCache( root );
-        java.util.List< String > names = MOD_FILENAME_CACHE.get( root );
-        if ( names == null ) return false;
-        for ( String n : names ) {
-            if ( n.contains( lowerNeedle ) ) return true;
-        }
-        return false;
-    }
-
     /** Sort key for {@code SORT_RELEASE_DATE}. Uses the eagerly-populated
      *  {@code releaseTimeMs} when available (vanilla + loader entries); for
      *  modpacks the field is {@link Long#MIN_VALUE}, so we fall back to the
@@ -2430,10 +2387,15 @@ public class MCLauncherGameLibraryGui extends MCLauncherAbstractGui
                                                     Runnable onComplete )
     {
         if ( pack == null ) return;
+        // Last indexed size only: the prompt shouldn't wait on a walk of the pack.
+        DiskUsageIndex.Snapshot usage = DiskUsageIndex.peek( pack );
         int response = GUIUtilities.showQuestionMessage(
                 LocalizationManager.get( "dialog.uninstall.modpack.title" ),
                 LocalizationManager.format( "dialog.uninstall.modpack.header", displayName ),
-                LocalizationManager.get( "dialog.uninstall.modpack.body" ),
+                usage != null && usage.totalBytes() > 0
+                        ? LocalizationManager.format( "dialog.uninstall.modpack.bodyWithSize",
+                                                      ModpackContentBrowser.humanSize( usage.totalBytes() ) )
+                        : LocalizationManager.get( "dialog.uninstall.modpack.body" ),
                 LocalizationManager.get( "dialog.uninstall.button.deleteFiles" ),
                 LocalizationManager.get( "dialog.uninstall.button.keepFiles" ),
                 owner );
@@ -2444,6 +2406,7 @@ public class MCLauncherGameLibraryGui extends MCLauncherAbstractGui
                 LocalizationManager.format( "library.status.removing", displayName ) );
         SystemUtilities.spawnNewTask( () -> {
             try {
+                PrelaunchWarmup.yieldToUserWork();
                 if ( deleteFiles ) {
                     try {
                         File installDir = new File( pack.getPackRootFolder() );
@@ -96,7 +96,9 @@ public class MCLauncherLaunchProgressGui extends MCLauncherAbstractGui
      *  progress window. Instead we schedule at most one pending FX flush at a time
      *  (compareAndSet gate): when it runs it re-renders all rows from the tracker's
      *  current state and refreshes the taskbar once, then re-arms. This naturally
-     *  throttles updates to the FX thread's frame rate. */
+     *  throttles updates to the FX thread's frame rate. It is also where
+     *  {@link com.micatechnologies.minecraft.launcher.game.modpack.ProgressCounter}-backed
+     *  rows get their status line formatted — once per frame rather than once per file. */
     private final java.util.concurrent.atomic.AtomicBoolean progressFlushScheduled =
             new java.util.concurrent.atomic.AtomicBoolean( false );
 
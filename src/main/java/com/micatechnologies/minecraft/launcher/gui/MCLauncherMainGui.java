@@ -27,6 +27,8 @@ import com.micatechnologies.minecraft.launcher.files.Logger;
 import com.micatechnologies.minecraft.launcher.game.auth.MCLauncherAuthManager;
 import com.micatechnologies.minecraft.launcher.game.modpack.GameModPack;
 import com.micatechnologies.minecraft.launcher.game.modpack.GameModPackManager;
+import com.micatechnologies.minecraft.launcher.game.modpack.PackSearchIndex;
+import com.micatechnologies.minecraft.launcher.game.modpack.PrelaunchWarmup;
 import com.micatechnologies.minecraft.launcher.utilities.*;
 import com.micatechnologies.minecraft.launcher.system.DesktopShortcutManager;
 import io.github.palexdev.materialfx.controls.MFXButton;
@@ -76,6 +78,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Main launcher screen — renders an installed-modpack library as a vertical
@@ -180,6 +183,11 @@ public class MCLauncherMainGui extends MCLauncherAbstractGui
      *  so no synchronization is needed.</p> */
     private final CardPool< ModpackHeroCard > cardPool = new CardPool<>();
 
+    /** Bumped on every {@link #rebuildCards()} call (FX thread only). A search
+     *  worker's result is rendered only if its captured generation still
+     *  matches, so a burst of keystrokes renders just the latest. */
+    private int rebuildGeneration = 0;
+
     /** Filter key used in the VM for the "recently updated only" boolean.
      *  String constants for filter keys live with the controller that owns
      *  the dimension — the VM is intentionally generic. */
@@ -268,6 +276,12 @@ public class MCLauncherMainGui extends MCLauncherAbstractGui
 
         SystemUtilities.spawnNewTask( () -> DiscordRpcUtility.setMenuPresence( "Selecting a Mod Pack" ) );
 
+        // Any input on the menu restarts the pre-launch warm-up's idle clock.
+        if ( rootPane != null ) {
+            rootPane.addEventFilter( javafx.scene.input.InputEvent.ANY,
+                                     event -> PrelaunchWarmup.noteUserActivity() );
+        }
+
         exitBtn.setOnAction( event -> LauncherCore.closeApp() );
 
         // Update-available indicator. The async update check pushes its
@@ -634,6 +648,11 @@ public class MCLauncherMainGui extends MCLauncherAbstractGui
             fade.play();
         }
 
+        // Arm the pre-launch warm-up. Once the menu has sat idle for a while (on AC
+        // power), it verifies, updates and scans the likely next pack in the
+        // background so the Play click takes the fast path.
+        PrelaunchWarmup.onMainMenuShown();
+
         // Idle-window prefetch: warm GameVersionManifest's clientJsonCache for the
         // most-recently-played pack. The first Play click on that pack would
         // otherwise pay a 1-2s download of client.json (Mojang piston-meta) on
@@ -687,6 +706,10 @@ public class MCLauncherMainGui extends MCLauncherAbstractGui
      */
     @Override
     void cleanup() {
+        // Leaving the menu ends its idle window: stop any warm-up straight away so it
+        // doesn't compete with whatever the user navigated to.
+        PrelaunchWarmup.onMainMenuHidden();
+
         // Defensive: if the update-check fired showFullError() to flag an
         // available update, clear it on transition out so the next screen
         // (e.g. progressGUI for a game launch) isn't competing with a stale
@@ -823,13 +846,15 @@ public class MCLauncherMainGui extends MCLauncherAbstractGui
      * the FlowPane's child list.
      */
     /**
-     * Builds the full filtered + sorted pack list for the current VM state
-     * (type / updates-only / search / sort), <em>before</em> pagination. Shared
-     * by {@link #rebuildCards()} (which slices it to the current page) and
-     * {@link #selectModpack(GameModPack)} (which finds a pack's index to compute
-     * its page), so the two can never disagree on ordering.
+     * Builds the filtered + sorted pack list for the current VM state
+     * (type / updates-only / sort), <em>before</em> search and pagination.
+     * Shared by {@link #rebuildCards()} (which narrows it by
+     * {@link #applySearch} and slices it to the current page) and
+     * {@link #selectModpack(GameModPack)} (which clears the search, then finds
+     * a pack's index to compute its page), so the two can never disagree on
+     * ordering.
      *
-     * @return the fully filtered + sorted pack list, before pagination
+     * @return the filtered + sorted pack list, before search and pagination
      */
     private List< GameModPack > buildFilteredSortedPacks()
     {
@@ -854,40 +879,78 @@ public class MCLauncherMainGui extends MCLauncherAbstractGui
             all.removeIf( p -> !p.isUpdateAvailable() );
         }
 
-        // Step 4 — search. Multi-token: whitespace splits the query into
-        // tokens that must EACH appear somewhere in a per-pack haystack
-        // (name + pack/MC/Forge versions). Lets "alto 1.12" or "1.12 alto"
-        // (in either order) find Alto-1.12.2 even though neither matches
-        // the display name as a single substring. VM.searchTokens()
-        // returns an empty array for blank queries so the loop body is
-        // skipped without a separate isEmpty() check.
-        String[] tokens = vm.searchTokens();
-        if ( tokens.length > 0 ) {
-            all.removeIf( p -> !matchesAllTokens( p, tokens ) );
-        }
-
-        // Step 5 — sort
+        // Step 4 — sort
         String sortSel = vm.getSortKey().isEmpty() ? SORT_LAST_PLAYED : vm.getSortKey();
         sortPacks( all, sortSel );
         return all;
     }
 
+    /**
+     * Narrows {@code packs} in place to the ones matching {@code query}.
+     * Multi-token: whitespace splits the query into tokens that must EACH
+     * appear somewhere in the pack's search-index document (name, pack/MC/loader
+     * versions, loader, mods). Lets "alto 1.12" or "1.12 alto" (in either
+     * order) find Alto-1.12.2 even though neither matches the display name as a
+     * single substring. Indexing a cold pack reads its mod folder, so call off
+     * the FX thread.
+     *
+     * @param packs the filtered + sorted packs; order is preserved
+     * @param query the raw search query
+     */
+    private static void applySearch( List< GameModPack > packs, String query )
+    {
+        PackSearchIndex.ensure( packs );
+        Set< String > hits = PackSearchIndex.search( query );
+        packs.removeIf( p -> !hits.contains( PackSearchIndex.keyOf( p ) ) );
+    }
+
     /**
      * Rebuilds the visible card grid from the current filter / search / sort /
      * pagination state. Computes the filtered + sorted pack list via
-     * {@link #buildFilteredSortedPacks()}, clamps + slices it to the current
-     * page, updates the pagination controls, recycles the previously-displayed
-     * hero cards back into {@link #cardPool}, then either renders the empty-state
-     * placeholder (no matching packs) or acquires/binds one pooled card per pack
-     * in the page slice.
+     * {@link #buildFilteredSortedPacks()}, then renders it via
+     * {@link #renderPacks}. With no search active that happens in this pulse;
+     * otherwise the search runs on a worker (as in
+     * {@link MCLauncherGameLibraryGui}) and the result is rendered in a later
+     * pulse, unless a newer rebuild superseded it (see
+     * {@link #rebuildGeneration}).
      *
-     * <p>Must run on the FX thread — touches FXML-injected controls and mutates
-     * the {@link #modpackCardList} FlowPane's child list.</p>
+     * <p>Must run on the FX thread.</p>
      */
     private void rebuildCards()
     {
+        final int gen = ++rebuildGeneration;
         List< GameModPack > all = buildFilteredSortedPacks();
+        // VM.searchTokens() returns an empty array for blank queries, which
+        // skips the index entirely.
+        if ( vm.searchTokens().length == 0 ) {
+            renderPacks( all );
+            return;
+        }
+        final String query = vm.getSearchQuery();
+        SystemUtilities.spawnNewTask( () -> {
+            applySearch( all, query );
+            Platform.runLater( () -> {
+                if ( gen == rebuildGeneration ) {
+                    renderPacks( all );
+                }
+            } );
+        } );
+    }
 
+    /**
+     * FX-thread half of {@link #rebuildCards()}: clamps + slices {@code all}
+     * to the current page, updates the pagination controls, recycles the
+     * previously-displayed hero cards back into {@link #cardPool}, then either
+     * renders the empty-state placeholder (no matching packs) or
+     * acquires/binds one pooled card per pack in the page slice.
+     *
+     * <p>Must run on the FX thread — touches FXML-injected controls and mutates
+     * the {@link #modpackCardList} FlowPane's child list.</p>
+     *
+     * @param all the filtered, searched and sorted packs, before pagination
+     */
+    private void renderPacks( List< GameModPack > all )
+    {
         // Paginate + render
         LibraryViewModel.PageBounds bounds = vm.clampAndSlice( all.size() );
 
@@ -992,68 +1055,6 @@ public class MCLauncherMainGui extends MCLauncherAbstractGui
         nextPageBtn.setDisable( currentPage >= bounds.totalPages() );
     }
 
-    /**
-     * Returns true when every {@code token} appears as a substring of the
-     * pack's search haystack (display name + pack version + MC version +
-     * Forge version, all lowercased). All-tokens semantics is AND — typing
-     * two words narrows the result, doesn't widen it.
-     *
-     * <p>The haystack is rebuilt on every call rather than cached on the pack
-     * because pack metadata (version, Forge version) can change underneath
-     * us when the background revalidate replaces a stub with a fully-loaded
-     * pack. Caching it would mean stale matches on the first few seconds
-     * after cold start.</p>
-     *
-     * @param pack   the pack whose search haystack to test
-     * @param tokens the lowercased search tokens that must all match; a
-     *               {@code null} or empty array matches everything
-     *
-     * @return {@code true} when every non-empty token is a substring of the
-     *         pack's haystack
-     */
-    private static boolean matchesAllTokens( GameModPack pack, String[] tokens )
-    {
-        if ( tokens == null || tokens.length == 0 ) return true;
-        String haystack = buildSearchHaystack( pack );
-        for ( String t : tokens ) {
-            if ( t == null || t.isEmpty() ) continue;
-            if ( !haystack.contains( t ) ) return false;
-        }
-        return true;
-    }
-
-    /**
-     * Concatenates every user-meaningful identifying string for a pack into
-     * one lowercase haystack. Used by {@link #matchesAllTokens} so a search
-     * for "1.12" or "forge" or "biomes 1.12" hits even when those tokens
-     * aren't in the display name.
-     *
-     * @param pack the pack to build a search haystack for
-     *
-     * @return a single lowercase string concatenating the pack's display name,
-     *         versions, loader info, and a {@code vanilla} / {@code modpack} tag
-     */
-    private static String buildSearchHaystack( GameModPack pack )
-    {
-        StringBuilder sb = new StringBuilder( 128 );
-        String name = displayNameOf( pack );
-        if ( name != null ) sb.append( name ).append( ' ' );
-        String packVersion = pack.getPackVersion();
-        if ( packVersion != null ) sb.append( packVersion ).append( ' ' );
-        String mc = safeMinecraftVersion( pack );
-        if ( mc != null ) sb.append( mc ).append( ' ' );
-        String loaderName = safeLoaderName( pack );
-        String loaderVersion = safeLoaderVersion( pack );
-        if ( loaderName != null ) sb.append( loaderName ).append( ' ' );
-        if ( loaderVersion != null ) sb.append( loaderVersion ).append( ' ' );
-        // Include "forge" / "vanilla" type tags so a user can filter by pack
-        // shape via the search box ("forge 1.12", "fabric") in addition to
-        // the type selector dropdown.
-        if ( pack.isVanillaVersion() ) sb.append( "vanilla " );
-        else sb.append( "modpack " );
-        return sb.toString().toLowerCase( Locale.ROOT );
-    }
-
     /** Display name resolver — mirrors {@link #resolveDisplayName(GameModPack)} but
      *  exposed as an instance method for filtering / sorting in this class. */
     private static String displayNameOf( GameModPack p )
@@ -2057,6 +2058,11 @@ public class MCLauncherMainGui extends MCLauncherAbstractGui
         // stable per pack, so we skip the histogram work entirely.
         String cacheKey = packLogoCacheKey( pack );
         Color[] cachedPalette = ( cacheKey != null ) ? DOMINANT_PALETTE_CACHE.get( cacheKey ) : null;
+        if ( cachedPalette == null ) {
+            // Cold session: the palette derived in an earlier session (or by the
+            // background pass) is on disk, so the first paint needs no histogram.
+            cachedPalette = storedPalette( pack, cacheKey );
+        }
         if ( cachedPalette != null && cachedPalette.length > 0 ) {
             setBgLayerGradientFromPalette( bgLayer, cachedPalette );
             return;
@@ -2083,6 +2089,7 @@ public class MCLauncherMainGui extends MCLauncherAbstractGui
                     DOMINANT_COLOR_CACHE.putIfAbsent( cacheKey,
                                                       new DominantColors( fresh[ 0 ], sec ) );
                 }
+                persistPalette( pack, fresh );
                 setBgLayerGradientFromPalette( bgLayer, fresh );
                 return;
             }
@@ -2127,6 +2134,7 @@ public class MCLauncherMainGui extends MCLauncherAbstractGui
                         DOMINANT_COLOR_CACHE.putIfAbsent( cacheKey,
                                                           new DominantColors( fresh[ 0 ], sec ) );
                     }
+                    persistPalette( pack, fresh );
                     bgLayer.getStyleClass().remove( "heroBackgroundDefaultForge" );
                     setBgLayerGradientFromPalette( bgLayer, fresh );
                 }
@@ -2243,14 +2251,13 @@ public class MCLauncherMainGui extends MCLauncherAbstractGui
      * the time the user opens the Game Library the gradients render instantly instead of
      * histogram-sampling 30+ logos one-after-another on the FX thread.
      *
-     * <p>Runs on a background worker thread. For each available pack:</p>
-     * <ol>
-     *     <li>Skip if the URL-keyed cache already has an entry.</li>
-     *     <li>Construct a {@link Image} synchronously (we're off the FX thread, so blocking
-     *         is fine) from the pack's logo URL.</li>
-     *     <li>Sample dominant colors via the existing histogram path.</li>
-     *     <li>Stash the result in {@link #DOMINANT_COLOR_CACHE} keyed by URL.</li>
-     * </ol>
+     * <p>Runs on a background worker thread. Logos already in the launcher's
+     * content-addressed image cache go through {@link ImageDerivativeStore}: anything not
+     * yet derived is decoded once, in parallel, into a persisted card thumbnail + palette +
+     * transparency verdict, and every palette is then loaded from the store into
+     * {@link #DOMINANT_PALETTE_CACHE} / {@link #DOMINANT_COLOR_CACHE}. After the first
+     * session this pass does no image decoding at all. Logos that have never been
+     * downloaded fall back to decoding the remote URL straight into the card box.</p>
      *
      * <p>The Library GUI's per-card resolution reads from the same cache via
      * {@link #packLogoCacheKey} (URL-preferred), so the prefetch and the main-menu
@@ -2281,18 +2288,41 @@ public class MCLauncherMainGui extends MCLauncherAbstractGui
             if ( available == null ) {
                 return;
             }
+            java.util.List< GameModPack > pending = new java.util.ArrayList<>();
+            java.util.List< java.io.File > onDisk = new java.util.ArrayList<>();
+            java.util.List< GameModPack > remoteOnly = new java.util.ArrayList<>();
             for ( GameModPack pack : available ) {
                 if ( pack == null ) continue;
                 String url = pack.getPackLogoURL();
                 if ( url == null || url.isBlank() ) continue;
                 if ( DOMINANT_COLOR_CACHE.containsKey( url ) ) continue;
+                java.io.File logo = cachedLogoFile( pack );
+                if ( logo != null && ImageDerivativeStore.keyOf( logo ) != null ) {
+                    pending.add( pack );
+                    onDisk.add( logo );
+                }
+                else {
+                    remoteOnly.add( pack );
+                }
+            }
+
+            // Derive whatever the store is missing (parallel, one decode per image,
+            // persisted), then serve every on-disk pack's palette from the store.
+            ImageDerivativeStore.warm( onDisk );
+            for ( GameModPack pack : pending ) {
+                storedPalette( pack, pack.getPackLogoURL() );
+            }
 
+            for ( GameModPack pack : remoteOnly ) {
+                String url = pack.getPackLogoURL();
                 try {
                     // Synchronous Image construction off the FX thread — the loader runs on
                     // *this* worker thread rather than spawning a JavaFX image-loader task,
                     // which is what we want because we're prefetching specifically to avoid
-                    // FX-thread work later.
-                    Image img = new Image( url );
+                    // FX-thread work later. Decoded into the card box: the histogram samples
+                    // a ~32x32 grid, so the full-resolution pixels would be wasted heap.
+                    Image img = new Image( url, ImageDerivativeStore.CARD_LOGO_BOX,
+                                           ImageDerivativeStore.CARD_LOGO_BOX, true, true, false );
                     if ( img.isError() ) continue;
                     // Compute the n-color palette directly; the 2-color
                     // cache entry derives from its first two slots so
@@ -2310,6 +2340,58 @@ public class MCLauncherMainGui extends MCLauncherAbstractGui
         } );
     }
 
+    /** Returns the pack's primary logo in the launcher's image cache, or {@code null}
+     *  when it hasn't been downloaded. Side-effect-free (raw path, no cache download). */
+    private static java.io.File cachedLogoFile( GameModPack pack )
+    {
+        try {
+            String path = pack.getPackLogoFilepathRaw();
+            if ( path == null || path.isBlank() ) return null;
+            java.io.File f = new java.io.File( path );
+            return f.isFile() ? f : null;
+        }
+        catch ( Exception ignored ) {
+            return null;
+        }
+    }
+
+    /** Loads the pack logo's persisted palette from {@link ImageDerivativeStore} and,
+     *  on a hit, seeds the in-memory caches under {@code cacheKey}. Returns {@code null}
+     *  when the logo isn't cached on disk or hasn't been derived yet. */
+    private static Color[] storedPalette( GameModPack pack, String cacheKey )
+    {
+        int[] rgb = ImageDerivativeStore.palette( ImageDerivativeStore.keyOf( cachedLogoFile( pack ) ) );
+        if ( rgb == null || rgb.length == 0 ) return null;
+        Color[] palette = new Color[ rgb.length ];
+        for ( int i = 0; i < rgb.length; i++ ) {
+            palette[ i ] = Color.rgb( ( rgb[ i ] >> 16 ) & 0xFF, ( rgb[ i ] >> 8 ) & 0xFF, rgb[ i ] & 0xFF );
+        }
+        if ( cacheKey != null ) {
+            DOMINANT_PALETTE_CACHE.put( cacheKey, palette );
+            Color sec = palette.length >= 2 ? palette[ 1 ] : null;
+            DOMINANT_COLOR_CACHE.putIfAbsent( cacheKey, new DominantColors( palette[ 0 ], sec ) );
+        }
+        return palette;
+    }
+
+    /** Persists a palette sampled on the FX thread so later sessions load it from
+     *  {@link ImageDerivativeStore} instead of re-sampling. Only full
+     *  {@link ImageDerivativeStore#PALETTE_SIZE}-color samples are stored — a shorter
+     *  ask would truncate the entry for callers wanting more. */
+    private static void persistPalette( GameModPack pack, Color[] palette )
+    {
+        if ( palette == null || palette.length == 0 ) return;
+        String key = ImageDerivativeStore.keyOf( cachedLogoFile( pack ) );
+        if ( key == null || ImageDerivativeStore.palette( key ) != null ) return;
+        int[] rgb = new int[ palette.length ];
+        for ( int i = 0; i < palette.length; i++ ) {
+            rgb[ i ] = ( ( int ) Math.round( palette[ i ].getRed() * 255 ) << 16 )
+                    | ( ( int ) Math.round( palette[ i ].getGreen() * 255 ) << 8 )
+                    | ( int ) Math.round( palette[ i ].getBlue() * 255 );
+        }
+        ImageDerivativeStore.recordPalette( key, rgb );
+    }
+
     /** Two-color result of the histogram sample. {@code secondary} is null when the logo is
      *  too monochrome to identify a second distinct hue — the gradient renderer then derives
      *  the second stop algorithmically. */
@@ -2395,6 +2477,12 @@ public class MCLauncherMainGui extends MCLauncherAbstractGui
         if ( cachedPalette != null && cachedPalette.length >= count ) {
             return java.util.Arrays.copyOf( cachedPalette, count );
         }
+        if ( count <= ImageDerivativeStore.PALETTE_SIZE ) {
+            Color[] stored = storedPalette( pack, cacheKey );
+            if ( stored != null ) {
+                return java.util.Arrays.copyOf( stored, Math.min( count, stored.length ) );
+            }
+        }
 
         String logoPath = null;
         try { logoPath = pack.getPackLogoFilepath(); }
@@ -2402,7 +2490,10 @@ public class MCLauncherMainGui extends MCLauncherAbstractGui
         if ( logoPath == null || logoPath.isBlank() ) return null;
         java.io.File f = new java.io.File( logoPath );
         if ( !f.exists() || !f.isFile() ) return null;
-        Image img = new Image( f.toURI().toString(), false );
+        // The histogram samples a ~32x32 grid, so decoding into the card box
+        // gives the same colors without materializing the full-size bitmap.
+        Image img = new Image( f.toURI().toString(), ImageDerivativeStore.CARD_LOGO_BOX,
+                               ImageDerivativeStore.CARD_LOGO_BOX, true, true, false );
         if ( img.isError() ) return null;
 
         Color[] palette = computeDominantColorPalette( img, count );
@@ -2438,64 +2529,16 @@ public class MCLauncherMainGui extends MCLauncherAbstractGui
         if ( reader == null ) {
             return null;
         }
-        int w = ( int ) image.getWidth();
-        int h = ( int ) image.getHeight();
-        if ( w <= 0 || h <= 0 ) {
-            return null;
-        }
-
-        final int LEVELS  = 16;
-        final int BUCKETS = LEVELS * LEVELS * LEVELS;
-        int[]    counts = new int[ BUCKETS ];
-        double[] rSum   = new double[ BUCKETS ];
-        double[] gSum   = new double[ BUCKETS ];
-        double[] bSum   = new double[ BUCKETS ];
-
-        int step = Math.max( 1, Math.min( w, h ) / 32 );
-        for ( int y = 0; y < h; y += step ) {
-            for ( int x = 0; x < w; x += step ) {
-                Color c = reader.getColor( x, y );
-                if ( c.getOpacity() < 0.5 ) continue;
-                double sat = Math.max( c.getRed(), Math.max( c.getGreen(), c.getBlue() ) )
-                           - Math.min( c.getRed(), Math.min( c.getGreen(), c.getBlue() ) );
-                int weight = 1 + ( int ) ( sat * 20 );
-                int rIdx = Math.min( LEVELS - 1, ( int ) ( c.getRed()   * LEVELS ) );
-                int gIdx = Math.min( LEVELS - 1, ( int ) ( c.getGreen() * LEVELS ) );
-                int bIdx = Math.min( LEVELS - 1, ( int ) ( c.getBlue()  * LEVELS ) );
-                int idx  = ( rIdx * LEVELS + gIdx ) * LEVELS + bIdx;
-                counts[ idx ] += weight;
-                rSum  [ idx ] += c.getRed()   * weight;
-                gSum  [ idx ] += c.getGreen() * weight;
-                bSum  [ idx ] += c.getBlue()  * weight;
-            }
-        }
-
-        final double DIST_THRESHOLD = 0.25;
-        java.util.List< Color > picked = new java.util.ArrayList<>( count );
-        // Greedy pass: repeatedly find the heaviest unpicked bucket that's
-        // far enough away from every already-picked color. O(count * BUCKETS)
-        // which is fine for count ≤ ~8.
-        for ( int slot = 0; slot < count; slot++ ) {
-            int bestIdx = -1;
-            int bestCount = 0;
-            outer:
-            for ( int i = 0; i < BUCKETS; i++ ) {
-                if ( counts[ i ] == 0 || counts[ i ] <= bestCount ) continue;
-                Color candidate = bucketAverage( i, counts, rSum, gSum, bSum );
-                for ( Color already : picked ) {
-                    if ( colorDistance( candidate, already ) <= DIST_THRESHOLD ) {
-                        continue outer;
-                    }
-                }
-                bestCount = counts[ i ];
-                bestIdx = i;
-            }
-            if ( bestIdx < 0 ) break;
-            picked.add( bucketAverage( bestIdx, counts, rSum, gSum, bSum ) );
+        // Shared with ImageDerivativeStore's background pass so a persisted palette
+        // and one sampled here from a loaded Image come out identical.
+        int[] rgb = ImageDerivativeStore.dominantPalette( ( int ) image.getWidth(), ( int ) image.getHeight(),
+                                                          reader::getArgb, count );
+        if ( rgb == null ) return null;
+        Color[] palette = new Color[ rgb.length ];
+        for ( int i = 0; i < rgb.length; i++ ) {
+            palette[ i ] = Color.rgb( ( rgb[ i ] >> 16 ) & 0xFF, ( rgb[ i ] >> 8 ) & 0xFF, rgb[ i ] & 0xFF );
         }
-
-        if ( picked.isEmpty() ) return null;
-        return picked.toArray( new Color[ 0 ] );
+        return palette;
     }
 
     /** Builds the CSS {@code -fx-background-color: linear-gradient(...)} declaration from
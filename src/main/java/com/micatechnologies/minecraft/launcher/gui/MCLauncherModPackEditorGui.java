@@ -24,6 +24,7 @@ import com.micatechnologies.minecraft.launcher.LauncherCore;
 import com.micatechnologies.minecraft.launcher.consts.ModPackConstants;
 import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
 import com.micatechnologies.minecraft.launcher.files.Logger;
+import com.micatechnologies.minecraft.launcher.game.modpack.VersionCatalog;
 import com.micatechnologies.minecraft.launcher.utilities.CacheManager;
 import com.micatechnologies.minecraft.launcher.utilities.HashUtilities;
 import com.micatechnologies.minecraft.launcher.utilities.JSONUtilities;
@@ -762,11 +763,10 @@ public class MCLauncherModPackEditorGui extends MCLauncherAbstractGui
     }
 
     /**
-     * Opens a NeoForge version picker dialog. Pulls the loader's
-     * Maven metadata from {@code maven.neoforged.net}, parses the
-     * {@code <version>...</version>} entries, derives the matching
-     * Minecraft version from the NeoForge version prefix
-     * ({@code 21.1.x} → MC {@code 1.21.1}), and auto-populates the
+     * Opens a NeoForge version picker dialog. Lists the builds from
+     * NeoForge's Maven metadata as saved in the {@link VersionCatalog},
+     * each with the Minecraft version derived from the NeoForge version
+     * prefix ({@code 21.1.x} → MC {@code 1.21.1}), and auto-populates the
      * URL + hash fields the same way the Forge picker does.
      */
     private void pickNeoForgeVersion()
@@ -774,35 +774,21 @@ public class MCLauncherModPackEditorGui extends MCLauncherAbstractGui
         SystemUtilities.spawnNewTask( () -> {
             try {
                 updateStatus( LocalizationManager.get( "editor.status.fetchingNeoForge" ) );
-                String xml = NetworkUtilities.downloadFileFromURL(
-                        "https://maven.neoforged.net/releases/net/neoforged/neoforge/maven-metadata.xml" );
-
-                // The maven-metadata.xml format is stable enough that
-                // a tiny regex pass beats pulling in a DOM parser for
-                // four lines of structure.
-                java.util.regex.Pattern versionTag = java.util.regex.Pattern.compile(
-                        "<version>([^<]+)</version>" );
-                java.util.regex.Matcher matcher = versionTag.matcher( xml );
-                List< String > versions = new ArrayList<>();
-                while ( matcher.find() ) versions.add( matcher.group( 1 ) );
-
-                // Newest first — NeoForge versions are well-ordered
-                // under our VersionUtilities comparator (numeric
-                // segments, no SemVer prerelease suffixes).
-                versions.sort( ( a, b ) -> com.micatechnologies.minecraft.launcher.utilities.VersionUtilities
-                        .compareVersionNumbers( b, a ) );
+                // Newest first, MC version already derived from the
+                // NeoForge version prefix by the catalog.
+                List< VersionCatalog.Entry > versions = VersionCatalog.query(
+                        ModPackConstants.MOD_LOADER_NEOFORGE, null, null );
+                if ( versions.isEmpty() ) {
+                    updateStatus( LocalizationManager.get( "editor.status.noVersionList" ) );
+                    return;
+                }
 
                 List< String > entries = new ArrayList<>();
                 Map< String, String > entryToUrl = new HashMap<>();
-                for ( String version : versions ) {
-                    String mcVersion = neoForgeMcVersionFor( version );
-                    String label = mcVersion != null
-                            ? "MC " + mcVersion + " - NeoForge " + version
-                            : "NeoForge " + version;
-                    String url = "https://maven.neoforged.net/releases/net/neoforged/neoforge/"
-                            + version + "/neoforge-" + version + "-installer.jar";
+                for ( VersionCatalog.Entry version : versions ) {
+                    String label = "MC " + version.mcVersion() + " - NeoForge " + version.version();
                     entries.add( label );
-                    entryToUrl.put( label, url );
+                    entryToUrl.put( label, version.url() );
                 }
 
                 GUIUtilities.JFXPlatformRun( () -> {
@@ -832,11 +818,11 @@ public class MCLauncherModPackEditorGui extends MCLauncherAbstractGui
     }
 
     /**
-     * Opens a Fabric version picker dialog. Queries the Fabric meta
-     * service for both the supported Minecraft versions and the loader
-     * versions, then shows one entry per (mcVersion × latest-stable
-     * loader) pair. User picks an MC version and the field is filled
-     * with the corresponding profile-JSON URL.
+     * Opens a Fabric version picker dialog. Shows the
+     * {@link VersionCatalog}'s Fabric entries — one per (mcVersion ×
+     * latest-stable loader) pair from the Fabric meta service. User
+     * picks an MC version and the field is filled with the
+     * corresponding profile-JSON URL.
      *
      * <p>No hash computation — Fabric's meta service serves profile
      * JSONs dynamically with no stable SHA-1 to pin. The launcher's
@@ -849,50 +835,22 @@ public class MCLauncherModPackEditorGui extends MCLauncherAbstractGui
         SystemUtilities.spawnNewTask( () -> {
             try {
                 updateStatus( LocalizationManager.get( "editor.status.fetchingFabric" ) );
-                String gameJson = NetworkUtilities.downloadFileFromURL(
-                        "https://meta.fabricmc.net/v2/versions/game" );
-                String loaderJson = NetworkUtilities.downloadFileFromURL(
-                        "https://meta.fabricmc.net/v2/versions/loader" );
-
-                JsonArray games = JSONUtilities.getGson().fromJson( gameJson, JsonArray.class );
-                JsonArray loaders = JSONUtilities.getGson().fromJson( loaderJson, JsonArray.class );
-
-                // Pick the latest stable loader as the default pairing.
-                // The meta service returns loaders newest-first; the
-                // first entry with stable=true is what we want.
-                String latestLoader = null;
-                for ( JsonElement el : loaders ) {
-                    JsonObject obj = el.getAsJsonObject();
-                    if ( obj.has( "stable" ) && obj.get( "stable" ).getAsBoolean() ) {
-                        latestLoader = obj.get( "version" ).getAsString();
-                        break;
-                    }
-                }
-                // Fall back to the very first loader if no stable found
-                // (shouldn't happen on a healthy meta service).
-                if ( latestLoader == null && loaders.size() > 0 ) {
-                    latestLoader = loaders.get( 0 ).getAsJsonObject().get( "version" ).getAsString();
-                }
-                if ( latestLoader == null ) {
+                // The catalog pairs each MC version with the latest stable
+                // loader. Only stable MC releases are listed — snapshots are
+                // noise in a "set up a new modpack" workflow.
+                List< VersionCatalog.Entry > versions = VersionCatalog.query(
+                        ModPackConstants.MOD_LOADER_FABRIC, null, VersionCatalog.CHANNEL_RELEASE );
+                if ( versions.isEmpty() ) {
                     updateStatus( LocalizationManager.get( "editor.status.fabricNoLoaders" ) );
                     return;
                 }
-                final String loaderVersion = latestLoader;
 
-                // Only list stable MC releases — snapshots are noise in
-                // a "set up a new modpack" workflow. Order is newest-
-                // first per the meta service's convention.
                 List< String > entries = new ArrayList<>();
                 Map< String, String > entryToUrl = new HashMap<>();
-                for ( JsonElement el : games ) {
-                    JsonObject obj = el.getAsJsonObject();
-                    if ( obj.has( "stable" ) && !obj.get( "stable" ).getAsBoolean() ) continue;
-                    String mcVersion = obj.get( "version" ).getAsString();
-                    String label = "MC " + mcVersion + " - Fabric loader " + loaderVersion;
-                    String url = "https://meta.fabricmc.net/v2/versions/loader/" + mcVersion
-                            + "/" + loaderVersion + "/profile/json";
+                for ( VersionCatalog.Entry version : versions ) {
+                    String label = "MC " + version.mcVersion() + " - Fabric loader " + version.version();
                     entries.add( label );
-                    entryToUrl.put( label, url );
+                    entryToUrl.put( label, version.url() );
                 }
 
                 GUIUtilities.JFXPlatformRun( () -> {
@@ -923,33 +881,9 @@ public class MCLauncherModPackEditorGui extends MCLauncherAbstractGui
         } );
     }
 
-    /** Derive the matching Minecraft version from a NeoForge version
-     *  string. NeoForge versions follow {@code MAJOR.MINOR.PATCH}
-     *  where {@code MAJOR.MINOR} maps to MC {@code 1.MAJOR.MINOR}
-     *  — e.g. {@code 21.1.95} → MC {@code 1.21.1}, {@code 20.4.190}
-     *  → MC {@code 1.20.4}. Returns null for unparseable inputs so
-     *  the picker label gracefully falls back to "NeoForge X.Y.Z"
-     *  without the MC prefix. */
-    private static String neoForgeMcVersionFor( String neoForgeVersion )
-    {
-        if ( neoForgeVersion == null ) return null;
-        String[] parts = neoForgeVersion.split( "\\." );
-        if ( parts.length < 2 ) return null;
-        try {
-            int major = Integer.parseInt( parts[ 0 ] );
-            int minor = Integer.parseInt( parts[ 1 ] );
-            // The .0 minor was used as "first release for this MC major"
-            // historically — read it as 1.MAJOR (no .minor suffix).
-            return minor == 0 ? "1." + major : "1." + major + "." + minor;
-        }
-        catch ( NumberFormatException nfe ) {
-            return null;
-        }
-    }
-
     /**
-     * Opens a Forge version picker dialog. Fetches available versions from the Forge Maven promotions API, displays
-     * them grouped by Minecraft version, and auto-populates the Forge URL and hash fields.
+     * Opens a Forge version picker dialog. Lists the Forge promotions saved in the {@link VersionCatalog}, grouped by
+     * Minecraft version, and auto-populates the Forge URL and hash fields.
      */
     private void pickForgeVersion()
     {
@@ -965,35 +899,6 @@ public class MCLauncherModPackEditorGui extends MCLauncherAbstractGui
         SystemUtilities.spawnNewTask( () -> {
             try {
                 updateStatus( LocalizationManager.get( "editor.status.fetchingForge" ) );
-                String json = NetworkUtilities.downloadFileFromURL(
-                        "https://files.minecraftforge.net/net/minecraftforge/forge/promotions_slim.json" );
-                JsonObject promos = JSONUtilities.getGson().fromJson( json, JsonObject.class )
-                                                  .getAsJsonObject( "promos" );
-
-                // Build list of entries: "MC x.y.z - Forge a.b.c (recommended)" etc.
-                List< String > entries = new ArrayList<>();
-                Map< String, String > entryToForgeUrl = new HashMap<>();
-
-                // Collect unique MC versions and their forge versions
-                Map< String, String > recommended = new HashMap<>();
-                Map< String, String > latest = new HashMap<>();
-                for ( Map.Entry< String, JsonElement > entry : promos.entrySet() ) {
-                    String key = entry.getKey();
-                    String forgeVer = entry.getValue().getAsString();
-                    if ( key.endsWith( "-recommended" ) ) {
-                        String mcVer = key.replace( "-recommended", "" );
-                        recommended.put( mcVer, forgeVer );
-                    }
-                    else if ( key.endsWith( "-latest" ) ) {
-                        String mcVer = key.replace( "-latest", "" );
-                        latest.put( mcVer, forgeVer );
-                    }
-                }
-
-                // Build display entries, recommended first
-                List< String > mcVersions = new ArrayList<>( latest.keySet() );
-                mcVersions.sort( ( a, b ) -> com.micatechnologies.minecraft.launcher.utilities.VersionUtilities
-                        .compareVersionNumbers( b, a ) );
 
                 // Narrow the list when the editor has a non-blank Minecraft
                 // version AND the promotions feed actually has that version.
@@ -1001,32 +906,26 @@ public class MCLauncherModPackEditorGui extends MCLauncherAbstractGui
                 // tracking it, or the user typed a typo), fall back to the
                 // unfiltered list so they can still pick something workable.
                 String trimmed = mcPrefilter == null ? "" : mcPrefilter.trim();
-                if ( !trimmed.isEmpty() && mcVersions.contains( trimmed ) ) {
-                    mcVersions = List.of( trimmed );
+                List< VersionCatalog.Entry > versions = trimmed.isEmpty()
+                        ? List.of()
+                        : VersionCatalog.query( ModPackConstants.MOD_LOADER_FORGE, trimmed, null );
+                if ( versions.isEmpty() ) {
+                    versions = VersionCatalog.query( ModPackConstants.MOD_LOADER_FORGE, null, null );
+                }
+                if ( versions.isEmpty() ) {
+                    updateStatus( LocalizationManager.get( "editor.status.noVersionList" ) );
+                    return;
                 }
 
-                for ( String mcVer : mcVersions ) {
-                    if ( recommended.containsKey( mcVer ) ) {
-                        String forgeVer = recommended.get( mcVer );
-                        String label = "MC " + mcVer + " - Forge " + forgeVer + " (recommended)";
-                        String url = "https://maven.minecraftforge.net/net/minecraftforge/forge/" +
-                                mcVer + "-" + forgeVer + "/forge-" + mcVer + "-" + forgeVer + "-installer.jar";
-                        entries.add( label );
-                        entryToForgeUrl.put( label, url );
-                    }
-                    if ( latest.containsKey( mcVer ) ) {
-                        String forgeVer = latest.get( mcVer );
-                        String recVer = recommended.get( mcVer );
-                        // Skip if latest == recommended (already listed)
-                        if ( recVer != null && recVer.equals( forgeVer ) ) {
-                            continue;
-                        }
-                        String label = "MC " + mcVer + " - Forge " + forgeVer + " (latest)";
-                        String url = "https://maven.minecraftforge.net/net/minecraftforge/forge/" +
-                                mcVer + "-" + forgeVer + "/forge-" + mcVer + "-" + forgeVer + "-installer.jar";
-                        entries.add( label );
-                        entryToForgeUrl.put( label, url );
-                    }
+                // "MC x.y.z - Forge a.b.c (recommended)" etc.; the catalog
+                // lists recommended before latest for each MC version.
+                List< String > entries = new ArrayList<>();
+                Map< String, String > entryToForgeUrl = new HashMap<>();
+                for ( VersionCatalog.Entry version : versions ) {
+                    String label = "MC " + version.mcVersion() + " - Forge " + version.version() + " ("
+                            + version.channel() + ")";
+                    entries.add( label );
+                    entryToForgeUrl.put( label, version.url() );
                 }
 
                 GUIUtilities.JFXPlatformRun( () -> {
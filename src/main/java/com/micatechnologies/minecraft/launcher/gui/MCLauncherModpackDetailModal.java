@@ -25,9 +25,11 @@ import com.micatechnologies.minecraft.launcher.files.Logger;
 import com.micatechnologies.minecraft.launcher.game.modpack.GameModPack;
 import com.micatechnologies.minecraft.launcher.game.modpack.ModPackAuditLog;
 import com.micatechnologies.minecraft.launcher.game.modpack.ModPackUpdateLog;
+import com.micatechnologies.minecraft.launcher.game.modpack.ModpackBackupManager;
 import com.micatechnologies.minecraft.launcher.system.DesktopShortcutManager;
 import com.micatechnologies.minecraft.launcher.utilities.AnnouncementManager;
 import com.micatechnologies.minecraft.launcher.utilities.DiscordRpcUtility;
+import com.micatechnologies.minecraft.launcher.utilities.FxAsyncTask;
 import com.micatechnologies.minecraft.launcher.utilities.NotificationManager;
 import com.micatechnologies.minecraft.launcher.utilities.SystemUtilities;
 import io.github.palexdev.materialfx.controls.MFXButton;
@@ -680,6 +682,7 @@ public class MCLauncherModpackDetailModal extends StackPane
                 b.add( () -> ModpackContentBrowser.buildScreenshotsSection( pack, this::buildSectionBox, this ) );
                 b.add( () -> ModpackContentBrowser.buildShaderPacksSection( pack, this::buildSectionBox ) );
                 b.add( () -> ModpackContentBrowser.buildResourcePacksSection( pack, this::buildSectionBox ) );
+                b.add( () -> ModpackContentBrowser.buildDiskUsageSection( pack, this::buildSectionBox ) );
             }
             case TAB_ACTIVITY -> {
                 b.add( () -> buildUpdateLogSection( pack ) );
@@ -1223,6 +1226,8 @@ public class MCLauncherModpackDetailModal extends StackPane
         grid.getChildren().add( buildQuickActionBtn(
                 com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager.get( "detailModal.exportPack.label" ),
                 () -> showSmartExportDialog( pack ) ) );
+        grid.getChildren().add( buildQuickActionBtn( LocalizationManager.get( "modal.quickAction.restoreBackup" ),
+                () -> showRestoreBackupDialog( pack ) ) );
 
         // Copy Invite Link — only enabled when the pack has something to invite to.
         MFXButton inviteBtn = buildQuickActionBtn( LocalizationManager.get( "modal.quickAction.copyInvite" ),
@@ -1238,6 +1243,50 @@ public class MCLauncherModpackDetailModal extends StackPane
         return section;
     }
 
+    /**
+     * Lets the user pick one of the pack's backup snapshots (taken before each
+     * update by {@link ModpackBackupManager}) and restores it into the pack.
+     * Listing and restoring both run off the FX thread. Refused while a game
+     * is running, since the game holds the config and save files open.
+     *
+     * @param pack the pack whose backups to restore; a {@code null} pack is a no-op
+     */
+    private static void showRestoreBackupDialog( GameModPack pack )
+    {
+        if ( pack == null || pack.getPackRootFolder() == null ) return;
+        if ( LauncherCore.isGameRunning() ) {
+            NotificationManager.error( LocalizationManager.get( "detailModal.restoreBackup.failed" ),
+                                       LocalizationManager.get( "detailModal.restoreBackup.gameRunning" ) );
+            return;
+        }
+        final String displayName = pack.getFriendlyName() != null ? pack.getFriendlyName() : pack.getPackName();
+        SystemUtilities.spawnNewTask( () -> {
+            List< String > ids = ModpackBackupManager.listSnapshots( pack );
+            if ( ids.isEmpty() ) {
+                NotificationManager.info( LocalizationManager.get( "detailModal.restoreBackup.none" ),
+                                          LocalizationManager.get( "detailModal.restoreBackup.noneBody" ) );
+                return;
+            }
+            GUIUtilities.JFXPlatformRun( () -> {
+                javafx.scene.control.ChoiceDialog< String > dialog =
+                        new javafx.scene.control.ChoiceDialog<>( ids.get( 0 ), ids );
+                dialog.initOwner( MCLauncherGuiController.getTopStageOrNull() );
+                dialog.setTitle( LocalizationManager.get( "detailModal.restoreBackup.title" ) );
+                dialog.setHeaderText( displayName );
+                dialog.setContentText( LocalizationManager.get( "detailModal.restoreBackup.prompt" ) );
+                dialog.showAndWait().ifPresent( id -> FxAsyncTask.run( () -> {
+                    int restored = ModpackBackupManager.restoreSnapshot( pack, id );
+                    NotificationManager.success(
+                            LocalizationManager.format( "detailModal.restoreBackup.success", id ),
+                            LocalizationManager.format( "detailModal.restoreBackup.successBody", restored,
+                                                        displayName ) );
+                }, null, err -> NotificationManager.error(
+                        LocalizationManager.get( "detailModal.restoreBackup.failed" ),
+                        LocalizationManager.format( "detailModal.restoreBackup.failedBody", err.getMessage() ) ) ) );
+            } );
+        } );
+    }
+
     /**
      * Smart-export entry point. Classifies the pack and lets the user
      * pick between the three sharing modes:
@@ -1400,9 +1449,15 @@ public class MCLauncherModpackDetailModal extends StackPane
                                        ? pack.getFriendlyName() : pack.getPackName() );
         prompt.setContentText( com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager.get(
                 "detailModal.exportPack.dialogPrompt" ) );
-        javafx.scene.control.CheckBox worldsToggle = new javafx.scene.control.CheckBox(
-                com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager.get(
-                        "detailModal.exportPack.includeWorlds" ) );
+        // Last indexed size only — the index is usually warm from the Worlds
+        // section, and a stale figure beats walking every save here.
+        com.micatechnologies.minecraft.launcher.game.modpack.DiskUsageIndex.Snapshot usage =
+                com.micatechnologies.minecraft.launcher.game.modpack.DiskUsageIndex.peek( pack );
+        long worldsBytes = usage == null ? -1 : usage.bytes( "saves" );
+        javafx.scene.control.CheckBox worldsToggle = new javafx.scene.control.CheckBox( worldsBytes > 0
+                ? LocalizationManager.format( "detailModal.exportPack.includeWorldsWithSize",
+                                              ModpackContentBrowser.humanSize( worldsBytes ) )
+                : LocalizationManager.get( "detailModal.exportPack.includeWorlds" ) );
         prompt.getDialogPane().setExpandableContent( worldsToggle );
         prompt.getDialogPane().setExpanded( true );
 
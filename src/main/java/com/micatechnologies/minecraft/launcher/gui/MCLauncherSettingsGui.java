@@ -19,6 +19,9 @@ package com.micatechnologies.minecraft.launcher.gui;
 
 import com.micatechnologies.minecraft.launcher.LauncherCore;
 import com.micatechnologies.minecraft.launcher.game.auth.MCLauncherAuthManager;
+import com.micatechnologies.minecraft.launcher.game.modpack.GameModPack;
+import com.micatechnologies.minecraft.launcher.game.modpack.GameModPackManager;
+import com.micatechnologies.minecraft.launcher.game.modpack.GcTelemetry;
 import com.micatechnologies.minecraft.launcher.config.ConfigManager;
 import com.micatechnologies.minecraft.launcher.consts.ConfigConstants;
 import com.micatechnologies.minecraft.launcher.consts.LauncherConstants;
@@ -30,6 +33,7 @@ import com.micatechnologies.minecraft.launcher.files.RuntimeManager;
 import com.micatechnologies.minecraft.launcher.files.SynchronizedFileManager;
 import com.micatechnologies.minecraft.launcher.utilities.AnnouncementManager;
 import com.micatechnologies.minecraft.launcher.utilities.DiscordRpcUtility;
+import com.micatechnologies.minecraft.launcher.utilities.HardwareTunedJvmArgs;
 import com.micatechnologies.minecraft.launcher.utilities.NetworkUtilities;
 import com.micatechnologies.minecraft.launcher.utilities.SystemUtilities;
 import io.github.palexdev.materialfx.controls.MFXButton;
@@ -322,6 +326,24 @@ public class MCLauncherSettingsGui extends MCLauncherAbstractGui
     @FXML
     javafx.scene.control.Label generateJvmArgsHint;
 
+    /** Game tab: why the GC recommendation for the most recently played pack differs from the
+     *  hardware-only one, from that pack's recorded GC sessions; hidden when there is nothing to say. */
+    @SuppressWarnings( "unused" )
+    @FXML
+    javafx.scene.control.Label gcTuningReasons;
+
+    /** Game tab: applies each pack's GC tuning on launch once it has enough recorded sessions. Backed by
+     *  {@link ConfigManager#getGcAutoTuneEnable}. */
+    @SuppressWarnings( "unused" )
+    @FXML
+    MFXToggleButton gcAutoTuneCheckBox;
+
+    /** Game tab: streams live JFR telemetry from the game into the console window's charts. Backed by
+     *  {@link ConfigManager#getGameJfrTelemetryEnable}. */
+    @SuppressWarnings( "unused" )
+    @FXML
+    MFXToggleButton gameJfrTelemetryCheckBox;
+
     // Pack-backup policy controls (Advanced tab). All four persist immediately via change
     // listeners rather than waiting for the Save button.
 
@@ -671,6 +693,45 @@ public class MCLauncherSettingsGui extends MCLauncherAbstractGui
         return ( int ) Math.max( 1L, Math.round( gb ) );
     }
 
+    /**
+     * The installed pack played most recently, whose recorded GC sessions tune the JVM-args
+     * recommendation; {@code null} when nothing has been played yet.
+     *
+     * @return the last-played pack, or {@code null}
+     */
+    private static GameModPack lastPlayedPack()
+    {
+        GameModPack last = null;
+        for ( GameModPack pack : GameModPackManager.getInstalledModPacks() ) {
+            if ( pack.getLastPlayedMs() > 0 && ( last == null || pack.getLastPlayedMs() > last.getLastPlayedMs() ) ) {
+                last = pack;
+            }
+        }
+        return last;
+    }
+
+    /**
+     * The GC-telemetry-tuned recommendation for {@code pack} at {@code maxRam}, or {@code null}
+     * when there's no pack or it has no recorded sessions (the hardware-only recommendation applies).
+     *
+     * @param pack   the pack whose sessions to use, may be {@code null}
+     * @param maxRam the max heap in GB
+     *
+     * @return the tuning, or {@code null}
+     */
+    private static HardwareTunedJvmArgs.Tuning gcTuning( GameModPack pack, int maxRam )
+    {
+        if ( pack == null ) {
+            return null;
+        }
+        java.util.List< com.micatechnologies.minecraft.launcher.utilities.GcSessionStats > sessions =
+                GcTelemetry.sessions( pack.getPackRootFolder() );
+        if ( sessions.isEmpty() ) {
+            return null;
+        }
+        return HardwareTunedJvmArgs.tune( maxRam, sessions.get( sessions.size() - 1 ).javaMajor(), sessions );
+    }
+
     /**
      * Performs all one-time initialization of the Settings scene and its {@code @FXML} controls.
      *
@@ -1143,6 +1204,11 @@ public class MCLauncherSettingsGui extends MCLauncherAbstractGui
         // tuned to their box rather than the one-size-fits-most Aikar's
         // flags. The summary hint below the button shows the detected
         // inputs so the user can sanity-check.
+        //
+        // When the most recently played pack has recorded GC sessions
+        // (GcTelemetry), the recommendation is tuned by them instead and the
+        // reasons are listed under the button.
+        GameModPack tunedPack = lastPlayedPack();
         if ( generateJvmArgsBtn != null ) {
             Runnable updateHint = () -> {
                 int maxRam = currentMaxRamGb();
@@ -1150,6 +1216,18 @@ public class MCLauncherSettingsGui extends MCLauncherAbstractGui
                     generateJvmArgsHint.setText( com.micatechnologies.minecraft.launcher.utilities
                             .HardwareTunedJvmArgs.summary( maxRam ) );
                 }
+                if ( gcTuningReasons != null ) {
+                    HardwareTunedJvmArgs.Tuning tuning = gcTuning( tunedPack, maxRam );
+                    boolean show = tuning != null && !tuning.reasons().isEmpty();
+                    gcTuningReasons.setText( show
+                            ? LocalizationManager.format( "settings.gcTuning.basedOn", tunedPack.getFriendlyName(),
+                                                          GcTelemetry.sessions( tunedPack.getPackRootFolder() )
+                                                                  .size() )
+                                    + "\n\u2022 " + String.join( "\n\u2022 ", tuning.reasons() )
+                            : "" );
+                    gcTuningReasons.setVisible( show );
+                    gcTuningReasons.setManaged( show );
+                }
             };
             updateHint.run();
             // Keep the hint synced when the user changes the max-RAM
@@ -1159,8 +1237,13 @@ public class MCLauncherSettingsGui extends MCLauncherAbstractGui
                     LocalizationManager.get( "tooltip.settings.generateJvmArgs" ) );
             generateJvmArgsBtn.setOnAction( e -> SystemUtilities.spawnNewTask( () -> {
                 int maxRam = currentMaxRamGb();
-                String generated = com.micatechnologies.minecraft.launcher.utilities
-                        .HardwareTunedJvmArgs.generate( maxRam );
+                HardwareTunedJvmArgs.Tuning tuning = gcTuning( tunedPack, maxRam );
+                String generated = tuning != null ? tuning.jvmArgs() : HardwareTunedJvmArgs.generate( maxRam );
+                if ( tuning != null && tuning.maxRamGB() != maxRam ) {
+                    // Propose the tuned heap through the spinner; it's
+                    // persisted with the rest of the form on Save.
+                    GUIUtilities.JFXPlatformRun( () -> maxRamGb.getValueFactory().setValue( (double) tuning.maxRamGB() ) );
+                }
                 // Persist as customJvmArgs. The combo box's current
                 // selection is left alone; the "matched" detection on
                 // next Settings load will show "Performance" since the
@@ -1179,6 +1262,13 @@ public class MCLauncherSettingsGui extends MCLauncherAbstractGui
         // Set and configure in-game console check box
         inGameConsoleCheckBox.setSelected( ConfigManager.getInGameConsoleEnable() );
 
+        if ( gcAutoTuneCheckBox != null ) {
+            gcAutoTuneCheckBox.setSelected( ConfigManager.getGcAutoTuneEnable() );
+        }
+        if ( gameJfrTelemetryCheckBox != null ) {
+            gameJfrTelemetryCheckBox.setSelected( ConfigManager.getGameJfrTelemetryEnable() );
+        }
+
         // Console log buffer-size dropdown. Presets live in ConfigConstants;
         // 0 maps to "Unlimited". Selection saved through the existing Save
         // button so it follows the rest of the settings flow.
@@ -2217,6 +2307,13 @@ public class MCLauncherSettingsGui extends MCLauncherAbstractGui
                 LocalizationManager.get( "tooltip.settings.enhancedLogging" ) );
         TooltipManager.install( inGameConsoleCheckBox,
                 LocalizationManager.get( "tooltip.settings.inGameConsole" ) );
+        if ( gcAutoTuneCheckBox != null ) {
+            TooltipManager.install( gcAutoTuneCheckBox, LocalizationManager.get( "tooltip.settings.gcAutoTune" ) );
+        }
+        if ( gameJfrTelemetryCheckBox != null ) {
+            TooltipManager.install( gameJfrTelemetryCheckBox,
+                                    LocalizationManager.get( "tooltip.settings.gameJfrTelemetry" ) );
+        }
         TooltipManager.install( batteryThrottleCheckBox,
                 LocalizationManager.get( "tooltip.settings.batteryThrottle" ) );
         TooltipManager.install( themeSelection, LocalizationManager.get( "tooltip.settings.theme" ) );
@@ -2363,6 +2460,12 @@ public class MCLauncherSettingsGui extends MCLauncherAbstractGui
         // Store enhanced logging to config
         ConfigManager.setEnhancedLogging( enhancedLoggingCheckBox.isSelected() );
         ConfigManager.setInGameConsoleEnable( inGameConsoleCheckBox.isSelected() );
+        if ( gcAutoTuneCheckBox != null ) {
+            ConfigManager.setGcAutoTuneEnable( gcAutoTuneCheckBox.isSelected() );
+        }
+        if ( gameJfrTelemetryCheckBox != null ) {
+            ConfigManager.setGameJfrTelemetryEnable( gameJfrTelemetryCheckBox.isSelected() );
+        }
 
         // Console log buffer-size: map selected label back to its
         // preset value via index. Falls through silently when
@@ -2517,6 +2620,10 @@ public class MCLauncherSettingsGui extends MCLauncherAbstractGui
         if ( windowResizeCheckBox.isSelected() != ConfigManager.getResizableWindows() ) return true;
         if ( enhancedLoggingCheckBox.isSelected() != ConfigManager.getEnhancedLogging() ) return true;
         if ( inGameConsoleCheckBox.isSelected() != ConfigManager.getInGameConsoleEnable() ) return true;
+        if ( gcAutoTuneCheckBox != null
+                && gcAutoTuneCheckBox.isSelected() != ConfigManager.getGcAutoTuneEnable() ) return true;
+        if ( gameJfrTelemetryCheckBox != null
+                && gameJfrTelemetryCheckBox.isSelected() != ConfigManager.getGameJfrTelemetryEnable() ) return true;
         if ( batteryThrottleCheckBox.isSelected() != ConfigManager.getBatteryThrottleEnable() ) return true;
         if ( lwjglArmPatchCheckBox.isSelected() != ConfigManager.getLwjglArmPatchEnable() ) return true;
         String selectedTheme = themeSelection.getSelectedItem();
@@ -20,7 +20,10 @@ package com.micatechnologies.minecraft.launcher.gui;
 import com.micatechnologies.minecraft.launcher.LauncherCore;
 import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
 import com.micatechnologies.minecraft.launcher.files.Logger;
+import com.micatechnologies.minecraft.launcher.game.modpack.DiskUsageIndex;
 import com.micatechnologies.minecraft.launcher.game.modpack.GameModPack;
+import com.micatechnologies.minecraft.launcher.game.modpack.ModMetadataIndex;
+import com.micatechnologies.minecraft.launcher.game.modpack.PrelaunchWarmup;
 import com.micatechnologies.minecraft.launcher.game.modpack.ServerFavorite;
 import com.micatechnologies.minecraft.launcher.game.modpack.ServerFavoritesStore;
 import com.micatechnologies.minecraft.launcher.utilities.DiscordRpcUtility;
@@ -32,7 +35,6 @@ import io.github.palexdev.materialfx.controls.MFXButton;
 import io.github.palexdev.materialfx.controls.MFXTextField;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Cursor;
 import javafx.scene.Node;
 import javafx.scene.SnapshotParameters;
 import javafx.scene.control.Label;
@@ -41,19 +43,17 @@ import javafx.scene.image.ImageView;
 import javafx.scene.image.WritableImage;
 import javafx.scene.input.Clipboard;
 import javafx.scene.input.ClipboardContent;
-import javafx.scene.input.MouseButton;
-import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Rectangle;
 import javafx.stage.Stage;
 
 import java.awt.Desktop;
 import java.io.File;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -171,7 +171,7 @@ public final class ModpackContentBrowser
                                return;
                            }
                            for ( File world : worlds ) {
-                               sec.getChildren().add( buildFileRow( world, true, true, owner, sec ) );
+                               sec.getChildren().add( buildFileRow( world, pack, true, owner, sec ) );
                            }
                        } );
         return section;
@@ -215,11 +215,11 @@ public final class ModpackContentBrowser
                                sec.getChildren().add( emptyLabel() );
                                return;
                            }
-                           FlowPane grid = new FlowPane( THUMB_GAP, THUMB_GAP );
-                           for ( File shot : shots ) {
-                               grid.getChildren().add( buildScreenshotTile( shot, overlayHost ) );
-                           }
-                           sec.getChildren().add( grid );
+                           // Virtualized: only tiles in the modal's viewport hold a
+                           // thumbnail, so thousands of screenshots cost a few rows.
+                           sec.getChildren().add( new ScreenshotGallery( shots, THUMB_SIZE, THUMB_GAP, shot -> {
+                               if ( overlayHost != null ) showImageViewer( shot, overlayHost );
+                           } ) );
                        } ) );
         return section;
     }
@@ -257,16 +257,22 @@ public final class ModpackContentBrowser
         // user wants to see the modal. Gated on first-expand instead.
         VBox section = sectionBox.build( LocalizationManager.get( "detailModal.section.mods" ), true );
         MCLauncherModpackDetailModal.registerOnFirstExpand( section, () -> populateAsync( section,
-                       () -> scanSortedFiles( pack, "mods",
-                                              f -> {
-                                                  if ( !f.isFile() ) return false;
-                                                  String n = f.getName().toLowerCase();
-                                                  return n.endsWith( ".jar" ) || n.endsWith( ".jar.disabled" );
-                                              },
-                                              // Group enabled + disabled together by sorting by
-                                              // case-insensitive filename — the .disabled suffix
-                                              // naturally sorts after the bare .jar.
-                                              Comparator.comparing( ( File f ) -> f.getName().toLowerCase() ) ),
+                       () -> {
+                           File[] files = scanSortedFiles( pack, "mods",
+                                                           f -> {
+                                                               if ( !f.isFile() ) return false;
+                                                               String n = f.getName().toLowerCase();
+                                                               return n.endsWith( ".jar" ) || n.endsWith( ".jar.disabled" );
+                                                           },
+                                                           // Group enabled + disabled together by sorting by
+                                                           // case-insensitive filename — the .disabled suffix
+                                                           // naturally sorts after the bare .jar.
+                                                           Comparator.comparing( ( File f ) -> f.getName().toLowerCase() ) );
+                           // Index any jars the metadata index hasn't seen yet, here on the
+                           // worker, so each row's ModMetadataIndex.peek on the FX thread is a hit.
+                           ModMetadataIndex.forPack( pack, true );
+                           return files;
+                       },
                        ( sec, mods ) -> {
                            if ( mods == null || mods.length == 0 ) {
                                sec.getChildren().add( emptyLabel() );
@@ -406,8 +412,10 @@ public final class ModpackContentBrowser
         }
     }
 
-    /** One row for a mod jar — enabled or disabled. The toggle button
-     *  renames the file between {@code foo.jar} and {@code foo.jar.disabled};
+    /** One row for a mod jar — enabled or disabled. Shows the mod's declared
+     *  name and version from {@link ModMetadataIndex} (filename in the
+     *  tooltip), or the bare filename for a jar without loader metadata.
+     *  The toggle button renames the file between {@code foo.jar} and {@code foo.jar.disabled};
      *  after the rename, the row's controls (label / button / meta) are
      *  updated in place so the user sees the new state without a modal
      *  re-render.
@@ -446,10 +454,20 @@ public final class ModpackContentBrowser
         Runnable renderRowState = () -> {
             File f = currentFile[ 0 ];
             boolean disabled = f.getName().toLowerCase().endsWith( ".jar.disabled" );
-            String displayName = disabled
+            String fileName = disabled
                     ? f.getName().substring( 0, f.getName().length() - ".disabled".length() )
                     : f.getName();
-            name.setText( displayName );
+            ModMetadataIndex.ModInfo info = ModMetadataIndex.peek( f.toPath() );
+            if ( info != null && info.name() != null ) {
+                name.setText( info.version() != null
+                        ? LocalizationManager.format( "detailModal.mods.nameVersion", info.name(), info.version() )
+                        : info.name() );
+                name.setTooltip( TooltipManager.create( fileName ) );
+            }
+            else {
+                name.setText( fileName );
+                name.setTooltip( null );
+            }
             // Dim disabled mods so the user can tell at a glance which
             // jars are active. The CSS class "muted" already lives in
             // ui-base.css.
@@ -491,6 +509,7 @@ public final class ModpackContentBrowser
         // doesn't fire two toggles in a row.
         btn.setDisable( true );
         FxAsyncTask.run( () -> {
+            PrelaunchWarmup.yieldToUserWork();
             File mod = currentFile[ 0 ];
             try {
                 boolean disabled = mod.getName().toLowerCase().endsWith( ".jar.disabled" );
@@ -574,6 +593,7 @@ public final class ModpackContentBrowser
                                         String newVersion, HBox row, MFXButton updateBtn,
                                         Label updateLabel )
     {
+        PrelaunchWarmup.yieldToUserWork();
         try {
             // Modrinth download URLs end in the filename — use it so a renamed jar lands correctly.
             String newName = downloadUrl.substring( downloadUrl.lastIndexOf( '/' ) + 1 );
@@ -651,6 +671,80 @@ public final class ModpackContentBrowser
         return buildSimplePackList( pack, "resourcepacks", "detailModal.section.resourcePacks", sectionBox );
     }
 
+    /**
+     * Breaks the pack folder's size down by top-level folder (mods, saves,
+     * .backups, logs, …), largest first, with each folder's share of the
+     * total. Sizes come from the pack's {@link DiskUsageIndex}: the last
+     * indexed breakdown renders at once and is swapped for the refreshed one
+     * when it lands. Pre-collapsed and lazily populated on first expand
+     * because a pack's first index walks every file.
+     *
+     * @param pack       the modpack whose folder is measured
+     * @param sectionBox builder supplying the collapsible section container
+     *
+     * @return the section node (a populated {@link VBox})
+     *
+     * @since 2026.7
+     */
+    public static Node buildDiskUsageSection( GameModPack pack, SectionBuilder sectionBox )
+    {
+        VBox section = sectionBox.build( LocalizationManager.get( "detailModal.section.diskUsage" ), false );
+        MCLauncherModpackDetailModal.registerOnFirstExpand( section, () -> populateAsync( section,
+                       () -> {
+                           DiskUsageIndex.Snapshot cached = DiskUsageIndex.peek( pack );
+                           return cached != null ? cached : DiskUsageIndex.refresh( pack );
+                       },
+                       ( sec, snapshot ) -> {
+                           if ( snapshot == null || snapshot.totalBytes() == 0 ) {
+                               sec.getChildren().add( emptyLabel() );
+                               return;
+                           }
+                           VBox rows = new VBox( 4 );
+                           renderDiskUsage( rows, snapshot );
+                           sec.getChildren().add( rows );
+                           FxAsyncTask.run( () -> {
+                               DiskUsageIndex.Snapshot fresh = DiskUsageIndex.refresh( pack );
+                               if ( fresh != null && fresh.scannedAt() != snapshot.scannedAt() ) {
+                                   javafx.application.Platform.runLater( () -> renderDiskUsage( rows, fresh ) );
+                               }
+                           } );
+                       } ) );
+        return section;
+    }
+
+    /** Fills {@code rows} with a total line and one row per top-level
+     *  folder of {@code snapshot}, replacing whatever was there. */
+    private static void renderDiskUsage( VBox rows, DiskUsageIndex.Snapshot snapshot )
+    {
+        rows.getChildren().clear();
+        long total = snapshot.totalBytes();
+        Label totalLabel = new Label( LocalizationManager.format( "detailModal.diskUsage.total", humanSize( total ),
+                                                                   snapshot.totalFiles() ) );
+        totalLabel.getStyleClass().add( "muted" );
+        rows.getChildren().add( totalLabel );
+        for ( DiskUsageIndex.Usage usage : snapshot.breakdown( "" ) ) {
+            HBox row = new HBox( 10 );
+            row.setAlignment( Pos.CENTER_LEFT );
+            row.getStyleClass().add( "modpackDetailContentRow" );
+            row.setPadding( new Insets( 4, 0, 4, 0 ) );
+
+            Label name = new Label( usage.name() != null
+                                            ? usage.name()
+                                            : LocalizationManager.get( "detailModal.diskUsage.looseFiles" ) );
+            name.getStyleClass().add( "modpackDetailContentName" );
+            HBox.setHgrow( name, Priority.ALWAYS );
+            name.setMaxWidth( Double.MAX_VALUE );
+
+            long percent = total == 0 ? 0 : Math.round( usage.bytes() * 100.0 / total );
+            Label meta = new Label( LocalizationManager.format( "detailModal.diskUsage.share",
+                                                                 humanSize( usage.bytes() ),
+                                                                 String.valueOf( percent ) ) );
+            meta.getStyleClass().add( "muted" );
+            row.getChildren().addAll( name, meta );
+            rows.getChildren().add( row );
+        }
+    }
+
     /**
      * Immutable snapshot of {@code server-favorites.json} for one pack, read off the FX thread.
      * Bundles the favorites list with the disable-default-server flag so a single background trip
@@ -1275,7 +1369,7 @@ public final class ModpackContentBrowser
                                return;
                            }
                            for ( File entry : entries ) {
-                               sec.getChildren().add( buildFileRow( entry, false, false, null, sec ) );
+                               sec.getChildren().add( buildFileRow( entry, null, false, null, sec ) );
                            }
                        } );
         return section;
@@ -1308,9 +1402,11 @@ public final class ModpackContentBrowser
 
     /** One-row entry for the worlds / shaderpacks / resourcepacks
      *  sections. Showing-folder-size for a deep tree (a world can be
-     *  hundreds of MB) is too slow for the FX thread, so the size
-     *  column is filled asynchronously after the row renders. */
-    private static HBox buildFileRow( File f, boolean computeSizeAsync, boolean includeDelete,
+     *  hundreds of MB) is too slow for the FX thread, so when
+     *  {@code sizePack} is given the size column is filled
+     *  asynchronously from that pack's {@link DiskUsageIndex}: the
+     *  last indexed size first, then the refreshed one if it moved. */
+    private static HBox buildFileRow( File f, GameModPack sizePack, boolean includeDelete,
                                        Stage deleteOwner, VBox sectionToRebuild )
     {
         HBox row = new HBox( 10 );
@@ -1331,12 +1427,24 @@ public final class ModpackContentBrowser
         if ( f.isFile() ) {
             meta.setText( formatMeta( f, f.length() ) );
         }
-        else if ( computeSizeAsync ) {
+        else if ( sizePack != null && sizePack.getPackRootFolder() != null ) {
             meta.setText( LocalizationManager.format( "detailModal.content.lastModified",
                                                        DATE_FORMAT.format( Instant.ofEpochMilli( f.lastModified() ) ) ) );
+            String relPath = Path.of( sizePack.getPackRootFolder() ).toAbsolutePath().normalize()
+                                 .relativize( f.toPath().toAbsolutePath().normalize() )
+                                 .toString().replace( File.separatorChar, '/' );
             FxAsyncTask.run( () -> {
-                long size = directorySize( f );
-                javafx.application.Platform.runLater( () -> meta.setText( formatMeta( f, size ) ) );
+                DiskUsageIndex.Snapshot cached = DiskUsageIndex.peek( sizePack );
+                long known = cached == null ? -1 : cached.bytes( relPath );
+                if ( known >= 0 ) {
+                    javafx.application.Platform.runLater( () -> meta.setText( formatMeta( f, known ) ) );
+                }
+                // Every row of the section asks; the index debounces to one pass.
+                DiskUsageIndex.Snapshot fresh = DiskUsageIndex.refresh( sizePack );
+                long size = fresh == null ? -1 : fresh.bytes( relPath );
+                if ( size >= 0 && size != known ) {
+                    javafx.application.Platform.runLater( () -> meta.setText( formatMeta( f, size ) ) );
+                }
             } );
         }
         else {
@@ -1385,7 +1493,7 @@ public final class ModpackContentBrowser
      *
      * @return the human-readable size string
      */
-    private static String humanSize( long bytes )
+    static String humanSize( long bytes )
     {
         if ( bytes < 1024 ) return bytes + " B";
         if ( bytes < 1024 * 1024 ) return String.format( "%.1f KB", bytes / 1024.0 );
@@ -1393,61 +1501,10 @@ public final class ModpackContentBrowser
         return String.format( "%.2f GB", bytes / 1024.0 / 1024.0 / 1024.0 );
     }
 
-    /** Best-effort recursive byte count. Errors mid-walk (permission
-     *  denied, symlink loops) are silently skipped — the meta column
-     *  is informational, not load-bearing. */
-    private static long directorySize( File dir )
-    {
-        if ( dir == null || !dir.isDirectory() ) return 0;
-        long total = 0;
-        File[] children = dir.listFiles();
-        if ( children == null ) return 0;
-        for ( File child : children ) {
-            try {
-                total += child.isDirectory() ? directorySize( child ) : child.length();
-            }
-            catch ( Exception ignored ) { /* skip unreadable nodes */ }
-        }
-        return total;
-    }
-
     // ====================================================================
-    // Screenshot thumbnails + image viewer overlay
+    // Screenshot image viewer overlay
     // ====================================================================
 
-    private static Node buildScreenshotTile( File shot, StackPane overlayHost )
-    {
-        StackPane tile = new StackPane();
-        tile.setPrefSize( THUMB_SIZE, THUMB_SIZE );
-        tile.setMinSize( THUMB_SIZE, THUMB_SIZE );
-        tile.setMaxSize( THUMB_SIZE, THUMB_SIZE );
-        tile.getStyleClass().add( "modpackDetailScreenshotTile" );
-
-        ImageView iv = new ImageView();
-        iv.setFitWidth( THUMB_SIZE );
-        iv.setFitHeight( THUMB_SIZE );
-        iv.setPreserveRatio( true );
-        iv.setSmooth( true );
-        // backgroundLoading=true so the FX thread doesn't decode the
-        // PNG bytes for every thumbnail synchronously during section
-        // build; the ImageView fades the image in once the bytes land.
-        iv.setImage( new Image( shot.toURI().toString(), THUMB_SIZE, THUMB_SIZE, true, true, true ) );
-
-        Rectangle clip = new Rectangle( THUMB_SIZE, THUMB_SIZE );
-        clip.setArcWidth( 8 );
-        clip.setArcHeight( 8 );
-        iv.setClip( clip );
-
-        tile.getChildren().add( iv );
-        tile.setCursor( Cursor.HAND );
-        tile.setOnMouseClicked( e -> {
-            if ( e.getButton() == MouseButton.PRIMARY && overlayHost != null ) {
-                showImageViewer( shot, overlayHost );
-            }
-        } );
-        return tile;
-    }
-
     /** Adds a full-screen image overlay to {@code host} with Copy
      *  Image + Show in File Explorer + Close actions. Click outside
      *  the image (or Close button) dismisses the overlay. */
@@ -1466,12 +1523,24 @@ public final class ModpackContentBrowser
         card.getStyleClass().add( "imageViewerCard" );
         card.setStyle( "-fx-background-color: -color-surface; -fx-background-radius: 12;" );
 
-        Image fullImage = new Image( imageFile.toURI().toString() );
-        ImageView fullView = new ImageView( fullImage );
-        fullView.setPreserveRatio( true );
-        // Cap displayed size at the viewport so big screenshots fit.
+        // Cap displayed size at the viewport so big screenshots fit, and
+        // decode at that size (in device pixels) rather than the original's.
         double maxWidth  = host.getWidth() * 0.85;
         double maxHeight = host.getHeight() * 0.75;
+        double outputScale = host.getScene() != null && host.getScene().getWindow() != null
+                ? host.getScene().getWindow().getOutputScaleX() : 1;
+        Image fittedImage = new Image( imageFile.toURI().toString(),
+                                       Math.max( 0, maxWidth * outputScale ),
+                                       Math.max( 0, maxHeight * outputScale ), true, true, true );
+        // The cached gallery thumbnail stands in until the fitted decode lands.
+        File thumb = ScreenshotThumbnailStore.cached( imageFile );
+        ImageView fullView = new ImageView( thumb != null ? new Image( thumb.toURI().toString() ) : fittedImage );
+        if ( thumb != null ) {
+            fittedImage.progressProperty().addListener( ( obs, was, now ) -> {
+                if ( now.doubleValue() >= 1 && !fittedImage.isError() ) fullView.setImage( fittedImage );
+            } );
+        }
+        fullView.setPreserveRatio( true );
         if ( maxWidth  > 0 ) fullView.setFitWidth( maxWidth );
         if ( maxHeight > 0 ) fullView.setFitHeight( maxHeight );
 
@@ -1482,11 +1551,18 @@ public final class ModpackContentBrowser
         copyBtn.getStyleClass().add( "primary" );
         copyBtn.setPrefHeight( 32 );
         copyBtn.setOnAction( e -> {
-            ClipboardContent content = new ClipboardContent();
-            content.putImage( fullImage );
-            Clipboard.getSystemClipboard().setContent( content );
-            copyBtn.setText( LocalizationManager.get( "detailModal.imageViewer.copied" ) );
+            // Only a copy needs the original pixels; decode them on demand, off the FX thread.
+            copyBtn.setDisable( true );
             FxAsyncTask.run( () -> {
+                Image original = new Image( imageFile.toURI().toString() );
+                javafx.application.Platform.runLater( () -> {
+                    copyBtn.setDisable( false );
+                    if ( original.isError() ) return;
+                    ClipboardContent content = new ClipboardContent();
+                    content.putImage( original );
+                    Clipboard.getSystemClipboard().setContent( content );
+                    copyBtn.setText( LocalizationManager.get( "detailModal.imageViewer.copied" ) );
+                } );
                 Thread.sleep( 1500 );
                 javafx.application.Platform.runLater( () -> copyBtn.setText(
                         LocalizationManager.get( "detailModal.imageViewer.copyImage" ) ) );
@@ -1578,6 +1654,7 @@ public final class ModpackContentBrowser
                     LocalizationManager.get( "dialog.button.cancel" ), owner );
             if ( response != 1 ) return;
             FxAsyncTask.run( () -> {
+                PrelaunchWarmup.yieldToUserWork();
                 if ( f.isDirectory() ) {
                     org.codehaus.plexus.util.FileUtils.deleteDirectory( f );
                 }
@@ -46,6 +46,11 @@ import java.util.List;
  * {@link LogoTransparencyDetector} — kept separate because it operates on the
  * already-loaded Image rather than on the path resolution.</p>
  *
+ * <p>Logos load from {@link ImageDerivativeStore}'s pre-scaled card thumbnail
+ * when one exists, so a cold paint decodes a small PNG instead of the
+ * full-resolution original. A logo without a thumbnail yet loads from the
+ * original and is queued for derivation in the background.</p>
+ *
  * @since 2026.5
  */
 public final class ModpackImageResolver
@@ -61,7 +66,7 @@ public final class ModpackImageResolver
      *  lifetime (and across the whole multi-image cycle list). Decoding to a
      *  256 px box — comfortably above any display size, so no visible blur —
      *  caps each logo at ~256 KB while preserving aspect ratio. */
-    private static final double LOGO_DECODE_SIZE = 256;
+    private static final double LOGO_DECODE_SIZE = ImageDerivativeStore.CARD_LOGO_BOX;
 
     /**
      * Returns the pack's logo as a JavaFX {@link Image} loaded from the on-disk
@@ -84,8 +89,7 @@ public final class ModpackImageResolver
             if ( path != null ) {
                 File f = new File( path );
                 if ( f.exists() ) {
-                    return new Image( f.toURI().toString(),
-                                      LOGO_DECODE_SIZE, LOGO_DECODE_SIZE, true, true, true );
+                    return loadCardLogo( f );
                 }
             }
         }
@@ -111,8 +115,7 @@ public final class ModpackImageResolver
                 if ( path == null ) continue;
                 File f = new File( path );
                 if ( f.exists() ) {
-                    images.add( new Image( f.toURI().toString(),
-                                           LOGO_DECODE_SIZE, LOGO_DECODE_SIZE, true, true, true ) );
+                    images.add( loadCardLogo( f ) );
                 }
             }
         }
@@ -206,4 +209,23 @@ public final class ModpackImageResolver
         catch ( Exception ignored ) { /* fall through to null */ }
         return null;
     }
+
+    /**
+     * Loads a cached logo for a card, preferring its persisted card-size
+     * thumbnail. On a miss the original is loaded (decoded straight into the
+     * card box) and the thumbnail is derived in the background for next time.
+     *
+     * @param cached the on-disk {@code <sha1>.png} logo
+     * @return a background-loading {@link Image} bounded by the card box
+     */
+    private static Image loadCardLogo( File cached )
+    {
+        String key = ImageDerivativeStore.keyOf( cached );
+        File thumb = ImageDerivativeStore.thumbnail( key, ImageDerivativeStore.CARD_LOGO_BOX );
+        if ( thumb != null ) {
+            return new Image( thumb.toURI().toString(), true );
+        }
+        ImageDerivativeStore.request( cached );
+        return new Image( cached.toURI().toString(), LOGO_DECODE_SIZE, LOGO_DECODE_SIZE, true, true, true );
+    }
 }
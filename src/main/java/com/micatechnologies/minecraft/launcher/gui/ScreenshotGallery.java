@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.gui;
+
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.geometry.Bounds;
+import javafx.geometry.Insets;
+import javafx.geometry.Orientation;
+import javafx.scene.Cursor;
+import javafx.scene.Parent;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.MouseButton;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
+import javafx.scene.shape.Rectangle;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Screenshot thumbnail grid that only materializes the tiles inside the
+ * enclosing {@link ScrollPane}'s viewport. The region reserves the full grid
+ * height so the scrollbar is right, but holds tile nodes — and thumbnail
+ * images — for the visible rows plus {@link #OVERSCAN_ROWS} either side.
+ * Tiles leaving that window drop their image and go back to a pool.
+ *
+ * <p>Thumbnails come from {@link ScreenshotThumbnailStore}: a hit loads the
+ * small cached JPEG, a miss is queued newest-first so the rows just scrolled
+ * to are decoded before the ones scrolled past, and a tile recycled before
+ * its decode runs cancels it.</p>
+ *
+ * @since 2026.7
+ */
+final class ScreenshotGallery extends Region
+{
+    /** Rows materialized above and below the viewport, so a short scroll
+     *  finds its tiles already bound. */
+    private static final int OVERSCAN_ROWS = 2;
+
+    /** Corner radius of each thumbnail's clip. */
+    private static final double TILE_ARC = 8;
+
+    private final File[]           shots;
+    private final double           tileSize;
+    private final double           gap;
+    private final Consumer< File > onOpen;
+
+    /** Bound tiles by screenshot index. */
+    private final Map< Integer, Tile > live = new HashMap<>();
+
+    /** Unbound tiles awaiting reuse. */
+    private final ArrayDeque< Tile > pool = new ArrayDeque<>();
+
+    /** Nearest enclosing scroll pane, tracked so a viewport resize re-runs layout. */
+    private ScrollPane viewport;
+
+    private final InvalidationListener relayout = o -> requestLayout();
+
+    /**
+     * @param shots    screenshots in display order
+     * @param tileSize side length of each square tile
+     * @param gap      horizontal and vertical gap between tiles
+     * @param onOpen   called with the screenshot when a tile is clicked
+     */
+    ScreenshotGallery( File[] shots, double tileSize, double gap, Consumer< File > onOpen )
+    {
+        this.shots = shots;
+        this.tileSize = tileSize;
+        this.gap = gap;
+        this.onOpen = onOpen;
+        // Scrolling, or a section above expanding, moves us without resizing
+        // us; the scene transform is the one signal that covers both.
+        localToSceneTransformProperty().addListener( relayout );
+        sceneProperty().addListener( ( obs, was, now ) -> {
+            if ( now == null ) {
+                // Modal closed: let go of the scroll pane and every image.
+                watch( null );
+                releaseAll();
+            }
+            else {
+                requestLayout();
+            }
+        } );
+    }
+
+    @Override
+    public Orientation getContentBias()
+    {
+        return Orientation.HORIZONTAL;
+    }
+
+    @Override
+    protected double computePrefWidth( double height )
+    {
+        Insets in = getInsets();
+        return in.getLeft() + tileSize + in.getRight();
+    }
+
+    @Override
+    protected double computePrefHeight( double width )
+    {
+        Insets in = getInsets();
+        double inner = ( width < 0 ? getWidth() : width ) - in.getLeft() - in.getRight();
+        int rows = rowCount( columns( inner ) );
+        double grid = rows == 0 ? 0 : rows * tileSize + ( rows - 1 ) * gap;
+        return in.getTop() + grid + in.getBottom();
+    }
+
+    @Override
+    protected void layoutChildren()
+    {
+        Insets in = getInsets();
+        int columns = columns( getWidth() - in.getLeft() - in.getRight() );
+        int rows = rowCount( columns );
+
+        // Visible slice of the grid, in grid coordinates. Without a scroll
+        // pane (or before the first pulse places us) everything counts.
+        double top = 0;
+        double bottom = rows * ( tileSize + gap );
+        // Reading the transform re-arms its invalidation listener for the next move.
+        getLocalToSceneTransform();
+        watch( findViewport() );
+        if ( viewport != null ) {
+            Bounds visible = sceneToLocal( viewport.localToScene( viewport.getLayoutBounds() ) );
+            if ( visible != null ) {
+                top = Math.max( top, visible.getMinY() - in.getTop() );
+                bottom = Math.min( bottom, visible.getMaxY() - in.getTop() );
+            }
+        }
+        int from = 0;
+        int to = 0;
+        if ( bottom > top ) {
+            double rowStep = tileSize + gap;
+            int firstRow = Math.max( 0, (int) Math.floor( top / rowStep ) - OVERSCAN_ROWS );
+            int lastRow = Math.min( rows - 1, (int) Math.floor( bottom / rowStep ) + OVERSCAN_ROWS );
+            from = firstRow * columns;
+            to = Math.min( shots.length, ( lastRow + 1 ) * columns );
+        }
+
+        Iterator< Map.Entry< Integer, Tile > > it = live.entrySet().iterator();
+        while ( it.hasNext() ) {
+            Map.Entry< Integer, Tile > entry = it.next();
+            if ( entry.getKey() < from || entry.getKey() >= to ) {
+                recycle( entry.getValue() );
+                it.remove();
+            }
+        }
+        for ( int i = from; i < to; i++ ) {
+            Tile tile = live.get( i );
+            if ( tile == null ) {
+                tile = pool.isEmpty() ? new Tile() : pool.pop();
+                getChildren().add( tile );
+                tile.bind( i );
+                live.put( i, tile );
+            }
+            int row = i / columns;
+            int col = i % columns;
+            tile.resizeRelocate( in.getLeft() + col * ( tileSize + gap ), in.getTop() + row * ( tileSize + gap ),
+                                 tileSize, tileSize );
+        }
+    }
+
+    private int columns( double innerWidth )
+    {
+        return Math.max( 1, (int) Math.floor( ( innerWidth + gap ) / ( tileSize + gap ) ) );
+    }
+
+    private int rowCount( int columns )
+    {
+        return ( shots.length + columns - 1 ) / columns;
+    }
+
+    private ScrollPane findViewport()
+    {
+        for ( Parent p = getParent(); p != null; p = p.getParent() ) {
+            if ( p instanceof ScrollPane scroll ) return scroll;
+        }
+        return null;
+    }
+
+    private void watch( ScrollPane scroll )
+    {
+        if ( scroll == viewport ) return;
+        if ( viewport != null ) {
+            viewport.viewportBoundsProperty().removeListener( relayout );
+        }
+        viewport = scroll;
+        if ( viewport != null ) {
+            viewport.viewportBoundsProperty().addListener( relayout );
+        }
+    }
+
+    private void recycle( Tile tile )
+    {
+        tile.unbind();
+        getChildren().remove( tile );
+        pool.push( tile );
+    }
+
+    private void releaseAll()
+    {
+        live.values().forEach( this::recycle );
+        live.clear();
+    }
+
+    /** One reusable thumbnail tile. */
+    private final class Tile extends StackPane
+    {
+        private final ImageView view = new ImageView();
+
+        /** Bound screenshot index, or -1; read by decoder threads to cancel stale jobs. */
+        private volatile int index = -1;
+
+        Tile()
+        {
+            setPrefSize( tileSize, tileSize );
+            setMinSize( tileSize, tileSize );
+            setMaxSize( tileSize, tileSize );
+            getStyleClass().add( "modpackDetailScreenshotTile" );
+            view.setFitWidth( tileSize );
+            view.setFitHeight( tileSize );
+            view.setPreserveRatio( true );
+            view.setSmooth( true );
+            Rectangle clip = new Rectangle( tileSize, tileSize );
+            clip.setArcWidth( TILE_ARC );
+            clip.setArcHeight( TILE_ARC );
+            view.setClip( clip );
+            getChildren().add( view );
+            setCursor( Cursor.HAND );
+            setOnMouseClicked( e -> {
+                int bound = index;
+                if ( e.getButton() == MouseButton.PRIMARY && bound >= 0 ) {
+                    onOpen.accept( shots[ bound ] );
+                }
+            } );
+        }
+
+        void bind( int i )
+        {
+            index = i;
+            ScreenshotThumbnailStore.request( shots[ i ], () -> index == i, thumb -> {
+                if ( Platform.isFxApplicationThread() ) {
+                    show( i, thumb );
+                }
+                else {
+                    Platform.runLater( () -> show( i, thumb ) );
+                }
+            } );
+        }
+
+        private void show( int i, File thumb )
+        {
+            if ( index != i ) return;
+            // Background loading: even a small JPEG shouldn't decode on the FX thread mid-scroll.
+            view.setImage( new Image( thumb.toURI().toString(), true ) );
+        }
+
+        void unbind()
+        {
+            index = -1;
+            view.setImage( null );
+        }
+    }
+}
@@ -0,0 +1,419 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.gui;
+
+import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
+import com.micatechnologies.minecraft.launcher.files.LocalPathManager;
+import com.micatechnologies.minecraft.launcher.files.Logger;
+import com.micatechnologies.minecraft.launcher.utilities.HashUtilities;
+import com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * On-disk cache of small JPEG thumbnails for the screenshot gallery. Before
+ * it, every open of the detail modal handed each full-size screenshot to
+ * JavaFX to decode and scale down — thousands of 4K PNGs per open for a
+ * heavily-played pack.
+ *
+ * <p>Entries are keyed by the screenshot's absolute path, size and
+ * modification time, so an overwritten file gets a new key instead of a
+ * stale thumbnail. Layout under {@code <metadata>/screenshot-thumbnails/}:
+ * one {@code <sha256>.jpg} per screenshot, at most {@link #THUMBNAIL_BOX}
+ * pixels on the long edge.</p>
+ *
+ * <p>A thumbnail's modification time doubles as its last-use time: a hit
+ * older than {@link #TOUCH_INTERVAL_MS} is touched, and once the store grows
+ * past {@link #maxStoreBytes} the least recently used thumbnails are evicted
+ * down to three quarters of it. Thumbnails of deleted or rewritten
+ * screenshots are never hit again, so they age out the same way.</p>
+ *
+ * <p>Misses go through {@link #request}: a newest-first queue drained by at
+ * most {@link #MAX_DECODERS} workers on the CPU pool. The gallery requests a
+ * tile when it scrolls into view, so what the user is looking at is decoded
+ * first, and a request whose tile has since scrolled away is dropped without
+ * decoding. Decodes use subsampled reads, so a 4K source is never inflated at
+ * full resolution. Pure AWT — no JavaFX types — so it runs on any thread.</p>
+ *
+ * @since 2026.7
+ */
+public final class ScreenshotThumbnailStore
+{
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ScreenshotThumbnailStore() { /* static-only */ }
+
+    /** Long edge, in pixels, of a stored thumbnail. Twice the gallery tile so
+     *  tiles stay sharp on HiDPI displays. */
+    public static final int THUMBNAIL_BOX = 200;
+
+    /** Upper bound on concurrent decodes; a full-size PNG decode is heavy on
+     *  both CPU and heap, so the gallery never fans out to every core. */
+    static final int MAX_DECODERS = Math.max( 1, Math.min( 4, Runtime.getRuntime().availableProcessors() / 2 ) );
+
+    /** Folder name under the launcher metadata folder. */
+    private static final String STORE_DIR = "screenshot-thumbnails";
+
+    /** JPEG quality for stored thumbnails. */
+    private static final float JPEG_QUALITY = 0.85f;
+
+    /** A hit refreshes the thumbnail's last-use time at most this often. */
+    static final long TOUCH_INTERVAL_MS = 24L * 60L * 60L * 1000L;
+
+    /** Soft cap on the store's total size — roughly 6,000 thumbnails. Tests lower it. */
+    static long maxStoreBytes = 64L * 1024L * 1024L;
+
+    /** Test seam: when non-null, replaces the metadata-folder location. */
+    static Path testDirOverride;
+
+    /** Running total of the store's size, or {@code -1} until first measured.
+     *  Guarded by the class monitor. */
+    private static long storeBytes = -1L;
+
+    /** One pending miss: the source, whether it's still wanted, and who to tell. */
+    private record Job( File source, BooleanSupplier wanted, Consumer< File > onReady ) {}
+
+    /** One thumbnail on disk, for eviction ordering. */
+    private record Stored( Path path, long size, long lastUsed ) {}
+
+    /** Pending misses, newest first. */
+    private static final ConcurrentLinkedDeque< Job > QUEUE = new ConcurrentLinkedDeque<>();
+
+    /** Workers currently draining {@link #QUEUE}. */
+    private static final AtomicInteger ACTIVE_DECODERS = new AtomicInteger();
+
+    // -----------------------------------------------------------------------
+    //  Lookups
+    // -----------------------------------------------------------------------
+
+    /**
+     * Returns the cached thumbnail for {@code source} without decoding
+     * anything. Costs three stats, plus a timestamp write on the first hit
+     * of a day.
+     *
+     * @param source a screenshot file
+     *
+     * @return the thumbnail file, or {@code null} on a miss
+     */
+    public static File cached( File source )
+    {
+        File thumb = thumbnailFile( source );
+        if ( thumb == null || !thumb.isFile() ) return null;
+        long now = System.currentTimeMillis();
+        if ( now - thumb.lastModified() > TOUCH_INTERVAL_MS ) {
+            // Best effort: a failed touch only makes this thumbnail an earlier eviction candidate.
+            thumb.setLastModified( now );
+        }
+        return thumb;
+    }
+
+    /**
+     * Queues {@code source} for thumbnailing and returns immediately. On a
+     * hit {@code onReady} runs on the calling thread before this returns;
+     * otherwise it runs on a decoder thread once the thumbnail is written.
+     * It is not called when the decode fails or {@code wanted} turns false
+     * before the job is reached.
+     *
+     * @param source  a screenshot file
+     * @param wanted  polled before decoding; return {@code false} once the
+     *                caller no longer needs the thumbnail (tile recycled)
+     * @param onReady receives the thumbnail file
+     */
+    public static void request( File source, BooleanSupplier wanted, Consumer< File > onReady )
+    {
+        File hit = cached( source );
+        if ( hit != null ) {
+            onReady.accept( hit );
+            return;
+        }
+        QUEUE.addFirst( new Job( source, wanted, onReady ) );
+        startDecoderIfIdle();
+    }
+
+    /**
+     * Derives the cache key for {@code source} from its path, size and
+     * modification time.
+     *
+     * @return the hex key, or {@code null} when the file is missing
+     */
+    static String key( File source )
+    {
+        long modified = source.lastModified();
+        if ( modified == 0L ) return null;
+        return HashUtilities.sha256Hex( source.getAbsolutePath() + '\n' + source.length() + '\n' + modified );
+    }
+
+    private static File thumbnailFile( File source )
+    {
+        String key = key( source );
+        return key == null ? null : storeDir().resolve( key + ".jpg" ).toFile();
+    }
+
+    // -----------------------------------------------------------------------
+    //  Decoding
+    // -----------------------------------------------------------------------
+
+    private static void startDecoderIfIdle()
+    {
+        while ( true ) {
+            int active = ACTIVE_DECODERS.get();
+            if ( active >= MAX_DECODERS || QUEUE.isEmpty() ) return;
+            if ( ACTIVE_DECODERS.compareAndSet( active, active + 1 ) ) break;
+        }
+        LauncherExecutors.execute( LauncherExecutors.Workload.CPU, ScreenshotThumbnailStore::drain );
+    }
+
+    private static void drain()
+    {
+        try {
+            Job job;
+            while ( ( job = QUEUE.pollFirst() ) != null ) {
+                if ( !job.wanted().getAsBoolean() ) continue;
+                File thumb = generate( job.source() );
+                if ( thumb != null && job.wanted().getAsBoolean() ) {
+                    job.onReady().accept( thumb );
+                }
+            }
+        }
+        finally {
+            ACTIVE_DECODERS.decrementAndGet();
+            // A request may have slipped in between the last poll and the decrement.
+            startDecoderIfIdle();
+        }
+    }
+
+    /**
+     * Writes the thumbnail for {@code source} unless it already exists.
+     * Blocking; never throws.
+     *
+     * @return the thumbnail file, or {@code null} when the source can't be decoded
+     */
+    static File generate( File source )
+    {
+        File thumb = thumbnailFile( source );
+        if ( thumb == null ) return null;
+        if ( thumb.isFile() ) return thumb;
+        try {
+            BufferedImage decoded = readSubsampled( source, THUMBNAIL_BOX );
+            if ( decoded == null ) return null;
+            BufferedImage scaled = ImageDerivativeStore.scaleToFit( decoded, THUMBNAIL_BOX );
+            Path dir = thumb.toPath().getParent();
+            Files.createDirectories( dir );
+            Path tmp = Files.createTempFile( dir, thumb.getName(), ".tmp" );
+            try {
+                writeJpeg( toRgb( scaled ), tmp.toFile() );
+                moveIntoPlace( tmp, thumb.toPath() );
+            }
+            finally {
+                Files.deleteIfExists( tmp );
+            }
+            noteWritten( dir, thumb.length() );
+            return thumb;
+        }
+        catch ( Exception e ) {
+            Logger.logWarningSilent( LocalizationManager.format( "log.screenshotThumbnail.failed",
+                                                                 source.getName(), e ) );
+            return null;
+        }
+    }
+
+    /**
+     * Decodes {@code source} skipping rows and columns so the result is no
+     * smaller than twice {@code box} on the long edge — enough headroom for a
+     * bicubic downscale that doesn't alias.
+     *
+     * @return the decoded image, or {@code null} when no reader accepts the file
+     */
+    static BufferedImage readSubsampled( File source, int box ) throws IOException
+    {
+        try ( ImageInputStream in = ImageIO.createImageInputStream( source ) ) {
+            if ( in == null ) return null;
+            Iterator< ImageReader > readers = ImageIO.getImageReaders( in );
+            if ( !readers.hasNext() ) return null;
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput( in, true, true );
+                int longEdge = Math.max( reader.getWidth( 0 ), reader.getHeight( 0 ) );
+                int step = subsampleStep( longEdge, box );
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling( step, step, 0, 0 );
+                return reader.read( 0, param );
+            }
+            finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /** Largest whole-pixel stride that keeps {@code longEdge} at least {@code 2 * box}. */
+    static int subsampleStep( int longEdge, int box )
+    {
+        return Math.max( 1, longEdge / ( 2 * box ) );
+    }
+
+    /** JPEG has no alpha channel; game screenshots are opaque, so nothing is lost. */
+    private static BufferedImage toRgb( BufferedImage src )
+    {
+        if ( src.getType() == BufferedImage.TYPE_INT_RGB ) return src;
+        BufferedImage out = new BufferedImage( src.getWidth(), src.getHeight(), BufferedImage.TYPE_INT_RGB );
+        Graphics2D g = out.createGraphics();
+        try {
+            g.drawImage( src, 0, 0, null );
+        }
+        finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    private static void writeJpeg( BufferedImage image, File target ) throws IOException
+    {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName( "jpeg" ).next();
+        try ( ImageOutputStream out = ImageIO.createImageOutputStream( target ) ) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode( ImageWriteParam.MODE_EXPLICIT );
+            param.setCompressionQuality( JPEG_QUALITY );
+            writer.setOutput( out );
+            writer.write( null, new IIOImage( image, null, null ), param );
+        }
+        finally {
+            writer.dispose();
+        }
+    }
+
+    // -----------------------------------------------------------------------
+    //  Eviction
+    // -----------------------------------------------------------------------
+
+    /**
+     * Adds a freshly written thumbnail to the running total, measuring the
+     * store on first use, and evicts once the total passes the cap.
+     *
+     * @param dir   the store folder
+     * @param bytes size of the thumbnail just written
+     */
+    private static synchronized void noteWritten( Path dir, long bytes )
+    {
+        storeBytes = storeBytes < 0L ? evict( dir, Long.MAX_VALUE ) : storeBytes + bytes;
+        if ( storeBytes > maxStoreBytes ) {
+            storeBytes = evict( dir, maxStoreBytes / 4L * 3L );
+        }
+    }
+
+    /**
+     * Deletes the least recently used thumbnails until the store is no larger
+     * than {@code targetBytes}. With {@link Long#MAX_VALUE} it only measures.
+     *
+     * @param dir         the store folder
+     * @param targetBytes size to shrink the store to
+     *
+     * @return the store's size afterwards
+     */
+    static long evict( Path dir, long targetBytes )
+    {
+        List< Stored > entries = new ArrayList<>();
+        long total = 0L;
+        try ( DirectoryStream< Path > files = Files.newDirectoryStream( dir, "*.jpg" ) ) {
+            for ( Path p : files ) {
+                try {
+                    Stored e = new Stored( p, Files.size( p ), Files.getLastModifiedTime( p ).toMillis() );
+                    entries.add( e );
+                    total += e.size();
+                }
+                catch ( IOException ignored ) {
+                    // Evicted by a concurrent pass.
+                }
+            }
+        }
+        catch ( IOException e ) {
+            Logger.logWarningSilent( LocalizationManager.format( "log.screenshotThumbnail.listFailed",
+                                                                 e.getMessage() ) );
+            return total;
+        }
+        if ( total <= targetBytes ) return total;
+        entries.sort( Comparator.comparingLong( Stored::lastUsed ) );
+        int evicted = 0;
+        for ( Stored e : entries ) {
+            if ( total <= targetBytes ) break;
+            try {
+                Files.deleteIfExists( e.path() );
+                total -= e.size();
+                evicted++;
+            }
+            catch ( IOException ex ) {
+                // Open in the gallery on Windows; the next pass retries.
+                Logger.logDebug( LocalizationManager.format( "log.screenshotThumbnail.evictFailed",
+                                                             e.path().getFileName(), ex.getMessage() ) );
+            }
+        }
+        Logger.logDebug( LocalizationManager.format( "log.screenshotThumbnail.evicted", evicted, total ) );
+        return total;
+    }
+
+    /**
+     * Forgets the measured store size. For tests that point the store at a
+     * new folder.
+     */
+    static synchronized void dropCachedState()
+    {
+        storeBytes = -1L;
+    }
+
+    private static Path storeDir()
+    {
+        Path base = testDirOverride != null
+                ? testDirOverride
+                : Path.of( LocalPathManager.getLauncherMetadataFolderPath() );
+        return base.resolve( STORE_DIR );
+    }
+
+    private static void moveIntoPlace( Path tmp, Path target ) throws IOException
+    {
+        try {
+            Files.move( tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+        }
+        catch ( AtomicMoveNotSupportedException e ) {
+            Files.move( tmp, target, StandardCopyOption.REPLACE_EXISTING );
+        }
+    }
+}
@@ -45,9 +45,12 @@ package com.micatechnologies.minecraft.launcher.rgb;
  *
  * <h3>Threading</h3>
  *
- * <p>All method calls are dispatched on the dedicated RGB worker thread
- * ({@code mica-rgb}). Implementations don't need internal synchronization
- * for state mutated only via these methods.</p>
+ * <p>Each backend gets its own render lane thread
+ * ({@code mica-rgb-<name>}); every {@link #renderFrame} call for a given
+ * backend is made on that one thread, and {@link #start}/{@link #shutdown}
+ * never overlap it. Implementations don't need internal synchronization
+ * for state mutated only via these methods, and a slow backend only ever
+ * slows its own lane.</p>
  *
  * @since 2026.5
  */
@@ -72,8 +75,13 @@ public interface RgbBackend
 
     /** Apply {@code frame} to the connected device(s). Backends should
      *  render the frame's background color across the whole device,
-     *  then overlay per-key overrides. May throw — the controller's
-     *  circuit breaker handles repeated failures. */
+     *  then overlay per-key overrides — reading the packed
+     *  {@link RgbFrame#backgroundRgb()} / {@link RgbFrame#overrideMask()}
+     *  / {@link RgbFrame#rgbAt(int)} accessors into buffers sized in
+     *  {@link #start()}, so a steady stream of frames allocates nothing.
+     *  The frame may be the lane's reusable snapshot: don't retain it past
+     *  this call. May throw — the controller's circuit breaker handles
+     *  repeated failures. */
     void renderFrame( RgbFrame frame ) throws Exception;
 
     /** Release resources, restore any saved device state, close
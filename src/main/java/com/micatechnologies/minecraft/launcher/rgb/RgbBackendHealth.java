@@ -38,8 +38,8 @@ package com.micatechnologies.minecraft.launcher.rgb;
  * every call should land in DEAD within a few seconds rather than spinning
  * on retries for the rest of the launcher session.</p>
  *
- * <p>All state mutation is synchronized — the controller's worker thread
- * is the only mutator in practice, but the Settings UI may read state for
+ * <p>All state mutation is synchronized — the backend's render lane
+ * thread is the only mutator in practice, but the Settings UI may read state for
  * the status chip from the FX thread.</p>
  *
  * @since 2026.5
@@ -192,7 +192,7 @@ public final class RgbBackendHealth
      *
      * <p>Read under the same lock that guards mutation, so the value is a
      * consistent snapshot. Primarily consulted by the Settings status chip
-     * (from the FX thread) while the RGB worker thread is the only mutator.</p>
+     * (from the FX thread) while the backend's render lane is the only mutator.</p>
      *
      * @return the current {@link State}
      *
@@ -156,6 +156,51 @@ public final class RgbColor
         return new RgbColor( r, g, bl );
     }
 
+    /**
+     * Unpacks a {@code 0x00RRGGBB} value (see {@link #packRgb()}) back into
+     * a color. Bits above the low 24 are ignored.
+     *
+     * @param rgb the packed color
+     *
+     * @return the unpacked {@link RgbColor}; {@link #BLACK} for {@code 0}
+     *
+     * @since 2026.7
+     */
+    public static RgbColor fromPacked( int rgb )
+    {
+        if ( ( rgb & 0xFFFFFF ) == 0 ) return BLACK;
+        return new RgbColor( ( rgb >> 16 ) & 0xFF, ( rgb >> 8 ) & 0xFF, rgb & 0xFF );
+    }
+
+    /**
+     * Allocation-free form of {@link #blend(RgbColor, RgbColor, double)} for
+     * packed {@code 0x00RRGGBB} values — what animated effects use on the
+     * per-tick path. Rounds exactly like {@code blend}, so both forms always
+     * agree.
+     *
+     * @param a the packed start color (returned when {@code t <= 0})
+     * @param b the packed end color (returned when {@code t >= 1})
+     * @param t the interpolation fraction; clamped to {@code [0, 1]}
+     *
+     * @return the per-channel interpolated color, packed as {@code 0x00RRGGBB}
+     *
+     * @since 2026.7
+     */
+    public static int blendPacked( int a, int b, double t )
+    {
+        double tc = Math.max( 0.0, Math.min( 1.0, t ) );
+        int r = blendChannel( ( a >> 16 ) & 0xFF, ( b >> 16 ) & 0xFF, tc );
+        int g = blendChannel( ( a >> 8 ) & 0xFF, ( b >> 8 ) & 0xFF, tc );
+        int bl = blendChannel( a & 0xFF, b & 0xFF, tc );
+        return ( r << 16 ) | ( g << 8 ) | bl;
+    }
+
+    /** One channel of {@link #blendPacked}. */
+    private static int blendChannel( int from, int to, double t )
+    {
+        return (int) Math.round( from + ( to - from ) * t );
+    }
+
     /**
      * Returns the HSL-complement (180-degree hue rotation) — used by
      * effects to produce a contrasting highlight color from a pack's
@@ -22,19 +22,19 @@ import com.micatechnologies.minecraft.launcher.files.Logger;
 import com.micatechnologies.minecraft.launcher.rgb.backends.NoOpBackend;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Singleton entry point for the RGB-integration subsystem.
  *
- * <p>Owns the dedicated {@code mica-rgb} worker thread, the bounded
- * frame queue, the active backend list, and the per-backend circuit
- * breakers. Callers ({@code LauncherCore.play}, the main GUI, effect
+ * <p>Owns one render lane (a dedicated {@code mica-rgb-<backend>} thread
+ * with a single-frame mailbox) per active backend, the active backend
+ * list, and the per-backend circuit breakers. Callers ({@code LauncherCore.play}, the main GUI, effect
  * engine) interact only with {@link #submitFrame} and the lifecycle
  * methods; they never touch a {@link RgbBackend} directly.</p>
  *
@@ -42,8 +42,8 @@ import java.util.concurrent.CopyOnWriteArrayList;
  *
  * <p>Each {@link #start(List)} call activates every backend in the
  * list whose {@code isAvailable()} probe succeeds and whose
- * {@code start()} doesn't throw. Per-frame, the worker dispatches the
- * same frame to every healthy backend in turn — so a user with both
+ * {@code start()} doesn't throw. Each submitted frame is posted to every
+ * backend's lane — so a user with both
  * Razer Chroma fans and a Windows-Dynamic-Lighting keyboard gets both
  * ecosystems lit from one effect render. Each backend has its own
  * {@link RgbBackendHealth} circuit breaker, so one vendor blowing up
@@ -67,33 +67,55 @@ import java.util.concurrent.CopyOnWriteArrayList;
  *       Three states (HEALTHY → DEGRADED → DEAD) with exponential
  *       backoff; a dead backend stops being called for the rest of the
  *       session, but its siblings keep running.</li>
- *   <li><b>Bounded queue + drop-on-full.</b> The frame queue caps at
- *       4 entries; {@link #submitFrame} returns immediately and drops
- *       frames silently rather than queueing them when the worker is
- *       stalled.</li>
+ *   <li><b>Latest-frame-wins mailboxes.</b> Each lane holds at most one
+ *       pending frame; {@link #submitFrame} overwrites it and returns
+ *       immediately, so a stalled backend never accumulates a backlog of
+ *       stale frames — when it recovers it renders the newest one.</li>
  * </ol>
  *
  * <h3>Threading model</h3>
  *
- * <p>All backend method calls happen on the single {@code mica-rgb}
- * worker thread. The FX thread, launch worker threads, and effect
- * engine threads only ever interact with the controller through
- * thread-safe entry points ({@link #submitFrame}, {@link #status()},
- * {@link #start}, {@link #stop}).</p>
+ * <p>Every {@link RgbBackend#renderFrame} call for a given backend happens
+ * on that backend's own lane thread, so backends still see a single
+ * rendering thread (and native SDKs with thread affinity keep it) while a
+ * slow one — the Chroma REST backend's HTTP PUT per frame, say — no
+ * longer delays the others. Lanes are platform threads rather than
+ * virtual threads for the same reason: JNA-backed SDK calls would pin the
+ * carrier anyway, and COM-style SDKs must not hop threads. Each lane paces
+ * itself from its backend's measured render latency (see
+ * {@link BackendSlot#frameIntervalNanos()}), so OpenRGB over TCP, native
+ * SDKs and REST endpoints each run as fast as they sustainably can.</p>
+ *
+ * <p>The FX thread, launch worker threads, and effect engine threads
+ * only ever interact with the controller through thread-safe entry
+ * points ({@link #submitFrame}, {@link #status()}, {@link #start},
+ * {@link #stop}).</p>
  *
  * @since 2026.5
  */
 public final class RgbController
 {
-    /** Maximum frames the queue holds before {@link #submitFrame} starts
-     *  dropping. Set low because a stuck backend means the keyboard is
-     *  already out of sync with reality; queueing 30+ stale frames just
-     *  amplifies the visible glitch when the backend recovers. */
-    private static final int FRAME_QUEUE_CAPACITY = 4;
+    /** Maximum time an idle lane parks before re-checking its open flag.
+     *  Submissions and {@link #stop} unpark it directly, so this only
+     *  bounds shutdown latency if a wake-up is ever missed. */
+    private static final long LANE_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos( 500L );
+
+    /** Fastest a lane renders, whatever its backend's latency: 60 fps is
+     *  already twice the effect engine's ~30 fps tick. */
+    private static final long MIN_FRAME_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos( 1 ) / 60;
+
+    /** Slowest a lane's pacing can get. A backend averaging longer than
+     *  this is simply rendered back-to-back. */
+    private static final long MAX_FRAME_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos( 500L );
 
-    /** Maximum time the worker waits on the queue before checking the
-     *  {@link #running} flag. Shutdown latency is bounded by this. */
-    private static final long QUEUE_POLL_TIMEOUT_MS = 500L;
+    /** Frame interval = measured latency x 5/4: a quarter of idle time
+     *  between calls so a REST endpoint or device firmware isn't kept
+     *  permanently saturated. */
+    private static final int LATENCY_HEADROOM_NUM = 5;
+    private static final int LATENCY_HEADROOM_DEN = 4;
+
+    /** Total time {@link #stop} waits for all lanes to exit. */
+    private static final long LANE_JOIN_BUDGET_MS = 2_000L;
 
     private static volatile RgbController INSTANCE;
 
@@ -122,18 +144,41 @@ public final class RgbController
         return local;
     }
 
-    private final LinkedBlockingQueue< RgbFrame > frameQueue =
-            new LinkedBlockingQueue<>( FRAME_QUEUE_CAPACITY );
-
-    /** Pairs a running backend with its own circuit breaker. The worker
-     *  iterates this list per frame and gives each slot independent
-     *  health tracking — one vendor going DEAD doesn't poison the
-     *  others. */
+    /** Pairs a running backend with its own circuit breaker and render
+     *  lane. Each slot has independent health tracking — one vendor going
+     *  DEAD doesn't poison the others — and its own thread, mailbox and
+     *  pacing, so one vendor being slow doesn't delay the others either. */
     private static final class BackendSlot
     {
         final RgbBackend backend;
         final RgbBackendHealth health;
 
+        /** Single-slot, latest-frame-wins mailbox. {@link #submitFrame}
+         *  overwrites it; the lane takes whatever is newest when it's
+         *  ready for another frame. */
+        final AtomicReference< RgbFrame > mailbox = new AtomicReference<>();
+
+        /** Cleared by {@link #stopWorkerAndShutdownSlots()}; per-slot
+         *  rather than the controller's {@link #running} so a lane that
+         *  outlives its join budget can't resume after a restart. */
+        volatile boolean open = true;
+
+        /** The lane thread. Assigned before {@link #running} is set, which
+         *  publishes it to {@link #submitFrame}. */
+        Thread lane;
+
+        /** Moving average of {@link RgbBackend#renderFrame} latency, in
+         *  nanoseconds. Written only by the lane thread. */
+        long avgRenderNanos;
+
+        /** Frames rendered, for the lane's exit log line. Lane thread only. */
+        long framesRendered;
+
+        /** Lane-local snapshot of {@link RgbFrame#reusable()} frames posted by
+         *  the effect engine, which keeps repainting its own buffers while a
+         *  slow backend is still mid-render. Lane thread only. */
+        final RgbFrame scratch = RgbFrame.reusable();
+
         /**
          * Constructs a new {@link BackendSlot} with the specified backend and its associated health.
          *
@@ -144,11 +189,29 @@ public final class RgbController
             this.backend = backend;
             this.health = new RgbBackendHealth();
         }
+
+        /** Folds one render's latency into the moving average (1/8 weight,
+         *  so a single slow call nudges rather than halves the rate). */
+        void recordLatency( long nanos )
+        {
+            avgRenderNanos = framesRendered++ == 0 ? nanos : avgRenderNanos + ( nanos - avgRenderNanos ) / 8;
+        }
+
+        /** This lane's adaptive frame budget: measured latency plus
+         *  headroom, clamped to [{@link #MIN_FRAME_INTERVAL_NANOS},
+         *  {@link #MAX_FRAME_INTERVAL_NANOS}]. A 2&nbsp;ms native SDK call
+         *  runs at the 60&nbsp;fps cap; a 60&nbsp;ms REST PUT settles
+         *  around 13&nbsp;fps, without slowing its siblings. */
+        long frameIntervalNanos()
+        {
+            long paced = avgRenderNanos / LATENCY_HEADROOM_DEN * LATENCY_HEADROOM_NUM;
+            return Math.max( MIN_FRAME_INTERVAL_NANOS, Math.min( MAX_FRAME_INTERVAL_NANOS, paced ) );
+        }
     }
 
-    /** Active slots. CopyOnWriteArrayList so the worker can iterate
-     *  without locking even while {@link #start} or
-     *  {@link #safelyInvoke}'s DEAD-state demotion swaps entries. */
+    /** Active slots. CopyOnWriteArrayList so {@link #submitFrame} and
+     *  {@link #status()} can iterate without locking even while
+     *  {@link #start} swaps entries. */
     private final CopyOnWriteArrayList< BackendSlot > slots = new CopyOnWriteArrayList<>();
 
     /** Backend types most recently asked for via {@link #start(List)}. 
@@ -160,14 +223,14 @@ public final class RgbController
      *  siblings every time the user toggles a Settings checkbox. */
     private List< Class< ? extends RgbBackend > > lastRequestedTypes = List.of();
 
-    /** Drives the worker loop. Flipped to false in {@link #stop}; the
-     *  worker checks it after each queue poll and exits cleanly. */
+    /** Gates {@link #submitFrame}. Set once every lane has started;
+     *  flipped to false in {@link #stop}. Lanes exit on their own
+     *  per-slot {@link BackendSlot#open} flag. */
     private volatile boolean running = false;
-    private Thread worker;
 
     /** Lazily-created effect engine. Null until the first
      *  {@link #setEffect} call needs it; nulled back out on
-     *  {@link #stop} so a subsequent restart gets a fresh scheduler. */
+     *  {@link #stop} so a subsequent restart gets a fresh engine. */
     private RgbEffectEngine effectEngine;
 
     /**
@@ -289,7 +352,7 @@ public final class RgbController
             Logger.logDebug( LocalizationManager.get( "log.rgb.controller.noBackendsStarted" ) );
             running = false;
             // No backends came up on this (re)start — tear down any stray effect
-            // engine left from a prior run so its scheduler thread doesn't tick
+            // engine left from a prior run so it doesn't keep ticking
             // forever against a stopped controller (submitFrame would just drop
             // every frame). Mirrors stop()'s engine teardown.
             if ( effectEngine != null ) {
@@ -299,10 +362,12 @@ public final class RgbController
             return;
         }
 
+        for ( BackendSlot slot : slots ) {
+            slot.lane = new Thread( () -> laneLoop( slot ), "mica-rgb-" + safeName( slot.backend ) );
+            slot.lane.setDaemon( true );
+            slot.lane.start();
+        }
         running = true;
-        worker = new Thread( this::workerLoop, "mica-rgb" );
-        worker.setDaemon( true );
-        worker.start();
         Logger.logStd( LocalizationManager.format( "log.rgb.controller.subsystemStarted", describeSlots() ) );
     }
 
@@ -314,7 +379,7 @@ public final class RgbController
     {
         if ( !running ) return;
         // Tear down the effect engine first so it stops pushing frames
-        // into the queue while we're trying to drain it.
+        // into the lanes while we're trying to stop them.
         if ( effectEngine != null ) {
             effectEngine.shutdown();
             effectEngine = null;
@@ -325,12 +390,13 @@ public final class RgbController
     }
 
     /**
-     * Push a frame for the active backends to render. Non-blocking —
-     * if the queue is full (worker stalled on a slow SDK call) the
-     * frame is dropped silently. Returns immediately on every thread
-     * including the FX thread.
+     * Push a frame for the active backends to render. Non-blocking and
+     * lock-free — the frame replaces whatever each backend's lane had
+     * pending, so a lane busy on a slow SDK call renders the newest frame
+     * when it's ready rather than working through stale ones. Returns
+     * immediately on every thread including the FX thread.
      *
-     * @param frame the frame to enqueue for rendering; {@code null} is
+     * @param frame the frame to post for rendering; {@code null} is
      *             ignored, as is any frame submitted while the
      *             controller is not running
      *
@@ -339,21 +405,24 @@ public final class RgbController
     public void submitFrame( RgbFrame frame )
     {
         if ( !running || frame == null ) return;
-        // offer (not put) — never block the caller. A full queue means
-        // the worker is wedged; queueing more frames just delays the
-        // recovery. Drop and move on.
-        frameQueue.offer( frame );
+        for ( BackendSlot slot : slots ) {
+            // Only an empty mailbox can mean a parked idle lane; a full one
+            // means the lane is already pacing toward its next render.
+            if ( slot.mailbox.getAndSet( frame ) == null ) {
+                LockSupport.unpark( slot.lane );
+            }
+        }
     }
 
     /**
      * Switch the active effect. {@code null} stops the effect engine
-     * (one final black frame, scheduler idles). Safe to call from any
+     * (one final black frame, engine idles). Safe to call from any
      * thread. No-op when the controller isn't running — callers don't
      * need to guard with {@link #status} checks.
      *
      * <p>The effect engine is created lazily on first use, so a launcher
-     * session that never enables RGB never spins up the
-     * {@code mica-rgb-effects} scheduler thread.</p>
+     * session that never enables RGB never schedules a single effect
+     * tick.</p>
      *
      * @param effect the effect to drive, or {@code null} to stop the
      *              current effect (painting one final black frame)
@@ -366,9 +435,8 @@ public final class RgbController
         RgbEffectEngine eng;
         synchronized ( this ) {
             // Stopping an effect when no engine exists is a no-op — don't lazily
-            // spin one up just to idle it. Doing so would leak the engine's
-            // scheduler thread, since stop() early-returns while !running and
-            // never tears a stray engine down.
+            // spin one up just to idle it. stop() early-returns while !running
+            // and would never tear a stray engine down.
             if ( effectEngine == null && effect == null ) {
                 return;
             }
@@ -433,7 +501,7 @@ public final class RgbController
      *
      * @param backends per-backend status snapshots in dispatch order;
      *                 the first entry is the "primary" backend
-     * @param running  whether the controller's worker is currently active
+     * @param running  whether the controller's render lanes are currently active
      *
      * @since 2026.5
      */
@@ -477,7 +545,7 @@ public final class RgbController
 
     /**
      * Returns a snapshot of the controller's current state — the active backend
-     * slots with their health, and whether the render worker is running.
+     * slots with their health, and whether the render lanes are running.
      *
      * @return a {@link Status} describing the live backends and run state
      */
@@ -496,36 +564,48 @@ public final class RgbController
     }
 
     // =========================================================================
-    //  Worker
+    //  Render lanes
     // =========================================================================
 
-    private void workerLoop()
+    /** One backend's render loop: wait for a frame, wait out this lane's
+     *  adaptive frame budget (newer frames replace the pending one
+     *  meanwhile), render the newest frame, measure, repeat. Exits when
+     *  the slot is closed or its breaker goes DEAD. */
+    private void laneLoop( BackendSlot slot )
     {
-        Logger.logDebug( LocalizationManager.get( "log.rgb.controller.workerStarted" ) );
-        while ( running ) {
-            RgbFrame frame;
-            try {
-                frame = frameQueue.poll( QUEUE_POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS );
+        String name = safeName( slot.backend );
+        Logger.logDebug( LocalizationManager.format( "log.rgb.controller.laneStarted", name ) );
+        long nextDueNanos = System.nanoTime();
+        while ( slot.open ) {
+            if ( slot.mailbox.get() == null ) {
+                LockSupport.parkNanos( this, LANE_IDLE_PARK_NANOS );
+                continue;
             }
-            catch ( InterruptedException ie ) {
-                // Shutdown signal — re-set the flag and exit the loop.
-                Thread.currentThread().interrupt();
-                break;
+            long wait = nextDueNanos - System.nanoTime();
+            if ( wait > 0 ) {
+                LockSupport.parkNanos( this, wait );
+                continue;
             }
+            RgbFrame frame = slot.mailbox.getAndSet( null );
             if ( frame == null ) continue;
-
-            long now = System.currentTimeMillis();
-            for ( BackendSlot slot : slots ) {
-                if ( !slot.health.canCall( now ) ) continue;
-                renderTo( slot, frame );
+            if ( !slot.health.canCall( System.currentTimeMillis() ) ) {
+                // Backing off: drop the frame — it would be stale by the time
+                // the breaker lets us through. DEAD is final, so stop the lane.
+                if ( slot.health.state() == RgbBackendHealth.State.DEAD ) break;
+                continue;
             }
+            long start = System.nanoTime();
+            renderTo( slot, frame.isReusable() ? slot.scratch.copyFrom( frame ) : frame );
+            slot.recordLatency( System.nanoTime() - start );
+            nextDueNanos = start + slot.frameIntervalNanos();
         }
-        Logger.logDebug( LocalizationManager.get( "log.rgb.controller.workerExiting" ) );
+        Logger.logDebug( LocalizationManager.format( "log.rgb.controller.laneExiting", name, slot.framesRendered,
+                                                     TimeUnit.NANOSECONDS.toMillis( slot.avgRenderNanos ) ) );
     }
 
     /** Render the frame to a single slot under its own circuit
-     *  breaker. Failures are isolated to this slot — the iterator in
-     *  {@link #workerLoop} keeps going. */
+     *  breaker, on that slot's lane. Failures are isolated to this
+     *  slot — sibling lanes keep going. */
     private void renderTo( BackendSlot slot, RgbFrame frame )
     {
         try {
@@ -541,7 +621,7 @@ public final class RgbController
             if ( newState == RgbBackendHealth.State.DEAD ) {
                 // Permanent for the rest of the session. Shut the backend down to
                 // release its resources, but KEEP the slot (marked DEAD) in the list:
-                // the worker skips it via canCall()==false so siblings keep running,
+                // its lane exits on canCall()==false while siblings keep running,
                 // while status()/worstHealth() and the start() short-circuit — all of
                 // which already test for DEAD — can finally see it. Dropping the slot
                 // here is what made those DEAD checks unreachable and let a dead
@@ -575,23 +655,28 @@ public final class RgbController
     }
 
     /**
-     * Stops the render worker (interrupt + bounded join), shuts down every active
-     * backend slot, and clears the pending frame queue. Used on stop/restart.
+     * Closes every render lane (flag + interrupt, then joins sharing one
+     * bounded budget), shuts down every active backend slot, and drops any
+     * pending frames. Used on stop/restart.
      */
     private void stopWorkerAndShutdownSlots()
     {
         running = false;
-        Thread w = worker;
-        if ( w != null ) {
-            w.interrupt();
-            try { w.join( 2_000L ); }
-            catch ( InterruptedException ie ) { Thread.currentThread().interrupt(); }
-            worker = null;
+        for ( BackendSlot slot : slots ) {
+            slot.open = false;
+            slot.mailbox.set( null );
+            if ( slot.lane != null ) slot.lane.interrupt();
+        }
+        long deadline = System.currentTimeMillis() + LANE_JOIN_BUDGET_MS;
+        for ( BackendSlot slot : slots ) {
+            Thread lane = slot.lane;
+            if ( lane == null ) continue;
+            try { lane.join( Math.max( 1L, deadline - System.currentTimeMillis() ) ); }
+            catch ( InterruptedException ie ) { Thread.currentThread().interrupt(); break; }
         }
         for ( BackendSlot slot : slots ) {
             safelyShutdown( slot.backend );
         }
-        frameQueue.clear();
     }
 
     /**
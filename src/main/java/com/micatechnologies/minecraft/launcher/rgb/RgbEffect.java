@@ -32,10 +32,17 @@ package com.micatechnologies.minecraft.launcher.rgb;
  * <p>Implementations must be safe to call from the engine's worker
  * thread. They should not block, should not allocate aggressively (a
  * 30fps effect engine can churn through {@code 60 * 60 * 30} frame
- * objects in an hour), and should not throw — exceptions surface in
+ * objects in an hour — animated effects override
+ * {@link #renderInto(long, RgbFrame)} to repaint the engine's buffers
+ * instead), and should not throw — exceptions surface in
  * the engine's tick loop and get routed to the silent log; effects
  * stay active but their frame for that tick is dropped.</p>
  *
+ * <p>Effects whose frame never changes over time report
+ * {@link #isAnimated()} {@code false}; the engine then renders them
+ * once and drops to a slow keepalive cadence instead of ticking at
+ * 30fps for the whole session.</p>
+ *
  * @since 2026.5
  */
 public interface RgbEffect
@@ -67,4 +74,49 @@ public interface RgbEffect
      * @since 2026.5
      */
     RgbFrame frameAt( long elapsedMs );
+
+    /**
+     * The engine's per-tick entry point: paint the frame for
+     * {@code elapsedMs} into {@code target} — one of the engine's
+     * {@link RgbFrame#reusable()} buffers — and return it, so an animated
+     * effect produces no garbage. Effects whose frame is a constant may
+     * instead return their own prebuilt immutable frame, and {@code null}
+     * still means "no change this tick".
+     *
+     * <p>The default delegates to {@link #frameAt(long)}, which is right
+     * for constant effects; animated effects should override it.</p>
+     *
+     * @param elapsedMs milliseconds elapsed since this effect was activated
+     * @param target    a reusable frame this call may repaint; only valid
+     *                  until the call returns unless it's the return value
+     *
+     * @return {@code target}, another frame, or {@code null} to skip the tick
+     *
+     * @since 2026.7
+     */
+    default RgbFrame renderInto( long elapsedMs, RgbFrame target )
+    {
+        return frameAt( elapsedMs );
+    }
+
+    /**
+     * Whether this effect's frame depends on {@code elapsedMs}. A
+     * non-animated effect promises that every call returns the same
+     * frame content, which lets {@link RgbEffectEngine} render it once
+     * and then idle at its keepalive cadence until the effect is
+     * swapped. Animated effects are ticked at the full engine rate, but
+     * ticks whose frame matches the last one submitted are still not
+     * pushed to the backends.
+     *
+     * <p>Defaults to {@code true}, which is always safe; constant
+     * effects should override it.</p>
+     *
+     * @return {@code true} if the frame varies with elapsed time
+     *
+     * @since 2026.7
+     */
+    default boolean isAnimated()
+    {
+        return true;
+    }
 }
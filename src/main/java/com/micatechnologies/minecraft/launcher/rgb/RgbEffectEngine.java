@@ -19,9 +19,8 @@ package com.micatechnologies.minecraft.launcher.rgb;
 
 import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
 import com.micatechnologies.minecraft.launcher.files.Logger;
+import com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -29,19 +28,26 @@ import java.util.concurrent.TimeUnit;
  * Drives the active {@link RgbEffect} at a fixed cadence, pushing the
  * resulting frames into {@link RgbController}.
  *
- * <p>Lives on a dedicated daemon thread (the
- * {@code mica-rgb-effects} scheduler) — separate from the controller's
- * own backend thread. The split lets the engine tick at a predictable
- * cadence regardless of how long any single backend render takes; if
- * the backend is wedged on a slow socket, the engine keeps producing
- * frames and the controller's bounded queue drops the surplus until
- * the backend recovers.</p>
+ * <p>Ticks on the launcher's shared UI lane
+ * ({@link LauncherExecutors#schedule}) — separate from the controller's
+ * per-backend render lanes. The split lets the engine tick at a
+ * predictable cadence regardless of how long any single backend render
+ * takes; if a backend is wedged on a slow socket, the engine keeps
+ * producing frames and that backend's lane simply renders the newest one
+ * once it recovers.</p>
  *
  * <p>Effects are swapped via {@link #setEffect(RgbEffect)} from any
- * thread. The change takes effect on the next tick; there's no
+ * thread. The change wakes the engine immediately; there's no
  * cross-fade in V1 (each effect just starts emitting frames from
- * elapsed time zero). When no effect is active the engine pauses its
- * scheduler — no work happens at all.</p>
+ * elapsed time zero). When no effect is active the engine schedules
+ * nothing — no work happens at all.</p>
+ *
+ * <p>Each tick is diffed against the last frame submitted, and an
+ * unchanged frame isn't pushed to the backends. An effect that isn't
+ * {@link RgbEffect#isAnimated() animated} (the in-game and solid
+ * effects) is rendered once and then re-ticked only at
+ * {@link #KEEPALIVE_INTERVAL_MS}, so a whole Minecraft session costs a
+ * wakeup every few seconds instead of 30 a second.</p>
  *
  * @since 2026.5
  */
@@ -53,6 +59,22 @@ public final class RgbEffectEngine
      *  produce. */
     private static final long TICK_INTERVAL_MS = 33L;
 
+    /** Tick interval while the active effect is static. The frame is
+     *  re-pushed at this cadence even though it hasn't changed, so a
+     *  backend that reconnected or left its failure backoff picks the
+     *  current colors back up within a few seconds. No SDK needs more:
+     *  Chroma REST's 15s session expiry is covered by its own heartbeat
+     *  thread, and the others hold the last colors indefinitely. */
+    private static final long KEEPALIVE_INTERVAL_MS = 5_000L;
+
+    /** A tick within one engine interval of the keepalive deadline counts
+     *  as the keepalive, so scheduler jitter can't defer it a full cycle. */
+    private static final long KEEPALIVE_DUE_NANOS =
+            TimeUnit.MILLISECONDS.toNanos( KEEPALIVE_INTERVAL_MS - TICK_INTERVAL_MS );
+
+    /** Final frame pushed when the engine stops; prebuilt once. */
+    private static final RgbFrame BLACK_FRAME = RgbFrame.solid( RgbColor.BLACK );
+
     /**
      * The controller this engine pushes rendered frames into via
      * {@link RgbController#submitFrame(RgbFrame)}.
@@ -61,14 +83,6 @@ public final class RgbEffectEngine
      */
     private final RgbController controller;
 
-    /**
-     * The dedicated {@code mica-rgb-effects} daemon scheduler used to
-     * schedule ticks for the active effect.
-     *
-     * @since 2026.5
-     */
-    private final ScheduledExecutorService scheduler;
-
     /**
      * Lock object used to synchronize access to shared state.
      *
@@ -91,16 +105,68 @@ public final class RgbEffectEngine
     private long effectStartMs;
 
     /**
-     * The future representing the scheduled tick task.
+     * The future representing the next scheduled tick.
      *
      * @since 2026.5
      */
     private ScheduledFuture< ? > tickFuture;
 
     /**
-     * Create an engine bound to {@code controller}. The dedicated
-     * {@code mica-rgb-effects} daemon scheduler is created immediately
-     * but stays idle — no ticks are scheduled until the first non-null
+     * Bumped under {@link #lock} on every effect change. A tick only
+     * schedules its successor if the generation it rendered is still
+     * current, so the chain started by {@link #setEffect} is the only
+     * one left running.
+     *
+     * @since 2026.7
+     */
+    private long generation;
+
+    /**
+     * Generation whose frame was last submitted; a mismatch forces the
+     * next frame out even if its content equals {@link #lastSubmitted}
+     * (the black frame pushed on stop bypasses the diff). Only touched on
+     * the UI lane, which runs one tick at a time.
+     *
+     * @since 2026.7
+     */
+    private long submittedGeneration = -1;
+
+    /**
+     * Copy of the last frame submitted, for the unchanged-frame diff.
+     * Only touched on the UI lane, which runs one tick at a time.
+     *
+     * @since 2026.7
+     */
+    private final RgbFrame lastSubmitted = RgbFrame.reusable();
+
+    /**
+     * {@link System#nanoTime()} of the last submit, for the keepalive.
+     * Only touched on the UI lane, which runs one tick at a time.
+     *
+     * @since 2026.7
+     */
+    private long lastSubmitNanos;
+
+    /**
+     * Double buffer handed to {@link RgbEffect#renderInto}. Each tick paints
+     * the buffer that wasn't submitted last, so render lanes still copying
+     * the previous frame rarely have to retry their snapshot. Only touched
+     * on the UI lane, which runs one tick at a time.
+     *
+     * @since 2026.7
+     */
+    private final RgbFrame[] buffers = { RgbFrame.reusable(), RgbFrame.reusable() };
+
+    /**
+     * Index into {@link #buffers} of the buffer the next tick paints.
+     *
+     * @since 2026.7
+     */
+    private int backBuffer;
+
+    /**
+     * Create an engine bound to {@code controller}. The engine stays
+     * idle — no ticks are scheduled until the first non-null
      * {@link #setEffect(RgbEffect)} call arms it.
      *
      * @param controller the controller this engine pushes rendered
@@ -113,11 +179,6 @@ public final class RgbEffectEngine
     public RgbEffectEngine( RgbController controller )
     {
         this.controller = controller;
-        this.scheduler = Executors.newSingleThreadScheduledExecutor( r -> {
-            Thread t = new Thread( r, "mica-rgb-effects" );
-            t.setDaemon( true );
-            return t;
-        } );
     }
 
     /**
@@ -138,29 +199,26 @@ public final class RgbEffectEngine
             if ( activeEffect == effect ) return;
             activeEffect = effect;
             effectStartMs = System.currentTimeMillis();
+            generation++;
+            cancelTickFuture();
             if ( effect == null ) {
-                cancelTickFuture();
                 // Push one final black frame so the keyboard returns
                 // to a known state instead of holding whatever the
                 // last effect's color was when it was switched away.
-                controller.submitFrame( RgbFrame.solid( RgbColor.BLACK ) );
+                controller.submitFrame( BLACK_FRAME );
                 return;
             }
-            // Lazy schedule — start ticking only when there's actually
-            // an effect to render.
-            if ( tickFuture == null ) {
-                tickFuture = scheduler.scheduleAtFixedRate( this::tick,
-                                                              0,
-                                                              TICK_INTERVAL_MS,
-                                                              TimeUnit.MILLISECONDS );
-            }
+            // Tick right away, whatever cadence the previous effect left
+            // the engine on — a static effect may have it parked for
+            // seconds.
+            tickFuture = LauncherExecutors.schedule( this::tick, 0, TimeUnit.MILLISECONDS );
         }
     }
 
     /**
      * Stops the engine (no current effect, no ticking, one final
-     * black frame pushed). The scheduler stays alive so a subsequent
-     * {@link #setEffect(RgbEffect)} call can re-arm it cheaply.
+     * black frame pushed). A subsequent {@link #setEffect(RgbEffect)}
+     * call re-arms it cheaply.
      *
      * @since 2026.5
      */
@@ -186,8 +244,10 @@ public final class RgbEffectEngine
     }
 
     /**
-     * Shut down the scheduler entirely. Called from the launcher's
-     * cleanup path on exit; after this the engine cannot be reused.
+     * Stop ticking for good, without the final black frame. Called from
+     * the launcher's cleanup path on exit; the shared UI lane itself
+     * keeps running for the rest of the launcher, so this only cancels
+     * the pending tick.
      *
      * @since 2026.5
      */
@@ -197,7 +257,6 @@ public final class RgbEffectEngine
             activeEffect = null;
             cancelTickFuture();
         }
-        scheduler.shutdownNow();
     }
 
     // =========================================================================
@@ -218,24 +277,46 @@ public final class RgbEffectEngine
     }
 
     /**
-     * Performs a single tick of the active effect, generating and
-     * submitting a frame to the controller.
+     * Performs a single tick of the active effect, painting the back
+     * buffer (or taking the effect's own constant frame) and submitting
+     * it to the controller unless it matches the last frame submitted,
+     * then schedules the next tick at the full rate or, for a static
+     * effect, at the keepalive cadence. Allocation-free for every
+     * built-in effect.
      *
      * @since 2026.5
      */
     private void tick()
     {
+        long tickStart = System.nanoTime();
         RgbEffect effect;
         long start;
+        long gen;
         synchronized ( lock ) {
             effect = activeEffect;
             start = effectStartMs;
+            gen = generation;
         }
         if ( effect == null ) return;
+        boolean animated = true;
         try {
+            animated = effect.isAnimated();
             long elapsed = System.currentTimeMillis() - start;
-            RgbFrame frame = effect.frameAt( elapsed );
-            if ( frame != null ) {
+            RgbFrame back = buffers[ backBuffer ];
+            RgbFrame frame = effect.renderInto( elapsed, back );
+            if ( frame != null && ( gen != submittedGeneration
+                    || tickStart - lastSubmitNanos >= KEEPALIVE_DUE_NANOS
+                    || !frame.equals( lastSubmitted ) ) ) {
+                if ( frame == back ) {
+                    backBuffer ^= 1;
+                }
+                if ( !animated && gen != submittedGeneration ) {
+                    Logger.logDebug( LocalizationManager.format( "log.rgb.effectIdle", safeName( effect ),
+                                                                 KEEPALIVE_INTERVAL_MS ) );
+                }
+                lastSubmitted.copyFrom( frame );
+                submittedGeneration = gen;
+                lastSubmitNanos = tickStart;
                 controller.submitFrame( frame );
             }
         }
@@ -249,6 +330,30 @@ public final class RgbEffectEngine
             // better UX than silently dropping back to a no-op.
             Logger.logWarningSilent( LocalizationManager.format( "log.rgb.effectThrewAtTick", safeName( effect ) ), t );
         }
+        // Stay at the full rate until the effect's first frame is out,
+        // so a static effect that threw or skipped its first tick retries
+        // promptly rather than after a keepalive interval.
+        long interval = animated || submittedGeneration != gen ? TICK_INTERVAL_MS : KEEPALIVE_INTERVAL_MS;
+        long spentMs = TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - tickStart );
+        scheduleNextTick( gen, Math.max( 0L, interval - spentMs ) );
+    }
+
+    /**
+     * Schedules the tick after one of generation {@code gen}, unless the
+     * effect has changed since — {@link #setEffect} has then already
+     * started the new effect's chain, or stopped the engine.
+     *
+     * @param gen     generation the finishing tick rendered
+     * @param delayMs delay before the next tick
+     *
+     * @since 2026.7
+     */
+    private void scheduleNextTick( long gen, long delayMs )
+    {
+        synchronized ( lock ) {
+            if ( gen != generation || activeEffect == null ) return;
+            tickFuture = LauncherExecutors.schedule( this::tick, delayMs, TimeUnit.MILLISECONDS );
+        }
     }
 
     /**
@@ -17,38 +17,89 @@
 
 package com.micatechnologies.minecraft.launcher.rgb;
 
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Objects;
 
 /**
  * A single rendered frame of RGB output. Carries one background color
- * (applied to every key not explicitly overridden) plus a sparse map of
- * per-key overrides (e.g. {@code W → accent} for the WASD highlight effect).
+ * (applied to every key not explicitly overridden) plus per-key overrides
+ * (e.g. {@code W → accent} for the WASD highlight effect).
  *
- * <p>Frames are pushed from the effect engine into the controller's bounded
- * queue and consumed by the active backend on the dedicated RGB worker
- * thread. Keep instances immutable + cheap to construct — the effect engine
- * may produce ~30 of these per second when an effect is running.</p>
+ * <h3>Representation</h3>
+ *
+ * <p>Colors are stored as packed {@code 0x00RRGGBB} ints: the background,
+ * plus an {@code int[]} of resolved colors indexed by
+ * {@link KeyboardKey#ordinal()} (background-filled where there's no
+ * override) and a {@code long} bit mask of which ordinals are overrides.
+ * Backends read them through {@link #backgroundRgb()},
+ * {@link #rgbAt(int)} and {@link #overrideMask()}, so the render path
+ * needs no boxed colors, no map lookups and no iterators. The
+ * {@link RgbColor}/{@link Map} accessors remain for callers off the hot
+ * path.</p>
+ *
+ * <h3>Immutable and reusable frames</h3>
+ *
+ * <p>Frames built with the public constructor or {@link #solid} are
+ * immutable and may be shared freely. {@link #reusable()} frames are
+ * pre-sized buffers that their single owner repaints in place
+ * ({@link #fill(int)}, {@link #fill(int, long, int)},
+ * {@link #copyFrom(RgbFrame)}) so steady-state rendering produces no
+ * garbage: the effect engine double-buffers two of them, and each
+ * controller render lane snapshots whatever it's handed into a lane-local
+ * one before calling its backend. Every repaint is guarded by a sequence
+ * lock, so {@link #copyFrom} always captures one whole frame even if the
+ * engine repaints the source mid-copy. Backends must treat a frame as
+ * valid only for the duration of {@link RgbBackend#renderFrame}.</p>
+ *
+ * <p>Frames are posted from the effect engine to each backend's render lane
+ * in the controller, and one instance is shared by every lane. Keep
+ * repaints cheap — the effect engine may produce ~30 frames per second
+ * when an effect is running.</p>
  *
  * @since 2026.5
  */
 public final class RgbFrame
 {
-    /**
-     * The background color applied to every key not present in {@code keyOverrides}.
-     */
-    private final RgbColor background;
+    /** Number of addressable keys — the length of every frame's key table.
+     *  Override membership is a {@code long} bit mask, so this is capped
+     *  at 64 (checked at class init). */
+    public static final int KEY_COUNT = KeyboardKey.values().length;
 
-    /**
-     * A sparse map of per-key overrides.
-     */
-    private final Map< KeyboardKey, RgbColor > keyOverrides;
+    /** Cached {@link KeyboardKey#values()} — each call clones the array. */
+    private static final KeyboardKey[] KEYS = KeyboardKey.values();
+
+    static {
+        if ( KEY_COUNT > Long.SIZE ) {
+            throw new ExceptionInInitializerError( "RgbFrame override mask holds at most 64 keys, "
+                                                           + "KeyboardKey has " + KEY_COUNT );
+        }
+    }
+
+    /** {@code true} for {@link #reusable()} buffers, which may be repainted. */
+    private final boolean reusable;
+
+    /** Resolved packed color per key ordinal — the override, or the background. */
+    private final int[] keyRgb = new int[ KEY_COUNT ];
+
+    /** Packed {@code 0x00RRGGBB} background color. */
+    private int background;
+
+    /** Bit {@code i} set when key ordinal {@code i} carries an override. */
+    private long overrideMask;
+
+    /** Sequence lock for reusable frames: odd while a repaint is in
+     *  progress, bumped by two per completed repaint. Immutable frames
+     *  never touch it. */
+    private volatile int seq;
 
     /**
      * Construct an immutable frame from a background color and an
      * optional sparse map of per-key overrides. The override map is
-     * defensively copied into an immutable {@link Map}; a {@code null}
-     * or empty map collapses to {@link Map#of()}.
+     * copied into the frame's key table; a {@code null} or empty map
+     * yields a solid frame.
      *
      * @param background   the fill color applied to every key not present
      *                     in {@code keyOverrides}; must not be
@@ -62,10 +113,26 @@ public final class RgbFrame
      */
     public RgbFrame( RgbColor background, Map< KeyboardKey, RgbColor > keyOverrides )
     {
-        this.background = Objects.requireNonNull( background, "background must not be null" );
-        this.keyOverrides = ( keyOverrides == null || keyOverrides.isEmpty() )
-                ? Map.of()
-                : Map.copyOf( keyOverrides );
+        this( false );
+        this.background = Objects.requireNonNull( background, "background must not be null" ).packRgb();
+        Arrays.fill( keyRgb, this.background );
+        if ( keyOverrides != null ) {
+            for ( Map.Entry< KeyboardKey, RgbColor > e : keyOverrides.entrySet() ) {
+                int ordinal = e.getKey().ordinal();
+                keyRgb[ ordinal ] = e.getValue().packRgb();
+                overrideMask |= 1L << ordinal;
+            }
+        }
+    }
+
+    /**
+     * Internal constructor; leaves the frame black with no overrides.
+     *
+     * @param reusable whether the frame may be repainted in place
+     */
+    private RgbFrame( boolean reusable )
+    {
+        this.reusable = reusable;
     }
 
     /**
@@ -82,23 +149,82 @@ public final class RgbFrame
      */
     public static RgbFrame solid( RgbColor color )
     {
-        return new RgbFrame( color, Map.of() );
+        return new RgbFrame( color, null );
     }
 
+    /**
+     * A pre-sized, repaintable frame buffer, initially solid black. Owned
+     * by a single writer; any thread may snapshot it with
+     * {@link #copyFrom(RgbFrame)}.
+     *
+     * @return a new reusable frame
+     *
+     * @since 2026.7
+     */
+    public static RgbFrame reusable()
+    {
+        return new RgbFrame( true );
+    }
+
+    /**
+     * Whether this frame is a {@link #reusable()} buffer that may be
+     * repainted after it's been handed out.
+     *
+     * @return {@code true} for reusable frames, {@code false} for immutable ones
+     *
+     * @since 2026.7
+     */
+    public boolean isReusable() { return reusable; }
+
     /**
      * The background fill color of this frame, applied to every key not
-     * explicitly overridden.
+     * explicitly overridden. Allocates; render paths use
+     * {@link #backgroundRgb()}.
      *
      * @return the background color; never {@code null}
      *
      * @since 2026.5
      */
-    public RgbColor background() { return background; }
+    public RgbColor background() { return RgbColor.fromPacked( background ); }
+
+    /**
+     * The background fill color as a packed {@code 0x00RRGGBB} int.
+     *
+     * @return the packed background color
+     *
+     * @since 2026.7
+     */
+    public int backgroundRgb() { return background; }
+
+    /**
+     * The resolved color for a key ordinal — its override if it has one,
+     * otherwise the background.
+     *
+     * @param keyOrdinal a {@link KeyboardKey#ordinal()}, in
+     *                   {@code [0, KEY_COUNT)}
+     *
+     * @return the packed {@code 0x00RRGGBB} color for that key
+     *
+     * @since 2026.7
+     */
+    public int rgbAt( int keyOrdinal ) { return keyRgb[ keyOrdinal ]; }
+
+    /**
+     * Which keys carry an override: bit {@code i} is set for
+     * {@link KeyboardKey#ordinal()} {@code i}. Backends iterate the set
+     * bits (via {@link Long#numberOfTrailingZeros}) to touch only the
+     * overridden LEDs on top of a background fill.
+     *
+     * @return the override bit mask; {@code 0} for a solid frame
+     *
+     * @since 2026.7
+     */
+    public long overrideMask() { return overrideMask; }
 
     /**
      * Returns the color this frame wants for {@code key} — either the
      * override entry if present, or the background color. Never returns
-     * null.
+     * null. Allocates; render paths use {@link #rgbAt(int)}.
      *
      * @param key the keyboard key to resolve a color for
      *
@@ -109,30 +235,143 @@ public final class RgbFrame
      */
     public RgbColor colorFor( KeyboardKey key )
     {
-        RgbColor override = keyOverrides.get( key );
-        return override != null ? override : background;
+        return RgbColor.fromPacked( keyRgb[ key.ordinal() ] );
     }
 
     /**
-     * Unmodifiable view of the per-key override map — backends iterate it
-     * to set non-background keys, leaving the rest of the device on the
-     * background fill.
+     * A snapshot of the per-key overrides as a map. Built on each call —
+     * render paths use {@link #overrideMask()} and {@link #rgbAt(int)}.
      *
-     * @return the immutable per-key override map; empty when the frame
-     *         is a solid fill
+     * @return an unmodifiable map of the per-key overrides; empty when the
+     *         frame is a solid fill
      *
      * @since 2026.5
      */
     public Map< KeyboardKey, RgbColor > overrides()
     {
-        return keyOverrides;
+        if ( overrideMask == 0 ) return Map.of();
+        Map< KeyboardKey, RgbColor > out = new EnumMap<>( KeyboardKey.class );
+        for ( long m = overrideMask; m != 0; m &= m - 1 ) {
+            int ordinal = Long.numberOfTrailingZeros( m );
+            out.put( KEYS[ ordinal ], RgbColor.fromPacked( keyRgb[ ordinal ] ) );
+        }
+        return Map.copyOf( out );
+    }
+
+    // =========================================================================
+    //  Repainting (reusable frames only)
+    // =========================================================================
+
+    /**
+     * Repaints this reusable frame as a solid color.
+     *
+     * @param rgb the packed {@code 0x00RRGGBB} fill color
+     *
+     * @return this frame
+     *
+     * @throws IllegalStateException if this frame is immutable
+     *
+     * @since 2026.7
+     */
+    public RgbFrame fill( int rgb )
+    {
+        return fill( rgb, 0L, 0 );
+    }
+
+    /**
+     * Repaints this reusable frame as a background color with one override
+     * color on a set of keys — the shape of every launcher effect.
+     *
+     * @param backgroundRgb the packed fill color for keys outside {@code keyMask}
+     * @param keyMask       override keys, one bit per {@link KeyboardKey#ordinal()}
+     * @param keyRgb        the packed color for keys in {@code keyMask}
+     *
+     * @return this frame
+     *
+     * @throws IllegalStateException if this frame is immutable
+     *
+     * @since 2026.7
+     */
+    public RgbFrame fill( int backgroundRgb, long keyMask, int keyRgb )
+    {
+        int s = beginWrite();
+        int bg = backgroundRgb & 0xFFFFFF;
+        int key = keyRgb & 0xFFFFFF;
+        this.background = bg;
+        this.overrideMask = keyMask;
+        for ( int i = 0; i < KEY_COUNT; i++ ) {
+            this.keyRgb[ i ] = ( keyMask & ( 1L << i ) ) != 0 ? key : bg;
+        }
+        endWrite( s );
+        return this;
+    }
+
+    /**
+     * Repaints this reusable frame as an exact copy of {@code source}. If
+     * {@code source} is itself reusable, the copy is taken under its
+     * sequence lock and retried until it captures one complete repaint.
+     *
+     * @param source the frame to copy; must not be {@code null}
+     *
+     * @return this frame
+     *
+     * @throws IllegalStateException if this frame is immutable
+     *
+     * @since 2026.7
+     */
+    public RgbFrame copyFrom( RgbFrame source )
+    {
+        int s = beginWrite();
+        if ( !source.reusable ) {
+            copyFields( source );
+        }
+        else {
+            while ( true ) {
+                int before = source.seq;
+                if ( ( before & 1 ) == 0 ) {
+                    copyFields( source );
+                    VarHandle.loadLoadFence();
+                    if ( source.seq == before ) break;
+                }
+                Thread.onSpinWait();
+            }
+        }
+        endWrite( s );
+        return this;
+    }
+
+    /** Plain field copy; {@link #copyFrom} supplies the consistency check. */
+    private void copyFields( RgbFrame source )
+    {
+        background = source.background;
+        overrideMask = source.overrideMask;
+        System.arraycopy( source.keyRgb, 0, keyRgb, 0, KEY_COUNT );
+    }
+
+    /** Opens a repaint: marks the sequence odd and fences so no field
+     *  write can become visible before the mark. */
+    private int beginWrite()
+    {
+        if ( !reusable ) {
+            throw new IllegalStateException( "RgbFrame is immutable; repaint a RgbFrame.reusable() buffer" );
+        }
+        int s = seq;
+        seq = s + 1;
+        VarHandle.storeStoreFence();
+        return s;
+    }
+
+    /** Closes a repaint; the volatile write releases the field writes. */
+    private void endWrite( int s )
+    {
+        seq = s + 2;
     }
 
     /**
      * {@inheritDoc}
      *
      * <p>Two frames are equal when they have the same background color
-     * and the same per-key override map.</p>
+     * and the same per-key overrides, whether immutable or reusable.</p>
      *
      * @param o the object to compare against
      *
@@ -146,23 +385,24 @@ public final class RgbFrame
     {
         if ( this == o ) return true;
         if ( !( o instanceof RgbFrame other ) ) return false;
-        return background.equals( other.background )
-                && keyOverrides.equals( other.keyOverrides );
+        return background == other.background
+                && overrideMask == other.overrideMask
+                && Arrays.equals( keyRgb, other.keyRgb );
     }
 
     /**
      * {@inheritDoc}
      *
-     * <p>Derived from the background color and the per-key override map,
+     * <p>Derived from the background color and the per-key colors,
      * consistent with {@link #equals(Object)}.</p>
      *
-     * @return a hash code combining the background and override map
+     * @return a hash code combining the background and key colors
      *
      * @since 2026.5
      */
     @Override
     public int hashCode()
     {
-        return background.hashCode() * 31 + keyOverrides.hashCode();
+        return ( background * 31 + Long.hashCode( overrideMask ) ) * 31 + Arrays.hashCode( keyRgb );
     }
 }
@@ -20,7 +20,6 @@ package com.micatechnologies.minecraft.launcher.rgb.backends.asusaura;
 import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
 import com.micatechnologies.minecraft.launcher.files.Logger;
 import com.micatechnologies.minecraft.launcher.rgb.RgbBackend;
-import com.micatechnologies.minecraft.launcher.rgb.RgbColor;
 import com.micatechnologies.minecraft.launcher.rgb.RgbFrame;
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.PointerByReference;
@@ -99,6 +98,8 @@ public final class AsusAuraBackend implements RgbBackend
         final Function< byte[], Integer > applyColor;
         /** Restores default mode and releases the controller on shutdown. */
         final Runnable releaseHandler;
+        /** {@code BYTE[3 * ledCount]} color buffer, refilled in place each frame. */
+        final byte[] colorBuf;
 
         /** Consecutive render failures since the last success; resets to zero on any success. */
         final AtomicInteger consecutiveFailures = new AtomicInteger( 0 );
@@ -125,6 +126,7 @@ public final class AsusAuraBackend implements RgbBackend
             this.ledCount = ledCount;
             this.applyColor = applyColor;
             this.releaseHandler = releaseHandler;
+            this.colorBuf = new byte[ 3 * ledCount ];
         }
     }
 
@@ -230,11 +232,13 @@ public final class AsusAuraBackend implements RgbBackend
     {
         if ( !started || families.isEmpty() ) return;
 
-        RgbColor bg = frame.background();
-        int packed = ( bg.r() << 16 ) | ( bg.g() << 8 ) | bg.b();
+        int packed = frame.backgroundRgb();
         if ( packed == lastSentPackedRgb ) {
             return; // dedup
         }
+        byte r = (byte) ( packed >> 16 );
+        byte g = (byte) ( packed >> 8 );
+        byte b = (byte) packed;
 
         int successCount = 0;
         int attemptCount = 0;
@@ -243,9 +247,8 @@ public final class AsusAuraBackend implements RgbBackend
             if ( fam.droppedFromRotation ) continue;
             attemptCount++;
             try {
-                byte[] colorBuf = buildColorBuffer( fam.ledCount,
-                                                     (byte) bg.r(), (byte) bg.g(), (byte) bg.b() );
-                int rc = fam.applyColor.apply( colorBuf );
+                fillColorBuffer( fam.colorBuf, fam.ledCount, r, g, b );
+                int rc = fam.applyColor.apply( fam.colorBuf );
                 if ( rc >= 0 ) {
                     // Aura's documented return is "0 = success" but
                     // some calls return > 0 (LED count). Both indicate
@@ -368,26 +371,24 @@ public final class AsusAuraBackend implements RgbBackend
     }
 
     /**
-     * Build a {@code BYTE[3 * ledCount]} color buffer with the same
+     * Fill a {@code BYTE[3 * ledCount]} color buffer with the same
      * (r, g, b) triple repeated for every LED. RGB byte order per the
      * Aura SDK's documented signature; if a future build shows colors
      * swapped, flipping this to BGR is the first thing to try.
      *
+     * @param buf      the family's {@code 3 * ledCount}-byte RGB buffer
      * @param ledCount number of LEDs on the device
      * @param r        red channel byte
      * @param g        green channel byte
      * @param b        blue channel byte
-     * @return a freshly allocated {@code 3 * ledCount}-byte RGB buffer
      */
-    private static byte[] buildColorBuffer( int ledCount, byte r, byte g, byte b )
+    private static void fillColorBuffer( byte[] buf, int ledCount, byte r, byte g, byte b )
     {
-        byte[] buf = new byte[ 3 * ledCount ];
         for ( int i = 0; i < ledCount; i++ ) {
             buf[ i * 3     ] = r;
             buf[ i * 3 + 1 ] = g;
             buf[ i * 3 + 2 ] = b;
         }
-        return buf;
     }
 
     private void handleFamilyFailure( Family fam, int rc )
@@ -18,7 +18,9 @@
 package com.micatechnologies.minecraft.launcher.rgb.backends.chroma;
 
 import com.micatechnologies.minecraft.launcher.rgb.KeyboardKey;
+import com.micatechnologies.minecraft.launcher.rgb.RgbFrame;
 
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.Map;
 
@@ -50,6 +52,8 @@ public final class ChromaKeyboardLayout
     public static final int ROWS = 6;
     /** Number of columns in the Chroma keyboard grid. */
     public static final int COLS = 22;
+    /** Number of cells in the grid, flattened row-major ({@code row * COLS + col}). */
+    public static final int CELLS = ROWS * COLS;
 
     /**
      * Per-key (row, col) lookup. Immutable, populated at class init.
@@ -58,6 +62,14 @@ public final class ChromaKeyboardLayout
      */
     private static final Map< KeyboardKey, int[] > KEY_TO_RC;
 
+    /**
+     * Flattened grid cell per {@link KeyboardKey#ordinal()}, {@code -1}
+     * where unmapped — the per-frame form of {@link #KEY_TO_RC}.
+     *
+     * @since 2026.7
+     */
+    private static final int[] CELL_BY_KEY;
+
     static {
         Map< KeyboardKey, int[] > m = new EnumMap<>( KeyboardKey.class );
         // Row 0 — function row. RZKEY_ESC = 0x0001, RZKEY_F1 = 0x0003.
@@ -108,6 +120,13 @@ public final class ChromaKeyboardLayout
         m.put( KeyboardKey.SPACE,     rc( 5, 7 ) );
 
         KEY_TO_RC = Map.copyOf( m );
+
+        int[] cells = new int[ RgbFrame.KEY_COUNT ];
+        Arrays.fill( cells, -1 );
+        for ( Map.Entry< KeyboardKey, int[] > e : KEY_TO_RC.entrySet() ) {
+            cells[ e.getKey().ordinal() ] = e.getValue()[ 0 ] * COLS + e.getValue()[ 1 ];
+        }
+        CELL_BY_KEY = cells;
     }
 
     /**
@@ -137,6 +156,41 @@ public final class ChromaKeyboardLayout
         return KEY_TO_RC.get( key );
     }
 
+    /**
+     * Converts a packed {@code 0x00RRGGBB} color to the Chroma SDK's
+     * COLORREF layout: low byte = R, mid = G, high = B. Shared by the
+     * REST and native backends — the format is the same on both SDK
+     * surfaces.
+     *
+     * @param rgb the packed {@code 0x00RRGGBB} color
+     * @return the same color as a Chroma COLORREF
+     * @since 2026.7
+     */
+    public static int toColorRef( int rgb )
+    {
+        return ( ( rgb & 0xFF ) << 16 ) | ( rgb & 0xFF00 ) | ( ( rgb >> 16 ) & 0xFF );
+    }
+
+    /**
+     * Paints {@code frame} into a flattened {@link #CELLS}-long grid of
+     * COLORREFs: the background across every cell, then each mapped
+     * override. Unmapped overrides stay on the background. Allocation-free
+     * so backends can repaint one grid per frame.
+     *
+     * @param frame the frame to paint
+     * @param cells the row-major grid to overwrite; at least {@link #CELLS} long
+     * @since 2026.7
+     */
+    public static void paint( RgbFrame frame, int[] cells )
+    {
+        Arrays.fill( cells, 0, CELLS, toColorRef( frame.backgroundRgb() ) );
+        for ( long m = frame.overrideMask(); m != 0; m &= m - 1 ) {
+            int key = Long.numberOfTrailingZeros( m );
+            int cell = CELL_BY_KEY[ key ];
+            if ( cell >= 0 ) cells[ cell ] = toColorRef( frame.rgbAt( key ) );
+        }
+    }
+
     /**
      * Private constructor to prevent instantiation of this utility class.
      *
@@ -20,7 +20,6 @@ package com.micatechnologies.minecraft.launcher.rgb.backends.chroma;
 import com.google.gson.JsonObject;
 import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
 import com.micatechnologies.minecraft.launcher.files.Logger;
-import com.micatechnologies.minecraft.launcher.rgb.KeyboardKey;
 import com.micatechnologies.minecraft.launcher.rgb.RgbBackend;
 import com.micatechnologies.minecraft.launcher.rgb.RgbColor;
 import com.micatechnologies.minecraft.launcher.rgb.RgbFrame;
@@ -34,7 +33,6 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
-import java.util.Map;
 
 /**
  * RGB backend that talks to the Razer Chroma SDK over its localhost REST
@@ -96,6 +94,13 @@ public final class ChromaRestBackend implements RgbBackend
     private final java.util.Set< String > endpointsSucceededOnce =
             java.util.concurrent.ConcurrentHashMap.newKeySet();
 
+    /** Keyboard grid as flattened Chroma COLORREFs, repainted in place
+     *  each frame by {@link ChromaKeyboardLayout#paint}. */
+    private final int[] grid = new int[ ChromaKeyboardLayout.CELLS ];
+
+    /** Reused builder for the CHROMA_CUSTOM payload; ~1.5 KB, sized once. */
+    private final StringBuilder bodyBuilder = new StringBuilder( 4_096 );
+
     /**
      * {@inheritDoc}
      *
@@ -239,21 +244,11 @@ public final class ChromaRestBackend implements RgbBackend
     {
         if ( sessionUri == null ) return;
 
-        int bgPacked = chromaPack( frame.background() );
-
-        // (1) Keyboard — full 6×22 grid with per-key highlights.
-        int[][] grid = new int[ ChromaKeyboardLayout.ROWS ][ ChromaKeyboardLayout.COLS ];
-        for ( int r = 0; r < ChromaKeyboardLayout.ROWS; r++ ) {
-            int[] row = grid[ r ];
-            for ( int c = 0; c < ChromaKeyboardLayout.COLS; c++ ) {
-                row[ c ] = bgPacked;
-            }
-        }
-        for ( Map.Entry< KeyboardKey, RgbColor > e : frame.overrides().entrySet() ) {
-            int[] coord = ChromaKeyboardLayout.coordOf( e.getKey() );
-            if ( coord == null ) continue; // key not in our Chroma layout — fall through
-            grid[ coord[0] ][ coord[1] ] = chromaPack( e.getValue() );
-        }
+        // (1) Keyboard — full 6×22 grid with per-key highlights, painted
+        // into the reused grid. The HTTP request itself still allocates;
+        // java.net.http has no reusable-request API.
+        ChromaKeyboardLayout.paint( frame, grid );
+        int bgPacked = ChromaKeyboardLayout.toColorRef( frame.backgroundRgb() );
 
         // Push to every Chroma endpoint INDEPENDENTLY. Per-endpoint
         // failures are tolerated and logged silently — most users won't
@@ -274,7 +269,7 @@ public final class ChromaRestBackend implements RgbBackend
         Throwable lastFailure = null;
 
         attempts++;
-        try { sendKeyboardCustom( grid ); successes++; }
+        try { sendKeyboardCustom(); successes++; }
         catch ( Throwable t ) { lastFailure = t; logEndpointFailure( "/keyboard", t ); }
 
         for ( String endpoint : NON_KEYBOARD_ENDPOINTS ) {
@@ -312,9 +307,9 @@ public final class ChromaRestBackend implements RgbBackend
      *  (session expired, unknown effect, device missing, etc.) and
      *  the launcher silently does nothing. Parse the body and throw
      *  on a non-zero result. */
-    private void sendKeyboardCustom( int[][] grid ) throws Exception
+    private void sendKeyboardCustom() throws Exception
     {
-        sendEffectAndCheck( "/keyboard", buildKeyboardEffectBody( grid ) );
+        sendEffectAndCheck( "/keyboard", buildKeyboardEffectBody() );
     }
 
     /** Push a single CHROMA_STATIC frame to a device endpoint. Used
@@ -520,28 +515,22 @@ public final class ChromaRestBackend implements RgbBackend
     //  Helpers
     // =========================================================================
 
-    /** Razer Chroma color packing: lowest byte = R, middle = G, top = B.
-     *  Different from OpenRGB's wire layout, which stores R then G then
-     *  B as separate bytes. */
-    private static int chromaPack( RgbColor c )
-    {
-        return ( c.b() << 16 ) | ( c.g() << 8 ) | c.r();
-    }
-
-    /** Serializes a 6×22 grid as the CHROMA_CUSTOM effect payload.
+    /** Serializes {@link #grid} as the CHROMA_CUSTOM effect payload.
      *  Hand-built rather than GSON-tree-walked because the grid is
-     *  always exactly the same shape — a primitive int loop is cheaper
-     *  than allocating ~132 JsonPrimitives every frame. */
-    private static String buildKeyboardEffectBody( int[][] grid )
+     *  always exactly the same shape — a primitive int loop into the
+     *  reused {@link #bodyBuilder} is cheaper than allocating ~132
+     *  JsonPrimitives every frame. */
+    private String buildKeyboardEffectBody()
     {
-        StringBuilder sb = new StringBuilder( 4_096 );
+        StringBuilder sb = bodyBuilder;
+        sb.setLength( 0 );
         sb.append( "{\"effect\":\"CHROMA_CUSTOM\",\"param\":[" );
         for ( int r = 0; r < ChromaKeyboardLayout.ROWS; r++ ) {
             if ( r > 0 ) sb.append( ',' );
             sb.append( '[' );
             for ( int c = 0; c < ChromaKeyboardLayout.COLS; c++ ) {
                 if ( c > 0 ) sb.append( ',' );
-                sb.append( grid[ r ][ c ] );
+                sb.append( grid[ r * ChromaKeyboardLayout.COLS + c ] );
             }
             sb.append( ']' );
         }
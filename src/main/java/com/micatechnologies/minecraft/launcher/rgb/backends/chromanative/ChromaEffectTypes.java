@@ -17,6 +17,7 @@
 
 package com.micatechnologies.minecraft.launcher.rgb.backends.chromanative;
 
+import com.micatechnologies.minecraft.launcher.rgb.backends.chroma.ChromaKeyboardLayout;
 import com.sun.jna.Memory;
 
 /**
@@ -135,10 +136,21 @@ final class ChromaEffectTypes
     static Memory buildStaticParam( int packedColor )
     {
         Memory m = new Memory( 4 );
-        m.setInt( 0, packedColor );
+        writeStaticParam( m, packedColor );
         return m;
     }
 
+    /**
+     * Rewrites the color in a block from {@link #buildStaticParam} in place.
+     *
+     * @param m           the parameter block
+     * @param packedColor the COLORREF to store
+     */
+    static void writeStaticParam( Memory m, int packedColor )
+    {
+        m.setInt( 0, packedColor );
+    }
+
     /**
      * Mouse static effect param: {@code { LEDId, Color }}. LEDId 0
      * means "all zones" — covers the whole device with one color.
@@ -150,28 +162,46 @@ final class ChromaEffectTypes
     {
         Memory m = new Memory( 8 );
         m.setInt( 0, 0 );             // LEDId = ALL
-        m.setInt( 4, packedColor );   // Color
+        writeMouseStaticParam( m, packedColor );
         return m;
     }
 
     /**
-     * Keyboard CHROMA_CUSTOM param: 6 rows × 22 cols × 4-byte COLORREF.
-     * {@code grid[row][col]} maps to byte offset
-     * {@code (row * 22 + col) * 4}.
+     * Rewrites the color in a block from {@link #buildMouseStaticParam} in
+     * place; the LED id stays "all".
      *
-     * @param grid the 2D array representing the custom color grid
-     * @return a Memory object containing the parameter block
+     * @param m           the parameter block
+     * @param packedColor the COLORREF to store
      */
-    static Memory buildKeyboardCustomParam( int[][] grid )
+    static void writeMouseStaticParam( Memory m, int packedColor )
     {
-        int rows = 6;
-        int cols = 22;
-        Memory m = new Memory( (long) rows * cols * 4L );
-        for ( int r = 0; r < rows; r++ ) {
-            for ( int c = 0; c < cols; c++ ) {
-                m.setInt( ( (long) r * cols + c ) * 4L, grid[ r ][ c ] );
-            }
-        }
+        m.setInt( 4, packedColor );   // Color
+    }
+
+    /**
+     * Allocates a keyboard CHROMA_CUSTOM param: 6 rows × 22 cols × 4-byte
+     * COLORREF. Cell {@code (row, col)} maps to byte offset
+     * {@code (row * 22 + col) * 4} — the same row-major order as
+     * {@link ChromaKeyboardLayout#paint}'s flattened grid, so
+     * {@link #writeKeyboardCustomParam} is a single bulk copy.
+     *
+     * @return a zeroed (all-black) Memory block for the parameter
+     */
+    static Memory newKeyboardCustomParam()
+    {
+        Memory m = new Memory( ChromaKeyboardLayout.CELLS * 4L );
+        m.clear();
         return m;
     }
+
+    /**
+     * Copies a flattened grid into a block from {@link #newKeyboardCustomParam}.
+     *
+     * @param m     the parameter block
+     * @param cells the row-major grid of COLORREFs, {@link ChromaKeyboardLayout#CELLS} long
+     */
+    static void writeKeyboardCustomParam( Memory m, int[] cells )
+    {
+        m.write( 0, cells, 0, ChromaKeyboardLayout.CELLS );
+    }
 }
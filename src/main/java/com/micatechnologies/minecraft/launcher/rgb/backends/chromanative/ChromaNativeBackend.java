@@ -19,7 +19,6 @@ package com.micatechnologies.minecraft.launcher.rgb.backends.chromanative;
 
 import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
 import com.micatechnologies.minecraft.launcher.files.Logger;
-import com.micatechnologies.minecraft.launcher.rgb.KeyboardKey;
 import com.micatechnologies.minecraft.launcher.rgb.RgbBackend;
 import com.micatechnologies.minecraft.launcher.rgb.RgbColor;
 import com.micatechnologies.minecraft.launcher.rgb.RgbFrame;
@@ -27,7 +26,6 @@ import com.micatechnologies.minecraft.launcher.rgb.backends.chroma.ChromaKeyboar
 import com.sun.jna.Memory;
 import com.sun.jna.Pointer;
 
-import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -96,6 +94,35 @@ public final class ChromaNativeBackend implements RgbBackend
     /** Initialized state. False before start, false after shutdown. */
     private volatile boolean initialized = false;
 
+    /** Keyboard grid as flattened COLORREFs, repainted each frame. */
+    private final int[] grid = new int[ ChromaKeyboardLayout.CELLS ];
+
+    /** Per-session native param blocks, allocated once in {@link #start()}
+     *  and rewritten in place every frame — the SDK copies them during
+     *  {@code CreateXxxEffect}, so reuse across frames is safe and the
+     *  render path allocates no native memory. {@code effectId} is the
+     *  16-byte RZEFFECTID out-buffer {@link #tryFamily} reuses. */
+    private Memory keyboardParam;
+    private Memory staticParam;
+    private Memory mouseParam;
+    private Memory effectId;
+
+    /** Per-family {@code CreateXxxEffect} bindings, built once so the
+     *  render loop doesn't allocate a capturing lambda per family per
+     *  frame. They read the param fields above at call time. */
+    private final CreateEffectFn createKeyboard = family -> RzChromaSdkLibrary.INSTANCE.CreateKeyboardEffect(
+            ChromaEffectTypes.KEYBOARD_CUSTOM, keyboardParam, family );
+    private final CreateEffectFn createMouse = family -> RzChromaSdkLibrary.INSTANCE.CreateMouseEffect(
+            ChromaEffectTypes.MOUSE_STATIC, mouseParam, family );
+    private final CreateEffectFn createMousepad = family -> RzChromaSdkLibrary.INSTANCE.CreateMousepadEffect(
+            ChromaEffectTypes.MOUSEPAD_STATIC, staticParam, family );
+    private final CreateEffectFn createHeadset = family -> RzChromaSdkLibrary.INSTANCE.CreateHeadsetEffect(
+            ChromaEffectTypes.HEADSET_STATIC, staticParam, family );
+    private final CreateEffectFn createKeypad = family -> RzChromaSdkLibrary.INSTANCE.CreateKeypadEffect(
+            ChromaEffectTypes.KEYPAD_STATIC, staticParam, family );
+    private final CreateEffectFn createChromaLink = family -> RzChromaSdkLibrary.INSTANCE.CreateChromaLinkEffect(
+            ChromaEffectTypes.CHROMALINK_STATIC, staticParam, family );
+
     /** One-shot success log per device family. Mirrors the REST backend's
      *  same flag so the user gets one "Razer Chroma (native): keyboard
      *  first frame succeeded" line per family per session — useful to
@@ -216,6 +243,10 @@ public final class ChromaNativeBackend implements RgbBackend
                                          + initResult + " "
                                          + describeResult( initResult ) );
         }
+        keyboardParam = ChromaEffectTypes.newKeyboardCustomParam();
+        staticParam = ChromaEffectTypes.buildStaticParam( 0 );
+        mouseParam = ChromaEffectTypes.buildMouseStaticParam( 0 );
+        effectId = new Memory( 16 ); // RZEFFECTID = GUID = 16 bytes
         initialized = true;
         Logger.logStd( LocalizationManager.format( "log.rgb.chroma.nativeSdkInitialized", APP_TITLE ) );
     }
@@ -253,18 +284,19 @@ public final class ChromaNativeBackend implements RgbBackend
     {
         if ( !initialized ) return;
 
-        int bgPacked = chromaPack( frame.background() );
+        int bgPacked = ChromaKeyboardLayout.toColorRef( frame.backgroundRgb() );
 
-        // Build the keyboard 6×22 grid from the background fill +
-        // per-key overrides, then apply each device-family effect
-        // independently. successCount lets renderFrame stay tolerant
-        // of partial-rig setups: if at least one device family
-        // accepts the effect, we treat the frame as "delivered"
-        // overall, even if the user is missing e.g. a Razer mouse.
-        int[][] grid = buildKeyboardGrid( bgPacked, frame.overrides() );
-        Memory keyboardParam = ChromaEffectTypes.buildKeyboardCustomParam( grid );
-        Memory staticParam   = ChromaEffectTypes.buildStaticParam( bgPacked );
-        Memory mouseParam    = ChromaEffectTypes.buildMouseStaticParam( bgPacked );
+        // Paint the keyboard 6×22 grid from the background fill +
+        // per-key overrides and rewrite the session's param blocks in
+        // place, then apply each device-family effect independently.
+        // successCount lets renderFrame stay tolerant of partial-rig
+        // setups: if at least one device family accepts the effect, we
+        // treat the frame as "delivered" overall, even if the user is
+        // missing e.g. a Razer mouse.
+        ChromaKeyboardLayout.paint( frame, grid );
+        ChromaEffectTypes.writeKeyboardCustomParam( keyboardParam, grid );
+        ChromaEffectTypes.writeStaticParam( staticParam, bgPacked );
+        ChromaEffectTypes.writeMouseStaticParam( mouseParam, bgPacked );
 
         int successes = 0;
         int attempts = 0;
@@ -277,10 +309,7 @@ public final class ChromaNativeBackend implements RgbBackend
         // "all 6 families failed" on every render once the rest dropped.
         if ( !familyPermanentlyDropped.contains( "keyboard" ) ) {
             attempts++;
-            if ( tryFamily( "keyboard",
-                             family -> RzChromaSdkLibrary.INSTANCE.CreateKeyboardEffect(
-                                     ChromaEffectTypes.KEYBOARD_CUSTOM,
-                                     keyboardParam, family ) ) ) {
+            if ( tryFamily( "keyboard", createKeyboard ) ) {
                 successes++;
             }
             else { lastFailure = lastResult; }
@@ -288,10 +317,7 @@ public final class ChromaNativeBackend implements RgbBackend
 
         if ( !familyPermanentlyDropped.contains( "mouse" ) ) {
             attempts++;
-            if ( tryFamily( "mouse",
-                             family -> RzChromaSdkLibrary.INSTANCE.CreateMouseEffect(
-                                     ChromaEffectTypes.MOUSE_STATIC,
-                                     mouseParam, family ) ) ) {
+            if ( tryFamily( "mouse", createMouse ) ) {
                 successes++;
             }
             else { lastFailure = lastResult; }
@@ -299,10 +325,7 @@ public final class ChromaNativeBackend implements RgbBackend
 
         if ( !familyPermanentlyDropped.contains( "mousepad" ) ) {
             attempts++;
-            if ( tryFamily( "mousepad",
-                             family -> RzChromaSdkLibrary.INSTANCE.CreateMousepadEffect(
-                                     ChromaEffectTypes.MOUSEPAD_STATIC,
-                                     staticParam, family ) ) ) {
+            if ( tryFamily( "mousepad", createMousepad ) ) {
                 successes++;
             }
             else { lastFailure = lastResult; }
@@ -310,10 +333,7 @@ public final class ChromaNativeBackend implements RgbBackend
 
         if ( !familyPermanentlyDropped.contains( "headset" ) ) {
             attempts++;
-            if ( tryFamily( "headset",
-                             family -> RzChromaSdkLibrary.INSTANCE.CreateHeadsetEffect(
-                                     ChromaEffectTypes.HEADSET_STATIC,
-                                     staticParam, family ) ) ) {
+            if ( tryFamily( "headset", createHeadset ) ) {
                 successes++;
             }
             else { lastFailure = lastResult; }
@@ -321,10 +341,7 @@ public final class ChromaNativeBackend implements RgbBackend
 
         if ( !familyPermanentlyDropped.contains( "keypad" ) ) {
             attempts++;
-            if ( tryFamily( "keypad",
-                             family -> RzChromaSdkLibrary.INSTANCE.CreateKeypadEffect(
-                                     ChromaEffectTypes.KEYPAD_STATIC,
-                                     staticParam, family ) ) ) {
+            if ( tryFamily( "keypad", createKeypad ) ) {
                 successes++;
             }
             else { lastFailure = lastResult; }
@@ -332,10 +349,7 @@ public final class ChromaNativeBackend implements RgbBackend
 
         if ( !familyPermanentlyDropped.contains( "chromalink" ) ) {
             attempts++;
-            if ( tryFamily( "chromalink",
-                             family -> RzChromaSdkLibrary.INSTANCE.CreateChromaLinkEffect(
-                                     ChromaEffectTypes.CHROMALINK_STATIC,
-                                     staticParam, family ) ) ) {
+            if ( tryFamily( "chromalink", createChromaLink ) ) {
                 successes++;
             }
             else { lastFailure = lastResult; }
@@ -383,6 +397,10 @@ public final class ChromaNativeBackend implements RgbBackend
         catch ( Throwable ignored ) { /* best-effort */ }
         initialized = false;
         appInfoMemory = null;
+        keyboardParam = null;
+        staticParam = null;
+        mouseParam = null;
+        effectId = null;
         familySucceededOnce.clear();
         familyFailureCount.clear();
         familyPermanentlyDropped.clear();
@@ -396,8 +414,8 @@ public final class ChromaNativeBackend implements RgbBackend
     /** Last family's result code, populated as a side effect of
      *  {@link #tryFamily}. Kept as a field rather than threading it
      *  through every call site since renderFrame loops sequentially.
-     *  Not thread-safe — only the controller's single worker thread
-     *  ever calls renderFrame. */
+     *  Not thread-safe — only this backend's render lane ever calls
+     *  renderFrame. */
     private int lastResult;
 
     /**
@@ -443,7 +461,6 @@ public final class ChromaNativeBackend implements RgbBackend
      */
     private boolean tryFamily( String familyName, CreateEffectFn createFn )
     {
-        Memory effectId = new Memory( 16 ); // RZEFFECTID = GUID = 16 bytes
         int createResult = createFn.apply( effectId );
         if ( createResult != 0 ) {
             lastResult = createResult;
@@ -507,38 +524,6 @@ public final class ChromaNativeBackend implements RgbBackend
     //  Helpers
     // =========================================================================
 
-    /** Razer Chroma color packing: low byte = R, mid = G, high = B.
-     *  Matches the REST backend's pack — Chroma's COLORREF format is
-     *  the same regardless of SDK surface. */
-    private static int chromaPack( RgbColor c )
-    {
-        return ( c.b() << 16 ) | ( c.g() << 8 ) | c.r();
-    }
-
-    /** Builds the 6×22 keyboard grid from a background color + per-key
-     *  overrides. Re-uses {@link ChromaKeyboardLayout} from the REST
-     *  backend's package — the keyboard grid layout is identical
-     *  across both Chroma surfaces (it's a Razer-level concept, not
-     *  REST-vs-native). */
-    private static int[][] buildKeyboardGrid( int bgPacked,
-                                                Map< KeyboardKey, RgbColor > overrides )
-    {
-        int rows = ChromaKeyboardLayout.ROWS;
-        int cols = ChromaKeyboardLayout.COLS;
-        int[][] grid = new int[ rows ][ cols ];
-        for ( int r = 0; r < rows; r++ ) {
-            for ( int c = 0; c < cols; c++ ) {
-                grid[ r ][ c ] = bgPacked;
-            }
-        }
-        for ( Map.Entry< KeyboardKey, RgbColor > e : overrides.entrySet() ) {
-            int[] coord = ChromaKeyboardLayout.coordOf( e.getKey() );
-            if ( coord == null ) continue;
-            grid[ coord[0] ][ coord[1] ] = chromaPack( e.getValue() );
-        }
-        return grid;
-    }
-
     /** Translates a Razer SDK result code into a short label. Covers the
      *  same RZRESULT codes the REST backend documents, plus the ones
      *  that show up exclusively from the native SDK (e.g. 1062
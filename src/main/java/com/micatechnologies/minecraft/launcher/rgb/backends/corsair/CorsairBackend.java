@@ -20,7 +20,6 @@ package com.micatechnologies.minecraft.launcher.rgb.backends.corsair;
 import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
 import com.micatechnologies.minecraft.launcher.files.Logger;
 import com.micatechnologies.minecraft.launcher.rgb.RgbBackend;
-import com.micatechnologies.minecraft.launcher.rgb.RgbColor;
 import com.micatechnologies.minecraft.launcher.rgb.RgbFrame;
 import com.sun.jna.Memory;
 import com.sun.jna.Pointer;
@@ -98,6 +97,12 @@ public final class CorsairBackend implements RgbBackend
         /** LED IDs returned by {@code CorsairGetLedPositions}; the keys
          *  every per-frame {@code CorsairSetLedColors} push writes to. */
         final int[]  ledIds;       // LED IDs returned by GetLedPositions
+        /** Native copy of {@link #id}, written once at enumeration and
+         *  passed to every {@code CorsairSetLedColors} call. */
+        final Memory idMem;
+        /** Per-LED color structs sharing one Memory block, with ids filled
+         *  in at enumeration; each frame only rewrites the channels. */
+        final CorsairSdkLibrary.CorsairLedColor[] colors;
         /** Human-readable device model string, used only for log lines. */
         final String model;        // for log lines only
         /** Count of consecutive {@code SetLedColors} failures since the
@@ -124,6 +129,13 @@ public final class CorsairBackend implements RgbBackend
             this.id = id;
             this.ledIds = ledIds;
             this.model = model;
+            this.idMem = new Memory( CorsairSdkLibrary.DEVICE_ID_LEN );
+            this.idMem.write( 0, id, 0, CorsairSdkLibrary.DEVICE_ID_LEN );
+            this.colors = CorsairSdkLibrary.newLedColorArray( ledIds.length );
+            for ( int i = 0; i < ledIds.length; i++ ) {
+                colors[ i ].id = ledIds[ i ];
+                colors[ i ].a = (byte) 0xFF;
+            }
         }
     }
 
@@ -308,11 +320,13 @@ public final class CorsairBackend implements RgbBackend
     {
         if ( !connected || devices.isEmpty() ) return;
 
-        RgbColor bg = frame.background();
-        int packed = ( bg.r() << 16 ) | ( bg.g() << 8 ) | bg.b();
+        int packed = frame.backgroundRgb();
         if ( packed == lastSentPackedRgb ) {
             return; // dedup
         }
+        byte r = (byte) ( packed >> 16 );
+        byte g = (byte) ( packed >> 8 );
+        byte b = (byte) packed;
 
         int successCount = 0;
         int attemptCount = 0;
@@ -321,7 +335,7 @@ public final class CorsairBackend implements RgbBackend
             if ( dev.droppedFromRotation ) continue;
             attemptCount++;
             try {
-                int rc = applyColorToDevice( dev, (byte) bg.r(), (byte) bg.g(), (byte) bg.b() );
+                int rc = applyColorToDevice( dev, r, g, b );
                 if ( rc == CorsairSdkLibrary.CE_SUCCESS ) {
                     dev.succeededOnce = true;
                     dev.consecutiveFailures.set( 0 );
@@ -459,24 +473,18 @@ public final class CorsairBackend implements RgbBackend
      *  @since 2026.5 */
     private int applyColorToDevice( Device dev, byte r, byte g, byte b )
     {
-        Memory idMem = new Memory( CorsairSdkLibrary.DEVICE_ID_LEN );
-        idMem.write( 0, dev.id, 0, CorsairSdkLibrary.DEVICE_ID_LEN );
-
-        // Build the contiguous LED-color array. JNA's toArray() backs
-        // it with one Memory block; we write into each entry and call
-        // write() to flush back to native.
-        CorsairSdkLibrary.CorsairLedColor[] colors =
-                CorsairSdkLibrary.newLedColorArray( dev.ledIds.length );
-        for ( int i = 0; i < dev.ledIds.length; i++ ) {
-            colors[ i ].id = dev.ledIds[ i ];
+        // Repaint the device's cached LED-color array. JNA's toArray()
+        // backs it with one Memory block; we write into each entry and
+        // call write() to flush back to native.
+        CorsairSdkLibrary.CorsairLedColor[] colors = dev.colors;
+        for ( int i = 0; i < colors.length; i++ ) {
             colors[ i ].r = r;
             colors[ i ].g = g;
             colors[ i ].b = b;
-            colors[ i ].a = (byte) 0xFF;
             colors[ i ].write();
         }
         return CorsairSdkLibrary.INSTANCE.CorsairSetLedColors(
-                idMem, dev.ledIds.length, colors[ 0 ] );
+                dev.idMem, colors.length, colors[ 0 ] );
     }
 
     /** Same per-family backoff pattern as ChromaNativeBackend: a
@@ -20,7 +20,6 @@ package com.micatechnologies.minecraft.launcher.rgb.backends.dynamiclighting;
 import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
 import com.micatechnologies.minecraft.launcher.files.Logger;
 import com.micatechnologies.minecraft.launcher.rgb.RgbBackend;
-import com.micatechnologies.minecraft.launcher.rgb.RgbColor;
 import com.micatechnologies.minecraft.launcher.rgb.RgbFrame;
 import com.micatechnologies.minecraft.launcher.rgb.backends.dynamiclighting.winrt.Combase;
 import com.micatechnologies.minecraft.launcher.rgb.backends.dynamiclighting.winrt.WinRt;
@@ -325,8 +324,8 @@ public final class WindowsDynamicLightingBackend implements RgbBackend
         // when passing Windows.UI.Color by value (see WinRt#packWinUiColor
         // — it is NOT the obvious ARGB order). Alpha is always 0xFF; the
         // launcher's effect engine has no concept of translucent lamps.
-        RgbColor bg = frame.background();
-        int packed = WinRt.packWinUiColor( 0xFF, bg.r(), bg.g(), bg.b() );
+        int bg = frame.backgroundRgb();
+        int packed = WinRt.packWinUiColor( 0xFF, ( bg >> 16 ) & 0xFF, ( bg >> 8 ) & 0xFF, bg & 0xFF );
         if ( packed == lastSentColor ) {
             return; // dedup — see field doc
         }
@@ -21,14 +21,16 @@ import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationM
 import com.micatechnologies.minecraft.launcher.files.Logger;
 import com.micatechnologies.minecraft.launcher.rgb.KeyboardKey;
 import com.micatechnologies.minecraft.launcher.rgb.RgbBackend;
-import com.micatechnologies.minecraft.launcher.rgb.RgbColor;
 import com.micatechnologies.minecraft.launcher.rgb.RgbFrame;
 
 import java.io.DataInputStream;
-import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SocketChannel;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -53,9 +55,11 @@ import java.util.Map;
  *       keyboards, and builds per-device LED-name → {@link KeyboardKey}
  *       maps so the per-key highlight effect can target W/A/S/D/E/etc.
  *       directly.</li>
- *   <li>{@link #renderFrame} packs a UPDATELEDS packet per connected
- *       keyboard. Devices with unknown LED names still get the
- *       background fill — graceful degradation.</li>
+ *   <li>{@link #renderFrame} works out each device's LED colors,
+ *       diffs them against what was last sent, and encodes only the
+ *       changes — see <em>Delta updates</em> below. Devices with unknown
+ *       LED names still get the background fill — graceful
+ *       degradation.</li>
  *   <li>{@link #shutdown} closes the socket. OpenRGB's server keeps
  *       device state at "whatever the last UPDATELEDS told it" — we
  *       paint one final black frame on shutdown so the user's keyboard
@@ -74,6 +78,20 @@ import java.util.Map;
  * {@link KeyboardKey}. Unmapped keys silently fall back to the
  * background color when the effect references them.</p>
  *
+ * <h3>Delta updates</h3>
+ *
+ * <p>The backend remembers the colors it last sent to every LED. Per
+ * frame, each device's changed LEDs are encoded with whichever packet
+ * mix is smallest: one {@code UPDATESINGLELED} per changed LED, one
+ * {@code UPDATEZONELEDS} per touched zone, or a single full
+ * {@code UPDATELEDS}. The choice is made zone by zone, so a keyboard
+ * whose WASD highlight toggles sends a few 24-byte packets instead of a
+ * full-keyboard update, and light strips that didn't change send
+ * nothing. Every packet of a frame is appended to one direct buffer and
+ * leaves in a single {@link SocketChannel#write} with no flush. After a
+ * failed write, what the server holds is unknown, so the next frame
+ * resends every device in full.</p>
+ *
  * @since 2026.5
  */
 public final class OpenRgbBackend implements RgbBackend
@@ -83,9 +101,24 @@ public final class OpenRgbBackend implements RgbBackend
     private static final int READ_TIMEOUT_MS    = 1_000;
     private static final int PROBE_TIMEOUT_MS   = 500;
 
-    private Socket socket;
+    /** OpenRGB server port; {@link OpenRgbProtocol#DEFAULT_PORT} outside tests. */
+    private final int port;
+
+    private SocketChannel channel;
     private DataInputStream in;
-    private OutputStream out;
+
+    /** One frame's worth of packets, sized in {@link #start()} for every
+     *  device's full UPDATELEDS — no delta encoding is ever larger. */
+    private ByteBuffer frameBuffer;
+
+    /** Set when the server's LED state is unknown (before the first
+     *  frame, after a failed write); the next frame sends every LED. */
+    private boolean resync = true;
+
+    /** Bytes and {@code write} calls the last frame took. Render-lane
+     *  only; read by tests. */
+    int lastFrameBytes;
+    int lastFrameWrites;
 
     /** Every connected RGB device. Keyboards carry a per-key map for
      *  the in-game highlight effect; other devices (mice, mousemats,
@@ -96,6 +129,24 @@ public final class OpenRgbBackend implements RgbBackend
      *  the keyboard. */
     private final List< Device > devices = new ArrayList<>();
 
+    /**
+     * Creates a backend for the OpenRGB server on its default port.
+     */
+    public OpenRgbBackend()
+    {
+        this( OpenRgbProtocol.DEFAULT_PORT );
+    }
+
+    /**
+     * Creates a backend for an OpenRGB server on {@code port}.
+     *
+     * @param port the server's TCP port on localhost
+     */
+    OpenRgbBackend( int port )
+    {
+        this.port = port;
+    }
+
     @Override
     public String name() { return "OpenRGB"; }
 
@@ -113,9 +164,7 @@ public final class OpenRgbBackend implements RgbBackend
         // attempt the handshake here — that happens in start() and gets
         // routed to the circuit breaker if it goes wrong.
         try ( Socket probe = new Socket() ) {
-            probe.connect( new InetSocketAddress( "localhost",
-                                                    OpenRgbProtocol.DEFAULT_PORT ),
-                            PROBE_TIMEOUT_MS );
+            probe.connect( new InetSocketAddress( "localhost", port ), PROBE_TIMEOUT_MS );
             return true;
         }
         catch ( Throwable t ) {
@@ -131,24 +180,28 @@ public final class OpenRgbBackend implements RgbBackend
     @Override
     public void start() throws Exception
     {
-        socket = new Socket();
-        socket.connect( new InetSocketAddress( "localhost",
-                                                 OpenRgbProtocol.DEFAULT_PORT ),
-                         CONNECT_TIMEOUT_MS );
+        // Blocking channel so a frame's batch buffer can be written
+        // directly; the handshake reads go through the socket adaptor's
+        // stream, which still honours the read timeout.
+        channel = SocketChannel.open();
+        Socket socket = channel.socket();
+        socket.connect( new InetSocketAddress( "localhost", port ), CONNECT_TIMEOUT_MS );
         socket.setSoTimeout( READ_TIMEOUT_MS );
+        // Delta frames are often a few dozen bytes; don't let Nagle hold
+        // one back waiting for the previous frame's ACK.
+        socket.setTcpNoDelay( true );
         in = new DataInputStream( socket.getInputStream() );
-        out = socket.getOutputStream();
 
         // (1) Set client name — required so the OpenRGB GUI shows
         // "Mica Minecraft Launcher" as the active client. Some
         // server-side mode logic also depends on a non-empty name.
-        OpenRgbProtocol.sendPacket( out, 0,
+        OpenRgbProtocol.sendPacket( channel, 0,
                                      OpenRgbProtocol.PKT_SET_CLIENT_NAME,
                                      OpenRgbProtocol.buildClientNameBody( CLIENT_NAME ) );
 
         // (2) Get the controller count. The server responds with a
         // single uint32 LE.
-        OpenRgbProtocol.sendPacket( out, 0,
+        OpenRgbProtocol.sendPacket( channel, 0,
                                      OpenRgbProtocol.PKT_REQUEST_CONTROLLER_COUNT,
                                      null );
         OpenRgbProtocol.Packet countPkt = OpenRgbProtocol.readPacket(
@@ -167,7 +220,7 @@ public final class OpenRgbBackend implements RgbBackend
         // additionally get a per-key LED-name map; other devices fall
         // through to "paint all LEDs with the frame background".
         for ( int i = 0; i < controllerCount; i++ ) {
-            OpenRgbProtocol.sendPacket( out, i,
+            OpenRgbProtocol.sendPacket( channel, i,
                                          OpenRgbProtocol.PKT_REQUEST_CONTROLLER_DATA,
                                          OpenRgbProtocol.buildRequestControllerDataBody() );
             OpenRgbProtocol.Packet dataPkt = OpenRgbProtocol.readPacket(
@@ -191,7 +244,7 @@ public final class OpenRgbBackend implements RgbBackend
             // etc.) and ignore our color pushes. Best-effort — some
             // device types ignore SETCUSTOMMODE without an error reply.
             try {
-                OpenRgbProtocol.sendPacket( out, i,
+                OpenRgbProtocol.sendPacket( channel, i,
                                              OpenRgbProtocol.PKT_RGBCONTROLLER_SETCUSTOMMODE,
                                              null );
             }
@@ -200,7 +253,13 @@ public final class OpenRgbBackend implements RgbBackend
             Map< KeyboardKey, Integer > keyMap = data.isKeyboard()
                     ? buildLedNameKeyMap( data.ledNames() )
                     : null;
-            devices.add( new Device( i, data.deviceType(), data.ledCount(), keyMap, data.name() ) );
+            int[] zoneStarts = zoneStarts( data.zoneLedCounts(), data.ledCount() );
+            devices.add( new Device( i, data.deviceType(), data.ledCount(),
+                                     keyMap != null ? keyLedTable( keyMap, data.ledCount() ) : null,
+                                     data.name(),
+                                     zoneStarts != null ? zoneStarts : new int[]{ 0, data.ledCount() },
+                                     zoneStarts != null,
+                                     new int[ data.ledCount() ], new int[ data.ledCount() ] ) );
             String mappedKeysSuffix = keyMap != null
                     ? LocalizationManager.format( "log.rgb.openrgb.mappedKeysSuffix", keyMap.size() )
                     : "";
@@ -212,10 +271,17 @@ public final class OpenRgbBackend implements RgbBackend
         if ( devices.isEmpty() ) {
             Logger.logStd( LocalizationManager.get( "log.rgb.openrgb.noUsableDevices" ) );
         }
+        int worstCase = 0;
+        for ( Device dev : devices ) {
+            worstCase += OpenRgbProtocol.updateLedsBytes( dev.numLeds() );
+        }
+        frameBuffer = ByteBuffer.allocateDirect( worstCase ).order( ByteOrder.LITTLE_ENDIAN );
+        resync = true;
     }
 
     /**
-     * Renders a frame of RGB colors to the connected devices.
+     * Renders a frame of RGB colors to the connected devices, sending
+     * only the LEDs that changed since the last frame.
      *
      * @param frame the RGB frame to render
      * @throws Exception if an error occurs during rendering
@@ -225,30 +291,138 @@ public final class OpenRgbBackend implements RgbBackend
     {
         if ( devices.isEmpty() ) return; // nothing to drive
 
-        int bgPacked = frame.background().packRgb();
-        for ( Device dev : devices ) {
-            int[] packed = new int[ dev.numLeds() ];
-            for ( int i = 0; i < packed.length; i++ ) {
-                packed[ i ] = bgPacked;
-            }
+        int bgPacked = frame.backgroundRgb();
+        long overrides = frame.overrideMask();
+        ByteBuffer buf = frameBuffer.clear();
+        for ( int d = 0; d < devices.size(); d++ ) {
+            Device dev = devices.get( d );
+            int[] next = dev.next();
+            Arrays.fill( next, bgPacked );
             // Keyboards get per-key overrides; other devices stay on the
             // solid background fill. Mice / mousemats with multi-zone
             // backlight could one day get a finer mapping, but for V1
             // "paint everything matching the keyboard background" is the
             // right approximation — same color everywhere reads as a
             // single cohesive theme.
-            if ( dev.keyMap() != null ) {
-                for ( Map.Entry< KeyboardKey, RgbColor > e : frame.overrides().entrySet() ) {
-                    Integer ledIdx = dev.keyMap().get( e.getKey() );
-                    if ( ledIdx != null && ledIdx >= 0 && ledIdx < packed.length ) {
-                        packed[ ledIdx ] = e.getValue().packRgb();
+            int[] keyLeds = dev.keyLeds();
+            if ( keyLeds != null ) {
+                for ( long m = overrides; m != 0; m &= m - 1 ) {
+                    int key = Long.numberOfTrailingZeros( m );
+                    int ledIdx = keyLeds[ key ];
+                    if ( ledIdx >= 0 ) {
+                        next[ ledIdx ] = frame.rgbAt( key );
                     }
                 }
             }
-            OpenRgbProtocol.sendPacket( out, dev.deviceIndex(),
-                                         OpenRgbProtocol.PKT_RGBCONTROLLER_UPDATELEDS,
-                                         OpenRgbProtocol.buildUpdateLedsBody( packed ) );
+            encodeDelta( dev, buf, resync );
+        }
+        flushFrame( buf );
+    }
+
+    /**
+     * Appends the packets that bring the server from {@code dev.sent()}
+     * to {@code dev.next()} and records {@code next} as sent. Each span
+     * (zone) is priced as single-LED updates or one zone update,
+     * whichever is smaller; if the total isn't below one full UPDATELEDS,
+     * that's sent instead.
+     *
+     * @param dev  the device
+     * @param buf  the frame's batch buffer
+     * @param full {@code true} to send every LED regardless of the diff
+     */
+    private static void encodeDelta( Device dev, ByteBuffer buf, boolean full )
+    {
+        int spans = dev.spanStarts().length - 1;
+        if ( !full ) {
+            int deltaBytes = 0;
+            for ( int z = 0; z < spans; z++ ) {
+                deltaBytes += encodeSpan( dev, z, null );
+            }
+            if ( deltaBytes == 0 ) return;
+            full = deltaBytes >= OpenRgbProtocol.updateLedsBytes( dev.numLeds() );
+        }
+        if ( full ) {
+            OpenRgbProtocol.putUpdateLeds( buf, dev.deviceIndex(), dev.next(), dev.numLeds() );
+        }
+        else {
+            for ( int z = 0; z < spans; z++ ) {
+                encodeSpan( dev, z, buf );
+            }
         }
+        System.arraycopy( dev.next(), 0, dev.sent(), 0, dev.numLeds() );
+    }
+
+    /**
+     * Prices — and, given a buffer, appends — the cheapest update for one
+     * span's changed LEDs.
+     *
+     * @param dev  the device
+     * @param span the span (zone) index
+     * @param buf  the frame's batch buffer, or {@code null} to only price
+     * @return the bytes the span's update takes; {@code 0} if unchanged
+     */
+    private static int encodeSpan( Device dev, int span, ByteBuffer buf )
+    {
+        int[] sent = dev.sent();
+        int[] next = dev.next();
+        int from = dev.spanStarts()[ span ];
+        int to = dev.spanStarts()[ span + 1 ];
+        int changed = countChanged( sent, next, from, to );
+        if ( changed == 0 ) return 0;
+        int singleBytes = changed * OpenRgbProtocol.UPDATESINGLELED_BYTES;
+        int zoneBytes = OpenRgbProtocol.updateZoneLedsBytes( to - from );
+        if ( dev.zoned() && zoneBytes < singleBytes ) {
+            if ( buf != null ) {
+                OpenRgbProtocol.putUpdateZoneLeds( buf, dev.deviceIndex(), span, next, from, to - from );
+            }
+            return zoneBytes;
+        }
+        if ( buf != null ) {
+            for ( int led = from; led < to; led++ ) {
+                if ( sent[ led ] != next[ led ] ) {
+                    OpenRgbProtocol.putUpdateSingleLed( buf, dev.deviceIndex(), led, next[ led ] );
+                }
+            }
+        }
+        return singleBytes;
+    }
+
+    /**
+     * Counts the LEDs in {@code [from, to)} whose color differs.
+     *
+     * @param sent the colors last sent
+     * @param next the colors wanted now
+     * @param from first LED index, inclusive
+     * @param to   last LED index, exclusive
+     * @return the number of changed LEDs
+     */
+    private static int countChanged( int[] sent, int[] next, int from, int to )
+    {
+        int changed = 0;
+        for ( int led = from; led < to; led++ ) {
+            if ( sent[ led ] != next[ led ] ) changed++;
+        }
+        return changed;
+    }
+
+    /**
+     * Sends the frame's batch buffer in one write (a short kernel send
+     * buffer may split it) and records its size. If the write throws,
+     * the server's state is unknown, so the next frame resends in full.
+     *
+     * @param buf the frame's batch buffer, filled but not yet flipped
+     * @throws Exception if the write fails
+     */
+    private void flushFrame( ByteBuffer buf ) throws Exception
+    {
+        buf.flip();
+        lastFrameBytes = buf.remaining();
+        lastFrameWrites = 0;
+        resync = true;
+        if ( buf.hasRemaining() ) {
+            lastFrameWrites = OpenRgbProtocol.writeFully( channel, buf );
+        }
+        resync = false;
     }
 
     /**
@@ -260,23 +434,23 @@ public final class OpenRgbBackend implements RgbBackend
         // Paint one final black frame across every device so nothing
         // stays stuck on whatever colors the last effect was driving.
         // Best-effort — a broken socket here just means we close it
-        // below without the final paint, which is fine. The zero-init
-        // int[] is already "all black" — RGB packed value 0x000000.
+        // below without the final paint, which is fine. RGB packed
+        // value 0x000000 is "all black".
         try {
-            if ( out != null && !devices.isEmpty() ) {
+            if ( channel != null && !devices.isEmpty() ) {
+                ByteBuffer buf = frameBuffer.clear();
                 for ( Device dev : devices ) {
-                    int[] packed = new int[ dev.numLeds() ];
-                    OpenRgbProtocol.sendPacket( out, dev.deviceIndex(),
-                                                 OpenRgbProtocol.PKT_RGBCONTROLLER_UPDATELEDS,
-                                                 OpenRgbProtocol.buildUpdateLedsBody( packed ) );
+                    Arrays.fill( dev.next(), 0 );
+                    OpenRgbProtocol.putUpdateLeds( buf, dev.deviceIndex(), dev.next(), dev.numLeds() );
                 }
+                OpenRgbProtocol.writeFully( channel, buf.flip() );
             }
         }
         catch ( Throwable ignored ) { /* best-effort */ }
-        try { if ( socket != null ) socket.close(); } catch ( Throwable ignored ) { }
-        socket = null;
+        try { if ( channel != null ) channel.close(); } catch ( Throwable ignored ) { }
+        channel = null;
         in = null;
-        out = null;
+        frameBuffer = null;
         devices.clear();
     }
 
@@ -285,12 +459,58 @@ public final class OpenRgbBackend implements RgbBackend
     // =========================================================================
 
     /** One row per device enumerated from the OpenRGB server.
-     *  {@code keyMap} is non-null for keyboards (drives per-key
-     *  overrides), null for everything else (mice / mousemats /
+     *  {@code keyLeds} is non-null for keyboards (LED index per
+     *  {@link KeyboardKey#ordinal()}, {@code -1} where unmapped — drives
+     *  per-key overrides), null for everything else (mice / mousemats /
      *  motherboard zones / fans / strips — paint background across
-     *  every LED). */
+     *  every LED). {@code spanStarts} is the first LED of each delta
+     *  span plus a trailing {@code numLeds}: the device's zones when
+     *  {@code zoned}, else one span over every LED (zone updates then
+     *  aren't used). {@code sent} holds the colors the server was last
+     *  sent, and {@code next} is scratch for the frame being encoded. */
     private record Device( int deviceIndex, int deviceType, int numLeds,
-                            Map< KeyboardKey, Integer > keyMap, String displayName ) {}
+                            int[] keyLeds, String displayName, int[] spanStarts, boolean zoned,
+                            int[] sent, int[] next ) {}
+
+    /**
+     * Turns per-zone LED counts into zone start offsets, for pricing and
+     * encoding zone updates.
+     *
+     * @param zoneLedCounts each zone's LED count, in zone order
+     * @param numLeds       the device's LED count
+     * @return {@code zones + 1} offsets ending in {@code numLeds}, or
+     *         {@code null} if the zones don't exactly cover the LEDs
+     */
+    private static int[] zoneStarts( int[] zoneLedCounts, int numLeds )
+    {
+        if ( zoneLedCounts.length == 0 ) return null;
+        int[] starts = new int[ zoneLedCounts.length + 1 ];
+        for ( int z = 0; z < zoneLedCounts.length; z++ ) {
+            if ( zoneLedCounts[ z ] < 0 ) return null;
+            starts[ z + 1 ] = starts[ z ] + zoneLedCounts[ z ];
+        }
+        return starts[ zoneLedCounts.length ] == numLeds ? starts : null;
+    }
+
+    /**
+     * Flattens a key → LED map into a lookup table indexed by
+     * {@link KeyboardKey#ordinal()}, so the per-frame override loop does
+     * an array read instead of a boxed map lookup.
+     *
+     * @param keyMap  the matched key → LED index map
+     * @param numLeds the device's LED count; out-of-range indices are dropped
+     * @return the LED index per key ordinal, {@code -1} where unmapped
+     */
+    private static int[] keyLedTable( Map< KeyboardKey, Integer > keyMap, int numLeds )
+    {
+        int[] table = new int[ RgbFrame.KEY_COUNT ];
+        Arrays.fill( table, -1 );
+        for ( Map.Entry< KeyboardKey, Integer > e : keyMap.entrySet() ) {
+            int ledIdx = e.getValue();
+            if ( ledIdx >= 0 && ledIdx < numLeds ) table[ e.getKey().ordinal() ] = ledIdx;
+        }
+        return table;
+    }
 
     /**
      * Returns a human-readable label for an OpenRGB device type code.
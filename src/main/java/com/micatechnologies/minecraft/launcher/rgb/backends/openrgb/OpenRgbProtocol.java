@@ -18,11 +18,10 @@
 package com.micatechnologies.minecraft.launcher.rgb.backends.openrgb;
 
 import java.io.DataInputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
@@ -97,41 +96,73 @@ final class OpenRgbProtocol
      */
     static final int PKT_RGBCONTROLLER_UPDATELEDS      = 1050;
 
+    /**
+     * Packet ID for updating the LEDs of one zone on a controller.
+     */
+    static final int PKT_RGBCONTROLLER_UPDATEZONELEDS  = 1051;
+
+    /**
+     * Packet ID for updating a single LED on a controller.
+     */
+    static final int PKT_RGBCONTROLLER_UPDATESINGLELED = 1052;
+
     /**
      * Packet ID for setting a custom mode on a controller.
      */
     static final int PKT_RGBCONTROLLER_SETCUSTOMMODE   = 1100;
 
     /** Header length: 4 magic + 4 device index + 4 packet ID + 4 size. */
-    private static final int HEADER_BYTES = 16;
+    static final int HEADER_BYTES = 16;
+
+    /** Whole UPDATESINGLELED packet: header, led_idx (int32), one color. */
+    static final int UPDATESINGLELED_BYTES = HEADER_BYTES + 4 + 4;
 
     // =========================================================================
     //  Packet I/O
     // =========================================================================
 
     /**
-     * Writes one packet to the OpenRGB server. Header + body in a single
-     * flush so the server reads them as one logical unit.
+     * Writes one packet to the OpenRGB server. Header + body go out in a
+     * single write so the server reads them as one logical unit. Only
+     * the handshake uses this; per-frame LED updates are batched through
+     * {@link #writeFully}.
      *
-     * @param out         The output stream to write the packet to.
+     * @param ch          The channel to write the packet to.
      * @param deviceIndex The index of the device.
      * @param packetId    The ID of the packet.
      * @param body        The body of the packet.
      * @throws IOException If an I/O error occurs while writing the packet.
      */
-    static void sendPacket( OutputStream out, int deviceIndex, int packetId, byte[] body )
+    static void sendPacket( WritableByteChannel ch, int deviceIndex, int packetId, byte[] body )
             throws IOException
     {
-        ByteBuffer header = ByteBuffer.allocate( HEADER_BYTES ).order( ByteOrder.LITTLE_ENDIAN );
-        header.put( MAGIC );
-        header.putInt( deviceIndex );
-        header.putInt( packetId );
-        header.putInt( body == null ? 0 : body.length );
-        out.write( header.array() );
-        if ( body != null && body.length > 0 ) {
-            out.write( body );
+        int bodySize = body == null ? 0 : body.length;
+        ByteBuffer packet = ByteBuffer.allocate( HEADER_BYTES + bodySize ).order( ByteOrder.LITTLE_ENDIAN );
+        putHeader( packet, deviceIndex, packetId, bodySize );
+        if ( bodySize > 0 ) {
+            packet.put( body );
+        }
+        writeFully( ch, packet.flip() );
+    }
+
+    /**
+     * Writes everything between {@code buf}'s position and limit. A
+     * blocking socket channel normally takes it in one call; the loop
+     * only matters when the kernel send buffer is short.
+     *
+     * @param ch  the channel to write to
+     * @param buf the bytes to send, flipped for reading
+     * @return the number of {@code write} calls it took
+     * @throws IOException if an I/O error occurs while writing
+     */
+    static int writeFully( WritableByteChannel ch, ByteBuffer buf ) throws IOException
+    {
+        int calls = 0;
+        while ( buf.hasRemaining() ) {
+            ch.write( buf );
+            calls++;
         }
-        out.flush();
+        return calls;
     }
 
     /**
@@ -214,28 +245,120 @@ final class OpenRgbProtocol
                           .putInt( CLIENT_PROTOCOL_VERSION ).array();
     }
 
+    // =========================================================================
+    //  LED update packets
+    //
+    //  Appended whole (header included) into the backend's per-frame
+    //  batch buffer, which must be little-endian.
+    // =========================================================================
+
+    /**
+     * @param numLeds the device's LED count
+     * @return the size of a whole UPDATELEDS packet for that many LEDs
+     */
+    static int updateLedsBytes( int numLeds )
+    {
+        // header + data_size + num_colors + (4 bytes per LED)
+        return HEADER_BYTES + 4 + 2 + numLeds * 4;
+    }
+
+    /**
+     * @param zoneLeds the zone's LED count
+     * @return the size of a whole UPDATEZONELEDS packet for that zone
+     */
+    static int updateZoneLedsBytes( int zoneLeds )
+    {
+        // header + data_size + zone_idx + num_colors + (4 bytes per LED)
+        return HEADER_BYTES + 4 + 4 + 2 + zoneLeds * 4;
+    }
+
     /**
-     * Builds the body for the UPDATELEDS packet.
+     * Appends an UPDATELEDS packet setting every LED of a device.
      *
-     * @param packedColors An array of packed colors to update.
-     * @return A byte array containing the body of the packet.
+     * @param buf         the batch buffer to append to
+     * @param deviceIndex the controller index the packet addresses
+     * @param colors      packed {@code 0x00RRGGBB} color per LED
+     * @param numLeds     the device's LED count
+     */
+    static void putUpdateLeds( ByteBuffer buf, int deviceIndex, int[] colors, int numLeds )
+    {
+        int bodySize = updateLedsBytes( numLeds ) - HEADER_BYTES;
+        putHeader( buf, deviceIndex, PKT_RGBCONTROLLER_UPDATELEDS, bodySize );
+        buf.putInt( bodySize );                           // data_size
+        buf.putShort( (short) numLeds );                  // num_colors
+        for ( int led = 0; led < numLeds; led++ ) {
+            putColor( buf, colors[ led ] );
+        }
+    }
+
+    /**
+     * Appends an UPDATEZONELEDS packet setting every LED of one zone.
+     * Zone LEDs are contiguous in the device's LED order, so the zone's
+     * colors are {@code colors[firstLed, firstLed + zoneLeds)}.
+     *
+     * @param buf         the batch buffer to append to
+     * @param deviceIndex the controller index the packet addresses
+     * @param zone        the zone index
+     * @param colors      packed {@code 0x00RRGGBB} color per device LED
+     * @param firstLed    the device LED index of the zone's first LED
+     * @param zoneLeds    the zone's LED count
      */
-    static byte[] buildUpdateLedsBody( int[] packedColors )
+    static void putUpdateZoneLeds( ByteBuffer buf, int deviceIndex, int zone, int[] colors,
+                                   int firstLed, int zoneLeds )
     {
-        int numColors = packedColors.length;
-        // size + numColors + (4 bytes per LED)
-        int bodySize = 4 + 2 + numColors * 4;
-        ByteBuffer buf = ByteBuffer.allocate( bodySize ).order( ByteOrder.LITTLE_ENDIAN );
+        int bodySize = updateZoneLedsBytes( zoneLeds ) - HEADER_BYTES;
+        putHeader( buf, deviceIndex, PKT_RGBCONTROLLER_UPDATEZONELEDS, bodySize );
         buf.putInt( bodySize );                           // data_size
-        buf.putShort( (short) numColors );                // num_colors
-        for ( int packed : packedColors ) {
-            // OpenRGB color layout per the wire format: R, G, B, padding.
-            buf.put( (byte) ( ( packed >> 16 ) & 0xFF ) );
-            buf.put( (byte) ( ( packed >> 8 ) & 0xFF ) );
-            buf.put( (byte) ( packed & 0xFF ) );
-            buf.put( (byte) 0 );
+        buf.putInt( zone );                               // zone_idx
+        buf.putShort( (short) zoneLeds );                 // num_colors
+        for ( int led = firstLed; led < firstLed + zoneLeds; led++ ) {
+            putColor( buf, colors[ led ] );
         }
-        return buf.array();
+    }
+
+    /**
+     * Appends an UPDATESINGLELED packet.
+     *
+     * @param buf         the batch buffer to append to
+     * @param deviceIndex the controller index the packet addresses
+     * @param led         the LED index
+     * @param rgb         the packed {@code 0x00RRGGBB} color
+     */
+    static void putUpdateSingleLed( ByteBuffer buf, int deviceIndex, int led, int rgb )
+    {
+        putHeader( buf, deviceIndex, PKT_RGBCONTROLLER_UPDATESINGLELED, UPDATESINGLELED_BYTES - HEADER_BYTES );
+        buf.putInt( led );
+        putColor( buf, rgb );
+    }
+
+    /**
+     * Appends a packet header.
+     *
+     * @param buf         the little-endian buffer to append to
+     * @param deviceIndex the controller index the packet addresses
+     * @param packetId    the packet ID
+     * @param bodySize    the size of the body that follows
+     */
+    private static void putHeader( ByteBuffer buf, int deviceIndex, int packetId, int bodySize )
+    {
+        buf.put( MAGIC );
+        buf.putInt( deviceIndex );
+        buf.putInt( packetId );
+        buf.putInt( bodySize );
+    }
+
+    /**
+     * Appends one color in OpenRGB's wire layout: R, G, B, padding.
+     *
+     * @param buf the buffer to append to
+     * @param rgb the packed {@code 0x00RRGGBB} color
+     */
+    private static void putColor( ByteBuffer buf, int rgb )
+    {
+        buf.put( (byte) ( rgb >> 16 ) );
+        buf.put( (byte) ( rgb >> 8 ) );
+        buf.put( (byte) rgb );
+        buf.put( (byte) 0 );
     }
 
     // =========================================================================
@@ -247,9 +370,11 @@ final class OpenRgbProtocol
      * Only the fields the backend actually consumes are surfaced; the
      * mode list, zone matrices, and initial-color block are walked past
      * and discarded so the offset trackers reach the LED-name section.
+     * {@code zoneLedCounts} holds each zone's LED count in zone order;
+     * zones cover the LED table contiguously.
      */
     record ControllerData( int deviceType, String name, String description,
-                           List< String > ledNames )
+                           int[] zoneLedCounts, List< String > ledNames )
     {
         /**
          * Checks if the device is a keyboard.
@@ -320,14 +445,16 @@ final class OpenRgbProtocol
                 }
             }
 
-            // Zones — also variable per-zone shape (matrix). Skip.
+            // Zones — also variable per-zone shape (matrix). Keep each
+            // zone's LED count for zone-sized delta updates; skip the rest.
             int numZones = buf.getShort() & 0xFFFF;
+            int[] zoneLedCounts = new int[ numZones ];
             for ( int i = 0; i < numZones; i++ ) {
                 readString( buf );             // zone_name
                 buf.getInt();                  // zone_type
                 buf.getInt();                  // leds_min
                 buf.getInt();                  // leds_max
-                buf.getInt();                  // leds_count
+                zoneLedCounts[ i ] = buf.getInt(); // leds_count
                 int matrixSize = buf.getShort() & 0xFFFF;
                 if ( matrixSize > 0 ) {
                     // matrix_height + matrix_width + matrix_height*matrix_width entries
@@ -348,7 +475,7 @@ final class OpenRgbProtocol
                 buf.getInt();                  // led value (default color etc.)
             }
 
-            return new ControllerData( deviceType, name, description, ledNames );
+            return new ControllerData( deviceType, name, description, zoneLedCounts, ledNames );
         }
         catch ( java.nio.BufferUnderflowException bue ) {
             throw new IOException( "OpenRGB controller data truncated or schema mismatch", bue );
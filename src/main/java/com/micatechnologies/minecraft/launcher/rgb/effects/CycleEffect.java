@@ -47,9 +47,10 @@ public final class CycleEffect implements RgbEffect
     /** Human-readable effect name surfaced via {@link #name()}. */
     private final String name;
 
-    /** Ordered palette cycled through, defensively copied at construction.
-     *  The cycle wraps from the last entry back to the first. */
-    private final RgbColor[] colors;
+    /** Ordered palette cycled through, packed as {@code 0x00RRGGBB} and
+     *  copied at construction. The cycle wraps from the last entry back
+     *  to the first. */
+    private final int[] colors;
 
     /** Duration in milliseconds of one full loop through every color. */
     private final long periodMs;
@@ -79,7 +80,10 @@ public final class CycleEffect implements RgbEffect
             throw new IllegalArgumentException( "periodMs must be positive: " + periodMs );
         }
         this.name = name;
-        this.colors = colors.toArray( new RgbColor[ 0 ] );
+        this.colors = new int[ colors.size() ];
+        for ( int i = 0; i < this.colors.length; i++ ) {
+            this.colors[ i ] = colors.get( i ).packRgb();
+        }
         this.periodMs = periodMs;
     }
 
@@ -108,11 +112,37 @@ public final class CycleEffect implements RgbEffect
     @Override public String name() { return name; }
     @Override
     public RgbFrame frameAt( long elapsedMs )
+    {
+        return RgbFrame.solid( RgbColor.fromPacked( rgbAt( elapsedMs ) ) );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Same blend as {@link #frameAt(long)}, painted into the engine's
+     * buffer.</p>
+     *
+     * @since 2026.7
+     */
+    @Override
+    public RgbFrame renderInto( long elapsedMs, RgbFrame target )
+    {
+        return target.fill( rgbAt( elapsedMs ) );
+    }
+
+    /**
+     * The packed cycle color at {@code elapsedMs}.
+     *
+     * @param elapsedMs milliseconds elapsed since the effect started
+     *
+     * @return the blended color, packed as {@code 0x00RRGGBB}
+     */
+    private int rgbAt( long elapsedMs )
     {
         // A single color degenerates to SolidEffect — short-circuit so
         // we don't divide by zero or blend a color into itself.
         if ( colors.length == 1 ) {
-            return RgbFrame.solid( colors[ 0 ] );
+            return colors[ 0 ];
         }
 
         // Phase in [0, 1) — what fraction through the full cycle are we?
@@ -127,15 +157,15 @@ public final class CycleEffect implements RgbEffect
         if ( segIndex >= colors.length ) segIndex = colors.length - 1; // belt-and-suspenders
         double segPhase = scaled - segIndex;
 
-        RgbColor from = colors[ segIndex ];
-        RgbColor to   = colors[ ( segIndex + 1 ) % colors.length ];
+        int from = colors[ segIndex ];
+        int to   = colors[ ( segIndex + 1 ) % colors.length ];
 
         // Half-cosine ease: 0 → 0, 0.5 → 0.5 (linear midpoint), 1 → 1,
         // with eased acceleration at the ends. Smoother than a linear
         // lerp without picking up the dip-to-zero behaviour of the
         // PulseEffect curve (which is a full breathe back to colorA).
         double t = ( 1.0 - Math.cos( segPhase * Math.PI ) ) / 2.0;
-        return RgbFrame.solid( RgbColor.blend( from, to, t ) );
+        return RgbColor.blendPacked( from, to, t );
     }
 
     /**
@@ -146,4 +176,20 @@ public final class CycleEffect implements RgbEffect
      * @since 2026.5
      */
     public int colorCount() { return colors.length; }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>A palette whose colors are all the same is constant.</p>
+     *
+     * @since 2026.7
+     */
+    @Override
+    public boolean isAnimated()
+    {
+        for ( int c : colors ) {
+            if ( c != colors[ 0 ] ) return true;
+        }
+        return false;
+    }
 }
@@ -117,4 +117,19 @@ public final class InGameEffect implements RgbEffect
     {
         return frame;
     }
+
+    /**
+     * The in-game frame never changes, so the engine renders it once and
+     * idles for the rest of the play session rather than waking at 30fps
+     * on a machine that should be spending every cycle on the game.
+     *
+     * @return always {@code false}
+     *
+     * @since 2026.7
+     */
+    @Override
+    public boolean isAnimated()
+    {
+        return false;
+    }
 }
@@ -55,6 +55,10 @@ public final class PulseEffect implements RgbEffect
     /** Duration in milliseconds of one full breathe (A → B → A). */
     private final long periodMs;
 
+    /** {@link #colorA} and {@link #colorB} packed, for {@link #renderInto}. */
+    private final int packedA;
+    private final int packedB;
+
     /**
      * Creates a two-color breathe effect.
      *
@@ -77,6 +81,8 @@ public final class PulseEffect implements RgbEffect
         this.colorA = colorA;
         this.colorB = colorB;
         this.periodMs = periodMs;
+        this.packedA = colorA.packRgb();
+        this.packedB = colorB.packRgb();
     }
 
     /**
@@ -116,4 +122,34 @@ public final class PulseEffect implements RgbEffect
         double t = ( 1.0 - Math.cos( phase * 2.0 * Math.PI ) ) / 2.0;
         return RgbFrame.solid( RgbColor.blend( colorA, colorB, t ) );
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Same curve as {@link #frameAt(long)}, blended on packed ints and
+     * painted into the engine's buffer.</p>
+     *
+     * @since 2026.7
+     */
+    @Override
+    public RgbFrame renderInto( long elapsedMs, RgbFrame target )
+    {
+        double phase = ( elapsedMs % periodMs ) / (double) periodMs;
+        double t = ( 1.0 - Math.cos( phase * 2.0 * Math.PI ) ) / 2.0;
+        return target.fill( RgbColor.blendPacked( packedA, packedB, t ) );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>A breathe between two identical colors (a pack whose two
+     * dominant colors collapsed to one) is constant.</p>
+     *
+     * @since 2026.7
+     */
+    @Override
+    public boolean isAnimated()
+    {
+        return packedA != packedB;
+    }
 }
@@ -105,6 +105,21 @@ public final class RainbowEffect implements RgbEffect
         return RgbFrame.solid( hslToRgb( hue, SATURATION, LIGHTNESS ) );
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Same hue as {@link #frameAt(long)}, painted into the engine's
+     * buffer without an intermediate {@link RgbColor}.</p>
+     *
+     * @since 2026.7
+     */
+    @Override
+    public RgbFrame renderInto( long elapsedMs, RgbFrame target )
+    {
+        double phase = ( elapsedMs % periodMs ) / (double) periodMs;
+        return target.fill( hslToPackedRgb( phase * 360.0, SATURATION, LIGHTNESS ) );
+    }
+
     /**
      * HSL → RGB conversion. Hue in degrees [0, 360); saturation and
      * lightness in [0, 1]. Implementation follows the standard piecewise
@@ -120,6 +135,22 @@ public final class RainbowEffect implements RgbEffect
      * @since 2026.5
      */
     static RgbColor hslToRgb( double hueDeg, double s, double l )
+    {
+        return RgbColor.fromPacked( hslToPackedRgb( hueDeg, s, l ) );
+    }
+
+    /**
+     * {@link #hslToRgb} without the {@link RgbColor} — the per-tick form.
+     *
+     * @param hueDeg hue angle in degrees
+     * @param s      saturation value
+     * @param l      lightness value
+     *
+     * @return the RGB color packed as {@code 0x00RRGGBB}
+     *
+     * @since 2026.7
+     */
+    static int hslToPackedRgb( double hueDeg, double s, double l )
     {
         double h = ( ( hueDeg % 360.0 ) + 360.0 ) % 360.0;
         double c = ( 1.0 - Math.abs( 2.0 * l - 1.0 ) ) * s;
@@ -137,7 +168,7 @@ public final class RainbowEffect implements RgbEffect
         int r = clamp255( (int) Math.round( ( r1 + m ) * 255.0 ) );
         int g = clamp255( (int) Math.round( ( g1 + m ) * 255.0 ) );
         int b = clamp255( (int) Math.round( ( b1 + m ) * 255.0 ) );
-        return new RgbColor( r, g, b );
+        return ( r << 16 ) | ( g << 8 ) | b;
     }
 
     /**
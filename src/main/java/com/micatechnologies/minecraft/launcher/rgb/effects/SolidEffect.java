@@ -27,9 +27,9 @@ import com.micatechnologies.minecraft.launcher.rgb.RgbFrame;
  * <p>Used by the Settings "Test" button (flash the user's accent color
  * to confirm wiring) and as the "off" effect that paints black before
  * the engine stops. Constant-frame: {@link #frameAt(long)} returns the
- * same {@link RgbFrame} on every call so the controller's frame-
- * deduplication can collapse repeats and skip the per-frame socket
- * write.</p>
+ * same {@link RgbFrame} on every call and reports
+ * {@link #isAnimated()} {@code false}, so the effect engine renders it
+ * once and then idles at its keepalive cadence.</p>
  *
  * @since 2026.5
  */
@@ -76,4 +76,17 @@ public final class SolidEffect implements RgbEffect
      */
     @Override public String name() { return name; }
     @Override public RgbFrame frameAt( long elapsedMs ) { return frame; }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return always {@code false}; the frame is fixed at construction
+     *
+     * @since 2026.7
+     */
+    @Override
+    public boolean isAnimated()
+    {
+        return false;
+    }
 }
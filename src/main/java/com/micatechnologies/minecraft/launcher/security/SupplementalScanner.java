@@ -19,6 +19,8 @@ package com.micatechnologies.minecraft.launcher.security;
 
 import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
 import com.micatechnologies.minecraft.launcher.files.Logger;
+import com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors;
+import com.micatechnologies.minecraft.launcher.utilities.TaskScope;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.ClassNode;
@@ -40,9 +42,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.regex.Matcher;
@@ -396,18 +395,22 @@ public final class SupplementalScanner
      * {@code bin/}, {@code runtime/}). The built-in list is appended last so a
      * malicious manifest cannot countermand it by supplying an empty exclusion
      * set. The directory tree is walked once; matching {@code .jar} files are
-     * queued and then scanned across a fixed thread pool. A JAR that fails to
+     * queued and then scanned on the shared CPU workload, at most
+     * {@code nThreads} at a time, inside a {@link TaskScope} so a cancelled
+     * launch stops the scan. A JAR that fails to
      * open is logged and skipped rather than aborting the scan.</p>
      *
      * @param root          pack root directory to walk; scanning is recursive
      * @param excludeFolders pack-root-relative paths (modpack-supplied scan
      *                       exclusions) to skip, in addition to the built-in
      *                       exclusions; may be {@code null} or empty
-     * @param nThreads      desired worker-thread count; clamped to a minimum of
-     *                      one
+     * @param nThreads      maximum number of JARs scanned at once; clamped to a
+     *                      minimum of one
      * @return the aggregated findings across every scanned JAR; empty when
      *         nothing was flagged
      * @throws IOException if walking the directory tree under {@code root} fails
+     * @throws java.util.concurrent.CancellationException if the enclosing launch
+     *                     scope was cancelled
      *
      * @since 2026.2
      */
@@ -451,10 +454,9 @@ public final class SupplementalScanner
             }
         } );
 
-        ExecutorService pool = Executors.newFixedThreadPool( Math.max( 1, nThreads ) );
-        try {
+        try ( TaskScope scope = TaskScope.open( "supplemental scan", Math.max( 1, nThreads ) ) ) {
             for ( Path jar : toScan ) {
-                pool.submit( () -> {
+                scope.fork( LauncherExecutors.Workload.CPU, () -> {
                     try ( JarFile jf = new JarFile( jar.toFile() ) ) {
                         findings.addAll( scanJar( jf, jar ) );
                     }
@@ -463,20 +465,14 @@ public final class SupplementalScanner
                                 "log.supplementalScanner.openFailed",
                                 jar.getFileName(), e.getClass().getSimpleName() ) );
                     }
+                    return null;
                 } );
             }
+            scope.join();
         }
-        finally {
-            pool.shutdown();
-            try {
-                if ( !pool.awaitTermination( 30, TimeUnit.MINUTES ) ) {
-                    pool.shutdownNow();
-                }
-            }
-            catch ( InterruptedException e ) {
-                pool.shutdownNow();
-                Thread.currentThread().interrupt();
-            }
+        catch ( InterruptedException e ) {
+            // Closing the scope already cancelled the in-flight jars.
+            Thread.currentThread().interrupt();
         }
         return findings;
     }
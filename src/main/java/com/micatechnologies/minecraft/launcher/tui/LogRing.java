@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.tui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size, lock-free ring of captured log lines, each stamped with a sequence number. Writers
+ * (the stdout and stderr reader threads) claim a sequence with one atomic increment and publish into
+ * its slot; readers keep a cursor and ask for {@linkplain #since(long) the lines after it}, so a
+ * refresh only ever copies what is new and never blocks a writer.
+ *
+ * <p>Once the ring wraps, the oldest lines are overwritten. A reader whose cursor fell behind the
+ * retained window gets the oldest lines still held and a {@link Chunk#dropped()} count of what it
+ * missed.</p>
+ *
+ * @since 2026.7
+ */
+final class LogRing
+{
+    /**
+     * One captured line and its sequence number.
+     *
+     * @param seq  the line's sequence number, starting at 0
+     * @param text the line text
+     *
+     * @since 2026.7
+     */
+    record Line( long seq, String text )
+    {
+    }
+
+    /**
+     * The result of a {@link #since(long)} read.
+     *
+     * @param lines   the new lines, oldest first
+     * @param next    the cursor to pass to the next read
+     * @param dropped lines after the cursor that were overwritten before this read
+     *
+     * @since 2026.7
+     */
+    record Chunk( List< String > lines, long next, long dropped )
+    {
+    }
+
+    /**
+     * Slot storage; a slot holds the newest line whose sequence maps to it.
+     */
+    private final AtomicReferenceArray< Line > slots;
+
+    /**
+     * {@code capacity - 1}; the capacity is a power of two so a sequence maps to its slot by masking.
+     */
+    private final int mask;
+
+    /**
+     * The next sequence number to hand out, i.e. the number of lines ever appended.
+     */
+    private final AtomicLong next = new AtomicLong();
+
+    /**
+     * Creates a ring holding at least {@code minCapacity} lines.
+     *
+     * @param minCapacity the minimum number of lines retained; rounded up to a power of two
+     *
+     * @since 2026.7
+     */
+    LogRing( int minCapacity )
+    {
+        int capacity = Integer.highestOneBit( Math.max( 2, minCapacity ) - 1 ) << 1;
+        this.slots = new AtomicReferenceArray<>( capacity );
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Appends a line. Safe to call from any number of threads at once.
+     *
+     * @param text the line text
+     *
+     * @since 2026.7
+     */
+    void append( String text )
+    {
+        long seq = next.getAndIncrement();
+        slots.set( (int) ( seq & mask ), new Line( seq, text ) );
+    }
+
+    /**
+     * Returns the lines appended at or after {@code cursor}, oldest first. Stops early at a line a
+     * writer has claimed but not yet published; the returned {@link Chunk#next()} cursor resumes
+     * there on the next read.
+     *
+     * @param cursor the first sequence number wanted; {@code 0} for everything still held
+     *
+     * @return the new lines and the cursor for the next read
+     *
+     * @since 2026.7
+     */
+    Chunk since( long cursor )
+    {
+        long end = next.get();
+        long oldest = Math.max( 0, end - slots.length() );
+        long seq = Math.max( cursor, oldest );
+        long dropped = seq - cursor;
+        List< String > lines = new ArrayList<>( (int) Math.max( 0, end - seq ) );
+        while ( seq < end ) {
+            Line line = slots.get( (int) ( seq & mask ) );
+            if ( line == null || line.seq() < seq ) {
+                break; // claimed, not yet published
+            }
+            if ( line.seq() > seq ) {
+                // Overwritten by a writer that lapped us mid-read.
+                dropped++;
+            }
+            else {
+                lines.add( line.text() );
+            }
+            seq++;
+        }
+        return new Chunk( lines, seq, dropped );
+    }
+
+    /**
+     * Returns the sequence number the next appended line will get.
+     *
+     * @return the number of lines ever appended
+     *
+     * @since 2026.7
+     */
+    long end()
+    {
+        return next.get();
+    }
+
+    /**
+     * Returns the number of lines the ring retains.
+     *
+     * @return the ring capacity
+     *
+     * @since 2026.7
+     */
+    int capacity()
+    {
+        return slots.length();
+    }
+}
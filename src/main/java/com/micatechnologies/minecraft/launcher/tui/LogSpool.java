@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.tui;
+
+import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
+import com.micatechnologies.minecraft.launcher.files.Logger;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Disk sink for a game session's console output: every captured line is appended to a file, so a
+ * long headless session keeps its whole history without holding it on the heap. {@link #search}
+ * streams the file back for the Logs view's search, keeping only the most recent matches in memory.
+ *
+ * <p>A write failure (disk full, file removed) logs once and turns the spool off; the session
+ * carries on with the in-memory tail only.</p>
+ *
+ * @since 2026.7
+ */
+final class LogSpool
+{
+    /**
+     * Matches found by a search.
+     *
+     * @param lines the most recent matches, oldest first, each prefixed with its line number
+     * @param total how many lines matched in all
+     *
+     * @since 2026.7
+     */
+    record Matches( List< String > lines, long total )
+    {
+    }
+
+    /**
+     * The spool file.
+     */
+    private final Path file;
+
+    /**
+     * Buffered writer over {@link #file}; {@code null} once closed or after a write failure. Guarded
+     * by {@code this}.
+     */
+    private BufferedWriter writer;
+
+    private LogSpool( Path file, BufferedWriter writer )
+    {
+        this.file = file;
+        this.writer = writer;
+    }
+
+    /**
+     * Opens (truncating) a spool file.
+     *
+     * @param file the spool file; parent folders are created as needed
+     *
+     * @return the spool, or {@code null} if the file can't be opened
+     *
+     * @since 2026.7
+     */
+    static LogSpool open( Path file )
+    {
+        try {
+            Files.createDirectories( file.getParent() );
+            return new LogSpool( file, Files.newBufferedWriter( file, StandardCharsets.UTF_8 ) );
+        }
+        catch ( IOException e ) {
+            Logger.logWarningSilent( LocalizationManager.format( "log.logSpool.openFailed", file, e.getMessage() ) );
+            return null;
+        }
+    }
+
+    /**
+     * Returns the spool file.
+     *
+     * @return the spool file path
+     *
+     * @since 2026.7
+     */
+    Path file()
+    {
+        return file;
+    }
+
+    /**
+     * Appends one line.
+     *
+     * @param line the captured line
+     *
+     * @since 2026.7
+     */
+    synchronized void append( String line )
+    {
+        if ( writer == null ) {
+            return;
+        }
+        try {
+            writer.write( line );
+            writer.newLine();
+        }
+        catch ( IOException e ) {
+            fail( e );
+        }
+    }
+
+    /**
+     * Pushes buffered lines to the file, so a search sees everything captured so far.
+     *
+     * @since 2026.7
+     */
+    synchronized void flush()
+    {
+        if ( writer == null ) {
+            return;
+        }
+        try {
+            writer.flush();
+        }
+        catch ( IOException e ) {
+            fail( e );
+        }
+    }
+
+    /**
+     * Flushes and closes the file. Further appends are ignored; the file stays searchable.
+     *
+     * @since 2026.7
+     */
+    synchronized void close()
+    {
+        if ( writer == null ) {
+            return;
+        }
+        try {
+            writer.close();
+        }
+        catch ( IOException e ) {
+            Logger.logWarningSilent( LocalizationManager.format( "log.logSpool.writeFailed", file, e.getMessage() ) );
+        }
+        writer = null;
+    }
+
+    /**
+     * Searches the spool file for lines containing {@code query} (case-insensitive), streaming it
+     * rather than loading it.
+     *
+     * @param query      the text to look for
+     * @param maxMatches the most matches to return; the newest are kept
+     *
+     * @return the matches
+     *
+     * @throws IOException if the file can't be read
+     *
+     * @since 2026.7
+     */
+    Matches search( String query, int maxMatches ) throws IOException
+    {
+        flush();
+        // InputStreamReader replaces malformed input rather than throwing, so a game that
+        // printed a stray non-UTF-8 byte doesn't make its log unsearchable.
+        try ( BufferedReader reader = new BufferedReader(
+                new InputStreamReader( Files.newInputStream( file ), StandardCharsets.UTF_8 ) ) ) {
+            return search( reader.lines().iterator(), 1, query, maxMatches );
+        }
+        catch ( UncheckedIOException e ) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Collects the lines containing {@code query} (case-insensitive), keeping the newest
+     * {@code maxMatches}.
+     *
+     * @param lines      the lines to search, oldest first
+     * @param firstLine  the line number of the first line
+     * @param query      the text to look for
+     * @param maxMatches the most matches to keep
+     *
+     * @return the matches, each prefixed with its line number
+     *
+     * @since 2026.7
+     */
+    static Matches search( Iterator< String > lines, long firstLine, String query, int maxMatches )
+    {
+        String needle = query.toLowerCase( Locale.ROOT );
+        ArrayDeque< String > kept = new ArrayDeque<>();
+        long total = 0;
+        long number = firstLine;
+        while ( lines.hasNext() ) {
+            String line = lines.next();
+            if ( line.toLowerCase( Locale.ROOT ).contains( needle ) ) {
+                total++;
+                kept.addLast( number + ": " + line );
+                if ( kept.size() > maxMatches ) {
+                    kept.pollFirst();
+                }
+            }
+            number++;
+        }
+        return new Matches( List.copyOf( kept ), total );
+    }
+
+    private void fail( IOException e )
+    {
+        Logger.logWarningSilent( LocalizationManager.format( "log.logSpool.writeFailed", file, e.getMessage() ) );
+        try {
+            writer.close();
+        }
+        catch ( IOException ignored ) {
+            // already failing
+        }
+        writer = null;
+    }
+}
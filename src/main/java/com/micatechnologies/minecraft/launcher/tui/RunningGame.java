@@ -17,6 +17,8 @@
 
 package com.micatechnologies.minecraft.launcher.tui;
 
+import com.micatechnologies.minecraft.launcher.config.ConfigManager;
+import com.micatechnologies.minecraft.launcher.game.modpack.GameJfrTelemetry;
 import com.micatechnologies.minecraft.launcher.game.modpack.GameModPack;
 
 import java.io.BufferedReader;
@@ -24,13 +26,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A modpack game launched from the TUI: wraps the child {@link Process}, captures its piped
- * stdout/stderr into a bounded log ring buffer for the Logs view, and watches for exit (recording
+ * stdout/stderr into a sequence-numbered {@link LogRing} the Logs view tails by cursor (and, when
+ * enabled, a {@link LogSpool} on disk), and watches for exit (recording
  * the play session + invoking an on-exit callback). The TUI calls {@code GameModPack.startGame()}
  * directly — bypassing {@code LauncherCore.play()} — so launch-start / session-end recording is done
  * here rather than relying on the GUI play path.
@@ -41,11 +43,19 @@ public final class RunningGame
 {
     /**
      * Cap on buffered log lines per game — keeps a long session from growing unbounded.
+     * Rounded up to a power of two by {@link LogRing}.
      *
      * @since 2026.6
      */
     private static final int MAX_LOG_LINES = 4000;
 
+    /**
+     * Spool file, relative to the pack root, when console spooling is enabled.
+     *
+     * @since 2026.7
+     */
+    private static final String SPOOL_FILE = "logs/console.log";
+
     /**
      * The modpack whose game process this instance wraps.
      *
@@ -69,23 +79,35 @@ public final class RunningGame
     private final long        startMs;
 
     /**
-     * Bounded log ring buffer holding the most recent captured stdout/stderr lines (oldest first).
-     * Both reader threads (stdout + stderr) append under {@link #logLock}, and the GUI thread copies
-     * it for display. An {@link ArrayDeque} (rather than {@code ConcurrentLinkedDeque}) is used so
-     * {@code size()} is O(1) — a fast-spewing game log would otherwise pay an O(n) {@code size()}
-     * traversal on every captured line.
+     * Recent captured stdout/stderr lines. Both reader threads append without locking, and the
+     * Logs view reads only what arrived since its last cursor.
      *
-     * @since 2026.6
+     * @since 2026.7
      */
-    private final ArrayDeque< String > log = new ArrayDeque<>();
+    private final LogRing log = new LogRing( MAX_LOG_LINES );
 
     /**
-     * Monitor guarding all access to {@link #log}, shared between the two reader threads and the
-     * snapshotting GUI thread.
+     * Full-session copy of the output on disk, or {@code null} when spooling is off or the file
+     * couldn't be opened. Closed by the last reader thread to finish.
      *
-     * @since 2026.6
+     * @since 2026.7
+     */
+    private final LogSpool spool;
+
+    /**
+     * Reader threads still running; the last one to finish closes {@link #spool}.
+     *
+     * @since 2026.7
      */
-    private final Object               logLock = new Object();
+    private final AtomicInteger openReaders = new AtomicInteger();
+
+    /**
+     * Live JFR telemetry for this session, or {@code null} when the option is off. Set by
+     * {@link #start(Runnable)}; stops itself when the process exits.
+     *
+     * @since 2026.7
+     */
+    private volatile GameJfrTelemetry telemetry;
 
     /**
      * Creates a wrapper around an already-launched game process and stamps the session start time.
@@ -102,10 +124,14 @@ public final class RunningGame
         this.pack = pack;
         this.process = process;
         this.startMs = System.currentTimeMillis();
+        this.spool = ConfigManager.getGameLogSpoolEnable()
+                     ? LogSpool.open( Path.of( pack.getPackRootFolder(), SPOOL_FILE ) )
+                     : null;
     }
 
     /**
-     * Records the launch, starts the stdout/stderr reader threads, and starts the exit watcher. The
+     * Records the launch, starts the stdout/stderr reader threads and (when enabled) live telemetry,
+     * and starts the exit watcher. The
      * launch-start recording is best-effort and never blocks the launch on failure. When the process
      * ends, the play session duration is recorded and {@code onExit} (if non-{@code null}) is invoked
      * on the watcher thread — off the FX/GUI thread.
@@ -122,8 +148,10 @@ public final class RunningGame
         catch ( Throwable ignored ) {
             // best-effort playtime tracking; never block the launch
         }
+        openReaders.set( 2 );
         startReader( process.getInputStream() );
         startReader( process.getErrorStream() );
+        telemetry = GameJfrTelemetry.attach( pack, process );
 
         Thread watcher = new Thread( () -> {
             try {
@@ -146,8 +174,8 @@ public final class RunningGame
     }
 
     /**
-     * Spawns a daemon thread that reads {@code in} line-by-line and appends each line to the bounded
-     * {@link #log} ring buffer, evicting the oldest lines once {@link #MAX_LOG_LINES} is exceeded. The
+     * Spawns a daemon thread that reads {@code in} line-by-line and appends each line to the
+     * {@link #log} ring (which overwrites the oldest once full) and the {@link #spool}, if any. The
      * thread terminates normally when the stream closes on process exit.
      *
      * @param in the process output stream (stdout or stderr) to capture
@@ -160,17 +188,18 @@ public final class RunningGame
             try ( BufferedReader br = new BufferedReader( new InputStreamReader( in, StandardCharsets.UTF_8 ) ) ) {
                 String line;
                 while ( ( line = br.readLine() ) != null ) {
-                    synchronized ( logLock ) {
-                        log.addLast( line );
-                        while ( log.size() > MAX_LOG_LINES ) {
-                            log.pollFirst();
-                        }
+                    log.append( line );
+                    if ( spool != null ) {
+                        spool.append( line );
                     }
                 }
             }
             catch ( IOException ignored ) {
                 // stream closed on process exit — normal
             }
+            if ( openReaders.decrementAndGet() == 0 && spool != null ) {
+                spool.close();
+            }
         }, "tui-game-log-" + pack.getPackSanitizedName() );
         t.setDaemon( true );
         t.start();
@@ -225,18 +254,65 @@ public final class RunningGame
     }
 
     /**
-     * Returns a point-in-time copy of the captured log lines (oldest first). The returned list is a
-     * fresh snapshot taken under {@link #logLock}, so the caller may iterate it freely while the
-     * reader threads continue capturing.
+     * Returns the log lines captured since {@code cursor}, oldest first, without blocking the
+     * reader threads. Pass {@code 0} for everything still buffered, then the returned
+     * {@link LogRing.Chunk#next()} on each later call.
      *
-     * @return a new list containing the currently buffered log lines, oldest first
+     * @param cursor the sequence number of the first line wanted
      *
-     * @since 2026.6
+     * @return the new lines and the cursor for the next call
+     *
+     * @since 2026.7
+     */
+    LogRing.Chunk logSince( long cursor )
+    {
+        return log.since( cursor );
+    }
+
+    /**
+     * Searches the session's output for {@code query} (case-insensitive): the whole session when
+     * it is spooled to disk, otherwise the lines still buffered in memory. Streams the spool file,
+     * so this blocks — call it off the GUI thread.
+     *
+     * @param query      the text to look for
+     * @param maxMatches the most matches to return; the newest are kept
+     *
+     * @return the matches
+     *
+     * @throws IOException if the spool file can't be read
+     *
+     * @since 2026.7
      */
-    public List< String > logSnapshot()
+    LogSpool.Matches searchLog( String query, int maxMatches ) throws IOException
     {
-        synchronized ( logLock ) {
-            return new ArrayList<>( log );
+        if ( spool != null ) {
+            return spool.search( query, maxMatches );
         }
+        LogRing.Chunk held = log.since( 0 );
+        return LogSpool.search( held.lines().iterator(), held.dropped() + 1, query, maxMatches );
+    }
+
+    /**
+     * Returns the file the session's output is spooled to.
+     *
+     * @return the spool file, or {@code null} when the session isn't spooled
+     *
+     * @since 2026.7
+     */
+    Path spoolFile()
+    {
+        return spool == null ? null : spool.file();
+    }
+
+    /**
+     * Returns the session's live JFR telemetry, for the Logs view's sparklines.
+     *
+     * @return the telemetry, or {@code null} when the session doesn't stream any
+     *
+     * @since 2026.7
+     */
+    public GameJfrTelemetry telemetry()
+    {
+        return telemetry;
     }
 }
@@ -47,9 +47,13 @@ import com.micatechnologies.minecraft.launcher.consts.ConfigConstants;
 import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
 import com.micatechnologies.minecraft.launcher.files.Logger;
 import com.micatechnologies.minecraft.launcher.game.auth.MCLauncherAuthManager;
+import com.micatechnologies.minecraft.launcher.game.modpack.GameJfrTelemetry;
 import com.micatechnologies.minecraft.launcher.game.modpack.GameModPack;
 import com.micatechnologies.minecraft.launcher.game.modpack.GameModPackManager;
+import com.micatechnologies.minecraft.launcher.game.modpack.ModpackBackupManager;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.concurrent.Executors;
@@ -83,7 +87,9 @@ public final class TuiApp
     private View currentView = View.LIBRARY;
     private GameModPack logsTarget;  // pack whose logs the Logs view is showing
     private TextBox logsBox;         // the read-only log display in the Logs view
-    private int     lastLogSize = -1; // last-rendered log line count, so we only refresh on new output
+    private long    logCursor;       // sequence of the next log line to render; only newer lines are appended
+    private boolean logExited;       // the "(game exited)" notice is showing
+    private Label   telemetryLabel;  // live telemetry sparklines above the log, when the game streams any
     private ActionListBox settingsList; // current Settings list, so a rebuild can keep the selection
 
     private TuiApp() { /* via run() */ }
@@ -275,6 +281,13 @@ public final class TuiApp
                 }
                 return false;
             }
+            case '/' -> {
+                if ( currentView == View.LOGS ) {
+                    searchLogs();
+                    return true;
+                }
+                return false;
+            }
             default -> { return false; }
         }
     }
@@ -361,6 +374,7 @@ public final class TuiApp
                 .setDescription( running ? loc( "tui.actions.running" ) : loc( "tui.actions.choose" ) );
         if ( !running ) {
             b.addAction( loc( "tui.action.launch" ), () -> launch( pack ) );
+            b.addAction( loc( "tui.action.restoreBackup" ), () -> restoreBackup( pack ) );
             b.addAction( loc( "tui.action.uninstall" ), () -> confirmUninstall( pack ) );
         }
         else {
@@ -394,6 +408,48 @@ public final class TuiApp
                         this::showLibrary );
     }
 
+    /**
+     * Lists the pack's backup snapshots and, after confirmation, restores the
+     * chosen one.
+     *
+     * @param pack the pack to restore into
+     */
+    private void restoreBackup( GameModPack pack )
+    {
+        List< String > ids = ModpackBackupManager.listSnapshots( pack );
+        if ( ids.isEmpty() ) {
+            MessageDialog.showMessageDialog( gui, loc( "tui.restore.title" ), loc( "tui.restore.none" ),
+                                             MessageDialogButton.OK );
+            return;
+        }
+        ActionListDialogBuilder b = new ActionListDialogBuilder()
+                .setTitle( loc( "tui.restore.title" ) )
+                .setDescription( loc( "tui.restore.choose" ) );
+        for ( String id : ids ) {
+            b.addAction( id, () -> {
+                MessageDialogButton r = MessageDialog.showMessageDialog( gui, loc( "tui.restore.title" ),
+                        locf( "tui.restore.confirm", id, pack.getFriendlyName() ),
+                        MessageDialogButton.Yes, MessageDialogButton.No );
+                if ( r != MessageDialogButton.Yes ) {
+                    return;
+                }
+                int[] restored = { 0 };
+                runWithSpinner( locf( "tui.restore.working", id ), () -> {
+                    try {
+                        restored[ 0 ] = ModpackBackupManager.restoreSnapshot( pack, id );
+                    }
+                    catch ( IOException e ) {
+                        throw new UncheckedIOException( e.getMessage(), e );
+                    }
+                }, () -> MessageDialog.showMessageDialog( gui, loc( "tui.restore.title" ),
+                                                          locf( "tui.restore.done", restored[ 0 ], id ),
+                                                          MessageDialogButton.OK ) );
+            } );
+        }
+        b.addAction( loc( "tui.action.close" ), () -> { } );
+        b.build().showDialog( gui );
+    }
+
     /**
      * Launches the given pack from the TUI, routing progress through the
      * TUI progress provider.
@@ -580,12 +636,18 @@ public final class TuiApp
                  ConfigManager::getAutoBackupBeforeUpdate, ConfigManager::setAutoBackupBeforeUpdate );
         boolRow( list, loc( "tui.setting.proxyEnable" ),
                  ConfigManager::getProxyEnable, ConfigManager::setProxyEnable );
+        boolRow( list, loc( "tui.setting.liveTelemetry" ),
+                 ConfigManager::getGameJfrTelemetryEnable, ConfigManager::setGameJfrTelemetryEnable );
+        boolRow( list, loc( "tui.setting.logSpool" ),
+                 ConfigManager::getGameLogSpoolEnable, ConfigManager::setGameLogSpoolEnable );
 
         longRow( list, loc( "tui.setting.minRam" ), ConfigManager::getMinRam, ConfigManager::setMinRam );
         longRow( list, loc( "tui.setting.maxRam" ), ConfigManager::getMaxRam, ConfigManager::setMaxRam );
         intRow( list, loc( "tui.setting.maxBackups" ),
                 ConfigManager::getMaxBackupsPerPack, ConfigManager::setMaxBackupsPerPack );
         intRow( list, loc( "tui.setting.proxyPort" ), ConfigManager::getProxyPort, ConfigManager::setProxyPort );
+        intRow( list, loc( "tui.setting.lagAlertMs" ),
+                ConfigManager::getGameJfrLagAlertMs, ConfigManager::setGameJfrLagAlertMs );
 
         stringRow( list, loc( "tui.setting.jvmArgs" ), ConfigManager::getCustomJvmArgs, ConfigManager::setCustomJvmArgs );
         stringRow( list, loc( "tui.setting.proxyHost" ), ConfigManager::getProxyHost, ConfigManager::setProxyHost );
@@ -798,6 +860,7 @@ public final class TuiApp
                                           .withBorder( Borders.singleLine( loc( "tui.logs.title" ) ) ),
                                   BorderLayout.Location.CENTER );
             logsBox = null;
+            telemetryLabel = null;
             window.invalidate();
             return;
         }
@@ -811,12 +874,20 @@ public final class TuiApp
         // (no left-hand picker stealing focus/arrows). Multiple running games are cycled with 'n'.
         String title = locf( "tui.logs.header", truncate( logsTarget.getFriendlyName(), 32 ) )
                 + ( running.size() > 1 ? "   " + locf( "tui.logs.next", running.size() ) : "" )
-                + "   [↑↓←→] " + loc( "tui.logs.scrollHint" );
+                + "   [↑↓←→] " + loc( "tui.logs.scrollHint" ) + "   [/] " + loc( "tui.logs.searchHint" );
         logsBox = new LogBox( new TerminalSize( 100, 24 ) );
         content.addComponent( logsBox.withBorder( Borders.singleLine( title ) ),
                               BorderLayout.Location.CENTER );
+        RunningGame target = TuiRuntime.runningFor( logsTarget );
+        telemetryLabel = null;
+        if ( target != null && target.telemetry() != null ) {
+            telemetryLabel = new Label( "" );
+            content.addComponent( telemetryLabel.withBorder( Borders.singleLine( loc( "tui.logs.telemetry" ) ) ),
+                                  BorderLayout.Location.TOP );
+        }
 
-        lastLogSize = -1;   // force a render of the freshly-built box
+        logCursor = 0;      // render everything still buffered into the freshly-built box
+        logExited = false;
         refreshLogsBox();
         window.invalidate();
         // Focus the log so the arrow keys scroll it immediately.
@@ -843,8 +914,15 @@ public final class TuiApp
         showLogs();
     }
 
-    /** Pushes the current logs target's buffered output into the log TextBox — but only when new
-     *  lines have arrived, so the per-second refresh doesn't fight the user's manual scrolling. */
+    /** Lines kept in the log TextBox; older ones scroll off the top. */
+    private static final int LOG_VIEW_LINES = 500;
+
+    /** Matches shown by a log search; the newest are kept. */
+    private static final int LOG_SEARCH_MATCHES = 500;
+
+    /** Appends the output the current logs target produced since the last refresh to the log
+     *  TextBox — but only when new lines have arrived, so the per-second refresh doesn't fight the
+     *  user's manual scrolling. */
     private void refreshLogsBox()
     {
         TextBox box = logsBox;
@@ -853,34 +931,152 @@ public final class TuiApp
             return;
         }
         RunningGame g = TuiRuntime.runningFor( target );
+        refreshTelemetry( g );
         if ( g == null ) {
-            if ( lastLogSize != -2 ) {
+            if ( !logExited ) {
                 box.setText( loc( "tui.logs.exited" ) );
-                lastLogSize = -2;
+                logExited = true;
             }
             return;
         }
-        List< String > lines = g.logSnapshot();
-        if ( lines.size() == lastLogSize ) {
-            return;   // nothing new — leave the user's scroll position alone
-        }
         // Follow the newest output only when the caret is on the last line. If the user has scrolled
-        // up, freeze the view (don't reload) so they can read — and DON'T advance lastLogSize, so
-        // scrolling back to the bottom re-engages following and reloads the latest tail.
+        // up, freeze the view (don't read) so they can read — and DON'T advance the cursor, so
+        // scrolling back to the bottom re-engages following and catches up from where it stopped.
         boolean atBottom = box.getCaretPosition().getRow() >= box.getLineCount() - 1;
         if ( !atBottom ) {
             return;
         }
-        lastLogSize = lines.size();
-        // Keep the last ~500 lines to avoid an enormous TextBox.
-        int from = Math.max( 0, lines.size() - 500 );
-        box.setText( String.join( "\n", lines.subList( from, lines.size() ) ) );
+        LogRing.Chunk chunk = g.logSince( logCursor );
+        logCursor = chunk.next();
+        List< String > lines = chunk.lines();
+        if ( lines.isEmpty() ) {
+            return;   // nothing new — leave the user's scroll position alone
+        }
+        boolean empty = box.getLineCount() <= 1 && box.getLine( 0 ).isEmpty();
+        if ( empty || chunk.dropped() > 0 || lines.size() >= LOG_VIEW_LINES ) {
+            // Fresh box, or more arrived than the view holds: replace with the newest tail.
+            box.setText( String.join( "\n", lines.subList( Math.max( 0, lines.size() - LOG_VIEW_LINES ),
+                                                           lines.size() ) ) );
+        }
+        else {
+            for ( String line : lines ) {
+                box.addLine( line );
+            }
+            while ( box.getLineCount() > LOG_VIEW_LINES ) {
+                box.removeLine( 0 );
+            }
+        }
         // Auto-scroll to the newest line. The caret line must be a VALID index (lineCount-1) — using
         // lineCount itself put the caret one line past the end, and arrowing into it threw an
         // out-of-bounds that tore down the UI.
         box.setCaretPosition( Math.max( 0, box.getLineCount() - 1 ), 0 );
     }
 
+    /** Prompts for text and lists the matching lines of the current logs target (bound to '/'):
+     *  the whole session when it is spooled to disk, otherwise the buffered tail. */
+    private void searchLogs()
+    {
+        RunningGame g = logsTarget == null ? null : TuiRuntime.runningFor( logsTarget );
+        if ( g == null ) {
+            return;
+        }
+        String query = prompt( loc( "tui.logs.search.title" ), "" );
+        if ( query == null || query.isBlank() ) {
+            return;
+        }
+        String q = query.trim();
+        LogSpool.Matches[] result = new LogSpool.Matches[ 1 ];
+        runWithSpinner( loc( "tui.logs.search.working" ), () -> {
+            try {
+                result[ 0 ] = g.searchLog( q, LOG_SEARCH_MATCHES );
+            }
+            catch ( java.io.IOException e ) {
+                throw new java.io.UncheckedIOException( e );
+            }
+        }, () -> showSearchResults( q, g.spoolFile() != null, result[ 0 ] ) );
+    }
+
+    /** Shows log search matches in a scrollable modal; Enter or Esc closes it. */
+    private void showSearchResults( String query, boolean wholeSession, LogSpool.Matches matches )
+    {
+        String summary = matches.total() > matches.lines().size()
+                         ? locf( "tui.logs.search.summaryTrimmed", matches.total(), matches.lines().size() )
+                         : locf( "tui.logs.search.summary", matches.total() );
+        String scope = loc( wholeSession ? "tui.logs.search.scopeSpool" : "tui.logs.search.scopeBuffer" );
+
+        BasicWindow modal = new BasicWindow( " " + locf( "tui.logs.search.results", truncate( query, 32 ) ) + " " );
+        modal.setHints( List.of( Window.Hint.CENTERED ) );
+        Panel panel = new Panel( new LinearLayout( Direction.VERTICAL ) );
+        panel.addComponent( new Label( summary + " · " + scope ) );
+        LogBox results = new LogBox( new TerminalSize( 100, 20 ) );
+        results.setText( matches.lines().isEmpty() ? loc( "tui.logs.search.none" )
+                                                   : String.join( "\n", matches.lines() ) );
+        results.setCaretPosition( Math.max( 0, results.getLineCount() - 1 ), 0 );
+        panel.addComponent( results );
+        panel.addComponent( new Label( "[Enter/Esc] " + loc( "tui.action.close" ) ) );
+        modal.setComponent( panel.withBorder( Borders.singleLine() ) );
+        modal.addWindowListener( new WindowListenerAdapter()
+        {
+            @Override
+            public void onUnhandledInput( Window base, KeyStroke key, AtomicBoolean handled )
+            {
+                if ( key.getKeyType() == KeyType.Escape || key.getKeyType() == KeyType.Enter ) {
+                    modal.close();
+                    handled.set( true );
+                }
+            }
+        } );
+        gui.addWindowAndWait( modal );
+    }
+
+    /** Block characters for the telemetry sparklines, lowest to highest. */
+    private static final String SPARK_BARS = "\u2581\u2582\u2583\u2584\u2585\u2586\u2587\u2588";
+
+    /** Width, in cells, of each telemetry sparkline; one cell per sample. */
+    private static final int SPARK_WIDTH = 60;
+
+    /** Redraws the telemetry sparklines above the log — one row per series, newest sample rightmost. */
+    private void refreshTelemetry( RunningGame g )
+    {
+        Label label = telemetryLabel;
+        if ( label == null ) {
+            return;
+        }
+        List< GameJfrTelemetry.Sample > history = g == null || g.telemetry() == null
+                                                  ? List.of()
+                                                  : g.telemetry().history();
+        if ( history.isEmpty() ) {
+            label.setText( "  " + loc( "console.telemetry.waiting" ) );
+            return;
+        }
+        List< GameJfrTelemetry.Sample > window = history.subList( Math.max( 0, history.size() - SPARK_WIDTH ),
+                                                                  history.size() );
+        GameJfrTelemetry.Sample latest = window.get( window.size() - 1 );
+        StringBuilder text = new StringBuilder();
+        for ( GameJfrTelemetry.Series series : GameJfrTelemetry.Series.values() ) {
+            if ( text.length() > 0 ) {
+                text.append( '\n' );
+            }
+            text.append( String.format( "  %-22s ", series.format( latest ) ) ).append( sparkline( window, series ) );
+        }
+        label.setText( text.toString() );
+    }
+
+    /** Renders one series as block characters, scaled to the largest value in view. */
+    static String sparkline( List< GameJfrTelemetry.Sample > window, GameJfrTelemetry.Series series )
+    {
+        double max = 0;
+        for ( GameJfrTelemetry.Sample sample : window ) {
+            max = Math.max( max, series.value( sample ) );
+        }
+        StringBuilder line = new StringBuilder( window.size() );
+        for ( GameJfrTelemetry.Sample sample : window ) {
+            int level = max > 0 ? (int) Math.round( series.value( sample ) / max * ( SPARK_BARS.length() - 1 ) ) : 0;
+            line.append( SPARK_BARS.charAt( level ) );
+        }
+        return line.toString();
+    }
+
     /**
      * The log display: a multi-line {@link TextBox} that reads like a pager — arrow / page keys move
      * the caret (so it scrolls AND we can read the position to decide whether to follow new output),
@@ -160,7 +160,8 @@ public class AnnouncementManager
             return existing;
         }
         checkFuture = java.util.concurrent.CompletableFuture.runAsync(
-                AnnouncementManager::checkAnnouncements );
+                AnnouncementManager::checkAnnouncements,
+                LauncherExecutors.asExecutor( LauncherExecutors.Workload.IO ) );
         return checkFuture;
     }
 
@@ -20,31 +20,30 @@ package com.micatechnologies.minecraft.launcher.utilities;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 /**
- * Shared, bounded thread pool for file download + verification work across the
+ * Shared, bounded entry point for file download + verification work across the
  * launch pipeline.
  *
  * <p>A single launch fans out three branches concurrently
- * ({@code doModpackContent}, {@code doForgeLibs}, {@code doMcLibsThenJre}) on the
- * orchestration pool, and each download stage used to spin up its <em>own</em>
+ * ({@code doModpackContent}, {@code doForgeLibs}, {@code doMcLibsThenJre}), and
+ * each download stage used to spin up its <em>own</em>
  * {@code newFixedThreadPool(~max(12, cores))}. That meant a launch could run
  * ~36-48 download threads at once, oversubscribing the network and disk (too
  * many concurrent connections contend rather than parallelize, and each thread
  * holds a multi-hundred-KB transfer buffer). Routing every stage through one
- * bounded pool caps total download concurrency to a sane ceiling regardless of
- * how many stages run at once, and removes the per-launch pool create/destroy
- * churn.</p>
+ * shared cap keeps total download concurrency at a sane ceiling regardless of
+ * how many stages run at once.</p>
  *
- * <p>This pool is deliberately <strong>separate</strong> from the launch
- * orchestration pool: the orchestration branches block waiting on this pool's
- * futures, so sharing one pool could starve it. The tasks submitted here never
- * submit back into this pool, so there is no nested-dependency deadlock.</p>
+ * <p>Tasks run on {@link LauncherExecutors.Workload#IO} virtual threads; the
+ * ceiling is a semaphore taken inside the task rather than the size of a pool,
+ * so an orchestration branch blocking on these futures can never starve them.
+ * When the caller is inside a {@link TaskScope} (a launch), the task is forked
+ * into that scope, so cancelling the launch cancels its downloads.</p>
  *
  * @author Mica Technologies
  * @since 3.7
@@ -57,42 +56,91 @@ public final class DownloadExecutor
     private DownloadExecutor() { }
 
     /**
-     * Pool size. IO-bound work, so sized above the core count to keep the CDN
-     * pipe full, but bounded so concurrent launch stages can't collectively
-     * oversubscribe the network/disk.
+     * Download concurrency ceiling. IO-bound work, so sized above the core count
+     * to keep the CDN pipe full, but bounded so concurrent launch stages can't
+     * collectively oversubscribe the network/disk.
      */
     private static final int POOL_SIZE = Math.max( 16, Runtime.getRuntime().availableProcessors() * 2 );
 
     /**
-     * The shared pool. Daemon threads so an in-flight download can't keep the
-     * JVM alive after the user quits; never shut down (it lives for the JVM and
-     * is reused across launches).
+     * Permits for {@link #POOL_SIZE} concurrent downloads, shared by every
+     * launch stage. Fair, so a stage that submitted first downloads first.
      */
-    private static final ExecutorService POOL = Executors.newFixedThreadPool( POOL_SIZE, r -> {
-        Thread t = new Thread( r, "mmcl-download" );
-        t.setDaemon( true );
-        return t;
-    } );
+    private static final Semaphore PERMITS = new Semaphore( POOL_SIZE, true );
 
     /**
-     * Submits a download/verify task to the shared pool.
+     * Extra permits a task in a {@link TaskScope#isBackground() background}
+     * scope must hold on top of a {@link #PERMITS} one, so an idle-time
+     * warm-up never holds more than a quarter of the pool and a launch or
+     * install started meanwhile isn't queued behind it.
+     */
+    static final int BACKGROUND_POOL_SIZE = Math.max( 2, POOL_SIZE / 4 );
+
+    /** Permits for {@link #BACKGROUND_POOL_SIZE} concurrent background downloads. */
+    private static final Semaphore BACKGROUND_PERMITS = new Semaphore( BACKGROUND_POOL_SIZE, true );
+
+    /**
+     * Submits a download/verify task. The task waits for a download permit on
+     * its own virtual thread, so submission never blocks.
      *
      * @param task the task to run
      * @param <T>  the task result type
      *
      * @return a future for the task result
+     *
+     * @throws java.util.concurrent.CancellationException if the caller's scope was cancelled
      */
     public static < T > Future< T > submit( Callable< T > task )
     {
-        return POOL.submit( task );
+        TaskScope scope = TaskScope.current();
+        boolean background = scope != null && scope.isBackground();
+        Callable< T > capped = () -> {
+            // Background share first, so a waiting warm-up task never sits on
+            // a shared permit.
+            if ( !background ) {
+                return withPermit( PERMITS, task );
+            }
+            BACKGROUND_PERMITS.acquire();
+            try {
+                return withPermit( PERMITS, task );
+            }
+            finally {
+                BACKGROUND_PERMITS.release();
+            }
+        };
+        return scope != null
+               ? scope.fork( LauncherExecutors.Workload.IO, capped )
+               : LauncherExecutors.submit( LauncherExecutors.Workload.IO, capped );
+    }
+
+    /**
+     * Runs {@code task} while holding one permit of {@code permits}.
+     *
+     * @param permits the semaphore to take a permit from
+     * @param task    the task to run
+     * @param <T>     the task result type
+     *
+     * @return the task result
+     *
+     * @throws Exception whatever the task throws, or an interrupt while waiting for the permit
+     */
+    private static < T > T withPermit( Semaphore permits, Callable< T > task ) throws Exception
+    {
+        permits.acquire();
+        try {
+            return task.call();
+        }
+        finally {
+            permits.release();
+        }
     }
 
     /**
      * Waits for every future in {@code futures}, enforcing an overall
      * {@code timeoutMs} deadline across the whole set. On interruption, timeout,
      * or a task failure, cancels every still-pending future first (interrupting
-     * running tasks — the shared-pool analog of {@code shutdownNow}) so a failed
-     * batch doesn't leave siblings running against the shared pool.
+     * running tasks — the shared-executor analog of {@code shutdownNow}) so a failed
+     * batch doesn't leave siblings holding download permits.
      *
      * @param futures   the futures to drain
      * @param timeoutMs the overall deadline in milliseconds
@@ -58,7 +58,7 @@ import com.micatechnologies.minecraft.launcher.gui.GUIUtilities;
  * <h3>Why not {@code CompletableFuture}?</h3>
  * <p>{@code CompletableFuture.runAsync(...).thenRunAsync(..., Platform::runLater)}
  * is conceptually equivalent, but the launcher's existing wiring
- * already targets the cached executor in {@link SystemUtilities} and
+ * already targets the IO workload behind {@link SystemUtilities#spawnNewTask} and
  * {@link GUIUtilities#JFXPlatformRun}'s same-thread fast path /
  * blocking semantics aren't quite a drop-in for the FX
  * {@code Executor} a future would want. Keeping the helper thin and
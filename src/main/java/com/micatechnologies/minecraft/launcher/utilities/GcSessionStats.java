@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.utilities;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * What the garbage collector did during one game session, distilled from the
+ * JVM's unified GC log ({@code -Xlog:gc*} with the {@code uptime} decorator).
+ * Feeds {@link HardwareTunedJvmArgs#tune} so recommendations follow what a
+ * pack actually does rather than the RAM bucket alone.
+ *
+ * <p>The parser understands the line shapes G1, Serial, Parallel, Shenandoah
+ * and (generational or single-generation) ZGC emit on JDK 11+. Unknown lines
+ * are skipped, so a newer JDK's extra output degrades to fewer data points
+ * rather than a failure.</p>
+ *
+ * @param recordedAtMs      when the session ended (epoch millis)
+ * @param collector         the collector the JVM reported using, e.g. {@code G1} or {@code ZGC}
+ * @param javaMajor         the game JVM's major version, 0 if not logged
+ * @param uptimeSeconds     JVM uptime covered by the log
+ * @param pauses            number of stop-the-world pauses
+ * @param pauseP50Ms        median pause
+ * @param pauseP95Ms        95th-percentile pause
+ * @param pauseP99Ms        99th-percentile pause
+ * @param pauseMaxMs        longest pause
+ * @param allocationMbPerSec average allocation rate
+ * @param peakLiveMb        highest heap occupancy right after a collection (an upper bound on the live set)
+ * @param heapMaxMb         maximum heap capacity, 0 if not logged
+ * @param regionSizeMb      G1 region size, 0 for other collectors
+ * @param humongousPauses   collections triggered by humongous (region-sized) allocations
+ * @param toSpaceExhausted  evacuation failures / to-space exhaustion events
+ * @param allocationStalls  ZGC allocation stalls (threads blocked waiting for memory)
+ *
+ * @since 2026.7
+ */
+public record GcSessionStats( long recordedAtMs, String collector, int javaMajor, double uptimeSeconds, int pauses,
+                              double pauseP50Ms, double pauseP95Ms, double pauseP99Ms, double pauseMaxMs,
+                              double allocationMbPerSec, long peakLiveMb, long heapMaxMb, long regionSizeMb,
+                              int humongousPauses, int toSpaceExhausted, int allocationStalls )
+{
+    /**
+     * {@code [12.345s][info][gc,phases   ] GC(12) message} — decorators, tags, optional GC id, message.
+     */
+    private static final Pattern LINE = Pattern.compile(
+            "^\\[(\\d+(?:\\.\\d+)?)s\\]\\[\\w+\\s*\\]\\[([\\w,+]+)\\s*\\]\\s*(?:GC\\(\\d+\\)\\s*)?(.*)$" );
+
+    /**
+     * A stop-the-world pause with its duration. ZGC prefixes generation markers ({@code y:}, {@code O:}).
+     */
+    private static final Pattern PAUSE = Pattern.compile( "^(?:[yYoO]: )?Pause .*?(\\d+(?:\\.\\d+)?)ms$" );
+
+    /**
+     * Heap occupancy before and after a collection: {@code 41M->7M(96M)} or ZGC's {@code 154M(60%)->54M(21%)}.
+     */
+    private static final Pattern TRANSITION = Pattern.compile(
+            "(\\d+)([KMG])(?:\\(\\d+%\\))?->(\\d+)([KMG])(?:\\(\\d+%\\))?" );
+
+    /**
+     * {@code Heap Max Capacity: 128M} (G1 and friends) or {@code Max Capacity: 256M} (ZGC).
+     */
+    private static final Pattern MAX_CAPACITY = Pattern.compile( "^(?:Heap )?Max Capacity: (\\d+)([KMG])" );
+
+    /**
+     * {@code Heap Region Size: 4M}.
+     */
+    private static final Pattern REGION_SIZE = Pattern.compile( "^Heap Region Size: (\\d+)([KMG])" );
+
+    /**
+     * {@code Version: 21.0.1+12-LTS (release)}.
+     */
+    private static final Pattern VERSION = Pattern.compile( "^Version: (\\d+)" );
+
+    /**
+     * Parses one session's log lines, oldest first.
+     *
+     * @param lines        the unified GC log lines
+     * @param recordedAtMs when the session ended
+     *
+     * @return the session's statistics, or {@code null} if the log held no collections
+     */
+    public static GcSessionStats parse( Iterable< String > lines, long recordedAtMs )
+    {
+        String collector = "";
+        int javaMajor = 0;
+        List< Double > pauses = new ArrayList<>();
+        double uptime = 0;
+        double allocatedMb = 0;
+        double lastAfterMb = 0;
+        double peakLiveMb = 0;
+        long heapMaxMb = 0;
+        long regionSizeMb = 0;
+        int collections = 0;
+        int humongous = 0;
+        int exhausted = 0;
+        int stalls = 0;
+
+        for ( String raw : lines ) {
+            Matcher line = LINE.matcher( raw.strip() );
+            if ( !line.matches() ) {
+                continue;
+            }
+            uptime = Math.max( uptime, Double.parseDouble( line.group( 1 ) ) );
+            String tags = line.group( 2 );
+            String message = line.group( 3 );
+
+            if ( tags.equals( "gc" ) && message.startsWith( "Using " ) ) {
+                collector = collectorName( message.substring( "Using ".length() ) );
+                continue;
+            }
+            if ( tags.equals( "gc,init" ) ) {
+                Matcher max = MAX_CAPACITY.matcher( message );
+                if ( max.find() ) {
+                    heapMaxMb = toMb( max.group( 1 ), max.group( 2 ) );
+                }
+                Matcher version = VERSION.matcher( message );
+                if ( version.find() ) {
+                    javaMajor = Integer.parseInt( version.group( 1 ) );
+                }
+                Matcher region = REGION_SIZE.matcher( message );
+                if ( region.find() ) {
+                    regionSizeMb = toMb( region.group( 1 ), region.group( 2 ) );
+                }
+                continue;
+            }
+
+            Matcher pause = PAUSE.matcher( message );
+            if ( pause.matches() ) {
+                pauses.add( Double.parseDouble( pause.group( 1 ) ) );
+            }
+            if ( message.startsWith( "Allocation Stall" ) ) {
+                stalls++;
+            }
+            if ( message.contains( "To-space exhausted" ) || message.contains( "(Evacuation Failure)" ) ) {
+                exhausted++;
+            }
+            if ( !tags.equals( "gc" ) ) {
+                continue;
+            }
+            Matcher transition = TRANSITION.matcher( message );
+            if ( transition.find() ) {
+                double before = toMb( transition.group( 1 ), transition.group( 2 ) );
+                double after = toMb( transition.group( 3 ), transition.group( 4 ) );
+                // Everything the heap grew by since the previous collection was allocated in between.
+                allocatedMb += Math.max( 0, before - lastAfterMb );
+                lastAfterMb = after;
+                peakLiveMb = Math.max( peakLiveMb, after );
+                collections++;
+                if ( message.contains( "Humongous Allocation" ) ) {
+                    humongous++;
+                }
+            }
+        }
+
+        if ( collections == 0 && pauses.isEmpty() ) {
+            return null;
+        }
+        Collections.sort( pauses );
+        return new GcSessionStats( recordedAtMs, collector, javaMajor, uptime, pauses.size(),
+                                   percentile( pauses, 50 ), percentile( pauses, 95 ), percentile( pauses, 99 ),
+                                   pauses.isEmpty() ? 0 : pauses.get( pauses.size() - 1 ),
+                                   uptime > 0 ? allocatedMb / uptime : 0, Math.round( peakLiveMb ), heapMaxMb,
+                                   regionSizeMb, humongous, exhausted, stalls );
+    }
+
+    /**
+     * Nearest-rank percentile of an ascending list.
+     */
+    static double percentile( List< Double > sorted, int p )
+    {
+        if ( sorted.isEmpty() ) {
+            return 0;
+        }
+        int rank = (int) Math.ceil( p / 100.0 * sorted.size() );
+        return sorted.get( Math.clamp( rank - 1, 0, sorted.size() - 1 ) );
+    }
+
+    private static String collectorName( String reported )
+    {
+        if ( reported.contains( "Z Garbage Collector" ) ) {
+            return "ZGC";
+        }
+        return reported.strip();
+    }
+
+    private static long toMb( String value, String unit )
+    {
+        long v = Long.parseLong( value );
+        return switch ( unit ) {
+            case "K" -> v / 1024;
+            case "G" -> v * 1024;
+            default -> v;
+        };
+    }
+}
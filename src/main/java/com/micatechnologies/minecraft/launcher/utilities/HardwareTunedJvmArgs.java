@@ -17,6 +17,13 @@
 
 package com.micatechnologies.minecraft.launcher.utilities;
 
+import com.micatechnologies.minecraft.launcher.consts.localization.LocalizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
 import oshi.SystemInfo;
 
 /**
@@ -51,7 +58,9 @@ import oshi.SystemInfo;
  * Java 21+. ZGC's per-collection memory overhead (10-15% of heap) and
  * larger memory footprint don't pay off below ~32 GB max heap, and most
  * Minecraft installs sit well below that. Sticking with G1 keeps the
- * recommendation broadly applicable across the supported runtime range.</p>
+ * recommendation broadly applicable across the supported runtime range.
+ * {@link #tune} only switches a pack to generational ZGC when its own GC
+ * logs show G1 repeatedly missing its pause budget on a large heap.</p>
  *
  * @since 2026.5
  */
@@ -80,47 +89,220 @@ public final class HardwareTunedJvmArgs
      */
     public static String generate( int maxRamGB )
     {
-        int cores = Math.max( 1, Runtime.getRuntime().availableProcessors() );
-        long totalRamBytes = getTotalRamBytes();
-        long totalRamGB = totalRamBytes / ( 1024L * 1024 * 1024 );
+        return g1Args( maxRamGB, cores(), defaultRegionSizeMb( maxRamGB ), defaultPauseTargetMs( maxRamGB ),
+                       defaultReservePercent( maxRamGB ) );
+    }
+
+    /**
+     * Like {@link #generate} but adjusted by what the GC actually did in a
+     * pack's recent sessions (see {@link GcSessionStats}). Every adjustment
+     * comes with a one-line reason for the Settings UI; with no sessions the
+     * result is exactly {@link #generate}.
+     *
+     * <p>Adjustments, in order:</p>
+     * <ul>
+     *   <li>Heap: raised when the post-GC occupancy crowds the heap or the
+     *       collector ran out of room (to-space exhaustion, allocation
+     *       stalls); lowered when a big heap is mostly idle.</li>
+     *   <li>Collector: generational ZGC on Java 21+ when G1 keeps blowing
+     *       well past its pause budget on a heap large enough to absorb
+     *       ZGC's overhead. Only sessions on the collector in use now are
+     *       considered, and ZGC is kept unless it stalled allocations in
+     *       every session with the heap already at its ceiling.</li>
+     *   <li>G1 region size: doubled when humongous allocations keep
+     *       triggering collections.</li>
+     *   <li>G1 reserve: raised after evacuation failures.</li>
+     *   <li>Pause target: tightened when every pause fits well inside it,
+     *       since the collector clearly has headroom.</li>
+     * </ul>
+     *
+     * @param maxRamGB  the configured max heap in GB
+     * @param javaMajor the Java major version the pack runs on
+     * @param sessions  the pack's recent sessions, oldest first; may be empty
+     * @return the tuned heap size, JVM args and reasons
+     * @since 2026.7
+     */
+    public static Tuning tune( int maxRamGB, int javaMajor, List< GcSessionStats > sessions )
+    {
+        if ( sessions.isEmpty() ) {
+            return new Tuning( maxRamGB, generate( maxRamGB ), List.of() );
+        }
+        // Only sessions on the collector in use now: ZGC's sub-millisecond
+        // pauses would otherwise read as G1 headroom and flip the choice back.
+        String collector = sessions.get( sessions.size() - 1 ).collector();
+        List< GcSessionStats > current = sessions.stream()
+                                                 .filter( s -> Objects.equals( collector, s.collector() ) )
+                                                 .toList();
+        List< GcSessionStats > recent = current.subList( Math.max( 0, current.size() - TUNING_WINDOW ),
+                                                         current.size() );
+        boolean onZgc = ZGC.equals( collector ) && javaMajor >= 21;
+        List< String > reasons = new ArrayList<>();
+        long peakLiveMb = 0;
+        int pauses = 0;
+        int humongous = 0;
+        int outOfRoom = 0;
+        int stalledSessions = 0;
+        long loggedRegionMb = 0;
+        List< Double > p95s = new ArrayList<>();
+        List< Double > p99s = new ArrayList<>();
+        for ( GcSessionStats s : recent ) {
+            peakLiveMb = Math.max( peakLiveMb, s.peakLiveMb() );
+            pauses += s.pauses();
+            humongous += s.humongousPauses();
+            outOfRoom += s.toSpaceExhausted() + s.allocationStalls();
+            stalledSessions += s.allocationStalls() > 0 ? 1 : 0;
+            loggedRegionMb = Math.max( loggedRegionMb, s.regionSizeMb() );
+            p95s.add( s.pauseP95Ms() );
+            p99s.add( s.pauseP99Ms() );
+        }
+        Collections.sort( p95s );
+        Collections.sort( p99s );
+        // Median across sessions so one stuttery world-load doesn't swing the result.
+        double p95 = GcSessionStats.percentile( p95s, 50 );
+        double p99 = GcSessionStats.percentile( p99s, 50 );
+
+        // Heap size.
+        int heapGB = maxRamGB;
+        long heapMb = maxRamGB * 1024L;
+        int ceilingGB = (int) Math.max( maxRamGB, getTotalRamBytes() / ( 1024L * 1024 * 1024 ) * 3 / 4 );
+        if ( peakLiveMb > heapMb * 3 / 4 || outOfRoom > 0 ) {
+            int wanted = Math.max( maxRamGB + 1, (int) Math.ceil( peakLiveMb / LIVE_TARGET_RAISE / 1024.0 ) );
+            heapGB = Math.min( wanted, ceilingGB );
+            reasons.add( heapGB > maxRamGB
+                         ? LocalizationManager.format( "settings.gcTuning.reason.heapRaised", peakLiveMb, maxRamGB,
+                                                       heapGB )
+                         : LocalizationManager.format( "settings.gcTuning.reason.heapAtLimit", peakLiveMb,
+                                                       maxRamGB ) );
+        }
+        else if ( peakLiveMb < heapMb * 3 / 10 && maxRamGB > ( onZgc ? ZGC_MIN_HEAP_GB : MIN_TRIMMED_HEAP_GB ) ) {
+            heapGB = Math.max( onZgc ? ZGC_MIN_HEAP_GB : MIN_TRIMMED_HEAP_GB,
+                               (int) Math.ceil( peakLiveMb / LIVE_TARGET_TRIM / 1024.0 ) );
+            if ( heapGB < maxRamGB ) {
+                reasons.add( LocalizationManager.format( "settings.gcTuning.reason.heapLowered", peakLiveMb,
+                                                         maxRamGB, heapGB ) );
+            }
+        }
+
+        // Collector. Once on ZGC, stay there: its pauses say nothing about how
+        // G1 would do. Only stalls in every session with no room left to grow
+        // the heap send it back, since G1 degrades more gracefully when starved.
+        int cores = cores();
+        int pauseMs = defaultPauseTargetMs( heapGB );
+        if ( onZgc ) {
+            if ( stalledSessions < recent.size() || heapGB > maxRamGB ) {
+                return new Tuning( heapGB, zgcArgs( javaMajor ), List.copyOf( reasons ) );
+            }
+            reasons.add( LocalizationManager.format( "settings.gcTuning.reason.zgcStalls", stalledSessions,
+                                                     heapGB ) );
+        }
+        else if ( javaMajor >= 21 && heapGB >= ZGC_MIN_HEAP_GB && cores >= 4 && p99 > 2.0 * pauseMs ) {
+            reasons.add( LocalizationManager.format( "settings.gcTuning.reason.zgc", Math.round( p99 ), pauseMs ) );
+            return new Tuning( heapGB, zgcArgs( javaMajor ), List.copyOf( reasons ) );
+        }
+
+        // G1 knobs.
+        long regionMb = defaultRegionSizeMb( heapGB );
+        if ( pauses > 0 && humongous * 10 > pauses && regionMb < MAX_REGION_SIZE_MB ) {
+            long next = Math.min( MAX_REGION_SIZE_MB, Math.max( regionMb, loggedRegionMb ) * 2 );
+            if ( next > regionMb ) {
+                reasons.add( LocalizationManager.format( "settings.gcTuning.reason.regionSize",
+                                                         humongous * 100 / pauses, next ) );
+                regionMb = next;
+            }
+        }
+        int reserve = defaultReservePercent( heapGB );
+        if ( outOfRoom > 0 ) {
+            reserve = Math.min( MAX_RESERVE_PERCENT, Math.max( reserve, 10 ) + 10 );
+            reasons.add( LocalizationManager.format( "settings.gcTuning.reason.reserve", outOfRoom, reserve ) );
+        }
+        // Pause percentiles from ZGC sessions don't describe G1; leave the target alone.
+        if ( onZgc ) {
+            return new Tuning( heapGB, g1Args( heapGB, cores, regionMb, pauseMs, reserve ), List.copyOf( reasons ) );
+        }
+        if ( p99 > 0 && p99 * 4 < pauseMs && heapGB > 4 ) {
+            int tightened = Math.max( MIN_PAUSE_TARGET_MS, (int) Math.ceil( p99 * 2 / 10.0 ) * 10 );
+            if ( tightened < pauseMs ) {
+                reasons.add( LocalizationManager.format( "settings.gcTuning.reason.pauseTarget", Math.round( p99 ),
+                                                         tightened ) );
+                pauseMs = tightened;
+            }
+        }
+        else if ( p95 > pauseMs ) {
+            reasons.add( LocalizationManager.format( "settings.gcTuning.reason.pausesOverTarget", Math.round( p95 ),
+                                                     pauseMs ) );
+        }
+        return new Tuning( heapGB, g1Args( heapGB, cores, regionMb, pauseMs, reserve ), List.copyOf( reasons ) );
+    }
+
+    /**
+     * A {@link #tune} result.
+     *
+     * @param maxRamGB the recommended max heap in GB
+     * @param jvmArgs  the recommended space-separated JVM args
+     * @param reasons  why each adjustment was made, localized; empty when nothing changed
+     * @since 2026.7
+     */
+    public record Tuning( int maxRamGB, String jvmArgs, List< String > reasons ) {}
+
+    /**
+     * Sessions {@link #tune} looks at.
+     */
+    private static final int TUNING_WINDOW = 5;
+
+    /**
+     * Post-GC occupancy as a fraction of heap when raising / trimming the heap.
+     */
+    private static final double LIVE_TARGET_RAISE = 0.6;
+    private static final double LIVE_TARGET_TRIM  = 0.45;
+
+    /**
+     * Never trims the heap below this; world loads and chunk generation spike
+     * well above a quiet session's occupancy.
+     */
+    private static final int MIN_TRIMMED_HEAP_GB = 6;
+
+    /**
+     * {@link GcSessionStats#collector()} of a ZGC session.
+     */
+    private static final String ZGC = "ZGC";
+
+    /**
+     * Below this ZGC's per-heap overhead outweighs its shorter pauses.
+     */
+    private static final int ZGC_MIN_HEAP_GB = 8;
+
+    private static final long MAX_REGION_SIZE_MB  = 32;
+    private static final int  MAX_RESERVE_PERCENT = 30;
+    private static final int  MIN_PAUSE_TARGET_MS = 50;
 
+    /**
+     * Builds the G1 args string for the given knobs. {@link #generate} passes
+     * the RAM-bucket defaults, so its output is unchanged.
+     */
+    private static String g1Args( int maxRamGB, int cores, long regionMb, int pauseMs, int reservePercent )
+    {
         StringBuilder sb = new StringBuilder( 256 );
         sb.append( "-XX:+UseG1GC" );
         // G1NewSizePercent / G1MaxNewSizePercent (emitted below) are experimental
         // VM options; the JVM refuses to start unless they're unlocked first, and
         // this flag must precede them on the command line.
         sb.append( " -XX:+UnlockExperimentalVMOptions" );
+        sb.append( " -XX:MaxGCPauseMillis=" ).append( pauseMs );
+        sb.append( " -XX:G1HeapRegionSize=" ).append( regionMb ).append( 'M' );
 
         if ( maxRamGB <= 4 ) {
-            // Constrained environment: minimise per-GC work; accept higher
-            // throughput pauses to keep the small heap GC'd promptly. 50ms
-            // pause budget biases the collector toward many small pauses
-            // over fewer big ones.
-            sb.append( " -XX:MaxGCPauseMillis=50" );
-            sb.append( " -XX:G1HeapRegionSize=2M" );
+            // Constrained environment: a bigger young share keeps the small
+            // heap GC'd promptly without growing the old generation.
             sb.append( " -XX:G1NewSizePercent=20" );
         }
-        else if ( maxRamGB <= 12 ) {
-            // The Aikar's-flags sweet spot. ~200 ms pause budget is plenty
-            // for client-side MC since the game already tolerates 100-200ms
-            // hitches without dropping frames noticeably.
-            sb.append( " -XX:MaxGCPauseMillis=200" );
-            sb.append( " -XX:G1HeapRegionSize=4M" );
-            sb.append( " -XX:G1NewSizePercent=30" );
-            sb.append( " -XX:G1MaxNewSizePercent=40" );
-            sb.append( " -XX:G1ReservePercent=20" );
-        }
         else {
-            // Big-heap territory (16 GB+): the GC has room to breathe, so
-            // give it larger regions to coalesce + a looser pause budget so
-            // it can do more work per cycle. String dedup is a no-brainer
-            // here — large heaps in modpacks always have piles of duplicate
-            // language / item-name strings.
-            sb.append( " -XX:MaxGCPauseMillis=200" );
-            sb.append( " -XX:G1HeapRegionSize=16M" );
+            // The Aikar's-flags young-gen ratios, sized for both the 5-12 GB
+            // sweet spot and big-heap territory.
             sb.append( " -XX:G1NewSizePercent=30" );
             sb.append( " -XX:G1MaxNewSizePercent=40" );
-            sb.append( " -XX:G1ReservePercent=15" );
+        }
+        if ( reservePercent > 0 ) {
+            sb.append( " -XX:G1ReservePercent=" ).append( reservePercent );
         }
 
         // Core-count-dependent extras. Parallel ref processing is a near-
@@ -139,13 +321,57 @@ public final class HardwareTunedJvmArgs
         // launches; the up-front cost is amortised over the session.
         sb.append( " -XX:+AlwaysPreTouch" );
         sb.append( " -XX:+DisableExplicitGC" );
-
-        // Helpful diagnostic comment as a config-side breadcrumb. Not a
-        // JVM flag — `# ...` would break the launcher's split parser.
-        // Skip; the user can see what they got by looking at the args field.
         return sb.toString();
     }
 
+    /**
+     * Generational ZGC args. Generational mode needs an explicit opt-in on
+     * Java 21-22 and is the only mode from 23 on, where the flag is deprecated.
+     */
+    private static String zgcArgs( int javaMajor )
+    {
+        return "-XX:+UseZGC" + ( javaMajor < 23 ? " -XX:+ZGenerational" : "" )
+                + " -XX:+AlwaysPreTouch -XX:+DisableExplicitGC";
+    }
+
+    /**
+     * RAM-bucket pause budget: 50 ms on constrained heaps biases the collector
+     * toward many small pauses; ~200 ms elsewhere is plenty for client-side
+     * MC, which already tolerates 100-200 ms hitches without visible drops.
+     */
+    private static int defaultPauseTargetMs( int maxRamGB )
+    {
+        return maxRamGB <= 4 ? 50 : 200;
+    }
+
+    /**
+     * RAM-bucket G1 region size: small regions on small heaps, Aikar's 4M in
+     * the sweet spot, and larger regions to coalesce on 16 GB+ heaps.
+     */
+    private static long defaultRegionSizeMb( int maxRamGB )
+    {
+        if ( maxRamGB <= 4 ) {
+            return 2;
+        }
+        return maxRamGB <= 12 ? 4 : 16;
+    }
+
+    /**
+     * RAM-bucket G1 reserve; 0 leaves the JVM default on small heaps.
+     */
+    private static int defaultReservePercent( int maxRamGB )
+    {
+        if ( maxRamGB <= 4 ) {
+            return 0;
+        }
+        return maxRamGB <= 12 ? 20 : 15;
+    }
+
+    private static int cores()
+    {
+        return Math.max( 1, Runtime.getRuntime().availableProcessors() );
+    }
+
     /**
      * Returns a one-line summary of the host hardware the recommender saw.
      * Used by the Settings UI as a label under the "Generate" button so
@@ -0,0 +1,640 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.utilities;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * The launcher's one executor subsystem. Every background task is routed to
+ * one of three {@link Workload workload classes} instead of the pool-per-feature
+ * sprawl it replaced (a cached pool behind {@code spawnNewTask}, a fixed
+ * download pool, a launch orchestration pool, a manifest-fetch pool, per-call
+ * pools in the runtime installer and the jar scanners, and a private
+ * single-thread scheduler apiece for the logger, the config store and the RGB
+ * engine), each with its own thread counts, priorities and shutdown story.
+ *
+ * <ul>
+ *   <li>{@link Workload#IO} — one virtual thread per task. Blocking network and
+ *       disk work parks the virtual thread instead of pinning a platform thread,
+ *       so a burst of GUI {@code spawnNewTask} calls at menu open no longer
+ *       competes with the launch's downloads for a fixed number of workers.
+ *       Concurrency ceilings that protect the network or a remote server
+ *       (e.g. {@link DownloadExecutor}'s download cap) are applied by the caller
+ *       with a semaphore, not by the size of a pool.</li>
+ *   <li>{@link Workload#CPU} — a bounded platform pool sized one below the core
+ *       count, slightly below normal priority, for hashing, class scanning and
+ *       archive work that would otherwise starve the FX thread.</li>
+ *   <li>{@link Workload#UI} — a single above-normal-priority lane for short,
+ *       latency-sensitive work: debounce timers, periodic flushes and effect
+ *       ticks. Nothing long-running belongs here; anything that might wait on
+ *       the network goes to {@link Workload#IO}.</li>
+ * </ul>
+ *
+ * <p>Structured cancellation is layered on top by {@link TaskScope}: a launch
+ * opens a scope, everything it forks (directly or through
+ * {@link DownloadExecutor#submit} and {@link #forEach}) lands in that scope's
+ * subtree, and cancelling the launch cancels exactly that subtree.</p>
+ *
+ * <p>Each workload keeps lock-free counters — queue depth, running tasks,
+ * completions, failures, cancellations and queue/run latency — readable via
+ * {@link #stats(Workload)} for the diagnostics dump and the debug overlay.</p>
+ *
+ * <p>This class deliberately never logs: the {@link
+ * com.micatechnologies.minecraft.launcher.files.Logger} schedules its own flush
+ * on the UI lane, so logging from here during static initialization would be a
+ * class-init cycle. Callers that need to report (e.g. a drain timeout) do so
+ * from the return value.</p>
+ *
+ * @author Mica Technologies
+ * @since 2026.7
+ */
+public final class LauncherExecutors
+{
+    /**
+     * The workload classes tasks are routed by.
+     *
+     * @since 2026.7
+     */
+    public enum Workload
+    {
+        /** Blocking network / disk work, one virtual thread per task. */
+        IO,
+        /** CPU-bound work on a bounded, slightly deprioritized platform pool. */
+        CPU,
+        /** Short, latency-sensitive timers and ticks on one high-priority lane. */
+        UI
+    }
+
+    /**
+     * Point-in-time snapshot of one workload's counters.
+     *
+     * @param workload        the workload class
+     * @param queued          tasks accepted but not yet started
+     * @param running         tasks currently executing
+     * @param completed       tasks that finished normally
+     * @param failed          tasks that finished by throwing
+     * @param cancelled       tasks cancelled before or while running
+     * @param meanQueueMillis mean time from submission (or due time) to start
+     * @param maxQueueMillis  worst observed time from submission (or due time) to start
+     * @param meanRunMillis   mean execution time
+     *
+     * @since 2026.7
+     */
+    public record WorkloadStats( Workload workload, long queued, long running, long completed, long failed,
+                                 long cancelled, double meanQueueMillis, double maxQueueMillis,
+                                 double meanRunMillis )
+    {
+    }
+
+    /**
+     * CPU pool size: one below the core count so the FX thread and the game's
+     * own process keep a core, but never below one.
+     */
+    private static final int CPU_THREADS = Math.max( 1, Runtime.getRuntime().availableProcessors() - 1 );
+
+    /** Idle keep-alive for CPU workers; the pool shrinks to zero between bursts. */
+    private static final long CPU_KEEP_ALIVE_SECONDS = 30L;
+
+    /** Monotonic CPU worker sequence, continued across post-restart pool generations. */
+    private static final AtomicInteger CPU_THREAD_SEQ = new AtomicInteger( 0 );
+
+    /**
+     * Per-workload counters, indexed by {@link Workload#ordinal()}. The UI lane's
+     * queue depth is read straight off its delay queue instead (cancelled timers
+     * are removed from it), so its meter doesn't count queued tasks.
+     */
+    private static final Meter[] METERS = { new Meter( true ), new Meter( true ), new Meter( false ) };
+
+    /**
+     * The UI lane. Lives for the JVM: the logger's flush and the config store's
+     * debounce must keep working through {@link #shutdown(long)}, which runs
+     * before the final config flush and logger teardown on exit.
+     */
+    private static final ScheduledThreadPoolExecutor UI_LANE;
+
+    static {
+        UI_LANE = new ScheduledThreadPoolExecutor( 1, r -> {
+            Thread t = new Thread( r, "mica-ui-lane" );
+            t.setDaemon( true );
+            t.setPriority( Thread.NORM_PRIORITY + 1 );
+            return t;
+        } );
+        UI_LANE.setRemoveOnCancelPolicy( true );
+    }
+
+    /**
+     * The IO executor. Not {@code final}: {@link #shutdown(long)} runs between
+     * sessions of the in-process restart loop, and {@link #ioExecutor()} rebuilds
+     * it on the next submission.
+     */
+    private static volatile ExecutorService ioExecutor;
+
+    /** The CPU executor; lazily (re)built like {@link #ioExecutor}. */
+    private static volatile ThreadPoolExecutor cpuExecutor;
+
+    /**
+     * Private constructor to prevent instantiation of the utility class.
+     */
+    private LauncherExecutors() { /* static-only */ }
+
+    /**
+     * Runs a fire-and-forget task on the given workload. Uncaught exceptions go
+     * to the worker thread's uncaught-exception handler, exactly as they did on
+     * the pools this replaced.
+     *
+     * @param workload the workload class
+     * @param task     the task to run
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if the executor is mid-shutdown
+     */
+    public static void execute( Workload workload, Runnable task )
+    {
+        Meter meter = meter( workload );
+        long queuedAt = System.nanoTime();
+        meter.enqueue();
+        Runnable timed = () -> {
+            meter.dequeue();
+            long start = meter.start( queuedAt );
+            boolean ok = false;
+            try {
+                task.run();
+                ok = true;
+            }
+            finally {
+                meter.finish( start, ok ? Future.State.SUCCESS : Future.State.FAILED );
+            }
+        };
+        try {
+            backing( workload ).execute( timed );
+        }
+        catch ( RuntimeException e ) {
+            meter.dequeue();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns an {@link Executor} view of the given workload for APIs that take
+     * one, such as {@code CompletableFuture.runAsync(task, executor)}. Tasks run
+     * through {@link #execute} and are metered like any other.
+     *
+     * @param workload the workload class
+     *
+     * @return an executor that runs tasks on {@code workload}
+     */
+    public static Executor asExecutor( Workload workload )
+    {
+        return task -> execute( workload, task );
+    }
+
+    /**
+     * Submits a task to the given workload.
+     *
+     * @param workload the workload class
+     * @param task     the task to run
+     * @param <T>      the task result type
+     *
+     * @return a future for the task result; cancelling it with
+     *         {@code mayInterruptIfRunning} interrupts the worker
+     */
+    public static < T > Future< T > submit( Workload workload, Callable< T > task )
+    {
+        Task< T > t = new Task<>( workload, task );
+        dispatch( t );
+        return t;
+    }
+
+    /**
+     * Runs {@code task} once on the UI lane after {@code delay}.
+     *
+     * @param task  the task to run
+     * @param delay the delay
+     * @param unit  the delay unit
+     *
+     * @return a handle that can cancel the pending run
+     */
+    public static ScheduledFuture< ? > schedule( Runnable task, long delay, TimeUnit unit )
+    {
+        long due = System.nanoTime() + unit.toNanos( delay );
+        return UI_LANE.schedule( timedLaneTask( task, due, 0L ), delay, unit );
+    }
+
+    /**
+     * Runs {@code task} on the UI lane at a fixed rate until the returned
+     * handle is cancelled. A run that throws suppresses later runs, as with
+     * {@link java.util.concurrent.ScheduledExecutorService#scheduleAtFixedRate};
+     * periodic tasks that must survive a bad run catch their own exceptions.
+     *
+     * @param task         the task to run
+     * @param initialDelay delay before the first run
+     * @param period       period between run starts
+     * @param unit         the time unit
+     *
+     * @return a handle that stops the schedule when cancelled
+     */
+    public static ScheduledFuture< ? > scheduleAtFixedRate( Runnable task, long initialDelay, long period,
+                                                           TimeUnit unit )
+    {
+        long due = System.nanoTime() + unit.toNanos( initialDelay );
+        return UI_LANE.scheduleAtFixedRate( timedLaneTask( task, due, unit.toNanos( period ) ), initialDelay,
+                                            period, unit );
+    }
+
+    /**
+     * Applies {@code action} to every element of {@code items} on the given
+     * workload with at most {@code parallelism} elements in flight, returning
+     * once all of them have finished. Runs inside a child {@link TaskScope} of
+     * the caller's current scope, so cancelling an enclosing launch cancels the
+     * batch.
+     *
+     * @param workload    the workload class
+     * @param items       the elements to process
+     * @param parallelism the maximum number of elements processed at once
+     * @param action      the per-element action
+     * @param <T>         the element type
+     *
+     * @throws InterruptedException  if the calling thread is interrupted while waiting;
+     *                               in-flight elements are cancelled first
+     * @throws CancellationException if an enclosing scope was cancelled
+     * @throws RuntimeException      the first unchecked exception thrown by {@code action}
+     */
+    public static < T > void forEach( Workload workload, Collection< T > items, int parallelism,
+                                      Consumer< ? super T > action ) throws InterruptedException
+    {
+        if ( items.isEmpty() ) {
+            return;
+        }
+        List< Future< Void > > futures = new ArrayList<>( items.size() );
+        try ( TaskScope scope = TaskScope.open( "forEach", parallelism ) ) {
+            for ( T item : items ) {
+                futures.add( scope.fork( workload, () -> {
+                    action.accept( item );
+                    return null;
+                } ) );
+            }
+            scope.join();
+        }
+        for ( Future< Void > f : futures ) {
+            try {
+                f.get();
+            }
+            catch ( ExecutionException e ) {
+                if ( e.getCause() instanceof RuntimeException re ) {
+                    throw re;
+                }
+                if ( e.getCause() instanceof Error err ) {
+                    throw err;
+                }
+                throw new IllegalStateException( e.getCause() );
+            }
+        }
+    }
+
+    /**
+     * Returns a snapshot of the given workload's counters.
+     *
+     * @param workload the workload class
+     *
+     * @return the counters at the time of the call
+     */
+    public static WorkloadStats stats( Workload workload )
+    {
+        Meter m = meter( workload );
+        long started = m.started.sum();
+        long finished = m.finished.sum();
+        long queued = workload == Workload.UI ? UI_LANE.getQueue().size() : m.queued.sum();
+        return new WorkloadStats( workload, queued, m.running.sum(), m.completed.sum(), m.failed.sum(),
+                                  m.cancelled.sum(),
+                                  started == 0 ? 0.0 : m.queueNanos.sum() / 1e6 / started,
+                                  m.maxQueueNanos.get() / 1e6,
+                                  finished == 0 ? 0.0 : m.runNanos.sum() / 1e6 / finished );
+    }
+
+    /**
+     * Drains the IO and CPU executors with a bounded wait so in-flight work
+     * (a manifest cache write, a half-finished download) gets a chance to land
+     * before the process tears down; stragglers past the deadline are
+     * interrupted. The UI lane is left running — see {@link #UI_LANE}.
+     *
+     * <p>Safe on the restart path: both executors are rebuilt on the next
+     * submission, so a restarted session gets live pools.</p>
+     *
+     * @param awaitMillis milliseconds to wait for graceful completion
+     *
+     * @return {@code true} if both executors drained within the deadline
+     */
+    public static boolean shutdown( long awaitMillis )
+    {
+        ExecutorService io;
+        ExecutorService cpu;
+        synchronized ( LauncherExecutors.class ) {
+            io = ioExecutor;
+            cpu = cpuExecutor;
+            ioExecutor = null;
+            cpuExecutor = null;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( awaitMillis );
+        boolean drained = true;
+        for ( ExecutorService pool : new ExecutorService[]{ io, cpu } ) {
+            if ( pool == null ) {
+                continue;
+            }
+            pool.shutdown();
+            try {
+                if ( !pool.awaitTermination( Math.max( 0L, deadline - System.nanoTime() ),
+                                             TimeUnit.NANOSECONDS ) ) {
+                    drained = false;
+                    pool.shutdownNow();
+                }
+            }
+            catch ( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+                drained = false;
+                pool.shutdownNow();
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * Hands a task to its workload's executor, counting it as queued.
+     *
+     * @param task the task
+     */
+    static void dispatch( Task< ? > task )
+    {
+        Meter meter = meter( task.workload );
+        task.queuedAt = System.nanoTime();
+        if ( !task.phase.compareAndSet( Task.NEW, Task.QUEUED ) ) {
+            // Cancelled before it was handed over (a scope's pending fork).
+            return;
+        }
+        meter.enqueue();
+        try {
+            backing( task.workload ).execute( task );
+        }
+        catch ( RuntimeException e ) {
+            if ( task.phase.compareAndSet( Task.QUEUED, Task.NEW ) ) {
+                meter.dequeue();
+            }
+            throw e;
+        }
+    }
+
+    private static Meter meter( Workload workload )
+    {
+        return METERS[ workload.ordinal() ];
+    }
+
+    private static Executor backing( Workload workload )
+    {
+        return switch ( workload ) {
+            case IO -> ioExecutor();
+            case CPU -> cpuExecutor();
+            case UI -> UI_LANE;
+        };
+    }
+
+    private static ExecutorService ioExecutor()
+    {
+        ExecutorService io = ioExecutor;
+        if ( io != null ) {
+            return io;
+        }
+        synchronized ( LauncherExecutors.class ) {
+            if ( ioExecutor == null ) {
+                ioExecutor = Executors.newThreadPerTaskExecutor( Thread.ofVirtual().name( "mica-io-", 0 ).factory() );
+            }
+            return ioExecutor;
+        }
+    }
+
+    private static ThreadPoolExecutor cpuExecutor()
+    {
+        ThreadPoolExecutor cpu = cpuExecutor;
+        if ( cpu != null ) {
+            return cpu;
+        }
+        synchronized ( LauncherExecutors.class ) {
+            if ( cpuExecutor == null ) {
+                ThreadPoolExecutor pool = new ThreadPoolExecutor( CPU_THREADS, CPU_THREADS, CPU_KEEP_ALIVE_SECONDS,
+                                                                  TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                                                                  r -> {
+                                                                      Thread t = new Thread( r, "mica-cpu-" +
+                                                                              CPU_THREAD_SEQ.incrementAndGet() );
+                                                                      t.setDaemon( true );
+                                                                      t.setPriority( Thread.NORM_PRIORITY - 1 );
+                                                                      return t;
+                                                                  } );
+                pool.allowCoreThreadTimeOut( true );
+                cpuExecutor = pool;
+            }
+            return cpuExecutor;
+        }
+    }
+
+    /**
+     * Wraps a UI-lane timer task so each run is metered against its due time
+     * rather than its submission time; a periodic task's due time advances by
+     * one period per run.
+     */
+    private static Runnable timedLaneTask( Runnable task, long firstDue, long periodNanos )
+    {
+        Meter meter = meter( Workload.UI );
+        long[] due = { firstDue };
+        return () -> {
+            long start = meter.start( due[ 0 ] );
+            boolean ok = false;
+            try {
+                task.run();
+                ok = true;
+            }
+            finally {
+                meter.finish( start, ok ? Future.State.SUCCESS : Future.State.FAILED );
+                due[ 0 ] += periodNanos;
+            }
+        };
+    }
+
+    /**
+     * Lock-free counters for one workload.
+     */
+    private static final class Meter
+    {
+        final boolean         countsQueue;
+        final LongAdder       queued        = new LongAdder();
+        final LongAdder       running       = new LongAdder();
+        final LongAdder       started       = new LongAdder();
+        final LongAdder       finished      = new LongAdder();
+        final LongAdder       completed     = new LongAdder();
+        final LongAdder       failed        = new LongAdder();
+        final LongAdder       cancelled     = new LongAdder();
+        final LongAdder       queueNanos    = new LongAdder();
+        final LongAdder       runNanos      = new LongAdder();
+        final LongAccumulator maxQueueNanos = new LongAccumulator( Math::max, 0L );
+
+        Meter( boolean countsQueue )
+        {
+            this.countsQueue = countsQueue;
+        }
+
+        void enqueue()
+        {
+            if ( countsQueue ) {
+                queued.increment();
+            }
+        }
+
+        void dequeue()
+        {
+            if ( countsQueue ) {
+                queued.decrement();
+            }
+        }
+
+        /** Records a task starting; returns its start time. */
+        long start( long queuedAt )
+        {
+            long now = System.nanoTime();
+            long waited = Math.max( 0L, now - queuedAt );
+            running.increment();
+            started.increment();
+            queueNanos.add( waited );
+            maxQueueNanos.accumulate( waited );
+            return now;
+        }
+
+        /** Records a started task's outcome. */
+        void finish( long startedAt, Future.State outcome )
+        {
+            running.decrement();
+            finished.increment();
+            runNanos.add( System.nanoTime() - startedAt );
+            switch ( outcome ) {
+                case SUCCESS -> completed.increment();
+                case CANCELLED -> cancelled.increment();
+                default -> failed.increment();
+            }
+        }
+    }
+
+    /**
+     * A metered future task. Counted as queued from {@link #dispatch} until it
+     * starts; a task cancelled before it starts is moved straight to cancelled
+     * by {@link #done()}, and never runs. Subclassed by {@link TaskScope} to
+     * track forks.
+     *
+     * @param <T> the result type
+     */
+    static class Task< T > extends FutureTask< T >
+    {
+        static final int NEW       = 0;
+        static final int QUEUED    = 1;
+        static final int STARTED   = 2;
+        static final int CANCELLED = 3;
+
+        final    Workload      workload;
+        final    AtomicInteger phase = new AtomicInteger( NEW );
+        volatile long          queuedAt;
+
+        /** Start time and whether the outcome was recorded; only touched by the running thread. */
+        private long    startedAt;
+        private boolean recorded;
+
+        Task( Workload workload, Callable< T > callable )
+        {
+            super( callable );
+            this.workload = workload;
+        }
+
+        @Override
+        public void run()
+        {
+            if ( !phase.compareAndSet( QUEUED, STARTED ) ) {
+                return;
+            }
+            Meter meter = meter( workload );
+            meter.dequeue();
+            startedAt = meter.start( queuedAt );
+            try {
+                super.run();
+            }
+            finally {
+                if ( !recorded ) {
+                    // Cancelled between starting and calling the body.
+                    record( Future.State.CANCELLED );
+                }
+            }
+        }
+
+        // The outcome is recorded before the result is published, so a caller
+        // that has joined the task reads counters that already include it.
+
+        @Override
+        protected void set( T value )
+        {
+            record( isCancelled() ? Future.State.CANCELLED : Future.State.SUCCESS );
+            super.set( value );
+        }
+
+        @Override
+        protected void setException( Throwable t )
+        {
+            record( isCancelled() ? Future.State.CANCELLED : Future.State.FAILED );
+            super.setException( t );
+        }
+
+        private void record( Future.State outcome )
+        {
+            recorded = true;
+            meter( workload ).finish( startedAt, outcome );
+        }
+
+        @Override
+        protected void done()
+        {
+            Meter meter = meter( workload );
+            if ( phase.compareAndSet( QUEUED, CANCELLED ) ) {
+                meter.dequeue();
+                meter.cancelled.increment();
+            }
+            else if ( phase.compareAndSet( NEW, CANCELLED ) ) {
+                meter.cancelled.increment();
+            }
+        }
+    }
+}
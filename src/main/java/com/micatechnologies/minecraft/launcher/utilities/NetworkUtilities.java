@@ -929,6 +929,31 @@ public class NetworkUtilities
             long maxBytes,
             String prevEtag,
             String prevLastModified ) throws IOException
+    {
+        return downloadFileFromURLBoundedConditional( source, maxBytes, prevEtag, prevLastModified, false );
+    }
+
+    /**
+     * Variant of {@link #downloadFileFromURLBoundedConditional(URL, long, String, String)}
+     * for sources that publish XML rather than JSON — Maven {@code maven-metadata.xml}
+     * listings in practice. Only the Content-Type gate differs.
+     *
+     * @param source           HTTPS URL to fetch
+     * @param maxBytes         body-size cap; throws if exceeded
+     * @param prevEtag         the ETag value persisted from the prior fetch, or null
+     * @param prevLastModified the Last-Modified value persisted from the prior fetch, or null
+     * @param xmlBody          {@code true} to accept XML content types instead of JSON ones
+     *
+     * @return a result describing the body + freshness validators
+     *
+     * @since 2026.7
+     */
+    public static BoundedFetchResult downloadFileFromURLBoundedConditional(
+            URL source,
+            long maxBytes,
+            String prevEtag,
+            String prevLastModified,
+            boolean xmlBody ) throws IOException
     {
         URL current = source;
         for ( int hop = 0; hop <= MAX_REDIRECTS; hop++ ) {
@@ -951,7 +976,7 @@ public class NetworkUtilities
                     // (possibly-updated) validators in case the server changed them.
                     String newEtag = httpConn.getHeaderField( "ETag" );
                     String newLastMod = httpConn.getHeaderField( "Last-Modified" );
-                    httpConn.disconnect();
+                    releaseForReuse( httpConn );
                     noteNetworkSuccess();
                     return new BoundedFetchResult( null,
                                                     newEtag != null ? newEtag : prevEtag,
@@ -963,7 +988,7 @@ public class NetworkUtilities
                         || code == java.net.HttpURLConnection.HTTP_SEE_OTHER
                         || code == 307 || code == 308 ) {
                     String location = httpConn.getHeaderField( "Location" );
-                    httpConn.disconnect();
+                    releaseForReuse( httpConn );
                     if ( location == null || location.isBlank() ) {
                         throw new IOException( "Redirect without Location header from " + current );
                     }
@@ -971,7 +996,12 @@ public class NetworkUtilities
                     continue;
                 }
             }
-            assertAcceptableJsonContentType( connection.getContentType(), current );
+            if ( xmlBody ) {
+                assertAcceptableXmlContentType( connection.getContentType(), current );
+            }
+            else {
+                assertAcceptableJsonContentType( connection.getContentType(), current );
+            }
             String etag = connection.getHeaderField( "ETag" );
             String lastMod = connection.getHeaderField( "Last-Modified" );
             try ( InputStream is = connection.getInputStream();
@@ -995,6 +1025,27 @@ public class NetworkUtilities
         throw new IOException( "Too many redirects following " + source );
     }
 
+    /**
+     * Finishes a bodiless (304 / redirect) response by draining and closing its
+     * stream rather than calling {@code disconnect()}, so the socket goes back
+     * to the JDK keep-alive cache and the next manifest fetch to the same host
+     * skips the TCP + TLS handshake. Best-effort: a failure just means the
+     * connection isn't reused.
+     *
+     * @param httpConn the connection whose response headers were consumed
+     *
+     * @since 2026.7
+     */
+    private static void releaseForReuse( java.net.HttpURLConnection httpConn )
+    {
+        try ( InputStream is = httpConn.getInputStream() ) {
+            is.transferTo( OutputStream.nullOutputStream() );
+        }
+        catch ( IOException e ) {
+            httpConn.disconnect();
+        }
+    }
+
     /**
      * Shared Content-Type gate for the bounded JSON fetch variants. The bounded
      * fetcher exists specifically for JSON consumption; reject responses whose
@@ -1035,4 +1086,25 @@ public class NetworkUtilities
         throw new IOException( "Unexpected Content-Type for bounded JSON fetch from "
                                        + from + ": " + contentType );
     }
+
+    /**
+     * XML counterpart of {@link #assertAcceptableJsonContentType}: accepts
+     * {@code application/xml}, {@code text/xml} and the same
+     * {@code text/plain} / {@code application/octet-stream} fallbacks naive
+     * hosts serve. Missing / blank Content-Type is allowed.
+     */
+    private static void assertAcceptableXmlContentType( String contentType, URL from )
+            throws IOException
+    {
+        if ( contentType == null || contentType.isBlank() ) return;
+        String lower = contentType.toLowerCase( java.util.Locale.ROOT );
+        if ( lower.startsWith( "application/xml" )
+                || lower.startsWith( "text/xml" )
+                || lower.startsWith( "text/plain" )
+                || lower.startsWith( "application/octet-stream" ) ) {
+            return;
+        }
+        throw new IOException( "Unexpected Content-Type for bounded XML fetch from "
+                                       + from + ": " + contentType );
+    }
 }
@@ -265,7 +265,11 @@ public class SystemUtilities
     }
 
     /**
-     * Executes the specified runnable task on a newly created DAEMON thread.
+     * Executes the specified runnable task on a DAEMON thread — a virtual thread
+     * on the shared {@link LauncherExecutors.Workload#IO} workload. Virtual threads
+     * are always daemon threads, and a burst of these (menu-open image and
+     * manifest fetches) parks on I/O rather than occupying platform workers the
+     * launch's downloads need.
      *
      * <p>Daemon-by-default is deliberate: the launcher calls
      * {@code Platform.setImplicitExit(false)} in several code paths so the JVM
@@ -290,16 +294,14 @@ public class SystemUtilities
      */
     public static void spawnNewTask( Runnable runnable ) {
         try {
-            backgroundExecutor().execute( runnable );
+            LauncherExecutors.execute( LauncherExecutors.Workload.IO, runnable );
         }
         catch ( java.util.concurrent.RejectedExecutionException ree ) {
-            // The pool was shut down (e.g. mid-cleanup, or a task submitted in the
-            // narrow window between shutdownBackgroundExecutor() and the next
-            // backgroundExecutor() recreation) and rejected the task. backgroundExecutor()
-            // already recreates a shut-down pool on the next call, so this should be
-            // vanishingly rare — but rather than silently drop the work, run it inline
-            // as a last resort. Worst case is the caller's thread blocks for the task's
-            // duration instead of fanning out.
+            // The IO executor was shut down (a task submitted in the narrow window
+            // inside shutdownBackgroundExecutor(), before the next submission
+            // recreates it) and rejected the task. Rather than silently drop the
+            // work, run it inline as a last resort. Worst case is the caller's
+            // thread blocks for the task's duration instead of fanning out.
             Logger.logWarningSilent( LocalizationManager.get( "log.systemUtil.bgExecutorRejected" ) );
             try {
                 runnable.run();
@@ -311,62 +313,16 @@ public class SystemUtilities
     }
 
     /**
-     * Shared cached thread pool backing {@link #spawnNewTask}. A cached pool reuses
-     * idle worker threads for the brief, fire-and-forget tasks the launcher fans out
-     * across the GUI and background-fetch paths instead of constructing a fresh
-     * {@code java.lang.Thread} per call. Idle threads are reaped after 60s, so steady-
-     * state thread count drops back to ~0 between bursts; a burst of N concurrent
-     * tasks (cold-start manifest fetch fanout, parallel image prefetch) still grows
-     * the pool as needed up to JVM concurrency limits, but a long-tail of single-fire
-     * Runnables no longer churns one OS thread apiece.
+     * Drains the shared IO and CPU executors ({@link LauncherExecutors#shutdown(long)})
+     * with a bounded wait so any in-flight tasks (a manifest fetch that's about to
+     * write its cache, a logger flush) get a chance to land before the process tears
+     * down. Best-effort — the timeout caps how long the launcher will wait, after
+     * which stragglers are interrupted and daemon-thread semantics clean up whatever
+     * is still running.
      *
-     * <p>All workers are daemon threads named {@code mica-bg-N} so they don't keep the
-     * JVM alive past launcher exit and are easy to find in a thread dump.</p>
-     *
-     * <p><b>Lazily (re)created.</b> The field is no longer {@code final} because the
-     * launcher's {@code while(restartFlag)} restart loop runs {@code cleanupApp()} —
-     * which calls {@link #shutdownBackgroundExecutor(long)} — between sessions. A
-     * {@code final} pool stayed shut down forever after the first in-process restart,
-     * so every {@code spawnNewTask} in the restarted session threw
-     * {@code RejectedExecutionException} and silently disabled image caching, auth
-     * renewal, Play actions, etc. {@link #backgroundExecutor()} now rebuilds the pool
-     * on demand whenever it is {@code null} or already shut down.</p>
-     */
-    private static volatile java.util.concurrent.ExecutorService backgroundExecutor;
-
-    /** Monotonic worker-thread sequence, kept outside the per-pool {@link java.util.concurrent.ThreadFactory}
-     *  so names stay unique across pool generations (a restart that recreates the
-     *  pool continues numbering rather than colliding {@code mica-bg-1} twice). */
-    private static final java.util.concurrent.atomic.AtomicInteger BG_THREAD_SEQ =
-            new java.util.concurrent.atomic.AtomicInteger( 0 );
-
-    /**
-     * Returns the shared background executor, lazily constructing it on first use and
-     * reconstructing it if a prior {@link #shutdownBackgroundExecutor(long)} (e.g. from
-     * a restart's {@code cleanupApp()}) left the previous pool shut down. Synchronized so
-     * two threads racing on the first/post-restart call can't build two pools.
-     */
-    private static synchronized java.util.concurrent.ExecutorService backgroundExecutor() {
-        if ( backgroundExecutor == null || backgroundExecutor.isShutdown() ) {
-            backgroundExecutor = java.util.concurrent.Executors.newCachedThreadPool( r -> {
-                Thread t = new Thread( r, "mica-bg-" + BG_THREAD_SEQ.incrementAndGet() );
-                t.setDaemon( true );
-                return t;
-            } );
-        }
-        return backgroundExecutor;
-    }
-
-    /**
-     * Shuts down the shared background-task executor with a bounded wait so any
-     * in-flight tasks (a manifest fetch that's about to write its cache, a logger
-     * flush) get a chance to land before the process tears down. Best-effort —
-     * the timeout caps how long the launcher will wait, after which we move on
-     * and let daemon-thread semantics clean up whatever is still running.
-     *
-     * <p>Safe to call on the restart path as well as on exit: the pool is recreated
-     * on demand by {@link #backgroundExecutor()} the next time {@link #spawnNewTask}
-     * runs, so a restarted session gets a fresh, live pool.</p>
+     * <p>Safe to call on the restart path as well as on exit: the executors are
+     * recreated on demand the next time {@link #spawnNewTask} runs, so a restarted
+     * session gets live pools.</p>
      *
      * <p>Public; called from {@link com.micatechnologies.minecraft.launcher.LauncherCore}
      * on app shutdown.</p>
@@ -374,21 +330,8 @@ public class SystemUtilities
      * @param awaitMillis milliseconds to wait for graceful completion
      */
     public static void shutdownBackgroundExecutor( long awaitMillis ) {
-        java.util.concurrent.ExecutorService pool = backgroundExecutor;
-        if ( pool == null ) {
-            return;
-        }
-        pool.shutdown();
-        try {
-            if ( !pool.awaitTermination( awaitMillis,
-                                         java.util.concurrent.TimeUnit.MILLISECONDS ) ) {
-                Logger.logWarningSilent( LocalizationManager.format( "log.systemUtil.bgExecutorNoDrain", awaitMillis ) );
-                pool.shutdownNow();
-            }
-        }
-        catch ( InterruptedException e ) {
-            Thread.currentThread().interrupt();
-            pool.shutdownNow();
+        if ( !LauncherExecutors.shutdown( awaitMillis ) ) {
+            Logger.logWarningSilent( LocalizationManager.format( "log.systemUtil.bgExecutorNoDrain", awaitMillis ) );
         }
     }
 
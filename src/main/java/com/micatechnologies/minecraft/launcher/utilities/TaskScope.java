@@ -0,0 +1,436 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.utilities;
+
+import com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors.Workload;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+
+/**
+ * A cancellable tree of tasks, modelled on {@code StructuredTaskScope} but
+ * running on the shared {@link LauncherExecutors} workloads (the JDK API is
+ * still a preview feature, which the build doesn't enable).
+ *
+ * <p>{@link #open(String)} creates a child of the calling thread's current
+ * scope and makes it current until {@link #close()}. Tasks {@link #fork forked}
+ * into a scope run with that scope as <em>their</em> current scope, so anything
+ * they fork or open in turn — downloads through {@link DownloadExecutor#submit},
+ * batches through {@link LauncherExecutors#forEach}, nested scopes — joins the
+ * same subtree. {@link #cancel()} interrupts every task in the subtree and
+ * refuses new forks, which is what lets cancelling one launch stop exactly that
+ * launch's downloads and nothing else.</p>
+ *
+ * <pre>{@code
+ * try ( TaskScope scope = TaskScope.open( "pre-launch" ) ) {
+ *     Future< Void > libs = scope.fork( Workload.IO, this::downloadLibraries );
+ *     Future< Void > jre  = scope.fork( Workload.IO, this::installRuntime );
+ *     scope.join();
+ *     libs.get();
+ *     jre.get();
+ * }
+ * }</pre>
+ *
+ * <p>Failures surface through each fork's {@link Future}; a scope never cancels
+ * itself, so callers that want fail-fast behavior call {@link #cancel()} when
+ * the first future fails. An optional parallelism limit holds further forks in
+ * the scope (without blocking the forking thread) until a running one finishes.</p>
+ *
+ * @author Mica Technologies
+ * @since 2026.7
+ */
+public final class TaskScope implements AutoCloseable
+{
+    /** The scope bound to the current thread, or {@code null} outside any scope. */
+    private static final ThreadLocal< TaskScope > CURRENT = new ThreadLocal<>();
+
+    /** Diagnostic name, shown by {@link #toString()}. */
+    private final String name;
+
+    /** The enclosing scope, or {@code null} for a root scope. */
+    private final TaskScope parent;
+
+    /** Maximum number of this scope's forks dispatched at once. */
+    private final int maxParallelism;
+
+    /** Whether this subtree is speculative background work; see {@link #openBackground(String)}. */
+    private final boolean background;
+
+    /** Forks that haven't completed yet, running or held. Guarded by {@code this}. */
+    private final Set< Fork< ? > > live = new LinkedHashSet<>();
+
+    /** Forks held back by the parallelism limit, in fork order. Guarded by {@code this}. */
+    private final ArrayDeque< Fork< ? > > held = new ArrayDeque<>();
+
+    /** Open child scopes, cancelled along with this one. Guarded by {@code this}. */
+    private final Set< TaskScope > children = new LinkedHashSet<>();
+
+    /** Number of dispatched forks holding a parallelism slot. Guarded by {@code this}. */
+    private int active;
+
+    /** Set once by {@link #cancel()}; written under {@code this}, read lock-free by descendants. */
+    private volatile boolean cancelled;
+
+    /** Set once by {@link #close()}. Guarded by {@code this}. */
+    private boolean closed;
+
+    private TaskScope( String name, TaskScope parent, int maxParallelism, boolean background )
+    {
+        this.name = name;
+        this.parent = parent;
+        this.maxParallelism = maxParallelism;
+        this.background = background || ( parent != null && parent.background );
+    }
+
+    /**
+     * Opens an unbounded scope as a child of the current one and binds it to
+     * the calling thread until {@link #close()}.
+     *
+     * @param name a diagnostic name
+     *
+     * @return the new scope
+     */
+    public static TaskScope open( String name )
+    {
+        return open( name, Integer.MAX_VALUE );
+    }
+
+    /**
+     * Opens a scope as a child of the current one, with at most
+     * {@code maxParallelism} of its forks running at once, and binds it to the
+     * calling thread until {@link #close()}. A scope opened under an already
+     * cancelled parent starts out cancelled.
+     *
+     * @param name           a diagnostic name
+     * @param maxParallelism the maximum number of forks running at once
+     *
+     * @return the new scope
+     *
+     * @throws IllegalArgumentException if {@code maxParallelism} is below one
+     */
+    public static TaskScope open( String name, int maxParallelism )
+    {
+        if ( maxParallelism < 1 ) {
+            throw new IllegalArgumentException( "maxParallelism must be at least 1: " + maxParallelism );
+        }
+        return open( name, maxParallelism, false );
+    }
+
+    /**
+     * Opens an unbounded scope for speculative work nobody is waiting on, such
+     * as an idle-time warm-up. Everything in its subtree reports
+     * {@link #isBackground()}, which {@link DownloadExecutor} uses to hold the
+     * subtree to a small share of the download permits.
+     *
+     * @param name a diagnostic name
+     *
+     * @return the new scope
+     */
+    public static TaskScope openBackground( String name )
+    {
+        return open( name, Integer.MAX_VALUE, true );
+    }
+
+    private static TaskScope open( String name, int maxParallelism, boolean background )
+    {
+        TaskScope parent = CURRENT.get();
+        TaskScope scope = new TaskScope( name, parent, maxParallelism, background );
+        if ( parent != null ) {
+            parent.adopt( scope );
+        }
+        CURRENT.set( scope );
+        return scope;
+    }
+
+    /**
+     * Returns the scope bound to the calling thread — the innermost scope it
+     * opened, or the scope of the fork it is running in.
+     *
+     * @return the current scope, or {@code null} outside any scope
+     */
+    public static TaskScope current()
+    {
+        return CURRENT.get();
+    }
+
+    /**
+     * Forks a task into this scope on the given workload. If the parallelism
+     * limit is reached the task is held and dispatched, in fork order, when a
+     * running fork finishes; the forking thread never blocks.
+     *
+     * @param workload the workload class
+     * @param task     the task
+     * @param <T>      the task result type
+     *
+     * @return a future for the task result
+     *
+     * @throws CancellationException if this scope or an ancestor was cancelled
+     * @throws IllegalStateException if this scope was closed
+     */
+    public < T > Future< T > fork( Workload workload, Callable< T > task )
+    {
+        Fork< T > fork = new Fork<>( workload, () -> callIn( task ) );
+        boolean runNow;
+        synchronized ( this ) {
+            if ( closed ) {
+                throw new IllegalStateException( this + " is closed" );
+            }
+            if ( isCancelled() ) {
+                throw new CancellationException( this + " was cancelled" );
+            }
+            live.add( fork );
+            runNow = active < maxParallelism;
+            if ( runNow ) {
+                active++;
+                fork.holdsSlot = true;
+            }
+            else {
+                held.add( fork );
+            }
+        }
+        if ( runNow ) {
+            dispatch( fork );
+        }
+        return fork;
+    }
+
+    /**
+     * Waits until every fork in this scope has completed, including forks
+     * added while waiting. Does not wait for child scopes, which their own
+     * owners join.
+     *
+     * @throws InterruptedException if the calling thread is interrupted while waiting;
+     *                              the forks keep running unless the caller cancels
+     */
+    public synchronized void join() throws InterruptedException
+    {
+        while ( !live.isEmpty() ) {
+            wait();
+        }
+    }
+
+    /**
+     * Cancels this scope and its whole subtree: every fork is cancelled with
+     * interruption, child scopes are cancelled recursively, and later forks are
+     * refused. Idempotent and callable from any thread.
+     */
+    public void cancel()
+    {
+        List< Fork< ? > > forks;
+        List< TaskScope > kids;
+        synchronized ( this ) {
+            if ( cancelled ) {
+                return;
+            }
+            cancelled = true;
+            forks = new ArrayList<>( live );
+            kids = new ArrayList<>( children );
+        }
+        for ( Fork< ? > fork : forks ) {
+            fork.cancel( true );
+        }
+        for ( TaskScope kid : kids ) {
+            kid.cancel();
+        }
+    }
+
+    /**
+     * Returns whether this scope or any enclosing scope was cancelled. Long
+     * running forks that don't block interruptibly poll this.
+     *
+     * @return {@code true} once cancelled
+     */
+    public boolean isCancelled()
+    {
+        for ( TaskScope s = this; s != null; s = s.parent ) {
+            if ( s.cancelled ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether this scope belongs to a subtree opened with
+     * {@link #openBackground(String)}.
+     *
+     * @return {@code true} for background work
+     */
+    public boolean isBackground()
+    {
+        return background;
+    }
+
+    /**
+     * Closes the scope: forks still running are cancelled, the scope detaches
+     * from its parent, and, when called on the thread that opened it, the
+     * parent becomes current again. Call {@link #join()} first to let forks
+     * finish.
+     */
+    @Override
+    public void close()
+    {
+        List< Fork< ? > > stragglers;
+        synchronized ( this ) {
+            if ( closed ) {
+                return;
+            }
+            closed = true;
+            stragglers = new ArrayList<>( live );
+        }
+        for ( Fork< ? > fork : stragglers ) {
+            fork.cancel( true );
+        }
+        if ( CURRENT.get() == this ) {
+            if ( parent == null ) {
+                CURRENT.remove();
+            }
+            else {
+                CURRENT.set( parent );
+            }
+        }
+        if ( parent != null ) {
+            parent.disown( this );
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "TaskScope[" + name + "]";
+    }
+
+    /**
+     * Registers an opened child, cancelling it straight away if this scope
+     * already is.
+     */
+    private void adopt( TaskScope child )
+    {
+        synchronized ( this ) {
+            children.add( child );
+        }
+        if ( isCancelled() ) {
+            child.cancel();
+        }
+    }
+
+    private synchronized void disown( TaskScope child )
+    {
+        children.remove( child );
+    }
+
+    /**
+     * Runs a fork's body with this scope bound as the worker thread's current
+     * scope, restoring whatever was bound before (pooled CPU workers are reused).
+     */
+    private < T > T callIn( Callable< T > task ) throws Exception
+    {
+        TaskScope previous = CURRENT.get();
+        CURRENT.set( this );
+        try {
+            return task.call();
+        }
+        finally {
+            if ( previous == null ) {
+                CURRENT.remove();
+            }
+            else {
+                CURRENT.set( previous );
+            }
+        }
+    }
+
+    /**
+     * Hands a slot-holding fork to its workload; a rejected fork is cancelled
+     * so its slot passes on and {@link #join()} doesn't wait for it forever.
+     */
+    private void dispatch( Fork< ? > fork )
+    {
+        try {
+            LauncherExecutors.dispatch( fork );
+        }
+        catch ( RuntimeException e ) {
+            fork.cancel( false );
+            throw e;
+        }
+    }
+
+    /**
+     * Completion hook for every fork, however it finished: frees or hands on
+     * its parallelism slot and wakes {@link #join()}.
+     */
+    private void finished( Fork< ? > fork )
+    {
+        Fork< ? > next = null;
+        synchronized ( this ) {
+            if ( !live.remove( fork ) ) {
+                return;
+            }
+            if ( fork.holdsSlot ) {
+                next = held.poll();
+                if ( next != null ) {
+                    next.holdsSlot = true;
+                }
+                else {
+                    active--;
+                }
+            }
+            else {
+                held.remove( fork );
+            }
+            notifyAll();
+        }
+        if ( next != null ) {
+            try {
+                dispatch( next );
+            }
+            catch ( RuntimeException ignored ) {
+                // Rejected mid-shutdown; dispatch() cancelled it, which its future reports.
+            }
+        }
+    }
+
+    /**
+     * A task forked into this scope.
+     *
+     * @param <T> the result type
+     */
+    private final class Fork< T > extends LauncherExecutors.Task< T >
+    {
+        /** Whether this fork occupies one of the scope's parallelism slots. Guarded by the scope. */
+        boolean holdsSlot;
+
+        Fork( Workload workload, Callable< T > callable )
+        {
+            super( workload, callable );
+        }
+
+        @Override
+        protected void done()
+        {
+            super.done();
+            finished( this );
+        }
+    }
+}
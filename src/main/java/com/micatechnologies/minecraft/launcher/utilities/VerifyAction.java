@@ -22,6 +22,7 @@ import com.micatechnologies.minecraft.launcher.files.Logger;
 import com.micatechnologies.minecraft.launcher.game.modpack.GameModPack;
 import com.micatechnologies.minecraft.launcher.game.modpack.LaunchProgressTracker;
 import com.micatechnologies.minecraft.launcher.game.modpack.LaunchTrackerProgressBridge;
+import com.micatechnologies.minecraft.launcher.game.modpack.PrelaunchWarmup;
 import com.micatechnologies.minecraft.launcher.gui.GUIUtilities;
 import com.micatechnologies.minecraft.launcher.gui.MCLauncherGuiController;
 import com.micatechnologies.minecraft.launcher.gui.MCLauncherLaunchProgressGui;
@@ -122,6 +123,9 @@ public final class VerifyAction
      */
     private static void runForPacksOnWorker( List< GameModPack > packs, Runnable onAllSucceeded )
     {
+        // Same pipeline and verify-mode switch as a background warm-up; never run both.
+        PrelaunchWarmup.yieldToUserWork();
+
         MCLauncherLaunchProgressGui progressGui;
         try {
             progressGui = MCLauncherGuiController.goToLaunchProgressGui();
@@ -9,12 +9,12 @@ import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.jar.JarFile;
 
+import com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors;
+import com.micatechnologies.minecraft.launcher.utilities.TaskScope;
+
 /**
  * Main class for Nekodetector, which scans for malicious code signatures from the Nekoclient malware.
  * <p>ORIGINAL SOURCE: https://github.com/MCRcortex/nekodetector</p>
@@ -27,15 +27,16 @@ public class Main
 {
 
     /**
-     * The executor service used to scan jars in parallel.
+     * The scope the running scan forks its jars into, on the launcher's shared CPU workload, or {@code null} when no
+     * scan is running.
      */
-    private static ExecutorService executorService;
+    private static volatile TaskScope scanScope;
 
     /**
      * Runs a check and scans a folder for jars with malicious code signatures. An object containing lists of infected
      * files found during scan stages is returned.
      *
-     * @param nThreads       the number of threads to use for scanning
+     * @param nThreads       the maximum number of jars to scan at once
      * @param dirToCheck     the directory to scan
      * @param emitWalkErrors whether to emit errors when walking the directory tree
      * @param logOutput      the function to use for logging output
@@ -84,9 +85,6 @@ public class Main
             throw new IllegalArgumentException( "Number of threads must be at least 1" );
         }
 
-        // Create executor service with number of threads
-        executorService = Executors.newFixedThreadPool( nThreads );
-
         // Scan all jars in path
         final double[] progress = { 0.0, 0.0 };
         // set progress[1] to the total number of files in the directory
@@ -105,7 +103,10 @@ public class Main
         long stage1StartTime = System.currentTimeMillis();
         logOutput.apply( Constants.ANSI_GREEN + "Running Stage 1 Scan..." + Constants.ANSI_RESET );
         final List< String > stage1InfectionsList = new ArrayList<>();
-        Files.walkFileTree( dirToCheck, new FileVisitor< Path >()
+        // Scope with at most nThreads jars scanned at once
+        final TaskScope scope = TaskScope.open( "jarscanner", nThreads );
+        scanScope = scope;
+        final FileVisitor< Path > visitor = new FileVisitor< Path >()
         {
             /**
              * Invoked for a directory before entries in the directory are visited.
@@ -140,10 +141,10 @@ public class Main
                 // Check if file is a scannable Jar file
                 boolean isScannable = file.toString().toLowerCase().endsWith( Constants.JAR_FILE_EXTENSION );
 
-                // If file is scannable, submit it to the executor service for scanning
+                // If file is scannable, fork it into the scan scope for scanning
                 progress[ 0 ]++;
                 if ( isScannable ) {
-                    executorService.submit( () -> {
+                    scope.fork( LauncherExecutors.Workload.CPU, () -> {
                         try ( JarFile scannableJarFile = new JarFile( file.toFile() ) ) {
                             logOutput.apply( "Scanning Jar file for infection: " + file.getFileName() );
                             boolean infectionDetected = Detector.scan( scannableJarFile, file, logOutput );
@@ -159,6 +160,7 @@ public class Main
                                 e.printStackTrace();
                             }
                         }
+                        return null;
                     } );
                 }
 
@@ -205,13 +207,16 @@ public class Main
                 }
                 return FileVisitResult.CONTINUE;
             }
-        } );
+        };
+        try {
+            Files.walkFileTree( dirToCheck, visitor );
 
-        // Shutdown executor service and wait for all tasks to complete
-        executorService.shutdown();
-        boolean timedOut = !executorService.awaitTermination( 100000, TimeUnit.DAYS );
-        if ( timedOut ) {
-            logOutput.apply( "Timed out while waiting for Jar scanning to complete." );
+            // Wait for all scan tasks to complete
+            scope.join();
+        }
+        finally {
+            scanScope = null;
+            scope.close();
         }
         long stage1EndTime = System.currentTimeMillis();
         long stage1Time = stage1EndTime - stage1StartTime;
@@ -246,11 +251,12 @@ public class Main
     }
 
     /**
-     * Cancels the current scan, if one is running, by shutting down the executor service.
+     * Cancels the current scan, if one is running, by cancelling its scope.
      */
     public static void cancelScanIfRunning() {
-        if ( executorService != null ) {
-            executorService.shutdownNow();
+        TaskScope scope = scanScope;
+        if ( scope != null ) {
+            scope.cancel();
         }
     }
 
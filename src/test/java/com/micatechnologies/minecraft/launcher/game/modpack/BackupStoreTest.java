@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the content-addressed {@link BackupStore} and the snapshot/ZIP
+ * pruning in {@link ModpackBackupManager}: unchanged files are carried over
+ * without new chunks, only edited chunks of a large file are re-stored,
+ * restore round-trips byte-for-byte, and GC keeps chunks a surviving snapshot
+ * still references.
+ */
+class BackupStoreTest
+{
+    @TempDir
+    Path packRoot;
+
+    private static final List< String > ROOTS = List.of( "config", "saves" );
+
+    private Path backupsDir()
+    {
+        return packRoot.resolve( ModpackBackupManager.BACKUPS_DIR );
+    }
+
+    private Path write( String rel, byte[] content, long mtime ) throws IOException
+    {
+        Path p = packRoot.resolve( rel );
+        Files.createDirectories( p.getParent() );
+        Files.write( p, content );
+        Files.setLastModifiedTime( p, FileTime.fromMillis( mtime ) );
+        return p;
+    }
+
+    private static byte[] random( int len, long seed )
+    {
+        byte[] b = new byte[ len ];
+        new Random( seed ).nextBytes( b );
+        return b;
+    }
+
+    private long chunkCount() throws IOException
+    {
+        try ( Stream< Path > walk = Files.walk( backupsDir().resolve( BackupStore.CHUNKS_DIR ) ) ) {
+            return walk.filter( Files::isRegularFile ).count();
+        }
+    }
+
+    private BackupStore.Snapshot snapshot( String id, BackupStore.Stats stats ) throws IOException
+    {
+        return BackupStore.createSnapshot( backupsDir(), packRoot, ROOTS, id, stats );
+    }
+
+    @Test
+    void nothingToCaptureWritesNoSnapshot() throws IOException
+    {
+        assertNull( snapshot( "a", null ) );
+        assertTrue( BackupStore.listSnapshots( backupsDir() ).isEmpty() );
+    }
+
+    @Test
+    void unchangedFilesAreReusedWithoutNewChunks() throws IOException
+    {
+        write( "config/a.cfg", "alpha".getBytes(), 1000L );
+        write( "saves/w/level.dat", random( 3 * BackupStore.CHUNK_SIZE + 17, 1 ), 1000L );
+        snapshot( "one", null );
+        long chunks = chunkCount();
+        assertEquals( 5, chunks );
+
+        BackupStore.Stats stats = new BackupStore.Stats();
+        BackupStore.Snapshot second = snapshot( "two", stats );
+        assertEquals( 2, stats.filesReused );
+        assertEquals( 0, stats.filesRead );
+        assertEquals( 0, stats.chunksWritten.get() );
+        assertEquals( chunks, chunkCount() );
+        assertEquals( 2, second.files.size() );
+    }
+
+    @Test
+    void editedFileRestoresOnlyTheChangedChunk() throws IOException
+    {
+        byte[] region = random( 4 * BackupStore.CHUNK_SIZE, 2 );
+        Path file = write( "saves/w/region/r.0.0.mca", region, 1000L );
+        snapshot( "before", null );
+
+        byte[] edited = region.clone();
+        edited[ 2 * BackupStore.CHUNK_SIZE + 5 ] ^= 0x7f;
+        write( "saves/w/region/r.0.0.mca", edited, 2000L );
+        BackupStore.Stats stats = new BackupStore.Stats();
+        snapshot( "after", stats );
+        assertEquals( 1, stats.filesRead );
+        assertEquals( 1, stats.chunksWritten.get() );
+
+        BackupStore.Snapshot before = BackupStore.listSnapshots( backupsDir() ).stream()
+                                                 .filter( s -> s.id.equals( "before" ) ).findFirst().orElseThrow();
+        assertEquals( 1, BackupStore.restoreSnapshot( backupsDir(), packRoot, before ) );
+        assertArrayEquals( region, Files.readAllBytes( file ) );
+        assertEquals( 1000L, Files.getLastModifiedTime( file ).toMillis() );
+    }
+
+    @Test
+    void corruptChunkFailsRestore() throws IOException
+    {
+        write( "config/a.cfg", "hello hello hello hello".getBytes(), 1000L );
+        BackupStore.Snapshot snap = snapshot( "s", null );
+        String hash = snap.files.get( 0 ).chunks.get( 0 );
+        Path chunk = backupsDir().resolve( BackupStore.CHUNKS_DIR ).resolve( hash.substring( 0, 2 ) ).resolve( hash );
+        Files.write( chunk, new byte[] { 0, 'x' } );
+        assertThrows( IOException.class, () -> BackupStore.restoreSnapshot( backupsDir(), packRoot, snap ) );
+    }
+
+    @Test
+    void pruneKeepsSharedChunksAndCollectsTheRest() throws IOException
+    {
+        write( "config/shared.cfg", "shared".getBytes(), 1000L );
+        write( "config/old.cfg", "only in the first snapshot".getBytes(), 1000L );
+        snapshot( "first", null );
+        Files.delete( packRoot.resolve( "config/old.cfg" ) );
+        snapshot( "second", null );
+        Files.createFile( backupsDir().resolve( "2020-01-01--00-00-00.zip" ) )
+             .toFile().setLastModified( 1L );
+        assertEquals( 2, chunkCount() );
+
+        assertEquals( 2, ModpackBackupManager.pruneBackups( backupsDir(), 1, 0, System.currentTimeMillis() ) );
+        List< BackupStore.Snapshot > left = BackupStore.listSnapshots( backupsDir() );
+        assertEquals( 1, left.size() );
+        assertEquals( "second", left.get( 0 ).id );
+        assertEquals( 1, chunkCount() );
+        assertTrue( Files.notExists( backupsDir().resolve( "2020-01-01--00-00-00.zip" ) ) );
+
+        Files.writeString( packRoot.resolve( "config/shared.cfg" ), "clobbered" );
+        BackupStore.restoreSnapshot( backupsDir(), packRoot, left.get( 0 ) );
+        assertEquals( "shared", Files.readString( packRoot.resolve( "config/shared.cfg" ) ) );
+    }
+}
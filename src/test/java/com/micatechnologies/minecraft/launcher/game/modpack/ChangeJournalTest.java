@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.micatechnologies.minecraft.launcher.consts.LauncherConstants;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link ChangeJournal}: the server-mode verify decision and the
+ * fingerprint / touched-path checks that let a journaled restart skip hashing.
+ */
+class ChangeJournalTest
+{
+    @TempDir
+    Path root;
+
+    private static final long NOW = 1_000_000_000_000L;
+
+    private static VerifyState freshState()
+    {
+        VerifyState s = new VerifyState();
+        s.verifiedAt = NOW - 1000L;
+        s.launcherVersion = LauncherConstants.LAUNCHER_APPLICATION_VERSION;
+        return s;
+    }
+
+    private ChangeJournal cleanJournal()
+    {
+        ChangeJournal j = ChangeJournal.loadFromRoot( root );
+        j.clean = true;
+        j.launcherVersion = LauncherConstants.LAUNCHER_APPLICATION_VERSION;
+        return j;
+    }
+
+    private File writeFile( String rel, String content ) throws Exception
+    {
+        Path p = root.resolve( rel );
+        Files.createDirectories( p.getParent() );
+        Files.writeString( p, content );
+        return p.toFile();
+    }
+
+    @Test
+    void decideRequiresCleanCurrentJournalAndRecentVerify()
+    {
+        long max = ChangeJournal.MAX_JOURNALED_AGE_MS;
+        assertEquals( LaunchVerifyMode.JOURNALED, ChangeJournal.decideMode( cleanJournal(), freshState(), max, NOW ) );
+        assertEquals( LaunchVerifyMode.FULL, ChangeJournal.decideMode( null, freshState(), max, NOW ) );
+        assertEquals( LaunchVerifyMode.FULL, ChangeJournal.decideMode( cleanJournal(), null, max, NOW ) );
+
+        ChangeJournal unclean = cleanJournal();
+        unclean.clean = false;
+        assertEquals( LaunchVerifyMode.FULL, ChangeJournal.decideMode( unclean, freshState(), max, NOW ) );
+
+        ChangeJournal oldLauncher = cleanJournal();
+        oldLauncher.launcherVersion = "0.0";
+        assertEquals( LaunchVerifyMode.FULL, ChangeJournal.decideMode( oldLauncher, freshState(), max, NOW ) );
+
+        VerifyState stale = freshState();
+        stale.verifiedAt = NOW - max - 1L;
+        assertEquals( LaunchVerifyMode.FULL, ChangeJournal.decideMode( cleanJournal(), stale, max, NOW ) );
+    }
+
+    @Test
+    void recordedFileIsUnchangedUntilHashSizeOrTouchDiffers() throws Exception
+    {
+        ChangeJournal j = cleanJournal();
+        File mod = writeFile( "mods/a.jar", "aaaa" );
+        assertFalse( j.isUnchanged( mod, "ABC" ), "never recorded" );
+
+        j.recordVerified( mod, "ABC" );
+        assertTrue( j.isUnchanged( mod, "abc" ), "hash comparison is case-insensitive" );
+        assertFalse( j.isUnchanged( mod, "def" ), "manifest entry changed" );
+
+        j.markTouched( "mods/a.jar" );
+        assertFalse( j.isUnchanged( mod, "abc" ) );
+        j.recordVerified( mod, "abc" );
+        assertTrue( j.isUnchanged( mod, "abc" ), "re-verify clears the touch" );
+
+        Files.writeString( mod.toPath(), "aaaaaa" );
+        assertFalse( j.isUnchanged( mod, "abc" ), "size drifted while unwatched" );
+    }
+
+    @Test
+    void touchedParentFolderCoversEveryFileBeneathIt() throws Exception
+    {
+        ChangeJournal j = cleanJournal();
+        File lib = writeFile( "libraries/org/x/x.jar", "x" );
+        File mod = writeFile( "mods/a.jar", "a" );
+        j.recordVerified( lib, "1" );
+        j.recordVerified( mod, "2" );
+
+        j.markTouched( "libraries/org" );
+        assertFalse( j.isUnchanged( lib, "1" ) );
+        assertTrue( j.isUnchanged( mod, "2" ) );
+    }
+
+    @Test
+    void filesOutsideRootAreNeverJournaled( @TempDir Path elsewhere ) throws Exception
+    {
+        ChangeJournal j = cleanJournal();
+        Path outside = elsewhere.resolve( "jre.zip" );
+        Files.writeString( outside, "jre" );
+        j.recordVerified( outside.toFile(), "1" );
+        assertTrue( j.files.isEmpty() );
+        assertFalse( j.isUnchanged( outside.toFile(), "1" ) );
+    }
+
+    @Test
+    void sidecarRoundTripsAndWatchRootsCoverTopLevelFolders() throws Exception
+    {
+        ChangeJournal j = cleanJournal();
+        j.recordVerified( writeFile( "mods/a.jar", "a" ), "1" );
+        j.recordVerified( writeFile( "libraries/org/x/x.jar", "x" ), "2" );
+        j.recordVerified( writeFile( "server.jar", "s" ), "3" );
+        j.save();
+
+        ChangeJournal back = ChangeJournal.loadFromRoot( root );
+        assertTrue( back.clean );
+        assertEquals( 3, back.files.size() );
+        assertTrue( back.isUnchanged( root.resolve( "libraries/org/x/x.jar" ).toFile(), "2" ) );
+        assertEquals( 3, back.watchRoots().size() );
+        assertTrue( back.watchRoots().contains( root.toAbsolutePath().normalize() ) );
+    }
+}
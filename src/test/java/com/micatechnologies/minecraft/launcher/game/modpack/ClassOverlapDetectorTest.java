@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link ClassOverlapDetector} over small synthetic jars.
+ */
+class ClassOverlapDetectorTest
+{
+    @TempDir
+    Path root;
+
+    @Test
+    void shadedLibraryIsReportedOnceAsDuplicateClassesNotAlsoAsSplitPackages() throws IOException
+    {
+        Path lib = jar( "gson-2.10.jar", "com/google/gson/Gson.class", "com/google/gson/JsonObject.class",
+                        "module-info.class" );
+        Path modA = jar( "mod-a.jar", "com/example/a/ModA.class", "com/google/gson/Gson.class",
+                         "com/google/gson/JsonObject.class", "module-info.class",
+                         "META-INF/versions/9/com/example/a/ModA.class" );
+        Path modB = jar( "mod-b.jar", "com/example/b/ModB.class" );
+
+        ClassOverlapDetector.Report report = ClassOverlapDetector.scan( List.of( lib, modA, modB ) );
+
+        assertEquals( 3, report.jarCount() );
+        assertEquals( 1, report.duplicateClasses().size() );
+        ClassOverlapDetector.DuplicateClasses dup = report.duplicateClasses().get( 0 );
+        assertEquals( "gson-2.10.jar", dup.firstJar() );
+        assertEquals( "mod-a.jar", dup.secondJar() );
+        assertEquals( 2, dup.count() );
+        assertEquals( List.of( "com.google.gson.Gson", "com.google.gson.JsonObject" ),
+                      dup.examples().stream().sorted().toList() );
+        assertTrue( report.splitPackages().isEmpty() );
+    }
+
+    @Test
+    void distinctClassesInOnePackageAcrossJarsAreASplitPackage() throws IOException
+    {
+        Path core = jar( "core.jar", "net/shared/api/Core.class", "net/shared/api/Util.class" );
+        Path addon = jar( "addon.jar", "net/shared/api/Addon.class", "net/addon/Main.class" );
+        Path other = jar( "other.jar", "net/shared/api/Other.class" );
+
+        ClassOverlapDetector.Report report = ClassOverlapDetector.scan( List.of( core, addon, other ) );
+
+        assertTrue( report.duplicateClasses().isEmpty() );
+        assertEquals( List.of( new ClassOverlapDetector.SplitPackage( "net.shared.api",
+                                                                      List.of( "core.jar", "addon.jar", "other.jar" ) ) ),
+                      report.splitPackages() );
+    }
+
+    @Test
+    void unreadableAndCleanJarsProduceACleanReport() throws IOException
+    {
+        Path a = jar( "a.jar", "a/A.class" );
+        Path b = jar( "b.jar", "b/B.class" );
+        Path bogus = root.resolve( "bogus.jar" );
+        Files.writeString( bogus, "not a zip" );
+
+        ClassOverlapDetector.Report report =
+                ClassOverlapDetector.scan( List.of( a, b, bogus, root.resolve( "missing.jar" ) ) );
+
+        assertEquals( 2, report.jarCount() );
+        assertTrue( report.isClean() );
+    }
+
+    @Test
+    void tableKeepsTheFirstOwnerOfEachKey()
+    {
+        ClassOverlapDetector.LongIntTable table = new ClassOverlapDetector.LongIntTable( 1000 );
+        for ( int i = 0; i < 1000; i++ ) {
+            assertEquals( -1, table.putIfAbsent( ClassOverlapDetector.hash( "k" + i, 0, ( "k" + i ).length() ), i ) );
+        }
+        for ( int i = 0; i < 1000; i++ ) {
+            assertEquals( i, table.putIfAbsent( ClassOverlapDetector.hash( "k" + i, 0, ( "k" + i ).length() ), 5000 ) );
+        }
+    }
+
+    private Path jar( String name, String... entries ) throws IOException
+    {
+        Path jar = root.resolve( name );
+        try ( OutputStream out = Files.newOutputStream( jar ); ZipOutputStream zip = new ZipOutputStream( out ) ) {
+            for ( String entry : entries ) {
+                zip.putNextEntry( new ZipEntry( entry ) );
+                zip.write( new byte[] { (byte) 0xCA, (byte) 0xFE } );
+                zip.closeEntry();
+            }
+        }
+        return jar;
+    }
+}
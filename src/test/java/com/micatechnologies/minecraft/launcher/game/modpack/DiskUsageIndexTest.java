@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link DiskUsageIndex}: totals and breakdowns, the persisted
+ * tree, and which changes a mtime-only revalidation does and doesn't see.
+ */
+class DiskUsageIndexTest
+{
+    @TempDir
+    Path root;
+
+    @AfterEach
+    void reset()
+    {
+        DiskUsageIndex.dropCachedState();
+    }
+
+    @Test
+    void breakdownIsLargestFirstAndSurvivesAReload() throws IOException
+    {
+        write( "mods/a.jar", 300 );
+        write( "mods/b.jar", 200 );
+        write( "saves/World/region/r.0.0.mca", 1000 );
+        write( "saves/World/level.dat", 50 );
+        write( "options.txt", 10 );
+        assertNull( DiskUsageIndex.peek( root ) );
+
+        DiskUsageIndex.Snapshot snap = DiskUsageIndex.refresh( root, 1_000_000L );
+
+        assertEquals( 1560L, snap.totalBytes() );
+        assertEquals( 5L, snap.totalFiles() );
+        assertEquals( 1050L, snap.bytes( "saves/World" ) );
+        assertEquals( -1L, snap.bytes( "saves/Missing" ) );
+        assertEquals( List.of( new DiskUsageIndex.Usage( "saves", 1050, 2 ),
+                               new DiskUsageIndex.Usage( "mods", 500, 2 ),
+                               new DiskUsageIndex.Usage( null, 10, 1 ) ),
+                      snap.breakdown( "" ) );
+        assertTrue( Files.isRegularFile( root.resolve( DiskUsageIndex.INDEX_FILE ) ) );
+
+        DiskUsageIndex.dropCachedState();
+        DiskUsageIndex.Snapshot reloaded = DiskUsageIndex.peek( root );
+        assertNotNull( reloaded );
+        assertEquals( 1050L, reloaded.bytes( "saves/World" ) );
+        assertEquals( 1_000_000L, reloaded.scannedAt() );
+    }
+
+    @Test
+    void revalidationSeesNewAndDeletedEntriesButNeedsASessionForInPlaceGrowth() throws IOException
+    {
+        Path region = write( "saves/World/region/r.0.0.mca", 1000 );
+        write( "saves/Old/level.dat", 40 );
+        DiskUsageIndex.refresh( root, 1_000_000L );
+
+        // A new world and a deleted one both touch saves/'s mtime.
+        write( "saves/New/level.dat", 70 );
+        deleteTree( root.resolve( "saves/Old" ) );
+        // The game growing a region file in place doesn't touch region/'s mtime.
+        FileTime regionDirTime = Files.getLastModifiedTime( region.getParent() );
+        Files.write( region, new byte[ 1500 ] );
+        Files.setLastModifiedTime( region.getParent(), regionDirTime );
+        bumpMtime( root.resolve( "saves" ) );
+
+        DiskUsageIndex.Snapshot shallow = DiskUsageIndex.refresh( root, 1_010_000L );
+        assertEquals( 70L, shallow.bytes( "saves/New" ) );
+        assertEquals( -1L, shallow.bytes( "saves/Old" ) );
+        assertEquals( 1000L, shallow.bytes( "saves/World" ) );
+
+        DiskUsageIndex.markPlayed( root.toString() );
+        DiskUsageIndex.Snapshot deep = DiskUsageIndex.refresh( root, 1_020_000L );
+        assertEquals( 1500L, deep.bytes( "saves/World" ) );
+        assertEquals( 1570L, deep.bytes( "saves" ) );
+    }
+
+    @Test
+    void refreshesInsideTheDebounceWindowReuseTheLastPass() throws IOException
+    {
+        write( "mods/a.jar", 10 );
+        DiskUsageIndex.Snapshot first = DiskUsageIndex.refresh( root, 1_000_000L );
+        write( "mods/b.jar", 10 );
+        bumpMtime( root.resolve( "mods" ) );
+
+        assertEquals( first.scannedAt(), DiskUsageIndex.refresh( root, 1_000_500L ).scannedAt() );
+        DiskUsageIndex.Snapshot later = DiskUsageIndex.refresh( root, 1_000_000L + DiskUsageIndex.REFRESH_DEBOUNCE_MS );
+        assertEquals( 20L, later.bytes( "mods" ) );
+        // The sidecar written by the first pass isn't counted.
+        assertEquals( 20L, later.totalBytes() );
+        assertNull( DiskUsageIndex.refresh( root.resolve( "missing" ), 2_000_000L ) );
+    }
+
+    private Path write( String rel, int size ) throws IOException
+    {
+        Path file = root.resolve( rel );
+        Files.createDirectories( file.getParent() );
+        Files.write( file, new byte[ size ] );
+        return file;
+    }
+
+    /** Filesystems with coarse mtimes may not move a folder's mtime within one test. */
+    private static void bumpMtime( Path dir ) throws IOException
+    {
+        Files.setLastModifiedTime( dir, FileTime.fromMillis( Files.getLastModifiedTime( dir ).toMillis() + 5000 ) );
+    }
+
+    private static void deleteTree( Path dir ) throws IOException
+    {
+        try ( var paths = Files.walk( dir ) ) {
+            for ( Path p : paths.sorted( ( a, b ) -> b.getNameCount() - a.getNameCount() ).toList() ) {
+                Files.delete( p );
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link GameCdsArchive}: flag selection per runtime, what the
+ * archive key is sensitive to, and deferring to user-managed sharing flags.
+ */
+class GameCdsArchiveTest
+{
+    @Test
+    void flagsDependOnRuntimeAndArchivePresence()
+    {
+        assertEquals( List.of( "-XX:+AutoCreateSharedArchive", "-XX:SharedArchiveFile=a.jsa" ),
+                      GameCdsArchive.flagsFor( 21, "a.jsa", false ) );
+        assertEquals( List.of( "-XX:+AutoCreateSharedArchive", "-XX:SharedArchiveFile=a.jsa" ),
+                      GameCdsArchive.flagsFor( 21, "a.jsa", true ) );
+        assertEquals( List.of( "-XX:ArchiveClassesAtExit=a.jsa" ), GameCdsArchive.flagsFor( 17, "a.jsa", false ) );
+        assertEquals( List.of( "-XX:SharedArchiveFile=a.jsa" ), GameCdsArchive.flagsFor( 17, "a.jsa", true ) );
+    }
+
+    @Test
+    void keyTracksClasspathRuntimeAndVmOptionsButNotProperties()
+    {
+        List< String > args = List.of( "-Xmx4G", "-Dlog4j.configurationFile=a.xml" );
+        String key = GameCdsArchive.key( "/jre/bin/java", "21.0.4", "a.jar:b.jar", args );
+        assertEquals( key, GameCdsArchive.key( "/jre/bin/java", "21.0.4", "a.jar:b.jar",
+                                               List.of( "-Xmx4G", "-Dlog4j.configurationFile=b.xml" ) ) );
+        assertNotEquals( key, GameCdsArchive.key( "/jre/bin/java", "21.0.4", "a.jar:c.jar", args ) );
+        assertNotEquals( key, GameCdsArchive.key( "/jre/bin/java", "21.0.5", "a.jar:b.jar", args ) );
+        assertNotEquals( key, GameCdsArchive.key( "/jre/bin/java", "21.0.4", "a.jar:b.jar",
+                                                  List.of( "-Xmx8G", "-Dlog4j.configurationFile=a.xml" ) ) );
+    }
+
+    @Test
+    void keyTracksClasspathEntriesReplacedInPlace( @TempDir Path dir ) throws Exception
+    {
+        Path a = Files.writeString( dir.resolve( "a.jar" ), "a" );
+        Path b = Files.writeString( dir.resolve( "b.jar" ), "b" );
+        Files.setLastModifiedTime( b, FileTime.fromMillis( 1_000_000L ) );
+        String classpath = a + File.pathSeparator + b;
+        List< String > args = List.of( "-Xmx4G" );
+        String key = GameCdsArchive.key( "/jre/bin/java", "17.0.9", classpath, args );
+        assertEquals( key, GameCdsArchive.key( "/jre/bin/java", "17.0.9", classpath, args ) );
+
+        // Same name and size, newer jar.
+        Files.writeString( b, "c" );
+        Files.setLastModifiedTime( b, FileTime.fromMillis( 2_000_000L ) );
+        String touched = GameCdsArchive.key( "/jre/bin/java", "17.0.9", classpath, args );
+        assertNotEquals( key, touched );
+
+        // Same name and timestamp, different size.
+        Files.writeString( b, "cc" );
+        Files.setLastModifiedTime( b, FileTime.fromMillis( 2_000_000L ) );
+        assertNotEquals( touched, GameCdsArchive.key( "/jre/bin/java", "17.0.9", classpath, args ) );
+    }
+
+    @Test
+    void userManagedSharingFlagsAreRespected()
+    {
+        assertFalse( GameCdsArchive.managesSharing( List.of( "-Xmx4G", "-XX:+UseG1GC" ) ) );
+        assertTrue( GameCdsArchive.managesSharing( List.of( "-Xshare:off" ) ) );
+        assertTrue( GameCdsArchive.managesSharing( List.of( "-XX:SharedArchiveFile=/tmp/mine.jsa" ) ) );
+        assertTrue( GameCdsArchive.managesSharing( List.of( "-XX:AOTCache=/tmp/app.aot" ) ) );
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link GameJfrTelemetry}: folding JFR events into per-interval
+ * samples, and matching repository folders to their game process.
+ */
+class GameJfrTelemetryTest
+{
+    private static final long MB = 1024 * 1024;
+
+    @Test
+    void pausesAndSafepointsResetEachIntervalWhileGaugesCarryOver()
+    {
+        GameJfrTelemetry.SampleWindow window = new GameJfrTelemetry.SampleWindow();
+        window.pause( 12, 12 );
+        window.pause( 40, 55 );
+        window.safepoint( 3 );
+        window.safepoint( 1.5 );
+        window.heap( false, 512 * MB, 1_000 );
+        window.cpu( 0.25, 0.5 );
+        window.threads( 64 );
+
+        GameJfrTelemetry.Sample first = window.drain( 2_000 );
+        assertEquals( 40.0, first.pauseMaxMs() );
+        assertEquals( 67.0, first.pauseTotalMs() );
+        assertEquals( 4.5, first.safepointMs() );
+        assertEquals( 512L, first.heapAfterGcMb() );
+        assertEquals( 25.0, first.cpuJvmPercent() );
+        assertEquals( 50.0, first.cpuMachinePercent() );
+        assertEquals( 64L, first.threads() );
+
+        GameJfrTelemetry.Sample second = window.drain( 3_000 );
+        assertEquals( 0.0, second.pauseMaxMs() );
+        assertEquals( 0.0, second.pauseTotalMs() );
+        assertEquals( 0.0, second.safepointMs() );
+        assertEquals( 512L, second.heapAfterGcMb() );
+        assertEquals( 64L, second.threads() );
+    }
+
+    @Test
+    void allocationRateIsHeapGrowthBetweenCollections()
+    {
+        GameJfrTelemetry.SampleWindow window = new GameJfrTelemetry.SampleWindow();
+        // No previous collection: nothing to measure against yet.
+        window.heap( true, 300 * MB, 500 );
+        window.heap( false, 100 * MB, 510 );
+        assertEquals( 0.0, window.drain( 1_000 ).allocationMbPerSec() );
+
+        // 400 MB allocated over the two seconds since the last collection ended.
+        window.heap( true, 500 * MB, 2_510 );
+        window.heap( false, 120 * MB, 2_520 );
+        assertEquals( 200.0, window.drain( 3_000 ).allocationMbPerSec(), 0.001 );
+        assertEquals( 200.0, window.drain( 4_000 ).allocationMbPerSec(), 0.001 );
+    }
+
+    @Test
+    void repositoryFoldersAreMatchedByTrailingPid()
+    {
+        assertEquals( 6869L, GameJfrTelemetry.repositoryPid( "2026_10_19_13_43_58_6869" ) );
+        assertEquals( -1L, GameJfrTelemetry.repositoryPid( "launcher.jfc" ) );
+        assertEquals( -1L, GameJfrTelemetry.repositoryPid( "notes_final" ) );
+    }
+}
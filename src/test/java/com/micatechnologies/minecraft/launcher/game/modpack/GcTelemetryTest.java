@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.micatechnologies.minecraft.launcher.utilities.GcSessionStats;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link GcTelemetry}: swapping the user's GC flags for a tuning, and
+ * reading a session spread over rotated log files.
+ */
+class GcTelemetryTest
+{
+    @TempDir
+    Path root;
+
+    @Test
+    void tuningReplacesCollectorAndGcKnobsButKeepsTheRest()
+    {
+        List< String > user = List.of( "-XX:+UseG1GC", "-XX:+UnlockExperimentalVMOptions", "-XX:G1NewSizePercent=30",
+                                       "-XX:MaxGCPauseMillis=200", "-Xss2m", "-Dfml.ignoreInvalidMinecraftCertificates=true" );
+        List< String > merged = GcTelemetry.withTuning( user, "-XX:+UseZGC -XX:+ZGenerational -XX:+AlwaysPreTouch" );
+        assertEquals( List.of( "-XX:+UnlockExperimentalVMOptions", "-Xss2m",
+                               "-Dfml.ignoreInvalidMinecraftCertificates=true", "-XX:+UseZGC", "-XX:+ZGenerational",
+                               "-XX:+AlwaysPreTouch" ), merged );
+    }
+
+    @Test
+    void rotatedLogsAreReadOldestFirst() throws Exception
+    {
+        Path older = root.resolve( "gc.log.0" );
+        Path current = root.resolve( "gc.log" );
+        Files.writeString( older, """
+                [0.003s][info][gc] Using G1
+                [70.000s][info][gc] GC(0) Pause Young (Normal) (G1 Evacuation Pause) 1000M->100M(4096M) 5.000ms
+                """ );
+        Files.writeString( current, """
+                [90.000s][info][gc] GC(1) Pause Young (Normal) (G1 Evacuation Pause) 600M->300M(4096M) 7.000ms
+                """ );
+        Files.setLastModifiedTime( older, FileTime.fromMillis( 1_000 ) );
+        Files.setLastModifiedTime( current, FileTime.fromMillis( 2_000 ) );
+
+        GcSessionStats stats = GcTelemetry.parseLogs( root, 1L );
+        assertNotNull( stats );
+        assertEquals( 2, stats.pauses() );
+        assertEquals( 1500, Math.round( stats.allocationMbPerSec() * stats.uptimeSeconds() ) );
+        assertEquals( 90.0, stats.uptimeSeconds() );
+
+        assertNull( GcTelemetry.parseLogs( root.resolve( "missing" ), 1L ) );
+    }
+}
@@ -17,14 +17,11 @@
 
 package com.micatechnologies.minecraft.launcher.game.modpack;
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
-import com.micatechnologies.minecraft.launcher.utilities.JSONUtilities;
 import com.micatechnologies.minecraft.launcher.utilities.StringOrArray;
 
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -47,9 +44,9 @@ import org.junit.jupiter.api.io.TempDir;
  * instances raced two ways — lost updates (two loaders share a snapshot, the later save
  * wins) and a corrupt file (two saves interleaved writes to a single shared temp name,
  * publishing garbled JSON that the next {@code load()} rejected with a
- * {@code JsonSyntaxException}). {@link InstallIndex#upsertAndSave} serializes the whole
- * read-modify-write and writes a unique temp per save; this test pounds it from many
- * threads and asserts neither failure mode occurs.
+ * {@code JsonSyntaxException}). {@link InstallIndex#upsertAndSave} now appends to a
+ * group-committed log; this test pounds it from many threads and asserts neither failure
+ * mode occurs.
  *
  * <p>Uses the {@code testPathOverride} seam so it targets a {@link TempDir} instead of the
  * real launcher folder — no network, no FX, finishes well under a second.</p>
@@ -64,7 +61,7 @@ class InstallIndexConcurrencyTest
     @BeforeEach
     void redirectIndexToTempDir()
     {
-        indexFile = tmpDir.resolve( "install_index.json" );
+        indexFile = tmpDir.resolve( "install_index.bin" );
         InstallIndex.testPathOverride = indexFile;
     }
 
@@ -72,6 +69,7 @@ class InstallIndexConcurrencyTest
     void clearOverride()
     {
         InstallIndex.testPathOverride = null;
+        InstallIndex.dropCachedState();
     }
 
     private static GameModPack pack( int id )
@@ -89,8 +87,7 @@ class InstallIndexConcurrencyTest
     void concurrentWritesNeitherCorruptNorLoseEntries() throws Exception
     {
         // High thread count (contention is what reproduced the corruption) but a small
-        // per-thread count keeps total writes — and thus the O(n^2) re-parse-the-growing-
-        // file cost — low enough that the test stays well under a second.
+        // per-thread count keeps the test well under a second.
         final int threads = 16;
         final int perThread = 5;
         final int expected = threads * perThread;
@@ -123,9 +120,9 @@ class InstallIndexConcurrencyTest
         pool.shutdown();
 
         // 1) No corruption: load() returns the real index, not the empty fallback it
-        //    produces when the on-disk bytes fail to parse (JsonSyntaxException).
+        //    produces when the on-disk bytes fail to parse.
         InstallIndex idx = InstallIndex.load();
-        assertEquals( expected, idx.packs.size(),
+        assertEquals( expected, idx.size(),
                       "every concurrent upsert should survive (no lost updates, no corrupt-then-empty reload)" );
 
         // 2) No lost updates: each distinct URL is present.
@@ -133,9 +130,12 @@ class InstallIndexConcurrencyTest
             assertNotNull( idx.get( "https://host/pack/" + id ), "missing entry for id " + id );
         }
 
-        // 3) The raw bytes on disk parse as JSON — i.e. no torn write was ever published.
-        String raw = Files.readString( indexFile, StandardCharsets.UTF_8 );
-        assertDoesNotThrow( () -> JSONUtilities.getGson().fromJson( raw, InstallIndex.class ) );
+        // 3) A fresh scan of the bytes on disk sees every record — i.e. no torn or
+        //    interleaved append was ever published (a bad record would stop the scan).
+        long sizeBefore = Files.size( indexFile );
+        InstallIndex.dropCachedState();
+        assertEquals( expected, InstallIndex.load().size() );
+        assertEquals( sizeBefore, Files.size( indexFile ), "rescan should not have truncated anything" );
 
         // 4) No stray per-write temp files left behind.
         try ( var stream = Files.list( tmpDir ) ) {
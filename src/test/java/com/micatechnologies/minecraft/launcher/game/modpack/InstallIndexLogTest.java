@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.micatechnologies.minecraft.launcher.utilities.StringOrArray;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Format-level tests for the append-only {@link InstallIndex} log: field round-trip,
+ * tombstones, skipped no-op upserts, torn-tail recovery, compaction, and migration of the
+ * legacy {@code install_index.json}. Each test rescans via {@code dropCachedState()} to
+ * model a fresh launcher process reading what the previous one wrote.
+ */
+class InstallIndexLogTest
+{
+    @TempDir
+    Path tmpDir;
+
+    private Path indexFile;
+
+    @BeforeEach
+    void redirectIndexToTempDir()
+    {
+        indexFile = tmpDir.resolve( "install_index.bin" );
+        InstallIndex.testPathOverride = indexFile;
+    }
+
+    @AfterEach
+    void clearOverride()
+    {
+        InstallIndex.testPathOverride = null;
+        InstallIndex.dropCachedState();
+    }
+
+    private static GameModPack pack( int id, String version )
+    {
+        GameModPack p = new GameModPack();
+        p.packName = "Pack " + id;
+        p.packVersion = version;
+        p.packMinRAMGB = "4";
+        p.packUnstable = id % 2 == 0;
+        p.packLogoURL = StringOrArray.of( "https://example.com/logo" + id + ".png",
+                                          "https://mirror.example.com/logo" + id + ".png" );
+        p.packLogoSha1 = "abc" + id;
+        return p;
+    }
+
+    @Test
+    void fieldsRoundTripAcrossRescan()
+    {
+        InstallIndex.upsertAndSave( "https://host/a", pack( 2, "1.0" ) );
+        InstallIndex.dropCachedState();
+
+        InstallIndex.Entry e = InstallIndex.load().get( "https://host/a" );
+        assertNotNull( e );
+        assertEquals( "Pack 2", e.packName );
+        assertEquals( "1.0", e.packVersion );
+        assertNull( e.packURL );
+        assertEquals( 2, e.packLogoURL.all().size() );
+        assertEquals( "abc2", e.packLogoSha1 );
+        assertNull( e.packBackgroundURL );
+        assertEquals( "4", e.packMinRAMGB );
+        assertTrue( e.packUnstable );
+        assertFalse( e.packCustomDiscordRpc );
+        assertTrue( e.updatedAt > 0 );
+    }
+
+    @Test
+    void removeAndReUpsertKeepLatestState() throws Exception
+    {
+        InstallIndex.upsertAndSave( "https://host/a", pack( 1, "1.0" ) );
+        InstallIndex.upsertAndSave( "https://host/b", pack( 2, "1.0" ) );
+        InstallIndex.removeAndSave( "https://host/a" );
+        InstallIndex.upsertAndSave( "https://host/b", pack( 2, "2.0" ) );
+        InstallIndex.dropCachedState();
+
+        InstallIndex idx = InstallIndex.load();
+        assertEquals( List.of( "https://host/b" ), idx.manifestUrls() );
+        assertNull( idx.get( "https://host/a" ) );
+        assertEquals( "2.0", idx.get( "https://host/b" ).packVersion );
+    }
+
+    @Test
+    void unchangedUpsertDoesNotGrowLog() throws Exception
+    {
+        InstallIndex.upsertAndSave( "https://host/a", pack( 1, "1.0" ) );
+        long size = Files.size( indexFile );
+        InstallIndex.upsertAndSave( "https://host/a", pack( 1, "1.0" ) );
+        InstallIndex.removeAndSave( "https://host/never-installed" );
+        assertEquals( size, Files.size( indexFile ) );
+    }
+
+    @Test
+    void tornTailIsTruncatedAndEarlierRecordsSurvive() throws Exception
+    {
+        InstallIndex.upsertAndSave( "https://host/a", pack( 1, "1.0" ) );
+        long good = Files.size( indexFile );
+        // Simulate a crash mid-append: a plausible length prefix with a partial body.
+        Files.write( indexFile, new byte[] { 0, 0, 0, 100, 1, 2, 3 }, StandardOpenOption.APPEND );
+        InstallIndex.dropCachedState();
+
+        assertNotNull( InstallIndex.load().get( "https://host/a" ) );
+        assertEquals( good, Files.size( indexFile ) );
+        InstallIndex.upsertAndSave( "https://host/b", pack( 2, "1.0" ) );
+        InstallIndex.dropCachedState();
+        assertEquals( 2, InstallIndex.load().size() );
+    }
+
+    @Test
+    void loadCompactsSupersededRecords() throws Exception
+    {
+        for ( int v = 0; v < 1000; v++ ) {
+            InstallIndex.upsertAndSave( "https://host/a", pack( 1, "1." + v ) );
+        }
+        long bloated = Files.size( indexFile );
+        InstallIndex.dropCachedState();
+
+        InstallIndex idx = InstallIndex.load();
+        assertTrue( Files.size( indexFile ) < bloated / 10, "superseded records should be dropped" );
+        assertEquals( "1.999", idx.get( "https://host/a" ).packVersion );
+        InstallIndex.dropCachedState();
+        assertEquals( "1.999", InstallIndex.load().get( "https://host/a" ).packVersion );
+    }
+
+    @Test
+    void legacyJsonIndexIsMigratedThenDeleted() throws Exception
+    {
+        Path legacy = tmpDir.resolve( "install_index.json" );
+        Files.writeString( legacy, "{\"version\":1,\"packs\":{\"https://host/old\":"
+                + "{\"packName\":\"Old\",\"packVersion\":\"3\",\"packLogoURL\":\"https://x/l.png\",\"updatedAt\":5}}}",
+                           StandardCharsets.UTF_8 );
+
+        InstallIndex.Entry e = InstallIndex.load().get( "https://host/old" );
+        assertNotNull( e );
+        assertEquals( "Old", e.packName );
+        assertEquals( "https://x/l.png", e.packLogoURL.first() );
+        assertEquals( 5, e.updatedAt );
+        assertFalse( Files.exists( legacy ) );
+    }
+}
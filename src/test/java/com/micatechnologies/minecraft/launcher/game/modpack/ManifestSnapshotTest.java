@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.micatechnologies.minecraft.launcher.utilities.JSONUtilities;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link ManifestSnapshot}: a pack decoded from its snapshot must be
+ * field-for-field the pack Gson parsed — including absent vs empty lists and
+ * un-normalized hash slots — and a damaged snapshot must read as a miss.
+ */
+class ManifestSnapshotTest
+{
+    @TempDir
+    Path root;
+
+    private static final String MANIFEST = """
+            {
+              "packName": "Test Pack",
+              "packVersion": "1.2.3",
+              "packURL": "https://example.com",
+              "packUnstable": true,
+              "packLogoURL": ["https://cdn.example.com/logo.png", "https://mirror.example.com/logo.png"],
+              "packLogoSha1": "abc",
+              "packBackgroundURL": "https://cdn.example.com/bg.png",
+              "packMinRAMGB": "6",
+              "packModLoader": "neoforge",
+              "packModLoaderURL": "https://maven.example.com/neoforge.jar",
+              "packDefaultServerHost": "play.example.com",
+              "packDefaultServerPort": 25566,
+              "packScanExclusions": [],
+              "packNews": [{"id": "n1", "title": "Hi", "body": "ünïcødé ✓", "pinned": true}],
+              "packLinks": [{"title": "Wiki", "url": "https://wiki.example.com"}],
+              "packMods": [
+                {"name": "Alpha", "remote": "https://cdn.example.com/a.jar", "local": "mods/a.jar",
+                 "sha256": "deadbeef", "clientReq": true, "serverReq": false},
+                {"name": "Beta", "remote": "https://cdn.example.com/b.jar", "local": "mods/b.jar",
+                 "sha1": "", "clientReq": true, "serverReq": true}
+              ],
+              "packConfigs": [{"remote": "https://cdn.example.com/c.cfg", "local": "config/c.cfg", "clientReq": true}],
+              "packShaderPacks": [{"remote": "https://cdn.example.com/s.zip", "local": "shaderpacks/s.zip"}]
+            }
+            """;
+
+    @Test
+    void snapshotRoundTripsEveryManifestField()
+    {
+        GameModPack parsed = JSONUtilities.getGson().fromJson( MANIFEST, GameModPack.class );
+        GameModPack decoded = ManifestSnapshot.decode( ByteBuffer.wrap( ManifestSnapshot.encode( parsed ) ) );
+        assertNotNull( decoded );
+        assertEquals( JSONUtilities.getGson().toJson( parsed ), JSONUtilities.getGson().toJson( decoded ) );
+        assertNull( decoded.packResourcePacks, "an absent list stays absent" );
+        assertEquals( 0, decoded.packScanExclusions.size(), "an empty list stays empty" );
+        assertEquals( "", decoded.packMods.get( 1 ).rawFields().sha1(), "hash slots are not normalized" );
+    }
+
+    @Test
+    void writtenSnapshotLoadsAndDamagedOneIsAMiss() throws Exception
+    {
+        GameModPack parsed = JSONUtilities.getGson().fromJson( MANIFEST, GameModPack.class );
+        ManifestSnapshot.write( root, "abc123", ManifestSnapshot.encode( parsed ) );
+        GameModPack loaded = ManifestSnapshot.load( root, "abc123" );
+        assertNotNull( loaded );
+        assertEquals( "Test Pack", loaded.packName );
+        assertNull( ManifestSnapshot.load( root, "missing" ) );
+
+        Path file = root.resolve( "abc123.snap" );
+        byte[] bytes = Files.readAllBytes( file );
+        bytes[ bytes.length - 3 ] ^= 0x5A;
+        Files.write( file, bytes );
+        assertNull( ManifestSnapshot.load( root, "abc123" ), "a CRC mismatch falls back to parsing" );
+
+        Files.write( file, new byte[] { 1, 2, 3 } );
+        assertNull( ManifestSnapshot.load( root, "abc123" ) );
+    }
+}
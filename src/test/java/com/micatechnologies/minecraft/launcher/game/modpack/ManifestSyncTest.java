@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link ManifestSync}: per-host lane splitting, sharing one fetch
+ * among concurrent callers, and the validator table round trip.
+ */
+class ManifestSyncTest
+{
+    @TempDir
+    Path root;
+
+    @Test
+    void lanesGroupByHostAndCapConnectionsPerHost()
+    {
+        List< String > urls = new ArrayList<>();
+        for ( int i = 0; i < 10; i++ ) {
+            urls.add( "https://blob.example.com/packs/" + i + ".json" );
+        }
+        urls.add( "https://OTHER.example.org/a.json" );
+        urls.add( "https://blob.example.com/packs/0.json" );
+        urls.add( "file:///home/user/imported.json" );
+
+        List< List< String > > lanes = ManifestSync.lanes( urls );
+        assertEquals( ManifestSync.LANES_PER_HOST + 2, lanes.size() );
+        int blob = 0;
+        for ( int i = 0; i < ManifestSync.LANES_PER_HOST; i++ ) {
+            assertTrue( lanes.get( i ).stream().allMatch( u -> u.startsWith( "https://blob.example.com/" ) ) );
+            blob += lanes.get( i ).size();
+        }
+        assertEquals( 10, blob, "the duplicate URL is fetched once" );
+        assertEquals( List.of( "https://OTHER.example.org/a.json" ), lanes.get( ManifestSync.LANES_PER_HOST ) );
+        assertEquals( List.of( "file:///home/user/imported.json" ), lanes.get( ManifestSync.LANES_PER_HOST + 1 ) );
+    }
+
+    @Test
+    void concurrentFetchesOfOneUrlShareASingleRequest() throws Exception
+    {
+        String url = "https://coalesce.example.com/" + System.nanoTime() + ".json";
+        AtomicInteger requests = new AtomicInteger();
+        CountDownLatch inFlight = new CountDownLatch( 1 );
+        CountDownLatch release = new CountDownLatch( 1 );
+        ExecutorService pool = Executors.newFixedThreadPool( 4 );
+        try {
+            List< Future< ManifestSync.Fetched > > callers = new ArrayList<>();
+            callers.add( pool.submit( () -> ManifestSync.coalesce( url, () -> {
+                requests.incrementAndGet();
+                inFlight.countDown();
+                awaitLatch( release );
+                return new ManifestSync.Fetched( "{}", false );
+            } ) ) );
+            assertTrue( inFlight.await( 5, TimeUnit.SECONDS ) );
+            for ( int i = 0; i < 3; i++ ) {
+                callers.add( pool.submit( () -> ManifestSync.coalesce( url, () -> {
+                    requests.incrementAndGet();
+                    return new ManifestSync.Fetched( "{\"other\":true}", false );
+                } ) ) );
+            }
+            release.countDown();
+            ManifestSync.Fetched first = callers.get( 0 ).get( 5, TimeUnit.SECONDS );
+            for ( Future< ManifestSync.Fetched > caller : callers ) {
+                assertSame( first, caller.get( 5, TimeUnit.SECONDS ) );
+            }
+            assertEquals( 1, requests.get() );
+
+            // Still inside the reuse window: a later caller gets the same result too.
+            assertSame( first, ManifestSync.coalesce( url, () -> {
+                throw new IOException( "should not refetch" );
+            } ) );
+        }
+        finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void failedFetchIsNotReused() throws Exception
+    {
+        String url = "https://failing.example.com/" + System.nanoTime() + ".json";
+        assertThrows( IOException.class, () -> ManifestSync.coalesce( url, () -> {
+            throw new IOException( "offline" );
+        } ) );
+        assertEquals( "{}", ManifestSync.coalesce( url, () -> new ManifestSync.Fetched( "{}", true ) ).body() );
+    }
+
+    @Test
+    void validatorTableRoundTripsAndToleratesGarbage() throws Exception
+    {
+        Path file = root.resolve( "manifest_cache" ).resolve( "validators.json" );
+        assertTrue( ManifestSync.readTable( file ).isEmpty() );
+
+        Map< String, ManifestSync.Validators > table = new LinkedHashMap<>();
+        table.put( "https://a.example.com/a.json", new ManifestSync.Validators( "\"abc\"", null ) );
+        table.put( "https://b.example.com/b.json",
+                   new ManifestSync.Validators( null, "Tue, 01 Sep 2026 10:00:00 GMT" ) );
+        ManifestSync.writeTable( file, table );
+        assertEquals( table, ManifestSync.readTable( file ) );
+
+        Files.writeString( file, "not json {" );
+        assertTrue( ManifestSync.readTable( file ).isEmpty() );
+    }
+
+    private static void awaitLatch( CountDownLatch latch ) throws IOException
+    {
+        try {
+            latch.await();
+        }
+        catch ( InterruptedException e ) {
+            throw new InterruptedIOException();
+        }
+    }
+}
@@ -25,10 +25,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
- * Pattern-matching tests for {@link ModConflictDetector#detectFromNames}.
- * Bypass the filesystem scan to exercise the rules directly against
- * synthetic jar-name lists. Each test names the conflict it's verifying so
- * a regression names the offending rule.
+ * Pattern-matching tests for {@link ModConflictDetector#detectFromNames}
+ * and {@link ModConflictDetector#detect}. Bypass the filesystem scan to
+ * exercise the rules directly against synthetic jar-name lists. Each test
+ * names the conflict it's verifying so a regression names the offending
+ * rule.
  */
 class ModConflictDetectorTest
 {
@@ -122,6 +123,23 @@ class ModConflictDetectorTest
         assertEquals( 2, conflicts.size() );
     }
 
+    @Test
+    void renamedJarsMatchedByIndexedModIdAndPackages()
+    {
+        // Filenames alone say nothing; the indexed mod id / packages give them away.
+        var optifine = new ModMetadataIndex.ModInfo( "optifine", "OptiFine", "HD_U_I6", List.of(), null,
+                                                     List.of( "net.optifine" ) );
+        var sodium = new ModMetadataIndex.ModInfo( "sodium", "Sodium", "0.5.8", List.of(), null,
+                                                   List.of( "me.jellysquid.mods" ) );
+        List< String > names = List.of( "render-a.jar", "render-b.jar" );
+        var conflicts = ModConflictDetector.detect( names, List.of(
+                ModConflictDetector.subject( names.get( 0 ), optifine ),
+                ModConflictDetector.subject( names.get( 1 ), sodium ) ) );
+        assertEquals( 1, conflicts.size() );
+        assertEquals( "render-a.jar", conflicts.get( 0 ).firstJarName() );
+        assertEquals( "render-b.jar", conflicts.get( 0 ).secondJarName() );
+    }
+
     @Test
     void unrelatedMods_returnNothing()
     {
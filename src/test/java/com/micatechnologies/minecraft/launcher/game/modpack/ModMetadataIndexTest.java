@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Tests for the {@link ModMetadataIndex} metadata parsers and root-package
+ * collapsing. The store itself is exercised through the callers.
+ */
+class ModMetadataIndexTest
+{
+    @Test
+    void modsTomlReadsFirstModAndRequiredDependenciesAndSkipsMultilineStrings()
+    {
+        ModMetadataIndex.ModInfo info = ModMetadataIndex.parseModsToml( """
+                modLoader="javafml"
+                loaderVersion="[47,)"
+                [[mods]]
+                modId="Create"
+                version="${file.jarVersion}"
+                displayName="Create" # the display name
+                logoFile="logo.png"
+                description='''
+                modId="notThisOne"
+                '''
+                [[mods]]
+                modId="create_extra"
+                [[dependencies.create]]
+                    modId="forge"
+                    mandatory=true
+                [[dependencies.create]]
+                    modId="flywheel"
+                    mandatory=true
+                [[dependencies.create]]
+                    modId="jei"
+                    mandatory=false
+                """, "0.5.1.f" );
+
+        assertEquals( "create", info.modId() );
+        assertEquals( "Create", info.name() );
+        assertEquals( "0.5.1.f", info.version() );
+        assertEquals( "logo.png", info.icon() );
+        assertEquals( List.of( "flywheel" ), info.dependencies() );
+    }
+
+    @Test
+    void neoForgeDependencyTypesAndMissingModIdAreHandled()
+    {
+        ModMetadataIndex.ModInfo info = ModMetadataIndex.parseModsToml( """
+                [[mods]]
+                modId = "sodium"
+                version = "0.6.0"
+                [[dependencies.sodium]]
+                modId = "neoforge"
+                type = "required"
+                [[dependencies.sodium]]
+                modId = "embeddium"
+                type = "incompatible"
+                """, null );
+
+        assertEquals( "sodium", info.modId() );
+        assertNull( info.name() );
+        assertEquals( List.of(), info.dependencies() );
+        assertNull( ModMetadataIndex.parseModsToml( "modLoader=\"javafml\"\n", null ) );
+    }
+
+    @Test
+    void fabricQuiltAndMcmodInfoFormats()
+    {
+        ModMetadataIndex.ModInfo fabric = ModMetadataIndex.parseFabric( """
+                {"schemaVersion":1,"id":"sodium","name":"Sodium","version":"0.5.8",
+                 "icon":{"16":"icon16.png","128":"icon128.png"},
+                 "depends":{"fabricloader":">=0.12","minecraft":"1.20.x","fabric-api":"*"}}
+                """ );
+        assertEquals( "sodium", fabric.modId() );
+        assertEquals( "icon128.png", fabric.icon() );
+        assertEquals( List.of( "fabric-api" ), fabric.dependencies() );
+
+        ModMetadataIndex.ModInfo quilt = ModMetadataIndex.parseQuilt( """
+                {"quilt_loader":{"id":"emi","version":"1.1.0",
+                 "metadata":{"name":"EMI","icon":"emi.png"},
+                 "depends":["quilt_loader",{"id":"qsl"},{"id":"modmenu","optional":true}]}}
+                """ );
+        assertEquals( "EMI", quilt.name() );
+        assertEquals( List.of( "qsl" ), quilt.dependencies() );
+
+        ModMetadataIndex.ModInfo legacy = ModMetadataIndex.parseMcmodInfo( """
+                {"modListVersion":2,"modList":[{"modid":"JEI","name":"Just Enough Items",
+                 "version":"${version}","requiredMods":["Forge@[10.13,)","CodeChickenCore"]}]}
+                """ );
+        assertEquals( "jei", legacy.modId() );
+        assertNull( legacy.version() );
+        assertEquals( List.of( "codechickencore" ), legacy.dependencies() );
+        assertEquals( "Just Enough Items", ModMetadataIndex.parseMcmodInfo( """
+                [{"modid":"jei","name":"Just Enough Items"}]
+                """ ).name() );
+    }
+
+    @Test
+    void rootPackagesCollapseToThreeSegmentsAndDropNestedOnes()
+    {
+        List< String > packages = ModMetadataIndex.rootPackages( List.of(
+                "mezz/jei/api/IModPlugin.class",
+                "mezz/jei/common/Internal.class",
+                "mezz/Root.class",
+                "com/google/gson/Gson.class",
+                "com/google/gson/internal/Excluder.class",
+                "Default.class",
+                "META-INF/versions/9/module-info.class",
+                "assets/jei/lang/en_us.json" ) );
+
+        assertEquals( List.of( "com.google.gson", "mezz" ), packages );
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link PackExportEngine}: STORE/DEFLATE classification, a parallel
+ * ZIP round-trip honoring exclusions, and the link-or-copy folder mirror.
+ */
+class PackExportEngineTest
+{
+    @TempDir
+    Path tmp;
+
+    private Path write( String rel, byte[] content ) throws IOException
+    {
+        Path p = tmp.resolve( "pack" ).resolve( rel );
+        Files.createDirectories( p.getParent() );
+        Files.write( p, content );
+        return p;
+    }
+
+    private static byte[] random( int len )
+    {
+        byte[] b = new byte[ len ];
+        new Random( 7 ).nextBytes( b );
+        return b;
+    }
+
+    private static byte[] text( int len )
+    {
+        return "key=value # some config line\n".repeat( len / 29 + 1 ).substring( 0, len )
+                                              .getBytes( StandardCharsets.UTF_8 );
+    }
+
+    @Test
+    void compressedContentIsStoredAndTextIsDeflated() throws IOException
+    {
+        assertTrue( PackExportEngine.shouldStore( write( "mods/a.jar", text( 200_000 ) ), 200_000 ),
+                    "known archive extension" );
+        assertFalse( PackExportEngine.shouldStore( write( "config/a.toml", random( 200_000 ) ), 200_000 ),
+                     "known text extension is never probed" );
+        assertTrue( PackExportEngine.shouldStore( write( "data/blob.bin", random( 200_000 ) ), 200_000 ),
+                    "noise-like unknown file" );
+        assertFalse( PackExportEngine.shouldStore( write( "data/table.bin", text( 200_000 ) ), 200_000 ) );
+        assertFalse( PackExportEngine.shouldStore( write( "data/small.bin", random( 100 ) ), 100 ),
+                     "small files aren't probed" );
+        assertTrue( PackExportEngine.entropyBitsPerByte( random( 65536 ), 65536 ) > 7.9 );
+        assertEquals( 0.0, PackExportEngine.entropyBitsPerByte( new byte[ 16 ], 16 ) );
+    }
+
+    @Test
+    void zipRoundTripsContentsAndSkipsExcludedFolders() throws IOException
+    {
+        byte[] jar = random( 300_000 );
+        byte[] cfg = text( 300_000 );
+        write( "mods/a.jar", jar );
+        write( "config/deep/b.cfg", cfg );
+        write( "libraries/skip.jar", random( 10 ) );
+        write( "empty.txt", new byte[ 0 ] );
+
+        Map< String, byte[] > leading = new LinkedHashMap<>();
+        leading.put( "mica-export.json", "{}".getBytes( StandardCharsets.UTF_8 ) );
+        File dest = tmp.resolve( "out/export.zip" ).toFile();
+        AtomicLong progress = new AtomicLong();
+        PackExportEngine.writeZip( tmp.resolve( "pack" ), Set.of( "libraries" ), leading, dest, progress::set );
+
+        assertEquals( jar.length + cfg.length, progress.get() );
+        try ( ZipFile zip = new ZipFile( dest ) ) {
+            assertEquals( 4, zip.size() );
+            assertNull( zip.getEntry( "libraries/skip.jar" ) );
+            assertNotNull( zip.getEntry( "mica-export.json" ) );
+            assertEquals( ZipEntry.STORED, zip.getEntry( "mods/a.jar" ).getMethod() );
+            assertEquals( ZipEntry.DEFLATED, zip.getEntry( "config/deep/b.cfg" ).getMethod() );
+            try ( InputStream in = zip.getInputStream( zip.getEntry( "mods/a.jar" ) ) ) {
+                assertArrayEquals( jar, in.readAllBytes() );
+            }
+            try ( InputStream in = zip.getInputStream( zip.getEntry( "config/deep/b.cfg" ) ) ) {
+                assertArrayEquals( cfg, in.readAllBytes() );
+            }
+        }
+        try ( var left = Files.list( tmp.resolve( "out" ) ) ) {
+            assertEquals( 1, left.count(), "scatter files are cleaned up" );
+        }
+    }
+
+    @Test
+    void treeMirrorReplacesTargetsAndKeepsConfigsIndependent() throws IOException
+    {
+        write( "mods/a.jar", random( 1000 ) );
+        Path cfg = write( "mods/a-settings.json", text( 100 ) );
+        Path dst = tmp.resolve( "export/mods" );
+        Files.createDirectories( dst );
+        Files.writeString( dst.resolve( "a.jar" ), "stale" );
+
+        PackExportEngine.linkOrCopyTree( tmp.resolve( "pack/mods" ), dst );
+        assertArrayEquals( random( 1000 ), Files.readAllBytes( dst.resolve( "a.jar" ) ) );
+
+        Files.writeString( dst.resolve( "a-settings.json" ), "edited on the other side" );
+        assertArrayEquals( text( 100 ), Files.readAllBytes( cfg ) );
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PackSearchIndex}: exact and short-term lookups,
+ * multi-term AND, the typo fallback, and incremental updates.
+ */
+class PackSearchIndexTest
+{
+    @BeforeEach
+    void seed()
+    {
+        PackSearchIndex.putMeta( "alto", "alto: 1.12.2-3\nalto\n1.12.2-3\n1.12.2\nforge\n14.23.5.2860\nmodpack" );
+        PackSearchIndex.putModText( "alto", "biomesoplenty-1.12.2.jar\nbiomesoplenty\nbiomes o' plenty", 1L );
+        PackSearchIndex.putMeta( "create", "create above: 2.0\ncreate above\n2.0\n1.20.1\nfabric\nmodpack" );
+        PackSearchIndex.putModText( "create", "create-fabric.jar\ncreate\ncreate", 1L );
+        PackSearchIndex.putMeta( "vanilla:1.21", "minecraft 1.21\n1.21\nvanilla" );
+    }
+
+    @AfterEach
+    void reset()
+    {
+        PackSearchIndex.dropCachedState();
+    }
+
+    @Test
+    void everyTermMustMatchSomewhereInThePack()
+    {
+        assertEquals( Set.of( "alto" ), PackSearchIndex.search( "Biomes" ) );
+        assertEquals( Set.of( "alto" ), PackSearchIndex.search( "1.12 forge" ) );
+        assertEquals( Set.of( "create" ), PackSearchIndex.search( "  fabric   1.20 " ) );
+        assertEquals( Set.of( "alto", "create" ), PackSearchIndex.search( "modpack" ) );
+        assertEquals( Set.of( "vanilla:1.21", "create" ), PackSearchIndex.search( "1.2" ) );
+        assertEquals( Set.of( "alto", "create", "vanilla:1.21" ), PackSearchIndex.search( "" ) );
+        assertEquals( Set.of(), PackSearchIndex.search( "create forge" ) );
+        // Both of "amep"'s trigrams occur in "other", just not adjacent.
+        PackSearchIndex.putMeta( "other", "game\nmeph" );
+        assertEquals( Set.of(), PackSearchIndex.search( "amep" ) );
+    }
+
+    @Test
+    void typosFallBackToApproximateMatchesOnlyWhenNothingMatchesExactly()
+    {
+        assertEquals( Set.of( "alto" ), PackSearchIndex.search( "biomse" ) );
+        assertEquals( Set.of( "alto" ), PackSearchIndex.search( "plentty" ) );
+        assertEquals( Set.of( "create" ), PackSearchIndex.search( "craete" ) );
+        // Too short to guess at.
+        assertEquals( Set.of(), PackSearchIndex.search( "crae" ) );
+
+        assertTrue( PackSearchIndex.containsApproximately( "the biomes o' plenty", "biomse", 1 ) );
+        assertTrue( PackSearchIndex.containsApproximately( "xbiomesoplentyx", "biomesplenty", 2 ) );
+        assertFalse( PackSearchIndex.containsApproximately( "biomes\no' plenty", "biomesoplenty", 2 ) );
+        assertFalse( PackSearchIndex.containsApproximately( "forge", "fabric", 1 ) );
+    }
+
+    @Test
+    void updatesReplaceOnlyThatPacksTerms()
+    {
+        PackSearchIndex.putModText( "alto", "jei.jar\njei\njust enough items", 2L );
+        assertEquals( Set.of(), PackSearchIndex.search( "biomes" ) );
+        assertEquals( Set.of( "alto" ), PackSearchIndex.search( "enough" ) );
+        assertEquals( 2L, PackSearchIndex.modsStamp( "alto" ) );
+
+        PackSearchIndex.remove( "create" );
+        assertEquals( Set.of( "alto" ), PackSearchIndex.search( "modpack" ) );
+        assertEquals( Set.of(), PackSearchIndex.search( "create" ) );
+        // Mod terms for a pack removed mid-read are dropped, not resurrected.
+        PackSearchIndex.putModText( "create", "create.jar", 3L );
+        assertFalse( PackSearchIndex.contains( "create" ) );
+
+        // The freed slot is reused without inheriting the old postings.
+        PackSearchIndex.putMeta( "sky", "skyblock: 1.0\nskyblock\nmodpack" );
+        assertEquals( Set.of( "alto", "sky" ), PackSearchIndex.search( "modpack" ) );
+        assertEquals( Set.of( "sky" ), PackSearchIndex.search( "sky" ) );
+        assertEquals( Set.of(), PackSearchIndex.search( "fabric" ) );
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.micatechnologies.minecraft.launcher.game.modpack.LaunchProgressTracker.StepId;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ProgressCounter} and how the providers fold it in: parallel
+ * advances add up exactly, the status line is formatted only when sampled,
+ * explicit sub-text and counter status are last-writer-wins, and later
+ * explicit progress builds on the counter's contribution.
+ */
+class ProgressCounterTest
+{
+    private static final double EPS = 1e-9;
+
+    @Test
+    void parallelAdvancesAreCountedAndFormattedOnlyOnSample() throws InterruptedException
+    {
+        LaunchProgressTracker tracker = LaunchProgressTracker.forSteps( StepId.MC_LIBS_ASSETS );
+        LaunchTrackerProgressBridge bridge = new LaunchTrackerProgressBridge( tracker );
+        bridge.enterStep( StepId.MC_LIBS_ASSETS );
+        bridge.submitProgress( "index", 10.0 );
+
+        AtomicInteger formats = new AtomicInteger();
+        ProgressCounter< String > counter = bridge.startCounter( 4000, 50.0, ( done, total, last ) -> {
+            formats.incrementAndGet();
+            return "Verified " + done + "/" + total;
+        } );
+        ExecutorService pool = Executors.newFixedThreadPool( 16 );
+        for ( int i = 0; i < 4000; i++ ) {
+            pool.execute( () -> counter.advance( "asset" ) );
+        }
+        pool.shutdown();
+        assertTrue( pool.awaitTermination( 30, TimeUnit.SECONDS ) );
+
+        assertEquals( 0, formats.get(), "workers never format the status line" );
+        LaunchProgressTracker.Step step = tracker.step( StepId.MC_LIBS_ASSETS );
+        assertEquals( 4000, counter.done() );
+        assertEquals( 0.60, step.progress(), EPS );
+        assertEquals( "Verified 4000/4000", step.subText() );
+        assertEquals( 1, formats.get() );
+    }
+
+    @Test
+    void explicitSubTextAndCounterStatusAreLastWriterWins()
+    {
+        LaunchProgressTracker tracker = LaunchProgressTracker.forSteps( StepId.FORGE_LIBS );
+        StepProgressHandle handle = new StepProgressHandle( tracker, StepId.FORGE_LIBS );
+        handle.markRunning();
+        ProgressCounter< String > counter = handle.startCounter( 4, 40.0, ( done, total, last ) -> "lib " + last );
+        LaunchProgressTracker.Step step = tracker.step( StepId.FORGE_LIBS );
+
+        counter.advance( "a" );
+        assertEquals( "lib a", step.subText() );
+        tracker.setSubText( StepId.FORGE_LIBS, "Retrying download (2/3)" );
+        assertEquals( "Retrying download (2/3)", step.subText() );
+        counter.advance( "b" );
+        assertEquals( "lib b", step.subText() );
+        assertEquals( 0.20, step.progress(), EPS );
+
+        // A later explicit increment builds on the counter's contribution.
+        handle.submitProgress( "classpath", 100.0 );
+        assertEquals( 1.0, step.progress(), EPS );
+        assertEquals( "classpath", step.subText() );
+        counter.advance( "stale" );
+        assertEquals( 1.0, step.progress(), EPS, "a detached counter no longer moves the row" );
+        assertEquals( "classpath", step.subText() );
+    }
+
+    @Test
+    void legacyProviderFiresWithCounterDetailAndFinalFrame()
+    {
+        List< String > details = new ArrayList<>();
+        List< Double > percents = new ArrayList<>();
+        GameModPackProgressProvider provider = new GameModPackProgressProvider()
+        {
+            @Override
+            public void updateProgressHandler( double percent, String sectionTitle, String detailText,
+                                               String downloadStatus )
+            {
+                percents.add( percent );
+                details.add( detailText );
+            }
+        };
+        provider.startProgressSection( "Downloading mods...", 50.0 );
+        ProgressCounter< String > counter = provider.startCounter(
+                100, 70.0, ( done, total, last ) -> "Downloading mods (" + done + "/" + total + ")..." );
+        for ( int i = 0; i < 100; i++ ) {
+            counter.advance( "mod" );
+        }
+
+        assertTrue( details.size() < 100, "advances are throttled" );
+        assertEquals( "Downloading mods (100/100)...", details.get( details.size() - 1 ) );
+        assertEquals( 35.0, percents.get( percents.size() - 1 ), EPS );
+
+        provider.submitProgress( "Removed floating mods", 30.0 );
+        assertEquals( 50.0, percents.get( percents.size() - 1 ), EPS );
+    }
+}
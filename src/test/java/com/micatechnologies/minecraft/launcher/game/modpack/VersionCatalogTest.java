@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.micatechnologies.minecraft.launcher.consts.ModPackConstants;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for {@link VersionCatalog}: normalizing the upstream lists and
+ * answering filtered queries from the index.
+ */
+class VersionCatalogTest
+{
+    private static final String FORGE = ModPackConstants.MOD_LOADER_FORGE;
+
+    @Test
+    void forgePromotionsListRecommendedThenDistinctLatestNewestMinecraftFirst()
+    {
+        List< VersionCatalog.Entry > entries = VersionCatalog.parseForge( """
+                {"promos":{"1.12.2-latest":"14.23.5.2860","1.12.2-recommended":"14.23.5.2859",
+                           "1.20.1-recommended":"47.4.0","1.20.1-latest":"47.4.0","1.21.1-latest":"52.0.3"}}
+                """ );
+
+        assertEquals( List.of( "52.0.3", "47.4.0", "14.23.5.2859", "14.23.5.2860" ),
+                      entries.stream().map( VersionCatalog.Entry::version ).toList() );
+        assertEquals( List.of( "latest", "recommended", "recommended", "latest" ),
+                      entries.stream().map( VersionCatalog.Entry::channel ).toList() );
+        assertEquals( "https://maven.minecraftforge.net/net/minecraftforge/forge/1.20.1-47.4.0/"
+                              + "forge-1.20.1-47.4.0-installer.jar", entries.get( 1 ).url() );
+    }
+
+    @Test
+    void neoForgeBuildsMapToMinecraftVersionsAndBetasAreSnapshots()
+    {
+        List< VersionCatalog.Entry > entries = VersionCatalog.parseNeoForge( """
+                <metadata><versioning><versions>
+                  <version>20.4.190</version><version>21.0.1-beta</version><version>21.1.95</version>
+                  <version>garbage</version>
+                </versions></versioning></metadata>
+                """ );
+
+        assertEquals( List.of( "1.21.1", "1.21", "1.20.4" ),
+                      entries.stream().map( VersionCatalog.Entry::mcVersion ).toList() );
+        assertEquals( VersionCatalog.CHANNEL_SNAPSHOT, entries.get( 1 ).channel() );
+        assertEquals( VersionCatalog.CHANNEL_RELEASE, entries.get( 2 ).channel() );
+    }
+
+    @Test
+    void fabricPairsEveryGameVersionWithNewestStableLoader()
+    {
+        List< VersionCatalog.Entry > games = VersionCatalog.parseFabricGames( """
+                [{"version":"24w14a","stable":false},{"version":"1.20.6","stable":true}]
+                """ );
+        List< VersionCatalog.Entry > loaders = VersionCatalog.parseFabricLoaders( """
+                [{"version":"0.16.1-beta","stable":false},{"version":"0.16.0","stable":true}]
+                """ );
+
+        List< VersionCatalog.Entry > fabric = VersionCatalog.fabricEntries( games, loaders );
+        assertEquals( 2, fabric.size() );
+        assertEquals( "0.16.0", fabric.get( 1 ).version() );
+        assertEquals( VersionCatalog.CHANNEL_SNAPSHOT, fabric.get( 0 ).channel() );
+        assertEquals( "https://meta.fabricmc.net/v2/versions/loader/1.20.6/0.16.0/profile/json",
+                      fabric.get( 1 ).url() );
+        assertTrue( VersionCatalog.fabricEntries( games, List.of() ).isEmpty() );
+    }
+
+    @Test
+    void indexAnswersByLoaderMinecraftVersionAndChannelInCatalogOrder()
+    {
+        List< VersionCatalog.Entry > all = new ArrayList<>( VersionCatalog.parseVanilla( """
+                {"versions":[
+                  {"id":"24w14a","type":"snapshot","url":"https://x/24w14a.json","releaseTime":"2024-04-03"},
+                  {"id":"1.20.6","type":"release","url":"https://x/1.20.6.json","releaseTime":"2024-04-29"},
+                  {"id":"b1.7.3","type":"old_beta","url":"https://x/b1.7.3.json","releaseTime":"2011-07-08"}]}
+                """ ) );
+        all.addAll( VersionCatalog.parseForge( """
+                {"promos":{"1.20.6-latest":"50.1.0","1.20.6-recommended":"50.0.31","1.20.4-latest":"49.1.0"}}
+                """ ) );
+        VersionCatalog.Index index = new VersionCatalog.Index( all );
+
+        assertEquals( 3, index.query( VersionCatalog.LOADER_VANILLA, null, null ).size() );
+        assertEquals( List.of( "1.20.6" ), index.query( VersionCatalog.LOADER_VANILLA, null, "release" )
+                                                .stream().map( VersionCatalog.Entry::version ).toList() );
+        assertEquals( "2011-07-08", index.query( VersionCatalog.LOADER_VANILLA, "b1.7.3", null ).get( 0 ).released() );
+        assertEquals( List.of( "50.0.31", "50.1.0" ), index.query( FORGE, "1.20.6", null )
+                                                           .stream().map( VersionCatalog.Entry::version ).toList() );
+        assertEquals( "50.1.0", index.query( FORGE, "1.20.6", VersionCatalog.CHANNEL_LATEST ).get( 0 ).version() );
+        assertEquals( List.of( "1.20.6", "1.20.4" ), index.mcVersions( FORGE ) );
+        assertTrue( index.query( FORGE, "1.7.10", null ).isEmpty() );
+        assertTrue( index.query( ModPackConstants.MOD_LOADER_NEOFORGE, null, null ).isEmpty() );
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack.import_;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the streaming {@code .mrpack} reader in {@link MrpackImporter}:
+ * a well-formed archive is read in one pass with the index handed over and
+ * overrides staged as they stream past, and an archive the stream reader
+ * rejects falls back to the central directory without counting the
+ * already-staged overrides twice, and an index that parses to nothing is
+ * rejected on either path.
+ */
+class MrpackImporterTest
+{
+    private static final String INDEX = "{\"formatVersion\":1,\"game\":\"minecraft\",\"versionId\":\"1.0\","
+            + "\"name\":\"Test Pack\",\"dependencies\":{\"minecraft\":\"1.20.1\",\"forge\":\"47.2.0\"}}";
+
+    @TempDir
+    Path dir;
+
+    private MrpackPrefetch prefetch;
+
+    @BeforeEach
+    void createPrefetch() throws IOException
+    {
+        prefetch = MrpackPrefetch.create( dir.resolve( "staging" ) );
+    }
+
+    @AfterEach
+    void discardPrefetch()
+    {
+        prefetch.discard();
+    }
+
+    private static void put( ZipOutputStream zos, String name, String body ) throws IOException
+    {
+        zos.putNextEntry( new ZipEntry( name ) );
+        zos.write( body.getBytes( StandardCharsets.UTF_8 ) );
+        zos.closeEntry();
+    }
+
+    /** Builds an archive with the index and two overrides; when {@code
+     *  streamHostile} is set, a third override is appended as a STORED entry
+     *  whose local header claims a data descriptor — valid for
+     *  {@link java.util.zip.ZipFile}, rejected by
+     *  {@link java.util.zip.ZipInputStream}. */
+    private Path archive( boolean streamHostile ) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try ( ZipOutputStream zos = new ZipOutputStream( bytes ) ) {
+            put( zos, "modrinth.index.json", INDEX );
+            put( zos, "overrides/config/a.txt", "a=1" );
+            put( zos, "client-overrides/options.txt", "fov:70" );
+            if ( streamHostile ) {
+                byte[] body = "late".getBytes( StandardCharsets.UTF_8 );
+                CRC32 crc = new CRC32();
+                crc.update( body );
+                ZipEntry stored = new ZipEntry( "overrides/late.txt" );
+                stored.setMethod( ZipEntry.STORED );
+                stored.setSize( body.length );
+                stored.setCompressedSize( body.length );
+                stored.setCrc( crc.getValue() );
+                zos.putNextEntry( stored );
+                zos.write( body );
+                zos.closeEntry();
+            }
+        }
+        byte[] zip = bytes.toByteArray();
+        if ( streamHostile ) {
+            // The first occurrence of the name is the local header's copy,
+            // which starts 30 bytes after the header; bit 3 of the
+            // general-purpose flags sits at header offset 6.
+            int name = indexOf( zip, "overrides/late.txt".getBytes( StandardCharsets.UTF_8 ) );
+            zip[ name - 30 + 6 ] |= 0x08;
+        }
+        Path p = dir.resolve( streamHostile ? "hostile.mrpack" : "pack.mrpack" );
+        Files.write( p, zip );
+        return p;
+    }
+
+    private static int indexOf( byte[] haystack, byte[] needle )
+    {
+        outer:
+        for ( int i = 0; i <= haystack.length - needle.length; i++ ) {
+            for ( int j = 0; j < needle.length; j++ ) {
+                if ( haystack[ i + j ] != needle[ j ] ) continue outer;
+            }
+            return i;
+        }
+        throw new AssertionError( "needle not found" );
+    }
+
+    private static MrpackImporter.IndexHandler capture( AtomicReference< ModrinthIndex > seen )
+    {
+        return index -> {
+            seen.set( index );
+            return new MrpackImporter.Plan( index, "forge", "https://example.invalid/installer.jar",
+                                            CompletableFuture.completedFuture( "hash" ),
+                                            CompletableFuture.completedFuture( null ) );
+        };
+    }
+
+    private String staged( String tree, String rel ) throws IOException
+    {
+        return Files.readString( prefetch.stagingDir().resolve( tree ).resolve( rel ) );
+    }
+
+    @Test
+    void wellFormedArchiveIsReadInOneStreamingPass() throws Exception
+    {
+        Path source = archive( false );
+        Path temp = dir.resolve( "download.mrpack" );
+        AtomicReference< ModrinthIndex > seen = new AtomicReference<>();
+
+        MrpackImporter.StreamOutcome outcome =
+                MrpackImporter.streamArchive( source.toUri().toString(), temp, prefetch, capture( seen ) );
+
+        assertTrue( outcome.complete() );
+        assertNotNull( outcome.plan() );
+        assertEquals( "Test Pack", seen.get().name );
+        assertEquals( "47.2.0", seen.get().dependencies.get( "forge" ) );
+        assertNotNull( seen.get().files, "a missing files list is normalized to empty" );
+        assertArrayEquals( Files.readAllBytes( source ), Files.readAllBytes( temp ) );
+        assertEquals( "a=1", staged( "overrides", "config/a.txt" ) );
+        assertEquals( "fov:70", staged( "client-overrides", "options.txt" ) );
+        assertEquals( 2, prefetch.overrideEntries() );
+    }
+
+    @Test
+    void streamRejectedArchiveFallsBackWithoutDoubleCountingOverrides() throws Exception
+    {
+        Path source = archive( true );
+        Path temp = dir.resolve( "download.mrpack" );
+        AtomicReference< ModrinthIndex > seen = new AtomicReference<>();
+        MrpackImporter.IndexHandler onIndex = capture( seen );
+
+        MrpackImporter.StreamOutcome outcome =
+                MrpackImporter.streamArchive( source.toUri().toString(), temp, prefetch, onIndex );
+        assertFalse( outcome.complete() );
+        assertNotNull( outcome.plan(), "the index precedes the rejected entry" );
+        assertEquals( 2, prefetch.overrideEntries() );
+        // The rest of the download is still drained into the temp copy.
+        assertArrayEquals( Files.readAllBytes( source ), Files.readAllBytes( temp ) );
+
+        MrpackImporter.Plan plan = MrpackImporter.finishFromZipFile( temp, prefetch, outcome.plan(), onIndex );
+        assertEquals( outcome.plan(), plan );
+        assertEquals( 3, prefetch.overrideEntries() );
+        assertEquals( "a=1", staged( "overrides", "config/a.txt" ) );
+        assertEquals( "fov:70", staged( "client-overrides", "options.txt" ) );
+        assertEquals( "late", staged( "overrides", "late.txt" ) );
+    }
+
+    @Test
+    void nullIndexIsRejectedInsteadOfReachingTheHandler() throws Exception
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try ( ZipOutputStream zos = new ZipOutputStream( bytes ) ) {
+            put( zos, "modrinth.index.json", "null" );
+        }
+        Path source = dir.resolve( "null.mrpack" );
+        Files.write( source, bytes.toByteArray() );
+        AtomicReference< ModrinthIndex > seen = new AtomicReference<>();
+
+        assertThrows( MrpackImporter.ImportException.class,
+                      () -> MrpackImporter.streamArchive( source.toUri().toString(), dir.resolve( "download.mrpack" ),
+                                                          prefetch, capture( seen ) ) );
+        assertThrows( MrpackImporter.ImportException.class,
+                      () -> MrpackImporter.finishFromZipFile( source, prefetch, null, capture( seen ) ) );
+        assertNull( seen.get() );
+    }
+
+    @Test
+    void fallbackParsesTheIndexWhenStreamingNeverReachedIt() throws Exception
+    {
+        Path source = archive( true );
+        AtomicReference< ModrinthIndex > seen = new AtomicReference<>();
+
+        MrpackImporter.Plan plan = MrpackImporter.finishFromZipFile( source, prefetch, null, capture( seen ) );
+
+        assertNotNull( plan );
+        assertEquals( "Test Pack", seen.get().name );
+        assertEquals( 3, prefetch.overrideEntries() );
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.game.modpack.import_;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link MrpackPrefetch}: committing moves verified downloads and
+ * new overrides into the pack without clobbering user files, a hash mismatch
+ * is dropped, and discarding removes the staging tree and refuses new work.
+ */
+class MrpackPrefetchTest
+{
+    @TempDir
+    Path dir;
+
+    private Path source( String name, String body ) throws IOException
+    {
+        Path p = dir.resolve( "cdn" ).resolve( name );
+        Files.createDirectories( p.getParent() );
+        Files.writeString( p, body );
+        return p;
+    }
+
+    private static String sha1( String body ) throws Exception
+    {
+        MessageDigest md = MessageDigest.getInstance( "SHA-1" );
+        return HexFormat.of().formatHex( md.digest( body.getBytes( StandardCharsets.UTF_8 ) ) );
+    }
+
+    private static ByteArrayInputStream bytes( String body )
+    {
+        return new ByteArrayInputStream( body.getBytes( StandardCharsets.UTF_8 ) );
+    }
+
+    @Test
+    void commitPlacesVerifiedFilesAndOnlyNewOverrides() throws Exception
+    {
+        Path pack = dir.resolve( "pack" );
+        Files.createDirectories( pack.resolve( "config" ) );
+        Files.writeString( pack.resolve( "config/a.txt" ), "user edit" );
+        Files.createDirectories( pack.resolve( "mods" ) );
+        Files.writeString( pack.resolve( "mods/good.jar" ), "old version" );
+
+        MrpackPrefetch prefetch = MrpackPrefetch.create( dir.resolve( "staging" ) );
+        Path staging = prefetch.stagingDir();
+        prefetch.submitFile( "mods/good.jar", source( "good.jar", "good" ).toUri().toString(),
+                             sha1( "good" ), null );
+        prefetch.submitFile( "mods/bad.jar", source( "bad.jar", "tampered" ).toUri().toString(),
+                             sha1( "expected" ), null );
+        prefetch.stageOverride( "overrides", "config/a.txt", bytes( "pack default" ) );
+        prefetch.stageOverride( "overrides", "config/b.txt", bytes( "b=1" ) );
+        prefetch.stageOverride( "client-overrides", "config/b.txt", bytes( "b=client" ) );
+
+        int placed = prefetch.commitInto( pack.toString() );
+
+        assertEquals( 2, placed );
+        assertEquals( "good", Files.readString( pack.resolve( "mods/good.jar" ) ) );
+        assertFalse( Files.exists( pack.resolve( "mods/bad.jar" ) ) );
+        assertEquals( "user edit", Files.readString( pack.resolve( "config/a.txt" ) ) );
+        assertEquals( "b=client", Files.readString( pack.resolve( "config/b.txt" ) ) );
+        assertFalse( Files.exists( staging ) );
+    }
+
+    @Test
+    void discardDeletesStagingAndIgnoresLaterSubmissions() throws Exception
+    {
+        Path pack = dir.resolve( "pack" );
+        MrpackPrefetch prefetch = MrpackPrefetch.create( dir.resolve( "staging" ) );
+        Path staging = prefetch.stagingDir();
+        prefetch.stageOverride( "overrides", "config/a.txt", bytes( "a=1" ) );
+
+        prefetch.discard();
+        assertFalse( Files.exists( staging ) );
+
+        prefetch.submitFile( "mods/late.jar", source( "late.jar", "late" ).toUri().toString(),
+                             sha1( "late" ), null );
+        assertEquals( 0, prefetch.commitInto( pack.toString() ) );
+        assertFalse( Files.exists( pack.resolve( "mods/late.jar" ) ) );
+    }
+
+    @Test
+    void clearingOverridesResetsTheCaps() throws Exception
+    {
+        MrpackPrefetch prefetch = MrpackPrefetch.create( dir.resolve( "staging" ) );
+        prefetch.stageOverride( "overrides", "a.txt", bytes( "a" ) );
+        prefetch.stageOverride( "client-overrides", "b.txt", bytes( "b" ) );
+        assertEquals( 2, prefetch.overrideEntries() );
+
+        prefetch.clearOverrides();
+
+        assertEquals( 0, prefetch.overrideEntries() );
+        assertFalse( Files.exists( prefetch.stagingDir().resolve( "overrides" ) ) );
+        assertFalse( Files.exists( prefetch.stagingDir().resolve( "client-overrides" ) ) );
+        prefetch.discard();
+    }
+}
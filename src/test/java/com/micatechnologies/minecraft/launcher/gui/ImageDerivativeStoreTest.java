@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.gui;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link ImageDerivativeStore}: content-addressed keys, one-time
+ * derivation of the card thumbnail + palette + transparency verdict, and the
+ * index surviving a reload. Pure AWT, no FX toolkit.
+ */
+class ImageDerivativeStoreTest
+{
+    private static final String SHA = "0123456789abcdef0123456789abcdef01234567";
+
+    @TempDir
+    Path tmp;
+
+    @BeforeEach
+    void pointAtTempDir()
+    {
+        ImageDerivativeStore.testDirOverride = tmp;
+        ImageDerivativeStore.dropCachedState();
+    }
+
+    @AfterEach
+    void reset()
+    {
+        ImageDerivativeStore.testDirOverride = null;
+        ImageDerivativeStore.dropCachedState();
+    }
+
+    private File writeLogo( String name, int w, int h, int argb ) throws IOException
+    {
+        BufferedImage img = new BufferedImage( w, h, BufferedImage.TYPE_INT_ARGB );
+        for ( int y = 0; y < h; y++ ) {
+            for ( int x = 0; x < w; x++ ) {
+                img.setRGB( x, y, argb );
+            }
+        }
+        File f = tmp.resolve( name ).toFile();
+        ImageIO.write( img, "png", f );
+        return f;
+    }
+
+    private static boolean savedWithVerdict( Path index ) throws IOException
+    {
+        return Files.isRegularFile( index ) && Files.readString( index ).contains( "transparentEdges" );
+    }
+
+    @Test
+    void keysComeFromContentAddressedNamesOnly()
+    {
+        assertEquals( SHA, ImageDerivativeStore.keyOf( new File( SHA.toUpperCase() + ".png" ) ) );
+        assertEquals( SHA, ImageDerivativeStore.keyOf( new File( SHA + "-256.png" ) ) );
+        assertEquals( SHA, ImageDerivativeStore.keyOfUrl( "file:/home/u/.image_cache/" + SHA + ".png" ) );
+        assertNull( ImageDerivativeStore.keyOf( new File( "logo.png" ) ) );
+        assertNull( ImageDerivativeStore.keyOfUrl( "https://example.com/logo.png" ) );
+        assertNull( ImageDerivativeStore.keyOf( null ) );
+    }
+
+    @Test
+    void warmDerivesOnceAndPersistsAcrossReload() throws IOException
+    {
+        File logo = writeLogo( SHA + ".png", 1024, 512, 0xFFCC2020 );
+
+        assertEquals( 1, ImageDerivativeStore.warm( List.of( logo ) ) );
+        assertEquals( 0, ImageDerivativeStore.warm( List.of( logo ) ), "complete entries aren't re-derived" );
+
+        File thumb = ImageDerivativeStore.thumbnail( SHA, ImageDerivativeStore.CARD_LOGO_BOX );
+        assertNotNull( thumb );
+        BufferedImage scaled = ImageIO.read( thumb );
+        assertEquals( 256, scaled.getWidth() );
+        assertEquals( 128, scaled.getHeight() );
+
+        ImageDerivativeStore.dropCachedState();
+        assertArrayEquals( new int[]{ 0xCC2020 }, ImageDerivativeStore.palette( SHA ) );
+        assertEquals( Boolean.FALSE, ImageDerivativeStore.transparentEdges( SHA ) );
+        assertEquals( 0, ImageDerivativeStore.warm( List.of( logo ) ) );
+    }
+
+    @Test
+    void transparentLogoHasNoPaletteButAVerdict() throws IOException
+    {
+        File logo = writeLogo( SHA + ".png", 64, 64, 0x00000000 );
+        ImageDerivativeStore.warm( List.of( logo, new File( "not-addressed.png" ) ) );
+
+        assertArrayEquals( new int[ 0 ], ImageDerivativeStore.palette( SHA ) );
+        assertTrue( ImageDerivativeStore.transparentEdges( SHA ) );
+        assertNotNull( ImageDerivativeStore.thumbnail( SHA, ImageDerivativeStore.CARD_LOGO_BOX ),
+                       "images already inside the box are stored as-is" );
+    }
+
+    @Test
+    void recordedValuesAreSavedInTheBackground() throws Exception
+    {
+        assertNull( ImageDerivativeStore.palette( SHA ) );
+        ImageDerivativeStore.recordPalette( SHA, new int[]{ 0x112233, 0x445566 } );
+        ImageDerivativeStore.recordTransparency( SHA, true );
+        Path index = tmp.resolve( "image-derivatives" ).resolve( "index.json" );
+        for ( int i = 0; i < 200 && !savedWithVerdict( index ); i++ ) {
+            Thread.sleep( 25 );
+        }
+        assertTrue( savedWithVerdict( index ), "coalesced save ran" );
+        ImageDerivativeStore.dropCachedState();
+
+        assertArrayEquals( new int[]{ 0x112233, 0x445566 }, ImageDerivativeStore.palette( SHA ) );
+        assertTrue( ImageDerivativeStore.transparentEdges( SHA ) );
+        assertNull( ImageDerivativeStore.thumbnail( SHA, ImageDerivativeStore.CARD_LOGO_BOX ) );
+    }
+
+    @Test
+    void paletteSeparatesDistinctColors()
+    {
+        // Left half red, right half blue, fully opaque.
+        int[] palette = ImageDerivativeStore.dominantPalette( 64, 64,
+                                                              ( x, y ) -> x < 32 ? 0xFFFF0000 : 0xFF0000FF, 4 );
+        assertNotNull( palette );
+        assertEquals( 2, palette.length );
+        assertTrue( List.of( 0xFF0000, 0x0000FF ).contains( palette[ 0 ] ) );
+        assertFalse( palette[ 0 ] == palette[ 1 ] );
+        assertNull( ImageDerivativeStore.dominantPalette( 8, 8, ( x, y ) -> 0, 4 ) );
+    }
+}
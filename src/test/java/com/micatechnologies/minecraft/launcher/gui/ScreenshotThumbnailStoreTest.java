@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.gui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link ScreenshotThumbnailStore}: subsampled decode into a small
+ * JPEG, keys that follow the source's size and modification time, and
+ * least-recently-used eviction past the size cap. Pure AWT, no FX toolkit.
+ */
+class ScreenshotThumbnailStoreTest
+{
+    @TempDir
+    Path tmp;
+
+    @BeforeEach
+    void pointAtTempDir()
+    {
+        ScreenshotThumbnailStore.testDirOverride = tmp.resolve( "meta" );
+    }
+
+    @AfterEach
+    void reset()
+    {
+        ScreenshotThumbnailStore.testDirOverride = null;
+        ScreenshotThumbnailStore.maxStoreBytes = 64L * 1024L * 1024L;
+        ScreenshotThumbnailStore.dropCachedState();
+    }
+
+    private File writeShot( String name, int w, int h ) throws IOException
+    {
+        BufferedImage img = new BufferedImage( w, h, BufferedImage.TYPE_INT_ARGB );
+        for ( int y = 0; y < h; y++ ) {
+            for ( int x = 0; x < w; x++ ) {
+                img.setRGB( x, y, x < w / 2 ? 0xFF2080C0 : 0xFFC08020 );
+            }
+        }
+        File f = tmp.resolve( name ).toFile();
+        ImageIO.write( img, "png", f );
+        return f;
+    }
+
+    @Test
+    void generateWritesAJpegThatFitsTheBoxAndIsThenAHit() throws IOException
+    {
+        File shot = writeShot( "2026-01-01_12.00.00.png", 1920, 1080 );
+        assertNull( ScreenshotThumbnailStore.cached( shot ) );
+
+        File thumb = ScreenshotThumbnailStore.generate( shot );
+
+        assertNotNull( thumb );
+        assertTrue( thumb.getName().endsWith( ".jpg" ) );
+        BufferedImage read = ImageIO.read( thumb );
+        assertEquals( ScreenshotThumbnailStore.THUMBNAIL_BOX, read.getWidth() );
+        assertEquals( 113, read.getHeight() );
+        assertEquals( thumb, ScreenshotThumbnailStore.cached( shot ) );
+        try ( var files = Files.list( thumb.toPath().getParent() ) ) {
+            assertEquals( 1L, files.count() );
+        }
+    }
+
+    @Test
+    void subsampledReadKeepsTwiceTheBox() throws IOException
+    {
+        assertEquals( 1, ScreenshotThumbnailStore.subsampleStep( 300, 200 ) );
+        assertEquals( 9, ScreenshotThumbnailStore.subsampleStep( 3840, 200 ) );
+
+        File shot = writeShot( "big.png", 1600, 900 );
+        BufferedImage decoded = ScreenshotThumbnailStore.readSubsampled( shot, 200 );
+        assertEquals( 400, decoded.getWidth() );
+        assertEquals( 225, decoded.getHeight() );
+    }
+
+    @Test
+    void rewrittenScreenshotGetsANewKeyAndUnreadableFilesAreMisses() throws IOException
+    {
+        File shot = writeShot( "shot.png", 64, 64 );
+        String before = ScreenshotThumbnailStore.key( shot );
+        assertTrue( shot.setLastModified( shot.lastModified() - 60_000 ) );
+        assertNotEquals( before, ScreenshotThumbnailStore.key( shot ) );
+
+        assertNull( ScreenshotThumbnailStore.key( tmp.resolve( "missing.png" ).toFile() ) );
+        File bogus = tmp.resolve( "bogus.png" ).toFile();
+        Files.writeString( bogus.toPath(), "not an image" );
+        assertNull( ScreenshotThumbnailStore.generate( bogus ) );
+    }
+
+    @Test
+    void leastRecentlyUsedThumbnailsAreEvictedPastTheCap() throws IOException
+    {
+        long day = ScreenshotThumbnailStore.TOUCH_INTERVAL_MS;
+        long now = System.currentTimeMillis();
+        File[] shots = new File[ 4 ];
+        File[] thumbs = new File[ 4 ];
+        for ( int i = 0; i < 3; i++ ) {
+            shots[ i ] = writeShot( "shot" + i + ".png", 64, 64 );
+            thumbs[ i ] = ScreenshotThumbnailStore.generate( shots[ i ] );
+            // Oldest first: shot0 was last used three days ago, shot2 yesterday.
+            assertTrue( thumbs[ i ].setLastModified( now - ( 3 - i ) * day - 1_000L ) );
+        }
+        long each = thumbs[ 0 ].length();
+        assertEquals( each, thumbs[ 2 ].length() );
+
+        // A stale hit refreshes the thumbnail's last-use time.
+        assertEquals( thumbs[ 0 ], ScreenshotThumbnailStore.cached( shots[ 0 ] ) );
+        assertTrue( thumbs[ 0 ].lastModified() >= now - 1_000L );
+
+        // A fourth thumbnail passes the cap; eviction shrinks to three quarters
+        // of it, which leaves room for two.
+        ScreenshotThumbnailStore.maxStoreBytes = 3L * each + 1L;
+        shots[ 3 ] = writeShot( "shot3.png", 64, 64 );
+        thumbs[ 3 ] = ScreenshotThumbnailStore.generate( shots[ 3 ] );
+
+        assertTrue( thumbs[ 0 ].isFile(), "recently hit" );
+        assertFalse( thumbs[ 1 ].exists() );
+        assertFalse( thumbs[ 2 ].exists() );
+        assertTrue( thumbs[ 3 ].isFile(), "just written" );
+        assertEquals( 2L * each, ScreenshotThumbnailStore.evict( thumbs[ 3 ].toPath().getParent(), Long.MAX_VALUE ) );
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.rgb;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link RgbController}'s per-backend render lanes: a slow backend
+ * doesn't throttle a fast sibling, a lane always catches up to the newest
+ * frame rather than working through a backlog, and {@link RgbController#stop()}
+ * closes every lane before shutting its backend down.
+ */
+class RgbControllerLaneTest
+{
+    /** Stub backend that takes {@code renderMillis} per frame and records
+     *  what it rendered and on which thread. */
+    private static final class TimedBackend implements RgbBackend
+    {
+        final String name;
+        final long renderMillis;
+        final AtomicInteger rendered = new AtomicInteger();
+        volatile RgbFrame lastFrame;
+        volatile String renderThread;
+        volatile boolean shutdown;
+        volatile boolean renderedAfterShutdown;
+
+        TimedBackend( String name, long renderMillis )
+        {
+            this.name = name;
+            this.renderMillis = renderMillis;
+        }
+
+        @Override public String  name()        { return name; }
+        @Override public boolean isAvailable() { return true; }
+        @Override public void start() {}
+        @Override public void renderFrame( RgbFrame frame ) throws Exception
+        {
+            if ( shutdown ) renderedAfterShutdown = true;
+            renderThread = Thread.currentThread().getName();
+            if ( renderMillis > 0 ) Thread.sleep( renderMillis );
+            lastFrame = frame;
+            rendered.incrementAndGet();
+        }
+        @Override public void shutdown() { shutdown = true; }
+    }
+
+    @AfterEach
+    void stopController()
+    {
+        RgbController.getInstance().stop();
+    }
+
+    @Test
+    void slowBackendDoesNotThrottleFastSibling() throws InterruptedException
+    {
+        TimedBackend slow = new TimedBackend( "slow", 100 );
+        TimedBackend fast = new TimedBackend( "fast", 0 );
+        RgbController controller = RgbController.getInstance();
+        controller.start( List.of( slow, fast ) );
+
+        RgbFrame latest = null;
+        for ( int i = 0; i < 60; i++ ) {
+            latest = RgbFrame.solid( new RgbColor( i, i, i ) );
+            controller.submitFrame( latest );
+            Thread.sleep( 20 );
+        }
+        for ( int i = 0; i < 100 && slow.lastFrame != latest; i++ ) {
+            Thread.sleep( 20 );
+        }
+
+        assertTrue( fast.rendered.get() > slow.rendered.get() * 3,
+                    "fast=" + fast.rendered.get() + " slow=" + slow.rendered.get() );
+        assertSame( latest, slow.lastFrame, "the slow lane ends on the newest frame, not a queued one" );
+        assertSame( latest, fast.lastFrame );
+        assertTrue( slow.renderThread.startsWith( "mica-rgb-" ) );
+        assertFalse( slow.renderThread.equals( fast.renderThread ), "each backend renders on its own lane" );
+    }
+
+    @Test
+    void stopClosesLanesBeforeShuttingDownBackends() throws InterruptedException
+    {
+        TimedBackend slow = new TimedBackend( "slow", 50 );
+        RgbController controller = RgbController.getInstance();
+        controller.start( List.of( slow ) );
+        for ( int i = 0; i < 5; i++ ) {
+            controller.submitFrame( RgbFrame.solid( new RgbColor( 255, 0, 0 ) ) );
+            Thread.sleep( 10 );
+        }
+        controller.stop();
+
+        assertTrue( slow.shutdown );
+        assertFalse( controller.status().running() );
+        controller.submitFrame( RgbFrame.solid( new RgbColor( 0, 0, 255 ) ) );
+        Thread.sleep( 100 );
+        assertFalse( slow.renderedAfterShutdown );
+    }
+}
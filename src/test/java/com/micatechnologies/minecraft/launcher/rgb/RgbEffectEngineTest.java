@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.rgb;
+
+import com.micatechnologies.minecraft.launcher.rgb.effects.PulseEffect;
+import com.micatechnologies.minecraft.launcher.rgb.effects.RainbowEffect;
+import com.micatechnologies.minecraft.launcher.rgb.effects.SolidEffect;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link RgbEffectEngine}'s unchanged-frame diff and idle
+ * cadence: a static effect is pushed once and then left alone, an effect
+ * change wakes the engine immediately (even to identical content after a
+ * stop), and animated effects keep ticking at the full rate.
+ */
+class RgbEffectEngineTest
+{
+    /** Stub backend that counts renders and remembers the last background. */
+    private static final class CountingBackend implements RgbBackend
+    {
+        final AtomicInteger rendered = new AtomicInteger();
+        volatile int lastRgb = -1;
+
+        @Override public String  name()        { return "counting"; }
+        @Override public boolean isAvailable() { return true; }
+        @Override public void start() {}
+        @Override public void renderFrame( RgbFrame frame )
+        {
+            lastRgb = frame.backgroundRgb();
+            rendered.incrementAndGet();
+        }
+        @Override public void shutdown() {}
+    }
+
+    private final CountingBackend backend = new CountingBackend();
+
+    @AfterEach
+    void stopController()
+    {
+        RgbController.getInstance().stop();
+    }
+
+    private void awaitRgb( int rgb ) throws InterruptedException
+    {
+        for ( int i = 0; i < 100 && backend.lastRgb != rgb; i++ ) {
+            Thread.sleep( 5 );
+        }
+        assertEquals( rgb, backend.lastRgb );
+    }
+
+    @Test
+    void staticEffectIsPushedOnceAndEffectChangesWakeImmediately() throws InterruptedException
+    {
+        RgbController controller = RgbController.getInstance();
+        controller.start( List.of( backend ) );
+
+        controller.setEffect( new SolidEffect( "red", new RgbColor( 255, 0, 0 ) ) );
+        awaitRgb( 0xFF0000 );
+        Thread.sleep( 500 );
+        assertEquals( 1, backend.rendered.get(), "a static frame isn't re-pushed every tick" );
+
+        long switched = System.nanoTime();
+        controller.setEffect( new SolidEffect( "blue", new RgbColor( 0, 0, 255 ) ) );
+        awaitRgb( 0x0000FF );
+        assertTrue( System.nanoTime() - switched < 400_000_000L, "the idle engine woke for the new effect" );
+
+        // Stop pushes black outside the diff; the same colour must come back.
+        controller.setEffect( null );
+        awaitRgb( 0x000000 );
+        controller.setEffect( new SolidEffect( "blue again", new RgbColor( 0, 0, 255 ) ) );
+        awaitRgb( 0x0000FF );
+    }
+
+    @Test
+    void animatedEffectsKeepTickingAndDegenerateOnesIdle() throws InterruptedException
+    {
+        RgbController controller = RgbController.getInstance();
+        controller.start( List.of( backend ) );
+
+        controller.setEffect( new RainbowEffect( "rainbow", 1_000L ) );
+        Thread.sleep( 500 );
+        assertTrue( backend.rendered.get() > 5, "rendered=" + backend.rendered.get() );
+
+        RgbColor green = new RgbColor( 0, 255, 0 );
+        PulseEffect flat = new PulseEffect( "flat", green, green, 1_000L );
+        assertFalse( flat.isAnimated() );
+        controller.setEffect( flat );
+        awaitRgb( 0x00FF00 );
+        int settled = backend.rendered.get();
+        Thread.sleep( 300 );
+        assertEquals( settled, backend.rendered.get() );
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.rgb;
+
+import com.micatechnologies.minecraft.launcher.rgb.effects.CycleEffect;
+import com.micatechnologies.minecraft.launcher.rgb.effects.PulseEffect;
+import com.micatechnologies.minecraft.launcher.rgb.effects.RainbowEffect;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for the packed {@link RgbFrame}: the primitive accessors agree
+ * with the map-based constructor, reusable frames repaint in place and
+ * compare equal to their immutable counterparts, every animated effect's
+ * {@link RgbEffect#renderInto} paints exactly what {@link RgbEffect#frameAt}
+ * returns, and {@link RgbFrame#copyFrom} never observes a half-written
+ * repaint.
+ */
+class RgbFrameTest
+{
+    private static final RgbColor RED  = new RgbColor( 255, 0, 0 );
+    private static final RgbColor BLUE = new RgbColor( 0, 0, 255 );
+
+    @Test
+    void packedAccessorsMatchTheOverrideMap()
+    {
+        RgbFrame frame = new RgbFrame( RED, Map.of( KeyboardKey.W, BLUE, KeyboardKey.SPACE, BLUE ) );
+
+        assertEquals( 0xFF0000, frame.backgroundRgb() );
+        assertEquals( 0x0000FF, frame.rgbAt( KeyboardKey.W.ordinal() ) );
+        assertEquals( 0xFF0000, frame.rgbAt( KeyboardKey.A.ordinal() ) );
+        assertEquals( ( 1L << KeyboardKey.W.ordinal() ) | ( 1L << KeyboardKey.SPACE.ordinal() ),
+                      frame.overrideMask() );
+        assertEquals( Map.of( KeyboardKey.W, BLUE, KeyboardKey.SPACE, BLUE ), frame.overrides() );
+        assertEquals( BLUE, frame.colorFor( KeyboardKey.W ) );
+        assertEquals( RED, frame.background() );
+        assertEquals( 0L, RgbFrame.solid( RED ).overrideMask() );
+    }
+
+    @Test
+    void reusableFramesRepaintInPlaceAndImmutableOnesRefuse()
+    {
+        RgbFrame buffer = RgbFrame.reusable();
+        long wasd = ( 1L << KeyboardKey.W.ordinal() ) | ( 1L << KeyboardKey.A.ordinal() )
+                | ( 1L << KeyboardKey.S.ordinal() ) | ( 1L << KeyboardKey.D.ordinal() );
+
+        assertSame( buffer, buffer.fill( 0xFF0000, wasd, 0x0000FF ) );
+        assertEquals( new RgbFrame( RED, Map.of( KeyboardKey.W, BLUE, KeyboardKey.A, BLUE,
+                                                 KeyboardKey.S, BLUE, KeyboardKey.D, BLUE ) ), buffer );
+        buffer.fill( 0x0000FF );
+        assertEquals( RgbFrame.solid( BLUE ), buffer );
+        assertEquals( RgbFrame.solid( BLUE ).hashCode(), buffer.hashCode() );
+
+        RgbFrame copy = RgbFrame.reusable().copyFrom( buffer );
+        buffer.fill( 0 );
+        assertEquals( RgbFrame.solid( BLUE ), copy, "a snapshot is independent of its source" );
+
+        assertThrows( IllegalStateException.class, () -> RgbFrame.solid( RED ).fill( 0 ) );
+        assertFalse( RgbFrame.solid( RED ).isReusable() );
+    }
+
+    @Test
+    void renderIntoPaintsWhatFrameAtReturns()
+    {
+        List< RgbEffect > effects = List.of(
+                new PulseEffect( "pulse", RED, BLUE, 1_000L ),
+                new CycleEffect( "cycle", List.of( RED, BLUE, RgbColor.WHITE ), 900L ),
+                new RainbowEffect( "rainbow", 6_000L ) );
+        RgbFrame buffer = RgbFrame.reusable();
+        for ( RgbEffect effect : effects ) {
+            for ( long ms = 0; ms < 7_000L; ms += 37L ) {
+                assertSame( buffer, effect.renderInto( ms, buffer ) );
+                assertEquals( effect.frameAt( ms ), buffer, effect.name() + " at " + ms + " ms" );
+            }
+        }
+    }
+
+    @Test
+    void copyFromNeverSeesATornRepaint() throws InterruptedException
+    {
+        RgbFrame source = RgbFrame.reusable();
+        AtomicBoolean stop = new AtomicBoolean();
+        Thread writer = new Thread( () -> {
+            // Every repaint is uniform: background and every override share one value.
+            for ( int i = 0; !stop.get(); i = ( i + 1 ) & 0xFFFFFF ) {
+                source.fill( i, -1L >>> ( Long.SIZE - RgbFrame.KEY_COUNT ), i );
+            }
+        } );
+        writer.start();
+        try {
+            RgbFrame snapshot = RgbFrame.reusable();
+            for ( int n = 0; n < 200_000; n++ ) {
+                snapshot.copyFrom( source );
+                int expected = snapshot.backgroundRgb();
+                for ( int k = 0; k < RgbFrame.KEY_COUNT; k++ ) {
+                    if ( snapshot.rgbAt( k ) != expected ) {
+                        throw new AssertionError( "torn snapshot at key " + k );
+                    }
+                }
+            }
+        }
+        finally {
+            stop.set( true );
+            writer.join();
+        }
+    }
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.rgb.backends.openrgb;
+
+import com.micatechnologies.minecraft.launcher.rgb.KeyboardKey;
+import com.micatechnologies.minecraft.launcher.rgb.RgbColor;
+import com.micatechnologies.minecraft.launcher.rgb.RgbFrame;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests {@link OpenRgbBackend} against a local fake OpenRGB server that
+ * applies every LED update it receives, measuring the bytes and
+ * {@code write} calls each frame takes: a full first frame, single-LED
+ * and zone deltas afterwards, nothing at all for a repeated frame, and
+ * every device back to black on shutdown.
+ */
+class OpenRgbBackendTest
+{
+    private static final RgbColor RED  = new RgbColor( 255, 0, 0 );
+    private static final RgbColor BLUE = new RgbColor( 0, 0, 255 );
+
+    /** Keyboard zone 0: the keys the in-game effect highlights. */
+    private static final List< String > KEYBOARD_ZONE0 = List.of(
+            "Key: W", "Key: A", "Key: S", "Key: D", "Key: E", "Key: Q", "Key: F", "Key: Space" );
+    private static final int KEYBOARD_LEDS = 104;
+    private static final int STRIP_LEDS    = 60;
+
+    private FakeServer server;
+    private OpenRgbBackend backend;
+
+    @BeforeEach
+    void startServer() throws IOException
+    {
+        List< String > keyboardLeds = new ArrayList<>( KEYBOARD_ZONE0 );
+        while ( keyboardLeds.size() < KEYBOARD_LEDS ) {
+            keyboardLeds.add( "Logo " + keyboardLeds.size() );
+        }
+        List< String > stripLeds = new ArrayList<>();
+        while ( stripLeds.size() < STRIP_LEDS ) {
+            stripLeds.add( "LED " + stripLeds.size() );
+        }
+        server = new FakeServer( List.of(
+                new FakeDevice( OpenRgbProtocol.DEVICE_TYPE_KEYBOARD, "Keyboard",
+                                new int[]{ KEYBOARD_ZONE0.size(), KEYBOARD_LEDS - KEYBOARD_ZONE0.size() },
+                                keyboardLeds ),
+                new FakeDevice( 4, "Strip", new int[]{ 30, 30 }, stripLeds ) ) );
+        backend = new OpenRgbBackend( server.port() );
+    }
+
+    @AfterEach
+    void stopServer() throws IOException
+    {
+        backend.shutdown();
+        server.close();
+    }
+
+    private static RgbFrame highlight( KeyboardKey... keys )
+    {
+        Map< KeyboardKey, RgbColor > overrides = new EnumMap<>( KeyboardKey.class );
+        for ( KeyboardKey k : keys ) {
+            overrides.put( k, BLUE );
+        }
+        return new RgbFrame( RED, overrides );
+    }
+
+    /** Renders {@code frame} and waits for the server to apply all of it. */
+    private void render( RgbFrame frame ) throws Exception
+    {
+        backend.renderFrame( frame );
+        server.awaitUpdateBytes( server.expectedBytes += backend.lastFrameBytes );
+    }
+
+    @Test
+    void sendsOnlyWhatChangedInOneWritePerFrame() throws Exception
+    {
+        backend.start();
+        FakeDevice keyboard = server.devices.get( 0 );
+        FakeDevice strip = server.devices.get( 1 );
+
+        // First frame: the server's state is unknown, so every device in full.
+        render( RgbFrame.solid( RED ) );
+        assertEquals( 1, backend.lastFrameWrites );
+        assertEquals( OpenRgbProtocol.updateLedsBytes( KEYBOARD_LEDS )
+                              + OpenRgbProtocol.updateLedsBytes( STRIP_LEDS ), backend.lastFrameBytes );
+        assertEquals( List.of( OpenRgbProtocol.PKT_RGBCONTROLLER_UPDATELEDS,
+                               OpenRgbProtocol.PKT_RGBCONTROLLER_UPDATELEDS ), server.takePacketIds() );
+        assertEquals( 0xFF0000, strip.leds[ STRIP_LEDS - 1 ] );
+
+        // One key changes: one UPDATESINGLELED, the strip sends nothing.
+        render( highlight( KeyboardKey.W ) );
+        assertEquals( 1, backend.lastFrameWrites );
+        assertEquals( OpenRgbProtocol.UPDATESINGLELED_BYTES, backend.lastFrameBytes );
+        assertEquals( List.of( OpenRgbProtocol.PKT_RGBCONTROLLER_UPDATESINGLELED ), server.takePacketIds() );
+        assertEquals( 0x0000FF, keyboard.leds[ 0 ] );
+
+        // Five more keys in the small zone: one zone update beats five singles.
+        render( highlight( KeyboardKey.W, KeyboardKey.A, KeyboardKey.S, KeyboardKey.D,
+                           KeyboardKey.E, KeyboardKey.Q ) );
+        assertEquals( OpenRgbProtocol.updateZoneLedsBytes( KEYBOARD_ZONE0.size() ), backend.lastFrameBytes );
+        assertEquals( List.of( OpenRgbProtocol.PKT_RGBCONTROLLER_UPDATEZONELEDS ), server.takePacketIds() );
+        for ( int led = 0; led < 6; led++ ) {
+            assertEquals( 0x0000FF, keyboard.leds[ led ], "LED " + led );
+        }
+        assertEquals( 0xFF0000, keyboard.leds[ 6 ] );
+
+        // A repeated frame costs nothing.
+        backend.renderFrame( highlight( KeyboardKey.W, KeyboardKey.A, KeyboardKey.S, KeyboardKey.D,
+                                        KeyboardKey.E, KeyboardKey.Q ) );
+        assertEquals( 0, backend.lastFrameBytes );
+        assertEquals( 0, backend.lastFrameWrites );
+
+        // Shutdown paints everything black.
+        backend.shutdown();
+        server.awaitUpdateBytes( server.expectedBytes + OpenRgbProtocol.updateLedsBytes( KEYBOARD_LEDS )
+                                         + OpenRgbProtocol.updateLedsBytes( STRIP_LEDS ) );
+        assertEquals( 0, keyboard.leds[ 0 ] );
+        assertEquals( 0, strip.leds[ 0 ] );
+    }
+
+    // =========================================================================
+    //  Fake OpenRGB server
+    // =========================================================================
+
+    /** One device the fake server advertises, with the LED state it's been sent. */
+    private static final class FakeDevice
+    {
+        final int type;
+        final String name;
+        final int[] zoneLedCounts;
+        final List< String > ledNames;
+        final int[] leds;
+
+        FakeDevice( int type, String name, int[] zoneLedCounts, List< String > ledNames )
+        {
+            this.type = type;
+            this.name = name;
+            this.zoneLedCounts = zoneLedCounts;
+            this.ledNames = ledNames;
+            this.leds = new int[ ledNames.size() ];
+        }
+
+        /** Encodes the REQUEST_CONTROLLER_DATA reply the backend's parser walks. */
+        byte[] controllerData()
+        {
+            ByteBuffer b = ByteBuffer.allocate( 16_384 ).order( ByteOrder.LITTLE_ENDIAN );
+            b.putInt( 0 );                                  // data_size (ignored)
+            b.putInt( type );
+            putString( b, name );
+            putString( b, "fake" );                         // description
+            putString( b, "1.0" );                          // version
+            putString( b, "" );                             // serial
+            putString( b, "test" );                         // location
+            b.putShort( (short) 0 );                        // num_modes
+            b.putInt( 0 );                                  // active_mode
+            b.putShort( (short) zoneLedCounts.length );
+            for ( int z = 0; z < zoneLedCounts.length; z++ ) {
+                putString( b, "Zone " + z );
+                b.putInt( 0 );                              // zone_type
+                b.putInt( zoneLedCounts[ z ] );             // leds_min
+                b.putInt( zoneLedCounts[ z ] );             // leds_max
+                b.putInt( zoneLedCounts[ z ] );             // leds_count
+                b.putShort( (short) 0 );                    // matrix_size
+            }
+            b.putShort( (short) ledNames.size() );
+            for ( String led : ledNames ) {
+                putString( b, led );
+                b.putInt( 0 );                              // led value
+            }
+            byte[] out = new byte[ b.position() ];
+            b.flip().get( out );
+            return out;
+        }
+
+        /** Applies an LED update packet's body. */
+        synchronized void apply( int packetId, ByteBuffer body )
+        {
+            switch ( packetId ) {
+                case OpenRgbProtocol.PKT_RGBCONTROLLER_UPDATELEDS -> {
+                    body.getInt();
+                    int n = body.getShort() & 0xFFFF;
+                    for ( int led = 0; led < n; led++ ) leds[ led ] = getColor( body );
+                }
+                case OpenRgbProtocol.PKT_RGBCONTROLLER_UPDATEZONELEDS -> {
+                    body.getInt();
+                    int zone = body.getInt();
+                    int n = body.getShort() & 0xFFFF;
+                    int first = 0;
+                    for ( int z = 0; z < zone; z++ ) first += zoneLedCounts[ z ];
+                    for ( int led = first; led < first + n; led++ ) leds[ led ] = getColor( body );
+                }
+                case OpenRgbProtocol.PKT_RGBCONTROLLER_UPDATESINGLELED -> {
+                    int led = body.getInt();
+                    leds[ led ] = getColor( body );
+                }
+                default -> throw new IllegalArgumentException( "not an LED update: " + packetId );
+            }
+        }
+
+        private static int getColor( ByteBuffer b )
+        {
+            int rgb = ( b.get() & 0xFF ) << 16 | ( b.get() & 0xFF ) << 8 | ( b.get() & 0xFF );
+            b.get();                                        // padding
+            return rgb;
+        }
+
+        private static void putString( ByteBuffer b, String s )
+        {
+            byte[] bytes = s.getBytes( StandardCharsets.UTF_8 );
+            b.putShort( (short) ( bytes.length + 1 ) );
+            b.put( bytes ).put( (byte) 0 );
+        }
+    }
+
+    /** Single-client fake of the OpenRGB SDK server. */
+    private static final class FakeServer implements AutoCloseable
+    {
+        final List< FakeDevice > devices;
+        private final ServerSocket listener;
+        private final Thread thread;
+        private final List< Integer > packetIds = new ArrayList<>();
+        private long updateBytes;
+
+        /** Running total of LED-update bytes the test expects; test thread only. */
+        long expectedBytes;
+
+        FakeServer( List< FakeDevice > devices ) throws IOException
+        {
+            this.devices = devices;
+            this.listener = new ServerSocket( 0, 1, InetAddress.getLoopbackAddress() );
+            this.thread = new Thread( this::serve, "fake-openrgb" );
+            thread.setDaemon( true );
+            thread.start();
+        }
+
+        int port()
+        {
+            return listener.getLocalPort();
+        }
+
+        private void serve()
+        {
+            try ( Socket s = listener.accept() ) {
+                DataInputStream in = new DataInputStream( s.getInputStream() );
+                OutputStream out = s.getOutputStream();
+                while ( true ) {
+                    OpenRgbProtocol.Packet p = OpenRgbProtocol.readPacket( in, -1 );
+                    switch ( p.packetId() ) {
+                        case OpenRgbProtocol.PKT_REQUEST_CONTROLLER_COUNT -> reply(
+                                out, 0, p.packetId(),
+                                ByteBuffer.allocate( 4 ).order( ByteOrder.LITTLE_ENDIAN )
+                                          .putInt( devices.size() ).array() );
+                        case OpenRgbProtocol.PKT_REQUEST_CONTROLLER_DATA -> reply(
+                                out, p.deviceIndex(), p.packetId(),
+                                devices.get( p.deviceIndex() ).controllerData() );
+                        case OpenRgbProtocol.PKT_RGBCONTROLLER_UPDATELEDS,
+                             OpenRgbProtocol.PKT_RGBCONTROLLER_UPDATEZONELEDS,
+                             OpenRgbProtocol.PKT_RGBCONTROLLER_UPDATESINGLELED -> {
+                            devices.get( p.deviceIndex() ).apply(
+                                    p.packetId(), ByteBuffer.wrap( p.body() ).order( ByteOrder.LITTLE_ENDIAN ) );
+                            synchronized ( this ) {
+                                packetIds.add( p.packetId() );
+                                updateBytes += OpenRgbProtocol.HEADER_BYTES + p.body().length;
+                                notifyAll();
+                            }
+                        }
+                        default -> { /* client name, custom mode */ }
+                    }
+                }
+            }
+            catch ( IOException closed ) {
+                // client disconnected or server closed
+            }
+        }
+
+        private static void reply( OutputStream out, int deviceIndex, int packetId, byte[] body )
+                throws IOException
+        {
+            ByteBuffer header = ByteBuffer.allocate( OpenRgbProtocol.HEADER_BYTES ).order( ByteOrder.LITTLE_ENDIAN );
+            header.put( OpenRgbProtocol.MAGIC ).putInt( deviceIndex ).putInt( packetId ).putInt( body.length );
+            out.write( header.array() );
+            out.write( body );
+            out.flush();
+        }
+
+        synchronized void awaitUpdateBytes( long bytes ) throws InterruptedException
+        {
+            long deadline = System.currentTimeMillis() + 5_000L;
+            while ( updateBytes < bytes && System.currentTimeMillis() < deadline ) {
+                wait( 50 );
+            }
+            assertEquals( bytes, updateBytes, "LED-update bytes received" );
+        }
+
+        synchronized List< Integer > takePacketIds()
+        {
+            List< Integer > ids = List.copyOf( packetIds );
+            packetIds.clear();
+            return ids;
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            listener.close();
+        }
+    }
+}
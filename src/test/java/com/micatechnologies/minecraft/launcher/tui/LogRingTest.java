@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.tui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for {@link LogRing} cursor reads and the line search shared with {@link LogSpool}.
+ */
+class LogRingTest
+{
+    @Test
+    void cursorReadsReturnOnlyNewLinesEvenOnceTheRingIsFull()
+    {
+        LogRing ring = new LogRing( 4 );
+        assertEquals( 4, ring.capacity() );
+        for ( int i = 0; i < 4; i++ ) {
+            ring.append( "line " + i );
+        }
+        LogRing.Chunk first = ring.since( 0 );
+        assertEquals( List.of( "line 0", "line 1", "line 2", "line 3" ), first.lines() );
+        assertEquals( 4L, first.next() );
+
+        // The ring is full, so its size no longer changes — the cursor still sees the new line.
+        ring.append( "line 4" );
+        LogRing.Chunk second = ring.since( first.next() );
+        assertEquals( List.of( "line 4" ), second.lines() );
+        assertEquals( 0L, second.dropped() );
+        assertTrue( ring.since( second.next() ).lines().isEmpty() );
+    }
+
+    @Test
+    void aCursorThatFellBehindGetsTheRetainedTailAndADropCount()
+    {
+        LogRing ring = new LogRing( 3 );
+        for ( int i = 0; i < 10; i++ ) {
+            ring.append( "line " + i );
+        }
+        LogRing.Chunk chunk = ring.since( 2 );
+        assertEquals( List.of( "line 6", "line 7", "line 8", "line 9" ), chunk.lines() );
+        assertEquals( 4L, chunk.dropped() );
+        assertEquals( 10L, chunk.next() );
+    }
+
+    @Test
+    void concurrentWritersLoseNoLinesWithinCapacity() throws InterruptedException
+    {
+        LogRing ring = new LogRing( 4096 );
+        List< Thread > writers = new ArrayList<>();
+        for ( int w = 0; w < 2; w++ ) {
+            String prefix = "w" + w + "-";
+            Thread t = new Thread( () -> {
+                for ( int i = 0; i < 2000; i++ ) {
+                    ring.append( prefix + i );
+                }
+            } );
+            writers.add( t );
+            t.start();
+        }
+        for ( Thread t : writers ) {
+            t.join();
+        }
+        LogRing.Chunk chunk = ring.since( 0 );
+        assertEquals( 4000, chunk.lines().size() );
+        assertEquals( 4000L, chunk.next() );
+    }
+
+    @Test
+    void searchKeepsTheNewestMatchesWithLineNumbers()
+    {
+        List< String > lines = List.of( "[Server] Done", "ERROR one", "ok", "error two", "Error three" );
+        LogSpool.Matches matches = LogSpool.search( lines.iterator(), 11, "error", 2 );
+        assertEquals( 3L, matches.total() );
+        assertEquals( List.of( "14: error two", "15: Error three" ), matches.lines() );
+    }
+}
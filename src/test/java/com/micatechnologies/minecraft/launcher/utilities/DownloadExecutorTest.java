@@ -20,6 +20,7 @@ package com.micatechnologies.minecraft.launcher.utilities;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -29,7 +30,9 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -117,4 +120,30 @@ class DownloadExecutorTest
         assertFalse( Thread.currentThread().isInterrupted(),
                      "a timeout must not leave the caller's interrupt flag set" );
     }
+
+    @Test
+    void backgroundScopeDownloadsAreHeldToTheirShare() throws Exception
+    {
+        int tasks = DownloadExecutor.BACKGROUND_POOL_SIZE * 3;
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch( 1 );
+        List< Future< ? > > futures = new ArrayList<>();
+        try ( TaskScope scope = TaskScope.openBackground( "warm-up" );
+              TaskScope child = TaskScope.open( "verify" ) ) {
+            assertTrue( child.isBackground(), "a background scope's children inherit the flag" );
+            for ( int i = 0; i < tasks; i++ ) {
+                futures.add( DownloadExecutor.submit( () -> {
+                    peak.accumulateAndGet( running.incrementAndGet(), Math::max );
+                    release.await( 5, TimeUnit.SECONDS );
+                    running.decrementAndGet();
+                    return null;
+                } ) );
+            }
+            Thread.sleep( 200L );
+            release.countDown();
+            DownloadExecutor.awaitAll( futures, 10_000L );
+        }
+        assertEquals( DownloadExecutor.BACKGROUND_POOL_SIZE, peak.get() );
+    }
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link GcSessionStats} parsing real JDK 21 unified GC log lines and
+ * for {@link HardwareTunedJvmArgs#tune} reacting to the parsed statistics.
+ */
+class GcSessionStatsTest
+{
+    private static final String G1_LOG = """
+            [0.003s][info][gc] Using G1
+            [0.004s][info][gc,init] Version: 21.0.1+12-LTS (release)
+            [0.004s][info][gc,init] Heap Region Size: 4M
+            [0.004s][info][gc,init] Heap Max Capacity: 8192M
+            [1.000s][info][gc,start    ] GC(0) Pause Young (Normal) (G1 Evacuation Pause)
+            [1.002s][info][gc,phases   ] GC(0)   Pre Evacuate Collection Set: 0.1ms
+            [1.010s][info][gc          ] GC(0) Pause Young (Normal) (G1 Evacuation Pause) 1000M->200M(8192M) 10.000ms
+            [2.000s][info][gc          ] GC(1) Pause Young (Concurrent Start) (G1 Humongous Allocation) 1200M->400M(8192M) 20.000ms
+            [2.001s][info][gc          ] GC(2) Concurrent Mark Cycle
+            [2.500s][info][gc          ] GC(2) Pause Remark 500M->500M(8192M) 2.000ms
+            [2.600s][info][gc          ] GC(2) Concurrent Mark Cycle 599.000ms
+            [4.000s][info][gc          ] GC(3) Pause Young (Normal) (G1 Humongous Allocation) (Evacuation Failure) 2500M->2300M(8192M) 90.000ms
+            this line is not part of the unified log format
+            """;
+
+    private static final String ZGC_LOG = """
+            [0.014s][info][gc     ] Using The Z Garbage Collector
+            [0.004s][info][gc,init] Max Capacity: 256M
+            [0.094s][info][gc          ] GC(0) Major Collection (Warmup)
+            [0.094s][info][gc,phases   ] GC(0) Y: Pause Mark Start (Major) 0.015ms
+            [0.097s][info][gc,phases   ] GC(0) Y: Pause Mark End 0.009ms
+            [0.109s][info][gc,phases   ] GC(0) O: Pause Relocate Start 0.012ms
+            [0.151s][info][gc          ] GC(0) Major Collection (Warmup) 28M(11%)->116M(45%) 0.058s
+            [0.180s][info][gc          ] Allocation Stall (main) 1.234ms
+            """;
+
+    @Test
+    void parsesG1PausesHeapAndFailures()
+    {
+        GcSessionStats stats = GcSessionStats.parse( G1_LOG.lines().toList(), 42L );
+        assertNotNull( stats );
+        assertEquals( "G1", stats.collector() );
+        assertEquals( 21, stats.javaMajor() );
+        assertEquals( 4, stats.pauses(), "gc,start lines and concurrent phases are not pauses" );
+        assertEquals( 10.0, stats.pauseP50Ms() );
+        assertEquals( 90.0, stats.pauseMaxMs() );
+        assertEquals( 90.0, stats.pauseP99Ms() );
+        assertEquals( 2300, stats.peakLiveMb() );
+        assertEquals( 8192, stats.heapMaxMb() );
+        assertEquals( 4, stats.regionSizeMb() );
+        assertEquals( 2, stats.humongousPauses() );
+        assertEquals( 1, stats.toSpaceExhausted() );
+        // 1000 + (1200-200) + (500-400) + (2500-500) MB allocated over 4 s.
+        assertEquals( 4100 / 4.0, stats.allocationMbPerSec(), 0.001 );
+        assertEquals( 42L, stats.recordedAtMs() );
+    }
+
+    @Test
+    void parsesGenerationalZgcPhasesAndStalls()
+    {
+        GcSessionStats stats = GcSessionStats.parse( ZGC_LOG.lines().toList(), 0 );
+        assertNotNull( stats );
+        assertEquals( "ZGC", stats.collector() );
+        assertEquals( 3, stats.pauses() );
+        assertEquals( 0.015, stats.pauseMaxMs() );
+        assertEquals( 116, stats.peakLiveMb() );
+        assertEquals( 256, stats.heapMaxMb() );
+        assertEquals( 1, stats.allocationStalls() );
+    }
+
+    @Test
+    void logWithoutCollectionsIsNoSession()
+    {
+        assertNull( GcSessionStats.parse( List.of( "[0.003s][info][gc] Using G1" ), 0 ) );
+    }
+
+    @Test
+    void tuningWithoutSessionsIsTheHardwareRecommendation()
+    {
+        HardwareTunedJvmArgs.Tuning tuning = HardwareTunedJvmArgs.tune( 8, 21, List.of() );
+        assertEquals( HardwareTunedJvmArgs.generate( 8 ), tuning.jvmArgs() );
+        assertEquals( 8, tuning.maxRamGB() );
+        assertTrue( tuning.reasons().isEmpty() );
+    }
+
+    @Test
+    void humongousHeavySessionsGetLargerRegions()
+    {
+        List< GcSessionStats > sessions = new ArrayList<>();
+        for ( int i = 0; i < 3; i++ ) {
+            sessions.add( session( 3000, 100, 30, 0, 60, 100 ) );
+        }
+        HardwareTunedJvmArgs.Tuning tuning = HardwareTunedJvmArgs.tune( 8, 21, sessions );
+        assertEquals( 8, tuning.maxRamGB() );
+        assertTrue( tuning.jvmArgs().contains( "-XX:G1HeapRegionSize=8M" ), tuning.jvmArgs() );
+        assertEquals( 1, tuning.reasons().size() );
+    }
+
+    @Test
+    void crowdedHeapIsRaisedOrFlagged()
+    {
+        HardwareTunedJvmArgs.Tuning tuning =
+                HardwareTunedJvmArgs.tune( 4, 17, List.of( session( 3800, 100, 0, 2, 20, 40 ) ) );
+        assertTrue( tuning.maxRamGB() >= 4 );
+        assertFalse( tuning.reasons().isEmpty() );
+        assertTrue( tuning.jvmArgs().contains( "-XX:G1ReservePercent=" ), tuning.jvmArgs() );
+    }
+
+    @Test
+    void zgcIsKeptOnceChosen()
+    {
+        // A window of stuttering G1 sessions (the reason ZGC was picked), then
+        // ZGC's sub-millisecond pauses; those must not read as G1 headroom.
+        List< GcSessionStats > sessions = new ArrayList<>();
+        for ( int i = 0; i < 5; i++ ) {
+            sessions.add( session( 6000, 100, 0, 0, 500, 600 ) );
+        }
+        for ( int i = 0; i < 3; i++ ) {
+            sessions.add( zgcSession( 6000, 0 ) );
+            HardwareTunedJvmArgs.Tuning tuning = HardwareTunedJvmArgs.tune( 16, 21, sessions );
+            assertTrue( tuning.jvmArgs().startsWith( "-XX:+UseZGC" ), tuning.jvmArgs() );
+            assertEquals( 16, tuning.maxRamGB() );
+            assertTrue( tuning.reasons().isEmpty(), tuning.reasons().toString() );
+        }
+    }
+
+    @Test
+    void zgcStallingAtTheHeapCeilingFallsBackToG1()
+    {
+        List< GcSessionStats > sessions = new ArrayList<>();
+        for ( int i = 0; i < 3; i++ ) {
+            sessions.add( zgcSession( 6000, 4 ) );
+        }
+        // No machine has three quarters of 512 GB spare, so the heap can't grow.
+        HardwareTunedJvmArgs.Tuning tuning = HardwareTunedJvmArgs.tune( 512, 21, sessions );
+        assertTrue( tuning.jvmArgs().startsWith( "-XX:+UseG1GC" ), tuning.jvmArgs() );
+        assertTrue( tuning.jvmArgs().contains( "MaxGCPauseMillis=200" ), "ZGC pauses don't tighten G1's target" );
+
+        sessions.set( 0, zgcSession( 6000, 0 ) );
+        assertTrue( HardwareTunedJvmArgs.tune( 512, 21, sessions ).jvmArgs().startsWith( "-XX:+UseZGC" ) );
+    }
+
+    private static GcSessionStats zgcSession( long peakLiveMb, int stalls )
+    {
+        return new GcSessionStats( 0, "ZGC", 21, 600, 300, 0.02, 0.05, 0.08, 0.1, 100, peakLiveMb, 0, 0, 0, 0,
+                                   stalls );
+    }
+
+    private static GcSessionStats session( long peakLiveMb, int pauses, int humongous, int exhausted, double p95,
+                                           double p99 )
+    {
+        return new GcSessionStats( 0, "G1", 21, 600, pauses, 10, p95, p99, p99, 100, peakLiveMb, 0, 4, humongous,
+                                   exhausted, 0 );
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026 Mica Technologies
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.micatechnologies.minecraft.launcher.utilities;
+
+import com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors.Workload;
+import com.micatechnologies.minecraft.launcher.utilities.LauncherExecutors.WorkloadStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link TaskScope} is what makes "cancel this launch" mean exactly this
+ * launch's subtree: work forked from inside a fork (downloads submitted by a
+ * pre-launch branch) must land in the same scope and be interrupted with it,
+ * while a sibling scope — another feature's background work — keeps running.
+ * Also locks in the parallelism cap and the {@link LauncherExecutors}
+ * per-workload counters.
+ *
+ * @author Mica Technologies
+ */
+class TaskScopeTest
+{
+    @Test
+    void cancellingAScopeInterruptsItsWholeSubtreeButNotSiblings() throws Exception
+    {
+        CountDownLatch started = new CountDownLatch( 2 );
+        CountDownLatch interrupted = new CountDownLatch( 2 );
+        // Background work outside the launch, e.g. a menu-open spawnNewTask.
+        Future< String > sibling = LauncherExecutors.submit( Workload.IO, () -> {
+            Thread.sleep( 200L );
+            return "done";
+        } );
+        Future< ? > straggler;
+        try ( TaskScope launch = TaskScope.open( "launch" ) ) {
+            assertSame( launch, TaskScope.current() );
+
+            // A branch that submits a nested "download" through the current scope.
+            Future< ? > branch = launch.fork( Workload.IO, () -> {
+                assertSame( launch, TaskScope.current() );
+                DownloadExecutor.submit( () -> blockUntilInterrupted( started, interrupted ) );
+                return blockUntilInterrupted( started, interrupted );
+            } );
+            assertTrue( started.await( 5, TimeUnit.SECONDS ) );
+
+            launch.cancel();
+            assertTrue( interrupted.await( 5, TimeUnit.SECONDS ), "the nested download was interrupted too" );
+            assertTrue( branch.isCancelled() );
+            assertTrue( launch.isCancelled() );
+            assertThrows( CancellationException.class, () -> launch.fork( Workload.IO, () -> 1 ) );
+        }
+        assertNull( TaskScope.current() );
+        assertEquals( "done", sibling.get( 5, TimeUnit.SECONDS ), "work outside the launch is untouched" );
+
+        try ( TaskScope scope = TaskScope.open( "closing" ) ) {
+            straggler = scope.fork( Workload.IO, () -> {
+                Thread.sleep( 60_000L );
+                return null;
+            } );
+        }
+        assertTrue( straggler.isCancelled(), "closing a scope cancels its stragglers" );
+    }
+
+    @Test
+    void childScopesOpenedInsideAForkFollowTheParent() throws Exception
+    {
+        CountDownLatch inner = new CountDownLatch( 1 );
+        try ( TaskScope outer = TaskScope.open( "outer" ) ) {
+            Future< Boolean > nested = outer.fork( Workload.IO, () -> {
+                try ( TaskScope child = TaskScope.open( "child" ) ) {
+                    inner.countDown();
+                    while ( !child.isCancelled() ) {
+                        Thread.onSpinWait();
+                    }
+                    return true;
+                }
+            } );
+            assertTrue( inner.await( 5, TimeUnit.SECONDS ) );
+            outer.cancel();
+            outer.join();
+            assertTrue( nested.isCancelled() );
+        }
+    }
+
+    @Test
+    void parallelismLimitHoldsForksWithoutBlockingTheForker() throws Exception
+    {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List< Future< Integer > > futures = new ArrayList<>();
+        try ( TaskScope scope = TaskScope.open( "limited", 3 ) ) {
+            for ( int i = 0; i < 24; i++ ) {
+                int n = i;
+                futures.add( scope.fork( Workload.IO, () -> {
+                    peak.accumulateAndGet( running.incrementAndGet(), Math::max );
+                    Thread.sleep( 10L );
+                    running.decrementAndGet();
+                    return n;
+                } ) );
+            }
+            scope.join();
+        }
+        assertTrue( peak.get() <= 3, "peak=" + peak.get() );
+        for ( int i = 0; i < futures.size(); i++ ) {
+            assertEquals( i, futures.get( i ).get() );
+        }
+    }
+
+    @Test
+    void forEachRethrowsTheFirstFailureAndCountsEveryOutcome() throws Exception
+    {
+        WorkloadStats before = LauncherExecutors.stats( Workload.CPU );
+        AtomicInteger seen = new AtomicInteger();
+        IllegalStateException thrown = assertThrows( IllegalStateException.class, () ->
+                LauncherExecutors.forEach( Workload.CPU, List.of( 1, 2, 3, 4, 5 ), 2, n -> {
+                    seen.incrementAndGet();
+                    if ( n == 3 ) {
+                        throw new IllegalStateException( "bad " + n );
+                    }
+                } ) );
+        assertEquals( "bad 3", thrown.getMessage() );
+        assertEquals( 5, seen.get(), "a failure doesn't cancel the rest of the batch" );
+
+        WorkloadStats after = LauncherExecutors.stats( Workload.CPU );
+        assertEquals( 4, after.completed() - before.completed() );
+        assertEquals( 1, after.failed() - before.failed() );
+        assertEquals( 0, after.queued() );
+        assertEquals( 0, after.running() );
+    }
+
+    @Test
+    void cancelledBeforeStartIsCountedOnceAndNeverRuns() throws Exception
+    {
+        WorkloadStats before = LauncherExecutors.stats( Workload.CPU );
+        AtomicInteger ran = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch( 1 );
+        try ( TaskScope scope = TaskScope.open( "serial", 1 ) ) {
+            scope.fork( Workload.CPU, () -> {
+                release.await();
+                return null;
+            } );
+            Future< ? > held = scope.fork( Workload.CPU, ran::incrementAndGet );
+            assertTrue( held.cancel( true ) );
+            release.countDown();
+            scope.join();
+        }
+        assertEquals( 0, ran.get() );
+        WorkloadStats after = LauncherExecutors.stats( Workload.CPU );
+        assertEquals( 1, after.cancelled() - before.cancelled() );
+        assertEquals( 1, after.completed() - before.completed() );
+        assertEquals( 0, after.queued() );
+    }
+
+    private static Integer blockUntilInterrupted( CountDownLatch started, CountDownLatch interrupted )
+    {
+        started.countDown();
+        try {
+            Thread.sleep( 60_000L );
+        }
+        catch ( InterruptedException e ) {
+            interrupted.countDown();
+        }
+        return 0;
+    }
+}